@@ -47,4 +47,12 @@ public class ClientConnectorConfigurationSchema {
     @Range(min = 0)
     @Value(hasDefault = true)
     public final long idleTimeout = 0;
+
+    /**
+     * Minimal size of the response payload, in bytes, to be compressed for the clients that support compression.
+     * {@code 0} disables compression.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public final int compressionThreshold = 8192;
 }
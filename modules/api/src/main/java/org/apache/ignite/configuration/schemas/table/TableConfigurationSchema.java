@@ -45,6 +45,14 @@ public class TableConfigurationSchema {
     @Value(hasDefault = true)
     public int replicas = 1;
 
+    /**
+     * Maximum staleness of the reads outside of transactions in milliseconds. If positive, such reads are served by any replica
+     * of a partition instead of its leader, {@code 0} means that the reads are served by the leaders only.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public long maxReadStalenessMs = 0;
+
     /** Data storage configuration. */
     @KnownDataStorage
     @ConfigValue
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.table;
+
+/**
+ * Data streamer options.
+ *
+ * @see DataStreamerTarget
+ */
+public class DataStreamerOptions {
+    /** Default number of rows in a batch. */
+    public static final int DFLT_BATCH_SIZE = 1000;
+
+    /** Default number of batches sent to a node in parallel. */
+    public static final int DFLT_PER_NODE_PARALLEL_OPERATIONS = 4;
+
+    /** Default auto flush interval in milliseconds. */
+    public static final long DFLT_AUTO_FLUSH_FREQUENCY = 5000;
+
+    /** Number of rows in a batch. */
+    private int batchSize = DFLT_BATCH_SIZE;
+
+    /** Number of batches sent to a node in parallel. */
+    private int perNodeParallelOperations = DFLT_PER_NODE_PARALLEL_OPERATIONS;
+
+    /** Auto flush interval in milliseconds. */
+    private long autoFlushFrequency = DFLT_AUTO_FLUSH_FREQUENCY;
+
+    /**
+     * Gets the number of rows buffered for a partition before they are sent in a single batch.
+     *
+     * @return Batch size.
+     */
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of rows buffered for a partition before they are sent in a single batch.
+     *
+     * @param batchSize Batch size.
+     * @return {@code this} for chaining.
+     */
+    public DataStreamerOptions batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+
+        return this;
+    }
+
+    /**
+     * Gets the number of batches sent to a node in parallel. The streamer stops requesting rows from the publisher while
+     * this number of batches is in progress on a node and more batches for the node are ready.
+     *
+     * @return Number of parallel operations per node.
+     */
+    public int perNodeParallelOperations() {
+        return perNodeParallelOperations;
+    }
+
+    /**
+     * Sets the number of batches sent to a node in parallel.
+     *
+     * @param perNodeParallelOperations Number of parallel operations per node.
+     * @return {@code this} for chaining.
+     */
+    public DataStreamerOptions perNodeParallelOperations(int perNodeParallelOperations) {
+        if (perNodeParallelOperations <= 0) {
+            throw new IllegalArgumentException("Per node parallel operations must be positive: " + perNodeParallelOperations);
+        }
+
+        this.perNodeParallelOperations = perNodeParallelOperations;
+
+        return this;
+    }
+
+    /**
+     * Gets the interval after which the buffered rows are sent even if a batch is not full.
+     *
+     * @return Auto flush interval in milliseconds, {@code 0} if the rows are sent only when a batch is full or the publisher
+     *     completes.
+     */
+    public long autoFlushFrequency() {
+        return autoFlushFrequency;
+    }
+
+    /**
+     * Sets the interval after which the buffered rows are sent even if a batch is not full.
+     *
+     * @param autoFlushFrequency Auto flush interval in milliseconds, {@code 0} to disable.
+     * @return {@code this} for chaining.
+     */
+    public DataStreamerOptions autoFlushFrequency(long autoFlushFrequency) {
+        if (autoFlushFrequency < 0) {
+            throw new IllegalArgumentException("Auto flush frequency must not be negative: " + autoFlushFrequency);
+        }
+
+        this.autoFlushFrequency = autoFlushFrequency;
+
+        return this;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.table;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents an entity that can be used as a target for streaming data.
+ *
+ * <p>The streamer buffers the rows per partition and sends every batch to the node holding the partition leader. Each
+ * batch is written atomically, but outside of any transaction: the streamed rows are not enlisted one by one, and the
+ * rows of different batches become visible independently. Rows with the same key are written in the order they are
+ * published. A batch conflicting with a concurrent transaction fails the streaming.
+ *
+ * @param <T> Item type.
+ */
+public interface DataStreamerTarget<T> {
+    /**
+     * Streams data into the table. The streamer requests items from the publisher as long as batches can be sent, so a
+     * slow cluster slows down the publisher.
+     *
+     * @param publisher Producer of the items to upsert.
+     * @param options Options, {@code null} to use the defaults.
+     * @return Future that completes when all the items are streamed, or completes exceptionally when the publisher or
+     *     a batch fails.
+     */
+    @NotNull CompletableFuture<Void> streamData(@NotNull Flow.Publisher<T> publisher, @Nullable DataStreamerOptions options);
+}
@@ -18,10 +18,31 @@
 package org.apache.ignite.table;
 
 import org.apache.ignite.lang.IgniteException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * InvokeProcessor invocation exception.
  */
 public class InvokeProcessorException extends IgniteException {
+    /** Serial version uid. */
+    private static final long serialVersionUID = 0L;
 
+    /**
+     * Creates a new exception with the given error message.
+     *
+     * @param msg Error message.
+     */
+    public InvokeProcessorException(String msg) {
+        super(msg);
+    }
+
+    /**
+     * Creates a new exception with the given error message and optional nested exception.
+     *
+     * @param msg   Error message.
+     * @param cause Optional nested exception (can be {@code null}).
+     */
+    public InvokeProcessorException(String msg, @Nullable Throwable cause) {
+        super(msg, cause);
+    }
 }
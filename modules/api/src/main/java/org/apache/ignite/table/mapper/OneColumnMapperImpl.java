@@ -17,6 +17,7 @@
 
 package org.apache.ignite.table.mapper;
 
+import java.io.Serializable;
 import org.apache.ignite.internal.util.IgniteObjectName;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -26,7 +27,10 @@ import org.jetbrains.annotations.Nullable;
  *
  * @param <ObjectT> Target type.
  */
-class OneColumnMapperImpl<ObjectT> implements OneColumnMapper<ObjectT> {
+class OneColumnMapperImpl<ObjectT> implements OneColumnMapper<ObjectT>, Serializable {
+    /** Serial version uid. */
+    private static final long serialVersionUID = 0L;
+
     /** Target type. */
     private final Class<ObjectT> targetType;
 
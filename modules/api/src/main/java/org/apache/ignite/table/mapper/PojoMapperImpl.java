@@ -17,6 +17,7 @@
 
 package org.apache.ignite.table.mapper;
 
+import java.io.Serializable;
 import java.util.Map;
 import java.util.Objects;
 import org.jetbrains.annotations.NotNull;
@@ -26,7 +27,10 @@ import org.jetbrains.annotations.NotNull;
  *
  * @param <T> Target type.
  */
-class PojoMapperImpl<T> implements PojoMapper<T> {
+class PojoMapperImpl<T> implements PojoMapper<T>, Serializable {
+    /** Serial version uid. */
+    private static final long serialVersionUID = 0L;
+
     /** Target type. */
     private final Class<T> targetType;
 
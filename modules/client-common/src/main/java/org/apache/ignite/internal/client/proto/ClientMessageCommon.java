@@ -27,6 +27,12 @@ public class ClientMessageCommon {
     /** Magic bytes before handshake. */
     public static final byte[] MAGIC_BYTES = new byte[]{0x49, 0x47, 0x4E, 0x49}; // IGNI
 
+    /** Compression flag of a message that is sent as is. */
+    public static final byte COMPRESSION_NONE = 0;
+
+    /** Compression flag of a message that is compressed with Deflate and prefixed with the uncompressed payload size. */
+    public static final byte COMPRESSION_DEFLATE = 1;
+
     /** Special "no value" object. */
     public static final Object NO_VALUE = new Object();
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.proto;
+
+import static org.apache.ignite.internal.client.proto.ClientMessageCommon.COMPRESSION_DEFLATE;
+import static org.apache.ignite.internal.client.proto.ClientMessageCommon.COMPRESSION_NONE;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.apache.ignite.lang.IgniteException;
+
+/**
+ * Decompresses the messages of a connection that negotiated {@link ProtocolBitmaskFeature#COMPRESSION}. Not thread-safe: messages
+ * of a connection are expected to be decoded by a single thread.
+ */
+public class ClientMessageDecompressor implements AutoCloseable {
+    /** Decompressor. */
+    private final Inflater inflater = new Inflater();
+
+    /**
+     * Decodes the message payload, that is the message without the length header.
+     *
+     * @param buf Message payload starting with the compression flag.
+     * @return Buffer with the uncompressed payload. Either the same buffer, or a new pooled direct buffer, in which case the original
+     *      buffer is released.
+     * @throws IgniteException If the message is malformed.
+     */
+    public ByteBuf decode(ByteBuf buf) {
+        byte flag = buf.readByte();
+
+        if (flag == COMPRESSION_NONE) {
+            return buf;
+        }
+
+        if (flag != COMPRESSION_DEFLATE) {
+            throw new IgniteException("Unexpected message compression flag: " + flag);
+        }
+
+        int len = buf.readInt();
+
+        ByteBuf res = buf.alloc().directBuffer(len, len);
+
+        try {
+            ByteBuffer dst = res.nioBuffer(0, len);
+
+            inflater.reset();
+            inflater.setInput(buf.nioBuffer());
+
+            while (dst.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(dst) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+            }
+
+            if (dst.hasRemaining() || !inflater.finished()) {
+                throw new IgniteException("Failed to decompress message: unexpected uncompressed size [expected=" + len + ']');
+            }
+
+            res.writerIndex(len);
+        } catch (DataFormatException e) {
+            res.release();
+
+            throw new IgniteException("Failed to decompress message: " + e.getMessage(), e);
+        } catch (Throwable t) {
+            res.release();
+
+            throw t;
+        }
+
+        buf.release();
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        inflater.end();
+    }
+}
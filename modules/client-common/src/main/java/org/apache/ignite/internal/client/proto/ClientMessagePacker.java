@@ -92,6 +92,19 @@ public class ClientMessagePacker implements AutoCloseable {
         buf.writeByte(0);
     }
 
+    /**
+     * Writes a tuple in the binary row format.
+     *
+     * @param row Row bytes.
+     */
+    public void packBinaryRow(byte[] row) {
+        assert !closed : "Packer is closed";
+
+        packExtensionTypeHeader(ClientMsgPackType.BINARY_ROW, row.length);
+
+        buf.writeBytes(row);
+    }
+
     /**
      * Writes a boolean value.
      *
@@ -48,6 +48,7 @@ import java.util.BitSet;
 import java.util.UUID;
 import org.apache.ignite.internal.util.ArrayUtils;
 import org.apache.ignite.lang.IgniteException;
+import org.jetbrains.annotations.Nullable;
 import org.msgpack.core.ExtensionTypeHeader;
 import org.msgpack.core.MessageFormat;
 import org.msgpack.core.MessageFormatException;
@@ -571,6 +572,40 @@ public class ClientMessageUnpacker implements AutoCloseable {
         return false;
     }
 
+    /**
+     * Tries to read a tuple in the binary row format.
+     *
+     * @return Row bytes when there was a binary row, null otherwise.
+     */
+    public @Nullable byte[] tryUnpackBinaryRow() {
+        assert refCnt > 0 : "Unpacker is closed";
+
+        int idx = buf.readerIndex();
+
+        switch (buf.getByte(idx)) {
+            case Code.FIXEXT1:
+            case Code.FIXEXT2:
+            case Code.FIXEXT4:
+            case Code.FIXEXT8:
+            case Code.FIXEXT16:
+            case Code.EXT8:
+            case Code.EXT16:
+            case Code.EXT32:
+                ExtensionTypeHeader hdr = unpackExtensionTypeHeader();
+
+                if (hdr.getType() == ClientMsgPackType.BINARY_ROW) {
+                    return readPayload(hdr.getLength());
+                }
+
+                buf.readerIndex(idx);
+
+                return null;
+
+            default:
+                return null;
+        }
+    }
+
     /**
      * Reads a payload.
      *
@@ -47,4 +47,7 @@ public class ClientMsgPackType {
 
     /** Absent value for a column. */
     public static final byte NO_VALUE = 10;
+
+    /** Tuple in the binary row format. */
+    public static final byte BINARY_ROW = 11;
 }
@@ -137,4 +137,37 @@ public class ClientOp {
 
     /** Close cursor. */
     public static final int SQL_CURSOR_CLOSE = 52;
+
+    /** Get partition assignment. */
+    public static final int PARTITION_ASSIGNMENT_GET = 53;
+
+    /** Send data streamer batch. */
+    public static final int STREAMER_BATCH_SEND = 54;
+
+    /** Scan table or partition. */
+    public static final int TABLE_SCAN = 55;
+
+    /** Get next page of table scan. */
+    public static final int TABLE_SCAN_NEXT_PAGE = 56;
+
+    /** Close table scan cursor. */
+    public static final int TABLE_SCAN_CURSOR_CLOSE = 57;
+
+    /** Prepare SQL statement. */
+    public static final int SQL_PREPARE = 58;
+
+    /** Execute prepared SQL statement. */
+    public static final int SQL_EXEC_PREPARED = 59;
+
+    /** Close prepared SQL statement. */
+    public static final int SQL_PREPARED_CLOSE = 60;
+
+    /** Prepare JDBC statement. */
+    public static final int JDBC_PREPARE = 61;
+
+    /** Execute prepared JDBC statement. */
+    public static final int JDBC_EXEC_PREPARED = 62;
+
+    /** Close prepared JDBC statement. */
+    public static final int JDBC_PREPARED_CLOSE = 63;
 }
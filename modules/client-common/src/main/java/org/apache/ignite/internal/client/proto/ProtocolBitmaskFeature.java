@@ -15,7 +15,7 @@
  * limitations under the License.
  */
 
-package org.apache.ignite.internal.client;
+package org.apache.ignite.internal.client.proto;
 
 import java.util.BitSet;
 import java.util.Collection;
@@ -26,7 +26,16 @@ import java.util.EnumSet;
  */
 public enum ProtocolBitmaskFeature {
     /** Feature for user attributes. */
-    USER_ATTRIBUTES(0);
+    USER_ATTRIBUTES(0),
+
+    /** Feature for tuples sent in the binary row format. */
+    BINARY_ROWS(1),
+
+    /**
+     * Feature for compressed server messages. When negotiated, every message from the server after the handshake starts with
+     * a compression flag, see {@link ClientMessageCommon#COMPRESSION_NONE} and {@link ClientMessageCommon#COMPRESSION_DEFLATE}.
+     */
+    COMPRESSION(2);
 
     private static final EnumSet<ProtocolBitmaskFeature> ALL_FEATURES_AS_ENUM_SET =
             EnumSet.allOf(ProtocolBitmaskFeature.class);
@@ -82,7 +91,7 @@ public enum ProtocolBitmaskFeature {
      * @param features Feature set.
      * @return Byte array representing all supported features.
      */
-    static byte[] featuresAsBytes(Collection<ProtocolBitmaskFeature> features) {
+    public static byte[] featuresAsBytes(Collection<ProtocolBitmaskFeature> features) {
         final BitSet set = new BitSet();
 
         for (ProtocolBitmaskFeature f : features) {
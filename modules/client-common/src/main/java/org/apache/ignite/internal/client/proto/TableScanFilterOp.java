@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.proto;
+
+/**
+ * Comparison of the table scan filter, the filter compares a column value with the filter value. The ordinal is sent over
+ * the wire, new values must be added to the end.
+ */
+public enum TableScanFilterOp {
+    /**
+     * Column value equals the filter value.
+     */
+    EQ,
+
+    /**
+     * Column value is not {@code null} and doesn't equal the filter value.
+     */
+    NOT_EQ,
+
+    /**
+     * Column value is less than the filter value.
+     */
+    LT,
+
+    /**
+     * Column value is less than or equal to the filter value.
+     */
+    LTE,
+
+    /**
+     * Column value is greater than the filter value.
+     */
+    GT,
+
+    /**
+     * Column value is greater than or equal to the filter value.
+     */
+    GTE,
+
+    /**
+     * Column value is {@code null}, the filter value is ignored.
+     */
+    IS_NULL,
+
+    /**
+     * Column value is not {@code null}, the filter value is ignored.
+     */
+    IS_NOT_NULL;
+
+    /** Values. */
+    private static final TableScanFilterOp[] VALS = values();
+
+    /**
+     * Gets the comparison by its ordinal.
+     *
+     * @param ordinal Ordinal.
+     * @return Comparison.
+     * @throws IllegalArgumentException If the ordinal is unknown.
+     */
+    public static TableScanFilterOp fromOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= VALS.length) {
+            throw new IllegalArgumentException("Unknown table scan filter: " + ordinal);
+        }
+
+        return VALS[ordinal];
+    }
+}
@@ -30,12 +30,16 @@ import org.apache.ignite.internal.jdbc.proto.event.JdbcMetaSchemasResult;
 import org.apache.ignite.internal.jdbc.proto.event.JdbcMetaTablesRequest;
 import org.apache.ignite.internal.jdbc.proto.event.JdbcMetaTablesResult;
 import org.apache.ignite.internal.jdbc.proto.event.JdbcQueryMetadataRequest;
+import org.apache.ignite.internal.jdbc.proto.event.PreparedCloseRequest;
+import org.apache.ignite.internal.jdbc.proto.event.PreparedExecuteRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryCloseRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryCloseResult;
 import org.apache.ignite.internal.jdbc.proto.event.QueryExecuteRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryExecuteResult;
 import org.apache.ignite.internal.jdbc.proto.event.QueryFetchRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryFetchResult;
+import org.apache.ignite.internal.jdbc.proto.event.QueryPrepareRequest;
+import org.apache.ignite.internal.jdbc.proto.event.QueryPrepareResult;
 
 /**
  * Jdbc client request handler.
@@ -81,6 +85,30 @@ public interface JdbcQueryEventHandler {
      */
     CompletableFuture<QueryCloseResult> closeAsync(QueryCloseRequest req);
 
+    /**
+     * {@link QueryPrepareRequest} command handler.
+     *
+     * @param req Prepare query request.
+     * @return Result future.
+     */
+    CompletableFuture<QueryPrepareResult> prepareAsync(QueryPrepareRequest req);
+
+    /**
+     * {@link PreparedExecuteRequest} command handler.
+     *
+     * @param req Execute prepared statement request.
+     * @return Result future.
+     */
+    CompletableFuture<QueryExecuteResult> executePreparedAsync(PreparedExecuteRequest req);
+
+    /**
+     * {@link PreparedCloseRequest} command handler.
+     *
+     * @param req Close prepared statement request.
+     * @return Result future.
+     */
+    CompletableFuture<QueryCloseResult> closePreparedAsync(PreparedCloseRequest req);
+
     /**
      * {@link JdbcMetaTablesRequest} command handler.
      *
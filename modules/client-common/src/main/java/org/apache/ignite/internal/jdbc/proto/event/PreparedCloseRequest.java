@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.jdbc.proto.event;
+
+import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.jdbc.proto.ClientMessage;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * JDBC prepared statement close request.
+ */
+public class PreparedCloseRequest implements ClientMessage {
+    /** Prepared statement ID. */
+    private long stmtId;
+
+    /**
+     * Default constructor.
+     */
+    public PreparedCloseRequest() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param stmtId Prepared statement ID.
+     */
+    public PreparedCloseRequest(long stmtId) {
+        this.stmtId = stmtId;
+    }
+
+    /**
+     * Get the prepared statement id.
+     *
+     * @return Prepared statement ID.
+     */
+    public long statementId() {
+        return stmtId;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeBinary(ClientMessagePacker packer) {
+        packer.packLong(stmtId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readBinary(ClientMessageUnpacker unpacker) {
+        stmtId = unpacker.unpackLong();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(PreparedCloseRequest.class, this);
+    }
+}
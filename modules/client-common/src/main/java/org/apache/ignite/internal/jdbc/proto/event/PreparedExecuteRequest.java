@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.jdbc.proto.event;
+
+import java.util.Objects;
+import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.jdbc.proto.ClientMessage;
+import org.apache.ignite.internal.jdbc.proto.JdbcStatementType;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * JDBC prepared statement execute request.
+ */
+public class PreparedExecuteRequest implements ClientMessage {
+    /** Prepared statement ID. */
+    private long stmtId;
+
+    /** Expected statement type. */
+    private JdbcStatementType stmtType;
+
+    /** Fetch size. */
+    private int pageSize;
+
+    /** Max rows. */
+    private int maxRows;
+
+    /** Sql query arguments. */
+    private Object[] args;
+
+    /**
+     * Default constructor. For deserialization purposes.
+     */
+    public PreparedExecuteRequest() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param stmtId   Prepared statement ID.
+     * @param stmtType Expected statement type.
+     * @param pageSize Fetch size.
+     * @param maxRows  Max rows.
+     * @param args     Arguments list.
+     */
+    public PreparedExecuteRequest(long stmtId, JdbcStatementType stmtType, int pageSize, int maxRows, Object[] args) {
+        Objects.requireNonNull(stmtType);
+
+        this.stmtId = stmtId;
+        this.stmtType = stmtType;
+        this.pageSize = pageSize;
+        this.maxRows = maxRows;
+        this.args = args;
+    }
+
+    /**
+     * Get the prepared statement id.
+     *
+     * @return Prepared statement ID.
+     */
+    public long statementId() {
+        return stmtId;
+    }
+
+    /**
+     * Returns the expected statement type.
+     *
+     * @return Statement type.
+     */
+    public JdbcStatementType getStmtType() {
+        return stmtType;
+    }
+
+    /**
+     * Returns the page size.
+     *
+     * @return Page size.
+     */
+    public int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the max rows.
+     *
+     * @return Max rows.
+     */
+    public int maxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Returns the arguments.
+     *
+     * @return Sql query arguments.
+     */
+    public Object[] arguments() {
+        return args;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeBinary(ClientMessagePacker packer) {
+        packer.packLong(stmtId);
+        packer.packByte(stmtType.getId());
+        packer.packInt(pageSize);
+        packer.packInt(maxRows);
+
+        packer.packObjectArray(args);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readBinary(ClientMessageUnpacker unpacker) {
+        stmtId = unpacker.unpackLong();
+        stmtType = JdbcStatementType.getStatement(unpacker.unpackByte());
+        pageSize = unpacker.unpackInt();
+        maxRows = unpacker.unpackInt();
+
+        args = unpacker.unpackObjectArray();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(PreparedExecuteRequest.class, this);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.jdbc.proto.event;
+
+import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.jdbc.proto.ClientMessage;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * JDBC query prepare request.
+ */
+public class QueryPrepareRequest implements ClientMessage {
+    /** Schema name. */
+    private String schemaName;
+
+    /** Sql query. */
+    private String sqlQry;
+
+    /**
+     * Default constructor. For deserialization purposes.
+     */
+    public QueryPrepareRequest() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param schemaName Schema name.
+     * @param sqlQry     SQL query.
+     */
+    public QueryPrepareRequest(String schemaName, String sqlQry) {
+        this.schemaName = schemaName == null || schemaName.isEmpty() ? null : schemaName;
+        this.sqlQry = sqlQry;
+    }
+
+    /**
+     * Returns the schema name.
+     *
+     * @return Schema name.
+     */
+    public String schemaName() {
+        return schemaName;
+    }
+
+    /**
+     * Returns the sql query.
+     *
+     * @return Sql query.
+     */
+    public String sqlQuery() {
+        return sqlQry;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeBinary(ClientMessagePacker packer) {
+        packer.packString(schemaName);
+        packer.packString(sqlQry);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readBinary(ClientMessageUnpacker unpacker) {
+        schemaName = unpacker.unpackString();
+        sqlQry = unpacker.unpackString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(QueryPrepareRequest.class, this);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.jdbc.proto.event;
+
+import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * JDBC query prepare result.
+ */
+public class QueryPrepareResult extends Response {
+    /** Prepared statement ID. */
+    private long stmtId;
+
+    /**
+     * Default constructor is used for deserialization.
+     */
+    public QueryPrepareResult() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param status Status code.
+     * @param err    Error message.
+     */
+    public QueryPrepareResult(int status, String err) {
+        super(status, err);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param stmtId Prepared statement ID.
+     */
+    public QueryPrepareResult(long stmtId) {
+        this.stmtId = stmtId;
+
+        hasResults = true;
+    }
+
+    /**
+     * Get the prepared statement id.
+     *
+     * @return Prepared statement ID.
+     */
+    public long statementId() {
+        return stmtId;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeBinary(ClientMessagePacker packer) {
+        super.writeBinary(packer);
+
+        if (!hasResults) {
+            return;
+        }
+
+        packer.packLong(stmtId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void readBinary(ClientMessageUnpacker unpacker) {
+        super.readBinary(unpacker);
+
+        if (!hasResults) {
+            return;
+        }
+
+        stmtId = unpacker.unpackLong();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(QueryPrepareResult.class, this);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client.handler;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Compression metrics of the messages sent to the thin clients that negotiated compression.
+ */
+public class ClientCompressionMetrics {
+    /** Number of messages sent. */
+    private final LongAdder messages = new LongAdder();
+
+    /** Number of compressed messages. */
+    private final LongAdder compressedMessages = new LongAdder();
+
+    /** Total size of the message payloads before compression, in bytes. */
+    private final LongAdder rawBytes = new LongAdder();
+
+    /** Total size of the message payloads sent, in bytes. */
+    private final LongAdder sentBytes = new LongAdder();
+
+    /**
+     * Records a sent message.
+     *
+     * @param rawSize Payload size before compression.
+     * @param sentSize Payload size sent.
+     * @param compressed Whether the payload is compressed.
+     */
+    void onMessageSent(int rawSize, int sentSize, boolean compressed) {
+        messages.increment();
+        rawBytes.add(rawSize);
+        sentBytes.add(sentSize);
+
+        if (compressed) {
+            compressedMessages.increment();
+        }
+    }
+
+    /**
+     * Returns the number of messages sent.
+     *
+     * @return Number of messages sent.
+     */
+    public long messages() {
+        return messages.sum();
+    }
+
+    /**
+     * Returns the number of compressed messages.
+     *
+     * @return Number of compressed messages.
+     */
+    public long compressedMessages() {
+        return compressedMessages.sum();
+    }
+
+    /**
+     * Returns the total size of the message payloads before compression.
+     *
+     * @return Size in bytes.
+     */
+    public long rawBytes() {
+        return rawBytes.sum();
+    }
+
+    /**
+     * Returns the total size of the message payloads sent.
+     *
+     * @return Size in bytes.
+     */
+    public long sentBytes() {
+        return sentBytes.sum();
+    }
+
+    /**
+     * Returns the compression ratio, that is the ratio of the raw payload size to the size sent.
+     *
+     * @return Compression ratio, or {@code 1} if nothing is sent yet.
+     */
+    public double ratio() {
+        long sent = sentBytes();
+
+        return sent == 0 ? 1 : (double) rawBytes() / sent;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(ClientCompressionMetrics.class, this, "ratio", ratio());
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.ignite.client.handler;
 
 import java.util.BitSet;
+import org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature;
 import org.apache.ignite.internal.client.proto.ProtocolVersion;
 import org.apache.ignite.internal.tostring.S;
 
@@ -74,6 +75,16 @@ class ClientContext {
         return features;
     }
 
+    /**
+     * Returns a value indicating whether the feature is supported by both the client and the server.
+     *
+     * @param feature Feature.
+     * @return {@code true} if the feature is supported.
+     */
+    public boolean isFeatureSupported(ProtocolBitmaskFeature feature) {
+        return features.get(feature.featureId());
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -79,6 +79,9 @@ public class ClientHandlerModule implements IgniteComponent {
     /** Netty bootstrap factory. */
     private final NettyBootstrapFactory bootstrapFactory;
 
+    /** Compression metrics of all client connections. */
+    private final ClientCompressionMetrics compressionMetrics = new ClientCompressionMetrics();
+
     /**
      * Constructor.
      *
@@ -155,6 +158,15 @@ public class ClientHandlerModule implements IgniteComponent {
         return (InetSocketAddress) channel.localAddress();
     }
 
+    /**
+     * Returns the compression metrics of the messages sent to the clients.
+     *
+     * @return Compression metrics.
+     */
+    public ClientCompressionMetrics compressionMetrics() {
+        return compressionMetrics;
+    }
+
     /**
      * Starts the endpoint.
      *
@@ -193,7 +205,8 @@ public class ClientHandlerModule implements IgniteComponent {
                                         configuration,
                                         igniteCompute,
                                         clusterService,
-                                        sql));
+                                        sql,
+                                        compressionMetrics));
                     }
                 })
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.connectTimeout());
@@ -23,15 +23,22 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import org.apache.ignite.client.handler.requests.cluster.ClientClusterGetNodesRequest;
 import org.apache.ignite.client.handler.requests.compute.ClientComputeExecuteColocatedRequest;
 import org.apache.ignite.client.handler.requests.compute.ClientComputeExecuteRequest;
 import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcCloseRequest;
 import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcColumnMetadataRequest;
 import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcExecuteBatchRequest;
+import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcExecutePreparedRequest;
 import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcExecuteRequest;
 import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcFetchRequest;
+import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcPrepareRequest;
+import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcPreparedCloseRequest;
 import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcPreparedStmntBatchRequest;
 import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcPrimaryKeyMetadataRequest;
 import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcQueryMetadataRequest;
@@ -40,10 +47,18 @@ import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcTableMetadataReq
 import org.apache.ignite.client.handler.requests.jdbc.JdbcMetadataCatalog;
 import org.apache.ignite.client.handler.requests.sql.ClientSqlCursorCloseRequest;
 import org.apache.ignite.client.handler.requests.sql.ClientSqlCursorNextPageRequest;
+import org.apache.ignite.client.handler.requests.sql.ClientSqlExecutePreparedRequest;
 import org.apache.ignite.client.handler.requests.sql.ClientSqlExecuteRequest;
+import org.apache.ignite.client.handler.requests.sql.ClientSqlPrepareRequest;
+import org.apache.ignite.client.handler.requests.sql.ClientSqlPreparedCloseRequest;
 import org.apache.ignite.client.handler.requests.table.ClientSchemasGetRequest;
+import org.apache.ignite.client.handler.requests.table.ClientStreamerBatchSendRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTableGetRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTableIdDoesNotExistException;
+import org.apache.ignite.client.handler.requests.table.ClientTablePartitionAssignmentGetRequest;
+import org.apache.ignite.client.handler.requests.table.ClientTableScanCursorCloseRequest;
+import org.apache.ignite.client.handler.requests.table.ClientTableScanNextPageRequest;
+import org.apache.ignite.client.handler.requests.table.ClientTableScanRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTablesGetRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTupleContainsKeyRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTupleDeleteAllExactRequest;
@@ -71,10 +86,13 @@ import org.apache.ignite.internal.client.proto.ClientMessageCommon;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
+import org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature;
 import org.apache.ignite.internal.client.proto.ProtocolVersion;
 import org.apache.ignite.internal.client.proto.ServerMessageType;
+import org.apache.ignite.internal.client.proto.ServerNotificationType;
 import org.apache.ignite.internal.jdbc.proto.JdbcQueryEventHandler;
 import org.apache.ignite.internal.sql.engine.QueryProcessor;
+import org.apache.ignite.internal.table.IgniteTablesInternal;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.IgniteLogger;
@@ -92,6 +110,14 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
     /** The logger. */
     private static final IgniteLogger LOG = IgniteLogger.forClass(ClientInboundMessageHandler.class);
 
+    /** Features supported by the server. */
+    private static final BitSet SUPPORTED_FEATURES = BitSet.valueOf(
+            ProtocolBitmaskFeature.featuresAsBytes(EnumSet.of(ProtocolBitmaskFeature.BINARY_ROWS)));
+
+    /** Features supported by the server when compression is enabled. */
+    private static final BitSet SUPPORTED_FEATURES_WITH_COMPRESSION = BitSet.valueOf(ProtocolBitmaskFeature.featuresAsBytes(
+            EnumSet.of(ProtocolBitmaskFeature.BINARY_ROWS, ProtocolBitmaskFeature.COMPRESSION)));
+
     /** Ignite tables API. */
     private final IgniteTables igniteTables;
 
@@ -116,9 +142,24 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
     /** SQL. */
     private final IgniteSql sql;
 
+    /** Sql query processor. */
+    private final QueryProcessor processor;
+
+    /** Compression metrics. */
+    private final ClientCompressionMetrics compressionMetrics;
+
     /** Context. */
     private ClientContext clientContext;
 
+    /** Whether the outgoing messages are prefixed with the compression flag. */
+    private volatile boolean compression;
+
+    /** Listener of the partition assignment changes, notifies the client. */
+    private volatile Consumer<UUID> assignmentsChangeLsnr;
+
+    /** Whether a partition assignment change notification is scheduled, coalesces the changes of many partitions. */
+    private final AtomicBoolean assignmentsChangeNotificationPending = new AtomicBoolean();
+
     /**
      * Constructor.
      *
@@ -128,6 +169,8 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
      * @param configuration      Configuration.
      * @param compute            Compute.
      * @param clusterService     Cluster.
+     * @param sql                SQL.
+     * @param compressionMetrics Compression metrics.
      */
     public ClientInboundMessageHandler(
             IgniteTables igniteTables,
@@ -136,7 +179,8 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
             ClientConnectorView configuration,
             IgniteCompute compute,
             ClusterService clusterService,
-            IgniteSql sql) {
+            IgniteSql sql,
+            ClientCompressionMetrics compressionMetrics) {
         assert igniteTables != null;
         assert igniteTransactions != null;
         assert processor != null;
@@ -144,6 +188,7 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
         assert compute != null;
         assert clusterService != null;
         assert sql != null;
+        assert compressionMetrics != null;
 
         this.igniteTables = igniteTables;
         this.igniteTransactions = igniteTransactions;
@@ -151,6 +196,8 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
         this.compute = compute;
         this.clusterService = clusterService;
         this.sql = sql;
+        this.processor = processor;
+        this.compressionMetrics = compressionMetrics;
 
         jdbcQueryEventHandler = new JdbcQueryEventHandlerImpl(processor, new JdbcMetadataCatalog(igniteTables));
     }
@@ -174,6 +221,12 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
     /** {@inheritDoc} */
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        Consumer<UUID> lsnr = assignmentsChangeLsnr;
+
+        if (lsnr != null) {
+            ((IgniteTablesInternal) igniteTables).removeAssignmentsChangeListener(lsnr);
+        }
+
         resources.close();
 
         super.channelInactive(ctx);
@@ -193,6 +246,8 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
             var featuresLen = unpacker.unpackBinaryHeader();
             var features = BitSet.valueOf(unpacker.readPayload(featuresLen));
 
+            features.and(configuration.compressionThreshold() > 0 ? SUPPORTED_FEATURES_WITH_COMPRESSION : SUPPORTED_FEATURES);
+
             clientContext = new ClientContext(clientVer, clientCode, features);
 
             LOG.debug("Handshake: " + clientContext);
@@ -210,10 +265,29 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
             packer.packString(localMember.id());
             packer.packString(localMember.name());
 
-            packer.packBinaryHeader(0); // Features.
+            byte[] featureBytes = features.toByteArray();
+
+            packer.packBinaryHeader(featureBytes.length); // Features.
+            packer.writePayload(featureBytes);
             packer.packMapHeader(0); // Extensions.
 
             write(packer, ctx);
+
+            if (clientContext.isFeatureSupported(ProtocolBitmaskFeature.COMPRESSION)) {
+                // The handshake response is already passed down the pipeline, the compressor handles the subsequent messages only.
+                ctx.pipeline().addBefore(ctx.name(), null, new ClientMessageCompressor(configuration.compressionThreshold(),
+                        compressionMetrics));
+
+                compression = true;
+            }
+
+            if (igniteTables instanceof IgniteTablesInternal) {
+                Consumer<UUID> lsnr = tblId -> onAssignmentsChanged(ctx);
+
+                assignmentsChangeLsnr = lsnr;
+
+                ((IgniteTablesInternal) igniteTables).addAssignmentsChangeListener(lsnr);
+            }
         } catch (Throwable t) {
             packer.close();
 
@@ -239,6 +313,33 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
         }
     }
 
+    /**
+     * Notifies the client that the partition assignment has changed, so that it requests the new one.
+     *
+     * @param ctx Channel handler context.
+     */
+    private void onAssignmentsChanged(ChannelHandlerContext ctx) {
+        if (!ctx.channel().isActive() || !assignmentsChangeNotificationPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        ctx.executor().execute(() -> {
+            assignmentsChangeNotificationPending.set(false);
+
+            var packer = getPacker(ctx.alloc());
+
+            try {
+                packer.packInt(ServerMessageType.NOTIFICATION);
+                packer.packInt(ServerNotificationType.PARTITION_ASSIGNMENT_CHANGED);
+
+                write(packer, ctx);
+            } catch (Throwable t) {
+                packer.close();
+                exceptionCaught(ctx, t);
+            }
+        });
+    }
+
     private void writeMagic(ChannelHandlerContext ctx) {
         ctx.write(Unpooled.wrappedBuffer(ClientMessageCommon.MAGIC_BYTES));
     }
@@ -284,7 +385,14 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
 
     private ClientMessagePacker getPacker(ByteBufAllocator alloc) {
         // Outgoing messages are released on write.
-        return new ClientMessagePacker(alloc.buffer());
+        var packer = new ClientMessagePacker(alloc.buffer());
+
+        if (compression) {
+            // Reserved for the compressor, which keeps small messages intact.
+            packer.getBuffer().writeByte(ClientMessageCommon.COMPRESSION_NONE);
+        }
+
+        return packer;
     }
 
     private ClientMessageUnpacker getUnpacker(ByteBuf buf) {
@@ -344,26 +452,41 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
             case ClientOp.TABLE_GET:
                 return ClientTableGetRequest.process(in, out, igniteTables);
 
+            case ClientOp.PARTITION_ASSIGNMENT_GET:
+                return ClientTablePartitionAssignmentGetRequest.process(in, out, igniteTables);
+
+            case ClientOp.STREAMER_BATCH_SEND:
+                return ClientStreamerBatchSendRequest.process(in, igniteTables);
+
+            case ClientOp.TABLE_SCAN:
+                return ClientTableScanRequest.process(in, out, igniteTables, resources, binaryRows());
+
+            case ClientOp.TABLE_SCAN_NEXT_PAGE:
+                return ClientTableScanNextPageRequest.process(in, out, resources, binaryRows());
+
+            case ClientOp.TABLE_SCAN_CURSOR_CLOSE:
+                return ClientTableScanCursorCloseRequest.process(in, resources);
+
             case ClientOp.TUPLE_UPSERT:
                 return ClientTupleUpsertRequest.process(in, igniteTables, resources);
 
             case ClientOp.TUPLE_GET:
-                return ClientTupleGetRequest.process(in, out, igniteTables, resources);
+                return ClientTupleGetRequest.process(in, out, igniteTables, resources, binaryRows());
 
             case ClientOp.TUPLE_UPSERT_ALL:
                 return ClientTupleUpsertAllRequest.process(in, igniteTables, resources);
 
             case ClientOp.TUPLE_GET_ALL:
-                return ClientTupleGetAllRequest.process(in, out, igniteTables, resources);
+                return ClientTupleGetAllRequest.process(in, out, igniteTables, resources, binaryRows());
 
             case ClientOp.TUPLE_GET_AND_UPSERT:
-                return ClientTupleGetAndUpsertRequest.process(in, out, igniteTables, resources);
+                return ClientTupleGetAndUpsertRequest.process(in, out, igniteTables, resources, binaryRows());
 
             case ClientOp.TUPLE_INSERT:
                 return ClientTupleInsertRequest.process(in, out, igniteTables, resources);
 
             case ClientOp.TUPLE_INSERT_ALL:
-                return ClientTupleInsertAllRequest.process(in, out, igniteTables, resources);
+                return ClientTupleInsertAllRequest.process(in, out, igniteTables, resources, binaryRows());
 
             case ClientOp.TUPLE_REPLACE:
                 return ClientTupleReplaceRequest.process(in, out, igniteTables, resources);
@@ -372,22 +495,22 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
                 return ClientTupleReplaceExactRequest.process(in, out, igniteTables, resources);
 
             case ClientOp.TUPLE_GET_AND_REPLACE:
-                return ClientTupleGetAndReplaceRequest.process(in, out, igniteTables, resources);
+                return ClientTupleGetAndReplaceRequest.process(in, out, igniteTables, resources, binaryRows());
 
             case ClientOp.TUPLE_DELETE:
                 return ClientTupleDeleteRequest.process(in, out, igniteTables, resources);
 
             case ClientOp.TUPLE_DELETE_ALL:
-                return ClientTupleDeleteAllRequest.process(in, out, igniteTables, resources);
+                return ClientTupleDeleteAllRequest.process(in, out, igniteTables, resources, binaryRows());
 
             case ClientOp.TUPLE_DELETE_EXACT:
                 return ClientTupleDeleteExactRequest.process(in, out, igniteTables, resources);
 
             case ClientOp.TUPLE_DELETE_ALL_EXACT:
-                return ClientTupleDeleteAllExactRequest.process(in, out, igniteTables, resources);
+                return ClientTupleDeleteAllExactRequest.process(in, out, igniteTables, resources, binaryRows());
 
             case ClientOp.TUPLE_GET_AND_DELETE:
-                return ClientTupleGetAndDeleteRequest.process(in, out, igniteTables, resources);
+                return ClientTupleGetAndDeleteRequest.process(in, out, igniteTables, resources, binaryRows());
 
             case ClientOp.TUPLE_CONTAINS_KEY:
                 return ClientTupleContainsKeyRequest.process(in, out, igniteTables, resources);
@@ -422,6 +545,15 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
             case ClientOp.JDBC_QUERY_META:
                 return ClientJdbcQueryMetadataRequest.process(in, out, jdbcQueryEventHandler);
 
+            case ClientOp.JDBC_PREPARE:
+                return ClientJdbcPrepareRequest.process(in, out, jdbcQueryEventHandler);
+
+            case ClientOp.JDBC_EXEC_PREPARED:
+                return ClientJdbcExecutePreparedRequest.process(in, out, jdbcQueryEventHandler);
+
+            case ClientOp.JDBC_PREPARED_CLOSE:
+                return ClientJdbcPreparedCloseRequest.process(in, out, jdbcQueryEventHandler);
+
             case ClientOp.TX_BEGIN:
                 return ClientTransactionBeginRequest.process(out, igniteTransactions, resources);
 
@@ -449,11 +581,29 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
             case ClientOp.SQL_CURSOR_CLOSE:
                 return ClientSqlCursorCloseRequest.process(in, resources);
 
+            case ClientOp.SQL_PREPARE:
+                return ClientSqlPrepareRequest.process(in, out, processor, resources);
+
+            case ClientOp.SQL_EXEC_PREPARED:
+                return ClientSqlExecutePreparedRequest.process(in, out, sql, resources);
+
+            case ClientOp.SQL_PREPARED_CLOSE:
+                return ClientSqlPreparedCloseRequest.process(in, resources);
+
             default:
                 throw new IgniteException("Unexpected operation code: " + opCode);
         }
     }
 
+    /**
+     * Gets a value indicating whether the client accepts tuples in the binary row format.
+     *
+     * @return {@code true} if the binary rows feature is negotiated.
+     */
+    private boolean binaryRows() {
+        return clientContext.isFeatureSupported(ProtocolBitmaskFeature.BINARY_ROWS);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void channelReadComplete(ChannelHandlerContext ctx) {
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client.handler;
+
+import static org.apache.ignite.internal.client.proto.ClientMessageCommon.COMPRESSION_DEFLATE;
+import static org.apache.ignite.internal.client.proto.ClientMessageCommon.COMPRESSION_NONE;
+import static org.apache.ignite.internal.client.proto.ClientMessageCommon.HEADER_SIZE;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses the messages sent to a thin client that negotiated {@link
+ * org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature#COMPRESSION}.
+ *
+ * <p>An outgoing message is expected to consist of the length header, the {@link
+ * org.apache.ignite.internal.client.proto.ClientMessageCommon#COMPRESSION_NONE} flag and the payload. Messages with the payload
+ * smaller than the threshold, as well as the messages that do not shrink, are sent as is. The payload of other messages is
+ * compressed into a pooled direct buffer and prefixed with the {@link
+ * org.apache.ignite.internal.client.proto.ClientMessageCommon#COMPRESSION_DEFLATE} flag and the uncompressed payload size.
+ */
+class ClientMessageCompressor extends MessageToMessageEncoder<ByteBuf> {
+    /** Size of the compression flag and the uncompressed payload size. */
+    private static final int COMPRESSED_HEADER_SIZE = 1 + 4;
+
+    /** Minimal payload size to compress. */
+    private final int threshold;
+
+    /** Metrics. */
+    private final ClientCompressionMetrics metrics;
+
+    /** Compressor, accessed from the channel event loop only. */
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    /**
+     * Constructor.
+     *
+     * @param threshold Minimal payload size to compress.
+     * @param metrics Metrics.
+     */
+    ClientMessageCompressor(int threshold, ClientCompressionMetrics metrics) {
+        super(ByteBuf.class);
+
+        assert threshold > 0 : threshold;
+
+        this.threshold = threshold;
+        this.metrics = metrics;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void encode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) {
+        int payloadIdx = msg.readerIndex() + HEADER_SIZE + 1;
+        int payloadLen = msg.writerIndex() - payloadIdx;
+
+        assert payloadLen >= 0 && msg.getByte(payloadIdx - 1) == COMPRESSION_NONE : "Message without compression flag";
+
+        if (payloadLen >= threshold) {
+            ByteBuf compressed = compress(ctx, msg.nioBuffer(payloadIdx, payloadLen));
+
+            if (compressed != null) {
+                int compressedLen = compressed.readableBytes() - HEADER_SIZE - COMPRESSED_HEADER_SIZE;
+
+                metrics.onMessageSent(payloadLen, compressedLen, true);
+
+                out.add(compressed);
+
+                return;
+            }
+        }
+
+        metrics.onMessageSent(payloadLen, payloadLen, false);
+
+        out.add(msg.retain());
+    }
+
+    /**
+     * Compresses the payload.
+     *
+     * @param ctx Channel handler context.
+     * @param payload Payload.
+     * @return Compressed message, or {@code null} if the payload does not shrink.
+     */
+    private ByteBuf compress(ChannelHandlerContext ctx, ByteBuffer payload) {
+        int payloadLen = payload.remaining();
+        int dataIdx = HEADER_SIZE + COMPRESSED_HEADER_SIZE;
+
+        // The compressed data is limited by the payload size: there is no point in sending a larger message.
+        ByteBuf buf = ctx.alloc().directBuffer(dataIdx + payloadLen);
+
+        try {
+            ByteBuffer dst = buf.nioBuffer(dataIdx, payloadLen);
+
+            deflater.reset();
+            deflater.setInput(payload);
+            deflater.finish();
+
+            while (!deflater.finished() && dst.hasRemaining()) {
+                deflater.deflate(dst);
+            }
+
+            if (!deflater.finished()) {
+                buf.release();
+
+                return null;
+            }
+
+            int compressedLen = dst.position();
+
+            buf.setInt(0, COMPRESSED_HEADER_SIZE + compressedLen);
+            buf.setByte(HEADER_SIZE, COMPRESSION_DEFLATE);
+            buf.setInt(HEADER_SIZE + 1, payloadLen);
+
+            return buf.writerIndex(dataIdx + compressedLen);
+        } catch (Throwable t) {
+            buf.release();
+
+            throw t;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        deflater.end();
+
+        super.handlerRemoved(ctx);
+    }
+}
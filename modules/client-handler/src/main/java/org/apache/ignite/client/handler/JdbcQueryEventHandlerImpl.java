@@ -49,15 +49,20 @@ import org.apache.ignite.internal.jdbc.proto.event.JdbcMetaSchemasResult;
 import org.apache.ignite.internal.jdbc.proto.event.JdbcMetaTablesRequest;
 import org.apache.ignite.internal.jdbc.proto.event.JdbcMetaTablesResult;
 import org.apache.ignite.internal.jdbc.proto.event.JdbcQueryMetadataRequest;
+import org.apache.ignite.internal.jdbc.proto.event.PreparedCloseRequest;
+import org.apache.ignite.internal.jdbc.proto.event.PreparedExecuteRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryCloseRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryCloseResult;
 import org.apache.ignite.internal.jdbc.proto.event.QueryExecuteRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryExecuteResult;
 import org.apache.ignite.internal.jdbc.proto.event.QueryFetchRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryFetchResult;
+import org.apache.ignite.internal.jdbc.proto.event.QueryPrepareRequest;
+import org.apache.ignite.internal.jdbc.proto.event.QueryPrepareResult;
 import org.apache.ignite.internal.jdbc.proto.event.QuerySingleResult;
 import org.apache.ignite.internal.jdbc.proto.event.Response;
 import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
+import org.apache.ignite.internal.sql.engine.PreparedQuery;
 import org.apache.ignite.internal.sql.engine.QueryContext;
 import org.apache.ignite.internal.sql.engine.QueryProcessor;
 import org.apache.ignite.internal.sql.engine.QueryValidator;
@@ -81,6 +86,12 @@ public class JdbcQueryEventHandlerImpl implements JdbcQueryEventHandler {
     /** Cursor Id generator. */
     private final AtomicLong cursorIdGenerator = new AtomicLong();
 
+    /** Current JDBC prepared statements. */
+    private final ConcurrentHashMap<Long, PreparedQuery> preparedStmts = new ConcurrentHashMap<>();
+
+    /** Prepared statement Id generator. */
+    private final AtomicLong stmtIdGenerator = new AtomicLong();
+
     /** Sql query processor. */
     private final QueryProcessor processor;
 
@@ -113,7 +124,7 @@ public class JdbcQueryEventHandlerImpl implements JdbcQueryEventHandler {
                 req.arguments() == null ? OBJECT_EMPTY_ARRAY : req.arguments())) {
             results.add(
                     cursorFut.thenApply(cursor -> new JdbcQueryCursor<>(req.maxRows(), cursor))
-                            .thenCompose(cursor -> createJdbcResult(cursor, req))
+                            .thenCompose(cursor -> createJdbcResult(cursor, req.sqlQuery(), req.pageSize()))
             );
         }
 
@@ -288,6 +299,70 @@ public class JdbcQueryEventHandlerImpl implements JdbcQueryEventHandler {
         });
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<QueryPrepareResult> prepareAsync(QueryPrepareRequest req) {
+        return processor.prepareSingleAsync(QueryContext.of(), req.schemaName(), req.sqlQuery()).handle((prepared, t) -> {
+            if (t != null) {
+                StringWriter sw = getWriterWithStackTrace(t);
+
+                return new QueryPrepareResult(Response.STATUS_FAILED,
+                        "Exception while preparing query " + req.sqlQuery() + ". Error message: " + sw);
+            }
+
+            long stmtId = stmtIdGenerator.getAndIncrement();
+
+            preparedStmts.put(stmtId, prepared);
+
+            return new QueryPrepareResult(stmtId);
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<QueryExecuteResult> executePreparedAsync(PreparedExecuteRequest req) {
+        PreparedQuery prepared = preparedStmts.get(req.statementId());
+
+        if (prepared == null) {
+            return CompletableFuture.completedFuture(new QueryExecuteResult(Response.STATUS_FAILED,
+                    "Failed to find prepared statement with ID: " + req.statementId()));
+        }
+
+        if (req.pageSize() <= 0) {
+            return CompletableFuture.completedFuture(new QueryExecuteResult(Response.STATUS_FAILED,
+                    "Invalid fetch size : [fetchSize=" + req.pageSize() + ']'));
+        }
+
+        QueryContext context = createQueryContext(req.getStmtType());
+
+        // The plan is taken from the plan cache, so the query is neither parsed nor planned again.
+        return processor.querySingleAsync(context, prepared.schemaName(), prepared.query(),
+                        req.arguments() == null ? OBJECT_EMPTY_ARRAY : req.arguments())
+                .thenApply(cursor -> new JdbcQueryCursor<>(req.maxRows(), cursor))
+                .thenCompose(cursor -> createJdbcResult(cursor, prepared.query(), req.pageSize()))
+                .handle((res, t) -> {
+                    if (t != null) {
+                        StringWriter sw = getWriterWithStackTrace(t);
+
+                        return new QueryExecuteResult(Response.STATUS_FAILED,
+                                "Exception while executing query " + prepared.query() + ". Error message: " + sw);
+                    }
+
+                    return new QueryExecuteResult(List.of(res));
+                });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<QueryCloseResult> closePreparedAsync(PreparedCloseRequest req) {
+        if (preparedStmts.remove(req.statementId()) == null) {
+            return CompletableFuture.completedFuture(new QueryCloseResult(Response.STATUS_FAILED,
+                    "Failed to find prepared statement with ID: " + req.statementId()));
+        }
+
+        return CompletableFuture.completedFuture(new QueryCloseResult());
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<JdbcMetaColumnsResult> queryMetadataAsync(JdbcQueryMetadataRequest req) {
@@ -385,15 +460,16 @@ public class JdbcQueryEventHandlerImpl implements JdbcQueryEventHandler {
      * Creates jdbc result for the cursor.
      *
      * @param cur Sql cursor for query.
-     * @param req Execution request.
+     * @param sql Sql query.
+     * @param pageSize Fetch size.
      * @return JdbcQuerySingleResult filled with first batch of data.
      */
-    private CompletionStage<QuerySingleResult> createJdbcResult(AsyncSqlCursor<List<Object>> cur, QueryExecuteRequest req) {
+    private CompletionStage<QuerySingleResult> createJdbcResult(AsyncSqlCursor<List<Object>> cur, String sql, int pageSize) {
         long cursorId = cursorIdGenerator.getAndIncrement();
 
         openCursors.put(cursorId, cur);
 
-        return cur.requestNextAsync(req.pageSize()).thenApply(batch -> {
+        return cur.requestNextAsync(pageSize).thenApply(batch -> {
             boolean hasNext = batch.hasMore();
 
             switch (cur.queryType()) {
@@ -403,7 +479,7 @@ public class JdbcQueryEventHandlerImpl implements JdbcQueryEventHandler {
                 case DML:
                     if (!validateDmlResult(cur.metadata(), hasNext)) {
                         return new QuerySingleResult(Response.STATUS_FAILED,
-                                "Unexpected result for DML query [" + req.sqlQuery() + "].");
+                                "Unexpected result for DML query [" + sql + "].");
                     }
 
                     return new QuerySingleResult(cursorId, (Long) batch.items().get(0).get(0));
@@ -66,7 +66,15 @@ public class ClientSqlExecuteRequest {
                 .thenCompose(asyncResultSet -> writeResultSetAsync(out, resources, asyncResultSet));
     }
 
-    private static CompletionStage<Void> writeResultSetAsync(
+    /**
+     * Writes the result set: the cursor resource id, the flags, the metadata and the first page.
+     *
+     * @param out Packer.
+     * @param resources Resources.
+     * @param asyncResultSet Result set.
+     * @return Future.
+     */
+    static CompletionStage<Void> writeResultSetAsync(
             ClientMessagePacker out,
             ClientResourceRegistry resources,
             AsyncResultSet asyncResultSet) {
@@ -137,6 +145,18 @@ public class ClientSqlExecuteRequest {
         if (!in.tryUnpackNil()) {
             sessionBuilder.defaultSchema(in.unpackString());
         }
+
+        return readSessionOptions(in, sessionBuilder);
+    }
+
+    /**
+     * Reads the page size, the timeout and the properties of the session.
+     *
+     * @param in Unpacker.
+     * @param sessionBuilder Session builder.
+     * @return Session.
+     */
+    static Session readSessionOptions(ClientMessageUnpacker in, SessionBuilder sessionBuilder) {
         if (!in.tryUnpackNil()) {
             sessionBuilder.defaultPageSize(in.unpackInt());
         }
@@ -154,7 +174,13 @@ public class ClientSqlExecuteRequest {
         return sessionBuilder.build();
     }
 
-    private static Object[] readArguments(ClientMessageUnpacker in) {
+    /**
+     * Reads the query arguments.
+     *
+     * @param in Unpacker.
+     * @return Arguments.
+     */
+    static Object[] readArguments(ClientMessageUnpacker in) {
         int size = in.unpackArrayHeader();
 
         if (size == 0) {
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client.handler.requests.sql;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.client.handler.ClientResource;
+import org.apache.ignite.client.handler.ClientResourceRegistry;
+import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.sql.engine.QueryContext;
+import org.apache.ignite.internal.sql.engine.QueryProcessor;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.sql.Session;
+
+/**
+ * Client SQL prepare request.
+ *
+ * <p>The query plan is put to the plan cache shared by all the sessions of the node, and the connection keeps a handle of the
+ * prepared query, so the execution of the statement with {@code SQL_EXEC_PREPARED} skips parsing and planning.
+ */
+public class ClientSqlPrepareRequest {
+    /**
+     * Processes the request.
+     *
+     * @param in        Unpacker.
+     * @param out       Packer.
+     * @param processor Sql query processor.
+     * @param resources Resources.
+     * @return Future.
+     */
+    public static CompletableFuture<Void> process(
+            ClientMessageUnpacker in,
+            ClientMessagePacker out,
+            QueryProcessor processor,
+            ClientResourceRegistry resources) {
+        String schema = in.tryUnpackNil() ? Session.DEFAULT_SCHEMA : in.unpackString();
+        String query = in.unpackString();
+
+        return processor.prepareSingleAsync(QueryContext.of(), schema, query).thenAccept(prepared -> {
+            try {
+                out.packLong(resources.put(new ClientResource(prepared, null)));
+            } catch (IgniteInternalCheckedException e) {
+                throw new IgniteInternalException(e.getMessage(), e);
+            }
+        });
+    }
+}
@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.client.proto.ClientMessageCommon.NO_VAL
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -34,13 +35,24 @@ import org.apache.ignite.internal.client.proto.ClientDataType;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.TuplePart;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BitmaskNativeType;
+import org.apache.ignite.internal.schema.ByteBufferRow;
 import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.DecimalNativeType;
+import org.apache.ignite.internal.schema.NativeType;
 import org.apache.ignite.internal.schema.NativeTypeSpec;
+import org.apache.ignite.internal.schema.NumberNativeType;
 import org.apache.ignite.internal.schema.SchemaAware;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.TemporalNativeType;
+import org.apache.ignite.internal.schema.VarlenNativeType;
+import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
 import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.TableRow;
+import org.apache.ignite.internal.util.HashUtils;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.IgniteInternalException;
@@ -78,14 +90,59 @@ public class ClientTableCommon {
         for (var colIdx = 0; colIdx < colCnt; colIdx++) {
             var col = schema.column(colIdx);
 
-            packer.packArrayHeader(4);
+            packer.packArrayHeader(7);
             packer.packString(col.name());
             packer.packInt(getClientDataType(col.type().spec()));
             packer.packBoolean(schema.isKeyColumn(colIdx));
             packer.packBoolean(col.nullable());
+            packer.packInt(colocationIndex(schema, col));
+            packer.packInt(col.type() instanceof DecimalNativeType ? ((DecimalNativeType) col.type()).scale() : 0);
+            packer.packInt(precision(col.type()));
         }
     }
 
+    /**
+     * Gets the type parameter which the binary row layout depends on.
+     *
+     * @param type Type.
+     * @return Precision of a numeric or a temporal type, length of a varlen type, number of bits of a bitmask, {@code 0} for
+     *         other types.
+     */
+    private static int precision(NativeType type) {
+        if (type instanceof DecimalNativeType) {
+            return ((DecimalNativeType) type).precision();
+        } else if (type instanceof NumberNativeType) {
+            return ((NumberNativeType) type).precision();
+        } else if (type instanceof TemporalNativeType) {
+            return ((TemporalNativeType) type).precision();
+        } else if (type instanceof VarlenNativeType) {
+            return ((VarlenNativeType) type).length();
+        } else if (type instanceof BitmaskNativeType) {
+            return ((BitmaskNativeType) type).bits();
+        }
+
+        return 0;
+    }
+
+    /**
+     * Gets the position of the column among the colocation columns.
+     *
+     * @param schema Schema.
+     * @param col    Column.
+     * @return Position of the column in the colocation key, or {@code -1} if the column is not a colocation column.
+     */
+    private static int colocationIndex(SchemaDescriptor schema, Column col) {
+        Column[] colocationCols = schema.colocationColumns();
+
+        for (int i = 0; i < colocationCols.length; i++) {
+            if (colocationCols[i].schemaIndex() == col.schemaIndex()) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
     /**
      * Writes a tuple.
      *
@@ -111,6 +168,18 @@ public class ClientTableCommon {
      * @param tuple  Tuple.
      */
     public static void writeTupleOrNil(ClientMessagePacker packer, Tuple tuple, TuplePart part) {
+        writeTupleOrNil(packer, tuple, part, false);
+    }
+
+    /**
+     * Writes a tuple.
+     *
+     * @param packer     Packer.
+     * @param tuple      Tuple.
+     * @param part       Which part of tuple to write.
+     * @param binaryRows Whether the client accepts tuples in the binary row format.
+     */
+    public static void writeTupleOrNil(ClientMessagePacker packer, Tuple tuple, TuplePart part, boolean binaryRows) {
         if (tuple == null) {
             packer.packNil();
 
@@ -119,7 +188,7 @@ public class ClientTableCommon {
 
         var schema = ((SchemaAware) tuple).schema();
 
-        writeTuple(packer, tuple, schema, false, part);
+        writeTuple(packer, tuple, schema, false, part, binaryRows);
     }
 
     /**
@@ -172,6 +241,28 @@ public class ClientTableCommon {
             SchemaDescriptor schema,
             boolean skipHeader,
             TuplePart part
+    ) {
+        writeTuple(packer, tuple, schema, skipHeader, part, false);
+    }
+
+    /**
+     * Writes a tuple.
+     *
+     * @param packer     Packer.
+     * @param tuple      Tuple.
+     * @param schema     Tuple schema.
+     * @param skipHeader Whether to skip the tuple header.
+     * @param part       Which part of tuple to write.
+     * @param binaryRows Whether the client accepts tuples in the binary row format.
+     * @throws IgniteException on failed serialization.
+     */
+    public static void writeTuple(
+            ClientMessagePacker packer,
+            Tuple tuple,
+            SchemaDescriptor schema,
+            boolean skipHeader,
+            TuplePart part,
+            boolean binaryRows
     ) {
         assert tuple != null;
 
@@ -179,6 +270,16 @@ public class ClientTableCommon {
             packer.packInt(schema.version());
         }
 
+        if (binaryRows) {
+            Row row = binaryRow(tuple, schema, part);
+
+            if (row != null) {
+                packer.packBinaryRow(row.bytes());
+
+                return;
+            }
+        }
+
         if (part != TuplePart.VAL) {
             for (var col : schema.keyColumns().columns()) {
                 writeColumnValue(packer, tuple, col);
@@ -192,6 +293,30 @@ public class ClientTableCommon {
         }
     }
 
+    /**
+     * Gets the stored row of a tuple to send it to the client as is: the row must be unmodified, must be of the given schema,
+     * and must contain the requested tuple part only or the full row.
+     *
+     * @param tuple  Tuple.
+     * @param schema Tuple schema.
+     * @param part   Which part of tuple to write.
+     * @return Row, or {@code null} if the tuple must be written column by column.
+     */
+    private static @Nullable Row binaryRow(Tuple tuple, SchemaDescriptor schema, TuplePart part) {
+        Row row = tuple instanceof TableRow ? ((TableRow) tuple).row() : null;
+
+        // Upgraded rows expose the new schema over the data of the old one.
+        if (row == null || row.getClass() != Row.class || row.schema().version() != schema.version()) {
+            return null;
+        }
+
+        if (part == TuplePart.KEY) {
+            return row.hasValue() ? null : row;
+        }
+
+        return row.hasValue() || schema.valueColumns().length() == 0 ? row : null;
+    }
+
     /**
      * Writes multiple tuples.
      *
@@ -225,6 +350,28 @@ public class ClientTableCommon {
             TuplePart part,
             SchemaRegistry schemaRegistry,
             boolean skipHeader
+    ) {
+        writeTuples(packer, tuples, part, schemaRegistry, skipHeader, false);
+    }
+
+    /**
+     * Writes multiple tuples.
+     *
+     * @param packer         Packer.
+     * @param tuples         Tuples.
+     * @param part           Which part of tuple to write.
+     * @param schemaRegistry The registry.
+     * @param skipHeader     Whether to skip the tuple header.
+     * @param binaryRows     Whether the client accepts tuples in the binary row format.
+     * @throws IgniteException on failed serialization.
+     */
+    public static void writeTuples(
+            ClientMessagePacker packer,
+            Collection<Tuple> tuples,
+            TuplePart part,
+            SchemaRegistry schemaRegistry,
+            boolean skipHeader,
+            boolean binaryRows
     ) {
         if (tuples == null || tuples.isEmpty()) {
             packer.packNil();
@@ -241,7 +388,7 @@ public class ClientTableCommon {
             assert tuple != null;
             assert schema.version() == ((SchemaAware) tuple).schema().version();
 
-            writeTuple(packer, tuple, schema, skipHeader, part);
+            writeTuple(packer, tuple, schema, skipHeader, part, binaryRows);
         }
     }
 
@@ -261,6 +408,28 @@ public class ClientTableCommon {
             TuplePart part,
             SchemaRegistry schemaRegistry,
             boolean skipHeader
+    ) {
+        writeTuplesNullable(packer, tuples, part, schemaRegistry, skipHeader, false);
+    }
+
+    /**
+     * Writes multiple tuples with null flags.
+     *
+     * @param packer         Packer.
+     * @param tuples         Tuples.
+     * @param part           Which part of tuple to write.
+     * @param schemaRegistry The registry.
+     * @param skipHeader     Whether to skip the tuple header.
+     * @param binaryRows     Whether the client accepts tuples in the binary row format.
+     * @throws IgniteException on failed serialization.
+     */
+    public static void writeTuplesNullable(
+            ClientMessagePacker packer,
+            Collection<Tuple> tuples,
+            TuplePart part,
+            SchemaRegistry schemaRegistry,
+            boolean skipHeader,
+            boolean binaryRows
     ) {
         if (tuples == null || tuples.isEmpty()) {
             packer.packNil();
@@ -282,7 +451,7 @@ public class ClientTableCommon {
             assert schema.version() == ((SchemaAware) tuple).schema().version();
 
             packer.packBoolean(true);
-            writeTuple(packer, tuple, schema, skipHeader, part);
+            writeTuple(packer, tuple, schema, skipHeader, part, binaryRows);
         }
     }
 
@@ -313,6 +482,12 @@ public class ClientTableCommon {
             boolean keyOnly,
             SchemaDescriptor schema
     ) {
+        byte[] bytes = unpacker.tryUnpackBinaryRow();
+
+        if (bytes != null) {
+            return TableRow.tuple(readBinaryRow(bytes, keyOnly, schema));
+        }
+
         var cnt = keyOnly ? schema.keyColumns().length() : schema.length();
 
         var tuple = Tuple.create(cnt);
@@ -328,6 +503,76 @@ public class ClientTableCommon {
         return tuple;
     }
 
+    /**
+     * Wraps a tuple sent in the binary row format, checking that the row layout matches the schema.
+     *
+     * @param bytes   Row bytes.
+     * @param keyOnly Whether only key fields are expected.
+     * @param schema  Tuple schema.
+     * @return Row.
+     */
+    private static Row readBinaryRow(byte[] bytes, boolean keyOnly, SchemaDescriptor schema) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteBufferRow.ORDER);
+
+        boolean hasValue = !keyOnly && schema.valueColumns().length() > 0;
+        int len = BinaryRow.KEY_CHUNK_OFFSET;
+
+        if (bytes.length >= BinaryRow.HEADER_SIZE + BinaryRow.CHUNK_HEADER_SIZE
+                && buf.getShort(BinaryRow.SCHEMA_VERSION_OFFSET) == (hasValue ? schema.version() : 0)) {
+            int keyLen = buf.getInt(len);
+
+            if (keyLen >= BinaryRow.CHUNK_HEADER_SIZE && keyLen <= bytes.length - len
+                    && buf.getInt(BinaryRow.KEY_HASH_FIELD_OFFSET) == HashUtils.hash32(bytes, len, keyLen, 0)) {
+                len += keyLen;
+
+                if (hasValue && bytes.length - len >= BinaryRow.CHUNK_HEADER_SIZE) {
+                    int valLen = buf.getInt(len);
+
+                    len = valLen >= BinaryRow.CHUNK_HEADER_SIZE ? len + valLen : -1;
+                }
+            }
+        }
+
+        if (len != bytes.length) {
+            throw new IgniteException("Binary row doesn't match schema: schemaVersion=" + schema.version());
+        }
+
+        Row row = new Row(schema, new ByteBufferRow(bytes));
+
+        validateBinaryRow(row, keyOnly ? schema.keyColumns().length() : schema.length());
+
+        return row;
+    }
+
+    /**
+     * Reads every column of a row sent in the binary row format and validates the values the same way as the per-column encoding does,
+     * so that a malformed row (broken null-map or varlen offset table, null in a NOT NULL column, too long value) is rejected instead of
+     * being stored. The scale of a decimal value is not stored in the row, it is always the scale of the column.
+     *
+     * @param row     Row.
+     * @param columns Number of the row columns.
+     */
+    private static void validateBinaryRow(Row row, int columns) {
+        SchemaDescriptor schema = row.schema();
+
+        for (int i = 0; i < columns; i++) {
+            Column col = schema.column(i);
+
+            try {
+                Object val = row.value(i);
+
+                col.validate(val);
+
+                if (val instanceof BigDecimal && ((BigDecimal) val).precision() > ((DecimalNativeType) col.type()).precision()) {
+                    throw new IgniteException("Decimal value exceeds the column precision: " + val);
+                }
+            } catch (RuntimeException e) {
+                throw new IgniteException("Binary row doesn't match schema: schemaVersion=" + schema.version() + ", column=" + col.name()
+                        + ", reason=" + e.getMessage(), e);
+            }
+        }
+    }
+
     /**
      * Reads multiple tuples.
      *
@@ -410,10 +655,22 @@ public class ClientTableCommon {
     }
 
     private static void readAndSetColumnValue(ClientMessageUnpacker unpacker, Tuple tuple, Column col) {
+        tuple.set(col.name(), readColumnValue(unpacker, col));
+    }
+
+    /**
+     * Reads a value of the given column.
+     *
+     * @param unpacker Unpacker.
+     * @param col      Column.
+     * @return Value.
+     * @throws IgniteException if the value does not match the column type.
+     */
+    static Object readColumnValue(ClientMessageUnpacker unpacker, Column col) {
         try {
             int type = getClientDataType(col.type().spec());
-            Object val = unpacker.unpackObject(type);
-            tuple.set(col.name(), val);
+
+            return unpacker.unpackObject(type);
         } catch (MessageTypeException e) {
             throw new IgniteException("Incorrect value type for column '" + col.name() + "': " + e.getMessage(), e);
         }
@@ -474,7 +731,14 @@ public class ClientTableCommon {
         }
     }
 
-    private static void writeColumnValue(ClientMessagePacker packer, Tuple tuple, Column col) {
+    /**
+     * Writes a value of the given column.
+     *
+     * @param packer Packer.
+     * @param tuple  Tuple.
+     * @param col    Column.
+     */
+    static void writeColumnValue(ClientMessagePacker packer, Tuple tuple, Column col) {
         var val = tuple.valueOrDefault(col.name(), NO_VALUE);
 
         if (val == null) {
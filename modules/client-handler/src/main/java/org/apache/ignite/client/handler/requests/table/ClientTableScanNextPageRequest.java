@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client.handler.requests.table;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.client.handler.ClientResourceRegistry;
+import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+
+/**
+ * Client table scan next page request.
+ */
+public class ClientTableScanNextPageRequest {
+    /**
+     * Processes the request.
+     *
+     * @param in         Unpacker.
+     * @param out        Packer.
+     * @param resources  Resource registry.
+     * @param binaryRows Whether the client accepts tuples in the binary row format.
+     * @return Future.
+     */
+    public static CompletableFuture<Void> process(
+            ClientMessageUnpacker in,
+            ClientMessagePacker out,
+            ClientResourceRegistry resources,
+            boolean binaryRows
+    ) throws IgniteInternalCheckedException {
+        long resourceId = in.unpackLong();
+
+        TableScanCursor cursor = resources.get(resourceId).get(TableScanCursor.class);
+
+        return cursor.nextPage()
+                .thenAccept(page -> {
+                    boolean hasMore = cursor.hasMore();
+
+                    if (!hasMore) {
+                        release(resources, resourceId, cursor);
+                    }
+
+                    try {
+                        cursor.writePage(out, page, hasMore, binaryRows);
+                    } catch (RuntimeException e) {
+                        // The page is lost, so the scan can't be continued.
+                        if (hasMore) {
+                            release(resources, resourceId, cursor);
+                        }
+
+                        throw e;
+                    }
+                });
+    }
+
+    /**
+     * Removes the cursor from the resource registry and closes it.
+     *
+     * @param resources  Resource registry.
+     * @param resourceId Resource id.
+     * @param cursor     Cursor.
+     */
+    static void release(ClientResourceRegistry resources, long resourceId, TableScanCursor cursor) {
+        try {
+            resources.remove(resourceId);
+        } catch (IgniteInternalCheckedException ignored) {
+            // Ignore: either resource already removed, or registry is closing.
+        }
+
+        cursor.close();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client.handler.requests.table;
+
+import static org.apache.ignite.client.handler.requests.table.ClientTableCommon.readTable;
+import static org.apache.ignite.client.handler.requests.table.ClientTableCommon.readTx;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.apache.ignite.client.handler.ClientResource;
+import org.apache.ignite.client.handler.ClientResourceRegistry;
+import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.client.proto.TableScanFilterOp;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.table.manager.IgniteTables;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Client table scan request.
+ */
+public class ClientTableScanRequest {
+    /**
+     * Processes the request.
+     *
+     * @param in         Unpacker.
+     * @param out        Packer.
+     * @param tables     Ignite tables.
+     * @param resources  Resource registry.
+     * @param binaryRows Whether the client accepts tuples in the binary row format.
+     * @return Future.
+     */
+    public static CompletableFuture<Void> process(
+            ClientMessageUnpacker in,
+            ClientMessagePacker out,
+            IgniteTables tables,
+            ClientResourceRegistry resources,
+            boolean binaryRows
+    ) {
+        TableImpl table = readTable(in, tables);
+        var tx = (InternalTransaction) readTx(in, resources);
+        int partition = in.unpackInt();
+        int pageSize = in.unpackInt();
+        boolean prefetch = in.unpackBoolean();
+        String[] columns = readColumns(in);
+        Predicate<Row> filter = readFilter(in, table.schemaView().schema());
+
+        if (pageSize <= 0) {
+            throw new IgniteException("Page size must be positive: " + pageSize);
+        }
+
+        // Validate the projection before the scan is started and the cursor is registered.
+        TableScanCursor.projection(table.schemaView().schema(), columns);
+
+        int[] partitions = partition < 0
+                ? IntStream.range(0, table.internalTable().partitions()).toArray()
+                : new int[]{partition};
+
+        var cursor = new TableScanCursor(table.internalTable(), tx, table.schemaView(), partitions, pageSize, prefetch, filter, columns);
+
+        cursor.start();
+
+        return cursor.nextPage()
+                .whenComplete((page, err) -> {
+                    if (err != null) {
+                        cursor.close();
+                    }
+                })
+                .thenAccept(page -> {
+                    boolean hasMore = cursor.hasMore();
+                    long resourceId = -1;
+
+                    if (hasMore) {
+                        try {
+                            resourceId = resources.put(new ClientResource(cursor, cursor::close));
+                        } catch (IgniteInternalCheckedException e) {
+                            cursor.close();
+
+                            throw new IgniteInternalException(e.getMessage(), e);
+                        }
+
+                        out.packLong(resourceId);
+                    } else {
+                        cursor.close();
+
+                        out.packNil(); // resourceId
+                    }
+
+                    try {
+                        cursor.writePage(out, page, hasMore, binaryRows);
+                    } catch (RuntimeException e) {
+                        // The client doesn't receive the resource id, so nobody else can release the cursor.
+                        if (hasMore) {
+                            ClientTableScanNextPageRequest.release(resources, resourceId, cursor);
+                        }
+
+                        throw e;
+                    }
+                });
+    }
+
+    private static @Nullable String[] readColumns(ClientMessageUnpacker in) {
+        if (in.tryUnpackNil()) {
+            return null;
+        }
+
+        var columns = new String[in.unpackArrayHeader()];
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = in.unpackString();
+        }
+
+        return columns;
+    }
+
+    private static @Nullable Predicate<Row> readFilter(ClientMessageUnpacker in, SchemaDescriptor schema) {
+        if (in.tryUnpackNil()) {
+            return null;
+        }
+
+        in.unpackArrayHeader();
+
+        String colName = in.unpackString();
+        TableScanFilterOp op = TableScanFilterOp.fromOrdinal(in.unpackInt());
+        Column col = schema.column(colName);
+
+        if (col == null) {
+            throw new IgniteException("Column does not exist: " + colName);
+        }
+
+        Object val = ClientTableCommon.readColumnValue(in, col);
+
+        return TableScanCursor.filter(colName, op, val);
+    }
+}
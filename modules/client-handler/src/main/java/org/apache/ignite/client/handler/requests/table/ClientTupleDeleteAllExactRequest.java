@@ -26,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.client.handler.ClientResourceRegistry;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.client.proto.TuplePart;
 import org.apache.ignite.table.manager.IgniteTables;
 
 /**
@@ -35,23 +36,25 @@ public class ClientTupleDeleteAllExactRequest {
     /**
      * Processes the request.
      *
-     * @param in        Unpacker.
-     * @param out       Packer.
-     * @param tables    Ignite tables.
-     * @param resources Resource registry.
+     * @param in         Unpacker.
+     * @param out        Packer.
+     * @param tables     Ignite tables.
+     * @param resources  Resource registry.
+     * @param binaryRows Whether the client accepts tuples in the binary row format.
      * @return Future.
      */
     public static CompletableFuture<Void> process(
             ClientMessageUnpacker in,
             ClientMessagePacker out,
             IgniteTables tables,
-            ClientResourceRegistry resources
+            ClientResourceRegistry resources,
+            boolean binaryRows
     ) {
         var table = readTable(in, tables);
         var tx = readTx(in, resources);
         var tuples = readTuples(in, table, false);
 
         return table.recordView().deleteAllExactAsync(tx, tuples)
-                .thenAccept(skippedTuples -> writeTuples(out, skippedTuples, table.schemaView(), true));
+                .thenAccept(skippedTuples -> writeTuples(out, skippedTuples, TuplePart.KEY_AND_VAL, table.schemaView(), true, binaryRows));
     }
 }
@@ -36,23 +36,25 @@ public class ClientTupleDeleteAllRequest {
     /**
      * Processes the request.
      *
-     * @param in        Unpacker.
-     * @param out       Packer.
-     * @param tables    Ignite tables.
-     * @param resources Resource registry.
+     * @param in         Unpacker.
+     * @param out        Packer.
+     * @param tables     Ignite tables.
+     * @param resources  Resource registry.
+     * @param binaryRows Whether the client accepts tuples in the binary row format.
      * @return Future.
      */
     public static CompletableFuture<Void> process(
             ClientMessageUnpacker in,
             ClientMessagePacker out,
             IgniteTables tables,
-            ClientResourceRegistry resources
+            ClientResourceRegistry resources,
+            boolean binaryRows
     ) {
         var table = readTable(in, tables);
         var tx = readTx(in, resources);
         var tuples = readTuples(in, table, true);
 
         return table.recordView().deleteAllAsync(tx, tuples).thenAccept(skippedTuples ->
-            writeTuples(out, skippedTuples, TuplePart.KEY, table.schemaView(), true));
+            writeTuples(out, skippedTuples, TuplePart.KEY, table.schemaView(), true, binaryRows));
     }
 }
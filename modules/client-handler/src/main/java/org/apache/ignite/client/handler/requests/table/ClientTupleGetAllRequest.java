@@ -36,23 +36,25 @@ public class ClientTupleGetAllRequest {
     /**
      * Processes the request.
      *
-     * @param in        Unpacker.
-     * @param out       Packer.
-     * @param tables    Ignite tables.
-     * @param resources Resource registry.
+     * @param in         Unpacker.
+     * @param out        Packer.
+     * @param tables     Ignite tables.
+     * @param resources  Resource registry.
+     * @param binaryRows Whether the client accepts tuples in the binary row format.
      * @return Future.
      */
     public static CompletableFuture<Void> process(
             ClientMessageUnpacker in,
             ClientMessagePacker out,
             IgniteTables tables,
-            ClientResourceRegistry resources
+            ClientResourceRegistry resources,
+            boolean binaryRows
     ) {
         var table = readTable(in, tables);
         var tx = readTx(in, resources);
         var keyTuples = readTuples(in, table, true);
 
         return table.recordView().getAllAsync(tx, keyTuples).thenAccept(tuples ->
-            writeTuplesNullable(out, tuples, TuplePart.KEY_AND_VAL, table.schemaView(), true));
+            writeTuplesNullable(out, tuples, TuplePart.KEY_AND_VAL, table.schemaView(), true, binaryRows));
     }
 }
@@ -35,23 +35,25 @@ public class ClientTupleGetAndReplaceRequest {
     /**
      * Processes the request.
      *
-     * @param in        Unpacker.
-     * @param out       Packer.
-     * @param tables    Ignite tables.
-     * @param resources Resource registry.
+     * @param in         Unpacker.
+     * @param out        Packer.
+     * @param tables     Ignite tables.
+     * @param resources  Resource registry.
+     * @param binaryRows Whether the client accepts tuples in the binary row format.
      * @return Future.
      */
     public static CompletableFuture<Void> process(
             ClientMessageUnpacker in,
             ClientMessagePacker out,
             IgniteTables tables,
-            ClientResourceRegistry resources
+            ClientResourceRegistry resources,
+            boolean binaryRows
     ) {
         var table = readTable(in, tables);
         var tx = readTx(in, resources);
         var tuple = readTuple(in, table, false);
 
         return table.recordView().getAndReplaceAsync(tx, tuple).thenAccept(
-                resTuple -> ClientTableCommon.writeTupleOrNil(out, resTuple, TuplePart.VAL));
+                resTuple -> ClientTableCommon.writeTupleOrNil(out, resTuple, TuplePart.VAL, binaryRows));
     }
 }
@@ -0,0 +1,530 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client.handler.requests.table;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
+import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.client.proto.TableScanFilterOp;
+import org.apache.ignite.internal.client.proto.TuplePart;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.TableRow;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.table.Tuple;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Server-side cursor of the client table scan: subscribes to the partitions one by one and buffers the rows which match the filter
+ * until the client fetches them page by page.
+ *
+ * <p>Rows are requested from the partitions with respect to the page size: when prefetch is enabled, the next page is loaded while
+ * the client processes the current one, otherwise the rows are requested only when the client asks for a page.
+ */
+class TableScanCursor implements Flow.Subscriber<BinaryRow> {
+    /** Table. */
+    private final InternalTable table;
+
+    /** Transaction. */
+    private final @Nullable InternalTransaction tx;
+
+    /** Schema registry. */
+    private final SchemaRegistry schemaReg;
+
+    /** Partitions to scan. */
+    private final int[] partitions;
+
+    /** Page size. */
+    private final int pageSize;
+
+    /** Whether to load the next page in advance. */
+    private final boolean prefetch;
+
+    /** Row filter. */
+    private final @Nullable Predicate<Row> filter;
+
+    /** Names of the columns to send to the client, or {@code null} to send all columns. */
+    private final @Nullable String[] columns;
+
+    /** Rows which are loaded but not yet fetched by the client. */
+    private final ArrayDeque<BinaryRow> buf = new ArrayDeque<>();
+
+    /** Index of the partition being scanned. */
+    private int partIdx;
+
+    /** Subscription to the partition being scanned. */
+    private @Nullable Flow.Subscription subscription;
+
+    /** Rows requested from the current subscription and not received yet. */
+    private long requested;
+
+    /** Page requested by the client. */
+    private @Nullable CompletableFuture<List<BinaryRow>> pageFut;
+
+    /** Scan error. */
+    private @Nullable Throwable err;
+
+    /** Whether all partitions are scanned. */
+    private boolean done;
+
+    /** Whether the cursor is closed. */
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param table      Table.
+     * @param tx         Transaction.
+     * @param schemaReg  Schema registry.
+     * @param partitions Partitions to scan.
+     * @param pageSize   Page size.
+     * @param prefetch   Whether to load the next page in advance.
+     * @param filter     Row filter.
+     * @param columns    Names of the columns to send to the client, or {@code null} to send all columns.
+     */
+    TableScanCursor(
+            InternalTable table,
+            @Nullable InternalTransaction tx,
+            SchemaRegistry schemaReg,
+            int[] partitions,
+            int pageSize,
+            boolean prefetch,
+            @Nullable Predicate<Row> filter,
+            @Nullable String[] columns
+    ) {
+        assert partitions.length > 0;
+        assert pageSize > 0;
+
+        this.table = table;
+        this.tx = tx;
+        this.schemaReg = schemaReg;
+        this.partitions = partitions;
+        this.pageSize = pageSize;
+        this.prefetch = prefetch;
+        this.filter = filter;
+        this.columns = columns;
+    }
+
+    /**
+     * Starts the scan.
+     *
+     * @throws IllegalArgumentException If the partition is invalid.
+     */
+    void start() {
+        table.scan(partitions[0], tx).subscribe(this);
+    }
+
+    /**
+     * Fetches the next page. Only one page can be requested at a time.
+     *
+     * @return Future which is completed when the page is full or when the scan is finished.
+     */
+    CompletableFuture<List<BinaryRow>> nextPage() {
+        CompletableFuture<List<BinaryRow>> fut;
+        Throwable err0;
+
+        synchronized (this) {
+            assert pageFut == null : "Page is already requested";
+
+            err0 = err;
+
+            if (err0 == null) {
+                if (done || buf.size() >= pageSize) {
+                    fut = CompletableFuture.completedFuture(takePage());
+                } else {
+                    fut = pageFut = new CompletableFuture<>();
+                }
+            } else {
+                fut = CompletableFuture.failedFuture(err0);
+            }
+        }
+
+        if (err0 == null) {
+            requestRows();
+        }
+
+        return fut;
+    }
+
+    /**
+     * Gets a value indicating whether there are more rows to fetch. The value can only change from {@code true} to {@code false}.
+     *
+     * @return Whether there are more rows to fetch.
+     */
+    synchronized boolean hasMore() {
+        return !done || !buf.isEmpty();
+    }
+
+    /**
+     * Writes the page: the rows are upgraded to the latest schema, so that the client needs a single schema to read them.
+     *
+     * @param out        Packer.
+     * @param page       Page.
+     * @param hasMore    Whether there are more pages.
+     * @param binaryRows Whether the client accepts tuples in the binary row format.
+     * @throws IgniteException If a projected column does not exist.
+     */
+    void writePage(ClientMessagePacker out, List<BinaryRow> page, boolean hasMore, boolean binaryRows) {
+        SchemaDescriptor schema = schemaReg.schema();
+        Column[] cols = projection(schema, columns);
+
+        out.packInt(schema.version());
+        out.packArrayHeader(page.size());
+
+        for (BinaryRow row : page) {
+            Tuple tuple = TableRow.tuple(schemaReg.resolve(row, schema));
+
+            if (cols == null) {
+                ClientTableCommon.writeTuple(out, tuple, schema, true, TuplePart.KEY_AND_VAL, binaryRows);
+            } else {
+                for (Column col : cols) {
+                    ClientTableCommon.writeColumnValue(out, tuple, col);
+                }
+            }
+        }
+
+        out.packBoolean(hasMore);
+    }
+
+    /**
+     * Resolves the projected columns.
+     *
+     * @param schema  Schema.
+     * @param columns Names of the projected columns, or {@code null} to project all columns.
+     * @return Projected columns, or {@code null} to project all columns.
+     * @throws IgniteException If a projected column does not exist.
+     */
+    static @Nullable Column[] projection(SchemaDescriptor schema, @Nullable String[] columns) {
+        if (columns == null) {
+            return null;
+        }
+
+        var cols = new Column[columns.length];
+
+        for (int i = 0; i < cols.length; i++) {
+            cols[i] = schema.column(columns[i]);
+
+            if (cols[i] == null) {
+                throw new IgniteException("Column does not exist: " + columns[i]);
+            }
+        }
+
+        return cols;
+    }
+
+    /**
+     * Closes the cursor and cancels the scan.
+     */
+    void close() {
+        Flow.Subscription s;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            s = subscription;
+            subscription = null;
+            buf.clear();
+        }
+
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        boolean cancel;
+
+        synchronized (this) {
+            cancel = closed;
+
+            if (!cancel) {
+                this.subscription = subscription;
+                requested = 0;
+            }
+        }
+
+        if (cancel) {
+            subscription.cancel();
+        } else {
+            requestRows();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onNext(BinaryRow item) {
+        boolean matches;
+
+        try {
+            matches = filter == null || filter.test(schemaReg.resolve(item));
+        } catch (Throwable t) {
+            Flow.Subscription s;
+
+            synchronized (this) {
+                s = subscription;
+            }
+
+            if (s != null) {
+                s.cancel();
+            }
+
+            onError(t);
+
+            return;
+        }
+
+        CompletableFuture<List<BinaryRow>> fut = null;
+        List<BinaryRow> page = null;
+        boolean more;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            requested--;
+
+            if (matches) {
+                buf.add(item);
+
+                if (pageFut != null && buf.size() >= pageSize) {
+                    fut = pageFut;
+                    page = takePage();
+                }
+            }
+
+            more = requested == 0;
+        }
+
+        if (fut != null) {
+            fut.complete(page);
+        }
+
+        if (more) {
+            requestRows();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onError(Throwable throwable) {
+        CompletableFuture<List<BinaryRow>> fut;
+
+        synchronized (this) {
+            subscription = null;
+            err = throwable;
+            fut = pageFut;
+            pageFut = null;
+        }
+
+        if (fut != null) {
+            fut.completeExceptionally(throwable);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onComplete() {
+        CompletableFuture<List<BinaryRow>> fut = null;
+        List<BinaryRow> page = null;
+        int nextPart = -1;
+
+        synchronized (this) {
+            subscription = null;
+            requested = 0;
+
+            if (closed) {
+                return;
+            }
+
+            if (++partIdx < partitions.length) {
+                nextPart = partitions[partIdx];
+            } else {
+                done = true;
+
+                if (pageFut != null) {
+                    fut = pageFut;
+                    page = takePage();
+                }
+            }
+        }
+
+        if (nextPart >= 0) {
+            try {
+                table.scan(nextPart, tx).subscribe(this);
+            } catch (Throwable t) {
+                onError(t);
+            }
+        } else if (fut != null) {
+            fut.complete(page);
+        }
+    }
+
+    /**
+     * Requests more rows from the current partition, if needed: up to the page size while the client waits for a page or when
+     * prefetch is enabled.
+     */
+    private void requestRows() {
+        Flow.Subscription s;
+        long n;
+
+        synchronized (this) {
+            s = subscription;
+
+            if (s == null || closed || requested > 0 || (pageFut == null && !prefetch)) {
+                return;
+            }
+
+            n = pageSize - buf.size();
+
+            if (n <= 0) {
+                return;
+            }
+
+            requested = n;
+        }
+
+        s.request(n);
+    }
+
+    /**
+     * Takes the page from the buffer and resets the page future. Must be called under the lock.
+     *
+     * @return Page.
+     */
+    private List<BinaryRow> takePage() {
+        assert Thread.holdsLock(this);
+
+        pageFut = null;
+
+        int size = Math.min(pageSize, buf.size());
+        var page = new ArrayList<BinaryRow>(size);
+
+        for (int i = 0; i < size; i++) {
+            page.add(buf.poll());
+        }
+
+        return page;
+    }
+
+    /**
+     * Creates a row filter which compares the column value with the filter value. {@code null} column values never match
+     * the comparisons, like in SQL.
+     *
+     * @param colName Column name.
+     * @param op      Comparison.
+     * @param val     Filter value.
+     * @return Row filter.
+     * @throws IgniteException If the comparison is not supported by the column type.
+     */
+    static Predicate<Row> filter(String colName, TableScanFilterOp op, @Nullable Object val) {
+        switch (op) {
+            case IS_NULL:
+                return row -> value(row, colName) == null;
+
+            case IS_NOT_NULL:
+                return row -> value(row, colName) != null;
+
+            case EQ:
+                return row -> equals(value(row, colName), val);
+
+            case NOT_EQ:
+                return row -> {
+                    Object v = value(row, colName);
+
+                    return v != null && val != null && !equals(v, val);
+                };
+
+            default:
+                if (val != null && !(val instanceof Comparable)) {
+                    throw new IgniteException("Column '" + colName + "' does not support the comparison: " + op);
+                }
+
+                return row -> {
+                    Object v = value(row, colName);
+
+                    if (v == null || val == null) {
+                        return false;
+                    }
+
+                    int cmp = compare(v, val);
+
+                    switch (op) {
+                        case LT:
+                            return cmp < 0;
+
+                        case LTE:
+                            return cmp <= 0;
+
+                        case GT:
+                            return cmp > 0;
+
+                        default:
+                            return cmp >= 0;
+                    }
+                };
+        }
+    }
+
+    private static @Nullable Object value(Row row, String colName) {
+        Column col = row.schema().column(colName);
+
+        return col == null ? null : row.value(col.schemaIndex());
+    }
+
+    private static boolean equals(@Nullable Object v, @Nullable Object val) {
+        if (v == null || val == null) {
+            return false;
+        }
+
+        if (v instanceof byte[] && val instanceof byte[]) {
+            return Arrays.equals((byte[]) v, (byte[]) val);
+        }
+
+        // Compare decimals regardless of the scale.
+        if (v instanceof Comparable && v.getClass() == val.getClass()) {
+            return compare(v, val) == 0;
+        }
+
+        return v.equals(val);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Object v, Object val) {
+        try {
+            return ((Comparable<Object>) v).compareTo(val);
+        } catch (ClassCastException e) {
+            throw new IgniteException("Incorrect filter value type for column: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.client.handler.requests.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.table.Tuple;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link ClientTableCommon} testing.
+ */
+public class ClientTableCommonTest {
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(
+            1,
+            new Column[]{new Column("ID", NativeTypes.INT64, false)},
+            new Column[]{new Column("NAME", NativeTypes.stringOf(5), false)}
+    );
+
+    @Test
+    void testReadBinaryRow() {
+        Tuple tuple = readTuple(binaryRow(SCHEMA, "name"));
+
+        assertEquals(1L, tuple.longValue("ID"));
+        assertEquals("name", tuple.stringValue("NAME"));
+    }
+
+    @Test
+    void testReadBinaryRowWithTooLongValue() {
+        // Same layout, but the value doesn't fit the column.
+        SchemaDescriptor writerSchema = new SchemaDescriptor(
+                1,
+                new Column[]{new Column("ID", NativeTypes.INT64, false)},
+                new Column[]{new Column("NAME", NativeTypes.stringOf(10), false)}
+        );
+
+        IgniteException ex = assertThrows(IgniteException.class, () -> readTuple(binaryRow(writerSchema, "too long")));
+
+        assertTrue(ex.getMessage().contains("column=NAME"), ex.getMessage());
+    }
+
+    private static byte[] binaryRow(SchemaDescriptor schema, String name) {
+        return new RowAssembler(schema, 0, 0, name.length(), 1)
+                .appendLong(1L)
+                .appendString(name)
+                .toBytes();
+    }
+
+    private static Tuple readTuple(byte[] row) {
+        try (var packer = new ClientMessagePacker(PooledByteBufAllocator.DEFAULT.directBuffer())) {
+            packer.packBinaryRow(row);
+
+            var buf = packer.getBuffer();
+
+            // Message length.
+            buf.readInt();
+
+            byte[] data = new byte[buf.readableBytes()];
+            buf.readBytes(data);
+
+            try (var unpacker = new ClientMessageUnpacker(Unpooled.wrappedBuffer(data))) {
+                return ClientTableCommon.readTuple(unpacker, false, SCHEMA);
+            }
+        }
+    }
+}
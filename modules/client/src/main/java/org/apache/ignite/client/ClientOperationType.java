@@ -19,7 +19,9 @@ package org.apache.ignite.client;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.Flow;
 import org.apache.ignite.sql.async.AsyncResultSet;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.manager.IgniteTables;
 import org.apache.ignite.tx.Transaction;
@@ -131,5 +133,25 @@ public enum ClientOperationType {
     /**
      * SQL Cursor Next Page ({@link AsyncResultSet#fetchNextPage()}).
      */
-    SQL_CURSOR_NEXT_PAGE
+    SQL_CURSOR_NEXT_PAGE,
+
+    /**
+     * SQL Prepare (execution of a {@link org.apache.ignite.sql.Statement#prepared() prepared} statement).
+     */
+    SQL_PREPARE,
+
+    /**
+     * Send Data Streamer Batch ({@link org.apache.ignite.table.DataStreamerTarget#streamData(Flow.Publisher, DataStreamerOptions)}).
+     */
+    STREAMER_BATCH_SEND,
+
+    /**
+     * Scan Table or Partition ({@link org.apache.ignite.internal.client.table.ClientTable#scanAsync}).
+     */
+    TABLE_SCAN,
+
+    /**
+     * Table Scan Next Page ({@link org.apache.ignite.internal.client.table.ClientTableScanCursor#fetchNextPage()}).
+     */
+    TABLE_SCAN_NEXT_PAGE
 }
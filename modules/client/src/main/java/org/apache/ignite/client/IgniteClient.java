@@ -88,6 +88,9 @@ public interface IgniteClient extends Ignite {
         /** Retry policy. */
         private RetryPolicy retryPolicy = new RetryReadPolicy();
 
+        /** Whether compression is enabled. */
+        private boolean compressionEnabled;
+
         /**
          * Sets the addresses of Ignite server nodes within a cluster. An address can be an IP address or a hostname, with or without port.
          * If port is not set then Ignite will generate multiple addresses for default port range. See {@link
@@ -223,6 +226,22 @@ public interface IgniteClient extends Ignite {
             return this;
         }
 
+        /**
+         * Sets a value indicating whether the client requests the server to compress large messages. Default is {@code false}.
+         *
+         * <p>Compression reduces the traffic for large responses, such as the results of bulk reads and SQL result pages,
+         * at the cost of extra CPU work on both sides. It is useful when the network bandwidth between the client and the cluster
+         * is limited. Compression is not used if the server does not support or disables it.
+         *
+         * @param compressionEnabled Whether compression is enabled.
+         * @return This instance.
+         */
+        public Builder compressionEnabled(boolean compressionEnabled) {
+            this.compressionEnabled = compressionEnabled;
+
+            return this;
+        }
+
         /**
          * Builds the client.
          *
@@ -246,7 +265,8 @@ public interface IgniteClient extends Ignite {
                     reconnectThrottlingRetries,
                     asyncContinuationExecutor,
                     heartbeatInterval,
-                    retryPolicy);
+                    retryPolicy,
+                    compressionEnabled);
 
             return TcpIgniteClient.startAsync(cfg);
         }
@@ -119,4 +119,15 @@ public interface IgniteClientConfiguration {
      * @return Heartbeat interval.
      */
     public long heartbeatInterval();
+
+    /**
+     * Gets a value indicating whether the client requests the server to compress large messages. Default is {@code false}.
+     *
+     * <p>Compression reduces the traffic for large responses, such as the results of bulk reads and SQL result pages,
+     * at the cost of extra CPU work on both sides. It is useful when the network bandwidth between the client and the cluster
+     * is limited. Compression is not used if the server does not support or disables it.
+     *
+     * @return Whether compression is enabled.
+     */
+    public boolean compressionEnabled();
 }
@@ -17,7 +17,7 @@
 
 package org.apache.ignite.client;
 
-import org.apache.ignite.internal.client.ProtocolBitmaskFeature;
+import org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature;
 
 /**
  * Indicates that thin client feature is not supported by the server.
@@ -34,6 +34,8 @@ public class RetryReadPolicy extends RetryLimitPolicy {
             case TUPLE_GET_ALL:
             case TUPLE_GET:
             case TABLE_GET:
+            case TABLE_SCAN:
+            case SQL_PREPARE:
                 return true;
 
             case TUPLE_UPSERT:
@@ -50,6 +52,8 @@ public class RetryReadPolicy extends RetryLimitPolicy {
             case TUPLE_INSERT:
             case TUPLE_GET_AND_UPSERT:
             case TUPLE_UPSERT_ALL:
+            case STREAMER_BATCH_SEND:
+            case TABLE_SCAN_NEXT_PAGE:
                 return false;
 
             default:
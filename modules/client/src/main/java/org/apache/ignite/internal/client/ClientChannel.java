@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.client;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
 import org.apache.ignite.client.IgniteClientAuthorizationException;
 import org.apache.ignite.client.IgniteClientConnectionException;
 import org.apache.ignite.client.IgniteClientException;
@@ -57,4 +58,11 @@ public interface ClientChannel extends AutoCloseable {
      * @return Protocol context.
      */
     public ProtocolContext protocolContext();
+
+    /**
+     * Adds a listener of the server notifications.
+     *
+     * @param lsnr Listener accepting the notification type, see {@code ServerNotificationType}.
+     */
+    public void addNotificationListener(IntConsumer lsnr);
 }
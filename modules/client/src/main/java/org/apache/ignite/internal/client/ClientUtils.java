@@ -88,6 +88,9 @@ public class ClientUtils {
             case ClientOp.SCHEMAS_GET:
                 return null;
 
+            case ClientOp.PARTITION_ASSIGNMENT_GET:
+                return null;
+
             case ClientOp.TUPLE_UPSERT:
                 return ClientOperationType.TUPLE_UPSERT;
 
@@ -163,6 +166,11 @@ public class ClientUtils {
             case ClientOp.JDBC_QUERY_META:
                 return null;
 
+            case ClientOp.JDBC_PREPARE:
+            case ClientOp.JDBC_EXEC_PREPARED:
+            case ClientOp.JDBC_PREPARED_CLOSE:
+                return null;
+
             case ClientOp.TX_BEGIN:
             case ClientOp.TX_COMMIT:
             case ClientOp.TX_ROLLBACK:
@@ -187,6 +195,27 @@ public class ClientUtils {
             case ClientOp.SQL_CURSOR_CLOSE:
                 return null;
 
+            case ClientOp.SQL_PREPARE:
+                return ClientOperationType.SQL_PREPARE;
+
+            case ClientOp.SQL_EXEC_PREPARED:
+                return ClientOperationType.SQL_EXECUTE;
+
+            case ClientOp.SQL_PREPARED_CLOSE:
+                return null;
+
+            case ClientOp.STREAMER_BATCH_SEND:
+                return ClientOperationType.STREAMER_BATCH_SEND;
+
+            case ClientOp.TABLE_SCAN:
+                return ClientOperationType.TABLE_SCAN;
+
+            case ClientOp.TABLE_SCAN_NEXT_PAGE:
+                return ClientOperationType.TABLE_SCAN_NEXT_PAGE;
+
+            case ClientOp.TABLE_SCAN_CURSOR_CLOSE:
+                return null;
+
             // Do not return null from default arm intentionally, so we don't forget to update this when new ClientOp values are added.
             default:
                 throw new UnsupportedOperationException("Invalid op code: " + opCode);
@@ -51,6 +51,9 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
     /** Retry policy. */
     private final RetryPolicy retryPolicy;
 
+    /** Whether compression is enabled. */
+    private final boolean compressionEnabled;
+
     /**
      * Constructor.
      *
@@ -60,6 +63,7 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
      * @param asyncContinuationExecutor Async continuation executor.
      * @param heartbeatInterval         Heartbeat message interval.
      * @param retryPolicy               Retry policy.
+     * @param compressionEnabled        Whether compression is enabled.
      */
     public IgniteClientConfigurationImpl(
             IgniteClientAddressFinder addressFinder,
@@ -69,7 +73,8 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
             int reconnectThrottlingRetries,
             Executor asyncContinuationExecutor,
             long heartbeatInterval,
-            RetryPolicy retryPolicy) {
+            RetryPolicy retryPolicy,
+            boolean compressionEnabled) {
         this.addressFinder = addressFinder;
 
         //noinspection AssignmentOrReturnOfFieldWithMutableType (cloned in Builder).
@@ -81,6 +86,7 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
         this.asyncContinuationExecutor = asyncContinuationExecutor;
         this.heartbeatInterval = heartbeatInterval;
         this.retryPolicy = retryPolicy;
+        this.compressionEnabled = compressionEnabled;
     }
 
     /** {@inheritDoc} */
@@ -130,4 +136,10 @@ public final class IgniteClientConfigurationImpl implements IgniteClientConfigur
     public @Nullable RetryPolicy retryPolicy() {
         return retryPolicy;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean compressionEnabled() {
+        return compressionEnabled;
+    }
 }
@@ -31,6 +31,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiFunction;
@@ -45,6 +46,7 @@ import org.apache.ignite.client.RetryPolicy;
 import org.apache.ignite.client.RetryPolicyContext;
 import org.apache.ignite.internal.client.io.ClientConnectionMultiplexer;
 import org.apache.ignite.internal.client.io.netty.NettyClientConnectionMultiplexer;
+import org.apache.ignite.internal.client.proto.ServerNotificationType;
 import org.apache.ignite.network.ClusterNode;
 
 /**
@@ -75,6 +77,9 @@ public final class ReliableChannel implements AutoCloseable {
     /** Fail (disconnect) listeners. */
     private final ArrayList<Runnable> chFailLsnrs = new ArrayList<>();
 
+    /** Version of the partition assignment, changes when the partition assignment of any table may have changed. */
+    private final AtomicLong partitionAssignmentVer = new AtomicLong();
+
     /** Guard channels and curChIdx together. */
     private final ReadWriteLock curChannelsGuard = new ReentrantReadWriteLock();
 
@@ -142,6 +147,16 @@ public final class ReliableChannel implements AutoCloseable {
         return res;
     }
 
+    /**
+     * Returns whether the client is configured to connect to multiple nodes, otherwise all requests are sent to the default
+     * channel.
+     *
+     * @return {@code True} if there are multiple channels.
+     */
+    public boolean hasMultipleChannels() {
+        return channels.size() > 1;
+    }
+
     /**
      * Sends request and handles response asynchronously.
      *
@@ -366,6 +381,9 @@ public final class ReliableChannel implements AutoCloseable {
 
         chFailLsnrs.forEach(Runnable::run);
 
+        // Partitions led by the node are reassigned.
+        partitionAssignmentVer.incrementAndGet();
+
         // Roll current channel even if a topology changes. To help find working channel faster.
         rollCurrentChannel(hld);
 
@@ -383,6 +401,27 @@ public final class ReliableChannel implements AutoCloseable {
         chFailLsnrs.add(chFailLsnr);
     }
 
+    /**
+     * Returns the partition assignment version. The version changes when the partition assignment of any table may have
+     * changed: the server notified about a change or a connection was established or lost.
+     *
+     * @return Partition assignment version.
+     */
+    public long partitionAssignmentVersion() {
+        return partitionAssignmentVer.get();
+    }
+
+    /**
+     * Handles a server notification.
+     *
+     * @param notificationType Notification type.
+     */
+    private void onNotification(int notificationType) {
+        if (notificationType == ServerNotificationType.PARTITION_ASSIGNMENT_CHANGED) {
+            partitionAssignmentVer.incrementAndGet();
+        }
+    }
+
     /**
      * Should the channel initialization be stopped.
      */
@@ -688,6 +727,8 @@ public final class ReliableChannel implements AutoCloseable {
 
                     ch = chFactory.apply(chCfg, connMgr);
 
+                    ch.addNotificationListener(ReliableChannel.this::onNotification);
+
                     String newNodeId = ch.protocolContext().clusterNode().name();
 
                     // There could be multiple holders map to the same serverNodeId if user provide the same
@@ -700,6 +741,9 @@ public final class ReliableChannel implements AutoCloseable {
                     }
 
                     serverNodeId = newNodeId;
+
+                    // The new node may lead partitions.
+                    partitionAssignmentVer.incrementAndGet();
                 }
             }
 
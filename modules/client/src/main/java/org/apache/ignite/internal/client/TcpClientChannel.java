@@ -23,16 +23,20 @@ import io.netty.channel.ChannelFuture;
 import java.net.InetSocketAddress;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
 import org.apache.ignite.client.IgniteClientAuthenticationException;
 import org.apache.ignite.client.IgniteClientAuthorizationException;
 import org.apache.ignite.client.IgniteClientConnectionException;
@@ -43,9 +47,11 @@ import org.apache.ignite.internal.client.io.ClientConnectionStateHandler;
 import org.apache.ignite.internal.client.io.ClientMessageHandler;
 import org.apache.ignite.internal.client.proto.ClientErrorCode;
 import org.apache.ignite.internal.client.proto.ClientMessageCommon;
+import org.apache.ignite.internal.client.proto.ClientMessageDecompressor;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
+import org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature;
 import org.apache.ignite.internal.client.proto.ProtocolVersion;
 import org.apache.ignite.internal.client.proto.ServerMessageType;
 import org.apache.ignite.lang.IgniteException;
@@ -95,6 +101,15 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
     /** Last send operation timestamp. */
     private volatile long lastSendMillis;
 
+    /** Notification listeners. */
+    private final List<IntConsumer> notificationLsnrs = new CopyOnWriteArrayList<>();
+
+    /** Whether the client requests compression. */
+    private final boolean compressionEnabled;
+
+    /** Decompressor of the server messages, {@code null} if compression is not negotiated. */
+    private volatile @Nullable ClientMessageDecompressor decompressor;
+
     /**
      * Constructor.
      *
@@ -109,6 +124,7 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
                 : cfg.clientConfiguration().asyncContinuationExecutor();
 
         connectTimeout = cfg.clientConfiguration().connectTimeout();
+        compressionEnabled = cfg.clientConfiguration().compressionEnabled();
 
         sock = connMgr.open(cfg.getAddress(), this, this);
 
@@ -139,6 +155,12 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
 
             sock.close();
 
+            var decompressor0 = decompressor;
+
+            if (decompressor0 != null) {
+                decompressor0.close();
+            }
+
             for (ClientRequestFuture pendingReq : pendingReqs.values()) {
                 pendingReq.completeExceptionally(new IgniteClientConnectionException("Channel is closed", cause));
             }
@@ -149,6 +171,13 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
     @Override
     public void onMessage(ByteBuf buf) {
         try {
+            var decompressor0 = decompressor;
+
+            if (decompressor0 != null && protocolCtx != null) {
+                // Releases the original buffer on success only.
+                buf = decompressor0.decode(buf);
+            }
+
             processNextMessage(buf);
         } catch (Throwable t) {
             buf.release();
@@ -290,6 +319,11 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
 
         var type = unpacker.unpackInt();
 
+        if (type == ServerMessageType.NOTIFICATION) {
+            processNotification(unpacker);
+            return;
+        }
+
         if (type != ServerMessageType.RESPONSE) {
             throw new IgniteClientException("Unexpected message type: " + type);
         }
@@ -315,6 +349,25 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
         }
     }
 
+    /**
+     * Process a notification message.
+     */
+    private void processNotification(ClientMessageUnpacker unpacker) {
+        try (unpacker) {
+            int notificationType = unpacker.unpackInt();
+
+            for (IntConsumer lsnr : notificationLsnrs) {
+                lsnr.accept(notificationType);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addNotificationListener(IntConsumer lsnr) {
+        notificationLsnrs.add(lsnr);
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean closed() {
@@ -370,7 +423,16 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
 
         req.packInt(2); // Client type: general purpose.
 
-        req.packBinaryHeader(0); // Features.
+        EnumSet<ProtocolBitmaskFeature> supportedFeatures = ProtocolBitmaskFeature.allFeaturesAsEnumSet();
+
+        if (!compressionEnabled) {
+            supportedFeatures.remove(ProtocolBitmaskFeature.COMPRESSION);
+        }
+
+        byte[] features = ProtocolBitmaskFeature.featuresAsBytes(supportedFeatures);
+
+        req.packBinaryHeader(features.length); // Features.
+        req.writePayload(features);
         req.packMapHeader(0); // Extensions.
 
         write(req).syncUninterruptibly();
@@ -413,12 +475,16 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
             var clusterNode = new ClusterNode(clusterNodeId, clusterNodeName, new NetworkAddress(addr.getHostName(), addr.getPort()));
 
             var featuresLen = unpacker.unpackBinaryHeader();
-            unpacker.skipValues(featuresLen);
+            var features = ProtocolBitmaskFeature.enumSet(unpacker.readPayload(featuresLen));
 
             var extensionsLen = unpacker.unpackMapHeader();
             unpacker.skipValues(extensionsLen);
 
-            protocolCtx = new ProtocolContext(srvVer, ProtocolBitmaskFeature.allFeaturesAsEnumSet(), serverIdleTimeout, clusterNode);
+            if (features.contains(ProtocolBitmaskFeature.COMPRESSION)) {
+                decompressor = new ClientMessageDecompressor();
+            }
+
+            protocolCtx = new ProtocolContext(srvVer, features, serverIdleTimeout, clusterNode);
         }
     }
 
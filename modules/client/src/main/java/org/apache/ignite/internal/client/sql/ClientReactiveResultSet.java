@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.sql;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.util.FuturePublisher;
+import org.apache.ignite.internal.util.PagedPublisher;
+import org.apache.ignite.sql.ResultSetMetadata;
+import org.apache.ignite.sql.SqlRow;
+import org.apache.ignite.sql.async.AsyncResultSet;
+import org.apache.ignite.sql.reactive.ReactiveResultSet;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Client reactive result set.
+ *
+ * <p>The query is sent to the server when any of the publishers is requested for data. The next page is requested with
+ * {@link org.apache.ignite.internal.client.proto.ClientOp#SQL_CURSOR_NEXT_PAGE} only when the rows of the current page are delivered
+ * and the subscriber has demand for more, so at most one page is buffered on the client.
+ */
+class ClientReactiveResultSet implements ReactiveResultSet {
+    /** Query starter. */
+    private final Supplier<CompletableFuture<AsyncResultSet>> qry;
+
+    /** Rows publisher. */
+    private final PagedPublisher<SqlRow> rows;
+
+    /** Result set future, {@code null} until the query is started. */
+    private volatile @Nullable CompletableFuture<AsyncResultSet> resFut;
+
+    /**
+     * Constructor.
+     *
+     * @param qry Query starter.
+     */
+    ClientReactiveResultSet(Supplier<CompletableFuture<AsyncResultSet>> qry) {
+        this.qry = qry;
+
+        rows = new PagedPublisher<>(new RowSource());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Flow.Subscriber<? super SqlRow> subscriber) {
+        rows.subscribe(subscriber);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Flow.Publisher<@Nullable ResultSetMetadata> metadata() {
+        return new FuturePublisher<>(() -> resultSet().thenApply(AsyncResultSet::metadata));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Flow.Publisher<Boolean> hasRowSet() {
+        return new FuturePublisher<>(() -> resultSet().thenApply(AsyncResultSet::hasRowSet));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Flow.Publisher<Long> affectedRows() {
+        return new FuturePublisher<>(() -> resultSet().thenApply(AsyncResultSet::affectedRows));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Flow.Publisher<Boolean> wasApplied() {
+        return new FuturePublisher<>(() -> resultSet().thenApply(AsyncResultSet::wasApplied));
+    }
+
+    /**
+     * Sends the query if it is not sent yet.
+     *
+     * @return Result set future.
+     */
+    private CompletableFuture<AsyncResultSet> resultSet() {
+        CompletableFuture<AsyncResultSet> fut = resFut;
+
+        if (fut == null) {
+            synchronized (this) {
+                fut = resFut;
+
+                if (fut == null) {
+                    resFut = fut = qry.get();
+                }
+            }
+        }
+
+        return fut;
+    }
+
+    /**
+     * Source of the result rows.
+     */
+    private class RowSource implements PagedPublisher.PageSource<SqlRow> {
+        /** Whether the first page, received with the query response, is delivered. */
+        private volatile boolean firstPageFetched;
+
+        /** Whether the server cursor has more pages. */
+        private volatile boolean hasMore = true;
+
+        /** {@inheritDoc} */
+        @Override
+        public CompletionStage<? extends Iterable<SqlRow>> nextPage(int maxItems) {
+            return resultSet().thenCompose(rs -> {
+                if (!rs.hasRowSet()) {
+                    hasMore = false;
+
+                    return CompletableFuture.completedFuture(List.of());
+                }
+
+                CompletionStage<? extends AsyncResultSet> pageFut;
+
+                if (firstPageFetched) {
+                    pageFut = rs.fetchNextPage();
+                } else {
+                    firstPageFetched = true;
+
+                    pageFut = CompletableFuture.completedFuture(rs);
+                }
+
+                return pageFut.thenApply(page -> {
+                    hasMore = page.hasMorePages();
+
+                    return page.currentPage();
+                });
+            });
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasMorePages() {
+            return hasMore;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CompletionStage<Void> closeAsync() {
+            CompletableFuture<AsyncResultSet> fut = resFut;
+
+            if (fut == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            return fut.thenCompose(AsyncResultSet::closeAsync);
+        }
+    }
+}
@@ -26,9 +26,11 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.client.ClientChannel;
 import org.apache.ignite.internal.client.PayloadOutputChannel;
 import org.apache.ignite.internal.client.ReliableChannel;
 import org.apache.ignite.internal.client.proto.ClientOp;
+import org.apache.ignite.internal.client.tx.ClientTransaction;
 import org.apache.ignite.sql.BatchedArguments;
 import org.apache.ignite.sql.Session;
 import org.apache.ignite.sql.Statement;
@@ -102,6 +104,10 @@ public class ClientSession implements Session {
 
         ClientStatement clientStatement = (ClientStatement) statement;
 
+        if (clientStatement.prepared()) {
+            return executePreparedAsync(transaction, clientStatement, arguments);
+        }
+
         return ch.serviceAsync(ClientOp.SQL_EXEC, w -> {
             writeTx(transaction, w);
 
@@ -114,30 +120,52 @@ public class ClientSession implements Session {
             w.out().packObject(clientStatement.query());
             w.out().packBoolean(clientStatement.prepared());
 
-            if (arguments == null) {
-                w.out().packArrayHeader(0);
-            } else {
-                w.out().packArrayHeader(arguments.length);
-
-                for (int i = 0; i < arguments.length; i++) {
-                    w.out().packObjectWithType(arguments[i]);
-                }
-            }
+            packArguments(w, arguments);
         }, r -> new ClientAsyncResultSet(r.clientChannel(), r.in()));
     }
 
+    /**
+     * Executes the statement with the server-side handle, so the server neither parses nor plans the query again.
+     *
+     * @param transaction Transaction.
+     * @param statement Prepared statement.
+     * @param arguments Arguments.
+     * @return Result set future.
+     */
+    private CompletableFuture<AsyncResultSet> executePreparedAsync(
+            @Nullable Transaction transaction,
+            ClientStatement statement,
+            @Nullable Object... arguments) {
+        // The handle is valid only within the connection it is requested with, so is the transaction.
+        ClientChannel target = transaction instanceof ClientTransaction ? ((ClientTransaction) transaction).channel() : null;
+
+        return statement.prepareAsync(ch, target, oneOf(statement.defaultSchema(), defaultSchema))
+                .thenCompose(handle -> handle.channel().serviceAsync(ClientOp.SQL_EXEC_PREPARED, w -> {
+                    writeTx(transaction, w);
+
+                    w.out().packLong(handle.id());
+                    w.out().packObject(oneOf(statement.pageSizeNullable(), defaultPageSize));
+                    w.out().packObject(oneOf(statement.queryTimeoutNullable(), defaultTimeout));
+
+                    packProperties(w, statement.properties());
+                    packArguments(w, arguments);
+                }, r -> new ClientAsyncResultSet(r.clientChannel(), r.in())));
+    }
+
     /** {@inheritDoc} */
     @Override
     public ReactiveResultSet executeReactive(@Nullable Transaction transaction, String query, @Nullable Object... arguments) {
-        // TODO IGNITE-17058.
-        throw new UnsupportedOperationException("Not implemented yet.");
+        Objects.requireNonNull(query);
+
+        return new ClientReactiveResultSet(() -> executeAsync(transaction, query, arguments));
     }
 
     /** {@inheritDoc} */
     @Override
     public ReactiveResultSet executeReactive(@Nullable Transaction transaction, Statement statement, @Nullable Object... arguments) {
-        // TODO IGNITE-17058.
-        throw new UnsupportedOperationException("Not implemented yet.");
+        Objects.requireNonNull(statement);
+
+        return new ClientReactiveResultSet(() -> executeAsync(transaction, statement, arguments));
     }
 
     /** {@inheritDoc} */
@@ -287,6 +315,18 @@ public class ClientSession implements Session {
         }
     }
 
+    private static void packArguments(PayloadOutputChannel w, @Nullable Object[] arguments) {
+        if (arguments == null) {
+            w.out().packArrayHeader(0);
+        } else {
+            w.out().packArrayHeader(arguments.length);
+
+            for (int i = 0; i < arguments.length; i++) {
+                w.out().packObjectWithType(arguments[i]);
+            }
+        }
+    }
+
     private static <T> T oneOf(T a, T b) {
         return a != null ? a : b;
     }
@@ -19,7 +19,13 @@ package org.apache.ignite.internal.client.sql;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.client.ClientChannel;
+import org.apache.ignite.internal.client.PayloadReader;
+import org.apache.ignite.internal.client.PayloadWriter;
+import org.apache.ignite.internal.client.ReliableChannel;
+import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.sql.Statement;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -46,6 +52,12 @@ public class ClientStatement implements Statement {
     /** Properties. */
     private final Map<String, Object> properties;
 
+    /** Server-side handle of the prepared statement, {@code null} until the statement is executed. */
+    private @Nullable CompletableFuture<PreparedHandle> handleFut;
+
+    /** Schema the statement is prepared with. */
+    private @Nullable String handleSchema;
+
     /**
      * Constructor.
      *
@@ -168,6 +180,121 @@ public class ClientStatement implements Statement {
     /** {@inheritDoc} */
     @Override
     public void close() throws Exception {
-        // No-op.
+        CompletableFuture<PreparedHandle> fut;
+
+        synchronized (this) {
+            fut = handleFut;
+
+            handleFut = null;
+        }
+
+        if (fut != null) {
+            fut.thenAccept(PreparedHandle::close);
+        }
+    }
+
+    /**
+     * Gets the server-side handle of the prepared statement. The statement is prepared with {@link ClientOp#SQL_PREPARE} once per
+     * connection: a new handle is requested only when the connection of the current one is lost, when the request must be sent
+     * with another connection, or when the schema differs.
+     *
+     * @param ch Channel.
+     * @param target Connection the statement must be executed with, {@code null} if any.
+     * @param schema Schema name.
+     * @return Prepared statement handle future.
+     */
+    synchronized CompletableFuture<PreparedHandle> prepareAsync(
+            ReliableChannel ch,
+            @Nullable ClientChannel target,
+            @Nullable String schema
+    ) {
+        CompletableFuture<PreparedHandle> fut = handleFut;
+
+        if (fut != null) {
+            if (Objects.equals(schema, handleSchema) && usable(fut, target)) {
+                return fut;
+            }
+
+            fut.thenAccept(PreparedHandle::close);
+        }
+
+        PayloadWriter writer = w -> {
+            w.out().packObject(schema);
+            w.out().packString(query);
+        };
+
+        PayloadReader<PreparedHandle> reader = r -> new PreparedHandle(r.clientChannel(), r.in().unpackLong());
+
+        handleFut = fut = target == null
+                ? ch.serviceAsync(ClientOp.SQL_PREPARE, writer, reader)
+                : target.serviceAsync(ClientOp.SQL_PREPARE, writer, reader);
+        handleSchema = schema;
+
+        return fut;
+    }
+
+    private static boolean usable(CompletableFuture<PreparedHandle> fut, @Nullable ClientChannel target) {
+        if (!fut.isDone()) {
+            // The connection is unknown until the statement is prepared.
+            return target == null;
+        }
+
+        if (fut.isCompletedExceptionally()) {
+            return false;
+        }
+
+        ClientChannel ch = fut.join().channel();
+
+        return !ch.closed() && (target == null || target == ch);
+    }
+
+    /**
+     * Server-side handle of the prepared statement.
+     */
+    static class PreparedHandle {
+        /** Connection the statement is prepared with. */
+        private final ClientChannel ch;
+
+        /** Handle ID. */
+        private final long id;
+
+        /**
+         * Constructor.
+         *
+         * @param ch Connection the statement is prepared with.
+         * @param id Handle ID.
+         */
+        PreparedHandle(ClientChannel ch, long id) {
+            this.ch = ch;
+            this.id = id;
+        }
+
+        /**
+         * Returns the connection the statement is prepared with.
+         *
+         * @return Channel.
+         */
+        ClientChannel channel() {
+            return ch;
+        }
+
+        /**
+         * Returns the handle ID.
+         *
+         * @return Handle ID.
+         */
+        long id() {
+            return id;
+        }
+
+        /**
+         * Releases the handle on the server.
+         */
+        void close() {
+            // The handles of a lost connection are released by the server.
+            if (!ch.closed()) {
+                ch.serviceAsync(ClientOp.SQL_PREPARED_CLOSE, w -> w.out().packLong(id), null);
+            }
+        }
     }
 }
@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.table;
+
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.CHUNK_HEADER_SIZE;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.DAY_FIELD_LENGTH;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.FORMAT_CODE_MASK;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.FORMAT_LARGE;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.FORMAT_MEDIUM;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.FORMAT_SKIPPED;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.FORMAT_TINY;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.HEADER_SIZE;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.HOUR_FIELD_LENGTH;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.MILLISECOND_PART_LEN;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.MILLISECOND_PART_MASK;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.MINUTES_FIELD_LENGTH;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.MONTH_FIELD_LENGTH;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.NANOSECOND_PART_LEN;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.NANOSECOND_PART_MASK;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.SECONDS_FIELD_LENGTH;
+import static org.apache.ignite.internal.client.table.ClientBinaryRowWriter.fixedSize;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.UUID;
+import org.apache.ignite.internal.client.proto.ClientDataType;
+import org.apache.ignite.lang.IgniteException;
+
+/**
+ * Reads the column values of a tuple sent by the server in the binary row format.
+ */
+public final class ClientBinaryRowReader {
+    /**
+     * Constructor.
+     */
+    private ClientBinaryRowReader() {
+        // No-op.
+    }
+
+    /**
+     * Reads the column values.
+     *
+     * @param schema Schema.
+     * @param bytes  Row bytes.
+     * @return Values by the column index; only the key column values if the row has no value.
+     */
+    public static Object[] read(ClientSchema schema, byte[] bytes) {
+        if (!schema.hasRowLayout()) {
+            throw new IgniteException("Binary row layout is unknown for the schema version: " + schema.version());
+        }
+
+        ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        ClientColumn[] cols = schema.columns();
+        int keyCnt = schema.keyColumnCount();
+
+        // Rows without a value have zero schema version.
+        boolean hasValue = buf.getShort(0) > 0;
+
+        Object[] res = new Object[hasValue ? cols.length : keyCnt];
+
+        int keyChunkLen = readChunk(buf, HEADER_SIZE, cols, 0, keyCnt, res);
+
+        if (hasValue) {
+            readChunk(buf, HEADER_SIZE + keyChunkLen, cols, keyCnt, cols.length, res);
+        }
+
+        return res;
+    }
+
+    /**
+     * Reads the values of a chunk.
+     *
+     * @param buf  Row buffer.
+     * @param base Chunk offset.
+     * @param cols Schema columns.
+     * @param from Index of the first column of the chunk.
+     * @param to   Index of the column after the last one of the chunk.
+     * @param res  Values.
+     * @return Chunk length.
+     */
+    private static int readChunk(ByteBuffer buf, int base, ClientColumn[] cols, int from, int to, Object[] res) {
+        int chunkLen = buf.getInt(base);
+        int format = buf.get(base + Integer.BYTES) & FORMAT_CODE_MASK;
+
+        boolean hasNullable = false;
+
+        for (int i = from; i < to; i++) {
+            hasNullable |= cols[i].nullable();
+        }
+
+        int nullMapOff = base + CHUNK_HEADER_SIZE;
+        int vartblOff = nullMapOff + (hasNullable ? (to - from + 7) / 8 : 0);
+        int entries = vartableSize(buf, vartblOff, format);
+        int dataOff = vartblOff + vartableLength(entries, format);
+        int chunkEnd = base + chunkLen;
+
+        int curOff = dataOff;
+        int varlenIdx = 0;
+
+        for (int i = from; i < to; i++) {
+            ClientColumn col = cols[i];
+            int idx = i - from;
+
+            if (hasNullable && (buf.get(nullMapOff + (idx >> 3)) & (1 << (idx & 7))) != 0) {
+                res[i] = null;
+
+                continue;
+            }
+
+            if (fixedSize(col.type())) {
+                res[i] = readFixed(buf, curOff, col);
+
+                curOff += fixedSize(col);
+            } else {
+                int end = varlenIdx < entries ? dataOff + varlenOffset(buf, vartblOff, varlenIdx, format) : chunkEnd;
+
+                res[i] = readVarlen(buf, curOff, end - curOff, col);
+
+                curOff = end;
+                varlenIdx++;
+            }
+        }
+
+        return chunkLen;
+    }
+
+    /**
+     * Reads the number of vartable entries.
+     *
+     * @param buf       Row buffer.
+     * @param vartblOff Vartable offset.
+     * @param format    Vartable format.
+     * @return Number of entries.
+     */
+    private static int vartableSize(ByteBuffer buf, int vartblOff, int format) {
+        switch (format) {
+            case FORMAT_SKIPPED:
+                return 0;
+
+            case FORMAT_TINY:
+                return Byte.toUnsignedInt(buf.get(vartblOff));
+
+            default:
+                return Short.toUnsignedInt(buf.getShort(vartblOff));
+        }
+    }
+
+    /**
+     * Gets the vartable length.
+     *
+     * @param entries Number of entries.
+     * @param format  Vartable format.
+     * @return Vartable length.
+     */
+    private static int vartableLength(int entries, int format) {
+        if (entries == 0) {
+            return 0;
+        }
+
+        switch (format) {
+            case FORMAT_TINY:
+                return Byte.BYTES + entries * Byte.BYTES;
+
+            case FORMAT_MEDIUM:
+                return Short.BYTES + entries * Short.BYTES;
+
+            default:
+                return Short.BYTES + entries * Integer.BYTES;
+        }
+    }
+
+    /**
+     * Reads a vartable entry: the offset of a varlen value, except the first one, relative to the chunk data.
+     *
+     * @param buf       Row buffer.
+     * @param vartblOff Vartable offset.
+     * @param entryIdx  Entry index.
+     * @param format    Vartable format.
+     * @return Offset.
+     */
+    private static int varlenOffset(ByteBuffer buf, int vartblOff, int entryIdx, int format) {
+        switch (format) {
+            case FORMAT_TINY:
+                return Byte.toUnsignedInt(buf.get(vartblOff + Byte.BYTES + entryIdx));
+
+            case FORMAT_MEDIUM:
+                return Short.toUnsignedInt(buf.getShort(vartblOff + Short.BYTES + entryIdx * Short.BYTES));
+
+            case FORMAT_LARGE:
+                return buf.getInt(vartblOff + Short.BYTES + entryIdx * Integer.BYTES);
+
+            default:
+                throw new IgniteException("Unexpected vartable format: " + format);
+        }
+    }
+
+    /**
+     * Reads a fixed size value.
+     *
+     * @param buf Row buffer.
+     * @param off Offset.
+     * @param col Column.
+     * @return Value.
+     */
+    private static Object readFixed(ByteBuffer buf, int off, ClientColumn col) {
+        switch (col.type()) {
+            case ClientDataType.INT8:
+                return buf.get(off);
+
+            case ClientDataType.INT16:
+                return buf.getShort(off);
+
+            case ClientDataType.INT32:
+                return buf.getInt(off);
+
+            case ClientDataType.INT64:
+                return buf.getLong(off);
+
+            case ClientDataType.FLOAT:
+                return buf.getFloat(off);
+
+            case ClientDataType.DOUBLE:
+                return buf.getDouble(off);
+
+            case ClientDataType.UUID:
+                long lsb = buf.getLong(off);
+                long msb = buf.getLong(off + 8);
+
+                return new UUID(msb, lsb);
+
+            case ClientDataType.BITMASK:
+                return BitSet.valueOf(Arrays.copyOfRange(buf.array(), off, off + fixedSize(col)));
+
+            case ClientDataType.DATE:
+                return readDate(buf, off);
+
+            case ClientDataType.TIME:
+                return readTime(buf, off, col.precision());
+
+            case ClientDataType.DATETIME:
+                return LocalDateTime.of(readDate(buf, off), readTime(buf, off + 3, col.precision()));
+
+            case ClientDataType.TIMESTAMP:
+                long seconds = buf.getLong(off);
+                int nanos = col.precision() != 0 ? buf.getInt(off + 8) : 0;
+
+                return Instant.ofEpochSecond(seconds, nanos);
+
+            default:
+                throw new IgniteException("Unexpected fixed size column type: " + col.type());
+        }
+    }
+
+    /**
+     * Reads a varlen value.
+     *
+     * @param buf Row buffer.
+     * @param off Offset.
+     * @param len Length.
+     * @param col Column.
+     * @return Value.
+     */
+    private static Object readVarlen(ByteBuffer buf, int off, int len, ClientColumn col) {
+        switch (col.type()) {
+            case ClientDataType.STRING:
+                return new String(buf.array(), off, len, StandardCharsets.UTF_8);
+
+            case ClientDataType.BYTES:
+                return Arrays.copyOfRange(buf.array(), off, off + len);
+
+            case ClientDataType.NUMBER:
+                return new BigInteger(buf.array(), off, len);
+
+            case ClientDataType.DECIMAL:
+                return new BigDecimal(new BigInteger(buf.array(), off, len), col.scale());
+
+            default:
+                throw new IgniteException("Unexpected varlen column type: " + col.type());
+        }
+    }
+
+    /**
+     * Reads a date.
+     *
+     * @param buf Row buffer.
+     * @param off Offset.
+     * @return Date.
+     */
+    private static LocalDate readDate(ByteBuffer buf, int off) {
+        int date = Short.toUnsignedInt(buf.getShort(off)) << 8;
+        date |= Byte.toUnsignedInt(buf.get(off + 2));
+
+        date = (date << 8) >> 8; // Restore sign.
+
+        int day = date & mask(DAY_FIELD_LENGTH);
+        int mon = (date >>= DAY_FIELD_LENGTH) & mask(MONTH_FIELD_LENGTH);
+        int year = date >> MONTH_FIELD_LENGTH; // Sign matters.
+
+        return LocalDate.of(year, mon, day);
+    }
+
+    /**
+     * Reads a time.
+     *
+     * @param buf       Row buffer.
+     * @param off       Offset.
+     * @param precision Precision.
+     * @return Time.
+     */
+    private static LocalTime readTime(ByteBuffer buf, int off, int precision) {
+        long time = Integer.toUnsignedLong(buf.getInt(off));
+        int fractional;
+
+        if (precision > 3) {
+            time <<= 16;
+            time |= Short.toUnsignedLong(buf.getShort(off + 4));
+
+            fractional = (int) (time & NANOSECOND_PART_MASK);
+            time >>>= NANOSECOND_PART_LEN;
+        } else {
+            fractional = (int) (time & MILLISECOND_PART_MASK);
+            time >>>= MILLISECOND_PART_LEN;
+        }
+
+        int sec = (int) time & mask(SECONDS_FIELD_LENGTH);
+        int min = (int) (time >>> SECONDS_FIELD_LENGTH) & mask(MINUTES_FIELD_LENGTH);
+        int hour = (int) (time >>> (SECONDS_FIELD_LENGTH + MINUTES_FIELD_LENGTH)) & mask(HOUR_FIELD_LENGTH);
+
+        // Convert to nanoseconds.
+        if (precision > 0 && precision <= 3) {
+            fractional *= 1_000_000;
+        } else if (precision > 3 && precision <= 6) {
+            fractional *= 1_000;
+        }
+
+        return LocalTime.of(hour, min, sec, fractional);
+    }
+
+    /**
+     * Gets a mask of the given number of lower bits.
+     *
+     * @param len Number of bits.
+     * @return Mask.
+     */
+    private static int mask(int len) {
+        return (1 << len) - 1;
+    }
+}
@@ -0,0 +1,750 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.table;
+
+import static org.apache.ignite.internal.client.proto.ClientMessageCommon.NO_VALUE;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.ignite.internal.client.PayloadOutputChannel;
+import org.apache.ignite.internal.client.proto.ClientDataType;
+import org.apache.ignite.internal.client.proto.ProtocolBitmaskFeature;
+import org.apache.ignite.internal.util.HashUtils;
+import org.apache.ignite.schema.definition.ColumnType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Writes tuples in the binary row format, so that the server stores the bytes as is instead of assembling the row from
+ * the column values.
+ *
+ * <p>The layout must be exactly the one of the server side row assembler: the key bytes are compared and hashed by the
+ * storage. A row is not built when the server has to process the values itself: a column value is absent and the
+ * default value must be used, or a value doesn't fit the column and the server must report the error.
+ */
+public final class ClientBinaryRowWriter {
+    /** Header size: schema version and key hash. */
+    static final int HEADER_SIZE = 6;
+
+    /** Chunk header size: chunk length and flags. */
+    static final int CHUNK_HEADER_SIZE = 5;
+
+    /** Vartable format identifiers. */
+    static final byte FORMAT_SKIPPED = 0;
+
+    static final byte FORMAT_TINY = 1;
+
+    static final byte FORMAT_MEDIUM = 2;
+
+    static final byte FORMAT_LARGE = 3;
+
+    /** Mask of the vartable format in the chunk flags. */
+    static final int FORMAT_CODE_MASK = 0x03;
+
+    /** Time and date field lengths, in bits. */
+    static final int MONTH_FIELD_LENGTH = 4;
+
+    static final int DAY_FIELD_LENGTH = 5;
+
+    static final int HOUR_FIELD_LENGTH = 5;
+
+    static final int MINUTES_FIELD_LENGTH = 6;
+
+    static final int SECONDS_FIELD_LENGTH = 6;
+
+    static final int MILLISECOND_PART_LEN = 14;
+
+    static final long MILLISECOND_PART_MASK = (1L << MILLISECOND_PART_LEN) - 1;
+
+    static final int NANOSECOND_PART_LEN = 30;
+
+    static final long NANOSECOND_PART_MASK = (1L << NANOSECOND_PART_LEN) - 1;
+
+    /**
+     * Constructor.
+     */
+    private ClientBinaryRowWriter() {
+        // No-op.
+    }
+
+    /**
+     * Gets a value indicating whether the tuples of the schema are sent in the binary row format.
+     *
+     * @param schema Schema.
+     * @param out    Output channel.
+     * @return {@code true} if the server accepts binary rows and the schema describes the row layout.
+     */
+    public static boolean enabled(ClientSchema schema, PayloadOutputChannel out) {
+        return schema.hasRowLayout() && out.clientChannel().protocolContext().isFeatureSupported(ProtocolBitmaskFeature.BINARY_ROWS);
+    }
+
+    /**
+     * Builds a row.
+     *
+     * @param schema  Schema.
+     * @param values  Column values, {@code NO_VALUE} for an absent value.
+     * @param keyOnly Whether only the key columns are written.
+     * @return Row bytes, or {@code null} if the values must be sent column by column.
+     */
+    public static @Nullable byte[] write(ClientSchema schema, Function<ClientColumn, Object> values, boolean keyOnly) {
+        ClientColumn[] cols = schema.columns();
+        int keyCnt = schema.keyColumnCount();
+        int cnt = keyOnly ? keyCnt : cols.length;
+
+        Object[] vals = new Object[cnt];
+        CharsetEncoder encoder = null;
+
+        for (int i = 0; i < cnt; i++) {
+            ClientColumn col = cols[i];
+            Object val = values.apply(col);
+
+            if (val == NO_VALUE) {
+                return null;
+            }
+
+            if (val == null) {
+                if (!col.nullable()) {
+                    return null;
+                }
+
+                continue;
+            }
+
+            if (col.type() == ClientDataType.STRING && val instanceof String) {
+                if (encoder == null) {
+                    encoder = StandardCharsets.UTF_8.newEncoder();
+                }
+
+                val = encode(encoder, (String) val, col);
+            } else {
+                val = normalize(col, val);
+            }
+
+            if (val == null) {
+                return null;
+            }
+
+            vals[i] = val;
+        }
+
+        boolean hasValue = cnt > keyCnt;
+
+        Chunk keyChunk = new Chunk(cols, vals, 0, keyCnt);
+        Chunk valChunk = hasValue ? new Chunk(cols, vals, keyCnt, cnt) : null;
+
+        // The assembler chooses the tiny vartable format of both chunks by the value chunk vartable size.
+        int valVartblLen = valChunk == null ? 0 : valChunk.uncompactedVartableLength();
+
+        keyChunk.layout(valVartblLen);
+
+        if (valChunk != null) {
+            valChunk.layout(valVartblLen);
+        }
+
+        int keyChunkLen = keyChunk.length();
+
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + keyChunkLen + (valChunk == null ? 0 : valChunk.length()))
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        buf.putShort(0, (short) (hasValue ? schema.version() : 0));
+
+        keyChunk.write(buf, HEADER_SIZE);
+
+        if (valChunk != null) {
+            valChunk.write(buf, HEADER_SIZE + keyChunkLen);
+        }
+
+        buf.putInt(2, HashUtils.hash32(buf.array(), HEADER_SIZE, keyChunkLen, 0));
+
+        return buf.array();
+    }
+
+    /**
+     * Converts a value to the form it is written in, checks it the way the server does.
+     *
+     * @param col Column.
+     * @param val Value.
+     * @return Value to write, or {@code null} if the value must be processed by the server.
+     */
+    private static @Nullable Object normalize(ClientColumn col, Object val) {
+        switch (col.type()) {
+            case ClientDataType.INT8:
+                return val instanceof Byte ? val : null;
+
+            case ClientDataType.INT16:
+                return val instanceof Short ? val : null;
+
+            case ClientDataType.INT32:
+                return val instanceof Integer ? val : null;
+
+            case ClientDataType.INT64:
+                return val instanceof Long ? val : null;
+
+            case ClientDataType.FLOAT:
+                return val instanceof Float ? val : null;
+
+            case ClientDataType.DOUBLE:
+                return val instanceof Double ? val : null;
+
+            case ClientDataType.UUID:
+                return val instanceof UUID ? val : null;
+
+            case ClientDataType.DATE:
+                return val instanceof LocalDate ? val : null;
+
+            case ClientDataType.TIME:
+                return val instanceof LocalTime && temporalPrecisionAccepted(col) ? val : null;
+
+            case ClientDataType.DATETIME:
+                return val instanceof LocalDateTime && temporalPrecisionAccepted(col) ? val : null;
+
+            case ClientDataType.TIMESTAMP:
+                return val instanceof Instant && temporalPrecisionAccepted(col) ? val : null;
+
+            case ClientDataType.BYTES:
+                return val instanceof byte[] && ((byte[]) val).length <= col.precision() ? val : null;
+
+            case ClientDataType.BITMASK:
+                return val instanceof BitSet && ((BitSet) val).length() <= col.precision() ? val : null;
+
+            case ClientDataType.NUMBER: {
+                if (!(val instanceof BigInteger)) {
+                    return null;
+                }
+
+                // 0 is the unlimited precision.
+                if (col.precision() > 0 && new BigDecimal((BigInteger) val).precision() > col.precision()) {
+                    return null;
+                }
+
+                return ((BigInteger) val).toByteArray();
+            }
+
+            case ClientDataType.DECIMAL: {
+                if (!(val instanceof BigDecimal)) {
+                    return null;
+                }
+
+                BigDecimal dec = ((BigDecimal) val).setScale(col.scale(), RoundingMode.HALF_UP);
+
+                return dec.precision() > col.precision() ? null : dec.unscaledValue().toByteArray();
+            }
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Encodes a string.
+     *
+     * @param encoder Encoder.
+     * @param val     Value.
+     * @param col     Column.
+     * @return UTF-8 bytes, or {@code null} if the value must be processed by the server.
+     */
+    private static @Nullable byte[] encode(CharsetEncoder encoder, String val, ClientColumn col) {
+        if (val.length() > col.precision()) {
+            return null;
+        }
+
+        try {
+            ByteBuffer bytes = encoder.reset().encode(CharBuffer.wrap(val));
+
+            byte[] res = new byte[bytes.remaining()];
+
+            bytes.get(res);
+
+            return res;
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets a value indicating whether the server accepts values of a temporal column: a value is validated against the
+     * default precision of the type.
+     *
+     * @param col Column.
+     * @return {@code true} if the values are accepted.
+     */
+    private static boolean temporalPrecisionAccepted(ClientColumn col) {
+        return col.precision() >= ColumnType.TemporalColumnType.DEFAULT_PRECISION;
+    }
+
+    /**
+     * Gets a value indicating whether the column values are of fixed size.
+     *
+     * @param type Column type.
+     * @return {@code true} if the values are of fixed size.
+     */
+    static boolean fixedSize(int type) {
+        switch (type) {
+            case ClientDataType.DECIMAL:
+            case ClientDataType.NUMBER:
+            case ClientDataType.STRING:
+            case ClientDataType.BYTES:
+                return false;
+
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Gets the size of a fixed size value.
+     *
+     * @param col Column.
+     * @return Size in bytes.
+     */
+    static int fixedSize(ClientColumn col) {
+        switch (col.type()) {
+            case ClientDataType.INT8:
+                return 1;
+
+            case ClientDataType.INT16:
+                return 2;
+
+            case ClientDataType.INT32:
+            case ClientDataType.FLOAT:
+                return 4;
+
+            case ClientDataType.INT64:
+            case ClientDataType.DOUBLE:
+                return 8;
+
+            case ClientDataType.UUID:
+                return 16;
+
+            case ClientDataType.BITMASK:
+                return (col.precision() + 7) / 8;
+
+            case ClientDataType.DATE:
+                return 3;
+
+            case ClientDataType.TIME:
+                return timeSize(col.precision());
+
+            case ClientDataType.DATETIME:
+                return 3 + timeSize(col.precision());
+
+            case ClientDataType.TIMESTAMP:
+                return col.precision() == 0 ? 8 : 12;
+
+            default:
+                throw new IllegalArgumentException("Not a fixed size type: " + col.type());
+        }
+    }
+
+    /**
+     * Gets the size of a time value.
+     *
+     * @param precision Precision.
+     * @return Size in bytes.
+     */
+    private static int timeSize(int precision) {
+        return precision > 3 ? 6 : 4;
+    }
+
+    /**
+     * Gets the size of a varlen value.
+     *
+     * @param val Value to write.
+     * @return Size in bytes.
+     */
+    private static int varlenSize(Object val) {
+        return ((byte[]) val).length;
+    }
+
+    /**
+     * Writes a value.
+     *
+     * @param buf Buffer.
+     * @param off Offset.
+     * @param col Column.
+     * @param val Value to write.
+     */
+    private static void writeValue(ByteBuffer buf, int off, ClientColumn col, Object val) {
+        switch (col.type()) {
+            case ClientDataType.INT8:
+                buf.put(off, (byte) val);
+                break;
+
+            case ClientDataType.INT16:
+                buf.putShort(off, (short) val);
+                break;
+
+            case ClientDataType.INT32:
+                buf.putInt(off, (int) val);
+                break;
+
+            case ClientDataType.INT64:
+                buf.putLong(off, (long) val);
+                break;
+
+            case ClientDataType.FLOAT:
+                buf.putFloat(off, (float) val);
+                break;
+
+            case ClientDataType.DOUBLE:
+                buf.putDouble(off, (double) val);
+                break;
+
+            case ClientDataType.UUID:
+                buf.putLong(off, ((UUID) val).getLeastSignificantBits());
+                buf.putLong(off + 8, ((UUID) val).getMostSignificantBits());
+                break;
+
+            case ClientDataType.BITMASK:
+                putBytes(buf, off, ((BitSet) val).toByteArray());
+                break;
+
+            case ClientDataType.DATE:
+                writeDate(buf, off, (LocalDate) val);
+                break;
+
+            case ClientDataType.TIME:
+                writeTime(buf, off, (LocalTime) val, col.precision());
+                break;
+
+            case ClientDataType.DATETIME:
+                writeDate(buf, off, ((LocalDateTime) val).toLocalDate());
+                writeTime(buf, off + 3, ((LocalDateTime) val).toLocalTime(), col.precision());
+                break;
+
+            case ClientDataType.TIMESTAMP:
+                buf.putLong(off, ((Instant) val).getEpochSecond());
+
+                if (col.precision() != 0) {
+                    buf.putInt(off + 8, normalizeNanos(((Instant) val).getNano(), col.precision()));
+                }
+                break;
+
+            default:
+                putBytes(buf, off, (byte[]) val);
+        }
+    }
+
+    /**
+     * Writes bytes.
+     *
+     * @param buf   Buffer.
+     * @param off   Offset.
+     * @param bytes Bytes.
+     */
+    private static void putBytes(ByteBuffer buf, int off, byte[] bytes) {
+        buf.position(off);
+        buf.put(bytes);
+    }
+
+    /**
+     * Writes a date.
+     *
+     * @param buf  Buffer.
+     * @param off  Offset.
+     * @param date Date.
+     */
+    private static void writeDate(ByteBuffer buf, int off, LocalDate date) {
+        int val = date.getYear() << MONTH_FIELD_LENGTH;
+        val = (val | date.getMonthValue()) << DAY_FIELD_LENGTH;
+        val |= date.getDayOfMonth();
+        val &= 0x00FF_FFFF;
+
+        buf.putShort(off, (short) (val >>> 8));
+        buf.put(off + 2, (byte) (val & 0xFF));
+    }
+
+    /**
+     * Writes a time.
+     *
+     * @param buf       Buffer.
+     * @param off       Offset.
+     * @param val       Time.
+     * @param precision Precision.
+     */
+    private static void writeTime(ByteBuffer buf, int off, LocalTime val, int precision) {
+        long time = val.getHour() << (MINUTES_FIELD_LENGTH + SECONDS_FIELD_LENGTH);
+        time |= val.getMinute() << SECONDS_FIELD_LENGTH;
+        time |= val.getSecond();
+
+        long fractional = truncateNanos(val.getNano(), precision);
+
+        if (precision > 3) {
+            time = (time << NANOSECOND_PART_LEN) | (fractional & NANOSECOND_PART_MASK);
+
+            buf.putInt(off, (int) (time >>> 16));
+            buf.putShort(off + 4, (short) (time & 0xFFFF_FFFFL));
+        } else {
+            time = (time << MILLISECOND_PART_LEN) | (fractional & MILLISECOND_PART_MASK);
+
+            buf.putInt(off, (int) time);
+        }
+    }
+
+    /**
+     * Converts nanoseconds to the fractional part of a time of the given precision: milliseconds for a precision up to
+     * 3, microseconds up to 6, nanoseconds otherwise.
+     *
+     * @param nanos     Nanoseconds.
+     * @param precision Precision.
+     * @return Fractional part.
+     */
+    private static int truncateNanos(int nanos, int precision) {
+        switch (precision) {
+            case 0:
+                return 0;
+            case 1:
+                return (nanos / 100_000_000) * 100;
+            case 2:
+                return (nanos / 10_000_000) * 10;
+            case 3:
+                return nanos / 1_000_000;
+            case 4:
+                return (nanos / 100_000) * 100;
+            case 5:
+                return (nanos / 10_000) * 10;
+            case 6:
+                return nanos / 1_000;
+            case 7:
+                return (nanos / 100) * 100;
+            case 8:
+                return (nanos / 10) * 10;
+            default:
+                return nanos;
+        }
+    }
+
+    /**
+     * Truncates nanoseconds to the given precision.
+     *
+     * @param nanos     Nanoseconds.
+     * @param precision Precision.
+     * @return Truncated nanoseconds.
+     */
+    private static int normalizeNanos(int nanos, int precision) {
+        int div = 1;
+
+        for (int i = precision; i < 9; i++) {
+            div *= 10;
+        }
+
+        return (nanos / div) * div;
+    }
+
+    /**
+     * Row chunk: the key or the value columns.
+     */
+    private static class Chunk {
+        /** Schema columns. */
+        private final ClientColumn[] cols;
+
+        /** Values to write. */
+        private final Object[] vals;
+
+        /** Index of the first column of the chunk. */
+        private final int from;
+
+        /** Index of the column after the last one of the chunk. */
+        private final int to;
+
+        /** Null map length. */
+        private final int nullMapLen;
+
+        /** Number of non-null varlen values. */
+        private final int varlenCnt;
+
+        /** Data length. */
+        private final int dataLen;
+
+        /** Vartable format. */
+        private byte format;
+
+        /** Vartable length. */
+        private int vartblLen;
+
+        /**
+         * Constructor.
+         *
+         * @param cols Schema columns.
+         * @param vals Values to write.
+         * @param from Index of the first column of the chunk.
+         * @param to   Index of the column after the last one of the chunk.
+         */
+        Chunk(ClientColumn[] cols, Object[] vals, int from, int to) {
+            this.cols = cols;
+            this.vals = vals;
+            this.from = from;
+            this.to = to;
+
+            boolean hasNullable = false;
+            int varlenCnt = 0;
+            int dataLen = 0;
+
+            for (int i = from; i < to; i++) {
+                ClientColumn col = cols[i];
+
+                hasNullable |= col.nullable();
+
+                if (vals[i] == null) {
+                    continue;
+                }
+
+                if (fixedSize(col.type())) {
+                    dataLen += fixedSize(col);
+                } else {
+                    dataLen += varlenSize(vals[i]);
+                    varlenCnt++;
+                }
+            }
+
+            this.nullMapLen = hasNullable ? (to - from + 7) / 8 : 0;
+            this.varlenCnt = varlenCnt;
+            this.dataLen = dataLen;
+        }
+
+        /**
+         * Gets the vartable length before the assembler compacts it.
+         *
+         * @return Vartable length.
+         */
+        int uncompactedVartableLength() {
+            return varlenCnt <= 1 ? 0 : Short.BYTES + (varlenCnt - 1) * Integer.BYTES;
+        }
+
+        /**
+         * Chooses the vartable format.
+         *
+         * @param valVartblLen Uncompacted vartable length of the value chunk.
+         */
+        void layout(int valVartblLen) {
+            int entries = varlenCnt - 1;
+
+            if (entries <= 0) {
+                format = FORMAT_SKIPPED;
+                vartblLen = 0;
+            } else if (dataLen > 0 && dataLen < 256 && valVartblLen < 256) {
+                format = FORMAT_TINY;
+                vartblLen = Byte.BYTES + entries * Byte.BYTES;
+            } else if (dataLen > 0 && dataLen < 64 * 1024) {
+                format = FORMAT_MEDIUM;
+                vartblLen = Short.BYTES + entries * Short.BYTES;
+            } else {
+                format = FORMAT_LARGE;
+                vartblLen = Short.BYTES + entries * Integer.BYTES;
+            }
+        }
+
+        /**
+         * Gets the chunk length.
+         *
+         * @return Chunk length.
+         */
+        int length() {
+            return CHUNK_HEADER_SIZE + nullMapLen + vartblLen + dataLen;
+        }
+
+        /**
+         * Writes the chunk.
+         *
+         * @param buf  Buffer.
+         * @param base Chunk offset.
+         */
+        void write(ByteBuffer buf, int base) {
+            buf.putInt(base, length());
+            buf.put(base + Integer.BYTES, format);
+
+            int nullMapOff = base + CHUNK_HEADER_SIZE;
+            int vartblOff = nullMapOff + nullMapLen;
+            int dataOff = vartblOff + vartblLen;
+
+            if (format == FORMAT_TINY) {
+                buf.put(vartblOff, (byte) (varlenCnt - 1));
+            } else if (format != FORMAT_SKIPPED) {
+                buf.putShort(vartblOff, (short) (varlenCnt - 1));
+            }
+
+            int curOff = dataOff;
+            int varlenIdx = 0;
+
+            for (int i = from; i < to; i++) {
+                ClientColumn col = cols[i];
+                Object val = vals[i];
+
+                if (val == null) {
+                    int idx = i - from;
+
+                    buf.put(nullMapOff + (idx >> 3), (byte) (buf.get(nullMapOff + (idx >> 3)) | (1 << (idx & 7))));
+
+                    continue;
+                }
+
+                if (fixedSize(col.type())) {
+                    writeValue(buf, curOff, col, val);
+
+                    curOff += fixedSize(col);
+                } else {
+                    // The offset of the first varlen value is omitted.
+                    if (varlenIdx > 0) {
+                        writeVarlenOffset(buf, vartblOff, varlenIdx - 1, curOff - dataOff);
+                    }
+
+                    writeValue(buf, curOff, col, val);
+
+                    curOff += varlenSize(val);
+                    varlenIdx++;
+                }
+            }
+        }
+
+        /**
+         * Writes a vartable entry.
+         *
+         * @param buf       Buffer.
+         * @param vartblOff Vartable offset.
+         * @param entryIdx  Entry index.
+         * @param off       Value offset relative to the chunk data.
+         */
+        private void writeVarlenOffset(ByteBuffer buf, int vartblOff, int entryIdx, int off) {
+            switch (format) {
+                case FORMAT_TINY:
+                    buf.put(vartblOff + Byte.BYTES + entryIdx, (byte) off);
+                    break;
+
+                case FORMAT_MEDIUM:
+                    buf.putShort(vartblOff + Short.BYTES + entryIdx * Short.BYTES, (short) off);
+                    break;
+
+                default:
+                    buf.putInt(vartblOff + Short.BYTES + entryIdx * Integer.BYTES, off);
+            }
+        }
+    }
+}
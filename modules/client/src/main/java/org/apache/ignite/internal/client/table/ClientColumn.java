@@ -38,6 +38,15 @@ public class ClientColumn {
     /** Index of the column in the schema. */
     private final int schemaIndex;
 
+    /** Index of the column in the colocation key, {@code -1} if the column is not a colocation column. */
+    private final int colocationIndex;
+
+    /** Decimal scale, {@code -1} if unknown. */
+    private final int scale;
+
+    /** Type precision, varlen length or bitmask size, {@code -1} if unknown. */
+    private final int precision;
+
     /**
      * Constructor.
      *
@@ -48,6 +57,45 @@ public class ClientColumn {
      * @param schemaIndex Index of the column in the schema.
      */
     public ClientColumn(String name, int type, boolean nullable, boolean isKey, int schemaIndex) {
+        this(name, type, nullable, isKey, schemaIndex, -1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name            Column name.
+     * @param type            Column type code.
+     * @param nullable        Nullable flag.
+     * @param isKey           Key column flag.
+     * @param schemaIndex     Index of the column in the schema.
+     * @param colocationIndex Index of the column in the colocation key, {@code -1} if the column is not a colocation column.
+     */
+    public ClientColumn(String name, int type, boolean nullable, boolean isKey, int schemaIndex, int colocationIndex) {
+        this(name, type, nullable, isKey, schemaIndex, colocationIndex, -1, -1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name            Column name.
+     * @param type            Column type code.
+     * @param nullable        Nullable flag.
+     * @param isKey           Key column flag.
+     * @param schemaIndex     Index of the column in the schema.
+     * @param colocationIndex Index of the column in the colocation key, {@code -1} if the column is not a colocation column.
+     * @param scale           Decimal scale, {@code -1} if unknown.
+     * @param precision       Type precision, varlen length or bitmask size, {@code -1} if unknown.
+     */
+    public ClientColumn(
+            String name,
+            int type,
+            boolean nullable,
+            boolean isKey,
+            int schemaIndex,
+            int colocationIndex,
+            int scale,
+            int precision
+    ) {
         assert name != null;
         assert schemaIndex >= 0;
 
@@ -56,6 +104,9 @@ public class ClientColumn {
         this.nullable = nullable;
         this.isKey = isKey;
         this.schemaIndex = schemaIndex;
+        this.colocationIndex = colocationIndex;
+        this.scale = scale;
+        this.precision = precision;
     }
 
     public String name() {
@@ -97,4 +148,32 @@ public class ClientColumn {
     public int schemaIndex() {
         return schemaIndex;
     }
+
+    /**
+     * Gets the index of the column in the colocation key.
+     *
+     * @return Colocation index, {@code -1} if the column is not a colocation column.
+     */
+    public int colocationIndex() {
+        return colocationIndex;
+    }
+
+    /**
+     * Gets the decimal scale.
+     *
+     * @return Scale, {@code -1} if unknown.
+     */
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * Gets the precision of a numeric or a temporal type, the maximum length of a varlen type or the number of bits of
+     * a bitmask.
+     *
+     * @return Precision, {@code -1} if unknown.
+     */
+    public int precision() {
+        return precision;
+    }
 }
@@ -25,10 +25,12 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.NullableValue;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.Tuple;
@@ -75,7 +77,9 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET,
                 (s, w) -> ser.writeTuple(tx, key, s, w, true),
-                ClientTupleSerializer::readValueTuple);
+                ClientTupleSerializer::readValueTuple,
+                null,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -93,7 +97,8 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
                 ClientOp.TUPLE_GET_ALL,
                 (s, w) -> ser.writeTuples(tx, keys, s, w, true),
                 ClientTupleSerializer::readKvTuplesNullable,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                ClientTupleSerializer.getColocationHashFunction(tx, keys));
     }
 
     /**
@@ -130,7 +135,9 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET,
                 (s, w) -> ser.writeTuple(tx, key, s, w, true),
-                (s, r) -> IgniteUtils.nonNullOrElse(ClientTupleSerializer.readValueTuple(s, r), defaultValue));
+                (s, r) -> IgniteUtils.nonNullOrElse(ClientTupleSerializer.readValueTuple(s, r), defaultValue),
+                null,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -147,7 +154,8 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_CONTAINS_KEY,
                 (s, w) -> ser.writeTuple(tx, key, s, w, true),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -164,7 +172,8 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_UPSERT,
                 (s, w) -> ser.writeKvTuple(tx, key, val, s, w, false),
-                r -> null);
+                r -> null,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -181,7 +190,21 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_UPSERT_ALL,
                 (s, w) -> ser.writeKvTuples(tx, pairs, s, w),
-                r -> null);
+                r -> null,
+                ClientTupleSerializer.getColocationHashFunction(tx, pairs.keySet()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull CompletableFuture<Void> streamData(
+            @NotNull Flow.Publisher<Map.Entry<Tuple, Tuple>> publisher,
+            @Nullable DataStreamerOptions options
+    ) {
+        return tbl.streamData(
+                publisher,
+                options,
+                (e, s, w) -> ser.writeKvTuple(null, e.getKey(), e.getValue(), s, w, true),
+                (s, e) -> ClientTupleSerializer.getColocationHashFunction(null, Objects.requireNonNull(e.getKey())).apply(s));
     }
 
     /** {@inheritDoc} */
@@ -199,7 +222,9 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_UPSERT,
                 (s, w) -> ser.writeKvTuple(tx, key, val, s, w, false),
-                ClientTupleSerializer::readValueTuple);
+                ClientTupleSerializer::readValueTuple,
+                null,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /**
@@ -237,7 +262,8 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_INSERT,
                 (s, w) -> ser.writeKvTuple(tx, key, val, s, w, false),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -260,7 +286,8 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_DELETE,
                 (s, w) -> ser.writeTuple(tx, key, s, w, true),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -272,7 +299,8 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_DELETE_EXACT,
                 (s, w) -> ser.writeKvTuple(tx, key, val, s, w, false),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -290,7 +318,8 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
                 ClientOp.TUPLE_DELETE_ALL,
                 (s, w) -> ser.writeTuples(tx, keys, s, w, true),
                 (s, r) -> ClientTupleSerializer.readTuples(s, r, true),
-                Collections.emptyList());
+                Collections.emptyList(),
+                ClientTupleSerializer.getColocationHashFunction(tx, keys));
     }
 
     /** {@inheritDoc} */
@@ -307,7 +336,9 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_DELETE,
                 (s, w) -> ser.writeTuple(tx, key, s, w, true),
-                ClientTupleSerializer::readValueTuple);
+                ClientTupleSerializer::readValueTuple,
+                null,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /**
@@ -350,7 +381,8 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_REPLACE,
                 (s, w) -> ser.writeKvTuple(tx, key, val, s, w, false),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -364,7 +396,8 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
                     ser.writeKvTuple(tx, key, oldVal, s, w, false);
                     ser.writeKvTuple(tx, key, newVal, s, w, true);
                 },
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -382,7 +415,9 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_REPLACE,
                 (s, w) -> ser.writeKvTuple(tx, key, val, s, w, false),
-                ClientTupleSerializer::readValueTuple);
+                ClientTupleSerializer::readValueTuple,
+                null,
+                ClientTupleSerializer.getColocationHashFunction(tx, key));
     }
 
     /**
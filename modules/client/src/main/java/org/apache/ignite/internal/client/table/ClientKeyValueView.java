@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.client.table;
 
 import static org.apache.ignite.internal.client.ClientUtils.sync;
+import static org.apache.ignite.internal.client.table.ClientRecordSerializer.tupleReader;
+import static org.apache.ignite.internal.client.table.ClientRecordSerializer.writeKvRecRaw;
 import static org.apache.ignite.internal.client.table.ClientTable.writeTx;
 
 import java.io.Serializable;
@@ -29,15 +31,17 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import org.apache.ignite.client.IgniteClientException;
 import org.apache.ignite.internal.client.PayloadOutputChannel;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.proto.TuplePart;
-import org.apache.ignite.internal.marshaller.ClientMarshallerReader;
 import org.apache.ignite.internal.marshaller.Marshaller;
 import org.apache.ignite.internal.marshaller.MarshallerException;
+import org.apache.ignite.internal.marshaller.MarshallerReader;
 import org.apache.ignite.lang.NullableValue;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.mapper.Mapper;
@@ -90,7 +94,9 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET,
                 (s, w) -> keySer.writeRec(tx, key, s, w, TuplePart.KEY),
-                (s, r) -> valSer.readRec(s, r, TuplePart.VAL));
+                (s, r) -> valSer.readRec(s, r, TuplePart.VAL),
+                null,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -136,7 +142,8 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
                 ClientOp.TUPLE_GET_ALL,
                 (s, w) -> keySer.writeRecs(tx, keys, s, w, TuplePart.KEY),
                 this::readGetAllResponse,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                keySer.getColocationHashFunction(tx, keys));
     }
 
     /** {@inheritDoc} */
@@ -153,7 +160,8 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_CONTAINS_KEY,
                 (s, w) -> keySer.writeRec(tx, key, s, w, TuplePart.KEY),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -170,7 +178,8 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_UPSERT,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
-                r -> null);
+                r -> null,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -197,11 +206,24 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
                     w.out().packInt(pairs.size());
 
                     for (Entry<K, V> e : pairs.entrySet()) {
-                        keySer.writeRecRaw(e.getKey(), s, w.out(), TuplePart.KEY);
-                        valSer.writeRecRaw(e.getValue(), s, w.out(), TuplePart.VAL);
+                        writeKvRecRaw(e.getKey(), keySer, e.getValue(), valSer, s, w);
                     }
                 },
-                r -> null);
+                r -> null,
+                keySer.getColocationHashFunction(tx, pairs.keySet()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull CompletableFuture<Void> streamData(
+            @NotNull Flow.Publisher<Entry<K, V>> publisher,
+            @Nullable DataStreamerOptions options
+    ) {
+        return tbl.streamData(
+                publisher,
+                options,
+                (e, s, w) -> writeKvRecRaw(e.getKey(), keySer, e.getValue(), valSer, s, w),
+                (s, e) -> keySer.getColocationHashFunction(null, Objects.requireNonNull(e.getKey())).apply(s));
     }
 
     /** {@inheritDoc} */
@@ -219,7 +241,9 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_UPSERT,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
-                (s, r) -> valSer.readRec(s, r, TuplePart.VAL));
+                (s, r) -> valSer.readRec(s, r, TuplePart.VAL),
+                null,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -248,7 +272,8 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_INSERT,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -271,7 +296,8 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_DELETE,
                 (s, w) -> keySer.writeRec(tx, key, s, w, TuplePart.KEY),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -282,7 +308,8 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_DELETE_EXACT,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -304,7 +331,8 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
                 ClientOp.TUPLE_DELETE_ALL,
                 (s, w) -> keySer.writeRecs(tx, keys, s, w, TuplePart.KEY),
                 (s, r) -> keySer.readRecs(s, r, false, TuplePart.KEY),
-                Collections.emptyList());
+                Collections.emptyList(),
+                keySer.getColocationHashFunction(tx, keys));
     }
 
     /** {@inheritDoc} */
@@ -321,7 +349,9 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_DELETE,
                 (s, w) -> keySer.writeRec(tx, key, s, w, TuplePart.KEY),
-                (s, r) -> valSer.readRec(s, r, TuplePart.VAL));
+                (s, r) -> valSer.readRec(s, r, TuplePart.VAL),
+                null,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -358,7 +388,8 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_REPLACE,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -369,13 +400,11 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_REPLACE_EXACT,
                 (s, w) -> {
-                    keySer.writeRec(tx, key, s, w, TuplePart.KEY);
-                    valSer.writeRecRaw(oldVal, s, w.out(), TuplePart.VAL);
-
-                    keySer.writeRecRaw(key, s, w.out(), TuplePart.KEY);
-                    valSer.writeRecRaw(newVal, s, w.out(), TuplePart.VAL);
+                    writeKeyValue(s, w, tx, key, oldVal);
+                    writeKvRecRaw(key, keySer, newVal, valSer, s, w);
                 },
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -393,7 +422,9 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_REPLACE,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
-                (s, r) -> valSer.readRec(s, r, TuplePart.VAL));
+                (s, r) -> valSer.readRec(s, r, TuplePart.VAL),
+                null,
+                keySer.getColocationHashFunction(tx, key));
     }
 
     /** {@inheritDoc} */
@@ -453,8 +484,11 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     }
 
     private void writeKeyValue(ClientSchema s, PayloadOutputChannel w, @Nullable Transaction tx, @NotNull K key, V val) {
-        keySer.writeRec(tx, key, s, w, TuplePart.KEY);
-        valSer.writeRecRaw(val, s, w.out(), TuplePart.VAL);
+        w.out().packUuid(tbl.tableId());
+        writeTx(tx, w);
+        w.out().packInt(s.version());
+
+        writeKvRecRaw(key, keySer, val, valSer, s, w);
     }
 
     private HashMap<K, V> readGetAllResponse(ClientSchema schema, ClientMessageUnpacker in) {
@@ -465,11 +499,12 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         Marshaller keyMarsh = schema.getMarshaller(keySer.mapper(), TuplePart.KEY);
         Marshaller valMarsh = schema.getMarshaller(valSer.mapper(), TuplePart.VAL);
 
-        var reader = new ClientMarshallerReader(in);
-
         try {
             for (int i = 0; i < cnt; i++) {
                 in.unpackBoolean(); // TODO: Optimize (IGNITE-16022).
+
+                MarshallerReader reader = tupleReader(schema, in, TuplePart.KEY_AND_VAL);
+
                 res.put((K) keyMarsh.readObject(reader, null), (V) valMarsh.readObject(reader, null));
             }
 
@@ -25,8 +25,10 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Tuple;
@@ -70,7 +72,9 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET,
                 (s, w) -> ser.writeTuple(tx, keyRec, s, w, true),
-                (s, r) -> ClientTupleSerializer.readValueTuple(s, r, keyRec));
+                (s, r) -> ClientTupleSerializer.readValueTuple(s, r, keyRec),
+                null,
+                ClientTupleSerializer.getColocationHashFunction(tx, keyRec));
     }
 
     /** {@inheritDoc} */
@@ -88,7 +92,8 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
                 ClientOp.TUPLE_GET_ALL,
                 (s, w) -> ser.writeTuples(tx, keyRecs, s, w, true),
                 ClientTupleSerializer::readTuplesNullable,
-                Collections.emptyList());
+                Collections.emptyList(),
+                ClientTupleSerializer.getColocationHashFunction(tx, keyRecs));
     }
 
     /** {@inheritDoc} */
@@ -105,7 +110,8 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_UPSERT,
                 (s, w) -> ser.writeTuple(tx, rec, s, w),
-                r -> null);
+                r -> null,
+                ClientTupleSerializer.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -122,7 +128,18 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_UPSERT_ALL,
                 (s, w) -> ser.writeTuples(tx, recs, s, w, false),
-                r -> null);
+                r -> null,
+                ClientTupleSerializer.getColocationHashFunction(tx, recs));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull CompletableFuture<Void> streamData(@NotNull Flow.Publisher<Tuple> publisher, @Nullable DataStreamerOptions options) {
+        return tbl.streamData(
+                publisher,
+                options,
+                (rec, s, w) -> ClientTupleSerializer.writeTupleRaw(rec, s, w, false),
+                (s, rec) -> ClientTupleSerializer.getColocationHashFunction(null, rec).apply(s));
     }
 
     /** {@inheritDoc} */
@@ -139,7 +156,9 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_UPSERT,
                 (s, w) -> ser.writeTuple(tx, rec, s, w, false),
-                (s, r) -> ClientTupleSerializer.readValueTuple(s, r, rec));
+                (s, r) -> ClientTupleSerializer.readValueTuple(s, r, rec),
+                null,
+                ClientTupleSerializer.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -156,7 +175,8 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_INSERT,
                 (s, w) -> ser.writeTuple(tx, rec, s, w, false),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -174,7 +194,8 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
                 ClientOp.TUPLE_INSERT_ALL,
                 (s, w) -> ser.writeTuples(tx, recs, s, w, false),
                 ClientTupleSerializer::readTuples,
-                Collections.emptyList());
+                Collections.emptyList(),
+                ClientTupleSerializer.getColocationHashFunction(tx, recs));
     }
 
     /** {@inheritDoc} */
@@ -197,7 +218,8 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_REPLACE,
                 (s, w) -> ser.writeTuple(tx, rec, s, w, false),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -212,7 +234,8 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
                     ser.writeTuple(tx, oldRec, s, w, false, false);
                     ser.writeTuple(tx, newRec, s, w, false, true);
                 },
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, oldRec));
     }
 
     /** {@inheritDoc} */
@@ -229,7 +252,9 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_REPLACE,
                 (s, w) -> ser.writeTuple(tx, rec, s, w, false),
-                (s, r) -> ClientTupleSerializer.readValueTuple(s, r, rec));
+                (s, r) -> ClientTupleSerializer.readValueTuple(s, r, rec),
+                null,
+                ClientTupleSerializer.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -246,7 +271,8 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_DELETE,
                 (s, w) -> ser.writeTuple(tx, keyRec, s, w, true),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, keyRec));
     }
 
     /** {@inheritDoc} */
@@ -263,7 +289,8 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_DELETE_EXACT,
                 (s, w) -> ser.writeTuple(tx, rec, s, w, false),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ClientTupleSerializer.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -280,7 +307,9 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_DELETE,
                 (s, w) -> ser.writeTuple(tx, keyRec, s, w, true),
-                (s, r) -> ClientTupleSerializer.readValueTuple(s, r, keyRec));
+                (s, r) -> ClientTupleSerializer.readValueTuple(s, r, keyRec),
+                null,
+                ClientTupleSerializer.getColocationHashFunction(tx, keyRec));
     }
 
     /** {@inheritDoc} */
@@ -298,7 +327,8 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
                 ClientOp.TUPLE_DELETE_ALL,
                 (s, w) -> ser.writeTuples(tx, keyRecs, s, w, true),
                 (s, r) -> ClientTupleSerializer.readTuples(s, r, true),
-                Collections.emptyList());
+                Collections.emptyList(),
+                ClientTupleSerializer.getColocationHashFunction(tx, keyRecs));
     }
 
     /** {@inheritDoc} */
@@ -316,7 +346,8 @@ public class ClientRecordBinaryView implements RecordView<Tuple> {
                 ClientOp.TUPLE_DELETE_ALL_EXACT,
                 (s, w) -> ser.writeTuples(tx, recs, s, w, false),
                 ClientTupleSerializer::readTuples,
-                Collections.emptyList());
+                Collections.emptyList(),
+                ClientTupleSerializer.getColocationHashFunction(tx, recs));
     }
 
     /** {@inheritDoc} */
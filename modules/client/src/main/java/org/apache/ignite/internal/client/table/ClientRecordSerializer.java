@@ -22,16 +22,22 @@ import static org.apache.ignite.internal.client.table.ClientTable.writeTx;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import org.apache.ignite.client.IgniteClientException;
 import org.apache.ignite.internal.client.PayloadOutputChannel;
+import org.apache.ignite.internal.client.proto.ClientMessageCommon;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.TuplePart;
+import org.apache.ignite.internal.marshaller.ClientMarshallerCollectingWriter;
 import org.apache.ignite.internal.marshaller.ClientMarshallerReader;
+import org.apache.ignite.internal.marshaller.ClientMarshallerRowReader;
 import org.apache.ignite.internal.marshaller.ClientMarshallerWriter;
 import org.apache.ignite.internal.marshaller.Marshaller;
 import org.apache.ignite.internal.marshaller.MarshallerException;
+import org.apache.ignite.internal.marshaller.MarshallerReader;
 import org.apache.ignite.internal.marshaller.MarshallerUtil;
 import org.apache.ignite.table.mapper.Mapper;
 import org.apache.ignite.tx.Transaction;
@@ -97,8 +103,125 @@ public class ClientRecordSerializer<R> {
         }
     }
 
-    void writeRecRaw(@Nullable R rec, ClientSchema schema, ClientMessagePacker out, TuplePart part) {
-        writeRecRaw(rec, mapper, schema, out, part);
+    void writeRecRaw(@Nullable R rec, ClientSchema schema, PayloadOutputChannel out, TuplePart part) {
+        writeRecRaw(rec, schema.getMarshaller(mapper, part), schema, out, part);
+    }
+
+    /**
+     * Writes a record without header, in the binary row format when the connection supports it.
+     *
+     * @param rec Record.
+     * @param marshaller Marshaller of the tuple part.
+     * @param schema Schema.
+     * @param out Output channel.
+     * @param part Tuple part.
+     */
+    private static void writeRecRaw(
+            @Nullable Object rec,
+            Marshaller marshaller,
+            ClientSchema schema,
+            PayloadOutputChannel out,
+            TuplePart part
+    ) {
+        try {
+            if (part != TuplePart.VAL && ClientBinaryRowWriter.enabled(schema, out)) {
+                var collector = new ClientMarshallerCollectingWriter();
+
+                marshaller.writeObject(rec, collector);
+
+                if (writeBinaryRow(collector.values(), schema, out, part == TuplePart.KEY)) {
+                    return;
+                }
+            }
+
+            marshaller.writeObject(rec, new ClientMarshallerWriter(out.out()));
+        } catch (MarshallerException e) {
+            throw new IgniteClientException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes a key and a value without header as one tuple, in the binary row format when the connection supports it.
+     *
+     * @param key Key.
+     * @param keySer Key serializer.
+     * @param val Value.
+     * @param valSer Value serializer.
+     * @param schema Schema.
+     * @param out Output channel.
+     */
+    static void writeKvRecRaw(
+            @Nullable Object key,
+            ClientRecordSerializer<?> keySer,
+            @Nullable Object val,
+            ClientRecordSerializer<?> valSer,
+            ClientSchema schema,
+            PayloadOutputChannel out
+    ) {
+        Marshaller keyMarshaller = schema.getMarshaller(keySer.mapper, TuplePart.KEY);
+        Marshaller valMarshaller = schema.getMarshaller(valSer.mapper, TuplePart.VAL);
+
+        try {
+            if (ClientBinaryRowWriter.enabled(schema, out)) {
+                var collector = new ClientMarshallerCollectingWriter();
+
+                keyMarshaller.writeObject(key, collector);
+                valMarshaller.writeObject(val, collector);
+
+                if (writeBinaryRow(collector.values(), schema, out, false)) {
+                    return;
+                }
+            }
+
+            var writer = new ClientMarshallerWriter(out.out());
+
+            keyMarshaller.writeObject(key, writer);
+            valMarshaller.writeObject(val, writer);
+        } catch (MarshallerException e) {
+            throw new IgniteClientException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the collected column values as a binary row.
+     *
+     * @param values Column values in the schema order.
+     * @param schema Schema.
+     * @param out Output channel.
+     * @param keyOnly Whether the values are key columns only.
+     * @return {@code false} if the values can't be written as a binary row and must be written column by column.
+     */
+    private static boolean writeBinaryRow(List<Object> values, ClientSchema schema, PayloadOutputChannel out, boolean keyOnly) {
+        byte[] row = ClientBinaryRowWriter.write(
+                schema,
+                col -> col.schemaIndex() < values.size() ? values.get(col.schemaIndex()) : ClientMessageCommon.NO_VALUE,
+                keyOnly);
+
+        if (row == null) {
+            return false;
+        }
+
+        out.out().packBinaryRow(row);
+
+        return true;
+    }
+
+    /**
+     * Creates a reader of the next tuple of a response, which is either a binary row or a sequence of column values.
+     *
+     * @param schema Schema.
+     * @param in Unpacker.
+     * @param part Tuple part.
+     * @return Reader.
+     */
+    static MarshallerReader tupleReader(ClientSchema schema, ClientMessageUnpacker in, TuplePart part) {
+        byte[] row = in.tryUnpackBinaryRow();
+
+        if (row == null) {
+            return new ClientMarshallerReader(in);
+        }
+
+        return new ClientMarshallerRowReader(ClientBinaryRowReader.read(schema, row), part == TuplePart.VAL ? schema.keyColumnCount() : 0);
     }
 
     void writeRec(@Nullable Transaction tx, @Nullable R rec, ClientSchema schema, PayloadOutputChannel out, TuplePart part) {
@@ -106,7 +229,7 @@ public class ClientRecordSerializer<R> {
         writeTx(tx, out);
         out.out().packInt(schema.version());
 
-        writeRecRaw(rec, schema, out.out(), part);
+        writeRecRaw(rec, schema, out, part);
     }
 
     void writeRecs(
@@ -122,14 +245,9 @@ public class ClientRecordSerializer<R> {
         out.out().packInt(schema.version());
 
         Marshaller marshaller = schema.getMarshaller(mapper, part);
-        ClientMarshallerWriter writer = new ClientMarshallerWriter(out.out());
 
-        try {
-            marshaller.writeObject(rec, writer);
-            marshaller.writeObject(rec2, writer);
-        } catch (MarshallerException e) {
-            throw new IgniteClientException(e.getMessage(), e);
-        }
+        writeRecRaw(rec, marshaller, schema, out, part);
+        writeRecRaw(rec2, marshaller, schema, out, part);
     }
 
     void writeRecs(
@@ -145,17 +263,55 @@ public class ClientRecordSerializer<R> {
         out.out().packInt(recs.size());
 
         Marshaller marshaller = schema.getMarshaller(mapper, part);
-        ClientMarshallerWriter writer = new ClientMarshallerWriter(out.out());
 
-        try {
-            for (R rec : recs) {
-                marshaller.writeObject(rec, writer);
-            }
-        } catch (MarshallerException e) {
-            throw new IgniteClientException(e.getMessage(), e);
+        for (R rec : recs) {
+            writeRecRaw(rec, marshaller, schema, out, part);
         }
     }
 
+    /**
+     * Gets the function computing the colocation hash of a record, see {@link ClientSchema#colocationHash}.
+     *
+     * @param tx Transaction.
+     * @param rec Key or full record.
+     * @return Hash function, or {@code null} when the request is sent to the default channel: transactional requests
+     *      are bound to the channel of the transaction.
+     */
+    @Nullable Function<ClientSchema, Integer> getColocationHashFunction(@Nullable Transaction tx, @Nullable R rec) {
+        if (tx != null || rec == null) {
+            return null;
+        }
+
+        return schema -> {
+            var writer = new ClientMarshallerCollectingWriter();
+
+            try {
+                schema.getMarshaller(mapper, TuplePart.KEY).writeObject(rec, writer);
+            } catch (Exception e) {
+                // The request writer reports the error.
+                return null;
+            }
+
+            var keyValues = writer.values();
+
+            return schema.colocationHash(col -> col.schemaIndex() < keyValues.size()
+                    ? keyValues.get(col.schemaIndex())
+                    : ClientMessageCommon.NO_VALUE);
+        };
+    }
+
+    /**
+     * Gets the function computing the colocation hash of the first record of a batch, so that at least a part of the batch
+     * is handled by the partition leader.
+     *
+     * @param tx Transaction.
+     * @param recs Keys or full records.
+     * @return Hash function, or {@code null} when the request is sent to the default channel.
+     */
+    @Nullable Function<ClientSchema, Integer> getColocationHashFunction(@Nullable Transaction tx, @NotNull Collection<R> recs) {
+        return recs.isEmpty() ? null : getColocationHashFunction(tx, recs.iterator().next());
+    }
+
     Collection<R> readRecs(ClientSchema schema, ClientMessageUnpacker in, boolean nullable, TuplePart part) {
         var cnt = in.unpackInt();
 
@@ -166,14 +322,13 @@ public class ClientRecordSerializer<R> {
         var res = new ArrayList<R>(cnt);
 
         Marshaller marshaller = schema.getMarshaller(mapper, part);
-        var reader = new ClientMarshallerReader(in);
 
         try {
             for (int i = 0; i < cnt; i++) {
                 if (nullable && !in.unpackBoolean()) {
                     res.add(null);
                 } else {
-                    res.add((R) marshaller.readObject(reader, null));
+                    res.add((R) marshaller.readObject(tupleReader(schema, in, part), null));
                 }
             }
         } catch (MarshallerException e) {
@@ -185,10 +340,9 @@ public class ClientRecordSerializer<R> {
 
     R readRec(ClientSchema schema, ClientMessageUnpacker in, TuplePart part) {
         Marshaller marshaller = schema.getMarshaller(mapper, part);
-        ClientMarshallerReader reader = new ClientMarshallerReader(in);
 
         try {
-            return (R) marshaller.readObject(reader, null);
+            return (R) marshaller.readObject(tupleReader(schema, in, part), null);
         } catch (MarshallerException e) {
             throw new IgniteClientException(e.getMessage(), e);
         }
@@ -202,10 +356,8 @@ public class ClientRecordSerializer<R> {
         Marshaller keyMarshaller = schema.getMarshaller(mapper, TuplePart.KEY);
         Marshaller valMarshaller = schema.getMarshaller(mapper, TuplePart.VAL);
 
-        ClientMarshallerReader reader = new ClientMarshallerReader(in);
-
         try {
-            var res = (R) valMarshaller.readObject(reader, null);
+            var res = (R) valMarshaller.readObject(tupleReader(schema, in, TuplePart.VAL), null);
 
             keyMarshaller.copyObject(keyRec, res);
 
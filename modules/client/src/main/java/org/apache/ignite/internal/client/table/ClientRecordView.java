@@ -25,9 +25,11 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.proto.TuplePart;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.mapper.Mapper;
@@ -70,7 +72,9 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET,
                 (s, w) -> ser.writeRec(tx, keyRec, s, w, TuplePart.KEY),
-                (s, r) -> ser.readValRec(keyRec, s, r));
+                (s, r) -> ser.readValRec(keyRec, s, r),
+                null,
+                ser.getColocationHashFunction(tx, keyRec));
     }
 
     /** {@inheritDoc} */
@@ -88,7 +92,8 @@ public class ClientRecordView<R> implements RecordView<R> {
                 ClientOp.TUPLE_GET_ALL,
                 (s, w) -> ser.writeRecs(tx, keyRecs, s, w, TuplePart.KEY),
                 (s, r) -> ser.readRecs(s, r, true, TuplePart.KEY_AND_VAL),
-                Collections.emptyList());
+                Collections.emptyList(),
+                ser.getColocationHashFunction(tx, keyRecs));
     }
 
     /** {@inheritDoc} */
@@ -105,7 +110,8 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_UPSERT,
                 (s, w) -> ser.writeRec(tx, rec, s, w, TuplePart.KEY_AND_VAL),
-                r -> null);
+                r -> null,
+                ser.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -122,7 +128,18 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_UPSERT_ALL,
                 (s, w) -> ser.writeRecs(tx, recs, s, w, TuplePart.KEY_AND_VAL),
-                r -> null);
+                r -> null,
+                ser.getColocationHashFunction(tx, recs));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull CompletableFuture<Void> streamData(@NotNull Flow.Publisher<R> publisher, @Nullable DataStreamerOptions options) {
+        return tbl.streamData(
+                publisher,
+                options,
+                (rec, s, w) -> ser.writeRecRaw(rec, s, w, TuplePart.KEY_AND_VAL),
+                (s, rec) -> ser.getColocationHashFunction(null, Objects.requireNonNull(rec)).apply(s));
     }
 
     /** {@inheritDoc} */
@@ -139,7 +156,9 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_UPSERT,
                 (s, w) -> ser.writeRec(tx, rec, s, w, TuplePart.KEY_AND_VAL),
-                (s, r) -> ser.readValRec(rec, s, r));
+                (s, r) -> ser.readValRec(rec, s, r),
+                null,
+                ser.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -156,7 +175,8 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_INSERT,
                 (s, w) -> ser.writeRec(tx, rec, s, w, TuplePart.KEY_AND_VAL),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ser.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -174,7 +194,8 @@ public class ClientRecordView<R> implements RecordView<R> {
                 ClientOp.TUPLE_INSERT_ALL,
                 (s, w) -> ser.writeRecs(tx, recs, s, w, TuplePart.KEY_AND_VAL),
                 (s, r) -> ser.readRecs(s, r, false, TuplePart.KEY_AND_VAL),
-                Collections.emptyList());
+                Collections.emptyList(),
+                ser.getColocationHashFunction(tx, recs));
     }
 
     /** {@inheritDoc} */
@@ -197,7 +218,8 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_REPLACE,
                 (s, w) -> ser.writeRec(tx, rec, s, w, TuplePart.KEY_AND_VAL),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ser.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -209,7 +231,8 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_REPLACE_EXACT,
                 (s, w) -> ser.writeRecs(tx, oldRec, newRec, s, w, TuplePart.KEY_AND_VAL),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ser.getColocationHashFunction(tx, oldRec));
     }
 
     /** {@inheritDoc} */
@@ -226,7 +249,9 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_REPLACE,
                 (s, w) -> ser.writeRec(tx, rec, s, w, TuplePart.KEY_AND_VAL),
-                (s, r) -> ser.readValRec(rec, s, r));
+                (s, r) -> ser.readValRec(rec, s, r),
+                null,
+                ser.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -243,7 +268,8 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_DELETE,
                 (s, w) -> ser.writeRec(tx, keyRec, s, w, TuplePart.KEY),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ser.getColocationHashFunction(tx, keyRec));
     }
 
     /** {@inheritDoc} */
@@ -260,7 +286,8 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_DELETE_EXACT,
                 (s, w) -> ser.writeRec(tx, rec, s, w, TuplePart.KEY_AND_VAL),
-                ClientMessageUnpacker::unpackBoolean);
+                ClientMessageUnpacker::unpackBoolean,
+                ser.getColocationHashFunction(tx, rec));
     }
 
     /** {@inheritDoc} */
@@ -277,7 +304,9 @@ public class ClientRecordView<R> implements RecordView<R> {
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_DELETE,
                 (s, w) -> ser.writeRec(tx, keyRec, s, w, TuplePart.KEY),
-                (s, r) -> ser.readValRec(keyRec, s, r));
+                (s, r) -> ser.readValRec(keyRec, s, r),
+                null,
+                ser.getColocationHashFunction(tx, keyRec));
     }
 
     /** {@inheritDoc} */
@@ -295,7 +324,8 @@ public class ClientRecordView<R> implements RecordView<R> {
                 ClientOp.TUPLE_DELETE_ALL,
                 (s, w) -> ser.writeRecs(tx, keyRecs, s, w, TuplePart.KEY),
                 (s, r) -> ser.readRecs(s, r, false, TuplePart.KEY),
-                Collections.emptyList());
+                Collections.emptyList(),
+                ser.getColocationHashFunction(tx, keyRecs));
     }
 
     /** {@inheritDoc} */
@@ -313,7 +343,8 @@ public class ClientRecordView<R> implements RecordView<R> {
                 ClientOp.TUPLE_DELETE_ALL_EXACT,
                 (s, w) -> ser.writeRecs(tx, recs, s, w, TuplePart.KEY_AND_VAL),
                 (s, r) -> ser.readRecs(s, r, false, TuplePart.KEY_AND_VAL),
-                Collections.emptyList());
+                Collections.emptyList(),
+                ser.getColocationHashFunction(tx, recs));
     }
 
     /** {@inheritDoc} */
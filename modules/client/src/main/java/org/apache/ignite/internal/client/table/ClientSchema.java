@@ -35,13 +35,27 @@ import static org.apache.ignite.internal.client.proto.ClientDataType.STRING;
 import static org.apache.ignite.internal.client.proto.ClientDataType.TIME;
 import static org.apache.ignite.internal.client.proto.ClientDataType.TIMESTAMP;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import org.apache.ignite.internal.client.proto.ClientDataType;
+import org.apache.ignite.internal.client.proto.ClientMessageCommon;
 import org.apache.ignite.internal.client.proto.TuplePart;
 import org.apache.ignite.internal.marshaller.BinaryMode;
 import org.apache.ignite.internal.marshaller.Marshaller;
 import org.apache.ignite.internal.marshaller.MarshallerColumn;
+import org.apache.ignite.internal.util.HashCalculator;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.table.mapper.Mapper;
 import org.jetbrains.annotations.NotNull;
@@ -61,9 +75,18 @@ public class ClientSchema {
     /** Columns. */
     private final ClientColumn[] columns;
 
+    /** Colocation columns in the colocation order. */
+    private final ClientColumn[] colocationColumns;
+
+    /** Whether the columns describe the binary row layout. */
+    private final boolean hasRowLayout;
+
     /** Columns map by name. */
     private final Map<String, ClientColumn> map = new HashMap<>();
 
+    /** Marshallers by mapper and tuple part. Views keep their mappers, so the mapper identity is a stable key. */
+    private final Map<MarshallerKey, Marshaller> marshallers = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      *
@@ -88,6 +111,17 @@ public class ClientSchema {
         }
 
         keyColumnCount = keyCnt;
+
+        var colocationCols = Arrays.stream(columns)
+                .filter(c -> c.colocationIndex() >= 0)
+                .sorted(Comparator.comparingInt(ClientColumn::colocationIndex))
+                .toArray(ClientColumn[]::new);
+
+        // Servers which don't send colocation indexes colocate by the key columns.
+        colocationColumns = colocationCols.length > 0 ? colocationCols : Arrays.copyOf(columns, keyCnt);
+
+        // Servers which don't send the type parameters don't accept binary rows.
+        hasRowLayout = Arrays.stream(columns).allMatch(c -> c.scale() >= 0 && c.precision() >= 0);
     }
 
     /**
@@ -144,9 +178,45 @@ public class ClientSchema {
         return keyColumnCount;
     }
 
+    /**
+     * Returns colocation columns in the colocation order.
+     *
+     * @return Colocation columns.
+     */
+    public @NotNull ClientColumn[] colocationColumns() {
+        return colocationColumns;
+    }
+
+    /**
+     * Gets a value indicating whether the columns describe the binary row layout, so that the tuples can be written and
+     * read in the binary row format.
+     *
+     * @return {@code true} if the schema describes the binary row layout.
+     */
+    public boolean hasRowLayout() {
+        return hasRowLayout;
+    }
+
+    /**
+     * Computes the colocation hash of a row the same way the server does, see {@code Row#colocationHash}.
+     *
+     * @param values Function returning the value of the column, {@link ClientMessageCommon#NO_VALUE} if the value is not set.
+     * @return Colocation hash, or {@code null} if a colocation column value is not set or doesn't match the column type.
+     */
+    public @Nullable Integer colocationHash(Function<ClientColumn, Object> values) {
+        var calc = new HashCalculator();
+
+        for (ClientColumn col : colocationColumns) {
+            if (!appendColocationValue(calc, col.type(), values.apply(col))) {
+                return null;
+            }
+        }
+
+        return calc.hash();
+    }
+
     public <T> Marshaller getMarshaller(Mapper mapper, TuplePart part) {
-        // TODO: Cache Marshallers (IGNITE-16094).
-        return createMarshaller(mapper, part);
+        return marshallers.computeIfAbsent(new MarshallerKey(mapper, part), k -> createMarshaller(k.mapper, k.part));
     }
 
     private Marshaller createMarshaller(Mapper mapper, TuplePart part) {
@@ -230,4 +300,211 @@ public class ClientSchema {
                 throw new IgniteException("Unknown client data type: " + dataType);
         }
     }
+
+    /**
+     * Appends a value to the colocation hash, converting integral and floating point numbers to the column type
+     * the same way the server reads them.
+     *
+     * @return {@code false} if the value is not set or doesn't match the column type.
+     */
+    private static boolean appendColocationValue(HashCalculator calc, int dataType, Object v) {
+        if (v == null) {
+            calc.appendNull();
+
+            return true;
+        }
+
+        switch (dataType) {
+            case INT8:
+                if (!isIntegral(v)) {
+                    return false;
+                }
+
+                calc.appendByte(((Number) v).byteValue());
+
+                return true;
+
+            case INT16:
+                if (!isIntegral(v)) {
+                    return false;
+                }
+
+                calc.appendShort(((Number) v).shortValue());
+
+                return true;
+
+            case INT32:
+                if (!isIntegral(v)) {
+                    return false;
+                }
+
+                calc.appendInt(((Number) v).intValue());
+
+                return true;
+
+            case INT64:
+                if (!isIntegral(v)) {
+                    return false;
+                }
+
+                calc.appendLong(((Number) v).longValue());
+
+                return true;
+
+            case FLOAT:
+                if (!(v instanceof Float)) {
+                    return false;
+                }
+
+                calc.appendFloat((float) v);
+
+                return true;
+
+            case DOUBLE:
+                if (!(v instanceof Double || v instanceof Float)) {
+                    return false;
+                }
+
+                calc.appendDouble(((Number) v).doubleValue());
+
+                return true;
+
+            case DECIMAL:
+                if (!(v instanceof BigDecimal)) {
+                    return false;
+                }
+
+                calc.appendDecimal((BigDecimal) v);
+
+                return true;
+
+            case ClientDataType.UUID:
+                if (!(v instanceof UUID)) {
+                    return false;
+                }
+
+                calc.appendUuid((UUID) v);
+
+                return true;
+
+            case STRING:
+                if (!(v instanceof String)) {
+                    return false;
+                }
+
+                calc.appendString((String) v);
+
+                return true;
+
+            case BYTES:
+                if (!(v instanceof byte[])) {
+                    return false;
+                }
+
+                calc.appendBytes((byte[]) v);
+
+                return true;
+
+            case BITMASK:
+                if (!(v instanceof BitSet)) {
+                    return false;
+                }
+
+                calc.appendBitmask((BitSet) v);
+
+                return true;
+
+            // Falls through.
+            case BIGINTEGER:
+            case NUMBER:
+                if (!(v instanceof BigInteger)) {
+                    return false;
+                }
+
+                calc.appendNumber((BigInteger) v);
+
+                return true;
+
+            case DATE:
+                if (!(v instanceof LocalDate)) {
+                    return false;
+                }
+
+                calc.appendDate((LocalDate) v);
+
+                return true;
+
+            case TIME:
+                if (!(v instanceof LocalTime)) {
+                    return false;
+                }
+
+                calc.appendTime((LocalTime) v);
+
+                return true;
+
+            case DATETIME:
+                if (!(v instanceof LocalDateTime)) {
+                    return false;
+                }
+
+                calc.appendDateTime((LocalDateTime) v);
+
+                return true;
+
+            case TIMESTAMP:
+                if (!(v instanceof Instant)) {
+                    return false;
+                }
+
+                calc.appendTimestamp((Instant) v);
+
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isIntegral(Object v) {
+        return v instanceof Byte || v instanceof Short || v instanceof Integer || v instanceof Long;
+    }
+
+    /**
+     * Marshaller cache key.
+     */
+    private static class MarshallerKey {
+        /** Mapper. */
+        private final Mapper mapper;
+
+        /** Tuple part. */
+        private final TuplePart part;
+
+        MarshallerKey(Mapper mapper, TuplePart part) {
+            this.mapper = mapper;
+            this.part = part;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            MarshallerKey that = (MarshallerKey) o;
+
+            return mapper == that.mapper && part == that.part;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(mapper) + part.hashCode();
+        }
+    }
 }
@@ -17,22 +17,33 @@
 
 package org.apache.ignite.internal.client.table;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.apache.ignite.client.IgniteClientException;
+import org.apache.ignite.internal.client.ClientChannel;
 import org.apache.ignite.internal.client.PayloadOutputChannel;
 import org.apache.ignite.internal.client.ReliableChannel;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.tx.ClientTransaction;
+import org.apache.ignite.internal.streamer.StreamerBatchSender;
+import org.apache.ignite.internal.streamer.StreamerPartitionAwarenessProvider;
+import org.apache.ignite.internal.streamer.StreamerSubscriber;
 import org.apache.ignite.internal.tostring.IgniteToStringBuilder;
+import org.apache.ignite.internal.util.IgniteObjectName;
 import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.lang.IgniteTriConsumer;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Table;
@@ -58,6 +69,14 @@ public class ClientTable implements Table {
 
     private final Object latestSchemaLock = new Object();
 
+    /** Partition leader names, null elements for unknown leaders, null if the assignment could not be loaded. */
+    private volatile CompletableFuture<List<String>> partitionAssignment;
+
+    /** Version of the channel partition assignment {@link #partitionAssignment} was requested at. */
+    private volatile long partitionAssignmentVer = -1;
+
+    private final Object partitionAssignmentLock = new Object();
+
     /**
      * Constructor.
      *
@@ -118,7 +137,7 @@ public class ClientTable implements Table {
         return new ClientKeyValueBinaryView(this);
     }
 
-    private CompletableFuture<ClientSchema> getLatestSchema() {
+    CompletableFuture<ClientSchema> getLatestSchema() {
         if (latestSchemaVer >= 0) {
             return CompletableFuture.completedFuture(schemas.get(latestSchemaVer));
         }
@@ -178,11 +197,14 @@ public class ClientTable implements Table {
             var type = in.unpackInt();
             var isKey = in.unpackBoolean();
             var isNullable = in.unpackBoolean();
+            var colocationIdx = propCnt > 4 ? in.unpackInt() : -1;
+            var scale = propCnt > 5 ? in.unpackInt() : -1;
+            var precision = propCnt > 6 ? in.unpackInt() : -1;
 
             // Skip unknown extra properties, if any.
-            in.skipValues(propCnt - 4);
+            in.skipValues(propCnt - Math.min(propCnt, 7));
 
-            var column = new ClientColumn(name, type, isNullable, isKey, i);
+            var column = new ClientColumn(name, type, isNullable, isKey, i, colocationIdx, scale, precision);
             columns[i] = column;
         }
 
@@ -248,12 +270,35 @@ public class ClientTable implements Table {
             BiConsumer<ClientSchema, PayloadOutputChannel> writer,
             BiFunction<ClientSchema, ClientMessageUnpacker, T> reader,
             T defaultValue
+    ) {
+        return doSchemaOutInOpAsync(opCode, writer, reader, defaultValue, null);
+    }
+
+    /**
+     * Performs a schema-based operation.
+     *
+     * @param opCode Op code.
+     * @param writer Writer.
+     * @param reader Reader.
+     * @param defaultValue Default value to return when the server returns no data.
+     * @param hashFunction Function computing the colocation hash of the operation key, {@code null} to send the request
+     *      to the default channel. The function returns {@code null} when the hash is unknown.
+     * @param <T> Result type.
+     * @return Future representing pending completion of the operation.
+     */
+    <T> CompletableFuture<T> doSchemaOutInOpAsync(
+            int opCode,
+            BiConsumer<ClientSchema, PayloadOutputChannel> writer,
+            BiFunction<ClientSchema, ClientMessageUnpacker, T> reader,
+            T defaultValue,
+            @Nullable Function<ClientSchema, Integer> hashFunction
     ) {
         return getLatestSchema()
                 .thenCompose(schema ->
                         ch.serviceAsync(opCode,
                                 w -> writer.accept(schema, w),
-                                r -> readSchemaAndReadData(schema, r.in(), reader, defaultValue)))
+                                r -> readSchemaAndReadData(schema, r.in(), reader, defaultValue),
+                                getPreferredNodeName(schema, hashFunction)))
                 .thenCompose(t -> loadSchemaAndReadData(t, reader));
     }
 
@@ -270,14 +315,202 @@ public class ClientTable implements Table {
             int opCode,
             BiConsumer<ClientSchema, PayloadOutputChannel> writer,
             Function<ClientMessageUnpacker, T> reader) {
+        return doSchemaOutOpAsync(opCode, writer, reader, null);
+    }
+
+    /**
+     * Performs a schema-based operation.
+     *
+     * @param opCode Op code.
+     * @param writer Writer.
+     * @param reader Reader.
+     * @param hashFunction Function computing the colocation hash of the operation key, {@code null} to send the request
+     *      to the default channel. The function returns {@code null} when the hash is unknown.
+     * @param <T> Result type.
+     * @return Future representing pending completion of the operation.
+     */
+    <T> CompletableFuture<T> doSchemaOutOpAsync(
+            int opCode,
+            BiConsumer<ClientSchema, PayloadOutputChannel> writer,
+            Function<ClientMessageUnpacker, T> reader,
+            @Nullable Function<ClientSchema, Integer> hashFunction) {
         return getLatestSchema()
                 .thenCompose(schema ->
                         ch.serviceAsync(opCode,
                                 w -> writer.accept(schema, w),
-                                r -> reader.apply(r.in())));
+                                r -> reader.apply(r.in()),
+                                getPreferredNodeName(schema, hashFunction)));
+    }
+
+    /**
+     * Streams data into the table, see {@link org.apache.ignite.table.DataStreamerTarget}. Every batch is sent with
+     * {@link ClientOp#STREAMER_BATCH_SEND} to the node holding the leader of the batch partition.
+     *
+     * @param publisher Producer of the items.
+     * @param options Options, {@code null} to use the defaults.
+     * @param rowWriter Writes all columns of an item.
+     * @param hashFunction Computes the colocation hash of an item, returns {@code null} when the hash is unknown.
+     * @param <R> Item type.
+     * @return Future representing pending completion of the streaming.
+     */
+    <R> CompletableFuture<Void> streamData(
+            Flow.Publisher<R> publisher,
+            @Nullable DataStreamerOptions options,
+            IgniteTriConsumer<R, ClientSchema, PayloadOutputChannel> rowWriter,
+            BiFunction<ClientSchema, R, Integer> hashFunction
+    ) {
+        Objects.requireNonNull(publisher);
+
+        DataStreamerOptions opts = options == null ? new DataStreamerOptions() : options;
+
+        StreamerBatchSender<R, Integer> batchSender = (partition, batch) -> doSchemaOutOpAsync(
+                ClientOp.STREAMER_BATCH_SEND,
+                (s, w) -> {
+                    w.out().packUuid(id);
+                    w.out().packInt(s.version());
+                    w.out().packInt(batch.size());
+
+                    for (R item : batch) {
+                        rowWriter.accept(item, s, w);
+                    }
+                },
+                r -> null,
+                s -> hashFunction.apply(s, batch.iterator().next()));
+
+        var subscriber = new StreamerSubscriber<>(
+                batchSender,
+                new StreamerPartitionAwareness<>(hashFunction),
+                opts.batchSize(),
+                opts.perNodeParallelOperations(),
+                opts.autoFlushFrequency());
+
+        publisher.subscribe(subscriber);
+
+        return subscriber.completionFuture();
+    }
+
+    /**
+     * Scans the table or a partition with {@link ClientOp#TABLE_SCAN}. The rows are fetched page by page from the server-side
+     * cursor, which is bound to the connection: a partition scan outside of a transaction is sent to the node holding the
+     * partition leader, so that the rows are read locally.
+     *
+     * @param tx Transaction, {@code null} to scan outside of a transaction.
+     * @param options Options, {@code null} to use the defaults.
+     * @return Future representing pending completion of the operation, the cursor holds the first page.
+     */
+    public CompletableFuture<ClientTableScanCursor> scanAsync(@Nullable Transaction tx, @Nullable ClientTableScanOptions options) {
+        ClientTableScanOptions opts = options == null ? new ClientTableScanOptions() : options;
+
+        String[] columns = opts.columns() == null
+                ? null
+                : Arrays.stream(opts.columns()).map(IgniteObjectName::parse).toArray(String[]::new);
+
+        Function<ClientSchema, Integer> hashFunction = tx == null && opts.partition() >= 0 ? s -> opts.partition() : null;
+        BiFunction<ClientSchema, ClientMessageUnpacker, ClientTableScanCursor.Page> pageReader =
+                (s, in) -> ClientTableScanCursor.readPage(s, in, columns);
+
+        return getLatestSchema()
+                .thenCompose(schema -> ch.serviceAsync(ClientOp.TABLE_SCAN,
+                        w -> {
+                            w.out().packUuid(id);
+                            writeTx(tx, w);
+                            w.out().packInt(opts.partition() < 0 ? -1 : opts.partition());
+                            w.out().packInt(opts.pageSize());
+                            w.out().packBoolean(opts.prefetch());
+
+                            if (columns == null) {
+                                w.out().packNil();
+                            } else {
+                                w.out().packArrayHeader(columns.length);
+
+                                for (String col : columns) {
+                                    w.out().packString(col);
+                                }
+                            }
+
+                            if (opts.filterOp() == null) {
+                                w.out().packNil();
+                            } else {
+                                w.out().packArrayHeader(3);
+                                w.out().packString(IgniteObjectName.parse(opts.filterColumn()));
+                                w.out().packInt(opts.filterOp().ordinal());
+                                w.out().packObject(opts.filterValue());
+                            }
+                        },
+                        r -> {
+                            ClientChannel clientCh = r.clientChannel();
+                            Long resourceId = r.in().tryUnpackNil() ? null : r.in().unpackLong();
+                            Object data = readSchemaAndReadData(schema, r.in(), pageReader, null);
+
+                            return loadSchemaAndReadData(data, pageReader)
+                                    .thenApply(page -> new ClientTableScanCursor(this, clientCh, resourceId, columns, page));
+                        },
+                        getPreferredNodeName(schema, hashFunction)))
+                .thenCompose(Function.identity());
     }
 
-    private <T> Object readSchemaAndReadData(
+    /**
+     * Gets the name of the node holding the leader of the partition the key belongs to.
+     *
+     * @param schema Schema.
+     * @param hashFunction Function computing the colocation hash of the key.
+     * @return Node name, or {@code null} if the node is not known.
+     */
+    private @Nullable String getPreferredNodeName(ClientSchema schema, @Nullable Function<ClientSchema, Integer> hashFunction) {
+        if (hashFunction == null || !ch.hasMultipleChannels()) {
+            return null;
+        }
+
+        // Don't wait for the assignment: requests go to the default channel until it is loaded.
+        List<String> assignment = getPartitionAssignment().getNow(null);
+
+        if (assignment == null || assignment.isEmpty()) {
+            return null;
+        }
+
+        Integer hash = hashFunction.apply(schema);
+
+        if (hash == null) {
+            return null;
+        }
+
+        return assignment.get(Math.abs(hash % assignment.size()));
+    }
+
+    private CompletableFuture<List<String>> getPartitionAssignment() {
+        long ver = ch.partitionAssignmentVersion();
+
+        if (partitionAssignmentVer == ver) {
+            return partitionAssignment;
+        }
+
+        synchronized (partitionAssignmentLock) {
+            if (partitionAssignmentVer != ver) {
+                partitionAssignment = loadPartitionAssignment();
+                partitionAssignmentVer = ver;
+            }
+
+            return partitionAssignment;
+        }
+    }
+
+    private CompletableFuture<List<String>> loadPartitionAssignment() {
+        return ch.serviceAsync(ClientOp.PARTITION_ASSIGNMENT_GET,
+                w -> w.out().packUuid(id),
+                r -> {
+                    int cnt = r.in().unpackArrayHeader();
+                    List<String> res = new ArrayList<>(cnt);
+
+                    for (int i = 0; i < cnt; i++) {
+                        res.add(r.in().tryUnpackNil() ? null : r.in().unpackString());
+                    }
+
+                    return res;
+                })
+                .exceptionally(e -> null);
+    }
+
+    <T> Object readSchemaAndReadData(
             ClientSchema knownSchema,
             ClientMessageUnpacker in,
             BiFunction<ClientSchema, ClientMessageUnpacker, T> fn,
@@ -292,7 +525,7 @@ public class ClientTable implements Table {
         var resSchema = schemaVer == knownSchema.version() ? knownSchema : schemas.get(schemaVer);
 
         if (resSchema != null) {
-            return fn.apply(knownSchema, in);
+            return fn.apply(resSchema, in);
         }
 
         // Schema is not yet known - request.
@@ -300,7 +533,7 @@ public class ClientTable implements Table {
         return new IgniteBiTuple<>(in.retain(), schemaVer);
     }
 
-    private <T> CompletionStage<T> loadSchemaAndReadData(
+    <T> CompletionStage<T> loadSchemaAndReadData(
             Object data,
             BiFunction<ClientSchema, ClientMessageUnpacker, T> fn
     ) {
@@ -326,4 +559,64 @@ public class ClientTable implements Table {
 
         return resFut;
     }
+
+    /**
+     * Maps the streamed items to partitions with the partition assignment known to the client. All items belong to one
+     * partition when the assignment is not loaded.
+     *
+     * @param <R> Item type.
+     */
+    private class StreamerPartitionAwareness<R> implements StreamerPartitionAwarenessProvider<R, Integer> {
+        /** Hash function. */
+        private final BiFunction<ClientSchema, R, Integer> hashFunction;
+
+        /** Latest schema. */
+        private volatile ClientSchema schema;
+
+        /** Partition assignment, {@code null} if not loaded. */
+        private volatile @Nullable List<String> assignment;
+
+        /**
+         * Constructor.
+         *
+         * @param hashFunction Hash function.
+         */
+        StreamerPartitionAwareness(BiFunction<ClientSchema, R, Integer> hashFunction) {
+            this.hashFunction = hashFunction;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Integer partition(R item) {
+            List<String> assignment = this.assignment;
+
+            if (assignment == null || assignment.isEmpty()) {
+                return 0;
+            }
+
+            Integer hash = hashFunction.apply(schema, item);
+
+            return hash == null ? 0 : Math.abs(hash % assignment.size());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public @Nullable String node(Integer partition) {
+            List<String> assignment = this.assignment;
+
+            return assignment == null || partition >= assignment.size() ? null : assignment.get(partition);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CompletableFuture<Void> refreshAsync() {
+            return getLatestSchema()
+                    .thenCompose(schema -> {
+                        this.schema = schema;
+
+                        return getPartitionAssignment();
+                    })
+                    .thenAccept(assignment -> this.assignment = assignment);
+        }
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.table;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.client.IgniteClientException;
+import org.apache.ignite.internal.client.ClientChannel;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.client.proto.ClientOp;
+import org.apache.ignite.internal.util.IgniteObjectName;
+import org.apache.ignite.table.Tuple;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Client table scan cursor: holds the current page of rows, the next pages are fetched from the server-side cursor on the
+ * connection which started the scan.
+ */
+public class ClientTableScanCursor {
+    /** Table. */
+    private final ClientTable table;
+
+    /** Channel. */
+    private final ClientChannel ch;
+
+    /** Resource id, {@code null} when the scan is complete within the first page. */
+    private final @Nullable Long resourceId;
+
+    /** Names of the projected columns, or {@code null} when all columns are returned. */
+    private final @Nullable String[] columns;
+
+    /** Rows. */
+    private volatile List<Tuple> rows;
+
+    /** More pages flag. */
+    private volatile boolean hasMorePages;
+
+    /** Closed flag. */
+    private volatile boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param table Table.
+     * @param ch Channel.
+     * @param resourceId Resource id.
+     * @param columns Names of the projected columns.
+     * @param page First page.
+     */
+    ClientTableScanCursor(
+            ClientTable table,
+            ClientChannel ch,
+            @Nullable Long resourceId,
+            @Nullable String[] columns,
+            Page page
+    ) {
+        this.table = table;
+        this.ch = ch;
+        this.resourceId = resourceId;
+        this.columns = columns;
+
+        setPage(page);
+    }
+
+    /**
+     * Gets the rows of the current page.
+     *
+     * @return Rows. Projected rows contain the requested columns only.
+     */
+    public List<Tuple> currentPage() {
+        return rows;
+    }
+
+    /**
+     * Gets a value indicating whether there are more pages to fetch.
+     *
+     * @return Whether there are more pages.
+     */
+    public boolean hasMorePages() {
+        return resourceId != null && hasMorePages;
+    }
+
+    /**
+     * Fetches the next page, which becomes the current page.
+     *
+     * @return Future representing pending completion of the operation.
+     */
+    public CompletableFuture<ClientTableScanCursor> fetchNextPage() {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IgniteClientException("Cursor is closed."));
+        }
+
+        if (!hasMorePages()) {
+            return CompletableFuture.failedFuture(new IgniteClientException("No more pages."));
+        }
+
+        return table.getLatestSchema()
+                .thenCompose(schema -> ch.serviceAsync(
+                        ClientOp.TABLE_SCAN_NEXT_PAGE,
+                        w -> w.out().packLong(resourceId),
+                        r -> table.readSchemaAndReadData(schema, r.in(), (s, in) -> readPage(s, in, columns), null)))
+                .thenCompose(data -> table.loadSchemaAndReadData(data, (s, in) -> readPage(s, in, columns)))
+                .thenApply(page -> {
+                    setPage(page);
+
+                    return this;
+                });
+    }
+
+    /**
+     * Closes the cursor. The server closes the cursor itself when the last page is fetched.
+     *
+     * @return Future representing pending completion of the operation.
+     */
+    public CompletableFuture<Void> closeAsync() {
+        if (resourceId == null || closed) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        closed = true;
+
+        return ch.serviceAsync(ClientOp.TABLE_SCAN_CURSOR_CLOSE, w -> w.out().packLong(resourceId), null);
+    }
+
+    private void setPage(Page page) {
+        rows = page.rows;
+        hasMorePages = page.hasMore;
+
+        if (!hasMorePages) {
+            // When last page is fetched, server closes the cursor.
+            closed = true;
+        }
+    }
+
+    /**
+     * Reads a page.
+     *
+     * @param schema Schema of the rows.
+     * @param in Unpacker.
+     * @param columns Parsed names of the projected columns, or {@code null} when all columns are returned.
+     * @return Page.
+     */
+    static Page readPage(ClientSchema schema, ClientMessageUnpacker in, @Nullable String[] columns) {
+        int size = in.unpackArrayHeader();
+        var rows = new ArrayList<Tuple>(size);
+
+        if (columns == null) {
+            for (int i = 0; i < size; i++) {
+                rows.add(ClientTupleSerializer.readTuple(schema, in, false));
+            }
+        } else {
+            var cols = new ClientColumn[columns.length];
+
+            for (int i = 0; i < cols.length; i++) {
+                cols[i] = schema.column(columns[i]);
+            }
+
+            for (int i = 0; i < size; i++) {
+                Tuple tuple = Tuple.create(cols.length);
+
+                for (ClientColumn col : cols) {
+                    tuple.set(IgniteObjectName.quote(col.name()), in.unpackObject(col.type()));
+                }
+
+                rows.add(tuple);
+            }
+        }
+
+        return new Page(Collections.unmodifiableList(rows), in.unpackBoolean());
+    }
+
+    /**
+     * Page of rows.
+     */
+    static class Page {
+        /** Rows. */
+        private final List<Tuple> rows;
+
+        /** Whether there are more pages. */
+        private final boolean hasMore;
+
+        Page(List<Tuple> rows, boolean hasMore) {
+            this.rows = rows;
+            this.hasMore = hasMore;
+        }
+    }
+}
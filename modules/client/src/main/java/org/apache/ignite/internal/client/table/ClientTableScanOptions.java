@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.table;
+
+import java.util.Objects;
+import org.apache.ignite.internal.client.proto.TableScanFilterOp;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Table scan options.
+ *
+ * @see ClientTable#scanAsync(org.apache.ignite.tx.Transaction, ClientTableScanOptions)
+ */
+public class ClientTableScanOptions {
+    /** Default number of rows in a page. */
+    public static final int DFLT_PAGE_SIZE = 1024;
+
+    /** Partition to scan, negative to scan all partitions. */
+    private int partition = -1;
+
+    /** Number of rows in a page. */
+    private int pageSize = DFLT_PAGE_SIZE;
+
+    /** Whether the server loads the next page while the client processes the current one. */
+    private boolean prefetch = true;
+
+    /** Names of the columns to return, {@code null} to return all columns. */
+    private @Nullable String[] columns;
+
+    /** Name of the filter column. */
+    private @Nullable String filterColumn;
+
+    /** Filter comparison. */
+    private @Nullable TableScanFilterOp filterOp;
+
+    /** Filter value. */
+    private @Nullable Object filterValue;
+
+    /**
+     * Gets the partition to scan.
+     *
+     * @return Partition, or a negative value to scan all partitions.
+     */
+    public int partition() {
+        return partition;
+    }
+
+    /**
+     * Sets the partition to scan. All partitions are scanned one by one by default.
+     *
+     * @param partition Partition, or a negative value to scan all partitions.
+     * @return {@code this} for chaining.
+     */
+    public ClientTableScanOptions partition(int partition) {
+        this.partition = partition;
+
+        return this;
+    }
+
+    /**
+     * Gets the number of rows in a page.
+     *
+     * @return Page size.
+     */
+    public int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the number of rows in a page.
+     *
+     * @param pageSize Page size.
+     * @return {@code this} for chaining.
+     */
+    public ClientTableScanOptions pageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+
+        this.pageSize = pageSize;
+
+        return this;
+    }
+
+    /**
+     * Gets a value indicating whether the server loads the next page while the client processes the current one.
+     *
+     * @return Whether the next page is prefetched.
+     */
+    public boolean prefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets a value indicating whether the server loads the next page while the client processes the current one. When disabled,
+     * the server reads the rows only when the client requests a page.
+     *
+     * @param prefetch Whether the next page is prefetched.
+     * @return {@code this} for chaining.
+     */
+    public ClientTableScanOptions prefetch(boolean prefetch) {
+        this.prefetch = prefetch;
+
+        return this;
+    }
+
+    /**
+     * Gets the names of the columns to return.
+     *
+     * @return Column names, or {@code null} to return all columns.
+     */
+    public @Nullable String[] columns() {
+        return columns;
+    }
+
+    /**
+     * Sets the names of the columns to return, the server sends only these columns.
+     *
+     * @param columns Column names, or {@code null} to return all columns.
+     * @return {@code this} for chaining.
+     */
+    public ClientTableScanOptions columns(@Nullable String... columns) {
+        if (columns != null && columns.length == 0) {
+            throw new IllegalArgumentException("Columns must not be empty.");
+        }
+
+        this.columns = columns;
+
+        return this;
+    }
+
+    /**
+     * Gets the name of the filter column.
+     *
+     * @return Column name, or {@code null} if there is no filter.
+     */
+    public @Nullable String filterColumn() {
+        return filterColumn;
+    }
+
+    /**
+     * Gets the filter comparison.
+     *
+     * @return Comparison, or {@code null} if there is no filter.
+     */
+    public @Nullable TableScanFilterOp filterOp() {
+        return filterOp;
+    }
+
+    /**
+     * Gets the filter value.
+     *
+     * @return Value.
+     */
+    public @Nullable Object filterValue() {
+        return filterValue;
+    }
+
+    /**
+     * Sets the filter which the server applies to the rows before sending them to the client: only the rows where the
+     * column value matches the comparison with the given value are returned. {@code null} column values never match the
+     * comparisons other than {@link TableScanFilterOp#IS_NULL}.
+     *
+     * @param column Column name.
+     * @param op Comparison.
+     * @param value Value to compare the column value with, ignored by {@link TableScanFilterOp#IS_NULL} and
+     *      {@link TableScanFilterOp#IS_NOT_NULL}.
+     * @return {@code this} for chaining.
+     */
+    public ClientTableScanOptions filter(String column, TableScanFilterOp op, @Nullable Object value) {
+        this.filterColumn = Objects.requireNonNull(column);
+        this.filterOp = Objects.requireNonNull(op);
+        this.filterValue = value;
+
+        return this;
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import org.apache.ignite.internal.client.PayloadOutputChannel;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.lang.IgniteBiTuple;
@@ -118,6 +119,16 @@ public class ClientTupleSerializer {
      * @param keyOnly Key only.
      */
     public static void writeTupleRaw(@NotNull Tuple tuple, ClientSchema schema, PayloadOutputChannel out, boolean keyOnly) {
+        if (ClientBinaryRowWriter.enabled(schema, out)) {
+            byte[] row = ClientBinaryRowWriter.write(schema, col -> tuple.valueOrDefault(col.name(), NO_VALUE), keyOnly);
+
+            if (row != null) {
+                out.out().packBinaryRow(row);
+
+                return;
+            }
+        }
+
         var columns = schema.columns();
         var count = keyOnly ? schema.keyColumnCount() : columns.length;
 
@@ -153,18 +164,24 @@ public class ClientTupleSerializer {
             out.out().packInt(schema.version());
         }
 
-        var columns = schema.columns();
+        Function<ClientColumn, Object> values = col -> col.key()
+                ? key.valueOrDefault(col.name(), NO_VALUE)
+                : val != null
+                        ? val.valueOrDefault(col.name(), NO_VALUE)
+                        : NO_VALUE;
 
-        for (var i = 0; i < columns.length; i++) {
-            var col = columns[i];
+        if (ClientBinaryRowWriter.enabled(schema, out)) {
+            byte[] row = ClientBinaryRowWriter.write(schema, values, false);
 
-            Object v = col.key()
-                    ? key.valueOrDefault(col.name(), NO_VALUE)
-                    : val != null
-                            ? val.valueOrDefault(col.name(), NO_VALUE)
-                            : NO_VALUE;
+            if (row != null) {
+                out.out().packBinaryRow(row);
 
-            out.out().packObject(v);
+                return;
+            }
+        }
+
+        for (var col : schema.columns()) {
+            out.out().packObject(values.apply(col));
         }
     }
 
@@ -211,9 +228,52 @@ public class ClientTupleSerializer {
         }
     }
 
+    /**
+     * Gets the function computing the colocation hash of a tuple, see {@link ClientSchema#colocationHash}.
+     *
+     * @param tx Transaction.
+     * @param rec Key or full record tuple.
+     * @return Hash function, or {@code null} when the request is sent to the default channel: transactional requests
+     *      are bound to the channel of the transaction.
+     */
+    static @Nullable Function<ClientSchema, Integer> getColocationHashFunction(@Nullable Transaction tx, @NotNull Tuple rec) {
+        if (tx != null) {
+            return null;
+        }
+
+        return schema -> schema.colocationHash(col -> rec.valueOrDefault(col.name(), NO_VALUE));
+    }
+
+    /**
+     * Gets the function computing the colocation hash of the first tuple of a batch, so that at least a part of the batch
+     * is handled by the partition leader.
+     *
+     * @param tx Transaction.
+     * @param recs Key or full record tuples.
+     * @return Hash function, or {@code null} when the request is sent to the default channel.
+     */
+    static @Nullable Function<ClientSchema, Integer> getColocationHashFunction(
+            @Nullable Transaction tx,
+            @NotNull Collection<Tuple> recs
+    ) {
+        return recs.isEmpty() ? null : getColocationHashFunction(tx, recs.iterator().next());
+    }
+
     static Tuple readTuple(ClientSchema schema, ClientMessageUnpacker in, boolean keyOnly) {
         var tuple = new ClientTuple(schema);
 
+        byte[] row = in.tryUnpackBinaryRow();
+
+        if (row != null) {
+            Object[] values = ClientBinaryRowReader.read(schema, row);
+
+            for (var i = 0; i < values.length; i++) {
+                tuple.setInternal(i, values[i]);
+            }
+
+            return tuple;
+        }
+
         var colCnt = keyOnly ? schema.keyColumnCount() : schema.columns().length;
 
         for (var i = 0; i < colCnt; i++) {
@@ -226,6 +286,18 @@ public class ClientTupleSerializer {
     static Tuple readValueTuple(ClientSchema schema, ClientMessageUnpacker in, Tuple keyTuple) {
         var tuple = new ClientTuple(schema);
 
+        byte[] row = in.tryUnpackBinaryRow();
+
+        if (row != null) {
+            Object[] values = ClientBinaryRowReader.read(schema, row);
+
+            for (var i = 0; i < values.length; i++) {
+                tuple.setInternal(i, values[i]);
+            }
+
+            return tuple;
+        }
+
         for (var i = 0; i < schema.columns().length; i++) {
             ClientColumn col = schema.columns()[i];
 
@@ -245,6 +317,18 @@ public class ClientTupleSerializer {
 
         var valTuple = new ClientTuple(schema, keyColCnt, schema.columns().length - 1);
 
+        byte[] row = in.tryUnpackBinaryRow();
+
+        if (row != null) {
+            Object[] values = ClientBinaryRowReader.read(schema, row);
+
+            for (var i = keyColCnt; i < values.length; i++) {
+                valTuple.setInternal(i - keyColCnt, values[i]);
+            }
+
+            return valTuple;
+        }
+
         for (var i = keyColCnt; i < colCnt; i++) {
             ClientColumn col = schema.columns()[i];
             Object val = in.unpackObject(col.type());
@@ -262,9 +346,12 @@ public class ClientTupleSerializer {
         var keyTuple = new ClientTuple(schema, 0, keyColCnt - 1);
         var valTuple = new ClientTuple(schema, keyColCnt, schema.columns().length - 1);
 
+        byte[] row = in.tryUnpackBinaryRow();
+        Object[] values = row != null ? ClientBinaryRowReader.read(schema, row) : null;
+
         for (var i = 0; i < colCnt; i++) {
             ClientColumn col = schema.columns()[i];
-            Object val = in.unpackObject(col.type());
+            Object val = values != null ? values[i] : in.unpackObject(col.type());
 
             if (i < keyColCnt) {
                 keyTuple.setInternal(i, val);
@@ -33,12 +33,16 @@ import org.apache.ignite.internal.jdbc.proto.event.JdbcMetaSchemasResult;
 import org.apache.ignite.internal.jdbc.proto.event.JdbcMetaTablesRequest;
 import org.apache.ignite.internal.jdbc.proto.event.JdbcMetaTablesResult;
 import org.apache.ignite.internal.jdbc.proto.event.JdbcQueryMetadataRequest;
+import org.apache.ignite.internal.jdbc.proto.event.PreparedCloseRequest;
+import org.apache.ignite.internal.jdbc.proto.event.PreparedExecuteRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryCloseRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryCloseResult;
 import org.apache.ignite.internal.jdbc.proto.event.QueryExecuteRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryExecuteResult;
 import org.apache.ignite.internal.jdbc.proto.event.QueryFetchRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryFetchResult;
+import org.apache.ignite.internal.jdbc.proto.event.QueryPrepareRequest;
+import org.apache.ignite.internal.jdbc.proto.event.QueryPrepareResult;
 
 /**
  * Jdbc query network event handler implementation.
@@ -98,6 +102,30 @@ public class JdbcClientQueryEventHandler implements JdbcQueryEventHandler {
         return client.sendRequestAsync(ClientOp.JDBC_CURSOR_CLOSE, req, res);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<QueryPrepareResult> prepareAsync(QueryPrepareRequest req) {
+        QueryPrepareResult res = new QueryPrepareResult();
+
+        return client.sendRequestAsync(ClientOp.JDBC_PREPARE, req, res);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<QueryExecuteResult> executePreparedAsync(PreparedExecuteRequest req) {
+        QueryExecuteResult res = new QueryExecuteResult();
+
+        return client.sendRequestAsync(ClientOp.JDBC_EXEC_PREPARED, req, res);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<QueryCloseResult> closePreparedAsync(PreparedCloseRequest req) {
+        QueryCloseResult res = new QueryCloseResult();
+
+        return client.sendRequestAsync(ClientOp.JDBC_PREPARED_CLOSE, req, res);
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<JdbcMetaTablesResult> tablesMetaAsync(JdbcMetaTablesRequest req) {
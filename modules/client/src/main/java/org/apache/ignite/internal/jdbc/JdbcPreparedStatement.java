@@ -50,6 +50,7 @@ import org.apache.ignite.internal.jdbc.proto.JdbcStatementType;
 import org.apache.ignite.internal.jdbc.proto.SqlStateCode;
 import org.apache.ignite.internal.jdbc.proto.event.BatchExecuteResult;
 import org.apache.ignite.internal.jdbc.proto.event.BatchPreparedStmntRequest;
+import org.apache.ignite.internal.jdbc.proto.event.PreparedCloseRequest;
 import org.apache.ignite.internal.util.CollectionUtils;
 
 /**
@@ -65,6 +66,12 @@ public class JdbcPreparedStatement extends JdbcStatement implements PreparedStat
     /** Batched query arguments. */
     private List<Object[]> batchedArgs;
 
+    /** Server-side prepared statement ID, {@code null} until the statement is executed. */
+    private Long stmtId;
+
+    /** Whether the query can't be prepared on the server and is executed as a plain query. */
+    private boolean notPrepared;
+
     /**
      * Creates new prepared statement.
      *
@@ -100,6 +107,25 @@ public class JdbcPreparedStatement extends JdbcStatement implements PreparedStat
                 SqlStateCode.UNSUPPORTED_OPERATION);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws SQLException {
+        if (isClosed()) {
+            return;
+        }
+
+        try {
+            if (stmtId != null) {
+                // The server releases the prepared statements of the connection on disconnect, so the response isn't awaited.
+                conn.handler().closePreparedAsync(new PreparedCloseRequest(stmtId));
+
+                stmtId = null;
+            }
+        } finally {
+            super.close();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public int[] executeBatch() throws SQLException {
@@ -654,7 +680,18 @@ public class JdbcPreparedStatement extends JdbcStatement implements PreparedStat
      * @throws SQLException If failed.
      */
     private void executeWithArguments(JdbcStatementType statementType) throws SQLException {
-        execute0(statementType, sql, currentArgs);
+        // The query is prepared once, so the server neither parses nor plans it on the further executions.
+        if (stmtId == null && !notPrepared && !StringUtil.isNullOrEmpty(sql)) {
+            stmtId = prepare0(sql);
+
+            notPrepared = stmtId == null;
+        }
+
+        if (stmtId == null) {
+            execute0(statementType, sql, currentArgs);
+        } else {
+            executePrepared0(statementType, stmtId, currentArgs);
+        }
 
         currentArgs = null;
     }
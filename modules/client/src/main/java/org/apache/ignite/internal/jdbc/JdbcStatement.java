@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import org.apache.ignite.client.IgniteClientException;
 import org.apache.ignite.internal.jdbc.proto.IgniteQueryErrorCode;
@@ -40,8 +41,11 @@ import org.apache.ignite.internal.jdbc.proto.JdbcStatementType;
 import org.apache.ignite.internal.jdbc.proto.SqlStateCode;
 import org.apache.ignite.internal.jdbc.proto.event.BatchExecuteRequest;
 import org.apache.ignite.internal.jdbc.proto.event.BatchExecuteResult;
+import org.apache.ignite.internal.jdbc.proto.event.PreparedExecuteRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryExecuteRequest;
 import org.apache.ignite.internal.jdbc.proto.event.QueryExecuteResult;
+import org.apache.ignite.internal.jdbc.proto.event.QueryPrepareRequest;
+import org.apache.ignite.internal.jdbc.proto.event.QueryPrepareResult;
 import org.apache.ignite.internal.jdbc.proto.event.QuerySingleResult;
 import org.apache.ignite.internal.util.ArrayUtils;
 import org.apache.ignite.internal.util.CollectionUtils;
@@ -134,9 +138,58 @@ public class JdbcStatement implements Statement {
         QueryExecuteRequest req = new QueryExecuteRequest(stmtType, schema, pageSize, maxRows, sql,
                 args == null ? ArrayUtils.OBJECT_EMPTY_ARRAY : args.toArray());
 
+        handleExecuteResult(conn.handler().queryAsync(req));
+    }
+
+    /**
+     * Prepares the query on the server.
+     *
+     * @param sql Sql query.
+     * @return Prepared statement ID, or {@code null} if the query can't be prepared, e.g. it contains multiple statements.
+     * @throws SQLException On error.
+     */
+    protected Long prepare0(String sql) throws SQLException {
+        ensureNotClosed();
+
+        QueryPrepareResult res;
+        try {
+            res = conn.handler().prepareAsync(new QueryPrepareRequest(schema, sql)).join();
+        } catch (CompletionException e) {
+            throw toSqlException(e);
+        }
+
+        return res.hasResults() ? res.statementId() : null;
+    }
+
+    /**
+     * Execute the prepared query with given parameters.
+     *
+     * @param stmtType Expected statement type.
+     * @param stmtId Prepared statement ID.
+     * @param args Query parameters.
+     * @throws SQLException On error.
+     */
+    protected void executePrepared0(JdbcStatementType stmtType, long stmtId, List<Object> args) throws SQLException {
+        ensureNotClosed();
+
+        closeResults();
+
+        PreparedExecuteRequest req = new PreparedExecuteRequest(stmtId, stmtType, pageSize, maxRows,
+                args == null ? ArrayUtils.OBJECT_EMPTY_ARRAY : args.toArray());
+
+        handleExecuteResult(conn.handler().executePreparedAsync(req));
+    }
+
+    /**
+     * Waits for the query execution and creates the result sets.
+     *
+     * @param resFut Execution result future.
+     * @throws SQLException On error.
+     */
+    private void handleExecuteResult(CompletableFuture<QueryExecuteResult> resFut) throws SQLException {
         QueryExecuteResult res;
         try {
-            res = conn.handler().queryAsync(req).join();
+            res = resFut.join();
         } catch (CompletionException e) {
             throw toSqlException(e);
         } catch (CancellationException e) {
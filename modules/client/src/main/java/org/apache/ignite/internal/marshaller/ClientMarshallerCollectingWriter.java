@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.marshaller;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.client.proto.ClientMessageCommon;
+
+/**
+ * Binary writer collecting the written values, an absent value is collected as {@link ClientMessageCommon#NO_VALUE}.
+ */
+public class ClientMarshallerCollectingWriter implements MarshallerWriter {
+    /** Written values. */
+    private final List<Object> values = new ArrayList<>();
+
+    /**
+     * Returns the written values.
+     *
+     * @return Values in the write order.
+     */
+    public List<Object> values() {
+        return values;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeNull() {
+        values.add(null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeAbsentValue() {
+        values.add(ClientMessageCommon.NO_VALUE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeByte(byte val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeShort(short val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeInt(int val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeLong(long val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeFloat(float val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeDouble(double val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeString(String val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeUuid(UUID val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeBytes(byte[] val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeBitSet(BitSet val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeBigInt(BigInteger val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeBigDecimal(BigDecimal val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeDate(LocalDate val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeTime(LocalTime val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeTimestamp(Instant val) {
+        values.add(val);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeDateTime(LocalDateTime val) {
+        values.add(val);
+    }
+}
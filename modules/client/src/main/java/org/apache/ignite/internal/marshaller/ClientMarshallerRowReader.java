@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.marshaller;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.UUID;
+
+/**
+ * Binary reader over the column values decoded from a binary row.
+ */
+public class ClientMarshallerRowReader implements MarshallerReader {
+    /** Column values. */
+    private final Object[] values;
+
+    /** Index of the next value. */
+    private int idx;
+
+    /**
+     * Constructor.
+     *
+     * @param values Column values.
+     * @param idx Index of the first value to read.
+     */
+    public ClientMarshallerRowReader(Object[] values, int idx) {
+        this.values = values;
+        this.idx = idx;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void skipValue() {
+        idx++;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public byte readByte() {
+        return ((Number) values[idx++]).byteValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Byte readByteBoxed() {
+        Number val = (Number) values[idx++];
+
+        return val == null ? null : val.byteValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public short readShort() {
+        return ((Number) values[idx++]).shortValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Short readShortBoxed() {
+        Number val = (Number) values[idx++];
+
+        return val == null ? null : val.shortValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readInt() {
+        return ((Number) values[idx++]).intValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Integer readIntBoxed() {
+        Number val = (Number) values[idx++];
+
+        return val == null ? null : val.intValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readLong() {
+        return ((Number) values[idx++]).longValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Long readLongBoxed() {
+        Number val = (Number) values[idx++];
+
+        return val == null ? null : val.longValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public float readFloat() {
+        return ((Number) values[idx++]).floatValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Float readFloatBoxed() {
+        Number val = (Number) values[idx++];
+
+        return val == null ? null : val.floatValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double readDouble() {
+        return ((Number) values[idx++]).doubleValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Double readDoubleBoxed() {
+        Number val = (Number) values[idx++];
+
+        return val == null ? null : val.doubleValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String readString() {
+        return (String) values[idx++];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public UUID readUuid() {
+        return (UUID) values[idx++];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public byte[] readBytes() {
+        return (byte[]) values[idx++];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BitSet readBitSet() {
+        return (BitSet) values[idx++];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigInteger readBigInt() {
+        return (BigInteger) values[idx++];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BigDecimal readBigDecimal() {
+        return (BigDecimal) values[idx++];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalDate readDate() {
+        return (LocalDate) values[idx++];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalTime readTime() {
+        return (LocalTime) values[idx++];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Instant readTimestamp() {
+        return (Instant) values[idx++];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalDateTime readDateTime() {
+        return (LocalDateTime) values[idx++];
+    }
+}
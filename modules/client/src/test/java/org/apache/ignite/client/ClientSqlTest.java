@@ -21,7 +21,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -30,6 +34,7 @@ import org.apache.ignite.sql.Session;
 import org.apache.ignite.sql.SqlRow;
 import org.apache.ignite.sql.Statement;
 import org.apache.ignite.sql.async.AsyncResultSet;
+import org.apache.ignite.sql.reactive.ReactiveResultSet;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -61,6 +66,42 @@ public class ClientSqlTest extends AbstractClientTableTest {
         assertEquals(1, row.intValue(0));
     }
 
+    @Test
+    public void testExecuteReactive() {
+        Session session = client.sql().createSession();
+        ReactiveResultSet resultSet = session.executeReactive(null, "SELECT 1");
+
+        List<SqlRow> rows = new ArrayList<>();
+        CompletableFuture<Void> fut = new CompletableFuture<>();
+
+        resultSet.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(SqlRow item) {
+                rows.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fut.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                fut.complete(null);
+            }
+        });
+
+        fut.join();
+
+        assertEquals(1, rows.size());
+        assertEquals(1, rows.get(0).intValue(0));
+    }
+
     @Test
     public void testSessionPropertiesPropagation() {
         Session session = client.sql().sessionBuilder()
@@ -114,4 +155,34 @@ public class ClientSqlTest extends AbstractClientTableTest {
         assertEquals(22, props.get("prop2"));
         assertEquals(3, props.get("prop3"));
     }
+
+    @Test
+    public void testExecutePrepared() throws Exception {
+        Session session = client.sql().sessionBuilder()
+                .defaultSchema("SCHEMA1")
+                .defaultTimeout(123, TimeUnit.SECONDS)
+                .defaultPageSize(234)
+                .property("prop1", 1)
+                .build();
+
+        try (Statement statement = client.sql().statementBuilder()
+                .query("SELECT PROPS")
+                .prepared(true)
+                .property("prop2", 2)
+                .build()) {
+            // The statement is prepared by the first execution and executed by handle afterwards.
+            for (int i = 0; i < 3; i++) {
+                AsyncResultSet resultSet = session.executeAsync(null, statement).join();
+
+                Map<String, Object> props = StreamSupport.stream(resultSet.currentPage().spliterator(), false)
+                        .collect(Collectors.toMap(x -> x.stringValue(0), x -> x.value(1)));
+
+                assertEquals("SCHEMA1", props.get("schema"));
+                assertEquals(123000L, props.get("timeout"));
+                assertEquals(234, props.get("pageSize"));
+                assertEquals(1, props.get("prop1"));
+                assertEquals(2, props.get("prop2"));
+            }
+        }
+    }
 }
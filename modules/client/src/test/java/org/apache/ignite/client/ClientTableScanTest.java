@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import org.apache.ignite.internal.client.proto.TableScanFilterOp;
+import org.apache.ignite.internal.client.table.ClientTable;
+import org.apache.ignite.internal.client.table.ClientTableScanCursor;
+import org.apache.ignite.internal.client.table.ClientTableScanOptions;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Tuple;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Table scan tests.
+ */
+public class ClientTableScanTest extends AbstractClientTableTest {
+    @Test
+    public void testScanReturnsAllRowsPageByPage() {
+        ClientTable table = tableWithRows(10);
+
+        for (boolean prefetch : new boolean[]{true, false}) {
+            ClientTableScanCursor cursor = table.scanAsync(null, new ClientTableScanOptions().pageSize(3).prefetch(prefetch)).join();
+
+            List<Tuple> rows = new ArrayList<>(cursor.currentPage());
+            assertEquals(3, rows.size());
+
+            while (cursor.hasMorePages()) {
+                rows.addAll(cursor.fetchNextPage().join().currentPage());
+            }
+
+            assertEquals(10, rows.size());
+
+            for (Tuple row : sortedTuples(rows)) {
+                assertEquals("name_" + row.longValue("id"), row.stringValue("name"));
+            }
+        }
+    }
+
+    @Test
+    public void testScanEmptyTable() {
+        ClientTable table = tableWithRows(0);
+
+        ClientTableScanCursor cursor = table.scanAsync(null, null).join();
+
+        assertTrue(cursor.currentPage().isEmpty());
+        assertFalse(cursor.hasMorePages());
+    }
+
+    @Test
+    public void testScanWithProjection() {
+        ClientTable table = tableWithRows(5);
+
+        ClientTableScanCursor cursor = table.scanAsync(null, new ClientTableScanOptions().columns("name")).join();
+
+        assertFalse(cursor.hasMorePages());
+        assertEquals(5, cursor.currentPage().size());
+
+        for (Tuple row : cursor.currentPage()) {
+            assertEquals(1, row.columnCount());
+            assertTrue(row.stringValue("name").startsWith("name_"));
+        }
+    }
+
+    @Test
+    public void testScanWithFilter() {
+        ClientTable table = tableWithRows(10);
+        table.recordView().upsert(null, tuple(100L, null));
+
+        assertEquals(List.of(7L, 8L, 9L, 100L), scanIds(table, "id", TableScanFilterOp.GTE, 7L));
+        assertEquals(List.of(0L, 1L), scanIds(table, "id", TableScanFilterOp.LT, 2L));
+        assertEquals(List.of(3L), scanIds(table, "name", TableScanFilterOp.EQ, "name_3"));
+        assertEquals(List.of(100L), scanIds(table, "name", TableScanFilterOp.IS_NULL, null));
+        assertEquals(9, scanIds(table, "name", TableScanFilterOp.NOT_EQ, "name_3").size());
+    }
+
+    @Test
+    public void testScanWithFilterOnUnknownColumnFails() {
+        ClientTable table = tableWithRows(1);
+
+        var opts = new ClientTableScanOptions().filter("foo", TableScanFilterOp.EQ, 1L);
+        CompletionException ex = assertThrows(CompletionException.class, () -> table.scanAsync(null, opts).join());
+
+        assertTrue(ex.getMessage().contains("Column does not exist: FOO"), ex.getMessage());
+    }
+
+    @Test
+    public void testScanWithProjectionOfUnknownColumnFails() {
+        ClientTable table = tableWithRows(10);
+
+        var opts = new ClientTableScanOptions().pageSize(2).columns("id", "foo");
+        CompletionException ex = assertThrows(CompletionException.class, () -> table.scanAsync(null, opts).join());
+
+        assertTrue(ex.getMessage().contains("Column does not exist: FOO"), ex.getMessage());
+    }
+
+    @Test
+    public void testCloseCursor() {
+        ClientTable table = tableWithRows(10);
+
+        ClientTableScanCursor cursor = table.scanAsync(null, new ClientTableScanOptions().pageSize(2)).join();
+
+        assertTrue(cursor.hasMorePages());
+
+        cursor.closeAsync().join();
+
+        CompletionException ex = assertThrows(CompletionException.class, () -> cursor.fetchNextPage().join());
+        assertEquals("Cursor is closed.", ex.getCause().getMessage());
+    }
+
+    private ClientTable tableWithRows(int count) {
+        RecordView<Tuple> view = defaultTable().recordView();
+
+        for (long i = 0; i < count; i++) {
+            view.upsert(null, tuple(i, "name_" + i));
+        }
+
+        return (ClientTable) client.tables().table(DEFAULT_TABLE);
+    }
+
+    private static List<Long> scanIds(ClientTable table, String column, TableScanFilterOp op, Object value) {
+        var opts = new ClientTableScanOptions().columns("id").filter(column, op, value);
+        ClientTableScanCursor cursor = table.scanAsync(null, opts).join();
+
+        assertFalse(cursor.hasMorePages());
+        cursor.currentPage().forEach(r -> assertEquals(1, r.columnCount()));
+
+        return cursor.currentPage().stream().map(r -> r.longValue("id")).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.ignite.client.fakes.FakeIgnite;
+import org.apache.ignite.client.handler.ClientCompressionMetrics;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Tuple;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests compression of the server messages.
+ */
+public class CompressionTest {
+    private static final String TABLE_NAME = "tbl";
+
+    @Test
+    public void testLargeResponsesAreCompressedWhenEnabled() throws Exception {
+        FakeIgnite ignite = new FakeIgnite();
+
+        try (var srv = new TestServer(10800, 10, 0, ignite)) {
+            ignite.tables().createTable(TABLE_NAME, tbl -> tbl.changeReplicas(1));
+
+            String name = "compressible".repeat(10_000);
+
+            try (var client = IgniteClient.builder().addresses("127.0.0.1:" + srv.port()).compressionEnabled(true).build()) {
+                RecordView<Tuple> view = client.tables().table(TABLE_NAME).recordView();
+
+                view.upsert(null, Tuple.create().set("id", 1L).set("name", name));
+                view.upsert(null, Tuple.create().set("id", 2L).set("name", "small"));
+
+                assertEquals(name, view.get(null, Tuple.create().set("id", 1L)).stringValue("name"));
+                assertEquals("small", view.get(null, Tuple.create().set("id", 2L)).stringValue("name"));
+            }
+
+            ClientCompressionMetrics metrics = srv.compressionMetrics();
+
+            assertEquals(1, metrics.compressedMessages());
+            assertTrue(metrics.messages() > 1);
+            assertTrue(metrics.ratio() > 10, metrics.toString());
+        }
+    }
+
+    @Test
+    public void testResponsesAreNotCompressedWhenDisabled() throws Exception {
+        FakeIgnite ignite = new FakeIgnite();
+
+        try (var srv = new TestServer(10800, 10, 0, ignite)) {
+            ignite.tables().createTable(TABLE_NAME, tbl -> tbl.changeReplicas(1));
+
+            String name = "compressible".repeat(10_000);
+
+            try (var client = IgniteClient.builder().addresses("127.0.0.1:" + srv.port()).build()) {
+                RecordView<Tuple> view = client.tables().table(TABLE_NAME).recordView();
+
+                view.upsert(null, Tuple.create().set("id", 1L).set("name", name));
+
+                assertEquals(name, view.get(null, Tuple.create().set("id", 1L)).stringValue("name"));
+            }
+
+            assertEquals(0, srv.compressionMetrics().messages());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.table.DataStreamerOptions;
+import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Table;
+import org.apache.ignite.table.Tuple;
+import org.apache.ignite.table.mapper.Mapper;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Data streamer tests.
+ */
+public class DataStreamerTest extends AbstractClientTableTest {
+    @Test
+    public void testBasicStreamingRecordBinaryView() throws Exception {
+        RecordView<Tuple> view = defaultTable().recordView();
+
+        CompletableFuture<Void> streamFut;
+
+        try (var publisher = new SubmissionPublisher<Tuple>()) {
+            streamFut = view.streamData(publisher, new DataStreamerOptions().batchSize(3).autoFlushFrequency(0));
+
+            for (long i = 0; i < 10; i++) {
+                publisher.submit(tuple(i, "foo_" + i));
+            }
+
+            publisher.submit(tuple(1L, "bar"));
+        }
+
+        streamFut.get(5, TimeUnit.SECONDS);
+
+        assertEquals("bar", view.get(null, tupleKey(1L)).stringValue("name"));
+
+        for (long i = 2; i < 10; i++) {
+            assertEquals("foo_" + i, view.get(null, tupleKey(i)).stringValue("name"));
+        }
+    }
+
+    @Test
+    public void testBasicStreamingRecordPojoView() throws Exception {
+        Table table = defaultTable();
+        RecordView<PersonPojo> view = table.recordView(PersonPojo.class);
+
+        CompletableFuture<Void> streamFut;
+
+        try (var publisher = new SubmissionPublisher<PersonPojo>()) {
+            streamFut = view.streamData(publisher, null);
+
+            publisher.submit(new PersonPojo(1L, "foo"));
+            publisher.submit(new PersonPojo(2L, "bar"));
+        }
+
+        streamFut.get(5, TimeUnit.SECONDS);
+
+        assertEquals("bar", table.recordView().get(null, tupleKey(2L)).stringValue("name"));
+    }
+
+    @Test
+    public void testBasicStreamingKvBinaryView() throws Exception {
+        Table table = defaultTable();
+        KeyValueView<Tuple, Tuple> view = table.keyValueView();
+
+        CompletableFuture<Void> streamFut;
+
+        try (var publisher = new SubmissionPublisher<Map.Entry<Tuple, Tuple>>()) {
+            streamFut = view.streamData(publisher, null);
+
+            publisher.submit(Map.entry(tupleKey(1L), tupleVal("foo")));
+            publisher.submit(Map.entry(tupleKey(2L), tupleVal("bar")));
+        }
+
+        streamFut.get(5, TimeUnit.SECONDS);
+
+        assertEquals("bar", view.get(null, tupleKey(2L)).stringValue("name"));
+    }
+
+    @Test
+    public void testBasicStreamingKvPojoView() throws Exception {
+        Table table = defaultTable();
+        KeyValueView<Long, PersonPojo> view = table.keyValueView(Mapper.of(Long.class), Mapper.of(PersonPojo.class));
+
+        CompletableFuture<Void> streamFut;
+
+        try (var publisher = new SubmissionPublisher<Map.Entry<Long, PersonPojo>>()) {
+            streamFut = view.streamData(publisher, null);
+
+            publisher.submit(Map.entry(1L, new PersonPojo(1L, "foo")));
+            publisher.submit(Map.entry(2L, new PersonPojo(2L, "bar")));
+        }
+
+        streamFut.get(5, TimeUnit.SECONDS);
+
+        assertEquals("bar", view.get(null, 2L).name);
+    }
+
+    @Test
+    public void testStreamingFailsOnPublisherError() {
+        RecordView<Tuple> view = defaultTable().recordView();
+
+        var publisher = new SubmissionPublisher<Tuple>();
+
+        CompletableFuture<Void> streamFut = view.streamData(publisher, new DataStreamerOptions().autoFlushFrequency(0));
+
+        publisher.submit(tuple(1L, "foo"));
+        publisher.closeExceptionally(new IllegalStateException("Test"));
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> streamFut.get(5, TimeUnit.SECONDS));
+
+        assertEquals(IllegalStateException.class, ex.getCause().getClass());
+        assertNull(view.get(null, tupleKey(1L)));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import static org.apache.ignite.internal.client.proto.ClientMessageCommon.NO_VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.client.fakes.FakeIgnite;
+import org.apache.ignite.client.fakes.FakeIgniteTables;
+import org.apache.ignite.client.fakes.FakeInternalTable;
+import org.apache.ignite.internal.client.proto.ClientDataType;
+import org.apache.ignite.internal.client.table.ClientColumn;
+import org.apache.ignite.internal.client.table.ClientSchema;
+import org.apache.ignite.internal.schema.marshaller.TupleMarshallerImpl;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.testframework.IgniteTestUtils;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Tuple;
+import org.apache.ignite.table.mapper.Mapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for partition-aware routing of the key operations.
+ */
+public class PartitionAwarenessTest {
+    private static final String TABLE_NAME = "tbl1";
+
+    private final AtomicInteger server1Requests = new AtomicInteger();
+
+    private final AtomicInteger server2Requests = new AtomicInteger();
+
+    private FakeIgnite ignite;
+
+    private TableImpl table;
+
+    private TestServer server1;
+
+    private TestServer server2;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        IgniteUtils.closeAll(server1, server2);
+    }
+
+    @Test
+    public void testKeyOperationsAreRoutedToPartitionLeader() throws Exception {
+        initServers();
+
+        try (var client = getClient()) {
+            IgniteTestUtils.waitForCondition(() -> client.connections().size() == 2, 3000);
+
+            RecordView<Tuple> recView = client.tables().table(TABLE_NAME).recordView();
+            KeyValueView<Long, String> kvView = client.tables().table(TABLE_NAME)
+                    .keyValueView(Mapper.of(Long.class), Mapper.of(String.class));
+
+            setLeader("s1");
+
+            assertTrue(IgniteTestUtils.waitForCondition(
+                    () -> routed(server1Requests, server2Requests, () -> recView.upsert(null, Tuple.create().set("id", 1L))), 3000));
+            assertTrue(IgniteTestUtils.waitForCondition(
+                    () -> routed(server1Requests, server2Requests, () -> kvView.get(null, 1L)), 3000));
+
+            // Leader change is pushed to the client.
+            setLeader("s2");
+
+            assertTrue(IgniteTestUtils.waitForCondition(
+                    () -> routed(server2Requests, server1Requests, () -> recView.get(null, Tuple.create().set("id", 1L))), 3000));
+            assertTrue(IgniteTestUtils.waitForCondition(
+                    () -> routed(server2Requests, server1Requests, () -> kvView.put(null, 2L, "2")), 3000));
+        }
+    }
+
+    @Test
+    public void testColocationHashMatchesServer() throws Exception {
+        ignite = new FakeIgnite();
+
+        TableImpl tbl = (TableImpl) ignite.tables().createTable(FakeIgniteTables.TABLE_ALL_COLUMNS, null);
+
+        var schema = new ClientSchema(1, new ClientColumn[]{
+                new ClientColumn("GID", ClientDataType.INT32, false, true, 0, 0),
+                new ClientColumn("ID", ClientDataType.STRING, false, true, 1, 1),
+                new ClientColumn("ZSTRING", ClientDataType.STRING, true, false, 2, -1)
+        });
+
+        for (int i = 0; i < 100; i++) {
+            Tuple key = Tuple.create().set("gid", i).set("id", "id-" + i);
+
+            int serverHash = new TupleMarshallerImpl(tbl.schemaView()).marshalKey(key).colocationHash();
+
+            assertEquals(serverHash, schema.colocationHash(col -> key.valueOrDefault(col.name(), NO_VALUE)));
+        }
+    }
+
+    @Test
+    public void testColocationHashIsUnknownForMismatchingValue() {
+        var schema = new ClientSchema(1, new ClientColumn[]{
+                new ClientColumn("ID", ClientDataType.INT64, false, true, 0)
+        });
+
+        // Without colocation indexes the key columns are used.
+        assertEquals(1, schema.colocationColumns().length);
+
+        assertEquals(schema.colocationHash(col -> 1L), schema.colocationHash(col -> 1));
+        assertNull(schema.colocationHash(col -> "1"));
+        assertNull(schema.colocationHash(col -> NO_VALUE));
+    }
+
+    /**
+     * Checks that the operation is sent to the target server. The check may fail if a concurrent request, e.g.
+     * a partition assignment reload, is sent to the other server.
+     */
+    private static boolean routed(AtomicInteger target, AtomicInteger other, Runnable op) {
+        int targetBefore = target.get();
+        int otherBefore = other.get();
+
+        op.run();
+
+        return target.get() > targetBefore && other.get() == otherBefore;
+    }
+
+    private void setLeader(String nodeName) {
+        ((FakeInternalTable) table.internalTable()).leader(
+                new ClusterNode(nodeName + "-id", nodeName, new NetworkAddress("127.0.0.1", 8080)));
+
+        ((FakeIgniteTables) ignite.tables()).notifyAssignmentsChanged(table.tableId());
+    }
+
+    private IgniteClient getClient() {
+        return IgniteClient.builder()
+                .addresses("127.0.0.1:" + server1.port(), "127.0.0.1:" + server2.port())
+                .reconnectThrottlingPeriod(0)
+                .build();
+    }
+
+    private void initServers() {
+        ignite = new FakeIgnite();
+        table = (TableImpl) ignite.tables().createTable(TABLE_NAME, null);
+
+        server1 = new TestServer(10900, 10, 0, ignite, reqId -> server1Requests.incrementAndGet() < 0, "s1");
+        server2 = new TestServer(10910, 10, 0, ignite, reqId -> server2Requests.incrementAndGet() < 0, "s2");
+    }
+}
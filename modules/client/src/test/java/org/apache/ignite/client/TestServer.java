@@ -32,6 +32,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.client.fakes.FakeIgnite;
+import org.apache.ignite.client.handler.ClientCompressionMetrics;
 import org.apache.ignite.client.handler.ClientHandlerModule;
 import org.apache.ignite.compute.IgniteCompute;
 import org.apache.ignite.configuration.schemas.clientconnector.ClientConnectorConfiguration;
@@ -151,6 +152,15 @@ public class TestServer implements AutoCloseable {
         return ((InetSocketAddress) Objects.requireNonNull(addr)).getPort();
     }
 
+    /**
+     * Gets the compression metrics of the server.
+     *
+     * @return Compression metrics.
+     */
+    public ClientCompressionMetrics compressionMetrics() {
+        return ((ClientHandlerModule) module).compressionMetrics();
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() throws Exception {
@@ -20,8 +20,10 @@ package org.apache.ignite.client.fakes;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
+import org.apache.ignite.internal.sql.engine.PreparedQuery;
 import org.apache.ignite.internal.sql.engine.QueryContext;
 import org.apache.ignite.internal.sql.engine.QueryProcessor;
+import org.apache.ignite.internal.sql.engine.SqlQueryType;
 
 /**
  * Fake {@link QueryProcessor}.
@@ -44,6 +46,11 @@ public class FakeIgniteQueryProcessor implements QueryProcessor {
         return CompletableFuture.completedFuture(new FakeCursor());
     }
 
+    @Override
+    public CompletableFuture<PreparedQuery> prepareSingleAsync(QueryContext context, String schemaName, String qry) {
+        return CompletableFuture.completedFuture(new PreparedQuery(schemaName, qry, SqlQueryType.QUERY, null));
+    }
+
     @Override
     public void start() {
 
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.ignite.configuration.schemas.table.TableChange;
@@ -55,6 +56,8 @@ public class FakeIgniteTables implements IgniteTables, IgniteTablesInternal {
 
     private final ConcurrentHashMap<UUID, TableImpl> tablesById = new ConcurrentHashMap<>();
 
+    private final List<Consumer<UUID>> assignmentsChangeListeners = new CopyOnWriteArrayList<>();
+
     /** {@inheritDoc} */
     @Override
     public Table createTable(String name, Consumer<TableChange> tableInitChange) {
@@ -158,6 +161,27 @@ public class FakeIgniteTables implements IgniteTables, IgniteTablesInternal {
         return CompletableFuture.completedFuture(tableImpl(name));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void addAssignmentsChangeListener(Consumer<UUID> listener) {
+        assignmentsChangeListeners.add(listener);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean removeAssignmentsChangeListener(Consumer<UUID> listener) {
+        return assignmentsChangeListeners.remove(listener);
+    }
+
+    /**
+     * Notifies the listeners that the partition assignment of a table has changed.
+     *
+     * @param tableId Table id.
+     */
+    public void notifyAssignmentsChanged(UUID tableId) {
+        assignmentsChangeListeners.forEach(lsnr -> lsnr.accept(tableId));
+    }
+
     @NotNull
     private TableImpl getNewTable(String name) {
         Function<Integer, SchemaDescriptor> history;
@@ -17,19 +17,23 @@
 
 package org.apache.ignite.client.fakes;
 
+import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import javax.naming.OperationNotSupportedException;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.storage.engine.TableStorage;
 import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.InvokeRowProcessor;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.network.ClusterNode;
@@ -50,6 +54,9 @@ public class FakeInternalTable implements InternalTable {
     /** Table data. */
     private final ConcurrentHashMap<ByteBuffer, BinaryRow> data = new ConcurrentHashMap<>();
 
+    /** Leader of the single partition, {@code null} if unknown. */
+    private volatile ClusterNode leader;
+
     /**
      * The constructor.
      *
@@ -126,6 +133,12 @@ public class FakeInternalTable implements InternalTable {
         return CompletableFuture.completedFuture(null);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> upsertAllCommitted(Collection<BinaryRowEx> rows) {
+        return upsertAll(rows, null);
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<BinaryRow> getAndUpsert(BinaryRowEx row,
@@ -266,10 +279,34 @@ public class FakeInternalTable implements InternalTable {
 
     /** {@inheritDoc} */
     @Override
-    public @NotNull Publisher<BinaryRow> scan(int p, @Nullable InternalTransaction tx) {
+    public <T extends Serializable> CompletableFuture<T> invoke(
+            BinaryRowEx keyRow,
+            InvokeRowProcessor<?, ?, T> proc,
+            @Nullable InternalTransaction tx
+    ) {
         throw new IgniteInternalException(new OperationNotSupportedException());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Serializable> CompletableFuture<List<T>> invokeAll(
+            Collection<BinaryRowEx> keyRows,
+            InvokeRowProcessor<?, ?, T> proc,
+            @Nullable InternalTransaction tx
+    ) {
+        throw new IgniteInternalException(new OperationNotSupportedException());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull Publisher<BinaryRow> scan(int p, @Nullable InternalTransaction tx) {
+        if (p != 0) {
+            throw new IllegalArgumentException("Invalid partition: " + p);
+        }
+
+        return subscriber -> subscriber.onSubscribe(new ScanSubscription(subscriber, new ArrayList<>(data.values())));
+    }
+
     /** {@inheritDoc} */
     @Override
     public @NotNull List<String> assignments() {
@@ -282,6 +319,21 @@ public class FakeInternalTable implements InternalTable {
         throw new IgniteInternalException(new OperationNotSupportedException());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ClusterNode>> leaderAssignmentsAsync() {
+        return CompletableFuture.completedFuture(Collections.singletonList(leader));
+    }
+
+    /**
+     * Sets the leader of the single partition.
+     *
+     * @param leader Leader node, {@code null} if unknown.
+     */
+    public void leader(@Nullable ClusterNode leader) {
+        this.leader = leader;
+    }
+
     /** {@inheritDoc} */
     @Override
     public RaftGroupService partitionRaftGroupService(int partition) {
@@ -299,4 +351,63 @@ public class FakeInternalTable implements InternalTable {
     public void close() throws Exception {
         // No-op.
     }
+
+    /**
+     * Subscription which delivers the table snapshot on demand.
+     */
+    private static class ScanSubscription implements Flow.Subscription {
+        /** Subscriber. */
+        private final Flow.Subscriber<? super BinaryRow> subscriber;
+
+        /** Rows. */
+        private final List<BinaryRow> rows;
+
+        /** Index of the next row. */
+        private int idx;
+
+        /** Requested rows. */
+        private long demand;
+
+        /** Whether the rows are being delivered. */
+        private boolean draining;
+
+        /** Whether the subscription is cancelled or complete. */
+        private boolean cancelled;
+
+        ScanSubscription(Flow.Subscriber<? super BinaryRow> subscriber, List<BinaryRow> rows) {
+            this.subscriber = subscriber;
+            this.rows = rows;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized void request(long n) {
+            demand += n;
+
+            // The subscriber may request more rows from onNext.
+            if (draining) {
+                return;
+            }
+
+            draining = true;
+
+            while (demand > 0 && !cancelled && idx < rows.size()) {
+                demand--;
+                subscriber.onNext(rows.get(idx++));
+            }
+
+            draining = false;
+
+            if (!cancelled && idx == rows.size()) {
+                cancelled = true;
+                subscriber.onComplete();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized void cancel() {
+            cancelled = true;
+        }
+    }
 }
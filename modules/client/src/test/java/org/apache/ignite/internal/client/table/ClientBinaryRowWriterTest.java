@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.table;
+
+import static org.apache.ignite.internal.client.proto.ClientMessageCommon.NO_VALUE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.UUID;
+import org.apache.ignite.client.fakes.FakeSchemaRegistry;
+import org.apache.ignite.client.handler.requests.table.ClientTableCommon;
+import org.apache.ignite.internal.client.proto.ClientMessageCommon;
+import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.TupleMarshallerImpl;
+import org.apache.ignite.table.Tuple;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the client builds the same binary rows as the server.
+ */
+public class ClientBinaryRowWriterTest {
+    /** Schema with the columns of all types. */
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(
+            3,
+            new Column[]{
+                    new Column("KEY", NativeTypes.INT64, false),
+                    new Column("KEYSTR", NativeTypes.STRING, false)
+            },
+            new Column[]{
+                    new Column("BYTE", NativeTypes.INT8, true),
+                    new Column("SHORT", NativeTypes.INT16, true),
+                    new Column("INT", NativeTypes.INT32, true),
+                    new Column("LONG", NativeTypes.INT64, true),
+                    new Column("FLOAT", NativeTypes.FLOAT, true),
+                    new Column("DOUBLE", NativeTypes.DOUBLE, true),
+                    new Column("UUID", NativeTypes.UUID, true),
+                    new Column("DATE", NativeTypes.DATE, true),
+                    new Column("TIME", NativeTypes.time(9), true),
+                    new Column("DATETIME", NativeTypes.datetime(), true),
+                    new Column("TIMESTAMP", NativeTypes.timestamp(9), true),
+                    new Column("BITMASK", NativeTypes.bitmaskOf(16), true),
+                    new Column("STRING", NativeTypes.STRING, true),
+                    new Column("BYTES", NativeTypes.BYTES, true),
+                    new Column("DECIMAL", NativeTypes.decimalOf(20, 3), true),
+                    new Column("NUMBER", NativeTypes.numberOf(24), true)
+            });
+
+    @Test
+    public void testAllTypes() throws Exception {
+        BitSet bitSet = new BitSet();
+        bitSet.set(3);
+        bitSet.set(15);
+
+        Tuple tuple = Tuple.create()
+                .set("KEY", 1L)
+                .set("KEYSTR", "key")
+                .set("BYTE", (byte) 1)
+                .set("SHORT", (short) 2)
+                .set("INT", 3)
+                .set("LONG", 4L)
+                .set("FLOAT", 5.5f)
+                .set("DOUBLE", 6.6d)
+                .set("UUID", UUID.randomUUID())
+                .set("DATE", LocalDate.of(2022, 1, 2))
+                .set("TIME", LocalTime.of(3, 4, 5, 123456789))
+                .set("DATETIME", LocalDateTime.of(2022, 1, 2, 3, 4, 5, 123456000))
+                .set("TIMESTAMP", Instant.ofEpochSecond(1234567, 987654321))
+                .set("BITMASK", bitSet)
+                .set("STRING", "str")
+                .set("BYTES", new byte[]{1, 2, 3})
+                .set("DECIMAL", new BigDecimal("12345.678"))
+                .set("NUMBER", BigInteger.valueOf(-1234567890123L));
+
+        checkRow(tuple);
+    }
+
+    @Test
+    public void testNullValues() throws Exception {
+        checkRow(Tuple.create().set("KEY", 1L).set("KEYSTR", "").set("STRING", null).set("BYTES", new byte[0]).set("INT", 1));
+
+        Tuple tuple = Tuple.create().set("KEY", 2L).set("KEYSTR", "a");
+
+        for (int i = 0; i < SCHEMA.valueColumns().length(); i++) {
+            tuple.set(SCHEMA.valueColumns().column(i).name(), null);
+        }
+
+        checkRow(tuple);
+    }
+
+    @Test
+    public void testVartableFormats() throws Exception {
+        // Tiny, medium and large vartables.
+        for (int len : new int[]{10, 300, 70_000}) {
+            checkRow(Tuple.create()
+                    .set("KEY", 1L)
+                    .set("KEYSTR", "k".repeat(len))
+                    .set("STRING", "s".repeat(len))
+                    .set("BYTES", new byte[len])
+                    .set("DECIMAL", new BigDecimal("1.000")));
+        }
+    }
+
+    @Test
+    public void testKeyOnly() throws Exception {
+        ClientSchema schema = clientSchema(SCHEMA);
+        Tuple key = Tuple.create().set("KEY", 1L).set("KEYSTR", "key");
+
+        byte[] bytes = ClientBinaryRowWriter.write(schema, col -> key.valueOrDefault(col.name(), NO_VALUE), true);
+
+        assertNotNull(bytes);
+        assertArrayEquals(new TupleMarshallerImpl(new FakeSchemaRegistry(v -> SCHEMA)).marshalKey(key).bytes(), bytes);
+
+        Object[] values = ClientBinaryRowReader.read(schema, bytes);
+
+        assertEquals(2, values.length);
+        assertEquals(1L, values[0]);
+        assertEquals("key", values[1]);
+    }
+
+    @Test
+    public void testValuesServerMustConvertAreNotWritten() {
+        ClientSchema schema = clientSchema(SCHEMA);
+
+        // Missing column, which may have a default value.
+        assertNull(ClientBinaryRowWriter.write(schema, col -> col.schemaIndex() == 0 ? 1L : NO_VALUE, true));
+
+        // Type mismatch.
+        Tuple tuple = Tuple.create().set("KEY", 1).set("KEYSTR", "key");
+        assertNull(ClientBinaryRowWriter.write(schema, col -> tuple.valueOrDefault(col.name(), NO_VALUE), true));
+
+        // Null in a key column.
+        Tuple nullKey = Tuple.create().set("KEY", 1L).set("KEYSTR", null);
+        assertNull(ClientBinaryRowWriter.write(schema, col -> nullKey.valueOrDefault(col.name(), NO_VALUE), true));
+    }
+
+    private static void checkRow(Tuple tuple) throws Exception {
+        ClientSchema schema = clientSchema(SCHEMA);
+
+        byte[] bytes = ClientBinaryRowWriter.write(schema, col -> tuple.valueOrDefault(col.name(), null), false);
+
+        assertNotNull(bytes);
+        assertArrayEquals(new TupleMarshallerImpl(new FakeSchemaRegistry(v -> SCHEMA)).marshal(tuple).bytes(), bytes);
+
+        Object[] values = ClientBinaryRowReader.read(schema, bytes);
+
+        for (ClientColumn col : schema.columns()) {
+            Object expected = tuple.valueOrDefault(col.name(), null);
+
+            if (expected instanceof byte[]) {
+                assertArrayEquals((byte[]) expected, (byte[]) values[col.schemaIndex()]);
+            } else {
+                assertEquals(expected, values[col.schemaIndex()], col.name());
+            }
+        }
+    }
+
+    private static ClientSchema clientSchema(SchemaDescriptor schema) {
+        try (var packer = new ClientMessagePacker(Unpooled.buffer())) {
+            ClientTableCommon.writeSchema(packer, schema.version(), schema);
+
+            ByteBuf buf = packer.getBuffer().copy();
+            buf.readerIndex(ClientMessageCommon.HEADER_SIZE);
+
+            var in = new ClientMessageUnpacker(buf);
+
+            int ver = in.unpackInt();
+            var columns = new ClientColumn[in.unpackArrayHeader()];
+
+            for (int i = 0; i < columns.length; i++) {
+                in.unpackArrayHeader();
+
+                String name = in.unpackString();
+                int type = in.unpackInt();
+                boolean isKey = in.unpackBoolean();
+                boolean nullable = in.unpackBoolean();
+
+                columns[i] = new ClientColumn(name, type, nullable, isKey, i, in.unpackInt(), in.unpackInt(), in.unpackInt());
+            }
+
+            return new ClientSchema(ver, columns);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import java.util.concurrent.CompletableFuture;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Maps streamed items to partitions and partitions to nodes.
+ *
+ * @param <T> Item type.
+ * @param <P> Partition type.
+ */
+public interface StreamerPartitionAwarenessProvider<T, P> {
+    /**
+     * Gets the partition of an item.
+     *
+     * @param item Item.
+     * @return Partition.
+     */
+    P partition(T item);
+
+    /**
+     * Gets the node holding the leader of a partition.
+     *
+     * @param partition Partition.
+     * @return Node name, or {@code null} if the node is not known.
+     */
+    @Nullable String node(P partition);
+
+    /**
+     * Refreshes the partition distribution. Called before the streaming starts and then on every auto flush.
+     *
+     * @return Future that completes when the distribution is refreshed.
+     */
+    CompletableFuture<Void> refreshAsync();
+}
@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Data streamer subscriber. Buffers the items per partition and sends a batch when it is full, when the auto flush
+ * interval elapses, or when the publisher completes.
+ *
+ * <p>At most one batch of a partition is in flight, so the items with the same key are written in the order they are
+ * published, and at most {@code perNodeParallelOperations} batches are in flight on a node. More items are requested
+ * from the publisher only when all the requested items are received and every full batch is sent: a slow node stops
+ * the publisher instead of growing the buffers.
+ *
+ * @param <T> Item type.
+ * @param <P> Partition type.
+ */
+public class StreamerSubscriber<T, P> implements Flow.Subscriber<T> {
+    /** Batch sender. */
+    private final StreamerBatchSender<T, P> batchSender;
+
+    /** Partition awareness provider. */
+    private final StreamerPartitionAwarenessProvider<T, P> partitionAwarenessProvider;
+
+    /** Number of items in a batch. */
+    private final int batchSize;
+
+    /** Number of batches sent to a node in parallel. */
+    private final int perNodeParallelOperations;
+
+    /** Auto flush interval in milliseconds, {@code 0} to disable. */
+    private final long autoFlushFrequency;
+
+    /** Completion future. */
+    private final CompletableFuture<Void> completionFut = new CompletableFuture<>();
+
+    /** Items being buffered by partition. */
+    private final Map<P, List<T>> buffers = new HashMap<>();
+
+    /** Full batches waiting to be sent, by partition in the order they got ready. */
+    private final Map<P, ArrayDeque<List<T>>> readyBatches = new LinkedHashMap<>();
+
+    /** Nodes of the partitions having a batch in flight. */
+    private final Map<P, String> inFlightPartitions = new HashMap<>();
+
+    /** Number of batches in flight by node. */
+    private final Map<String, Integer> inFlightByNode = new HashMap<>();
+
+    /** Subscription. */
+    private Flow.Subscription subscription;
+
+    /** Auto flush executor. */
+    private @Nullable ScheduledExecutorService flushExecutor;
+
+    /** Number of full batches waiting to be sent. */
+    private int readyCnt;
+
+    /** Number of requested items not yet received, negative until the partition distribution is known. */
+    private long pendingItems = -1;
+
+    /** Publisher completion flag. */
+    private boolean publisherCompleted;
+
+    /** Termination flag. */
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param batchSender Batch sender.
+     * @param partitionAwarenessProvider Partition awareness provider.
+     * @param batchSize Number of items in a batch.
+     * @param perNodeParallelOperations Number of batches sent to a node in parallel.
+     * @param autoFlushFrequency Auto flush interval in milliseconds, {@code 0} to disable.
+     */
+    public StreamerSubscriber(
+            StreamerBatchSender<T, P> batchSender,
+            StreamerPartitionAwarenessProvider<T, P> partitionAwarenessProvider,
+            int batchSize,
+            int perNodeParallelOperations,
+            long autoFlushFrequency
+    ) {
+        assert batchSize > 0 : batchSize;
+        assert perNodeParallelOperations > 0 : perNodeParallelOperations;
+        assert autoFlushFrequency >= 0 : autoFlushFrequency;
+
+        this.batchSender = batchSender;
+        this.partitionAwarenessProvider = partitionAwarenessProvider;
+        this.batchSize = batchSize;
+        this.perNodeParallelOperations = perNodeParallelOperations;
+        this.autoFlushFrequency = autoFlushFrequency;
+    }
+
+    /**
+     * Returns a future that completes when all the items are written, or completes exceptionally when the publisher or a
+     * batch fails.
+     *
+     * @return Completion future.
+     */
+    public CompletableFuture<Void> completionFuture() {
+        return completionFut;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        synchronized (this) {
+            if (this.subscription != null) {
+                subscription.cancel();
+
+                return;
+            }
+
+            this.subscription = subscription;
+
+            if (autoFlushFrequency > 0) {
+                flushExecutor = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("data-streamer-flush", true));
+
+                flushExecutor.scheduleAtFixedRate(this::autoFlush, autoFlushFrequency, autoFlushFrequency, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        refresh().thenRun(() -> {
+            synchronized (this) {
+                pendingItems = 0;
+            }
+
+            process();
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onNext(T item) {
+        P partition;
+
+        try {
+            partition = partitionAwarenessProvider.partition(item);
+        } catch (Throwable e) {
+            fail(e);
+
+            return;
+        }
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            pendingItems--;
+
+            List<T> buf = buffers.computeIfAbsent(partition, p -> new ArrayList<>(batchSize));
+
+            buf.add(item);
+
+            if (buf.size() >= batchSize) {
+                buffers.remove(partition);
+
+                addReady(partition, buf);
+            }
+        }
+
+        process();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onError(Throwable throwable) {
+        fail(throwable);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            publisherCompleted = true;
+
+            flushBuffers();
+        }
+
+        process();
+    }
+
+    /**
+     * Sends the buffered items regardless of the batch size and refreshes the partition distribution.
+     */
+    private void autoFlush() {
+        synchronized (this) {
+            flushBuffers();
+        }
+
+        process();
+
+        refresh();
+    }
+
+    /**
+     * Refreshes the partition distribution, fails the streamer if the refresh fails.
+     *
+     * @return Future that completes when the distribution is refreshed.
+     */
+    private CompletableFuture<Void> refresh() {
+        CompletableFuture<Void> fut;
+
+        try {
+            fut = partitionAwarenessProvider.refreshAsync();
+        } catch (Throwable e) {
+            fut = failedFuture(e);
+        }
+
+        return fut.whenComplete((res, err) -> {
+            if (err != null) {
+                fail(err);
+            }
+        });
+    }
+
+    /**
+     * Moves all non-empty buffers to the ready batches, must be called under the monitor.
+     */
+    private void flushBuffers() {
+        for (Map.Entry<P, List<T>> e : buffers.entrySet()) {
+            addReady(e.getKey(), e.getValue());
+        }
+
+        buffers.clear();
+    }
+
+    /**
+     * Adds a full batch, must be called under the monitor.
+     *
+     * @param partition Partition.
+     * @param batch Batch.
+     */
+    private void addReady(P partition, List<T> batch) {
+        readyBatches.computeIfAbsent(partition, p -> new ArrayDeque<>()).add(batch);
+
+        readyCnt++;
+    }
+
+    /**
+     * Sends the batches allowed by the in-flight limits, requests more items from the publisher and completes the
+     * streamer when everything is written. The batches are sent and the items are requested outside the monitor.
+     */
+    private void process() {
+        List<Map.Entry<P, List<T>>> toSend = new ArrayList<>();
+        long toRequest = 0;
+        boolean completed = false;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            for (Iterator<Map.Entry<P, ArrayDeque<List<T>>>> it = readyBatches.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<P, ArrayDeque<List<T>>> e = it.next();
+                P partition = e.getKey();
+
+                if (inFlightPartitions.containsKey(partition)) {
+                    continue;
+                }
+
+                String node = partitionAwarenessProvider.node(partition);
+                int nodeInFlight = inFlightByNode.getOrDefault(node, 0);
+
+                if (nodeInFlight >= perNodeParallelOperations) {
+                    continue;
+                }
+
+                inFlightPartitions.put(partition, node);
+                inFlightByNode.put(node, nodeInFlight + 1);
+
+                toSend.add(Map.entry(partition, e.getValue().poll()));
+
+                readyCnt--;
+
+                if (e.getValue().isEmpty()) {
+                    it.remove();
+                }
+            }
+
+            if (publisherCompleted) {
+                if (readyCnt == 0 && inFlightPartitions.isEmpty()) {
+                    closed = true;
+                    completed = true;
+                }
+            } else if (pendingItems == 0 && readyCnt == 0) {
+                toRequest = batchSize;
+                pendingItems = batchSize;
+            }
+        }
+
+        for (Map.Entry<P, List<T>> batch : toSend) {
+            send(batch.getKey(), batch.getValue());
+        }
+
+        if (toRequest > 0) {
+            subscription.request(toRequest);
+        }
+
+        if (completed) {
+            stopFlushExecutor();
+
+            completionFut.complete(null);
+        }
+    }
+
+    /**
+     * Sends a batch counted as in flight.
+     *
+     * @param partition Partition.
+     * @param batch Batch.
+     */
+    private void send(P partition, List<T> batch) {
+        CompletableFuture<Void> fut;
+
+        try {
+            fut = batchSender.sendAsync(partition, batch);
+        } catch (Throwable e) {
+            fut = failedFuture(e);
+        }
+
+        fut.whenComplete((res, err) -> {
+            synchronized (this) {
+                String node = inFlightPartitions.remove(partition);
+
+                inFlightByNode.merge(node, -1, Integer::sum);
+            }
+
+            if (err != null) {
+                fail(err);
+            } else {
+                process();
+            }
+        });
+    }
+
+    /**
+     * Terminates the streamer with an error.
+     *
+     * @param err Error.
+     */
+    private void fail(Throwable err) {
+        Flow.Subscription subscription;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            buffers.clear();
+            readyBatches.clear();
+
+            subscription = this.subscription;
+        }
+
+        if (subscription != null) {
+            subscription.cancel();
+        }
+
+        stopFlushExecutor();
+
+        completionFut.completeExceptionally(err);
+    }
+
+    /**
+     * Stops the auto flush executor.
+     */
+    private void stopFlushExecutor() {
+        ScheduledExecutorService executor;
+
+        synchronized (this) {
+            executor = flushExecutor;
+
+            flushExecutor = null;
+        }
+
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Publisher of the result of a future. The future is obtained from the supplier when the subscriber requests the item.
+ *
+ * @param <T> Item type.
+ */
+public class FuturePublisher<T> implements Flow.Publisher<T> {
+    /** Future supplier. */
+    private final Supplier<? extends CompletionStage<T>> futSupplier;
+
+    /**
+     * Constructor.
+     *
+     * @param futSupplier Future supplier.
+     */
+    public FuturePublisher(Supplier<? extends CompletionStage<T>> futSupplier) {
+        this.futSupplier = futSupplier;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+            private final AtomicBoolean requested = new AtomicBoolean();
+
+            private volatile boolean cancelled;
+
+            @Override
+            public void request(long n) {
+                if (!requested.compareAndSet(false, true)) {
+                    return;
+                }
+
+                if (n <= 0) {
+                    subscriber.onError(new IllegalArgumentException("Requested number of items must be positive: " + n));
+
+                    return;
+                }
+
+                CompletionStage<T> fut;
+
+                try {
+                    fut = futSupplier.get();
+                } catch (Throwable e) {
+                    subscriber.onError(e);
+
+                    return;
+                }
+
+                fut.whenComplete((res, e) -> {
+                    if (cancelled) {
+                        return;
+                    }
+
+                    if (e != null) {
+                        subscriber.onError(PagedPublisher.unwrap(e));
+                    } else {
+                        subscriber.onNext(res);
+                        subscriber.onComplete();
+                    }
+                });
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        });
+    }
+}
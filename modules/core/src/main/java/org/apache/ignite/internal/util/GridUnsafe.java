@@ -1517,6 +1517,20 @@ public abstract class GridUnsafe {
         UNSAFE.putObjectVolatile(obj, off, val);
     }
 
+    /**
+     * Ensures that loads before the fence will not be reordered with loads and stores after the fence.
+     */
+    public static void loadFence() {
+        UNSAFE.loadFence();
+    }
+
+    /**
+     * Ensures that loads and stores before the fence will not be reordered with stores after the fence.
+     */
+    public static void storeFence() {
+        UNSAFE.storeFence();
+    }
+
     /**
      * Returns page size.
      *
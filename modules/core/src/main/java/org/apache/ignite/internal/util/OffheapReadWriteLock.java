@@ -24,12 +24,17 @@ import org.apache.ignite.lang.IgniteSystemProperties;
 /**
  * Lock state structure is as follows.
  * <pre>
- *     +----------------+---------------+---------+----------+
- *     | WRITE WAIT CNT | READ WAIT CNT |   TAG   | LOCK CNT |
- *     +----------------+---------------+---------+----------+
- *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes |
- *     +----------------+---------------+---------+----------+
+ *     +----------------+---------------+---------+----------+---------------+
+ *     | WRITE WAIT CNT | READ WAIT CNT |   TAG   | LOCK CNT | WRITE VERSION |
+ *     +----------------+---------------+---------+----------+---------------+
+ *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes |    8 bytes    |
+ *     +----------------+---------------+---------+----------+---------------+
  * </pre>
+ *
+ * <p>Write version is odd while the write lock is held and is incremented on every acquisition and release of the write lock. It allows
+ * optimistic reads without modification of the lock state, similar to {@link java.util.concurrent.locks.StampedLock}: a reader takes a
+ * stamp with {@link #tryOptimisticRead(long, int)}, reads the protected resource and checks with {@link #validate(long, long)} that no
+ * writer has intervened.
  */
 public class OffheapReadWriteLock {
     /**
@@ -49,7 +54,13 @@ public class OffheapReadWriteLock {
     public static final int TAG_LOCK_ALWAYS = -1;
 
     /** Lock size. */
-    public static final int LOCK_SIZE = 8;
+    public static final int LOCK_SIZE = 16;
+
+    /** Offset of the write version from the lock address. */
+    private static final int VERSION_OFFSET = 8;
+
+    /** Stamp returned by {@link #tryOptimisticRead(long, int)} if the optimistic read is not possible, never valid. */
+    public static final long INVALID_STAMP = -1;
 
     /** Maximum number of waiting threads, read or write. */
     public static final int MAX_WAITERS = 0xFFFF;
@@ -102,6 +113,44 @@ public class OffheapReadWriteLock {
         assert tag != 0;
 
         GridUnsafe.putLong(lock, (long) tag << 16);
+
+        // The version is not reset, so the stamps taken before the lock was reinitialized become invalid.
+        GridUnsafe.putLongVolatile(null, lock + VERSION_OFFSET, (GridUnsafe.getLong(lock + VERSION_OFFSET) | 1) + 1);
+    }
+
+    /**
+     * Returns a stamp for the optimistic read, to be validated with {@link #validate(long, long)} after the read.
+     *
+     * <p>Does not modify the lock state, so the optimistic readers do not contend with each other.
+     *
+     * @param lock Lock address.
+     * @param tag Validation tag.
+     * @return Stamp, {@link #INVALID_STAMP} if the write lock is held or tag validation failed.
+     */
+    public long tryOptimisticRead(long lock, int tag) {
+        long ver = GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET);
+
+        if ((ver & 1) != 0) {
+            return INVALID_STAMP;
+        }
+
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return checkTag(state, tag) && canReadLock(state) ? ver : INVALID_STAMP;
+    }
+
+    /**
+     * Checks that the write lock has not been acquired since the stamp was taken.
+     *
+     * @param lock Lock address.
+     * @param stamp Stamp returned by {@link #tryOptimisticRead(long, int)}.
+     * @return {@code True} if the data read after the stamp was taken is consistent.
+     */
+    public boolean validate(long lock, long stamp) {
+        // Orders the reads of the protected data before the read of the version.
+        GridUnsafe.loadFence();
+
+        return stamp != INVALID_STAMP && GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET) == stamp;
     }
 
     /**
@@ -200,8 +249,13 @@ public class OffheapReadWriteLock {
     public boolean tryWriteLock(long lock, int tag) {
         long state = GridUnsafe.getLongVolatile(null, lock);
 
-        return checkTag(state, tag) && canWriteLock(state)
-                && GridUnsafe.compareAndSwapLong(null, lock, state, updateState(state, -1, 0, 0));
+        if (checkTag(state, tag) && canWriteLock(state) && GridUnsafe.compareAndSwapLong(null, lock, state, updateState(state, -1, 0, 0))) {
+            onWriteLocked(lock);
+
+            return true;
+        }
+
+        return false;
     }
 
     /**
@@ -223,6 +277,8 @@ public class OffheapReadWriteLock {
 
             if (canWriteLock(state)) {
                 if (GridUnsafe.compareAndSwapLong(null, lock, state, updateState(state, -1, 0, 0))) {
+                    onWriteLocked(lock);
+
                     return true;
                 } else {
                     // Retry CAS, do not count as spin cycle.
@@ -276,6 +332,8 @@ public class OffheapReadWriteLock {
 
         assert tag != 0;
 
+        boolean versionUpdated = false;
+
         while (true) {
             long state = GridUnsafe.getLongVolatile(null, lock);
 
@@ -284,6 +342,12 @@ public class OffheapReadWriteLock {
                         + "[lock=" + IgniteUtils.hexLong(lock) + ", state=" + IgniteUtils.hexLong(state) + ']');
             }
 
+            if (!versionUpdated) {
+                onWriteUnlock(lock);
+
+                versionUpdated = true;
+            }
+
             updated = releaseWithTag(state, tag);
 
             assert updated != 0;
@@ -356,6 +420,8 @@ public class OffheapReadWriteLock {
 
             if (lockCount(state) == 1) {
                 if (GridUnsafe.compareAndSwapLong(null, lock, state, updateState(state, -2, 0, 0))) {
+                    onWriteLocked(lock);
+
                     return true;
                 } else {
                     // Retry CAS, do not count as spin cycle.
@@ -381,6 +447,8 @@ public class OffheapReadWriteLock {
 
                 if (lockCount(state) == 1) {
                     if (GridUnsafe.compareAndSwapLong(null, lock, state, updateState(state, -2, 0, 0))) {
+                        onWriteLocked(lock);
+
                         return true;
                     } else {
                         continue;
@@ -487,6 +555,8 @@ public class OffheapReadWriteLock {
                         long updated = updateState(state, -1, 0, -1);
 
                         if (GridUnsafe.compareAndSwapLong(null, lock, state, updated)) {
+                            onWriteLocked(lock);
+
                             return true;
                         }
                     } else {
@@ -503,6 +573,27 @@ public class OffheapReadWriteLock {
         }
     }
 
+    /**
+     * Makes the write version odd after the write lock is acquired, before the protected resource is modified.
+     *
+     * @param lock Lock address.
+     */
+    private void onWriteLocked(long lock) {
+        // Only the holder of the write lock modifies the version.
+        GridUnsafe.putLongVolatile(null, lock + VERSION_OFFSET, GridUnsafe.getLong(lock + VERSION_OFFSET) + 1);
+
+        GridUnsafe.storeFence();
+    }
+
+    /**
+     * Makes the write version even before the write lock is released, after the protected resource is modified.
+     *
+     * @param lock Lock address.
+     */
+    private void onWriteUnlock(long lock) {
+        GridUnsafe.putLongVolatile(null, lock + VERSION_OFFSET, GridUnsafe.getLong(lock + VERSION_OFFSET) + 1);
+    }
+
     /**
      * Returns index of lock object corresponding to the stripe of this lock address.
      *
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Publisher of the items of a paged source. A page is requested only when the subscriber has unsatisfied demand and the previous
+ * page is fully delivered, and the page is limited by the outstanding demand, so at most one page is buffered no matter how big
+ * the source is.
+ *
+ * <p>The publisher supports a single subscriber. The source is closed when the subscription completes, fails or is cancelled.
+ *
+ * @param <T> Item type.
+ */
+public class PagedPublisher<T> implements Flow.Publisher<T> {
+    /** Page source. */
+    private final PageSource<T> src;
+
+    /** Subscription flag. */
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Constructor.
+     *
+     * @param src Page source.
+     */
+    public PagedPublisher(PageSource<T> src) {
+        this.src = src;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    // No-op.
+                }
+
+                @Override
+                public void cancel() {
+                    // No-op.
+                }
+            });
+
+            subscriber.onError(new IllegalStateException("Publisher supports a single subscriber."));
+
+            return;
+        }
+
+        subscriber.onSubscribe(new PagedSubscription(subscriber));
+    }
+
+    /**
+     * Unwraps the exception a future was completed with.
+     *
+     * @param e Exception.
+     * @return Cause of the completion exception, or the exception itself.
+     */
+    static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    /**
+     * Source of pages.
+     *
+     * @param <T> Item type.
+     */
+    public interface PageSource<T> {
+        /**
+         * Requests the next page. The source may return less items than requested, and a source with a fixed page size may
+         * return more: the extra items are delivered as the demand grows.
+         *
+         * @param maxItems Number of items the subscriber is waiting for.
+         * @return Future that will be completed with the page.
+         */
+        CompletionStage<? extends Iterable<T>> nextPage(int maxItems);
+
+        /**
+         * Returns {@code true} if there are more pages. Called after the requested page is received.
+         *
+         * @return {@code true} if there are more pages.
+         */
+        boolean hasMorePages();
+
+        /**
+         * Releases the resources of the source.
+         *
+         * @return Future that will be completed when the resources are released.
+         */
+        CompletionStage<Void> closeAsync();
+    }
+
+    /**
+     * Subscription that delivers the items of the current page and requests the next one on demand. Items are delivered by
+     * a single thread at a time: the thread that wins {@link #wip} drains the page until the demand is satisfied.
+     */
+    private class PagedSubscription implements Flow.Subscription {
+        /** Subscriber. */
+        private final Flow.Subscriber<? super T> subscriber;
+
+        /** Number of requested and not delivered items. */
+        private final AtomicLong demand = new AtomicLong();
+
+        /** Number of drain requests, the drain loop is run by the thread that changes it from zero. */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /** Items of the current page left to deliver. */
+        private volatile @Nullable Iterator<T> page;
+
+        /** Whether the source has more pages. */
+        private volatile boolean hasMore = true;
+
+        /** Page request in progress flag. */
+        private volatile boolean fetching;
+
+        /** Source or demand error. */
+        private volatile @Nullable Throwable err;
+
+        /** Termination flag. */
+        private volatile boolean done;
+
+        /**
+         * Constructor.
+         *
+         * @param subscriber Subscriber.
+         */
+        PagedSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                err = new IllegalArgumentException("Requested number of items must be positive: " + n);
+            } else {
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            if (!done) {
+                done = true;
+
+                src.closeAsync();
+            }
+        }
+
+        /**
+         * Delivers the buffered items, completes the subscription or requests the next page.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            do {
+                while (!done) {
+                    Throwable e = err;
+
+                    if (e != null) {
+                        done = true;
+
+                        src.closeAsync();
+
+                        subscriber.onError(e);
+
+                        break;
+                    }
+
+                    Iterator<T> it = page;
+
+                    // Completion doesn't need demand, a subscriber that requested exactly the remaining items is completed too.
+                    if (it != null && !it.hasNext() && !hasMore && !fetching) {
+                        done = true;
+
+                        src.closeAsync();
+
+                        subscriber.onComplete();
+
+                        break;
+                    }
+
+                    long d = demand.get();
+
+                    if (d == 0) {
+                        break;
+                    }
+
+                    if (it != null && it.hasNext()) {
+                        demand.decrementAndGet();
+
+                        subscriber.onNext(it.next());
+
+                        continue;
+                    }
+
+                    if (fetching) {
+                        break;
+                    }
+
+                    fetching = true;
+
+                    fetch((int) Math.min(d, Integer.MAX_VALUE));
+
+                    break;
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        /**
+         * Requests the next page from the source.
+         *
+         * @param maxItems Number of items the subscriber is waiting for.
+         */
+        private void fetch(int maxItems) {
+            CompletionStage<? extends Iterable<T>> fut;
+
+            try {
+                fut = src.nextPage(maxItems);
+            } catch (Throwable e) {
+                err = e;
+                fetching = false;
+
+                drain();
+
+                return;
+            }
+
+            fut.whenComplete((items, e) -> {
+                if (e != null) {
+                    err = unwrap(e);
+                } else {
+                    hasMore = src.hasMorePages();
+                    page = items.iterator();
+                }
+
+                fetching = false;
+
+                drain();
+            });
+        }
+    }
+}
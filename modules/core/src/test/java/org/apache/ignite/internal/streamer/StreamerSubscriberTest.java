@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StreamerSubscriber}.
+ */
+class StreamerSubscriberTest {
+    /** Batches sent. */
+    private final List<Batch> batches = new CopyOnWriteArrayList<>();
+
+    /** Subscription. */
+    private final TestSubscription subscription = new TestSubscription();
+
+    @Test
+    void sendsFullBatchesAndFlushesOnComplete() throws Exception {
+        StreamerSubscriber<Integer, Integer> subscriber = subscriber(2, 1, 0, 2, p -> "node" + p);
+
+        subscriber.onSubscribe(subscription);
+
+        assertEquals(2, subscription.requested);
+
+        subscriber.onNext(0);
+        subscriber.onNext(2);
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of(0, 2), batches.get(0).items);
+        assertEquals(4, subscription.requested);
+
+        subscriber.onNext(1);
+        subscriber.onNext(4);
+        subscriber.onComplete();
+
+        assertEquals(2, batches.size());
+        assertEquals(List.of(1), batches.get(1).items);
+
+        // The second batch of partition 0 is sent after the first one is written.
+        batches.get(0).fut.complete(null);
+
+        assertEquals(3, batches.size());
+        assertEquals(List.of(4), batches.get(2).items);
+        assertEquals(0, batches.get(2).partition);
+
+        batches.get(1).fut.complete(null);
+
+        assertFalse(subscriber.completionFuture().isDone());
+
+        batches.get(2).fut.complete(null);
+
+        subscriber.completionFuture().get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void sendsOneBatchOfPartitionAtTime() {
+        StreamerSubscriber<Integer, Integer> subscriber = subscriber(1, 4, 0, 1, p -> "node");
+
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(0);
+
+        assertEquals(1, batches.size());
+        assertEquals(2, subscription.requested);
+
+        subscriber.onNext(1);
+
+        // The batch waits for the previous one of the same partition, the publisher is not asked for more.
+        assertEquals(1, batches.size());
+        assertEquals(2, subscription.requested);
+
+        batches.get(0).fut.complete(null);
+
+        assertEquals(2, batches.size());
+        assertEquals(List.of(1), batches.get(1).items);
+        assertEquals(3, subscription.requested);
+    }
+
+    @Test
+    void limitsBatchesInFlightPerNode() {
+        StreamerSubscriber<Integer, Integer> subscriber = subscriber(1, 2, 0, 4, p -> p < 3 ? "node1" : "node2");
+
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(0);
+        subscriber.onNext(1);
+        subscriber.onNext(2);
+
+        assertEquals(2, batches.size());
+        assertEquals(3, subscription.requested);
+
+        // Another node is not limited by the first one, but the publisher waits for the ready batch.
+        batches.get(0).fut.complete(null);
+
+        assertEquals(3, batches.size());
+        assertEquals(List.of(2), batches.get(2).items);
+        assertEquals(4, subscription.requested);
+
+        subscriber.onNext(3);
+
+        assertEquals(4, batches.size());
+        assertEquals(List.of(3), batches.get(3).items);
+    }
+
+    @Test
+    void flushesByTime() throws Exception {
+        StreamerSubscriber<Integer, Integer> subscriber = subscriber(100, 2, 50, 2, p -> "node");
+
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(0);
+        subscriber.onNext(1);
+
+        assertTrue(waitForCondition(() -> batches.size() == 2, 5_000));
+
+        for (Batch batch : batches) {
+            batch.fut.complete(null);
+        }
+
+        subscriber.onComplete();
+
+        subscriber.completionFuture().get(1, TimeUnit.SECONDS);
+
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    void failsOnBatchError() {
+        StreamerSubscriber<Integer, Integer> subscriber = subscriber(1, 1, 0, 1, p -> "node");
+
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(0);
+
+        IllegalStateException err = new IllegalStateException("Test");
+
+        batches.get(0).fut.completeExceptionally(err);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> subscriber.completionFuture().get(1, TimeUnit.SECONDS));
+
+        assertSame(err, ex.getCause());
+        assertTrue(subscription.cancelled);
+
+        subscriber.onNext(1);
+
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void failsOnPublisherError() {
+        StreamerSubscriber<Integer, Integer> subscriber = subscriber(10, 1, 0, 1, p -> "node");
+
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(0);
+
+        IllegalStateException err = new IllegalStateException("Test");
+
+        subscriber.onError(err);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> subscriber.completionFuture().get(1, TimeUnit.SECONDS));
+
+        assertSame(err, ex.getCause());
+        assertTrue(batches.isEmpty());
+    }
+
+    private StreamerSubscriber<Integer, Integer> subscriber(
+            int batchSize,
+            int perNodeParallelOperations,
+            long autoFlushFrequency,
+            int partitions,
+            IntFunction<String> nodes
+    ) {
+        StreamerPartitionAwarenessProvider<Integer, Integer> provider = new StreamerPartitionAwarenessProvider<>() {
+            @Override
+            public Integer partition(Integer item) {
+                return item % partitions;
+            }
+
+            @Override
+            public @Nullable String node(Integer partition) {
+                return nodes.apply(partition);
+            }
+
+            @Override
+            public CompletableFuture<Void> refreshAsync() {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+
+        StreamerBatchSender<Integer, Integer> sender = (partition, items) -> {
+            Batch batch = new Batch(partition, items);
+
+            batches.add(batch);
+
+            return batch.fut;
+        };
+
+        return new StreamerSubscriber<>(sender, provider, batchSize, perNodeParallelOperations, autoFlushFrequency);
+    }
+
+    /**
+     * Batch passed to the sender.
+     */
+    private static class Batch {
+        final int partition;
+
+        final List<Integer> items;
+
+        final CompletableFuture<Void> fut = new CompletableFuture<>();
+
+        Batch(int partition, Collection<Integer> items) {
+            this.partition = partition;
+            this.items = new ArrayList<>(items);
+        }
+    }
+
+    /**
+     * Subscription recording the demand.
+     */
+    private static class TestSubscription implements Flow.Subscription {
+        volatile long requested;
+
+        volatile boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
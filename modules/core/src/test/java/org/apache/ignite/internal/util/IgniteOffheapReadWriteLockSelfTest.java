@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.util;
 
+import static org.apache.ignite.internal.util.OffheapReadWriteLock.INVALID_STAMP;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -439,6 +440,135 @@ public class IgniteOffheapReadWriteLockSelfTest extends BaseIgniteAbstractTest {
         validate(data);
     }
 
+    @Test
+    public void testOptimisticRead() {
+        OffheapReadWriteLock lock = new OffheapReadWriteLock(16);
+
+        long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        try {
+            lock.init(ptr, TAG_0);
+
+            long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(lock.validate(ptr, stamp));
+
+            // Read locks do not invalidate the stamp.
+            assertTrue(lock.readLock(ptr, TAG_0));
+
+            assertEquals(stamp, lock.tryOptimisticRead(ptr, TAG_0));
+
+            lock.readUnlock(ptr);
+
+            assertTrue(lock.validate(ptr, stamp));
+
+            assertEquals(INVALID_STAMP, lock.tryOptimisticRead(ptr, TAG_0 + 1));
+
+            assertTrue(lock.writeLock(ptr, TAG_0));
+
+            assertEquals(INVALID_STAMP, lock.tryOptimisticRead(ptr, TAG_0));
+            assertFalse(lock.validate(ptr, stamp));
+
+            lock.writeUnlock(ptr, TAG_0);
+
+            assertFalse(lock.validate(ptr, stamp));
+
+            stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(lock.validate(ptr, stamp));
+
+            // Reinitialization invalidates the stamp.
+            lock.init(ptr, TAG_0);
+
+            assertFalse(lock.validate(ptr, stamp));
+
+            assertFalse(lock.validate(ptr, INVALID_STAMP));
+        } finally {
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
+    @Test
+    public void testConcurrentOptimisticReads() throws Exception {
+        final int numPairs = 100;
+        final Pair[] data = new Pair[numPairs];
+
+        for (int i = 0; i < numPairs; i++) {
+            data[i] = new Pair();
+        }
+
+        final OffheapReadWriteLock lock = new OffheapReadWriteLock(16);
+
+        final long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        lock.init(ptr, TAG_0);
+
+        final AtomicInteger reads = new AtomicInteger();
+        final AtomicInteger failedReads = new AtomicInteger();
+        final AtomicInteger inconsistentReads = new AtomicInteger();
+        final AtomicBoolean done = new AtomicBoolean(false);
+
+        CompletableFuture<Long> fut = IgniteTestUtils.runMultiThreadedAsync(() -> {
+            try {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+                while (!done.get()) {
+                    if (rnd.nextInt(10) < 2) {
+                        boolean locked = lock.writeLock(ptr, TAG_0);
+
+                        try {
+                            assert locked;
+
+                            int idx = rnd.nextInt(numPairs);
+                            int delta = rnd.nextInt(100_000);
+
+                            data[idx].left += delta;
+                            data[idx].right -= delta;
+                        } finally {
+                            lock.writeUnlock(ptr, TAG_0);
+                        }
+                    } else {
+                        long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+                        boolean consistent = true;
+
+                        for (int i1 = 0; i1 < data.length; i1++) {
+                            Pair pair = data[i1];
+
+                            consistent &= pair.left == -pair.right;
+                        }
+
+                        if (!lock.validate(ptr, stamp)) {
+                            failedReads.incrementAndGet();
+                        } else if (!consistent) {
+                            inconsistentReads.incrementAndGet();
+                        } else {
+                            reads.incrementAndGet();
+                        }
+                    }
+                }
+            } catch (Throwable e) {
+                log.error(e.getMessage(), e);
+            }
+
+            return null;
+        }, 32, "tester");
+
+        for (int i = 0; i < ROUNDS_PER_TEST; i++) {
+            Thread.sleep(SLEEP_TIME);
+
+            log.info("Reads: " + reads.getAndSet(0) + ", failed reads=" + failedReads.getAndSet(0));
+        }
+
+        done.set(true);
+
+        fut.get();
+
+        assertEquals(0, inconsistentReads.get());
+
+        validate(data);
+    }
+
     /**
      * Validates data integrity.
      *
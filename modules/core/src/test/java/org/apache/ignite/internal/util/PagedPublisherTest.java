@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testing the {@link PagedPublisher}.
+ */
+public class PagedPublisherTest {
+    @Test
+    void testPagesFollowDemand() {
+        ListSource src = new ListSource(10, 4);
+        RecordingSubscriber sub = new RecordingSubscriber();
+
+        new PagedPublisher<>(src).subscribe(sub);
+
+        assertTrue(src.requested.isEmpty());
+
+        sub.subscription.request(3);
+
+        assertEquals(List.of(3), src.requested);
+        assertEquals(List.of(0, 1, 2), sub.items);
+
+        // Every page is limited by the outstanding demand.
+        sub.subscription.request(5);
+
+        assertEquals(List.of(3, 5, 1), src.requested);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), sub.items);
+        assertFalse(sub.completed);
+
+        sub.subscription.request(Long.MAX_VALUE);
+        sub.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of(3, 5, 1, Integer.MAX_VALUE), src.requested);
+        assertEquals(10, sub.items.size());
+        assertTrue(sub.completed);
+        assertNull(sub.err);
+        assertTrue(src.closed);
+    }
+
+    @Test
+    void testCompletionWithoutDemand() {
+        ListSource src = new ListSource(3, 10);
+        RecordingSubscriber sub = new RecordingSubscriber();
+
+        new PagedPublisher<>(src).subscribe(sub);
+
+        // Exactly the number of the items, the last page reports that there are no more pages.
+        sub.subscription.request(3);
+
+        assertEquals(List.of(0, 1, 2), sub.items);
+        assertEquals(List.of(3), src.requested);
+        assertTrue(sub.completed);
+        assertTrue(src.closed);
+    }
+
+    @Test
+    void testFixedPageSource() {
+        ListSource src = new ListSource(5, 2) {
+            @Override
+            public CompletionStage<? extends Iterable<Integer>> nextPage(int maxItems) {
+                // Ignores the demand like a cursor with a fixed page size.
+                return super.nextPage(pageSize);
+            }
+        };
+
+        RecordingSubscriber sub = new RecordingSubscriber();
+
+        new PagedPublisher<>(src).subscribe(sub);
+
+        sub.subscription.request(1);
+
+        assertEquals(List.of(0), sub.items);
+        assertEquals(1, src.requested.size());
+
+        // The second item is delivered from the buffered page.
+        sub.subscription.request(1);
+
+        assertEquals(List.of(0, 1), sub.items);
+        assertEquals(1, src.requested.size());
+
+        sub.subscription.request(10);
+
+        assertEquals(List.of(0, 1, 2, 3, 4), sub.items);
+        assertTrue(sub.completed);
+    }
+
+    @Test
+    void testCancel() {
+        ListSource src = new ListSource(10, 10);
+        RecordingSubscriber sub = new RecordingSubscriber();
+
+        new PagedPublisher<>(src).subscribe(sub);
+
+        sub.subscription.request(1);
+        sub.subscription.cancel();
+        sub.subscription.request(1);
+
+        assertEquals(List.of(0), sub.items);
+        assertFalse(sub.completed);
+        assertTrue(src.closed);
+    }
+
+    @Test
+    void testErrors() {
+        ListSource src = new ListSource(10, 10) {
+            @Override
+            public CompletionStage<? extends Iterable<Integer>> nextPage(int maxItems) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Test"));
+            }
+        };
+
+        RecordingSubscriber sub = new RecordingSubscriber();
+
+        PagedPublisher<Integer> publisher = new PagedPublisher<>(src);
+
+        publisher.subscribe(sub);
+
+        sub.subscription.request(1);
+
+        assertTrue(sub.err instanceof IllegalStateException);
+        assertTrue(src.closed);
+
+        // A single subscriber is supported.
+        RecordingSubscriber sub2 = new RecordingSubscriber();
+
+        publisher.subscribe(sub2);
+
+        assertTrue(sub2.err instanceof IllegalStateException);
+
+        // Non-positive demand.
+        RecordingSubscriber sub3 = new RecordingSubscriber();
+
+        new PagedPublisher<>(new ListSource(1, 1)).subscribe(sub3);
+
+        sub3.subscription.request(0);
+
+        assertTrue(sub3.err instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Source of the sequential integers.
+     */
+    private static class ListSource implements PagedPublisher.PageSource<Integer> {
+        final List<Integer> requested = new ArrayList<>();
+
+        final int size;
+
+        final int pageSize;
+
+        int pos;
+
+        boolean closed;
+
+        ListSource(int size, int pageSize) {
+            this.size = size;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public CompletionStage<? extends Iterable<Integer>> nextPage(int maxItems) {
+            requested.add(maxItems);
+
+            int end = Math.min(size, pos + Math.min(maxItems, pageSize));
+
+            List<Integer> page = IntStream.range(pos, end).boxed().collect(Collectors.toList());
+
+            pos = end;
+
+            return CompletableFuture.completedFuture(page);
+        }
+
+        @Override
+        public boolean hasMorePages() {
+            return pos < size;
+        }
+
+        @Override
+        public CompletionStage<Void> closeAsync() {
+            closed = true;
+
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Subscriber that records the received items.
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+        final List<Integer> items = new ArrayList<>();
+
+        Flow.Subscription subscription;
+
+        Throwable err;
+
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            err = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
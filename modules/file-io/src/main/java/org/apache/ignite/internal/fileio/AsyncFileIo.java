@@ -101,6 +101,51 @@ public class AsyncFileIo extends AbstractFileIo {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> readFullyAsync(ByteBuffer destBuf, long position) {
+        CompletableFuture<Integer> res = new CompletableFuture<>();
+
+        readFullyAsync(destBuf, position, 0, res);
+
+        return res;
+    }
+
+    /**
+     * Reads the next part of the {@code destBuf} and continues in the completion handler until the buffer is full or the end of the
+     * file is reached.
+     *
+     * @param destBuf Destination byte buffer.
+     * @param position Starting position of file.
+     * @param readBytes Number of bytes that have already been read.
+     * @param res Future to complete with the total number of read bytes.
+     */
+    private void readFullyAsync(ByteBuffer destBuf, long position, int readBytes, CompletableFuture<Integer> res) {
+        ChannelOpFuture future = new ChannelOpFuture();
+
+        asyncFutures.add(future);
+
+        future.whenComplete((n, e) -> {
+            asyncFutures.remove(future);
+
+            if (e != null) {
+                res.completeExceptionally(e);
+            } else if (n < 0) {
+                res.complete(readBytes == 0 ? -1 : readBytes);
+            } else if (n == 0 || !destBuf.hasRemaining()) {
+                res.complete(readBytes + n);
+            } else {
+                readFullyAsync(destBuf, position, readBytes + n, res);
+            }
+        });
+
+        try {
+            ch.read(destBuf, position + readBytes, null, future);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public int read(byte[] buf, int off, int length) throws IOException {
@@ -22,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface to perform file I/O operations.
@@ -63,6 +64,26 @@ public interface FileIo extends AutoCloseable {
      */
     int read(ByteBuffer destBuf, long position) throws IOException;
 
+    /**
+     * Asynchronously reads a sequence of bytes from this file into the {@code destBuf} starting from specified file {@code position}.
+     *
+     * <p>Tries to read either until the {@code destBuf} is full or until the end of the file. The {@code destBuf} must not be accessed
+     * until the returned future is completed.
+     *
+     * <p>Default implementation reads synchronously in the calling thread.
+     *
+     * @param destBuf Destination byte buffer.
+     * @param position Starting position of file.
+     * @return Future with the number of read bytes, {@code -1} if the position is at or beyond the end of the file.
+     */
+    default CompletableFuture<Integer> readFullyAsync(ByteBuffer destBuf, long position) {
+        try {
+            return CompletableFuture.completedFuture(readFully(destBuf, position));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Reads an up to {@code len} bytes from this file into the {@code buf}.
      *
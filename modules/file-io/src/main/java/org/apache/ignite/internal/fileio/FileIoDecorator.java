@@ -22,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Decorator class for {@link FileIo}.
@@ -123,6 +124,12 @@ public class FileIoDecorator extends AbstractFileIo {
         delegate.close();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> readFullyAsync(ByteBuffer destBuf, long position) {
+        return delegate.readFullyAsync(destBuf, position);
+    }
+
     /** {@inheritDoc} */
     @Override
     public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
@@ -36,6 +36,7 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.junit.jupiter.api.Test;
@@ -99,6 +100,11 @@ public abstract class AbstractFileIoTest {
         checkReadByPositionOperation((fileIo, position, buffer) -> fileIo.read(buffer, position));
     }
 
+    @Test
+    void testReadByPositionFullyAsync() throws Exception {
+        checkReadByPositionOperation((fileIo, position, buffer) -> fileIo.readFullyAsync(buffer, position).get(1, TimeUnit.SECONDS));
+    }
+
     @Test
     void testReadToByteArrayFully() throws Exception {
         checkReadOperation((fileIo, buffer) -> fileIo.readFully(buffer.array(), 0, 1024));
@@ -474,7 +480,7 @@ public abstract class AbstractFileIoTest {
     }
 
     private interface IoOperationByPosition<T, R> {
-        R apply(FileIo fileIo, long position, T t) throws IOException;
+        R apply(FileIo fileIo, long position, T t) throws Exception;
     }
 
     private static void writeBytes(Path filePath, byte[] bytes) throws Exception {
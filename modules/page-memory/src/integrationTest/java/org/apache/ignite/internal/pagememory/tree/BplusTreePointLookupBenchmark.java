@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.tree;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.INDEX_PARTITION;
+import static org.apache.ignite.internal.util.Constants.GiB;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.pagememory.TestPageIoRegistry;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.impl.PageMemoryNoStoreImpl;
+import org.apache.ignite.internal.pagememory.tree.ItBplusTreeSelfTest.TestTree;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Point lookup benchmark of {@link BplusTree} with and without the optimistic reads of the inner pages.
+ *
+ * <p>All the available threads look up random keys in the same tree, so the read locks of the root and the upper inner pages are
+ * contended by all the cores when the inner pages are read under the locks.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(Threads.MAX)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+public class BplusTreePointLookupBenchmark {
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    private static final int GROUP_ID = 1;
+
+    /** Number of keys in the tree. */
+    @Param({"1000000"})
+    public int keys;
+
+    /** Read the inner pages optimistically. */
+    @Param({"false", "true"})
+    public boolean optimistic;
+
+    private PageMemoryNoStoreImpl pageMem;
+
+    private TestTree tree;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(BplusTreePointLookupBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Fills the tree.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        UnsafeMemoryAllocatorView memoryAllocatorView = mock(UnsafeMemoryAllocatorView.class);
+
+        PageMemoryDataRegionView dataRegionView = mock(PageMemoryDataRegionView.class);
+
+        when(dataRegionView.name()).thenReturn("benchmark");
+        when(dataRegionView.memoryAllocator()).thenReturn(memoryAllocatorView);
+        when(dataRegionView.initSize()).thenReturn((long) GiB);
+        when(dataRegionView.maxSize()).thenReturn((long) GiB);
+
+        PageMemoryDataRegionConfiguration dataRegionCfg = mock(PageMemoryDataRegionConfiguration.class);
+
+        when(dataRegionCfg.value()).thenReturn(dataRegionView);
+
+        TestPageIoRegistry ioRegistry = new TestPageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        pageMem = new PageMemoryNoStoreImpl(dataRegionCfg, ioRegistry, PAGE_SIZE);
+
+        pageMem.start();
+
+        boolean optimistic = this.optimistic;
+
+        tree = new TestTree(null, true, GROUP_ID, pageMem, pageMem.allocatePage(GROUP_ID, INDEX_PARTITION, FLAG_AUX)) {
+            @Override
+            protected boolean canCompareOptimistically(BplusIo<Long> io, long pageAddr, int idx, Long row) {
+                return optimistic;
+            }
+        };
+
+        for (long i = 0; i < keys; i++) {
+            tree.put(i);
+        }
+    }
+
+    /**
+     * Stops the page memory.
+     */
+    @TearDown
+    public void tearDown() {
+        tree.close();
+
+        pageMem.stop(true);
+    }
+
+    /**
+     * Looks up a random key.
+     */
+    @Benchmark
+    public Long findOne() throws Exception {
+        return tree.findOne(ThreadLocalRandom.current().nextLong(keys));
+    }
+}
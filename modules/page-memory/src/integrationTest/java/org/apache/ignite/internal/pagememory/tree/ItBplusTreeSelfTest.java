@@ -293,6 +293,86 @@ public class ItBplusTreeSelfTest extends BaseIgniteAbstractTest {
         assertTrue(tree.isEmpty());
     }
 
+    @Test
+    public void testBulkLoad() throws Exception {
+        doTestBulkLoad(0, 20_000);
+    }
+
+    @Test
+    public void testBulkLoad_1() throws Exception {
+        MAX_PER_PAGE = 1;
+
+        doTestBulkLoad(1, 20);
+    }
+
+    @Test
+    public void testBulkLoad_2() throws Exception {
+        MAX_PER_PAGE = 2;
+
+        doTestBulkLoad(2, 100);
+    }
+
+    @Test
+    public void testBulkLoad_3() throws Exception {
+        MAX_PER_PAGE = 3;
+
+        doTestBulkLoad(3, 1_000);
+    }
+
+    private void doTestBulkLoad(int maxPerPage, long cnt) throws Exception {
+        for (long size : new long[]{0, 1, maxPerPage, maxPerPage + 1, cnt}) {
+            TestTree tree = createTestTree(true);
+            TreeMap<Long, Long> map = new TreeMap<>();
+
+            for (long i = 0; i < size; i++) {
+                map.put(i * 2, i * 2);
+            }
+
+            tree.bulkLoad(map.values().iterator());
+
+            assertNoLocks();
+
+            tree.validateTree();
+
+            assertEquals(size, tree.size());
+            assertEquals(size == 0, tree.isEmpty());
+
+            checkCursor(tree.find(null, null), map.values().iterator());
+
+            for (long i = 0; i < size; i++) {
+                assertEquals(i * 2, tree.findOne(i * 2).longValue());
+                assertNull(tree.findOne(i * 2 + 1));
+            }
+
+            // The loaded tree must stay valid for regular modifications.
+            for (long i = 0; i < size; i++) {
+                tree.put(i * 2 + 1);
+                map.put(i * 2 + 1, i * 2 + 1);
+
+                if (i % 3 == 0) {
+                    tree.remove(i * 2);
+                    map.remove(i * 2);
+                }
+            }
+
+            assertNoLocks();
+
+            tree.validateTree();
+
+            checkCursor(tree.find(null, null), map.values().iterator());
+
+            // Bulk load into a non-empty tree falls back to regular puts.
+            tree.bulkLoad(List.of(-1L, size * 2).iterator());
+
+            map.put(-1L, -1L);
+            map.put(size * 2, size * 2);
+
+            tree.validateTree();
+
+            checkCursor(tree.find(null, null), map.values().iterator());
+        }
+    }
+
     @Test
     public void testFindWithClosure() throws Exception {
         TestTree tree = createTestTree(true);
@@ -2605,6 +2685,12 @@ public class ItBplusTreeSelfTest extends BaseIgniteAbstractTest {
             return Long.compare(n1, n2);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        protected boolean canCompareOptimistically(BplusIo<Long> io, long pageAddr, int idx, Long row) {
+            return true;
+        }
+
         /** {@inheritDoc} */
         @Override
         public Long getRow(BplusIo<Long> io, long pageAddr, int idx, Object ignore) throws IgniteInternalCheckedException {
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.pagememory;
 
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.util.OffheapReadWriteLock;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 
 /**
@@ -48,6 +49,17 @@ public interface PageSupport {
      */
     long acquirePage(int groupId, long pageId, IoStatisticsHolder statHolder) throws IgniteInternalCheckedException;
 
+    /**
+     * Hints that the page is going to be acquired soon, so that it can be loaded into the memory in the background. The page is not
+     * acquired by this method and does not need to be released.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     */
+    default void prefetchPage(int groupId, long pageId) {
+        // No-op.
+    }
+
     /**
      * Releases pages acquired by any of the {@code acquirePage} methods.
      *
@@ -86,6 +98,38 @@ public interface PageSupport {
      */
     void readUnlock(int groupId, long pageId, long page);
 
+    /**
+     * Starts an optimistic read of the page, without acquiring the read lock. The content of the page read at {@link #pageAddress} after
+     * this call may be inconsistent and must be used only if {@link #validateOptimisticRead} returns {@code true} for the returned stamp.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @return Stamp of the read or {@link OffheapReadWriteLock#INVALID_STAMP} if the page is write locked or has been reused.
+     */
+    long tryOptimisticRead(int groupId, long pageId, long page);
+
+    /**
+     * Checks that the page has not been modified since the optimistic read was started.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @param stamp   Stamp returned by {@link #tryOptimisticRead}.
+     * @return {@code True} if the content of the page read after the start of the optimistic read is consistent.
+     */
+    boolean validateOptimisticRead(int groupId, long pageId, long page, long stamp);
+
+    /**
+     * Returns address of the page content for the optimistic reads.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @see #tryOptimisticRead(int, long, long)
+     */
+    long pageAddress(int groupId, long pageId, long page);
+
     /**
      * Acquired a write lock on the page.
      *
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.pagememory.configuration.schema;
+
+import static org.apache.ignite.internal.pagememory.configuration.schema.MappedFileMemoryAllocatorConfigurationSchema.MAPPED_FILE_MEMORY_ALLOCATOR_TYPE;
+
+import org.apache.ignite.configuration.annotation.PolymorphicConfigInstance;
+import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.Range;
+
+/**
+ * Memory allocator that maps the data region memory to files, see {@code MappedFileMemoryAllocator}.
+ *
+ * <p>Directories on a hugetlbfs mount back the memory with explicit huge pages. Directories on tmpfs mounts with the {@code huge=always}
+ * option back it with transparent huge pages, the {@code mpol=bind:<node>} option of such a mount binds its memory to a NUMA node.
+ */
+@PolymorphicConfigInstance(MAPPED_FILE_MEMORY_ALLOCATOR_TYPE)
+public class MappedFileMemoryAllocatorConfigurationSchema extends MemoryAllocatorConfigurationSchema {
+    public static final String MAPPED_FILE_MEMORY_ALLOCATOR_TYPE = "mappedFile";
+
+    /** Directories of the memory files, consecutive memory chunks are mapped to the files in different directories in turn. */
+    @Value(hasDefault = true)
+    public String[] paths = {"/dev/hugepages"};
+
+    /** Huge page size in bytes, the size of every mapping is rounded up to it. */
+    @Range(min = 4 * 1024)
+    @Value(hasDefault = true)
+    public long hugePageSize = 2 * 1024 * 1024;
+}
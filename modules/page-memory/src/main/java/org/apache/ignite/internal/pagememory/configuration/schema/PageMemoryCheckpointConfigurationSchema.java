@@ -70,7 +70,26 @@ public class PageMemoryCheckpointConfigurationSchema {
     @Value(hasDefault = true)
     public long logReadLockThresholdTimeout = 0;
 
+    /** Throttle the threads that mark pages dirty faster than the checkpoint threads write them. */
+    @Value(hasDefault = true)
+    public boolean writeThrottlingEnabled = true;
+
+    /**
+     * Percentage of dirty pages in a data region upon reaching which a checkpoint is started without waiting for {@link #frequency},
+     * {@code 0} to disable. Applied only if {@link #writeThrottlingEnabled} is {@code true}.
+     */
+    @Range(min = 0, max = 100)
+    @Value(hasDefault = true)
+    public int dirtyPagesRatioThreshold = 50;
+
     /** Use an asynchronous file I/O operations provider. */
     @Value(hasDefault = true)
     public boolean useAsyncFileIoFactory = true;
+
+    /**
+     * Append the pages written by a checkpoint to the per-partition delta files instead of writing them in place, the delta files are
+     * merged into the partition files in the background.
+     */
+    @Value(hasDefault = true)
+    public boolean useDeltaFiles = false;
 }
@@ -95,4 +95,13 @@ public class PageMemoryDataRegionConfigurationSchema {
      */
     @Value(hasDefault = true)
     public boolean delayedReplacedPageWrite = true;
+
+    /**
+     * Prefetch the pages that B+Tree cursors are about to read (sibling leaf pages and the data pages they link to), for persistent data
+     * regions only.
+     *
+     * <p>Pages are read in the background only if the file page stores use asynchronous file IO.
+     */
+    @Value(hasDefault = true)
+    public boolean readAhead = true;
 }
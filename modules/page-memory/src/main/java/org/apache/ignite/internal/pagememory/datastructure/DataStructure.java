@@ -32,6 +32,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.PageIdAllocator;
 import org.apache.ignite.internal.pagememory.PageMemory;
+import org.apache.ignite.internal.pagememory.PageSupport;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
@@ -204,6 +205,15 @@ public abstract class DataStructure {
         return pageMem.acquirePage(grpId, pageId, statHolder);
     }
 
+    /**
+     * Hints that the page is going to be acquired soon, see {@link PageSupport#prefetchPage(int, long)}.
+     *
+     * @param pageId Page ID.
+     */
+    protected final void prefetchPage(long pageId) {
+        pageMem.prefetchPage(grpId, pageId);
+    }
+
     /**
      * Releases pages acquired by {@link #acquirePage}.
      *
@@ -29,12 +29,12 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
-import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.mem.DirectMemoryProvider;
 import org.apache.ignite.internal.pagememory.mem.DirectMemoryRegion;
 import org.apache.ignite.internal.pagememory.mem.IgniteOutOfMemoryException;
+import org.apache.ignite.internal.pagememory.mem.MemoryAllocators;
 import org.apache.ignite.internal.pagememory.mem.unsafe.UnsafeMemoryProvider;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
@@ -60,11 +60,11 @@ import org.apache.ignite.lang.IgniteSystemProperties;
  * <p/>
  * When page is allocated and is in use:
  * <pre>
- * +--------+--------+--------+--------+---------------------------+
- * |8 bytes |8 bytes |8 bytes |8 bytes |        PAGE_SIZE          |
- * +--------+--------+--------+--------+---------------------------+
- * | Marker |Page ID |Pin CNT |  Lock  |        Page data          |
- * +--------+--------+--------+--------+---------------------------+
+ * +--------+--------+--------+---------------------------+
+ * |8 bytes |8 bytes |16 bytes|        PAGE_SIZE          |
+ * +--------+--------+--------+---------------------------+
+ * | Marker |Page ID |  Lock  |        Page data          |
+ * +--------+--------+--------+---------------------------+
  * </pre>
  *
  * <p>Note that first 8 bytes of page header are used either for page marker or for next relative pointer depending
@@ -183,11 +183,17 @@ public class PageMemoryNoStoreImpl implements PageMemory {
         this.trackAcquiredPages = false;
         this.dataRegionConfigView = dataRegionConfig.value();
 
-        if (!(dataRegionConfigView.memoryAllocator() instanceof UnsafeMemoryAllocatorView)) {
-            throw new IgniteInternalException("Unexpected memory allocator: " + dataRegionConfigView.memoryAllocator());
-        }
+        directMemoryProvider = new UnsafeMemoryProvider(MemoryAllocators.create(dataRegionConfigView));
+
+        long maxChunkSize = MemoryAllocators.maxChunkSize(dataRegionConfigView.memoryAllocator());
 
-        directMemoryProvider = new UnsafeMemoryProvider(null);
+        // The initial size is allocated as the first segment, the rest of the region is split between the other segments, see start().
+        if (dataRegionConfigView.initSize() > maxChunkSize
+                || (dataRegionConfigView.maxSize() - dataRegionConfigView.initSize()) / (SEG_CNT - 1) > maxChunkSize) {
+            throw new IgniteInternalException("Data region size exceeds the limit of the memory allocator [name="
+                    + dataRegionConfigView.name() + ", initSize=" + dataRegionConfigView.initSize()
+                    + ", maxSize=" + dataRegionConfigView.maxSize() + ", maxChunkSize=" + maxChunkSize + ']');
+        }
 
         sysPageSize = pageSize + PAGE_OVERHEAD;
 
@@ -502,6 +508,27 @@ public class PageMemoryNoStoreImpl implements PageMemory {
         rwLock.readUnlock(page + LOCK_OFFSET);
     }
 
+    /** {@inheritDoc} */
+    @Override public long tryOptimisticRead(int cacheId, long pageId, long page) {
+        assert started;
+
+        return rwLock.tryOptimisticRead(page + LOCK_OFFSET, PageIdUtils.tag(pageId));
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean validateOptimisticRead(int cacheId, long pageId, long page, long stamp) {
+        assert started;
+
+        return rwLock.validate(page + LOCK_OFFSET, stamp);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long pageAddress(int cacheId, long pageId, long page) {
+        assert started;
+
+        return page + PAGE_OVERHEAD;
+    }
+
     /** {@inheritDoc} */
     @Override public long writeLock(int cacheId, long pageId, long page) {
         assert started;
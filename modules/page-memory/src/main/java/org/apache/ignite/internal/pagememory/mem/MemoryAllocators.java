@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.pagememory.mem;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.apache.ignite.internal.pagememory.configuration.schema.MappedFileMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.configuration.schema.MemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.mem.file.MappedFileMemoryAllocator;
+import org.apache.ignite.internal.pagememory.mem.unsafe.UnsafeMemoryAllocator;
+import org.apache.ignite.lang.IgniteInternalException;
+
+/**
+ * Factory of the {@link MemoryAllocator memory allocators} by the data region configuration.
+ */
+public class MemoryAllocators {
+    /**
+     * Creates the memory allocator of a data region.
+     *
+     * @param dataRegionConfigView Data region configuration.
+     * @throws IgniteInternalException If the memory allocator configuration is not supported.
+     */
+    public static MemoryAllocator create(PageMemoryDataRegionView dataRegionConfigView) {
+        MemoryAllocatorView memoryAllocatorView = dataRegionConfigView.memoryAllocator();
+
+        if (memoryAllocatorView instanceof UnsafeMemoryAllocatorView) {
+            return new UnsafeMemoryAllocator();
+        }
+
+        if (memoryAllocatorView instanceof MappedFileMemoryAllocatorView) {
+            MappedFileMemoryAllocatorView mappedFileView = (MappedFileMemoryAllocatorView) memoryAllocatorView;
+
+            if (mappedFileView.paths().length == 0) {
+                throw new IgniteInternalException("Memory file paths are not specified: " + dataRegionConfigView.name());
+            }
+
+            if (MappedFileMemoryAllocator.MAX_CHUNK_SIZE % mappedFileView.hugePageSize() != 0) {
+                throw new IgniteInternalException("Unexpected huge page size [dataRegion=" + dataRegionConfigView.name()
+                        + ", hugePageSize=" + mappedFileView.hugePageSize() + ']');
+            }
+
+            return new MappedFileMemoryAllocator(
+                    dataRegionConfigView.name(),
+                    Arrays.stream(mappedFileView.paths()).map(Path::of).toArray(Path[]::new),
+                    mappedFileView.hugePageSize()
+            );
+        }
+
+        throw new IgniteInternalException("Unexpected memory allocator: " + memoryAllocatorView);
+    }
+
+    /**
+     * Returns the max size of a memory chunk the allocator can allocate, in bytes.
+     *
+     * @param memoryAllocatorView Memory allocator configuration.
+     */
+    public static long maxChunkSize(MemoryAllocatorView memoryAllocatorView) {
+        return memoryAllocatorView instanceof MappedFileMemoryAllocatorView ? MappedFileMemoryAllocator.MAX_CHUNK_SIZE : Long.MAX_VALUE;
+    }
+}
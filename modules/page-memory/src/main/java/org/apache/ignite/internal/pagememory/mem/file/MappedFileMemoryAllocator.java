@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.pagememory.mem.file;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static org.apache.ignite.internal.util.Constants.GiB;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.pagememory.mem.MemoryAllocator;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteInternalException;
+
+/**
+ * Memory allocator that maps every chunk to its own file.
+ *
+ * <p>The files are created in the directories in turn, so the chunks (page memory segments) are spread over the directories evenly.
+ * The file system of a directory defines the pages that back the memory: hugetlbfs gives explicit huge pages, tmpfs mounted with
+ * {@code huge=always} gives transparent huge pages, and the {@code mpol} option of a tmpfs mount sets the NUMA policy of its memory.
+ *
+ * <p>A file is deleted right after it is mapped, so its memory is released to the OS as soon as the chunk is unmapped, even if the node
+ * is killed.
+ */
+public class MappedFileMemoryAllocator implements MemoryAllocator {
+    /** Max size of a chunk: a single mapping can't exceed {@link Integer#MAX_VALUE} bytes, and the size is a multiple of huge pages. */
+    public static final long MAX_CHUNK_SIZE = GiB;
+
+    /** Memory file name suffix. */
+    private static final String FILE_SUFFIX = ".mem";
+
+    /** Prefix of the memory file names. */
+    private final String filePrefix;
+
+    /** Directories of the memory files. */
+    private final Path[] dirs;
+
+    /** Huge page size in bytes. */
+    private final long hugePageSize;
+
+    /** Index of the next chunk. */
+    private final AtomicInteger nextChunkIdx = new AtomicInteger();
+
+    /** Mappings of the allocated chunks by their addresses. */
+    private final Map<Long, MappedByteBuffer> chunks = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param filePrefix Prefix of the memory file names, for example the data region name.
+     * @param dirs Directories of the memory files.
+     * @param hugePageSize Huge page size in bytes, the size of every mapping is rounded up to it.
+     */
+    public MappedFileMemoryAllocator(String filePrefix, Path[] dirs, long hugePageSize) {
+        assert dirs.length > 0 : filePrefix;
+        assert hugePageSize > 0 && MAX_CHUNK_SIZE % hugePageSize == 0 : hugePageSize;
+
+        this.filePrefix = filePrefix;
+        this.dirs = dirs;
+        this.hugePageSize = hugePageSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long allocateMemory(long size) {
+        long mappingSize = (size + hugePageSize - 1) / hugePageSize * hugePageSize;
+
+        if (mappingSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Failed to map a memory chunk larger than "
+                    + IgniteUtils.readableSize(MAX_CHUNK_SIZE, true) + ": " + IgniteUtils.readableSize(size, true));
+        }
+
+        Path dir = dirs[nextChunkIdx.getAndIncrement() % dirs.length];
+
+        try {
+            Path file = Files.createTempFile(Files.createDirectories(dir), filePrefix + '-', FILE_SUFFIX);
+
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                raf.setLength(mappingSize);
+
+                // The mapping stays valid after the file is closed.
+                MappedByteBuffer buf = raf.getChannel().map(READ_WRITE, 0, mappingSize);
+
+                long addr = GridUnsafe.bufferAddress(buf);
+
+                chunks.put(addr, buf);
+
+                return addr;
+            } finally {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            throw new IgniteInternalException(
+                    "Failed to map a memory chunk [dir=" + dir + ", size=" + IgniteUtils.readableSize(mappingSize, true) + ']',
+                    e
+            );
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void freeMemory(long addr) {
+        MappedByteBuffer buf = chunks.remove(addr);
+
+        assert buf != null : IgniteUtils.hexLong(addr);
+
+        GridUnsafe.cleanDirectBuffer(buf);
+    }
+}
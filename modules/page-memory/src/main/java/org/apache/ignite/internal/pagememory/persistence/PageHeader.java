@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.pagememory.persistence;
 
 import static org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl.INVALID_REL_PTR;
+import static org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl.PAGE_LOCK_OFFSET;
 import static org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl.RELATIVE_PTR_MASK;
 import static org.apache.ignite.internal.util.GridUnsafe.decrementAndGetInt;
 import static org.apache.ignite.internal.util.GridUnsafe.getInt;
@@ -29,6 +30,7 @@ import static org.apache.ignite.internal.util.GridUnsafe.putLong;
 import static org.apache.ignite.internal.util.GridUnsafe.putLongVolatile;
 
 import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.util.OffheapReadWriteLock;
 
 /**
  * Page header.
@@ -53,7 +55,7 @@ public class PageHeader {
     private static final int PAGE_PIN_CNT_OFFSET = 28;
 
     /** Page temp copy buffer relative pointer offset. */
-    private static final int PAGE_TMP_BUF_OFFSET = 40;
+    private static final int PAGE_TMP_BUF_OFFSET = PAGE_LOCK_OFFSET + OffheapReadWriteLock.LOCK_SIZE;
 
     /**
      * Initializes the header of the page.
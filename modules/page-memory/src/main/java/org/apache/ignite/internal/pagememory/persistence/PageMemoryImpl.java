@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.pagememory.persistence;
 
 import static java.lang.System.lineSeparator;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.internal.pagememory.FullPageId.NULL_PAGE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfigurationSchema.CLOCK_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfigurationSchema.RANDOM_LRU_REPLACEMENT_MODE;
@@ -71,18 +72,20 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
-import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.mem.DirectMemoryProvider;
 import org.apache.ignite.internal.pagememory.mem.DirectMemoryRegion;
 import org.apache.ignite.internal.pagememory.mem.IgniteOutOfMemoryException;
+import org.apache.ignite.internal.pagememory.mem.MemoryAllocators;
 import org.apache.ignite.internal.pagememory.mem.unsafe.UnsafeMemoryProvider;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
@@ -95,6 +98,7 @@ import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplace
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.RandomLruPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.SegmentedLruPageReplacementPolicyFactory;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteThrottlePolicy;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.util.OffheapReadWriteLock;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -120,7 +124,7 @@ import org.jetbrains.annotations.TestOnly;
  * <p>When page is allocated and is in use:
  * <pre>
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
- * |     8 bytes      |8 bytes |8 bytes |4 b |4 b |8 bytes |8 bytes |       PAGE_SIZE      |
+ * |     8 bytes      |8 bytes |8 bytes |4 b |4 b |16 bytes|8 bytes |       PAGE_SIZE      |
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
  * | Marker/Timestamp |Rel ptr |Page ID |C ID|PIN | LOCK   |TMP BUF |       Page data      |
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
@@ -146,12 +150,15 @@ public class PageMemoryImpl implements PageMemory {
     /** Page lock offset. */
     public static final int PAGE_LOCK_OFFSET = 32;
 
-    /** 8b Marker/timestamp 8b Relative pointer 8b Page ID 4b Group ID 4b Pin count 8b Lock 8b Temporary buffer. */
-    public static final int PAGE_OVERHEAD = 48;
+    /** 8b Marker/timestamp 8b Relative pointer 8b Page ID 4b Group ID 4b Pin count 16b Lock 8b Temporary buffer. */
+    public static final int PAGE_OVERHEAD = 56;
 
     /** Try again tag. */
     public static final int TRY_AGAIN_TAG = -1;
 
+    /** Maximum number of pages that are being prefetched at the same time, further prefetch requests are ignored. */
+    static final int MAX_PREFETCHING_PAGES = 256;
+
     /** Data region configuration view. */
     private final PageMemoryDataRegionView dataRegionConfigView;
 
@@ -218,6 +225,16 @@ public class PageMemoryImpl implements PageMemory {
     /** Checkpoint timeout lock. */
     private final CheckpointTimeoutLock checkpointTimeoutLock;
 
+    /** Write throttle, {@code null} if the writes are not throttled. */
+    @Nullable
+    private volatile PagesWriteThrottlePolicy writeThrottle;
+
+    /** Prefetch of the pages is enabled. */
+    private final boolean readAhead;
+
+    /** Number of pages that are being prefetched. */
+    private final AtomicInteger prefetchingPages = new AtomicInteger();
+
     /**
      * Constructor.
      *
@@ -251,11 +268,7 @@ public class PageMemoryImpl implements PageMemory {
         this.flushDirtyPage = flushDirtyPage;
         this.checkpointTimeoutLock = checkpointTimeoutLock;
 
-        if (!(dataRegionConfigView.memoryAllocator() instanceof UnsafeMemoryAllocatorView)) {
-            throw new IgniteInternalException("Unexpected memory allocator: " + dataRegionConfigView.memoryAllocator());
-        }
-
-        directMemoryProvider = new UnsafeMemoryProvider(null);
+        directMemoryProvider = new UnsafeMemoryProvider(MemoryAllocators.create(dataRegionConfigView));
 
         sysPageSize = pageSize + PAGE_OVERHEAD;
 
@@ -282,6 +295,8 @@ public class PageMemoryImpl implements PageMemory {
 
         delayedPageReplacementTracker = dataRegionConfigView.delayedReplacedPageWrite()
                 ? new DelayedPageReplacementTracker(pageSize, flushDirtyPage, LOG, sizes.length - 1) : null;
+
+        readAhead = dataRegionConfigView.readAhead();
     }
 
     /** {@inheritDoc} */
@@ -362,6 +377,11 @@ public class PageMemoryImpl implements PageMemory {
                 LOG.debug("Stopping page memory.");
             }
 
+            // The pages being prefetched are written into the memory by the threads of the file IO.
+            while (prefetchingPages.get() > 0) {
+                LockSupport.parkNanos(MILLISECONDS.toNanos(1));
+            }
+
             if (segments != null) {
                 for (Segment seg : segments) {
                     seg.close();
@@ -439,6 +459,31 @@ public class PageMemoryImpl implements PageMemory {
         readUnlockPage(page);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long tryOptimisticRead(int grpId, long pageId, long page) {
+        assert started;
+
+        // Unlike readLock, does not touch the page timestamp: optimistic readers must not write to the shared page header.
+        return rwLock.tryOptimisticRead(page + PAGE_LOCK_OFFSET, tag(pageId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp) {
+        assert started;
+
+        return rwLock.validate(page + PAGE_LOCK_OFFSET, stamp);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long pageAddress(int grpId, long pageId, long page) {
+        assert started;
+
+        return page + PAGE_OVERHEAD;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long writeLock(int grpId, long pageId, long page) {
@@ -831,6 +876,174 @@ public class PageMemoryImpl implements PageMemory {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void prefetchPage(int grpId, long pageId) {
+        assert started;
+
+        if (!readAhead || prefetchingPages.get() >= MAX_PREFETCHING_PAGES) {
+            return;
+        }
+
+        int partId = partitionId(pageId);
+
+        Segment seg = segment(grpId, pageId);
+
+        seg.readLock().lock();
+
+        try {
+            long relPtr = seg.loadedPages.get(
+                    grpId,
+                    effectivePageId(pageId),
+                    seg.partGeneration(grpId, partId),
+                    INVALID_REL_PTR,
+                    OUTDATED_REL_PTR
+            );
+
+            // The page is loaded to the memory or will be refreshed on acquiring.
+            if (relPtr != INVALID_REL_PTR) {
+                return;
+            }
+        } finally {
+            seg.readLock().unlock();
+        }
+
+        FullPageId fullId = new FullPageId(pageId, grpId);
+
+        long relPtr;
+        long absPtr;
+
+        seg.writeLock().lock();
+
+        try {
+            // Double-check.
+            relPtr = seg.loadedPages.get(
+                    grpId,
+                    fullId.effectivePageId(),
+                    seg.partGeneration(grpId, partId),
+                    INVALID_REL_PTR,
+                    OUTDATED_REL_PTR
+            );
+
+            if (relPtr != INVALID_REL_PTR) {
+                return;
+            }
+
+            relPtr = seg.borrowOrAllocateFreePage(pageId);
+
+            if (relPtr == INVALID_REL_PTR) {
+                relPtr = seg.removePageForReplacement();
+            }
+
+            absPtr = seg.absolute(relPtr);
+
+            fullPageId(absPtr, fullId);
+            writeTimestamp(absPtr, coarseCurrentTimeMillis());
+
+            assert !isAcquired(absPtr) :
+                    "Pin counter must be 0 for a new page [relPtr=" + hexLong(relPtr) + ", absPtr=" + hexLong(absPtr) + ']';
+
+            setDirty(fullId, absPtr, false, false);
+
+            seg.pageReplacementPolicy.onMiss(relPtr);
+
+            seg.loadedPages.put(
+                    grpId,
+                    fullId.effectivePageId(),
+                    relPtr,
+                    seg.partGeneration(grpId, partId)
+            );
+
+            rwLock.init(absPtr + PAGE_LOCK_OFFSET, tag(pageId));
+
+            // Readers of the page wait on the lock until the page is read from the store.
+            boolean locked = rwLock.writeLock(absPtr + PAGE_LOCK_OFFSET, TAG_LOCK_ALWAYS);
+
+            assert locked : "Page ID " + fullId + " expected to be locked";
+
+            // The page must not be replaced until it is read from the store.
+            seg.acquirePage(absPtr);
+
+            prefetchingPages.incrementAndGet();
+        } catch (IgniteInternalCheckedException | IgniteOutOfMemoryException e) {
+            // Prefetch is only a hint, the page will be loaded on acquiring.
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Failed to prefetch page [pageId=" + fullId + ']', e);
+            }
+
+            return;
+        } finally {
+            seg.writeLock().unlock();
+        }
+
+        ByteBuffer buf = wrapPointer(absPtr + PAGE_OVERHEAD, pageSize());
+
+        long prefetchedRelPtr = relPtr;
+
+        pageStoreManager.readAsync(grpId, pageId, buf, false).whenComplete((res, e) -> {
+            long actualPageId = 0;
+            boolean failed = false;
+
+            try {
+                if (e != null) {
+                    // Gives the page a second chance in the same way it would be read on acquiring.
+                    buf.clear();
+
+                    pageStoreManager.read(grpId, pageId, buf, false);
+                }
+
+                actualPageId = getPageId(buf);
+            } catch (Throwable t) {
+                failed = true;
+
+                LOG.warn("Failed to prefetch page, it will be read again on acquiring [pageId=" + fullId + ']', t);
+            } finally {
+                try {
+                    if (failed) {
+                        discardPrefetchedPage(seg, fullId, prefetchedRelPtr, absPtr);
+                    } else {
+                        rwLock.writeUnlock(absPtr + PAGE_LOCK_OFFSET, actualPageId == 0 ? TAG_LOCK_ALWAYS : tag(actualPageId));
+
+                        releasePage(grpId, pageId, absPtr);
+                    }
+                } finally {
+                    prefetchingPages.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    /**
+     * Discards a page which has failed to be prefetched, so that the page is read again on acquiring and the read error is reported
+     * to the reader rather than an unverified page content. The readers which have acquired the page during the prefetch fail to lock
+     * it and retry, the page slot is returned to the pool once they release it.
+     *
+     * @param seg Segment.
+     * @param fullId Full page ID.
+     * @param relPtr Relative pointer of the page, the page is write locked and acquired by the prefetch.
+     * @param absPtr Absolute pointer of the page.
+     */
+    private void discardPrefetchedPage(Segment seg, FullPageId fullId, long relPtr, long absPtr) {
+        seg.writeLock().lock();
+
+        try {
+            seg.loadedPages.remove(fullId.groupId(), fullId.effectivePageId());
+
+            seg.pageReplacementPolicy.onRemove(relPtr);
+
+            // The lock tag no longer matches the page ID, so the waiting readers fail to lock the page.
+            int tag = tag(fullId.pageId());
+
+            rwLock.writeUnlock(absPtr + PAGE_LOCK_OFFSET, tag == 1 ? 2 : 1);
+
+            seg.releasePage(absPtr);
+
+            seg.discardPage(relPtr);
+        } finally {
+            seg.writeLock().unlock();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public int pageSize() {
@@ -1181,6 +1394,13 @@ public class PageMemoryImpl implements PageMemory {
                 throw ex;
             }
         }
+
+        PagesWriteThrottlePolicy writeThrottle = this.writeThrottle;
+
+        // The thread is throttled after the page lock is released, so that the checkpoint writers are not blocked on the page.
+        if (writeThrottle != null && markDirty && !wasDirty && !restore) {
+            writeThrottle.onMarkDirty(isInCheckpoint(fullId));
+        }
     }
 
     /**
@@ -1356,6 +1576,9 @@ public class PageMemoryImpl implements PageMemory {
         /** Maps partition (grpId, partId) to its generation. Generation is 1-based incrementing partition counter. */
         private final Map<GroupPartitionId, Integer> partGenerationMap = new HashMap<>();
 
+        /** Pages which are no longer loaded, but are still acquired by some threads, see {@link #discardPage(long)}. */
+        private final List<Long> discardedPages = new ArrayList<>();
+
         /** Segment closed flag. */
         private boolean closed;
 
@@ -1459,9 +1682,46 @@ public class PageMemoryImpl implements PageMemory {
          * @return Page relative pointer.
          */
         private long borrowOrAllocateFreePage(long pageId) {
+            if (!discardedPages.isEmpty()) {
+                releaseDiscardedPages();
+            }
+
             return pool.borrowOrAllocateFreePage(tag(pageId));
         }
 
+        /**
+         * Returns a page which is no longer loaded to the pool, or defers it until the page is released by all the threads that have
+         * acquired it. Must be called under the write lock.
+         *
+         * @param relPtr Relative pointer of the page.
+         */
+        private void discardPage(long relPtr) {
+            assert writeLock().isHeldByCurrentThread();
+
+            if (isAcquired(absolute(relPtr))) {
+                discardedPages.add(relPtr);
+            } else {
+                pool.releaseFreePage(relPtr);
+            }
+        }
+
+        /**
+         * Returns the discarded pages that are no longer acquired to the pool. Must be called under the write lock.
+         */
+        private void releaseDiscardedPages() {
+            assert writeLock().isHeldByCurrentThread();
+
+            discardedPages.removeIf(relPtr -> {
+                if (isAcquired(absolute(relPtr))) {
+                    return false;
+                }
+
+                pool.releaseFreePage(relPtr);
+
+                return true;
+            });
+        }
+
         /**
          * Clear dirty pages collection and reset counter.
          */
@@ -1801,6 +2061,53 @@ public class PageMemoryImpl implements PageMemory {
         return true;
     }
 
+    /**
+     * Initializes the write throttling, must be called before the page memory is used for writes.
+     *
+     * @param writeThrottle Write throttle.
+     */
+    public void initThrottling(PagesWriteThrottlePolicy writeThrottle) {
+        this.writeThrottle = writeThrottle;
+    }
+
+    /**
+     * Returns number of dirty pages that will be written by the next checkpoint.
+     */
+    public long dirtyPagesCount() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        long res = 0;
+
+        for (Segment seg : segments) {
+            res += seg.dirtyPagesCntr.get();
+        }
+
+        return res;
+    }
+
+    /**
+     * Returns maximum number of dirty pages, a checkpoint is forced when a segment reaches its part of the limit.
+     */
+    public long maxDirtyPages() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        long res = 0;
+
+        for (Segment seg : segments) {
+            res += seg.maxDirtyPages;
+        }
+
+        return res;
+    }
+
     /**
      * Returns number of pages used in checkpoint buffer.
      */
@@ -2108,6 +2415,12 @@ public class PageMemoryImpl implements PageMemory {
 
         safeToUpdate.set(true);
 
+        PagesWriteThrottlePolicy writeThrottle = this.writeThrottle;
+
+        if (writeThrottle != null) {
+            writeThrottle.onBeginCheckpoint();
+        }
+
         return CollectionUtils.union(collections);
     }
 
@@ -2124,5 +2437,11 @@ public class PageMemoryImpl implements PageMemory {
                 seg.checkpointPages = null;
             }
         }
+
+        PagesWriteThrottlePolicy writeThrottle = this.writeThrottle;
+
+        if (writeThrottle != null) {
+            writeThrottle.onFinishCheckpoint();
+        }
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.pagememory.persistence;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.pagememory.PageIdAllocator;
 import org.apache.ignite.internal.pagememory.persistence.store.PageStore;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -37,6 +38,27 @@ public interface PageReadWriteManager {
      */
     void read(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc) throws IgniteInternalCheckedException;
 
+    /**
+     * Asynchronously reads a page for the given group ID, the {@code pageBuf} must not be accessed until the returned future is completed.
+     *
+     * <p>Default implementation reads synchronously in the calling thread.
+     *
+     * @param grpId Group ID, may be {@code 0} if the page is a meta page.
+     * @param pageId PageID to read.
+     * @param pageBuf Page buffer to write to.
+     * @param keepCrc Keep CRC flag.
+     * @return Future that is completed when the page has been read.
+     */
+    default CompletableFuture<Void> readAsync(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc) {
+        try {
+            read(grpId, pageId, pageBuf, keepCrc);
+
+            return CompletableFuture.completedFuture(null);
+        } catch (IgniteInternalCheckedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Writes the page for the given group ID.
      *
@@ -27,6 +27,8 @@ import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryChec
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointView;
 import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteThrottlePolicy;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.util.worker.IgniteWorkerListener;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -51,6 +53,9 @@ import org.jetbrains.annotations.Nullable;
  * </ul>
  */
 public class CheckpointManager implements IgniteComponent {
+    /** Checkpoint configuration. */
+    private final PageMemoryCheckpointConfiguration checkpointConfig;
+
     /** Checkpoint worker. */
     private final Checkpointer checkpointer;
 
@@ -90,6 +95,8 @@ public class CheckpointManager implements IgniteComponent {
             // TODO: IGNITE-17017 Move to common config
             int pageSize
     ) throws IgniteInternalCheckedException {
+        this.checkpointConfig = checkpointConfig;
+
         PageMemoryCheckpointView checkpointConfigView = checkpointConfig.value();
 
         long logReadLockThresholdTimeout = checkpointConfigView.logReadLockThresholdTimeout();
@@ -190,6 +197,29 @@ public class CheckpointManager implements IgniteComponent {
         return checkpointer.scheduleCheckpoint(0, reason);
     }
 
+    /**
+     * Creates a write throttling policy for the page memory of a persistent data region.
+     *
+     * @param pageMemory Page memory.
+     * @return Write throttling policy, {@code null} if write throttling is disabled.
+     * @see PageMemoryImpl#initThrottling(PagesWriteThrottlePolicy)
+     */
+    public @Nullable PagesWriteThrottlePolicy createWriteThrottle(PageMemoryImpl pageMemory) {
+        PageMemoryCheckpointView checkpointConfigView = checkpointConfig.value();
+
+        if (!checkpointConfigView.writeThrottlingEnabled()) {
+            return null;
+        }
+
+        return new PagesWriteSpeedBasedThrottle(
+                pageMemory,
+                checkpointer::currentProgress,
+                checkpointer::currentMetricsTracker,
+                reason -> checkpointer.scheduleCheckpoint(0, reason),
+                checkpointConfigView.dirtyPagesRatioThreshold() / 100.0
+        );
+    }
+
     /**
      * Returns {@link true} if it is safe for all {@link PageMemoryDataRegion data regions} to update their {@link PageMemory}.
      *
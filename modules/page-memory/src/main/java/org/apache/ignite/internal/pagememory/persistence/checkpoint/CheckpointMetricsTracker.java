@@ -17,10 +17,12 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater;
 import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMillis;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import org.apache.ignite.internal.pagememory.persistence.store.PageStore;
 
 /**
@@ -44,10 +46,20 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COPY_ON_WRITE_PAGES_WRITTEN_UPDATER =
             newUpdater(CheckpointMetricsTracker.class, "copyOnWritePagesWritten");
 
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> WRITE_THROTTLING_COUNT_UPDATER =
+            newUpdater(CheckpointMetricsTracker.class, "writeThrottlingCount");
+
+    private static final AtomicLongFieldUpdater<CheckpointMetricsTracker> WRITE_THROTTLING_NANOS_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "writeThrottlingNanos");
+
     private volatile int dataPagesWritten;
 
     private volatile int copyOnWritePagesWritten;
 
+    private volatile int writeThrottlingCount;
+
+    private volatile long writeThrottlingNanos;
+
     private final long checkpointStartTimestamp = coarseCurrentTimeMillis();
 
     private long checkpointWriteLockWaitStartTimestamp;
@@ -122,6 +134,37 @@ public class CheckpointMetricsTracker {
         return dataPagesWritten;
     }
 
+    /**
+     * Callback on parking of a thread that marks pages dirty faster than the checkpoint writes them.
+     *
+     * <p>Thread safe.
+     *
+     * @param parkNanos Park time in nanos.
+     */
+    public void onWriteThrottled(long parkNanos) {
+        WRITE_THROTTLING_COUNT_UPDATER.incrementAndGet(this);
+
+        WRITE_THROTTLING_NANOS_UPDATER.addAndGet(this, parkNanos);
+    }
+
+    /**
+     * Returns number of times the page-dirtying threads were parked by write throttling.
+     *
+     * <p>Thread safe.
+     */
+    public int writeThrottlingCount() {
+        return writeThrottlingCount;
+    }
+
+    /**
+     * Returns total park time of the page-dirtying threads by write throttling in mills.
+     *
+     * <p>Thread safe.
+     */
+    public long writeThrottlingDuration() {
+        return NANOSECONDS.toMillis(writeThrottlingNanos);
+    }
+
     /**
      * Callback before acquiring checkpoint write lock.
      *
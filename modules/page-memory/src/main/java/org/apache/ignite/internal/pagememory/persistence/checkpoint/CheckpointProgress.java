@@ -49,4 +49,9 @@ public interface CheckpointProgress {
      * Returns number of dirty pages in current checkpoint. If checkpoint is not running, returns {@code 0}.
      */
     int currentCheckpointPagesCount();
+
+    /**
+     * Returns number of pages written by current checkpoint. If checkpoint is not running, returns {@code 0}.
+     */
+    int writtenPagesCount();
 }
@@ -119,6 +119,12 @@ class CheckpointProgressImpl implements CheckpointProgress {
         return currCheckpointPagesCnt;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int writtenPagesCount() {
+        return writtenPagesCntr.get();
+    }
+
     /**
      * Sets current checkpoint pages num to store.
      *
@@ -125,6 +125,10 @@ public class Checkpointer extends IgniteWorker implements IgniteComponent {
     @Nullable
     private volatile CheckpointProgressImpl currentCheckpointProgress;
 
+    /** Metrics tracker of current checkpoint. This field is updated only by checkpoint thread. */
+    @Nullable
+    private volatile CheckpointMetricsTracker currentCheckpointMetricsTracker;
+
     /** Shutdown now. */
     private volatile boolean shutdownNow;
 
@@ -263,6 +267,8 @@ public class Checkpointer extends IgniteWorker implements IgniteComponent {
         try {
             CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
 
+            currentCheckpointMetricsTracker = tracker;
+
             startCheckpointProgress();
 
             try {
@@ -332,11 +338,14 @@ public class Checkpointer extends IgniteWorker implements IgniteComponent {
             if (chp.hasDelta()) {
                 if (log.isInfoEnabled()) {
                     log.info(String.format(
-                            "Checkpoint finished [checkpointId=%s, pages=%d, pagesWriteTime=%dms, fsyncTime=%dms, totalTime=%dms]",
+                            "Checkpoint finished [checkpointId=%s, pages=%d, pagesWriteTime=%dms, fsyncTime=%dms, "
+                                    + "writeThrottlingTime=%dms, writeThrottlingCount=%d, totalTime=%dms]",
                             chp.progress.id(),
                             chp.dirtyPagesSize,
                             tracker.pagesWriteDuration(),
                             tracker.fsyncDuration(),
+                            tracker.writeThrottlingDuration(),
+                            tracker.writeThrottlingCount(),
                             tracker.totalDuration()
                     ));
                 }
@@ -678,6 +687,13 @@ public class Checkpointer extends IgniteWorker implements IgniteComponent {
         return currentCheckpointProgress;
     }
 
+    /**
+     * Returns metrics tracker of current checkpoint, last finished one or {@code null}, if checkpoint has never started.
+     */
+    public @Nullable CheckpointMetricsTracker currentMetricsTracker() {
+        return currentCheckpointMetricsTracker;
+    }
+
     /**
      * Returns progress of scheduled checkpoint.
      */
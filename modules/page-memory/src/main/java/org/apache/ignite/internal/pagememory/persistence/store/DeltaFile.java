@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.store;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.fileio.FileIoFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Delta file of a {@link FilePageStore}, contains the pages of the store written by a single checkpoint.
+ *
+ * <p>Pages are appended to the file in the order they are written, each page occupies a slot of {@link #pageSize} bytes. The file is
+ * completed by a footer with the page indexes in the order of the slots, the number of pages and {@link #SIGNATURE}:
+ * <pre>
+ * [page 0]...[page N-1][page index 0 (4 bytes)]...[page index N-1 (4 bytes)][N (4 bytes)][SIGNATURE (8 bytes)]
+ * </pre>
+ * A file without a valid footer belongs to an unfinished checkpoint.
+ */
+class DeltaFile implements Closeable {
+    /** Delta file signature. */
+    static final long SIGNATURE = 0xDE17AF11E5C8B0A1L;
+
+    /** Size of the footer trailer (number of pages and signature) in bytes. */
+    private static final int TRAILER_SIZE = 4 + 8;
+
+    /** Delta file path. */
+    private final Path filePath;
+
+    /** {@link FileIo} factory. */
+    private final FileIoFactory ioFactory;
+
+    /** Page size in bytes. */
+    private final int pageSize;
+
+    /** Sequence number of the delta file, greater for newer files. */
+    private final long seq;
+
+    /** {@link FileIo} for read/write operations with file. */
+    private volatile FileIo fileIo;
+
+    /** Mapping: page index -> slot, for the pages written before completion. */
+    private final ConcurrentMap<Integer, Integer> writtenSlots = new ConcurrentHashMap<>();
+
+    /** Next free slot. */
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    /** Sorted page indexes of the completed file. */
+    @Nullable
+    private volatile int[] pageIndexes;
+
+    /** Slots of the pages of {@link #pageIndexes}. */
+    @Nullable
+    private volatile int[] slots;
+
+    private DeltaFile(Path filePath, FileIoFactory ioFactory, int pageSize, long seq, FileIo fileIo) {
+        this.filePath = filePath;
+        this.ioFactory = ioFactory;
+        this.pageSize = pageSize;
+        this.seq = seq;
+        this.fileIo = fileIo;
+    }
+
+    /**
+     * Creates a new delta file to write pages into.
+     *
+     * @param filePath Delta file path.
+     * @param ioFactory {@link FileIo} factory.
+     * @param pageSize Page size in bytes.
+     * @param seq Sequence number of the delta file.
+     * @throws IOException If failed.
+     */
+    static DeltaFile create(Path filePath, FileIoFactory ioFactory, int pageSize, long seq) throws IOException {
+        return new DeltaFile(filePath, ioFactory, pageSize, seq, ioFactory.create(filePath, CREATE_NEW, READ, WRITE));
+    }
+
+    /**
+     * Opens a completed delta file.
+     *
+     * @param filePath Delta file path.
+     * @param ioFactory {@link FileIo} factory.
+     * @param pageSize Page size in bytes.
+     * @param seq Sequence number of the delta file.
+     * @return Delta file, {@code null} if the file has not been completed.
+     * @throws IOException If failed.
+     */
+    static @Nullable DeltaFile open(Path filePath, FileIoFactory ioFactory, int pageSize, long seq) throws IOException {
+        FileIo fileIo = ioFactory.create(filePath, READ, WRITE);
+
+        try {
+            long size = fileIo.size();
+
+            if (size < TRAILER_SIZE) {
+                fileIo.close();
+
+                return null;
+            }
+
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE).order(nativeOrder());
+
+            fileIo.readFully(trailer, size - TRAILER_SIZE);
+
+            trailer.rewind();
+
+            int pages = trailer.getInt();
+            long signature = trailer.getLong();
+
+            if (signature != SIGNATURE || pages < 0 || size != (long) pages * (pageSize + 4) + TRAILER_SIZE) {
+                fileIo.close();
+
+                return null;
+            }
+
+            ByteBuffer idxBuf = ByteBuffer.allocate(pages * 4).order(nativeOrder());
+
+            fileIo.readFully(idxBuf, (long) pages * pageSize);
+
+            idxBuf.rewind();
+
+            int[] pageIndexesInSlotOrder = new int[pages];
+
+            idxBuf.asIntBuffer().get(pageIndexesInSlotOrder);
+
+            DeltaFile deltaFile = new DeltaFile(filePath, ioFactory, pageSize, seq, fileIo);
+
+            deltaFile.initIndex(pageIndexesInSlotOrder);
+
+            return deltaFile;
+        } catch (IOException e) {
+            fileIo.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the page into the next free slot, or into the slot of the page if it has already been written.
+     *
+     * <p>Pages must be written before {@link #complete()}.
+     *
+     * @param pageIdx Page index.
+     * @param pageBuf Page buffer.
+     * @throws IOException If failed.
+     */
+    void write(int pageIdx, ByteBuffer pageBuf) throws IOException {
+        assert !completed() : filePath;
+
+        Integer slot = writtenSlots.get(pageIdx);
+
+        if (slot == null) {
+            slot = nextSlot.getAndIncrement();
+        }
+
+        fileIo.writeFully(pageBuf, (long) slot * pageSize);
+
+        // The page becomes visible for reads only after it has been written.
+        writtenSlots.put(pageIdx, slot);
+    }
+
+    /**
+     * Reads the page if it is present in the file.
+     *
+     * @param pageIdx Page index.
+     * @param pageBuf Page buffer to read into.
+     * @return {@code True} if the page has been read, {@code false} if the file does not contain the page.
+     * @throws IOException If failed.
+     */
+    boolean read(int pageIdx, ByteBuffer pageBuf) throws IOException {
+        int slot = slot(pageIdx);
+
+        if (slot < 0) {
+            return false;
+        }
+
+        readSlot(slot, pageBuf);
+
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the file contains the page.
+     *
+     * @param pageIdx Page index.
+     */
+    boolean contains(int pageIdx) {
+        return slot(pageIdx) >= 0;
+    }
+
+    /**
+     * Completes the file: writes the footer and syncs the file.
+     *
+     * @throws IOException If failed.
+     */
+    void complete() throws IOException {
+        assert !completed() : filePath;
+
+        int pages = nextSlot.get();
+
+        assert pages == writtenSlots.size() : "Pages are being written during completion: " + filePath;
+
+        int[] pageIndexesInSlotOrder = new int[pages];
+
+        writtenSlots.forEach((pageIdx, slot) -> pageIndexesInSlotOrder[slot] = pageIdx);
+
+        ByteBuffer footer = ByteBuffer.allocate(pages * 4 + TRAILER_SIZE).order(nativeOrder());
+
+        footer.asIntBuffer().put(pageIndexesInSlotOrder);
+
+        footer.position(pages * 4);
+
+        footer.putInt(pages).putLong(SIGNATURE).rewind();
+
+        fileIo.writeFully(footer, (long) pages * pageSize);
+
+        fileIo.force();
+
+        initIndex(pageIndexesInSlotOrder);
+
+        writtenSlots.clear();
+    }
+
+    /**
+     * Returns {@code true} if the file has been completed.
+     */
+    boolean completed() {
+        return pageIndexes != null;
+    }
+
+    /**
+     * Returns page indexes of the completed file in ascending order.
+     */
+    int[] pageIndexes() {
+        assert completed() : filePath;
+
+        return pageIndexes;
+    }
+
+    /**
+     * Returns maximum page index in the file, {@code -1} if the file is empty.
+     */
+    int maxPageIndex() {
+        int[] pageIndexes = this.pageIndexes;
+
+        if (pageIndexes != null) {
+            return pageIndexes.length == 0 ? -1 : pageIndexes[pageIndexes.length - 1];
+        }
+
+        return writtenSlots.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+    }
+
+    /**
+     * Returns sequence number of the delta file, greater for newer files.
+     */
+    long sequence() {
+        return seq;
+    }
+
+    /**
+     * Returns delta file path.
+     */
+    Path filePath() {
+        return filePath;
+    }
+
+    /**
+     * Closes and deletes the file.
+     *
+     * @throws IOException If failed.
+     */
+    void delete() throws IOException {
+        close();
+
+        Files.deleteIfExists(filePath);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        fileIo.close();
+    }
+
+    private int slot(int pageIdx) {
+        int[] pageIndexes = this.pageIndexes;
+
+        if (pageIndexes == null) {
+            Integer slot = writtenSlots.get(pageIdx);
+
+            // The file could have been completed concurrently.
+            if (slot != null || (pageIndexes = this.pageIndexes) == null) {
+                return slot == null ? -1 : slot;
+            }
+        }
+
+        int pos = Arrays.binarySearch(pageIndexes, pageIdx);
+
+        return pos < 0 ? -1 : slots[pos];
+    }
+
+    private void initIndex(int[] pageIndexesInSlotOrder) {
+        int pages = pageIndexesInSlotOrder.length;
+
+        long[] packed = new long[pages];
+
+        for (int slot = 0; slot < pages; slot++) {
+            packed[slot] = ((long) pageIndexesInSlotOrder[slot] << 32) | slot;
+        }
+
+        Arrays.sort(packed);
+
+        int[] pageIndexes = new int[pages];
+        int[] slots = new int[pages];
+
+        for (int i = 0; i < pages; i++) {
+            pageIndexes[i] = (int) (packed[i] >>> 32);
+            slots[i] = (int) packed[i];
+        }
+
+        this.slots = slots;
+
+        // Published last, see slot().
+        this.pageIndexes = pageIndexes;
+    }
+
+    /**
+     * Reads the page of the slot with failover on the channel closed by an interruption.
+     */
+    private void readSlot(int slot, ByteBuffer pageBuf) throws IOException {
+        boolean interrupted = false;
+
+        int bufPos = pageBuf.position();
+
+        while (true) {
+            FileIo fileIo = this.fileIo;
+
+            try {
+                fileIo.readFully(pageBuf, (long) slot * pageSize);
+
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return;
+            } catch (ClosedChannelException e) {
+                pageBuf.position(bufPos);
+
+                if (!(e instanceof ClosedByInterruptException)) {
+                    throw e;
+                }
+
+                interrupted = true;
+
+                Thread.interrupted();
+
+                synchronized (this) {
+                    if (fileIo == this.fileIo) {
+                        this.fileIo = ioFactory.create(filePath, READ, WRITE);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -18,9 +18,15 @@
 package org.apache.ignite.internal.pagememory.persistence.store;
 
 import static java.nio.ByteOrder.nativeOrder;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager.FILE_SUFFIX;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
 import static org.apache.ignite.internal.util.IgniteUtils.hexInt;
 import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
 import static org.apache.ignite.internal.util.IgniteUtils.toHexString;
@@ -30,10 +36,17 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -44,6 +57,8 @@ import org.apache.ignite.internal.pagememory.persistence.FastCrc;
 import org.apache.ignite.internal.pagememory.persistence.IgniteInternalDataIntegrityViolationException;
 import org.apache.ignite.internal.pagememory.util.PageIdUtils;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.lang.IgniteLogger;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * FilePageStore is a {@link PageStore} implementation that uses regular files to store pages.
@@ -59,6 +74,10 @@ import org.apache.ignite.lang.IgniteInternalCheckedException;
  *     {@link #pageSize pageSize} (4 bytes) + version-specific information, total length {@link #headerSize}. </li>
  *     <li>Body - data pages are multiples of {@link #pageSize pageSize}.</li>
  * </ul>
+ *
+ * <p>If delta files are enabled, written pages are appended to the current {@link DeltaFile delta file} instead of the file itself, the
+ * delta file is completed by {@link #sync()} and then merged into the file in the background. Pages are read from the newest delta file
+ * that contains them, and from the file otherwise.
  */
 public class FilePageStore implements PageStore {
     /** Page store file signature. */
@@ -70,6 +89,12 @@ public class FilePageStore implements PageStore {
     /** Size of the common file page store header for all versions, in bytes. */
     static final int COMMON_HEADER_SIZE = 8/*SIGNATURE*/ + 4/*VERSION*/ + 1/*type*/ + 4/*page size*/;
 
+    /** Logger. */
+    private static final IgniteLogger LOG = IgniteLogger.forClass(FilePageStore.class);
+
+    /** Infix of the delta file names: 'part-1-delta-3.bin'. */
+    static final String DELTA_FILE_INFIX = "-delta-";
+
     /** Skip CRC calculation flag. */
     // TODO: IGNITE-17011 Move to config
     private final boolean skipCrc = getBoolean("IGNITE_PDS_SKIP_CRC");
@@ -103,6 +128,23 @@ public class FilePageStore implements PageStore {
     /** Initialized file page store. */
     private volatile boolean initialized;
 
+    /** Executor to merge the delta files into the file in, {@code null} if the delta files are disabled. */
+    @Nullable
+    private final Executor deltaFilesMergeExecutor;
+
+    /** Delta file the pages are written into, {@code null} if there is no pages written since the last {@link #sync()}. */
+    @Nullable
+    private volatile DeltaFile currentDeltaFile;
+
+    /** Completed delta files that have not been merged yet, the oldest first. Changed under the write lock. */
+    private volatile List<DeltaFile> completedDeltaFiles = List.of();
+
+    /** Sequence number of the last delta file. */
+    private final AtomicLong deltaFileSeq = new AtomicLong();
+
+    /** Guards the merging of delta files. */
+    private final Object mergeMux = new Object();
+
     /**
      * Constructor.
      *
@@ -116,6 +158,25 @@ public class FilePageStore implements PageStore {
             Path filePath,
             FileIoFactory ioFactory,
             int pageSize
+    ) {
+        this(type, filePath, ioFactory, pageSize, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param type Data type, can be {@link PageStore#TYPE_IDX} or {@link PageStore#TYPE_DATA}.
+     * @param filePath File page store path.
+     * @param ioFactory {@link FileIo} factory.
+     * @param pageSize Page size in bytes.
+     * @param deltaFilesMergeExecutor Executor to merge the delta files into the file in, {@code null} to disable the delta files.
+     */
+    public FilePageStore(
+            byte type,
+            Path filePath,
+            FileIoFactory ioFactory,
+            int pageSize,
+            @Nullable Executor deltaFilesMergeExecutor
     ) {
         assert type == PageStore.TYPE_DATA || type == PageStore.TYPE_IDX : type;
 
@@ -123,6 +184,7 @@ public class FilePageStore implements PageStore {
         this.filePath = filePath;
         this.ioFactory = ioFactory;
         this.pageSize = pageSize;
+        this.deltaFilesMergeExecutor = deltaFilesMergeExecutor;
     }
 
     /** {@inheritDoc} */
@@ -197,43 +259,121 @@ public class FilePageStore implements PageStore {
             assert off <= allocatedBytes.get() : "calculatedOffset=" + off
                     + ", allocated=" + allocatedBytes.get() + ", headerSize=" + headerSize() + ", filePath=" + filePath;
 
-            int n = readWithFailover(pageBuf, off);
+            int n = hasDeltaFiles() && readFromDeltaFiles(pageIndex(pageId), pageBuf) ? pageSize : readWithFailover(pageBuf, off);
 
-            // If page was not written yet, nothing to read.
-            if (n < 0) {
-                pageBuf.put(new byte[pageBuf.remaining()]);
+            return onPageRead(pageId, pageBuf, n, off, checkCrc, keepCrc);
+        } catch (IOException e) {
+            throw new IgniteInternalCheckedException("Failed to read page [file=" + filePath + ", pageId=" + pageId + "]", e);
+        }
+    }
 
-                return false;
-            }
+    /**
+     * Asynchronously reads a page from the page store, the {@code pageBuf} must not be accessed until the returned future is completed.
+     *
+     * <p>The page is read synchronously if it may be contained in the delta files, or if the file has been closed concurrently.
+     *
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer to read into.
+     * @param keepCrc By default reading zeroes CRC which was on file, but you can keep it in pageBuf if set keepCrc.
+     * @return Future with {@code true} if page has been read successfully, {@code false} if page hasn't been written yet.
+     */
+    public CompletableFuture<Boolean> readAsync(long pageId, ByteBuffer pageBuf, boolean keepCrc) {
+        FileIo fileIo;
+
+        try {
+            init();
 
-            int savedCrc32 = PageIo.getCrc(pageBuf);
+            fileIo = this.fileIo;
 
-            PageIo.setCrc(pageBuf, 0);
+            if (fileIo == null || hasDeltaFiles()) {
+                return completedFuture(read(pageId, pageBuf, keepCrc));
+            }
+        } catch (IgniteInternalCheckedException e) {
+            return failedFuture(e);
+        }
 
-            pageBuf.position(0);
+        long off = pageOffset(pageId);
+
+        assert pageBuf.capacity() == pageSize;
+        assert pageBuf.remaining() == pageSize;
+        assert pageBuf.position() == 0;
+        assert pageBuf.order() == nativeOrder();
+        assert off <= allocatedBytes.get() : "calculatedOffset=" + off
+                + ", allocated=" + allocatedBytes.get() + ", headerSize=" + headerSize() + ", filePath=" + filePath;
 
-            if (checkCrc) {
-                int curCrc32 = FastCrc.calcCrc(pageBuf, pageSize);
+        CompletableFuture<Boolean> res = new CompletableFuture<>();
 
-                if ((savedCrc32 ^ curCrc32) != 0) {
-                    throw new IgniteInternalDataIntegrityViolationException("Failed to read page (CRC validation failed) "
-                            + "[id=" + hexLong(pageId) + ", off=" + (off - pageSize)
-                            + ", filePath=" + filePath + ", fileSize=" + fileIo.size()
-                            + ", savedCrc=" + hexInt(savedCrc32) + ", curCrc=" + hexInt(curCrc32)
-                            + ", page=" + toHexString(pageBuf) + "]");
+        fileIo.readFullyAsync(pageBuf, off).whenComplete((n, e) -> {
+            try {
+                if (e == null) {
+                    res.complete(onPageRead(pageId, pageBuf, n, off, !skipCrc, keepCrc));
+                } else if (e instanceof ClosedChannelException) {
+                    pageBuf.clear();
+
+                    // Reopens the file if it has been closed by an interrupted reader.
+                    res.complete(read(pageId, pageBuf, keepCrc));
+                } else {
+                    res.completeExceptionally(
+                            new IgniteInternalCheckedException("Failed to read page [file=" + filePath + ", pageId=" + pageId + "]", e)
+                    );
                 }
+            } catch (IOException ex) {
+                res.completeExceptionally(
+                        new IgniteInternalCheckedException("Failed to read page [file=" + filePath + ", pageId=" + pageId + "]", ex)
+                );
+            } catch (Throwable t) {
+                res.completeExceptionally(t);
             }
+        });
+
+        return res;
+    }
+
+    /**
+     * Checks and prepares the page that has been read into the buffer.
+     *
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer.
+     * @param n Number of bytes read, negative if page hasn't been written yet.
+     * @param off Page offset in the file.
+     * @param checkCrc Check CRC on page.
+     * @param keepCrc Keep CRC in the page buffer.
+     * @return {@code true} if page has been read successfully, {@code false} if page hasn't been written yet.
+     * @throws IOException If failed.
+     */
+    private boolean onPageRead(long pageId, ByteBuffer pageBuf, int n, long off, boolean checkCrc, boolean keepCrc) throws IOException {
+        // If page was not written yet, nothing to read.
+        if (n < 0) {
+            pageBuf.put(new byte[pageBuf.remaining()]);
+
+            return false;
+        }
+
+        int savedCrc32 = PageIo.getCrc(pageBuf);
 
-            assert PageIo.getCrc(pageBuf) == 0;
+        PageIo.setCrc(pageBuf, 0);
 
-            if (keepCrc) {
-                PageIo.setCrc(pageBuf, savedCrc32);
+        pageBuf.position(0);
+
+        if (checkCrc) {
+            int curCrc32 = FastCrc.calcCrc(pageBuf, pageSize);
+
+            if ((savedCrc32 ^ curCrc32) != 0) {
+                throw new IgniteInternalDataIntegrityViolationException("Failed to read page (CRC validation failed) "
+                        + "[id=" + hexLong(pageId) + ", off=" + (off - pageSize)
+                        + ", filePath=" + filePath + ", fileSize=" + fileIo.size()
+                        + ", savedCrc=" + hexInt(savedCrc32) + ", curCrc=" + hexInt(curCrc32)
+                        + ", page=" + toHexString(pageBuf) + "]");
             }
+        }
 
-            return true;
-        } catch (IOException e) {
-            throw new IgniteInternalCheckedException("Failed to read page [file=" + filePath + ", pageId=" + pageId + "]", e);
+        assert PageIo.getCrc(pageBuf) == 0;
+
+        if (keepCrc) {
+            PageIo.setCrc(pageBuf, savedCrc32);
         }
+
+        return true;
     }
 
     /** {@inheritDoc} */
@@ -279,7 +419,11 @@ public class FilePageStore implements PageStore {
                         pageBuf.rewind();
                     }
 
-                    fileIo.writeFully(pageBuf, off);
+                    if (deltaFilesEnabled()) {
+                        writeToDeltaFile(pageId, pageBuf);
+                    } else {
+                        fileIo.writeFully(pageBuf, off);
+                    }
 
                     PageIo.setCrc(pageBuf, 0);
 
@@ -322,22 +466,128 @@ public class FilePageStore implements PageStore {
         }
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If delta files are enabled, completes the current delta file and schedules its merge into the file.
+     */
     @Override
     public void sync() throws IgniteInternalCheckedException {
+        boolean deltaFileCompleted = false;
+
         readWriteLock.writeLock().lock();
 
         try {
             init();
 
-            FileIo fileIo = this.fileIo;
+            DeltaFile deltaFile = currentDeltaFile;
+
+            if (deltaFile != null) {
+                deltaFile.complete();
+
+                List<DeltaFile> completed = new ArrayList<>(completedDeltaFiles);
+
+                completed.add(deltaFile);
 
+                completedDeltaFiles = List.copyOf(completed);
+
+                currentDeltaFile = null;
+
+                deltaFileCompleted = true;
+            } else {
+                FileIo fileIo = this.fileIo;
+
+                if (fileIo != null) {
+                    fileIo.force();
+                }
+            }
+        } catch (IOException e) {
+            throw new IgniteInternalCheckedException("Failed to fsync partition file [filePath=" + filePath + ']', e);
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+
+        if (deltaFileCompleted) {
+            scheduleDeltaFilesMerge();
+        }
+    }
+
+    /**
+     * Merges the completed delta files into the file, the oldest ones first, and deletes them.
+     *
+     * <p>Delta files left by the previous run are merged on initialization even if the delta files are disabled.
+     *
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void mergeDeltaFiles() throws IgniteInternalCheckedException {
+        synchronized (mergeMux) {
+            List<DeltaFile> completed;
+
+            while (!(completed = completedDeltaFiles).isEmpty()) {
+                if (!mergeDeltaFile(completed.get(0))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns number of delta files that have not been merged yet, including the one being written.
+     */
+    public int deltaFilesCount() {
+        return completedDeltaFiles.size() + (currentDeltaFile == null ? 0 : 1);
+    }
+
+    /**
+     * Replaces the file with the file of another page store: the other page store is stopped and its file is atomically moved over the
+     * file of this page store, which is reinitialized from the new file on the next access. The write listeners are kept.
+     *
+     * <p>The delta files of both page stores are merged before the move. The pages of both page stores must not be read or written
+     * concurrently, and the pages of this page store that are cached elsewhere must be invalidated by the caller.
+     *
+     * @param src Page store whose file replaces the file of this page store.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void replaceFile(FilePageStore src) throws IgniteInternalCheckedException {
+        assert src.type == type && src.pageSize == pageSize : src.filePath;
+
+        src.mergeDeltaFiles();
+        mergeDeltaFiles();
+
+        if (src.deltaFilesCount() > 0 || deltaFilesCount() > 0) {
+            throw new IgniteInternalCheckedException(String.format(
+                    "Failed to replace partition file, not all delta files have been merged [filePath=%s, srcFilePath=%s]",
+                    filePath,
+                    src.filePath
+            ));
+        }
+
+        src.stop(false);
+
+        readWriteLock.writeLock().lock();
+
+        try {
             if (fileIo != null) {
                 fileIo.force();
+
+                fileIo.close();
+
+                fileIo = null;
             }
+
+            Files.move(src.filePath, filePath, REPLACE_EXISTING, ATOMIC_MOVE);
+
+            fileExists = null;
         } catch (IOException e) {
-            throw new IgniteInternalCheckedException("Failed to fsync partition file [filePath=" + filePath + ']', e);
+            throw new IgniteInternalCheckedException(
+                    "Failed to replace partition file [filePath=" + filePath + ", srcFilePath=" + src.filePath + ']',
+                    e
+            );
         } finally {
+            allocatedBytes.set(0);
+
+            initialized = false;
+
             readWriteLock.writeLock().unlock();
         }
     }
@@ -435,6 +685,12 @@ public class FilePageStore implements PageStore {
         readWriteLock.writeLock().lock();
 
         try {
+            closeDeltaFiles();
+
+            if (delete) {
+                deleteDeltaFiles();
+            }
+
             if (!initialized) {
                 // Ensure the file is closed even if not initialized yet.
                 if (fileIo != null) {
@@ -460,6 +716,9 @@ public class FilePageStore implements PageStore {
                 fileExists = false;
             }
         } finally {
+            // The page store can be initialized again, from the file left on the disk or from scratch.
+            allocatedBytes.set(0);
+
             initialized = false;
 
             readWriteLock.writeLock().unlock();
@@ -508,6 +767,9 @@ public class FilePageStore implements PageStore {
 
                         assert allocatedBytes.get() == 0;
 
+                        // Delta files are loaded even if they are disabled, to merge the ones left by the previous run.
+                        newSize = Math.max(newSize, loadDeltaFiles());
+
                         allocatedBytes.set(newSize);
 
                         initialized = true;
@@ -528,6 +790,14 @@ public class FilePageStore implements PageStore {
             } finally {
                 readWriteLock.writeLock().unlock();
             }
+
+            if (!completedDeltaFiles.isEmpty()) {
+                if (deltaFilesEnabled()) {
+                    scheduleDeltaFilesMerge();
+                } else {
+                    mergeDeltaFiles();
+                }
+            }
         }
     }
 
@@ -767,6 +1037,278 @@ public class FilePageStore implements PageStore {
         }
     }
 
+    private boolean deltaFilesEnabled() {
+        return deltaFilesMergeExecutor != null;
+    }
+
+    private boolean hasDeltaFiles() {
+        return currentDeltaFile != null || !completedDeltaFiles.isEmpty();
+    }
+
+    /**
+     * Reads the page from the newest delta file that contains it, must be called after {@link #init()}.
+     *
+     * @return {@code True} if the page has been read, {@code false} if the delta files do not contain the page.
+     */
+    private boolean readFromDeltaFiles(int pageIdx, ByteBuffer pageBuf) throws IOException {
+        readWriteLock.readLock().lock();
+
+        try {
+            DeltaFile deltaFile = currentDeltaFile;
+
+            if (deltaFile != null && deltaFile.read(pageIdx, pageBuf)) {
+                return true;
+            }
+
+            List<DeltaFile> completed = completedDeltaFiles;
+
+            for (int i = completed.size() - 1; i >= 0; i--) {
+                if (completed.get(i).read(pageIdx, pageBuf)) {
+                    return true;
+                }
+            }
+
+            return false;
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends the page to the current delta file, creating it if necessary, must be called under the read lock.
+     */
+    private void writeToDeltaFile(long pageId, ByteBuffer pageBuf) throws IgniteInternalCheckedException {
+        try {
+            DeltaFile deltaFile = currentDeltaFile;
+
+            if (deltaFile == null) {
+                synchronized (this) {
+                    deltaFile = currentDeltaFile;
+
+                    if (deltaFile == null) {
+                        long seq = deltaFileSeq.incrementAndGet();
+
+                        currentDeltaFile = deltaFile = DeltaFile.create(deltaFilePath(seq), ioFactory, pageSize, seq);
+                    }
+                }
+            }
+
+            deltaFile.write(pageIndex(pageId), pageBuf);
+        } catch (IOException e) {
+            throw new IgniteInternalCheckedException(
+                    "Failed to write page to delta file [filePath=" + filePath + ", pageId=" + hexLong(pageId) + "]",
+                    e
+            );
+        }
+    }
+
+    /**
+     * Copies the pages of the oldest completed delta file into the file, syncs the file and deletes the delta file.
+     *
+     * @return {@code False} if the page store has been stopped.
+     */
+    private boolean mergeDeltaFile(DeltaFile deltaFile) throws IgniteInternalCheckedException {
+        ByteBuffer pageBuf = ByteBuffer.allocateDirect(pageSize).order(nativeOrder());
+
+        try {
+            // Pages are copied in the order of their indexes, so the file is written sequentially.
+            for (int pageIdx : deltaFile.pageIndexes()) {
+                readWriteLock.readLock().lock();
+
+                try {
+                    if (!initialized) {
+                        return false;
+                    }
+
+                    pageBuf.clear();
+
+                    boolean read = deltaFile.read(pageIdx, pageBuf);
+
+                    assert read : "pageIdx=" + pageIdx + ", deltaFilePath=" + deltaFile.filePath();
+
+                    pageBuf.rewind();
+
+                    fileIo.writeFully(pageBuf, (long) pageIdx * pageSize + headerSize());
+                } finally {
+                    readWriteLock.readLock().unlock();
+                }
+            }
+
+            readWriteLock.readLock().lock();
+
+            try {
+                if (!initialized) {
+                    return false;
+                }
+
+                fileIo.force();
+            } finally {
+                readWriteLock.readLock().unlock();
+            }
+
+            readWriteLock.writeLock().lock();
+
+            try {
+                if (!initialized) {
+                    return false;
+                }
+
+                assert completedDeltaFiles.get(0) == deltaFile : deltaFile.filePath();
+
+                completedDeltaFiles = List.copyOf(completedDeltaFiles.subList(1, completedDeltaFiles.size()));
+
+                deltaFile.delete();
+            } finally {
+                readWriteLock.writeLock().unlock();
+            }
+
+            return true;
+        } catch (IOException e) {
+            throw new IgniteInternalCheckedException(
+                    "Failed to merge delta file [filePath=" + filePath + ", deltaFilePath=" + deltaFile.filePath() + "]",
+                    e
+            );
+        }
+    }
+
+    private void scheduleDeltaFilesMerge() {
+        assert deltaFilesMergeExecutor != null : filePath;
+
+        try {
+            deltaFilesMergeExecutor.execute(() -> {
+                try {
+                    mergeDeltaFiles();
+                } catch (Throwable t) {
+                    // The delta files are merged on the next attempt or after the restart.
+                    LOG.error("Failed to merge delta files [filePath=" + filePath + "]", t);
+                }
+            });
+        } catch (RejectedExecutionException ignore) {
+            // The node is stopping, the delta files are merged after the restart.
+        }
+    }
+
+    /**
+     * Opens the completed delta files and deletes the rest of them, must be called under the write lock.
+     *
+     * @return Number of bytes needed to hold all the pages of the delta files in the file.
+     */
+    private long loadDeltaFiles() throws IOException {
+        TreeMap<Long, Path> deltaFilePaths = new TreeMap<>();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(filePath.toAbsolutePath().getParent(), deltaFileGlob())) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+
+                String seq = name.substring(deltaFilePrefix().length(), name.length() - FILE_SUFFIX.length());
+
+                deltaFilePaths.put(Long.parseLong(seq), file);
+            }
+        }
+
+        List<DeltaFile> completed = new ArrayList<>();
+
+        long size = 0;
+
+        try {
+            for (Map.Entry<Long, Path> e : deltaFilePaths.entrySet()) {
+                DeltaFile deltaFile = DeltaFile.open(e.getValue(), ioFactory, pageSize, e.getKey());
+
+                if (deltaFile == null) {
+                    // Belongs to a checkpoint that has not been finished.
+                    Files.delete(e.getValue());
+                } else {
+                    completed.add(deltaFile);
+
+                    size = Math.max(size, (deltaFile.maxPageIndex() + 1L) * pageSize);
+                }
+
+                deltaFileSeq.set(e.getKey());
+            }
+        } catch (IOException e) {
+            for (DeltaFile deltaFile : completed) {
+                try {
+                    deltaFile.close();
+                } catch (IOException e0) {
+                    e.addSuppressed(e0);
+                }
+            }
+
+            throw e;
+        }
+
+        completedDeltaFiles = List.copyOf(completed);
+
+        return size;
+    }
+
+    /**
+     * Closes the delta files, must be called under the write lock.
+     */
+    private void closeDeltaFiles() throws IOException {
+        List<DeltaFile> deltaFiles = new ArrayList<>(completedDeltaFiles);
+
+        if (currentDeltaFile != null) {
+            deltaFiles.add(currentDeltaFile);
+        }
+
+        completedDeltaFiles = List.of();
+        currentDeltaFile = null;
+
+        IOException err = null;
+
+        for (DeltaFile deltaFile : deltaFiles) {
+            try {
+                deltaFile.close();
+            } catch (IOException e) {
+                if (err == null) {
+                    err = e;
+                } else {
+                    err.addSuppressed(e);
+                }
+            }
+        }
+
+        if (err != null) {
+            throw err;
+        }
+    }
+
+    /**
+     * Deletes all delta files of the page store from the disk, must be called under the write lock.
+     */
+    private void deleteDeltaFiles() throws IOException {
+        Path dir = filePath.toAbsolutePath().getParent();
+
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, deltaFileGlob())) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private Path deltaFilePath(long seq) {
+        return filePath.resolveSibling(deltaFilePrefix() + seq + FILE_SUFFIX);
+    }
+
+    private String deltaFileGlob() {
+        return deltaFilePrefix() + "[0-9]*" + FILE_SUFFIX;
+    }
+
+    private String deltaFilePrefix() {
+        String fileName = filePath.getFileName().toString();
+
+        if (fileName.endsWith(FILE_SUFFIX)) {
+            fileName = fileName.substring(0, fileName.length() - FILE_SUFFIX.length());
+        }
+
+        return fileName + DELTA_FILE_INFIX;
+    }
+
     /**
      * Returns data type, can be {@link PageStore#TYPE_IDX} or {@link PageStore#TYPE_DATA}.
      */
@@ -777,7 +1319,7 @@ public class FilePageStore implements PageStore {
     /**
      * Returns file page store path.
      */
-    Path filePath() {
+    public Path filePath() {
         return filePath;
     }
 }
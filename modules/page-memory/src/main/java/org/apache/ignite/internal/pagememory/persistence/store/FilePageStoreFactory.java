@@ -22,9 +22,11 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Checks version in files if it's present on the disk, creates store with the latest version otherwise.
@@ -39,18 +41,25 @@ class FilePageStoreFactory {
     /** Page size in bytes. */
     private final int pageSize;
 
+    /** Executor to merge the delta files in, {@code null} if the delta files are disabled. */
+    @Nullable
+    private final Executor deltaFilesMergeExecutor;
+
     /**
      * Constructor.
      *
      * @param fileIoFactory File IO factory.
      * @param pageSize Page size in bytes.
+     * @param deltaFilesMergeExecutor Executor to merge the delta files in, {@code null} to disable the delta files.
      */
     public FilePageStoreFactory(
             FileIoFactory fileIoFactory,
-            int pageSize
+            int pageSize,
+            @Nullable Executor deltaFilesMergeExecutor
     ) {
         this.fileIoFactory = fileIoFactory;
         this.pageSize = pageSize;
+        this.deltaFilesMergeExecutor = deltaFilesMergeExecutor;
     }
 
     /**
@@ -106,7 +115,7 @@ class FilePageStoreFactory {
     ) throws IgniteInternalCheckedException {
         switch (ver) {
             case FilePageStore.VERSION:
-                return new FilePageStore(type, filePath, fileIoFactory, pageSize);
+                return new FilePageStore(type, filePath, fileIoFactory, pageSize, deltaFilesMergeExecutor);
 
             default:
                 throw new IgniteInternalCheckedException(String.format(
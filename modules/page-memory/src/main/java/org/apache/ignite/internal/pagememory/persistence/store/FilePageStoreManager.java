@@ -18,12 +18,15 @@
 package org.apache.ignite.internal.pagememory.persistence.store;
 
 import static java.nio.file.Files.createDirectories;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.INDEX_PARTITION;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.MAX_PARTITION_ID;
 import static org.apache.ignite.internal.pagememory.persistence.store.PageStore.TYPE_DATA;
 import static org.apache.ignite.internal.pagememory.persistence.store.PageStore.TYPE_IDX;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
+import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -33,11 +36,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.manager.IgniteComponent;
 import org.apache.ignite.internal.pagememory.PageIdAllocator;
 import org.apache.ignite.internal.pagememory.persistence.PageReadWriteManager;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.util.IgniteStripedLock;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.IgniteLogger;
@@ -88,6 +95,10 @@ public class FilePageStoreManager implements IgniteComponent, PageReadWriteManag
     /** Mapping: group ID -> {@link GroupPageStoreHolder}. */
     private final GroupPageStoreHolderMap<FilePageStore> groupPageStoreHolders;
 
+    /** Executor to merge the delta files of the file page stores in, {@code null} if the delta files are disabled. */
+    @Nullable
+    private final ThreadPoolExecutor deltaFilesMergeExecutor;
+
     /** Group directory initialization lock. */
     private final IgniteStripedLock initGroupDirLock = new IgniteStripedLock(Math.max(Runtime.getRuntime().availableProcessors(), 8));
 
@@ -108,6 +119,29 @@ public class FilePageStoreManager implements IgniteComponent, PageReadWriteManag
             FileIoFactory filePageStoreFileIoFactory,
             // TODO: IGNITE-17017 Move to common config
             int pageSize
+    ) throws IgniteInternalCheckedException {
+        this(log, igniteInstanceName, storagePath, filePageStoreFileIoFactory, pageSize, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param log Logger.
+     * @param igniteInstanceName Name of the Ignite instance.
+     * @param storagePath Storage path.
+     * @param filePageStoreFileIoFactory {@link FileIo} factory for file page store.
+     * @param pageSize Page size in bytes.
+     * @param useDeltaFiles Write the pages into delta files that are merged into the file page stores in the background.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public FilePageStoreManager(
+            IgniteLogger log,
+            String igniteInstanceName,
+            Path storagePath,
+            FileIoFactory filePageStoreFileIoFactory,
+            // TODO: IGNITE-17017 Move to common config
+            int pageSize,
+            boolean useDeltaFiles
     ) throws IgniteInternalCheckedException {
         this.log = log;
         this.filePageStoreFileIoFactory = filePageStoreFileIoFactory;
@@ -123,6 +157,21 @@ public class FilePageStoreManager implements IgniteComponent, PageReadWriteManag
         cleanupAsyncExecutor = new LongOperationAsyncExecutor(igniteInstanceName, log);
 
         groupPageStoreHolders = new GroupPageStoreHolderMap<>(cleanupAsyncExecutor);
+
+        if (useDeltaFiles) {
+            deltaFilesMergeExecutor = new ThreadPoolExecutor(
+                    1,
+                    1,
+                    30_000,
+                    MILLISECONDS,
+                    new LinkedBlockingQueue<>(),
+                    new NamedThreadFactory(NamedThreadFactory.threadPrefix(igniteInstanceName, "delta-files-merger"))
+            );
+
+            deltaFilesMergeExecutor.allowCoreThreadTimeOut(true);
+        } else {
+            deltaFilesMergeExecutor = null;
+        }
     }
 
     /** {@inheritDoc} */
@@ -145,6 +194,11 @@ public class FilePageStoreManager implements IgniteComponent, PageReadWriteManag
         stopAllGroupFilePageStores(false);
 
         cleanupAsyncExecutor.awaitAsyncTaskCompletion(false);
+
+        // Merges are interrupted by the stopped page stores and continued after the restart.
+        if (deltaFilesMergeExecutor != null) {
+            shutdownAndAwaitTermination(deltaFilesMergeExecutor, 2, MINUTES);
+        }
     }
 
     /** {@inheritDoc} */
@@ -153,6 +207,12 @@ public class FilePageStoreManager implements IgniteComponent, PageReadWriteManag
         pageReadWriteManager.read(grpId, pageId, pageBuf, keepCrc);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> readAsync(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc) {
+        return pageReadWriteManager.readAsync(grpId, pageId, pageBuf, keepCrc);
+    }
+
     /** {@inheritDoc} */
     @Override
     public PageStore write(
@@ -317,7 +377,11 @@ public class FilePageStoreManager implements IgniteComponent, PageReadWriteManag
     ) throws IgniteInternalCheckedException {
         Path groupWorkDir = ensureGroupWorkDir(grpName);
 
-        FilePageStoreFactory filePageStoreFactory = new FilePageStoreFactory(filePageStoreFileIoFactory, pageSize);
+        FilePageStoreFactory filePageStoreFactory = new FilePageStoreFactory(
+                filePageStoreFileIoFactory,
+                pageSize,
+                deltaFilesMergeExecutor
+        );
 
         FilePageStore idxFilePageStore = filePageStoreFactory.createPageStore(TYPE_IDX, groupWorkDir.resolve(INDEX_FILE_NAME));
 
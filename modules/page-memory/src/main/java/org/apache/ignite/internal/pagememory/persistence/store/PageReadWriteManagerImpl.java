@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.tostring.IgniteToStringExclude;
 import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -59,6 +60,20 @@ class PageReadWriteManagerImpl implements org.apache.ignite.internal.pagememory.
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> readAsync(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc) {
+        FilePageStore pageStore;
+
+        try {
+            pageStore = filePageStoreManager.getStore(grpId, partitionId(pageId));
+        } catch (IgniteInternalCheckedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return pageStore.readAsync(pageId, pageBuf, keepCrc).thenApply(read -> null);
+    }
+
     /** {@inheritDoc} */
     @Override
     public PageStore write(
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
+
+/**
+ * Speed-based write throttling policy.
+ *
+ * <p>While a checkpoint is running, compares the speed at which pages are marked dirty with the speed at which the checkpoint writes its
+ * pages, and parks the marking threads if the dirty pages would reach {@link PageMemoryImpl#maxDirtyPages()} before the checkpoint
+ * writes all of its pages. Threads that copy pages of the current checkpoint into an almost full checkpoint buffer are parked with an
+ * exponential backoff.
+ *
+ * <p>Also triggers a checkpoint ahead of schedule, when the ratio of dirty pages in the page memory reaches the threshold.
+ */
+public class PagesWriteSpeedBasedThrottle implements PagesWriteThrottlePolicy {
+    /** Reason of a checkpoint triggered by the ratio of dirty pages. */
+    public static final String DIRTY_PAGES_RATIO_CHECKPOINT_REASON = "dirty pages ratio threshold";
+
+    /** Ratio of dirty pages to {@link PageMemoryImpl#maxDirtyPages()}, below which the threads are not throttled by speed. */
+    static final double MIN_DIRTY_PAGES_RATIO_TO_THROTTLE = 0.3;
+
+    /** Fill ratio of the checkpoint buffer, above which the threads that copy pages into it are throttled. */
+    static final double CHECKPOINT_BUFFER_THROTTLE_THRESHOLD = 2.0 / 3;
+
+    /** Park time of the first throttling of the checkpoint buffer protection in nanos. */
+    static final long STARTING_BACKOFF_PARK_NANOS = 4_000;
+
+    /** Park time multiplier of the consecutive throttlings of the checkpoint buffer protection. */
+    private static final double BACKOFF_RATIO = 1.05;
+
+    /** Maximum park time of a single throttling in nanos. */
+    static final long MAX_PARK_NANOS = MILLISECONDS.toNanos(100);
+
+    /** Minimum time since the beginning of a checkpoint after which its write speed is estimated, in nanos. */
+    static final long MIN_SPEED_MEASUREMENT_NANOS = MILLISECONDS.toNanos(10);
+
+    /** Page memory. */
+    private final PageMemoryImpl pageMemory;
+
+    /** Supplier of the progress of current checkpoint. */
+    private final Supplier<CheckpointProgress> checkpointProgress;
+
+    /** Supplier of the metrics tracker of current checkpoint. */
+    private final Supplier<CheckpointMetricsTracker> checkpointMetricsTracker;
+
+    /** Triggers a checkpoint with the given reason. */
+    private final Consumer<String> checkpointTrigger;
+
+    /** Ratio of dirty pages to {@link PageMemoryImpl#totalPages()} upon reaching which a checkpoint is triggered, {@code 0} to disable. */
+    private final double dirtyPagesRatioThreshold;
+
+    /** Beginning of current checkpoint in nanos. */
+    private volatile long checkpointStartNanos;
+
+    /** Number of pages marked dirty since the beginning of current checkpoint. */
+    private final LongAdder markedPages = new LongAdder();
+
+    /** IDs of the threads that marked pages dirty since the beginning of current checkpoint. */
+    private final Set<Long> markingThreads = ConcurrentHashMap.newKeySet();
+
+    /** Counter of consecutive throttlings of the checkpoint buffer protection. */
+    private final AtomicInteger backoffCounter = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param pageMemory Page memory.
+     * @param checkpointProgress Supplier of the progress of current checkpoint.
+     * @param checkpointMetricsTracker Supplier of the metrics tracker of current checkpoint.
+     * @param checkpointTrigger Triggers a checkpoint with the given reason.
+     * @param dirtyPagesRatioThreshold Ratio of dirty pages to {@link PageMemoryImpl#totalPages()} upon reaching which a checkpoint is
+     *      triggered, {@code 0} to disable.
+     */
+    public PagesWriteSpeedBasedThrottle(
+            PageMemoryImpl pageMemory,
+            Supplier<CheckpointProgress> checkpointProgress,
+            Supplier<CheckpointMetricsTracker> checkpointMetricsTracker,
+            Consumer<String> checkpointTrigger,
+            double dirtyPagesRatioThreshold
+    ) {
+        assert dirtyPagesRatioThreshold >= 0 && dirtyPagesRatioThreshold <= 1 : dirtyPagesRatioThreshold;
+
+        this.pageMemory = pageMemory;
+        this.checkpointProgress = checkpointProgress;
+        this.checkpointMetricsTracker = checkpointMetricsTracker;
+        this.checkpointTrigger = checkpointTrigger;
+        this.dirtyPagesRatioThreshold = dirtyPagesRatioThreshold;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMarkDirty(boolean isPageInCheckpoint) {
+        markedPages.increment();
+        markingThreads.add(Thread.currentThread().getId());
+
+        long parkNanos;
+
+        if (isPageInCheckpoint && checkpointBufferThresholdExceeded()) {
+            parkNanos = backoffParkNanos(backoffCounter.getAndIncrement());
+        } else {
+            if (backoffCounter.get() > 0) {
+                backoffCounter.set(0);
+            }
+
+            parkNanos = speedBasedParkNanos();
+        }
+
+        if (parkNanos > 0) {
+            park(parkNanos);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onBeginCheckpoint() {
+        markedPages.reset();
+        markingThreads.clear();
+
+        checkpointStartNanos = System.nanoTime();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFinishCheckpoint() {
+        backoffCounter.set(0);
+    }
+
+    /**
+     * Returns the park time of the current thread in nanos according to the speeds of marking dirty and writing pages, {@code 0} if the
+     * thread should not be parked.
+     */
+    private long speedBasedParkNanos() {
+        long dirtyPages = pageMemory.dirtyPagesCount();
+
+        if (dirtyPagesRatioThreshold > 0 && dirtyPages >= dirtyPagesRatioThreshold * pageMemory.totalPages()) {
+            checkpointTrigger.accept(DIRTY_PAGES_RATIO_CHECKPOINT_REASON);
+        }
+
+        CheckpointProgress progress = checkpointProgress.get();
+
+        if (progress == null || !progress.inProgress()) {
+            return 0;
+        }
+
+        long maxDirtyPages = pageMemory.maxDirtyPages();
+
+        if (dirtyPages < MIN_DIRTY_PAGES_RATIO_TO_THROTTLE * maxDirtyPages) {
+            return 0;
+        }
+
+        long elapsedNanos = System.nanoTime() - checkpointStartNanos;
+
+        if (elapsedNanos < MIN_SPEED_MEASUREMENT_NANOS) {
+            return 0;
+        }
+
+        return calculateParkNanos(
+                dirtyPages,
+                maxDirtyPages,
+                progress.currentCheckpointPagesCount(),
+                progress.writtenPagesCount(),
+                markedPages.sum(),
+                markingThreads.size(),
+                elapsedNanos
+        );
+    }
+
+    /**
+     * Calculates the park time of a thread marking pages dirty, so that the dirty pages do not reach the maximum before the checkpoint
+     * writes all of its pages.
+     *
+     * @param dirtyPages Number of dirty pages.
+     * @param maxDirtyPages Maximum number of dirty pages.
+     * @param checkpointPages Number of pages in current checkpoint.
+     * @param writtenPages Number of pages written by current checkpoint.
+     * @param markedPages Number of pages marked dirty since the beginning of current checkpoint.
+     * @param markingThreads Number of threads that marked pages dirty since the beginning of current checkpoint.
+     * @param elapsedNanos Time since the beginning of current checkpoint in nanos.
+     * @return Park time in nanos, {@code 0} if the thread should not be parked.
+     */
+    static long calculateParkNanos(
+            long dirtyPages,
+            long maxDirtyPages,
+            int checkpointPages,
+            int writtenPages,
+            long markedPages,
+            int markingThreads,
+            long elapsedNanos
+    ) {
+        if (dirtyPages >= maxDirtyPages) {
+            return MAX_PARK_NANOS;
+        }
+
+        int remainingPages = checkpointPages - writtenPages;
+
+        // Nothing to estimate until the checkpoint starts writing pages, and nothing to wait for once all of them are written.
+        if (writtenPages <= 0 || remainingPages <= 0 || markedPages <= 0) {
+            return 0;
+        }
+
+        // Speeds in pages per second.
+        double writeSpeed = (double) writtenPages * SECONDS.toNanos(1) / elapsedNanos;
+        double markSpeed = (double) markedPages * SECONDS.toNanos(1) / elapsedNanos;
+
+        double allowedMarkSpeed = (maxDirtyPages - dirtyPages) * writeSpeed / remainingPages;
+
+        if (markSpeed <= allowedMarkSpeed) {
+            return 0;
+        }
+
+        // Each of the threads should mark a page not more often than once in the target interval to keep the allowed speed in total.
+        double targetIntervalNanos = max(markingThreads, 1) * (double) SECONDS.toNanos(1) / allowedMarkSpeed;
+        double currentIntervalNanos = max(markingThreads, 1) * (double) SECONDS.toNanos(1) / markSpeed;
+
+        return (long) min(targetIntervalNanos - currentIntervalNanos, MAX_PARK_NANOS);
+    }
+
+    /**
+     * Returns the park time of the consecutive throttling of the checkpoint buffer protection in nanos.
+     *
+     * @param counter Number of the previous consecutive throttlings.
+     */
+    static long backoffParkNanos(int counter) {
+        return (long) min(STARTING_BACKOFF_PARK_NANOS * Math.pow(BACKOFF_RATIO, counter), MAX_PARK_NANOS);
+    }
+
+    private boolean checkpointBufferThresholdExceeded() {
+        return pageMemory.usedCheckpointBufferPages() > pageMemory.maxCheckpointBufferPages() * CHECKPOINT_BUFFER_THROTTLE_THRESHOLD;
+    }
+
+    private void park(long parkNanos) {
+        long startNanos = System.nanoTime();
+
+        LockSupport.parkNanos(parkNanos);
+
+        CheckpointMetricsTracker tracker = checkpointMetricsTracker.get();
+
+        if (tracker != null) {
+            tracker.onWriteThrottled(System.nanoTime() - startNanos);
+        }
+    }
+}
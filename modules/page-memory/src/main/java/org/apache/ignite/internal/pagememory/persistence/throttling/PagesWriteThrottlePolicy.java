@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+/**
+ * Throttling policy, slows down the threads that mark pages dirty in the page memory so that the checkpoint keeps up with them.
+ */
+public interface PagesWriteThrottlePolicy {
+    /**
+     * Callback on a page marked dirty, may park the current thread.
+     *
+     * <p>Must be called without holding a page lock.
+     *
+     * @param isPageInCheckpoint {@code True} if the page belongs to the current checkpoint and is not written yet.
+     */
+    void onMarkDirty(boolean isPageInCheckpoint);
+
+    /**
+     * Callback on the beginning of a checkpoint, invoked under the checkpoint write lock.
+     */
+    void onBeginCheckpoint();
+
+    /**
+     * Callback on the end of a checkpoint.
+     */
+    void onFinishCheckpoint();
+}
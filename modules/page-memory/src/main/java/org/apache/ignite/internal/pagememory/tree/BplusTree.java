@@ -31,15 +31,18 @@ import static org.apache.ignite.internal.pagememory.util.PageIdUtils.effectivePa
 import static org.apache.ignite.internal.util.ArrayUtils.clearTail;
 import static org.apache.ignite.internal.util.ArrayUtils.set;
 import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
+import static org.apache.ignite.internal.util.OffheapReadWriteLock.INVALID_STAMP;
 import static org.apache.ignite.lang.IgniteSystemProperties.getInteger;
 
 import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongArrays;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -836,6 +839,46 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    private final PageHandler<long[], Bool> bulkLoadRoots = new BulkLoadRoots();
+
+    /**
+     * Page handler for publishing the levels built by a bulk load.
+     */
+    private class BulkLoadRoots implements PageHandler<long[], Bool> {
+        /** {@inheritDoc} */
+        @Override
+        public Bool run(
+                int groupId,
+                long metaId,
+                long metaPage,
+                long pageAddr,
+                PageIo iox,
+                long[] firstPageIds,
+                int intArg,
+                IoStatisticsHolder statHolder
+        ) {
+            assert firstPageIds != null && firstPageIds.length > 1;
+
+            // Safe cast because we should never recycle meta page until the tree is destroyed.
+            BplusMetaIo io = (BplusMetaIo) iox;
+
+            assert io.getLevelsCount(pageAddr) == 1;
+            assert io.getFirstPageId(pageAddr, 0) == firstPageIds[0];
+
+            for (int lvl = 1; lvl < firstPageIds.length; lvl++) {
+                io.addRoot(pageAddr, firstPageIds[lvl], pageSize());
+            }
+
+            int rootLvl = firstPageIds.length - 1;
+
+            assert io.getRootLevel(pageAddr) == rootLvl;
+
+            treeMeta = new TreeMetaData(rootLvl, firstPageIds[rootLvl]);
+
+            return TRUE;
+        }
+    }
+
     private final PageHandler<Long, Bool> initRoot = new InitRoot();
 
     /**
@@ -860,6 +903,7 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             BplusMetaIo io = (BplusMetaIo) iox;
 
             io.initRoot(pageAddr, rootId, pageSize());
+            io.setInlineSize(pageAddr, inlineSize);
 
             assert io.getRootLevel(pageAddr) == 0;
             assert io.getFirstPageId(pageAddr, 0) == rootId;
@@ -1570,7 +1614,11 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 g.pageId = pageId;
                 g.fwdId = fwdId;
 
-                Result res = read(pageId, page, search, g, lvl, RETRY);
+                Result res = lvl > 0 ? searchInnerOptimistically(pageId, page, g, lvl) : null;
+
+                if (res == null) {
+                    res = read(pageId, page, search, g, lvl, RETRY);
+                }
 
                 switch (res) {
                     case GO_DOWN:
@@ -1607,6 +1655,133 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Searches the inner page for the child page to go down to without acquiring the read lock, see
+     * {@link PageMemory#tryOptimisticRead(int, long, long)}. Does the same as {@link Search} for the inner pages, except that it gives up
+     * whenever the search would need to read another page or the page turns out to be modified concurrently.
+     *
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param g Get operation.
+     * @param lvl Level.
+     * @return {@link Result#GO_DOWN} or {@link Result#RETRY}, {@code null} if the page has to be searched under the read lock.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private @Nullable Result searchInnerOptimistically(long pageId, long page, Get g, int lvl) throws IgniteInternalCheckedException {
+        assert lvl > 0 : lvl;
+
+        if (canGetRowFromInner) {
+            return null;
+        }
+
+        long stamp = pageMem.tryOptimisticRead(grpId, pageId, page);
+
+        if (stamp == INVALID_STAMP) {
+            return null;
+        }
+
+        long pageAddr = pageMem.pageAddress(grpId, pageId, page);
+
+        long childId;
+        long childFwdId;
+        long childBackId;
+
+        try {
+            if (PageIo.getPageId(pageAddr) != pageId) {
+                return null;
+            }
+
+            BplusIo<L> io = io(pageAddr);
+
+            if (io.isLeaf()) {
+                return null;
+            }
+
+            // Check the triangle invariant.
+            if (io.getForward(pageAddr) != g.fwdId) {
+                return pageMem.validateOptimisticRead(grpId, pageId, page, stamp) ? RETRY : null;
+            }
+
+            // Count of a page that is being modified may be anything.
+            int cnt = Math.min(io.getCount(pageAddr), io.getMaxCount(pageAddr, pageSize()));
+
+            if (cnt == 0) {
+                // Routing page.
+                return null;
+            }
+
+            int idx;
+
+            if (g.findLast) {
+                idx = cnt;
+            } else {
+                // Same as findInsertionPoint, an exact match on an inner page goes left down as in Search.
+                int low = 0;
+                int high = cnt - 1;
+
+                idx = -1;
+
+                while (low <= high) {
+                    int mid = (low + high) >>> 1;
+
+                    if (!canCompareOptimistically(io, pageAddr, mid, g.row)) {
+                        return null;
+                    }
+
+                    int cmp = compare(lvl, io, pageAddr, mid, g.row);
+
+                    if (cmp == 0) {
+                        cmp = -g.shift;
+                    }
+
+                    if (cmp < 0) {
+                        low = mid + 1;
+                    } else if (cmp > 0) {
+                        high = mid - 1;
+                    } else {
+                        idx = mid;
+
+                        break;
+                    }
+                }
+
+                if (idx < 0) {
+                    idx = low;
+                }
+            }
+
+            if (idx < cnt) {
+                childFwdId = inner(io).getRight(pageAddr, idx);
+                childBackId = 0L;
+            } else if (io.getForward(pageAddr) == 0L) {
+                childFwdId = 0L;
+                childBackId = inner(io).getLeft(pageAddr, cnt - 1);
+            } else {
+                // Forward page has to be asked for the forward of the child, which is done under the read lock of this page.
+                return null;
+            }
+
+            childId = inner(io).getLeft(pageAddr, idx);
+        } catch (RuntimeException | AssertionError e) {
+            if (pageMem.validateOptimisticRead(grpId, pageId, page, stamp)) {
+                throw e;
+            }
+
+            // Inconsistent content of a concurrently modified page.
+            return null;
+        }
+
+        if (!pageMem.validateOptimisticRead(grpId, pageId, page, stamp)) {
+            return null;
+        }
+
+        g.pageId(childId);
+        g.fwdId(childFwdId);
+        g.backId(childBackId);
+
+        return GO_DOWN;
+    }
+
     /**
      * Returns tree name.
      *
@@ -2506,6 +2681,189 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         return res != null ? res : false;
     }
 
+    /**
+     * Loads the rows into the tree. If the tree is empty, leaf pages are filled from left to right and the inner levels are built
+     * bottom-up, so no page is ever split and no row goes down the tree from the root. The new levels are published with a single
+     * meta page update when the whole tree is built. If the tree is not empty, the rows are put one by one.
+     *
+     * <p>The rows must be unique and sorted in the tree order. The method must not be called concurrently with other modifications
+     * of the tree. The iterator is never called while a page of the tree is locked, so it may release and take other locks, e.g.
+     * between batches of rows.
+     *
+     * @param rows Unique rows sorted in the tree order.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public final void bulkLoad(Iterator<? extends T> rows) throws IgniteInternalCheckedException {
+        checkDestroyed();
+
+        if (!isEmpty()) {
+            while (rows.hasNext()) {
+                putx(rows.next());
+            }
+
+            return;
+        }
+
+        TreeMetaData meta = treeMeta();
+
+        assert meta.rootLvl == 0 : meta;
+
+        LongArrayList childIds = new LongArrayList();
+        List<L> separators = new ArrayList<>();
+
+        int maxCnt = latestLeafIo().getMaxCount(0L, pageSize());
+
+        List<T> leafRows = new ArrayList<>(maxCnt);
+
+        long pageId = meta.rootId; // Empty root leaf becomes the first leaf.
+        boolean hasNext = rows.hasNext();
+
+        while (hasNext) {
+            // The rows of the leaf are taken before the leaf is locked, the iterator is never called under a page lock.
+            leafRows.clear();
+
+            do {
+                leafRows.add(rows.next());
+            } while (leafRows.size() < maxCnt && rows.hasNext());
+
+            hasNext = rows.hasNext();
+
+            long fwdId = 0L;
+
+            long page = acquirePage(pageId);
+
+            try {
+                long pageAddr = writeLock(pageId, page); // Nobody else modifies the tree.
+
+                assert pageAddr != 0L;
+
+                try {
+                    BplusIo<L> io = io(pageAddr);
+
+                    assert io.isLeaf() && io.getCount(pageAddr) == 0;
+                    assert leafRows.size() <= io.getMaxCount(pageAddr, pageSize()) : leafRows.size();
+
+                    for (int cnt = 0; cnt < leafRows.size(); cnt++) {
+                        T row = leafRows.get(cnt);
+
+                        assert cnt == 0 || compare(0, io, pageAddr, cnt - 1, row) < 0 : "Rows are not sorted: " + row;
+
+                        io.store(pageAddr, cnt, row, null, false);
+                        io.setCount(pageAddr, cnt + 1);
+                    }
+
+                    childIds.add(pageId);
+
+                    if (hasNext) {
+                        // Like on a leaf split, the last row of the back page goes up and the page keeps it.
+                        separators.add(io.getLookupRow(this, pageAddr, leafRows.size() - 1));
+
+                        fwdId = allocatePage(null);
+
+                        init(fwdId, latestLeafIo());
+
+                        io.setForward(pageAddr, fwdId);
+                    }
+                } finally {
+                    writeUnlock(pageId, page, pageAddr, true);
+                }
+            } finally {
+                releasePage(pageId, page);
+            }
+
+            pageId = fwdId;
+        }
+
+        LongArrayList firstPageIds = new LongArrayList();
+
+        firstPageIds.add(meta.rootId);
+
+        while (childIds.size() > 1) {
+            LongArrayList upperChildIds = new LongArrayList();
+            List<L> upperSeparators = new ArrayList<>();
+
+            buildInnerLevel(childIds, separators, upperChildIds, upperSeparators);
+
+            firstPageIds.add(upperChildIds.getLong(0));
+
+            childIds = upperChildIds;
+            separators = upperSeparators;
+        }
+
+        if (firstPageIds.size() > 1) {
+            Bool res = write(metaPageId, bulkLoadRoots, firstPageIds.toLongArray(), 0, FALSE, statisticsHolder());
+
+            assert res == TRUE : res;
+        }
+    }
+
+    /**
+     * Builds an inner level of the tree over the pages of the level below.
+     *
+     * @param childIds IDs of the pages of the level below, from left to right.
+     * @param separators Rows separating the pages of the level below.
+     * @param pageIds IDs of the pages of the built level, from left to right.
+     * @param upSeparators Rows separating the pages of the built level.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private void buildInnerLevel(
+            LongArrayList childIds,
+            List<L> separators,
+            LongArrayList pageIds,
+            List<L> upSeparators
+    ) throws IgniteInternalCheckedException {
+        assert separators.size() == childIds.size() - 1;
+
+        long pageId = allocatePage(null);
+
+        init(pageId, latestInnerIo());
+
+        int child = 0;
+
+        while (child < childIds.size()) {
+            long fwdId = 0L;
+
+            long page = acquirePage(pageId);
+
+            try {
+                long pageAddr = writeLock(pageId, page); // Nobody else modifies the tree.
+
+                assert pageAddr != 0L;
+
+                try {
+                    BplusInnerIo<L> io = inner(io(pageAddr));
+
+                    int maxCnt = io.getMaxCount(pageAddr, pageSize());
+
+                    io.setLeft(pageAddr, 0, childIds.getLong(child++));
+
+                    for (int cnt = 0; cnt < maxCnt && child < childIds.size(); cnt++, child++) {
+                        io.insert(pageAddr, cnt, separators.get(child - 1), null, childIds.getLong(child), false);
+                    }
+
+                    pageIds.add(pageId);
+
+                    if (child < childIds.size()) {
+                        // Like on an inner split, the separator of the last child goes up and the page doesn't keep it.
+                        upSeparators.add(separators.get(child - 1));
+
+                        fwdId = allocatePage(null);
+
+                        init(fwdId, latestInnerIo());
+
+                        io.setForward(pageAddr, fwdId);
+                    }
+                } finally {
+                    writeUnlock(pageId, page, pageAddr, true);
+                }
+            } finally {
+                releasePage(pageId, page);
+            }
+
+            pageId = fwdId;
+        }
+    }
+
     /**
      * Does a put.
      *
@@ -5608,6 +5966,36 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
      */
     public abstract T getRow(BplusIo<L> io, long pageAddr, int idx, Object x) throws IgniteInternalCheckedException;
 
+    /**
+     * Callback before the rows of a leaf page are read by a cursor with {@link #getRow(BplusIo, long, int, Object)}, allows to prefetch
+     * the pages that the rows link to with {@link #prefetchPage(long)}.
+     *
+     * @param io IO.
+     * @param pageAddr Leaf page address.
+     * @param startIdx Index of the first row, inclusive.
+     * @param endIdx Index of the last row, exclusive.
+     */
+    protected void prefetchRows(BplusIo<L> io, long pageAddr, int startIdx, int endIdx) {
+        // No-op.
+    }
+
+    /**
+     * Checks whether the row of an inner page can be compared with {@link #compare(int, BplusIo, long, int, Object)} while the page is read
+     * optimistically, that is when the comparison reads nothing but the given page. Inner pages are searched by {@link #findOne} and the
+     * cursors without the read locks as long as the comparisons are possible.
+     *
+     * <p>An optimistically read page may be modified concurrently and is validated only after the search, so its links must not be
+     * followed during the search.
+     *
+     * @param io IO.
+     * @param pageAddr Page address.
+     * @param idx Index of row in the given buffer.
+     * @param row Lookup row.
+     */
+    protected boolean canCompareOptimistically(BplusIo<L> io, long pageAddr, int idx, L row) {
+        return false;
+    }
+
     /**
      * Abstract forward cursor.
      */
@@ -5776,7 +6164,14 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
 
             nextPageId = io.getForward(pageAddr);
 
-            return fillFromBuffer0(pageAddr, io, startIdx, cnt);
+            boolean res = fillFromBuffer0(pageAddr, io, startIdx, cnt);
+
+            // Loads the next leaf in the background while the rows of the current one are being processed.
+            if (nextPageId != 0) {
+                prefetchPage(nextPageId);
+            }
+
+            return res;
         }
 
         /**
@@ -6055,6 +6450,8 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 rows = (T[]) new Object[cnt0];
             }
 
+            prefetchRows(io, pageAddr, startIdx, cnt);
+
             int resCnt = 0;
 
             for (int idx = startIdx; idx < cnt; idx++) {
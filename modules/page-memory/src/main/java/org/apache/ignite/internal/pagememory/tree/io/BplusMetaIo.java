@@ -37,7 +37,7 @@ public abstract class BplusMetaIo extends PageIo {
     private static final int LVLS_OFFSET = COMMON_HEADER_END;
 
     /** Offset where each level's page ID starts to be stored. */
-    private static final int REFS_OFFSET = LVLS_OFFSET + Byte.BYTES;
+    protected static final int REFS_OFFSET = LVLS_OFFSET + Byte.BYTES;
 
     /**
      * Constructor.
@@ -174,6 +174,25 @@ public abstract class BplusMetaIo extends PageIo {
         setLevelsCount(pageAddr, lvl, pageSize); // Decrease tree height.
     }
 
+    /**
+     * Returns the inline size of the tree, {@code 0} if the page format does not store it.
+     *
+     * @param pageAddr Page address.
+     */
+    public int getInlineSize(long pageAddr) {
+        return 0;
+    }
+
+    /**
+     * Sets the inline size of the tree.
+     *
+     * @param pageAddr Page address.
+     * @param inlineSize Inline size, may only be {@code 0} if the page format does not store it.
+     */
+    public void setInlineSize(long pageAddr, int inlineSize) {
+        assert inlineSize == 0 : "Inline size is not supported by " + this;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void printPage(long addr, int pageSize, IgniteStringBuilder sb) {
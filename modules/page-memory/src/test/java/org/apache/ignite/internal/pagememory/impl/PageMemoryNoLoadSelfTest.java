@@ -18,10 +18,13 @@
 package org.apache.ignite.internal.pagememory.impl;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.util.OffheapReadWriteLock.INVALID_STAMP;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
@@ -303,6 +306,60 @@ public class PageMemoryNoLoadSelfTest extends BaseIgniteAbstractTest {
         }
     }
 
+    @Test
+    public void testOptimisticRead() throws Exception {
+        PageMemory mem = memory();
+
+        mem.start();
+
+        try {
+            FullPageId fullId = allocatePage(mem);
+
+            long page = mem.acquirePage(fullId.groupId(), fullId.pageId());
+
+            try {
+                writePage(mem, fullId, page, 1);
+
+                long stamp = mem.tryOptimisticRead(fullId.groupId(), fullId.pageId(), page);
+
+                assertNotEquals(INVALID_STAMP, stamp);
+
+                long pageAddr = mem.pageAddress(fullId.groupId(), fullId.pageId(), page);
+
+                assertEquals(fullId.pageId(), PageIo.getPageId(pageAddr));
+                assertEquals(1, PageUtils.getByte(pageAddr, PageIo.COMMON_HEADER_END));
+
+                assertTrue(mem.validateOptimisticRead(fullId.groupId(), fullId.pageId(), page, stamp));
+
+                // Readers do not invalidate the optimistic reads.
+                readPage(mem, fullId.pageId(), page, 1);
+
+                assertTrue(mem.validateOptimisticRead(fullId.groupId(), fullId.pageId(), page, stamp));
+
+                long writeAddr = mem.writeLock(fullId.groupId(), fullId.pageId(), page);
+
+                try {
+                    assertEquals(INVALID_STAMP, mem.tryOptimisticRead(fullId.groupId(), fullId.pageId(), page));
+                } finally {
+                    mem.writeUnlock(fullId.groupId(), fullId.pageId(), page, false);
+                }
+
+                assertNotEquals(0L, writeAddr);
+
+                assertFalse(mem.validateOptimisticRead(fullId.groupId(), fullId.pageId(), page, stamp));
+
+                // Page ID with another tag.
+                long rotatedPageId = PageIdUtils.rotatePageId(fullId.pageId());
+
+                assertEquals(INVALID_STAMP, mem.tryOptimisticRead(fullId.groupId(), rotatedPageId, page));
+            } finally {
+                mem.releasePage(fullId.groupId(), fullId.pageId(), page);
+            }
+        } finally {
+            mem.stop(true);
+        }
+    }
+
     /**
      * Creates new page memory instance.
      *
@@ -350,7 +407,7 @@ public class PageMemoryNoLoadSelfTest extends BaseIgniteAbstractTest {
      * @param page Page pointer.
      * @param expVal Expected value.
      */
-    private void readPage(PageMemory mem, long pageId, long page, int expVal) {
+    protected void readPage(PageMemory mem, long pageId, long page, int expVal) {
         expVal &= 0xFF;
 
         long pageAddr = mem.readLock(GRP_ID, pageId, page);
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.pagememory.impl;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.util.Constants.GiB;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.pagememory.TestPageIoRegistry;
+import org.apache.ignite.internal.pagememory.configuration.schema.MappedFileMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.configuration.schema.MemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Random page access throughput benchmark of {@link PageMemoryNoStoreImpl} with the memory of the different allocators.
+ *
+ * <p>The pages are spread over several GB, so almost every access misses the TLB with the regular 4 KB pages. The {@code mappedFile}
+ * allocator maps the memory to the files in {@link #paths}, which should be on a hugetlbfs mount (for example, {@code /dev/hugepages}
+ * with enough huge pages reserved through {@code /proc/sys/vm/nr_hugepages}), or on tmpfs mounts with {@code huge=always}. To measure
+ * the NUMA binding, pass a tmpfs mount with {@code mpol=bind:<node>} per node, for example
+ * {@code -p paths=/mnt/numa0,/mnt/numa1}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(Threads.MAX)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+public class PageMemoryRandomAccessBenchmark {
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    private static final int GROUP_ID = 1;
+
+    private static final int PARTITION_ID = 0;
+
+    /** Memory allocator type. */
+    @Param({"unsafe", "mappedFile"})
+    public String allocator;
+
+    /** Comma separated directories of the memory files of the {@code mappedFile} allocator. */
+    @Param({"/dev/hugepages"})
+    public String paths;
+
+    /** Huge page size in bytes. */
+    @Param({"2097152"})
+    public long hugePageSize;
+
+    /** Data region size in bytes. */
+    @Param({"8589934592"})
+    public long regionSize;
+
+    private PageMemoryNoStoreImpl pageMem;
+
+    private long[] pageIds;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(PageMemoryRandomAccessBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Allocates the pages.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        MemoryAllocatorView memoryAllocatorView;
+
+        if ("mappedFile".equals(allocator)) {
+            MappedFileMemoryAllocatorView mappedFileView = mock(MappedFileMemoryAllocatorView.class);
+
+            when(mappedFileView.paths()).thenReturn(paths.split(","));
+            when(mappedFileView.hugePageSize()).thenReturn(hugePageSize);
+
+            memoryAllocatorView = mappedFileView;
+        } else {
+            memoryAllocatorView = mock(UnsafeMemoryAllocatorView.class);
+        }
+
+        PageMemoryDataRegionView dataRegionView = mock(PageMemoryDataRegionView.class);
+
+        when(dataRegionView.name()).thenReturn("benchmark");
+        when(dataRegionView.memoryAllocator()).thenReturn(memoryAllocatorView);
+        when(dataRegionView.initSize()).thenReturn((long) GiB);
+        when(dataRegionView.maxSize()).thenReturn(regionSize);
+
+        PageMemoryDataRegionConfiguration dataRegionCfg = mock(PageMemoryDataRegionConfiguration.class);
+
+        when(dataRegionCfg.value()).thenReturn(dataRegionView);
+
+        TestPageIoRegistry ioRegistry = new TestPageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        pageMem = new PageMemoryNoStoreImpl(dataRegionCfg, ioRegistry, PAGE_SIZE);
+
+        pageMem.start();
+
+        // Leaves a margin for the page overhead, so the region is not exhausted.
+        pageIds = new long[(int) (regionSize / PAGE_SIZE * 3 / 4)];
+
+        for (int i = 0; i < pageIds.length; i++) {
+            pageIds[i] = pageMem.allocatePage(GROUP_ID, PARTITION_ID, FLAG_DATA);
+        }
+    }
+
+    /**
+     * Stops the page memory.
+     */
+    @TearDown
+    public void tearDown() {
+        pageMem.stop(true);
+    }
+
+    /**
+     * Reads a long from a random page.
+     */
+    @Benchmark
+    public long readRandomPage() throws Exception {
+        long pageId = pageIds[ThreadLocalRandom.current().nextInt(pageIds.length)];
+
+        long page = pageMem.acquirePage(GROUP_ID, pageId);
+
+        try {
+            long pageAddr = pageMem.readLock(GROUP_ID, pageId, page);
+
+            try {
+                return GridUnsafe.getLong(pageAddr + PAGE_SIZE / 2);
+            } finally {
+                pageMem.readUnlock(GROUP_ID, pageId, page);
+            }
+        } finally {
+            pageMem.releasePage(GROUP_ID, pageId, page);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.pagememory.mem.file;
+
+import static org.apache.ignite.internal.pagememory.mem.file.MappedFileMemoryAllocator.MAX_CHUNK_SIZE;
+import static org.apache.ignite.internal.util.Constants.KiB;
+import static org.apache.ignite.internal.util.Constants.MiB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * For {@link MappedFileMemoryAllocator} testing.
+ */
+@ExtendWith(WorkDirectoryExtension.class)
+public class MappedFileMemoryAllocatorTest {
+    @WorkDirectory
+    private Path workDir;
+
+    @Test
+    void testAllocateMemory() throws Exception {
+        Path dir0 = workDir.resolve("node0");
+        Path dir1 = workDir.resolve("node1");
+
+        MappedFileMemoryAllocator allocator = new MappedFileMemoryAllocator("test", new Path[]{dir0, dir1}, 64 * KiB);
+
+        long[] addrs = new long[4];
+
+        for (int i = 0; i < addrs.length; i++) {
+            addrs[i] = allocator.allocateMemory(100 * KiB);
+
+            GridUnsafe.putLong(addrs[i] + 100 * KiB - Long.BYTES, i);
+        }
+
+        for (int i = 0; i < addrs.length; i++) {
+            assertEquals(i, GridUnsafe.getLong(addrs[i] + 100 * KiB - Long.BYTES));
+        }
+
+        // The chunks are mapped to the files of both directories, the files are deleted right after mapping.
+        assertTrue(Files.isDirectory(dir0));
+        assertTrue(Files.isDirectory(dir1));
+
+        try (Stream<Path> files0 = Files.list(dir0); Stream<Path> files1 = Files.list(dir1)) {
+            assertEquals(0, files0.count() + files1.count());
+        }
+
+        for (long addr : addrs) {
+            allocator.freeMemory(addr);
+        }
+    }
+
+    @Test
+    void testAllocateTooLargeChunk() {
+        MappedFileMemoryAllocator allocator = new MappedFileMemoryAllocator("test", new Path[]{workDir}, 2 * MiB);
+
+        assertThrows(IllegalArgumentException.class, () -> allocator.allocateMemory(MAX_CHUNK_SIZE + 1));
+    }
+}
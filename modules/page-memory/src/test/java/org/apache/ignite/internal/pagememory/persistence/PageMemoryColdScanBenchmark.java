@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfigurationSchema.CLOCK_REPLACEMENT_MODE;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.mockCheckpointTimeoutLock;
+import static org.apache.ignite.internal.util.Constants.MiB;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.fileio.AsyncFileIoFactory;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.pagememory.TestPageIoModule.TestPageIo;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cold cache scan benchmark of {@link PageMemoryImpl} with and without the prefetch of the pages.
+ *
+ * <p>Emulates a scan of B+Tree leaves: every leaf page links to the next leaf and to the data pages of its rows, all the pages are
+ * shuffled in the partition file. Each invocation scans the leaves through a new page memory, so none of the pages are loaded into it.
+ * The OS page cache is not dropped between the invocations, the partition file should exceed it to measure the disk reads.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+public class PageMemoryColdScanBenchmark {
+    private static final IgniteLogger LOG = IgniteLogger.forClass(PageMemoryColdScanBenchmark.class);
+
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    private static final int GRP_ID = 1;
+
+    private static final int PARTITION_ID = 0;
+
+    /** Number of data pages a leaf page links to. */
+    private static final int DATA_PAGES_PER_LEAF = 16;
+
+    /** Number of leaf pages. */
+    @Param({"4096"})
+    public int leaves;
+
+    /** Prefetch the pages. */
+    @Param({"false", "true"})
+    public boolean readAhead;
+
+    /** Use asynchronous file IO. */
+    @Param({"true"})
+    public boolean asyncFileIo;
+
+    private Path workDir;
+
+    private FilePageStoreManager filePageStoreManager;
+
+    private PageMemoryDataRegionConfiguration dataRegionCfg;
+
+    private PageIoRegistry ioRegistry;
+
+    /** ID of the first leaf page. */
+    private long firstLeafPageId;
+
+    /** Page memory of the current invocation. */
+    private PageMemoryImpl pageMemory;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(PageMemoryColdScanBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Writes the pages into the partition file.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("cold-scan-benchmark");
+
+        filePageStoreManager = new FilePageStoreManager(
+                LOG,
+                "benchmark",
+                workDir,
+                asyncFileIo ? new AsyncFileIoFactory() : new RandomAccessFileIoFactory(),
+                PAGE_SIZE
+        );
+
+        filePageStoreManager.start();
+
+        filePageStoreManager.initialize("benchmark", GRP_ID, PARTITION_ID + 1);
+
+        FilePageStore filePageStore = filePageStoreManager.getStore(GRP_ID, PARTITION_ID);
+
+        filePageStore.ensure();
+
+        List<Long> pageIds = new ArrayList<>();
+
+        for (int i = 0; i < leaves * (1 + DATA_PAGES_PER_LEAF); i++) {
+            pageIds.add(filePageStoreManager.allocatePage(GRP_ID, PARTITION_ID, FLAG_DATA));
+        }
+
+        Collections.shuffle(pageIds, new Random(0));
+
+        ByteBuffer buf = ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+
+        long addr = GridUnsafe.bufferAddress(buf);
+
+        TestPageIo io = new TestPageIo();
+
+        int pageIdx = 0;
+
+        for (int leaf = 0; leaf < leaves; leaf++) {
+            long leafPageId = pageIds.get(pageIdx++);
+
+            buf.clear();
+
+            io.initNewPage(addr, leafPageId, PAGE_SIZE);
+
+            // Forward link.
+            long fwdPageId = leaf == leaves - 1 ? 0 : pageIds.get(leaf * (1 + DATA_PAGES_PER_LEAF) + 1 + DATA_PAGES_PER_LEAF);
+
+            GridUnsafe.putLong(addr + COMMON_HEADER_END, fwdPageId);
+
+            for (int i = 0; i < DATA_PAGES_PER_LEAF; i++) {
+                GridUnsafe.putLong(addr + COMMON_HEADER_END + (i + 1) * Long.BYTES, pageIds.get(pageIdx + i));
+            }
+
+            filePageStore.write(leafPageId, buf, 0, true);
+
+            for (int i = 0; i < DATA_PAGES_PER_LEAF; i++) {
+                long dataPageId = pageIds.get(pageIdx++);
+
+                buf.clear();
+
+                io.initNewPage(addr, dataPageId, PAGE_SIZE);
+
+                GridUnsafe.putLong(addr + COMMON_HEADER_END, dataPageId);
+
+                filePageStore.write(dataPageId, buf, 0, true);
+            }
+
+            if (leaf == 0) {
+                firstLeafPageId = leafPageId;
+            }
+        }
+
+        filePageStore.sync();
+
+        ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        UnsafeMemoryAllocatorView memoryAllocatorView = mock(UnsafeMemoryAllocatorView.class);
+
+        PageMemoryDataRegionView dataRegionView = mock(PageMemoryDataRegionView.class);
+
+        when(dataRegionView.name()).thenReturn("benchmark");
+        when(dataRegionView.memoryAllocator()).thenReturn(memoryAllocatorView);
+        when(dataRegionView.replacementMode()).thenReturn(CLOCK_REPLACEMENT_MODE);
+        when(dataRegionView.readAhead()).thenReturn(readAhead);
+
+        dataRegionCfg = mock(PageMemoryDataRegionConfiguration.class);
+
+        when(dataRegionCfg.value()).thenReturn(dataRegionView);
+    }
+
+    /**
+     * Deletes the partition file.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        filePageStoreManager.stop();
+
+        IgniteUtils.deleteIfExists(workDir);
+    }
+
+    /**
+     * Starts a new page memory.
+     */
+    @Setup(Level.Invocation)
+    public void startPageMemory() {
+        pageMemory = new PageMemoryImpl(
+                dataRegionCfg,
+                ioRegistry,
+                new long[]{128 * MiB, 128 * MiB},
+                16 * MiB,
+                filePageStoreManager,
+                null,
+                (fullPageId, buf, tag) -> {
+                    throw new AssertionError("Should not happen: " + fullPageId);
+                },
+                mockCheckpointTimeoutLock(LOG, true),
+                PAGE_SIZE
+        );
+
+        pageMemory.start();
+    }
+
+    /**
+     * Stops the page memory.
+     */
+    @TearDown(Level.Invocation)
+    public void stopPageMemory() {
+        pageMemory.stop(true);
+    }
+
+    /**
+     * Scans all the leaves and the data pages they link to.
+     *
+     * @param bh Black hole.
+     */
+    @Benchmark
+    public void scan(Blackhole bh) throws Exception {
+        long[] dataPageIds = new long[DATA_PAGES_PER_LEAF];
+
+        long leafPageId = firstLeafPageId;
+
+        while (leafPageId != 0) {
+            long page = pageMemory.acquirePage(GRP_ID, leafPageId);
+
+            long fwdPageId;
+
+            try {
+                long pageAddr = pageMemory.readLock(GRP_ID, leafPageId, page);
+
+                try {
+                    fwdPageId = GridUnsafe.getLong(pageAddr + COMMON_HEADER_END);
+
+                    for (int i = 0; i < DATA_PAGES_PER_LEAF; i++) {
+                        dataPageIds[i] = GridUnsafe.getLong(pageAddr + COMMON_HEADER_END + (i + 1) * Long.BYTES);
+
+                        pageMemory.prefetchPage(GRP_ID, dataPageIds[i]);
+                    }
+
+                    if (fwdPageId != 0) {
+                        pageMemory.prefetchPage(GRP_ID, fwdPageId);
+                    }
+                } finally {
+                    pageMemory.readUnlock(GRP_ID, leafPageId, page);
+                }
+            } finally {
+                pageMemory.releasePage(GRP_ID, leafPageId, page);
+            }
+
+            for (long dataPageId : dataPageIds) {
+                long dataPage = pageMemory.acquirePage(GRP_ID, dataPageId);
+
+                try {
+                    long pageAddr = pageMemory.readLock(GRP_ID, dataPageId, dataPage);
+
+                    try {
+                        bh.consume(GridUnsafe.getLong(pageAddr + COMMON_HEADER_END));
+                    } finally {
+                        pageMemory.readUnlock(GRP_ID, dataPageId, dataPage);
+                    }
+                } finally {
+                    pageMemory.releasePage(GRP_ID, dataPageId, dataPage);
+                }
+            }
+
+            leafPageId = fwdPageId;
+        }
+    }
+}
@@ -18,10 +18,12 @@
 package org.apache.ignite.internal.pagememory.persistence;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
 import static org.apache.ignite.internal.pagememory.PageMemoryTestUtils.newDataRegion;
 import static org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl.PAGE_OVERHEAD;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.mockCheckpointTimeoutLock;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
 import static org.apache.ignite.internal.util.Constants.MiB;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -29,9 +31,12 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -46,10 +51,13 @@ import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryChec
 import org.apache.ignite.internal.pagememory.impl.PageMemoryNoLoadSelfTest;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
+import org.apache.ignite.internal.pagememory.persistence.store.PageStore;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -204,11 +212,158 @@ public class PageMemoryImplNoLoadTest extends PageMemoryNoLoadSelfTest {
         }
     }
 
+    @Test
+    void testPrefetchPage(
+            @InjectConfiguration PageMemoryCheckpointConfiguration checkpointConfig,
+            @WorkDirectory Path workDir
+    ) throws Exception {
+        FilePageStoreManager filePageStoreManager = createFilePageStoreManager(workDir);
+
+        Collection<PageMemoryDataRegion> dataRegions = new ArrayList<>();
+
+        CheckpointManager checkpointManager = createCheckpointManager(checkpointConfig, workDir, filePageStoreManager, dataRegions);
+
+        PageMemoryImpl pageMemoryImpl0 = createPageMemoryImpl(
+                defaultSegmentSizes(),
+                defaultCheckpointBufferSize(),
+                filePageStoreManager,
+                checkpointManager
+        );
+
+        // Page memory over the same page stores, the pages written through the first one are not loaded into it.
+        PageMemoryImpl pageMemoryImpl1 = createPageMemoryImpl(
+                defaultSegmentSizes(),
+                defaultCheckpointBufferSize(),
+                filePageStoreManager,
+                checkpointManager
+        );
+
+        dataRegions.add(newDataRegion(true, pageMemoryImpl0));
+
+        filePageStoreManager.start();
+
+        checkpointManager.start();
+
+        pageMemoryImpl0.start();
+        pageMemoryImpl1.start();
+
+        try {
+            initGroupFilePageStores(filePageStoreManager);
+
+            FullPageId fullPageId;
+
+            checkpointManager.checkpointTimeoutLock().checkpointReadLock();
+
+            try {
+                fullPageId = createDirtyPage(pageMemoryImpl0);
+            } finally {
+                checkpointManager.checkpointTimeoutLock().checkpointReadUnlock();
+            }
+
+            checkpointManager
+                    .forceCheckpoint("for_test_prefetch_page")
+                    .futureFor(FINISHED)
+                    .get(1, SECONDS);
+
+            long loadedPages = pageMemoryImpl1.loadedPages();
+
+            pageMemoryImpl1.prefetchPage(GRP_ID, fullPageId.pageId());
+
+            assertThat(pageMemoryImpl1.loadedPages(), equalTo(loadedPages + 1));
+
+            long page = pageMemoryImpl1.acquirePage(GRP_ID, fullPageId.pageId());
+
+            try {
+                readPage(pageMemoryImpl1, fullPageId.pageId(), page, 100);
+            } finally {
+                pageMemoryImpl1.releasePage(GRP_ID, fullPageId.pageId(), page);
+            }
+
+            // Already loaded page is not loaded again.
+            pageMemoryImpl1.prefetchPage(GRP_ID, fullPageId.pageId());
+
+            assertThat(pageMemoryImpl1.loadedPages(), equalTo(loadedPages + 1));
+        } finally {
+            closeAll(
+                    () -> pageMemoryImpl1.stop(true),
+                    () -> pageMemoryImpl0.stop(true),
+                    checkpointManager::stop,
+                    filePageStoreManager::stop
+            );
+        }
+    }
+
+    @Test
+    void testPrefetchPageFailure() throws Exception {
+        IgniteInternalCheckedException readErr = new IgniteInternalCheckedException("Failed to read page");
+
+        PageReadWriteManager failingPageStoreManager = new PageReadWriteManager() {
+            @Override
+            public void read(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc) throws IgniteInternalCheckedException {
+                throw readErr;
+            }
+
+            @Override
+            public PageStore write(int grpId, long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) {
+                return fail("Should not happen");
+            }
+
+            @Override
+            public long allocatePage(int grpId, int partId, byte flags) {
+                return fail("Should not happen");
+            }
+        };
+
+        PageMemoryImpl pageMemoryImpl = createPageMemoryImpl(
+                defaultSegmentSizes(),
+                defaultCheckpointBufferSize(),
+                failingPageStoreManager,
+                mockCheckpointTimeoutLock(log, true)
+        );
+
+        pageMemoryImpl.start();
+
+        try {
+            long pageId = pageId(0, FLAG_DATA, 1);
+
+            long loadedPages = pageMemoryImpl.loadedPages();
+
+            // Both the asynchronous read and its synchronous retry fail, the page must not be left in the memory unverified.
+            pageMemoryImpl.prefetchPage(GRP_ID, pageId);
+
+            assertThat(pageMemoryImpl.loadedPages(), equalTo(loadedPages));
+
+            // The page is read again on acquiring, so the error is reported to the reader.
+            IgniteInternalCheckedException e = assertThrows(
+                    IgniteInternalCheckedException.class,
+                    () -> pageMemoryImpl.acquirePage(GRP_ID, pageId)
+            );
+
+            assertSame(readErr, e);
+        } finally {
+            pageMemoryImpl.stop(true);
+        }
+    }
+
     protected PageMemoryImpl createPageMemoryImpl(
             long[] segmentSizes,
             long checkpointBufferSize,
             @Nullable FilePageStoreManager filePageStoreManager,
             @Nullable CheckpointManager checkpointManager
+    ) {
+        return createPageMemoryImpl(
+                segmentSizes,
+                checkpointBufferSize,
+                filePageStoreManager == null ? new TestPageReadWriteManager() : filePageStoreManager,
+                checkpointManager == null ? mockCheckpointTimeoutLock(log, true) : checkpointManager.checkpointTimeoutLock()
+        );
+    }
+
+    private PageMemoryImpl createPageMemoryImpl(
+            long[] segmentSizes,
+            long checkpointBufferSize,
+            PageReadWriteManager pageStoreManager,
+            CheckpointTimeoutLock checkpointTimeoutLock
     ) {
         PageIoRegistry ioRegistry = new PageIoRegistry();
 
@@ -219,10 +374,10 @@ public class PageMemoryImplNoLoadTest extends PageMemoryNoLoadSelfTest {
                 ioRegistry,
                 segmentSizes,
                 checkpointBufferSize,
-                filePageStoreManager == null ? new TestPageReadWriteManager() : filePageStoreManager,
+                pageStoreManager,
                 null,
                 (fullPageId, buf, tag) -> fail("Should not happen"),
-                checkpointManager == null ? mockCheckpointTimeoutLock(log, true) : checkpointManager.checkpointTimeoutLock(),
+                checkpointTimeoutLock,
                 PAGE_SIZE
         );
     }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMillis;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -83,6 +84,24 @@ public class CheckpointMetricsTrackerTest {
         assertThat(tracker.dataPagesWritten(), equalTo(2));
     }
 
+    @Test
+    void testWriteThrottled() {
+        CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+        assertThat(tracker.writeThrottlingCount(), equalTo(0));
+        assertThat(tracker.writeThrottlingDuration(), equalTo(0L));
+
+        tracker.onWriteThrottled(MILLISECONDS.toNanos(10));
+
+        assertThat(tracker.writeThrottlingCount(), equalTo(1));
+        assertThat(tracker.writeThrottlingDuration(), equalTo(10L));
+
+        tracker.onWriteThrottled(MILLISECONDS.toNanos(5));
+
+        assertThat(tracker.writeThrottlingCount(), equalTo(2));
+        assertThat(tracker.writeThrottlingDuration(), equalTo(15L));
+    }
+
     @Test
     void testSplitAndSortCheckpointPages() throws Exception {
         CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
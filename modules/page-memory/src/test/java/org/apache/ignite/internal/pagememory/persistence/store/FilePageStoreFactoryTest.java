@@ -105,6 +105,6 @@ public class FilePageStoreFactoryTest {
     }
 
     private FilePageStoreFactory createFilePageStoreFactory() {
-        return new FilePageStoreFactory(new RandomAccessFileIoFactory(), PAGE_SIZE);
+        return new FilePageStoreFactory(new RandomAccessFileIoFactory(), PAGE_SIZE, null);
     }
 }
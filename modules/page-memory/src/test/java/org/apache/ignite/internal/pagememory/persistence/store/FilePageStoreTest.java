@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.pagememory.persistence.store;
 
 import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getCrc;
 import static org.apache.ignite.internal.pagememory.persistence.store.PageStore.TYPE_DATA;
@@ -43,6 +44,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.fileio.AsyncFileIoFactory;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
 import org.apache.ignite.internal.pagememory.TestPageIoModule.TestPageIo;
@@ -446,6 +448,238 @@ public class FilePageStoreTest {
         assertNotEquals(0, getCrc(readBuffer));
     }
 
+    @Test
+    void testReadAsync() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        FilePageStore filePageStore = new FilePageStore(TYPE_DATA, testFilePath, new AsyncFileIoFactory(), PAGE_SIZE);
+
+        filePageStore.ensure();
+
+        long expPageId = createPageId(filePageStore);
+
+        ByteBuffer pageByteBuffer = createPageByteBuffer();
+
+        pageByteBuffer.position(8).put(randomBytes(128));
+
+        filePageStore.write(expPageId, pageByteBuffer.rewind(), 0, true);
+
+        ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(pageByteBuffer.order());
+
+        assertTrue(filePageStore.readAsync(expPageId, readBuffer, false).get(1, SECONDS));
+        assertEquals(pageByteBuffer.rewind(), readBuffer.rewind());
+        assertEquals(0, getCrc(readBuffer));
+
+        // Page has been allocated, but not written yet.
+        long notWrittenPageId = createPageId(filePageStore);
+
+        readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(pageByteBuffer.order());
+
+        assertFalse(filePageStore.readAsync(notWrittenPageId, readBuffer, false).get(1, SECONDS));
+        assertEquals(ByteBuffer.allocate(PAGE_SIZE), readBuffer.rewind());
+
+        filePageStore.stop(false);
+    }
+
+    @Test
+    void testDeltaFiles() throws Exception {
+        Path testFilePath = workDir.resolve("part-0.bin");
+        Path deltaFilePath = workDir.resolve("part-0-delta-1.bin");
+
+        FilePageStore filePageStore = createFilePageStoreWithDeltaFiles(testFilePath);
+
+        filePageStore.ensure();
+
+        long pageId = createPageId(filePageStore);
+
+        ByteBuffer pageByteBuffer = createPageByteBuffer();
+
+        pageByteBuffer.position(8).put(randomBytes(128));
+
+        filePageStore.write(pageId, pageByteBuffer.rewind(), 0, true);
+
+        // The page goes to the delta file, the file itself contains only the header.
+        assertEquals(PAGE_SIZE, testFilePath.toFile().length());
+        assertTrue(Files.exists(deltaFilePath));
+        assertEquals(1, filePageStore.pages());
+
+        ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(pageByteBuffer.order());
+
+        assertTrue(filePageStore.read(pageId, readBuffer, false));
+        assertEquals(pageByteBuffer.rewind(), readBuffer.rewind());
+
+        assertEquals(0, filePageStore.deltaFilesCount());
+
+        filePageStore.sync();
+
+        assertEquals(1, filePageStore.deltaFilesCount());
+
+        readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(pageByteBuffer.order());
+
+        assertTrue(filePageStore.read(pageId, readBuffer, false));
+        assertEquals(pageByteBuffer.rewind(), readBuffer.rewind());
+
+        filePageStore.mergeDeltaFiles();
+
+        assertEquals(0, filePageStore.deltaFilesCount());
+        assertFalse(Files.exists(deltaFilePath));
+        assertEquals(2 * PAGE_SIZE, testFilePath.toFile().length());
+        assertEquals(1, filePageStore.pages());
+
+        readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(pageByteBuffer.order());
+
+        assertTrue(filePageStore.read(pageId, readBuffer, false));
+        assertEquals(pageByteBuffer.rewind(), readBuffer.rewind());
+
+        filePageStore.stop(false);
+    }
+
+    @Test
+    void testDeltaFilesAfterRestart() throws Exception {
+        Path testFilePath = workDir.resolve("part-0.bin");
+
+        FilePageStore filePageStore0 = createFilePageStoreWithDeltaFiles(testFilePath);
+
+        filePageStore0.ensure();
+
+        long pageId0 = createPageId(filePageStore0);
+        long pageId1 = createPageId(filePageStore0);
+
+        ByteBuffer pageByteBuffer0 = createPageByteBuffer();
+        ByteBuffer pageByteBuffer1 = createPageByteBuffer();
+
+        pageByteBuffer0.position(8).put(randomBytes(128));
+        pageByteBuffer1.position(8).put(randomBytes(128));
+
+        // Completed delta file.
+        filePageStore0.write(pageId0, pageByteBuffer0.rewind(), 0, true);
+        filePageStore0.sync();
+
+        // Delta file of an unfinished checkpoint.
+        filePageStore0.write(pageId1, pageByteBuffer1.rewind(), 0, true);
+
+        filePageStore0.stop(false);
+
+        assertTrue(Files.exists(workDir.resolve("part-0-delta-1.bin")));
+        assertTrue(Files.exists(workDir.resolve("part-0-delta-2.bin")));
+
+        FilePageStore filePageStore1 = createFilePageStoreWithDeltaFiles(testFilePath);
+
+        filePageStore1.ensure();
+
+        assertEquals(1, filePageStore1.deltaFilesCount());
+        assertFalse(Files.exists(workDir.resolve("part-0-delta-2.bin")));
+
+        // Only the pages of the completed delta file are taken into account.
+        assertEquals(1, filePageStore1.pages());
+
+        ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(pageByteBuffer0.order());
+
+        assertTrue(filePageStore1.read(pageId0, readBuffer, false));
+        assertEquals(pageByteBuffer0.rewind(), readBuffer.rewind());
+
+        filePageStore1.stop(true);
+
+        assertFalse(Files.exists(testFilePath));
+        assertFalse(Files.exists(workDir.resolve("part-0-delta-1.bin")));
+    }
+
+    @Test
+    void testDeltaFilesPagesAfterRestart() throws Exception {
+        Path testFilePath = workDir.resolve("part-0.bin");
+
+        FilePageStore filePageStore0 = createFilePageStoreWithDeltaFiles(testFilePath);
+
+        filePageStore0.ensure();
+
+        createPageId(filePageStore0);
+        createPageId(filePageStore0);
+
+        long pageId = createPageId(filePageStore0);
+
+        ByteBuffer pageByteBuffer = createPageByteBuffer();
+
+        pageByteBuffer.position(8).put(randomBytes(128));
+
+        // Only the last allocated page is written, and only to the delta file.
+        filePageStore0.write(pageId, pageByteBuffer.rewind(), 0, true);
+        filePageStore0.sync();
+
+        assertEquals(3, filePageStore0.pages());
+
+        filePageStore0.stop(false);
+
+        assertEquals(PAGE_SIZE, testFilePath.toFile().length());
+
+        FilePageStore filePageStore1 = createFilePageStoreWithDeltaFiles(testFilePath);
+
+        filePageStore1.ensure();
+
+        // The pages up to the last one of the completed delta file are counted even though the file contains none of them.
+        assertEquals(1, filePageStore1.deltaFilesCount());
+        assertEquals(3, filePageStore1.pages());
+
+        assertEquals(3, filePageStore1.allocatePage());
+        assertEquals(4, filePageStore1.pages());
+
+        filePageStore1.mergeDeltaFiles();
+
+        assertEquals(0, filePageStore1.deltaFilesCount());
+        assertEquals(4 * PAGE_SIZE, testFilePath.toFile().length());
+        assertEquals(4, filePageStore1.pages());
+
+        ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(pageByteBuffer.order());
+
+        assertTrue(filePageStore1.read(pageId, readBuffer, false));
+        assertEquals(pageByteBuffer.rewind(), readBuffer.rewind());
+
+        filePageStore1.stop(true);
+    }
+
+    @Test
+    void testReplaceFile() throws Exception {
+        Path testFilePath = workDir.resolve("part-0.bin");
+        Path srcFilePath = workDir.resolve("part-0-copy.bin");
+
+        FilePageStore filePageStore = createFilePageStoreWithDeltaFiles(testFilePath);
+        FilePageStore srcFilePageStore = createFilePageStoreWithDeltaFiles(srcFilePath);
+
+        filePageStore.ensure();
+        srcFilePageStore.ensure();
+
+        for (int i = 0; i < 3; i++) {
+            filePageStore.write(createPageId(filePageStore), createPageByteBuffer(), 0, true);
+        }
+
+        long srcPageId = createPageId(srcFilePageStore);
+
+        ByteBuffer srcPageByteBuffer = createPageByteBuffer();
+
+        srcPageByteBuffer.position(8).put(randomBytes(128));
+
+        srcFilePageStore.write(srcPageId, srcPageByteBuffer.rewind(), 0, true);
+
+        filePageStore.sync();
+        srcFilePageStore.sync();
+
+        filePageStore.replaceFile(srcFilePageStore);
+
+        assertFalse(Files.exists(srcFilePath));
+        assertEquals(0, filePageStore.deltaFilesCount());
+
+        filePageStore.ensure();
+
+        assertEquals(1, filePageStore.pages());
+        assertEquals(2 * PAGE_SIZE, testFilePath.toFile().length());
+
+        ByteBuffer readBuffer = ByteBuffer.allocate(PAGE_SIZE).order(srcPageByteBuffer.order());
+
+        assertTrue(filePageStore.read(srcPageId, readBuffer, false));
+        assertEquals(srcPageByteBuffer.rewind(), readBuffer.rewind());
+
+        filePageStore.stop(true);
+    }
+
     /**
      * Checks that if some part of the header is broken, then there will be an error when reading it.
      *
@@ -510,4 +744,9 @@ public class FilePageStoreTest {
     private static FilePageStore createFilePageStore(Path filePath) {
         return new FilePageStore(TYPE_DATA, filePath, new RandomAccessFileIoFactory(), PAGE_SIZE);
     }
+
+    private static FilePageStore createFilePageStoreWithDeltaFiles(Path filePath) {
+        // Delta files are merged only explicitly.
+        return new FilePageStore(TYPE_DATA, filePath, new RandomAccessFileIoFactory(), PAGE_SIZE, command -> {});
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.DIRTY_PAGES_RATIO_CHECKPOINT_REASON;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.MAX_PARK_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.STARTING_BACKOFF_PARK_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.backoffParkNanos;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.calculateParkNanos;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Consumer;
+import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link PagesWriteSpeedBasedThrottle} testing.
+ */
+public class PagesWriteSpeedBasedThrottleTest {
+    private static final long ONE_SECOND_NANOS = SECONDS.toNanos(1);
+
+    @Test
+    void testCalculateParkNanos() {
+        // Dirty pages reached the maximum.
+        assertThat(calculateParkNanos(1000, 1000, 100, 10, 100, 1, ONE_SECOND_NANOS), equalTo(MAX_PARK_NANOS));
+
+        // Checkpoint has not written anything yet.
+        assertThat(calculateParkNanos(500, 1000, 100, 0, 100, 1, ONE_SECOND_NANOS), equalTo(0L));
+
+        // Checkpoint has written all of its pages.
+        assertThat(calculateParkNanos(500, 1000, 100, 100, 100, 1, ONE_SECOND_NANOS), equalTo(0L));
+
+        // 90 pages left at 10 pages/s, 500 dirty pages may be added at 55.5 pages/s, marking at 50 pages/s.
+        assertThat(calculateParkNanos(500, 1000, 100, 10, 50, 1, ONE_SECOND_NANOS), equalTo(0L));
+
+        // Same as above, but marking at 100 pages/s: 1 / 55.5 - 1 / 100 = 8 ms per page.
+        assertThat(
+                calculateParkNanos(500, 1000, 100, 10, 100, 1, ONE_SECOND_NANOS),
+                allOf(greaterThan(7_900_000L), lessThanOrEqualTo(8_000_000L))
+        );
+
+        // The same total speed is shared by 4 threads, each of them should be parked 4 times longer.
+        assertThat(
+                calculateParkNanos(500, 1000, 100, 10, 100, 4, ONE_SECOND_NANOS),
+                allOf(greaterThan(31_900_000L), lessThanOrEqualTo(32_000_000L))
+        );
+
+        // Too slow checkpoint.
+        assertThat(calculateParkNanos(999, 1000, 1_000_000, 1, 1000, 1, ONE_SECOND_NANOS), equalTo(MAX_PARK_NANOS));
+    }
+
+    @Test
+    void testBackoffParkNanos() {
+        assertThat(backoffParkNanos(0), equalTo(STARTING_BACKOFF_PARK_NANOS));
+
+        assertThat(backoffParkNanos(10), greaterThan(backoffParkNanos(9)));
+
+        assertThat(backoffParkNanos(Integer.MAX_VALUE), equalTo(MAX_PARK_NANOS));
+    }
+
+    @Test
+    void testDirtyPagesRatioCheckpointTrigger() {
+        PageMemoryImpl pageMemory = mock(PageMemoryImpl.class);
+
+        when(pageMemory.totalPages()).thenReturn(100L);
+        when(pageMemory.maxDirtyPages()).thenReturn(75L);
+
+        Consumer<String> checkpointTrigger = mock(Consumer.class);
+
+        PagesWriteSpeedBasedThrottle throttle = new PagesWriteSpeedBasedThrottle(pageMemory, () -> null, () -> null, checkpointTrigger, 0.5);
+
+        when(pageMemory.dirtyPagesCount()).thenReturn(49L);
+
+        throttle.onMarkDirty(false);
+
+        verify(checkpointTrigger, never()).accept(anyString());
+
+        when(pageMemory.dirtyPagesCount()).thenReturn(50L);
+
+        throttle.onMarkDirty(false);
+
+        verify(checkpointTrigger, times(1)).accept(DIRTY_PAGES_RATIO_CHECKPOINT_REASON);
+    }
+
+    @Test
+    void testNoThrottlingWithoutCheckpoint() {
+        PageMemoryImpl pageMemory = mock(PageMemoryImpl.class);
+
+        when(pageMemory.totalPages()).thenReturn(100L);
+        when(pageMemory.maxDirtyPages()).thenReturn(75L);
+        when(pageMemory.dirtyPagesCount()).thenReturn(75L);
+
+        CheckpointMetricsTracker tracker = mock(CheckpointMetricsTracker.class);
+
+        PagesWriteSpeedBasedThrottle throttle = new PagesWriteSpeedBasedThrottle(pageMemory, () -> null, () -> tracker, reason -> {}, 0);
+
+        throttle.onMarkDirty(false);
+
+        verify(tracker, never()).onWriteThrottled(anyLong());
+    }
+
+    @Test
+    void testCheckpointBufferThrottling() {
+        PageMemoryImpl pageMemory = mock(PageMemoryImpl.class);
+
+        when(pageMemory.maxCheckpointBufferPages()).thenReturn(90);
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(60);
+
+        CheckpointMetricsTracker tracker = mock(CheckpointMetricsTracker.class);
+
+        PagesWriteSpeedBasedThrottle throttle = new PagesWriteSpeedBasedThrottle(pageMemory, () -> null, () -> tracker, reason -> {}, 0);
+
+        throttle.onMarkDirty(true);
+
+        verify(tracker, never()).onWriteThrottled(anyLong());
+
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(61);
+
+        // Pages not from the checkpoint are not copied to the checkpoint buffer.
+        throttle.onMarkDirty(false);
+
+        verify(tracker, never()).onWriteThrottled(anyLong());
+
+        throttle.onMarkDirty(true);
+
+        verify(tracker, times(1)).onWriteThrottled(anyLong());
+    }
+}
@@ -21,6 +21,7 @@ import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.raft.client.Command;
 import org.apache.ignite.raft.client.ReadCommand;
 import org.apache.ignite.raft.client.WriteCommand;
@@ -69,6 +70,28 @@ public interface RaftGroupListener {
      */
     boolean onSnapshotLoad(Path path);
 
+    /**
+     * The callback to stream a snapshot to a node installing it, instead of copying the snapshot files. Can be called
+     * concurrently with the command callbacks.
+     *
+     * @param path Snapshot directory, previously filled by the {@link #onSnapshotSave}.
+     * @return Cursor over the snapshot entries or {@code null} if snapshot streaming is not supported.
+     */
+    default @Nullable Cursor<byte[]> onSnapshotStream(Path path) {
+        return null;
+    }
+
+    /**
+     * The callback to save a snapshot streamed by the {@link #onSnapshotStream} of the leader. The snapshot is loaded with the
+     * {@link #onSnapshotLoad} afterwards.
+     *
+     * @param path    Snapshot directory to store data.
+     * @param entries Snapshot entries in the order of the stream. The iterator blocks until the next entry is received.
+     */
+    default void onSnapshotReceive(Path path, Iterator<byte[]> entries) {
+        throw new UnsupportedOperationException("Snapshot streaming is not supported: " + getClass().getName());
+    }
+
     /**
      * Invoked once after a raft node has been shut down.
      */
@@ -251,6 +251,20 @@ public interface RaftGroupService {
      */
     <R> CompletableFuture<R> run(Peer peer, ReadCommand cmd);
 
+    /**
+     * Runs a read command on a given peer, which may be a follower or a learner.
+     *
+     * <p>The read sees the state of the group at most {@code maxStalenessMs} in the past. A peer which lags behind the leader
+     * for longer serves the read as a linearizable one.
+     *
+     * @param peer           Peer id.
+     * @param cmd            The command.
+     * @param maxStalenessMs Max staleness of the read in milliseconds.
+     * @param <R>            Execution result type.
+     * @return A future with the execution result.
+     */
+    <R> CompletableFuture<R> run(Peer peer, ReadCommand cmd, long maxStalenessMs);
+
     /**
      * Shutdown and cleanup resources for this instance.
      */
@@ -3769,6 +3769,95 @@ public class ItNodeTest {
         assertTrue(res.get().isOk());
     }
 
+    /**
+     * Tests that a lease read is served without a heartbeat round while the lease shortened by the max clock drift is valid.
+     */
+    @Test
+    public void testLeaseReadWithClockDrift() throws Exception {
+        checkLeaseReadClockDrift(100, true);
+    }
+
+    /**
+     * Tests that a lease read falls back to ReadIndex when the max clock drift leaves no time in the lease.
+     */
+    @Test
+    public void testLeaseReadFallbackWithClockDrift() throws Exception {
+        checkLeaseReadClockDrift(3_000 * 90 / 100 - 1, false);
+    }
+
+    private void checkLeaseReadClockDrift(int maxClockDriftMs, boolean leaseRead) throws Exception {
+        List<PeerId> peers = TestUtils.generatePeers(3);
+        cluster = new TestCluster("unittest", dataPath, peers, new LinkedHashSet<>(), 3_000,
+            opts -> opts.setMaxClockDriftMs(maxClockDriftMs), testInfo);
+
+        for (PeerId peer : peers) {
+            RaftOptions opts = new RaftOptions();
+            opts.setReadOnlyOptions(ReadOnlyOption.ReadOnlyLeaseBased);
+            assertTrue(cluster.start(peer.getEndpoint(), false, 300, true, null, opts));
+        }
+
+        cluster.waitLeader();
+
+        Node leader = cluster.getLeader();
+        assertNotNull(leader);
+
+        sendTestTaskAndWait(leader);
+
+        CompletableFuture<Status> res = new CompletableFuture<>();
+
+        leader.readIndex(null, new ReadIndexClosure() {
+            @Override public void run(Status status, long index, byte[] reqCtx) {
+                res.complete(status);
+            }
+        });
+
+        assertTrue(res.get().isOk());
+
+        long hits = leader.getNodeMetrics().getMetricRegistry().counter("read-index-lease-hit").getCount();
+        long fallbacks = leader.getNodeMetrics().getMetricRegistry().counter("read-index-lease-fallback").getCount();
+
+        assertEquals(leaseRead ? 1 : 0, hits);
+        assertEquals(leaseRead ? 0 : 1, fallbacks);
+    }
+
+    /**
+     * Tests that a follower serves stale reads while it has recently heard from the leader.
+     */
+    @Test
+    public void testFollowerStaleRead() throws Exception {
+        List<PeerId> peers = TestUtils.generatePeers(3);
+        cluster = new TestCluster("unittest", dataPath, peers, 3_000, testInfo);
+
+        for (PeerId peer : peers)
+            assertTrue(cluster.start(peer.getEndpoint()));
+
+        cluster.waitLeader();
+
+        NodeImpl leader = (NodeImpl) cluster.getLeader();
+        assertNotNull(leader);
+
+        sendTestTaskAndWait(leader);
+
+        cluster.ensureSame();
+
+        Node follower = cluster.getFollowers().get(0);
+
+        assertTrue(follower.isStaleReadAllowed(10_000));
+
+        RpcClientEx rpcClientEx = (RpcClientEx) ((DefaultRaftClientService) leader.getRpcClientService()).getRpcClient();
+
+        // Isolate the leader from the followers.
+        rpcClientEx.blockMessages((msg, nodeId) -> true);
+
+        Thread.sleep(1_000);
+
+        // The follower has not heard from the leader for too long, but the election timeout has not elapsed yet.
+        assertFalse(follower.isStaleReadAllowed(500));
+        assertTrue(follower.isStaleReadAllowed(10_000));
+
+        rpcClientEx.stopBlock();
+    }
+
     private NodeOptions createNodeOptions(int nodeIdx) {
         NodeOptions options = new NodeOptions();
 
@@ -31,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.codahale.metrics.Gauge;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -51,6 +52,8 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.ignite.internal.raft.Loza;
+import org.apache.ignite.internal.raft.server.RaftGroupEventsListener;
+import org.apache.ignite.internal.raft.server.RaftGroupOptions;
 import org.apache.ignite.internal.raft.server.RaftServer;
 import org.apache.ignite.internal.raft.server.impl.JraftServerImpl;
 import org.apache.ignite.internal.testframework.WorkDirectory;
@@ -71,6 +74,7 @@ import org.apache.ignite.raft.jraft.core.StateMachineAdapter;
 import org.apache.ignite.raft.jraft.option.NodeOptions;
 import org.apache.ignite.raft.jraft.rpc.impl.RaftException;
 import org.apache.ignite.raft.jraft.rpc.impl.RaftGroupServiceImpl;
+import org.apache.ignite.raft.jraft.storage.snapshot.Snapshot;
 import org.apache.ignite.raft.jraft.test.TestUtils;
 import org.apache.ignite.raft.jraft.util.ExecutorServiceHelper;
 import org.jetbrains.annotations.NotNull;
@@ -377,6 +381,25 @@ class ItJraftCounterServerTest extends RaftServerAbstractTest {
         assertEquals(7, client2.<Long>run(new GetValueCommand()).get());
     }
 
+    @Test
+    public void testCoalescedHeartbeats() throws Exception {
+        startCluster();
+
+        clients.get(0).refreshLeader().get();
+        clients.get(1).refreshLeader().get();
+
+        assertTrue(waitForCondition(() -> servers.stream().mapToLong(srv -> heartbeatMetric(srv, "coalesced-heartbeats")).sum() > 0,
+                5_000));
+
+        for (JraftServerImpl server : servers) {
+            assertTrue(heartbeatMetric(server, "heartbeat-messages-sent") <= heartbeatMetric(server, "coalesced-heartbeats"));
+        }
+    }
+
+    private static long heartbeatMetric(JraftServerImpl server, String name) {
+        return ((Gauge<Long>) server.heartbeatMetrics().get(name)).getValue();
+    }
+
     @Test
     public void testCreateSnapshot() throws Exception {
         startCluster();
@@ -417,6 +440,81 @@ class ItJraftCounterServerTest extends RaftServerAbstractTest {
         }
     }
 
+    @Test
+    public void testSnapshotByAppliedEntries() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            startServer(i, raftServer -> {
+                raftServer.startRaftGroup(COUNTER_GROUP_0, RaftGroupEventsListener.noopLsnr, listenerFactory.get(), INITIAL_CONF,
+                        RaftGroupOptions.defaults().snapshotLogIndexThreshold(5));
+            }, opts -> {});
+        }
+
+        RaftGroupService client = startClient(COUNTER_GROUP_0);
+
+        client.refreshLeader().get();
+
+        applyIncrements(client, 1, 10);
+
+        for (JraftServerImpl server : servers) {
+            Path snapshotDir = server.getServerDataPath(COUNTER_GROUP_0).resolve("snapshot");
+
+            assertTrue(waitForCondition(() -> hasSnapshot(snapshotDir), 5_000));
+        }
+    }
+
+    @Test
+    public void testReplayMetrics() throws Exception {
+        startCluster();
+
+        RaftGroupService client1 = clients.get(0);
+
+        client1.refreshLeader().get();
+
+        Peer leader = client1.leader();
+
+        applyIncrements(client1, 1, 10);
+
+        JraftServerImpl toStop = servers.stream()
+                .filter(srv -> !srv.localPeer(COUNTER_GROUP_0).equals(leader))
+                .findFirst()
+                .orElseThrow();
+
+        int stopIdx = servers.indexOf(toStop);
+
+        toStop.stopRaftGroup(COUNTER_GROUP_0);
+        toStop.stopRaftGroup(COUNTER_GROUP_1);
+
+        toStop.beforeNodeStop();
+
+        toStop.stop();
+
+        JraftServerImpl restarted = startServer(stopIdx, r -> {
+            r.startRaftGroup(COUNTER_GROUP_0, listenerFactory.get(), INITIAL_CONF);
+            r.startRaftGroup(COUNTER_GROUP_1, listenerFactory.get(), INITIAL_CONF);
+        }, opts -> {});
+
+        // The log of the restarted node has all the increments, none of which is in a snapshot.
+        assertTrue(replayMetric(restarted, COUNTER_GROUP_0 + ".replay-target-index") >= 10);
+
+        assertTrue(waitForCondition(() -> replayMetric(restarted, COUNTER_GROUP_0 + ".replay-remaining-entries") == 0, 5_000));
+        assertTrue(waitForCondition(() -> validateStateMachine(sum(10), restarted, COUNTER_GROUP_0), 5_000));
+
+        assertTrue(replayMetric(restarted, COUNTER_GROUP_0 + ".replay-applied-index")
+                >= replayMetric(restarted, COUNTER_GROUP_0 + ".replay-target-index"));
+    }
+
+    private static long replayMetric(JraftServerImpl server, String name) {
+        return ((Gauge<Long>) server.replayMetrics().get(name)).getValue();
+    }
+
+    private static boolean hasSnapshot(Path snapshotDir) {
+        try (Stream<Path> files = Files.list(snapshotDir)) {
+            return files.anyMatch(file -> file.getFileName().toString().startsWith(Snapshot.JRAFT_SNAPSHOT_PREFIX));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     @Test
     public void testCreateSnapshotGracefulFailure() throws Exception {
         listenerFactory = () -> new CounterListener() {
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.server;
+
+import static org.apache.ignite.raft.jraft.test.TestUtils.getLocalAddress;
+import static org.apache.ignite.raft.jraft.test.TestUtils.waitForTopology;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.raft.Loza;
+import org.apache.ignite.internal.raft.server.RaftGroupEventsListener;
+import org.apache.ignite.internal.raft.server.RaftGroupOptions;
+import org.apache.ignite.internal.raft.server.impl.JraftServerImpl;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.network.ClusterService;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.network.StaticNodeFinder;
+import org.apache.ignite.raft.client.Peer;
+import org.apache.ignite.raft.client.service.RaftGroupService;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.rpc.impl.RaftGroupServiceImpl;
+import org.apache.ignite.utils.ClusterServiceTestUtils;
+import org.junit.jupiter.api.TestInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Latency of linearizable point reads from a three-node raft group, served either under the leader lease or through
+ * the ReadIndex protocol. Use the {@code p0.99} row of the sample time output to compare the tails.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class RaftPointReadBenchmark {
+    /** Group name. */
+    private static final String GROUP = "readBenchmark";
+
+    /** The server port offset. */
+    private static final int PORT = 5103;
+
+    /** The client port. */
+    private static final int CLIENT_PORT = 6103;
+
+    /** Test info used to name the nodes. */
+    private static final TestInfo BENCHMARK_INFO = new TestInfo() {
+        @Override
+        public String getDisplayName() {
+            return RaftPointReadBenchmark.class.getSimpleName();
+        }
+
+        @Override
+        public Set<String> getTags() {
+            return Set.of();
+        }
+
+        @Override
+        public Optional<Class<?>> getTestClass() {
+            return Optional.of(RaftPointReadBenchmark.class);
+        }
+
+        @Override
+        public Optional<Method> getTestMethod() {
+            return Optional.empty();
+        }
+    };
+
+    /** Whether the reads are served under the leader lease. */
+    @Param({"true", "false"})
+    private boolean leaseReads;
+
+    /** Cluster services. */
+    private final List<ClusterService> services = new ArrayList<>();
+
+    /** Servers. */
+    private final List<JraftServerImpl> servers = new ArrayList<>();
+
+    /** Data path. */
+    private Path dataPath;
+
+    /** Executor for the raft group service. */
+    private ScheduledExecutorService executor;
+
+    /** Raft group client. */
+    private RaftGroupService client;
+
+    /**
+     * Starts the raft group and its client.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        dataPath = Files.createTempDirectory("raft-read-benchmark");
+
+        executor = new ScheduledThreadPoolExecutor(20, new NamedThreadFactory(Loza.CLIENT_POOL_NAME));
+
+        List<NetworkAddress> addrs = IntStream.range(0, 3)
+                .mapToObj(i -> new NetworkAddress(getLocalAddress(), PORT + i))
+                .collect(Collectors.toList());
+
+        List<Peer> peers = addrs.stream().map(Peer::new).collect(Collectors.toList());
+
+        for (int i = 0; i < addrs.size(); i++) {
+            ClusterService service = clusterService(PORT + i, addrs);
+
+            var server = new JraftServerImpl(service, dataPath.resolve("node" + i));
+
+            server.start();
+
+            server.startRaftGroup(GROUP, RaftGroupEventsListener.noopLsnr, new CounterListener(), peers,
+                    RaftGroupOptions.defaults().leaseReads(leaseReads));
+
+            servers.add(server);
+        }
+
+        ClusterService clientService = clusterService(CLIENT_PORT, addrs);
+
+        waitForTopology(clientService, addrs.size() + 1, 15_000);
+
+        client = RaftGroupServiceImpl.start(GROUP, clientService, new RaftMessagesFactory(), 10_000, peers, true, 200,
+                executor).get(10, TimeUnit.SECONDS);
+
+        client.run(new IncrementAndGetCommand(1)).get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the group and the cluster.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        client.shutdown();
+
+        for (JraftServerImpl server : servers) {
+            server.stopRaftGroup(GROUP);
+
+            server.beforeNodeStop();
+
+            server.stop();
+        }
+
+        services.forEach(ClusterService::stop);
+
+        IgniteUtils.shutdownAndAwaitTermination(executor, 10, TimeUnit.SECONDS);
+
+        IgniteUtils.deleteIfExists(dataPath);
+    }
+
+    /**
+     * Linearizable point read.
+     */
+    @Benchmark
+    public Object read() throws Exception {
+        return client.run(new GetValueCommand()).get();
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(RaftPointReadBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    private ClusterService clusterService(int port, List<NetworkAddress> servers) {
+        ClusterService service = ClusterServiceTestUtils.clusterService(BENCHMARK_INFO, port, new StaticNodeFinder(servers));
+
+        service.start();
+
+        services.add(service);
+
+        return service;
+    }
+}
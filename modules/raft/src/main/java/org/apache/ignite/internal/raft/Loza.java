@@ -17,11 +17,19 @@
 
 package org.apache.ignite.internal.raft;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -30,6 +38,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.manager.IgniteComponent;
 import org.apache.ignite.internal.raft.server.RaftGroupEventsListener;
+import org.apache.ignite.internal.raft.server.RaftGroupOptions;
 import org.apache.ignite.internal.raft.server.RaftServer;
 import org.apache.ignite.internal.raft.server.impl.JraftServerImpl;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
@@ -61,6 +70,12 @@ public class Loza implements IgniteComponent {
     /** Raft client pool size. Size was taken from jraft's TimeManager. */
     private static final int CLIENT_POOL_SIZE = Math.min(Utils.cpus() * 3, 20);
 
+    /** Raft group start pool name. */
+    public static final String GROUP_START_POOL_NAME = "Raft-Group-Start";
+
+    /** Raft group start pool size, bounds the number of groups loading their snapshots at once. */
+    static final int GROUP_START_POOL_SIZE = Math.min(Utils.cpus(), 8);
+
     /** Timeout. */
     private static final int RETRY_TIMEOUT = 10000;
 
@@ -79,6 +94,12 @@ public class Loza implements IgniteComponent {
     /** Executor for raft group services. */
     private final ScheduledExecutorService executor;
 
+    /** Executor starting the local nodes of the raft groups updated by {@link #updateRaftGroup}. */
+    private final ExecutorService groupStartExecutor;
+
+    /** Local node starts of the raft groups that are queued or running on {@link #groupStartExecutor}, by group id. */
+    private final ConcurrentMap<String, CompletableFuture<Void>> pendingGroupStarts = new ConcurrentHashMap<>();
+
     /** Busy lock to stop synchronously. */
     private final IgniteSpinBusyLock busyLock = new IgniteSpinBusyLock();
 
@@ -101,6 +122,12 @@ public class Loza implements IgniteComponent {
                         CLIENT_POOL_NAME)
                 )
         );
+
+        this.groupStartExecutor = Executors.newFixedThreadPool(GROUP_START_POOL_SIZE,
+                new NamedThreadFactory(NamedThreadFactory.threadPrefix(clusterNetSvc.localConfiguration().getName(),
+                        GROUP_START_POOL_NAME)
+                )
+        );
     }
 
     /**
@@ -119,6 +146,12 @@ public class Loza implements IgniteComponent {
                         CLIENT_POOL_NAME)
                 )
         );
+
+        this.groupStartExecutor = Executors.newFixedThreadPool(GROUP_START_POOL_SIZE,
+                new NamedThreadFactory(NamedThreadFactory.threadPrefix(clusterNetSvc.localConfiguration().getName(),
+                        GROUP_START_POOL_NAME)
+                )
+        );
     }
 
     /** {@inheritDoc} */
@@ -136,6 +169,8 @@ public class Loza implements IgniteComponent {
 
         busyLock.block();
 
+        IgniteUtils.shutdownAndAwaitTermination(groupStartExecutor, 10, TimeUnit.SECONDS);
+
         IgniteUtils.shutdownAndAwaitTermination(executor, 10, TimeUnit.SECONDS);
 
         raftServer.stop();
@@ -217,6 +252,7 @@ public class Loza implements IgniteComponent {
      * @param deltaNodes              New raft group nodes.
      * @param lsnrSupplier            Raft group listener supplier.
      * @param raftGrpEvtsLsnrSupplier Raft group events listener supplier.
+     * @param groupOptions            Options of the raft group.
      * @throws NodeStoppingException If node stopping intention was detected.
      */
     public void startRaftGroupNode(
@@ -224,7 +260,8 @@ public class Loza implements IgniteComponent {
             Collection<ClusterNode> nodes,
             Collection<ClusterNode> deltaNodes,
             Supplier<RaftGroupListener> lsnrSupplier,
-            Supplier<RaftGroupEventsListener> raftGrpEvtsLsnrSupplier) throws NodeStoppingException {
+            Supplier<RaftGroupEventsListener> raftGrpEvtsLsnrSupplier,
+            RaftGroupOptions groupOptions) throws NodeStoppingException {
         assert !nodes.isEmpty();
 
         if (!busyLock.enterBusy()) {
@@ -237,7 +274,7 @@ public class Loza implements IgniteComponent {
             String locNodeName = clusterNetSvc.topologyService().localMember().name();
 
             if (deltaNodes.stream().anyMatch(n -> locNodeName.equals(n.name()))) {
-                if (!raftServer.startRaftGroup(grpId, raftGrpEvtsLsnrSupplier.get(), lsnrSupplier.get(), peers)) {
+                if (!raftServer.startRaftGroup(grpId, raftGrpEvtsLsnrSupplier.get(), lsnrSupplier.get(), peers, groupOptions)) {
                     throw new IgniteInternalException(IgniteStringFormatter.format(
                             "Raft group on the node is already started [node={}, raftGrp={}]",
                             locNodeName,
@@ -252,13 +289,15 @@ public class Loza implements IgniteComponent {
 
     /**
      * Creates a raft group service providing operations on a raft group. If {@code deltaNodes} contains the current node, then raft group
-     * starts on the current node.
+     * starts on the current node. Local nodes are started asynchronously on a bounded pool, so the groups of a node restart in parallel
+     * without loading all of their snapshots at once.
      *
      * @param grpId                   Raft group id.
      * @param nodes                   Full set of raft group nodes.
      * @param deltaNodes              New raft group nodes.
      * @param lsnrSupplier            Raft group listener supplier.
      * @param raftGrpEvtsLsnrSupplier Raft group events listener supplier.
+     * @param groupOptions            Options of the raft group.
      * @return Future representing pending completion of the operation.
      * @throws NodeStoppingException If node stopping intention was detected.
      */
@@ -267,14 +306,15 @@ public class Loza implements IgniteComponent {
             Collection<ClusterNode> nodes,
             Collection<ClusterNode> deltaNodes,
             Supplier<RaftGroupListener> lsnrSupplier,
-            Supplier<RaftGroupEventsListener> raftGrpEvtsLsnrSupplier
+            Supplier<RaftGroupEventsListener> raftGrpEvtsLsnrSupplier,
+            RaftGroupOptions groupOptions
     ) throws NodeStoppingException {
         if (!busyLock.enterBusy()) {
             throw new NodeStoppingException();
         }
 
         try {
-            return updateRaftGroupInternal(grpId, nodes, deltaNodes, lsnrSupplier, raftGrpEvtsLsnrSupplier);
+            return updateRaftGroupInternal(grpId, nodes, deltaNodes, lsnrSupplier, raftGrpEvtsLsnrSupplier, groupOptions);
         } finally {
             busyLock.leaveBusy();
         }
@@ -288,6 +328,7 @@ public class Loza implements IgniteComponent {
      * @param deltaNodes              New raft group nodes.
      * @param lsnrSupplier            Raft group listener supplier.
      * @param raftGrpEvtsLsnrSupplier Raft group events listener supplier.
+     * @param groupOptions            Options of the raft group.
      * @return Future representing pending completion of the operation.
      */
     private CompletableFuture<RaftGroupService> updateRaftGroupInternal(
@@ -295,24 +336,40 @@ public class Loza implements IgniteComponent {
             Collection<ClusterNode> nodes,
             Collection<ClusterNode> deltaNodes,
             Supplier<RaftGroupListener> lsnrSupplier,
-            Supplier<RaftGroupEventsListener> raftGrpEvtsLsnrSupplier) {
+            Supplier<RaftGroupEventsListener> raftGrpEvtsLsnrSupplier,
+            RaftGroupOptions groupOptions) {
         assert !nodes.isEmpty();
 
         List<Peer> peers = nodes.stream().map(n -> new Peer(n.address())).collect(Collectors.toList());
 
         String locNodeName = clusterNetSvc.topologyService().localMember().name();
 
+        CompletableFuture<Void> localStartFut = completedFuture(null);
+
         if (deltaNodes.stream().anyMatch(n -> locNodeName.equals(n.name()))) {
-            if (!raftServer.startRaftGroup(grpId,  raftGrpEvtsLsnrSupplier.get(), lsnrSupplier.get(), peers)) {
-                throw new IgniteInternalException(IgniteStringFormatter.format(
+            CompletableFuture<Void> startFut = new CompletableFuture<>();
+
+            if (pendingGroupStarts.putIfAbsent(grpId, startFut) != null) {
+                return failedFuture(new IgniteInternalException(IgniteStringFormatter.format(
                         "Raft group on the node is already started [node={}, raftGrp={}]",
                         locNodeName,
                         grpId
-                ));
+                )));
+            }
+
+            try {
+                groupStartExecutor.execute(() -> startLocalRaftNode(grpId, peers, lsnrSupplier, raftGrpEvtsLsnrSupplier, groupOptions,
+                        startFut));
+            } catch (RejectedExecutionException e) {
+                pendingGroupStarts.remove(grpId, startFut);
+
+                startFut.completeExceptionally(new NodeStoppingException());
             }
+
+            localStartFut = startFut;
         }
 
-        return RaftGroupServiceImpl.start(
+        return localStartFut.thenCompose(v -> RaftGroupServiceImpl.start(
                 grpId,
                 clusterNetSvc,
                 FACTORY,
@@ -322,11 +379,62 @@ public class Loza implements IgniteComponent {
                 true,
                 DELAY,
                 executor
-        );
+        ));
     }
 
     /**
-     * Stops a raft group on the current node.
+     * Starts the local node of a raft group on {@link #groupStartExecutor}, unless the start is cancelled by {@link #stopRaftGroup}.
+     *
+     * @param grpId                   Raft group id.
+     * @param peers                   Raft group peers.
+     * @param lsnrSupplier            Raft group listener supplier.
+     * @param raftGrpEvtsLsnrSupplier Raft group events listener supplier.
+     * @param groupOptions            Options of the raft group.
+     * @param startFut                Future of the start, registered in {@link #pendingGroupStarts}.
+     */
+    private void startLocalRaftNode(
+            String grpId,
+            List<Peer> peers,
+            Supplier<RaftGroupListener> lsnrSupplier,
+            Supplier<RaftGroupEventsListener> raftGrpEvtsLsnrSupplier,
+            RaftGroupOptions groupOptions,
+            CompletableFuture<Void> startFut
+    ) {
+        try {
+            // A stop of the group waits on the monitor, so it either cancels the start before it begins or stops the started group.
+            synchronized (startFut) {
+                if (startFut.isDone()) {
+                    return;
+                }
+
+                if (!busyLock.enterBusy()) {
+                    throw new NodeStoppingException();
+                }
+
+                try {
+                    if (!raftServer.startRaftGroup(grpId, raftGrpEvtsLsnrSupplier.get(), lsnrSupplier.get(), peers, groupOptions)) {
+                        throw new IgniteInternalException(IgniteStringFormatter.format(
+                                "Raft group on the node is already started [node={}, raftGrp={}]",
+                                clusterNetSvc.topologyService().localMember().name(),
+                                grpId
+                        ));
+                    }
+                } finally {
+                    busyLock.leaveBusy();
+                }
+            }
+
+            // Completed outside of the monitor, so the dependent actions don't delay a stop of the group.
+            startFut.complete(null);
+        } catch (Throwable e) {
+            startFut.completeExceptionally(e);
+        } finally {
+            pendingGroupStarts.remove(grpId, startFut);
+        }
+    }
+
+    /**
+     * Stops a raft group on the current node. A pending start of the group is cancelled, or waited for if it is already running.
      *
      * @param groupId Raft group id.
      * @throws NodeStoppingException If node stopping intention was detected.
@@ -337,6 +445,17 @@ public class Loza implements IgniteComponent {
         }
 
         try {
+            CompletableFuture<Void> startFut = pendingGroupStarts.get(groupId);
+
+            if (startFut != null) {
+                synchronized (startFut) {
+                    startFut.cancel(false);
+
+                    // The cancelled task may stay queued for long, the group must be startable again right after the stop.
+                    pendingGroupStarts.remove(groupId, startFut);
+                }
+            }
+
             raftServer.stopRaftGroup(groupId);
         } finally {
             busyLock.leaveBusy();
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.server;
+
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Options of a single raft group, which override the server-wide defaults.
+ */
+public class RaftGroupOptions {
+    /** Default upper bound of the clock drift between the group members in milliseconds. */
+    public static final int DEFAULT_MAX_CLOCK_DRIFT_MS = 100;
+
+    /**
+     * Whether the leader serves linearizable reads under its lease. If the lease has expired, the read falls back to the
+     * ReadIndex protocol.
+     */
+    private boolean leaseReads;
+
+    /** Leader lease duration as a percentage of the election timeout, {@code null} to use the server default. */
+    @Nullable
+    private Integer leaderLeaseTimeRatio;
+
+    /** Upper bound of the clock drift between the group members in milliseconds. */
+    private int maxClockDriftMs = DEFAULT_MAX_CLOCK_DRIFT_MS;
+
+    /**
+     * Number of log entries applied since the last snapshot which triggers a new one, {@code 0} to snapshot by the timer
+     * only. Bounds the log replayed on restart.
+     */
+    private int snapshotLogIndexThreshold;
+
+    /**
+     * Returns options with all values set to their defaults.
+     */
+    public static RaftGroupOptions defaults() {
+        return new RaftGroupOptions();
+    }
+
+    /**
+     * Returns {@code true} if the leader serves linearizable reads under its lease.
+     */
+    public boolean leaseReads() {
+        return leaseReads;
+    }
+
+    /**
+     * Sets whether the leader serves linearizable reads under its lease.
+     *
+     * @param leaseReads Lease reads flag.
+     * @return This options.
+     */
+    public RaftGroupOptions leaseReads(boolean leaseReads) {
+        this.leaseReads = leaseReads;
+
+        return this;
+    }
+
+    /**
+     * Returns the leader lease duration as a percentage of the election timeout, {@code null} if the server default is used.
+     */
+    public @Nullable Integer leaderLeaseTimeRatio() {
+        return leaderLeaseTimeRatio;
+    }
+
+    /**
+     * Sets the leader lease duration as a percentage of the election timeout.
+     *
+     * @param leaderLeaseTimeRatio Lease ratio, in {@code (0, 100]}.
+     * @return This options.
+     */
+    public RaftGroupOptions leaderLeaseTimeRatio(int leaderLeaseTimeRatio) {
+        if (leaderLeaseTimeRatio <= 0 || leaderLeaseTimeRatio > 100) {
+            throw new IllegalArgumentException("Leader lease time ratio must be in (0, 100]: " + leaderLeaseTimeRatio);
+        }
+
+        this.leaderLeaseTimeRatio = leaderLeaseTimeRatio;
+
+        return this;
+    }
+
+    /**
+     * Returns the upper bound of the clock drift between the group members in milliseconds.
+     */
+    public int maxClockDriftMs() {
+        return maxClockDriftMs;
+    }
+
+    /**
+     * Sets the upper bound of the clock drift between the group members. Lease reads stop this long before the lease
+     * expires.
+     *
+     * @param maxClockDriftMs Max clock drift in milliseconds.
+     * @return This options.
+     */
+    public RaftGroupOptions maxClockDriftMs(int maxClockDriftMs) {
+        if (maxClockDriftMs < 0) {
+            throw new IllegalArgumentException("Max clock drift must not be negative: " + maxClockDriftMs);
+        }
+
+        this.maxClockDriftMs = maxClockDriftMs;
+
+        return this;
+    }
+
+    /**
+     * Returns the number of log entries applied since the last snapshot which triggers a new one, {@code 0} if snapshots are
+     * only taken by the timer.
+     */
+    public int snapshotLogIndexThreshold() {
+        return snapshotLogIndexThreshold;
+    }
+
+    /**
+     * Sets the number of log entries applied since the last snapshot which triggers a new one. A restart replays at most
+     * about this many entries on top of the snapshot.
+     *
+     * @param snapshotLogIndexThreshold Number of applied entries, {@code 0} to snapshot by the timer only.
+     * @return This options.
+     */
+    public RaftGroupOptions snapshotLogIndexThreshold(int snapshotLogIndexThreshold) {
+        if (snapshotLogIndexThreshold < 0) {
+            throw new IllegalArgumentException("Snapshot log index threshold must not be negative: " + snapshotLogIndexThreshold);
+        }
+
+        this.snapshotLogIndexThreshold = snapshotLogIndexThreshold;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(RaftGroupOptions.class, this);
+    }
+}
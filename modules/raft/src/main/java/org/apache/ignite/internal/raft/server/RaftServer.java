@@ -59,6 +59,19 @@ public interface RaftServer extends IgniteComponent {
     boolean startRaftGroup(String groupId, RaftGroupEventsListener evLsnr,
             RaftGroupListener lsnr, List<Peer> initialConf);
 
+    /**
+     * Starts a raft group bound to this cluster node.
+     *
+     * @param groupId      Group id.
+     * @param evLsnr       Listener for group membership and other events.
+     * @param lsnr         Listener for state machine events.
+     * @param initialConf  Inititial group configuration.
+     * @param groupOptions Options of the group.
+     * @return {@code True} if a group was successfully started, {@code False} when the group with given name is already exists.
+     */
+    boolean startRaftGroup(String groupId, RaftGroupEventsListener evLsnr,
+            RaftGroupListener lsnr, List<Peer> initialConf, RaftGroupOptions groupOptions);
+
     /**
      * Synchronously stops a raft group if any.
      *
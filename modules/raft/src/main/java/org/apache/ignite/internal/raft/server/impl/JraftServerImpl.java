@@ -19,13 +19,17 @@ package org.apache.ignite.internal.raft.server.impl;
 
 import static org.apache.ignite.raft.jraft.JRaftUtils.addressFromEndpoint;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -33,8 +37,10 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.raft.server.RaftGroupEventsListener;
+import org.apache.ignite.internal.raft.server.RaftGroupOptions;
 import org.apache.ignite.internal.raft.server.RaftServer;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.lang.IgniteStringFormatter;
 import org.apache.ignite.network.ClusterNode;
@@ -48,6 +54,7 @@ import org.apache.ignite.raft.client.service.RaftGroupListener;
 import org.apache.ignite.raft.jraft.Closure;
 import org.apache.ignite.raft.jraft.Iterator;
 import org.apache.ignite.raft.jraft.JRaftUtils;
+import org.apache.ignite.raft.jraft.Node;
 import org.apache.ignite.raft.jraft.NodeManager;
 import org.apache.ignite.raft.jraft.RaftGroupService;
 import org.apache.ignite.raft.jraft.Status;
@@ -61,11 +68,14 @@ import org.apache.ignite.raft.jraft.disruptor.StripedDisruptor;
 import org.apache.ignite.raft.jraft.entity.PeerId;
 import org.apache.ignite.raft.jraft.error.RaftError;
 import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.option.ReadOnlyOption;
 import org.apache.ignite.raft.jraft.rpc.impl.IgniteRpcClient;
 import org.apache.ignite.raft.jraft.rpc.impl.IgniteRpcServer;
+import org.apache.ignite.raft.jraft.rpc.impl.core.HeartbeatCoalescer;
 import org.apache.ignite.raft.jraft.storage.LogStorageFactory;
 import org.apache.ignite.raft.jraft.storage.impl.DefaultLogStorageFactory;
 import org.apache.ignite.raft.jraft.storage.impl.LogManagerImpl;
+import org.apache.ignite.raft.jraft.storage.snapshot.Snapshot;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotReader;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotWriter;
 import org.apache.ignite.raft.jraft.util.ExecutorServiceHelper;
@@ -94,6 +104,12 @@ public class JraftServerImpl implements RaftServer {
     /** Started groups. */
     private ConcurrentMap<String, RaftGroupService> groups = new ConcurrentHashMap<>();
 
+    /** Groups being started, so different groups start in parallel while a group is never started twice. */
+    private final Set<String> startingGroups = ConcurrentHashMap.newKeySet();
+
+    /** Index of the last log entry of a started group when it was started, the log is replayed up to it. */
+    private final ConcurrentMap<String, Long> replayTargets = new ConcurrentHashMap<>();
+
     /** Node manager. */
     private final NodeManager nodeManager;
 
@@ -103,6 +119,9 @@ public class JraftServerImpl implements RaftServer {
     /** Request executor. */
     private ExecutorService requestExecutor;
 
+    /** Heartbeat coalescer shared by all raft groups, {@code null} if heartbeat coalescing is disabled. */
+    private HeartbeatCoalescer heartbeatCoalescer;
+
     /**
      * The constructor.
      *
@@ -188,6 +207,19 @@ public class JraftServerImpl implements RaftServer {
             opts.setSnapshotTimer(JRaftUtils.createTimer(opts, "JRaft-SnapshotTimer"));
         }
 
+        if (opts.getHeartbeatCoalescer() == null && opts.getHeartbeatCoalescingIntervalMs() > 0) {
+            heartbeatCoalescer = new HeartbeatCoalescer(
+                    new IgniteRpcClient(service),
+                    opts.getRaftMessagesFactory(),
+                    opts.getScheduler(),
+                    opts.getHeartbeatCoalescingIntervalMs()
+            );
+
+            heartbeatCoalescer.start();
+
+            opts.setHeartbeatCoalescer(heartbeatCoalescer);
+        }
+
         requestExecutor = JRaftUtils.createRequestExecutor(opts);
 
         rpcServer = new IgniteRpcServer(
@@ -241,6 +273,10 @@ public class JraftServerImpl implements RaftServer {
 
         rpcServer.shutdown();
 
+        if (heartbeatCoalescer != null) {
+            heartbeatCoalescer.stop();
+        }
+
         if (opts.getfSMCallerExecutorDisruptor() != null) {
             opts.getfSMCallerExecutorDisruptor().shutdown();
         }
@@ -316,21 +352,55 @@ public class JraftServerImpl implements RaftServer {
 
     /** {@inheritDoc} */
     @Override
-    public synchronized boolean startRaftGroup(String groupId, RaftGroupListener lsnr, @Nullable List<Peer> initialConf) {
+    public boolean startRaftGroup(String groupId, RaftGroupListener lsnr, @Nullable List<Peer> initialConf) {
         return startRaftGroup(groupId, RaftGroupEventsListener.noopLsnr, lsnr, initialConf);
     }
 
     /** {@inheritDoc} */
     @Override
-    public synchronized boolean startRaftGroup(String groupId, @NotNull RaftGroupEventsListener evLsnr,
+    public boolean startRaftGroup(String groupId, @NotNull RaftGroupEventsListener evLsnr,
             RaftGroupListener lsnr, @Nullable List<Peer> initialConf) {
-        if (groups.containsKey(groupId)) {
+        return startRaftGroup(groupId, evLsnr, lsnr, initialConf, RaftGroupOptions.defaults());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean startRaftGroup(String groupId, @NotNull RaftGroupEventsListener evLsnr,
+            RaftGroupListener lsnr, @Nullable List<Peer> initialConf, RaftGroupOptions groupOptions) {
+        if (!startingGroups.add(groupId)) {
             return false;
         }
 
+        try {
+            // A group is added to the started groups before it is removed from the starting ones.
+            if (groups.containsKey(groupId)) {
+                return false;
+            }
+
+            startRaftGroupInternal(groupId, evLsnr, lsnr, initialConf, groupOptions);
+
+            return true;
+        } finally {
+            startingGroups.remove(groupId);
+        }
+    }
+
+    /**
+     * Starts a raft group node, the group must not be started or starting.
+     *
+     * @param groupId      Group id.
+     * @param evLsnr       Listener of the group events.
+     * @param lsnr         Listener of the group commands.
+     * @param initialConf  Initial group configuration.
+     * @param groupOptions Options of the group.
+     */
+    private void startRaftGroupInternal(String groupId, RaftGroupEventsListener evLsnr, RaftGroupListener lsnr,
+            @Nullable List<Peer> initialConf, RaftGroupOptions groupOptions) {
         // Thread pools are shared by all raft groups.
         NodeOptions nodeOptions = opts.copy();
 
+        applyGroupOptions(nodeOptions, groupOptions);
+
         Path serverDataPath = getServerDataPath(groupId);
 
         try {
@@ -364,9 +434,40 @@ public class JraftServerImpl implements RaftServer {
 
         server.start();
 
+        // The committed entries above the snapshot are replayed once the leader is known.
+        replayTargets.put(groupId, server.getRaftNode().getLastLogIndex());
+
         groups.put(groupId, server);
+    }
+
+    /**
+     * Applies options of a group on top of the server-wide node options.
+     *
+     * @param nodeOptions  Node options of the group.
+     * @param groupOptions Options of the group.
+     */
+    private static void applyGroupOptions(NodeOptions nodeOptions, RaftGroupOptions groupOptions) {
+        if (groupOptions.leaderLeaseTimeRatio() != null) {
+            nodeOptions.setLeaderLeaseTimeRatio(groupOptions.leaderLeaseTimeRatio());
+        }
+
+        if (groupOptions.snapshotLogIndexThreshold() > 0) {
+            nodeOptions.setSnapshotLogIndexThreshold(groupOptions.snapshotLogIndexThreshold());
+        }
 
-        return true;
+        if (groupOptions.leaseReads()) {
+            // The lease is extended by replication and heartbeats, a read falls back to ReadIndex once it has expired.
+            nodeOptions.getRaftOptions().setReadOnlyOptions(ReadOnlyOption.ReadOnlyLeaseBased);
+            nodeOptions.setMaxClockDriftMs(groupOptions.maxClockDriftMs());
+
+            if (nodeOptions.getLeaderReadLeaseTimeoutMs() <= 0) {
+                throw new IgniteInternalException(IgniteStringFormatter.format(
+                        "Max clock drift must be less than the leader lease [maxClockDriftMs={}, leaderLeaseTimeoutMs={}]",
+                        groupOptions.maxClockDriftMs(),
+                        nodeOptions.getLeaderLeaseTimeoutMs()
+                ));
+            }
+        }
     }
 
     /** {@inheritDoc} */
@@ -378,6 +479,8 @@ public class JraftServerImpl implements RaftServer {
 
         if (stopped) {
             svc.shutdown();
+
+            replayTargets.remove(groupId);
         }
 
         return stopped;
@@ -407,6 +510,54 @@ public class JraftServerImpl implements RaftServer {
         return groups.get(groupId);
     }
 
+    /**
+     * Returns heartbeat metrics of the server: the number of heartbeats sent by the local leaders, the number of network messages
+     * which carried them, and the number of coalesced heartbeats received from the remote leaders.
+     *
+     * @return Heartbeat metrics by name.
+     */
+    public Map<String, Metric> heartbeatMetrics() {
+        Map<String, Metric> metrics = new HashMap<>(rpcServer.coalescedHeartbeatRequestProcessor().metrics().getMetrics());
+
+        if (heartbeatCoalescer != null) {
+            metrics.putAll(heartbeatCoalescer.metrics().getMetrics());
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Returns the log replay progress of the started groups. The log of a group is replayed on top of its snapshot up to the
+     * last log entry the group had when it was started, the metrics of a group are named {@code <groupId>.replay-target-index},
+     * {@code <groupId>.replay-applied-index} and {@code <groupId>.replay-remaining-entries}.
+     *
+     * @return Replay metrics by name.
+     */
+    public Map<String, Metric> replayMetrics() {
+        Map<String, Metric> metrics = new HashMap<>();
+
+        groups.forEach((groupId, svc) -> {
+            Node node = svc.getRaftNode();
+
+            Long target = replayTargets.get(groupId);
+
+            if (node == null || target == null) {
+                return;
+            }
+
+            // Uncommitted entries may be truncated by the new leader.
+            Gauge<Long> targetIdx = () -> Math.min(target, node.getLastLogIndex());
+            Gauge<Long> appliedIdx = node::getLastAppliedLogIndex;
+
+            metrics.put(groupId + ".replay-target-index", targetIdx);
+            metrics.put(groupId + ".replay-applied-index", appliedIdx);
+            metrics.put(groupId + ".replay-remaining-entries",
+                    (Gauge<Long>) () -> Math.max(0, targetIdx.getValue() - appliedIdx.getValue()));
+        });
+
+        return metrics;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Set<String> startedGroups() {
@@ -538,6 +689,35 @@ public class JraftServerImpl implements RaftServer {
             return listener.onSnapshotLoad(Path.of(reader.getPath()));
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public Cursor<byte[]> onSnapshotStream(String path) {
+            return listener.onSnapshotStream(Path.of(path));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean onSnapshotReceive(SnapshotWriter writer, java.util.Iterator<byte[]> entries) {
+            listener.onSnapshotReceive(Path.of(writer.getPath()), entries);
+
+            File dir = new File(writer.getPath());
+
+            File[] files = dir.listFiles();
+
+            // The copier fails the snapshot installation with the error.
+            if (files == null) {
+                throw new IgniteInternalException("Failed to list the files of the received snapshot: " + dir);
+            }
+
+            for (File file : files) {
+                if (file.isFile() && !file.getName().equals(Snapshot.JRAFT_SNAPSHOT_META_FILE)) {
+                    writer.addFile(file.getName(), null);
+                }
+            }
+
+            return true;
+        }
+
         /** {@inheritDoc} */
         @Override
         public void onShutdown() {
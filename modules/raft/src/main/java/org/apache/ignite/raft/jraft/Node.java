@@ -70,6 +70,16 @@ public interface Node extends Lifecycle<NodeOptions>, Describer {
      */
     boolean isLeader();
 
+    /**
+     * Get the index of the last log entry, applied or not.
+     */
+    long getLastLogIndex();
+
+    /**
+     * Get the index of the last log entry applied to the state machine.
+     */
+    long getLastAppliedLogIndex();
+
     /**
      * Returns true when the node is leader.
      *
@@ -117,6 +127,19 @@ public interface Node extends Lifecycle<NodeOptions>, Describer {
      */
     void readIndex(final byte[] requestContext, final ReadIndexClosure done);
 
+    /**
+     * [Thread-safe and wait-free]
+     *
+     * Checks whether the local state machine may serve a read which is allowed to be stale by at most {@code
+     * maxStalenessMs}. This is true for a leader holding its lease and for a follower or a learner which has heard from
+     * the leader within {@code maxStalenessMs}, provided that the node has applied all the entries it knows to be
+     * committed.
+     *
+     * @param maxStalenessMs max staleness of the read in milliseconds
+     * @return true if the read can be served from the local state machine
+     */
+    boolean isStaleReadAllowed(final long maxStalenessMs);
+
     /**
      * List peers of this raft group, only leader returns.
      *
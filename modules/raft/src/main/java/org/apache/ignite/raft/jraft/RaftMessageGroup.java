@@ -162,6 +162,18 @@ public class RaftMessageGroup {
 
         /** */
         public static final short SM_ERROR_RESPONSE = 3014;
+
+        /** */
+        public static final short COALESCED_HEARTBEAT_REQUEST = 3015;
+
+        /** */
+        public static final short COALESCED_HEARTBEAT_RESPONSE = 3016;
+
+        /** */
+        public static final short GET_SNAPSHOT_BATCH_REQUEST = 3017;
+
+        /** */
+        public static final short GET_SNAPSHOT_BATCH_RESPONSE = 3018;
     }
 
     /**
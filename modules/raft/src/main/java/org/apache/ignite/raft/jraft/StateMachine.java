@@ -16,6 +16,7 @@
  */
 package org.apache.ignite.raft.jraft;
 
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.raft.jraft.conf.Configuration;
 import org.apache.ignite.raft.jraft.entity.LeaderChangeContext;
 import org.apache.ignite.raft.jraft.error.RaftException;
@@ -66,6 +67,28 @@ public interface StateMachine {
      */
     boolean onSnapshotLoad(final SnapshotReader reader);
 
+    /**
+     * User defined snapshot streaming function, opens a cursor over the entries of a snapshot saved by
+     * StateMachine#onSnapshotSave(SnapshotWriter, Closure). A follower installing the snapshot receives the entries
+     * with StateMachine#onSnapshotReceive(SnapshotWriter, java.util.Iterator) instead of copying the snapshot files.
+     * Called concurrently with StateMachine#onApply(Iterator). Default: Returns null, the files are copied.
+     *
+     * @param path path of the snapshot
+     * @return cursor over the snapshot entries or null if streaming is not supported
+     */
+    Cursor<byte[]> onSnapshotStream(final String path);
+
+    /**
+     * User defined function to save a snapshot streamed by StateMachine#onSnapshotStream(String) of the leader. The
+     * snapshot is loaded with StateMachine#onSnapshotLoad(SnapshotReader) afterwards, so the saved files must be added to
+     * the writer. The iterator blocks until the next entry is received. Default: Save nothing and returns false.
+     *
+     * @param writer snapshot writer
+     * @param entries snapshot entries in the order of the stream
+     * @return true on success
+     */
+    boolean onSnapshotReceive(final SnapshotWriter writer, final java.util.Iterator<byte[]> entries);
+
     /**
      * Invoked when the belonging node becomes the leader of the group at |term| Default: Do nothing
      *
@@ -31,6 +31,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.stream.Collectors;
@@ -216,6 +217,10 @@ public class NodeImpl implements Node, RaftServerService {
      * The number of elections time out for current node
      */
     private volatile int electionTimeoutCounter;
+    /**
+     * Applied index at which the last snapshot by NodeOptions#getSnapshotLogIndexThreshold was triggered
+     */
+    private final AtomicLong thresholdSnapshotIndex = new AtomicLong();
 
     private static class NodeReadWriteLock extends LongHeldDetectingReadWriteLock {
         static final long MAX_BLOCKING_MS_TO_REPORT = SystemPropertyUtil.getLong(
@@ -605,6 +610,21 @@ public class NodeImpl implements Node, RaftServerService {
         Utils.runInThread(this.getOptions().getCommonExecutor(), () -> doSnapshot(null));
     }
 
+    /**
+     * Triggers a snapshot once NodeOptions#getSnapshotLogIndexThreshold entries are applied since the previous one,
+     * so a restart replays a bounded part of the log. A snapshot skipped because another one is running is retried
+     * after the next threshold entries.
+     */
+    private void checkSnapshotLogIndexThreshold(final long lastAppliedIndex) {
+        final long prevIndex = this.thresholdSnapshotIndex.get();
+        if (lastAppliedIndex - prevIndex < this.options.getSnapshotLogIndexThreshold()
+            || !this.thresholdSnapshotIndex.compareAndSet(prevIndex, lastAppliedIndex)) {
+            return;
+        }
+        // The listener is called by the FSM caller, which saves the snapshot.
+        Utils.runInThread(this.getOptions().getCommonExecutor(), () -> doSnapshot(null));
+    }
+
     private void handleElectionTimeout() {
         boolean doUnlock = true;
         this.writeLock.lock();
@@ -945,6 +965,13 @@ public class NodeImpl implements Node, RaftServerService {
             return false;
         }
 
+        if (this.raftOptions.getReadOnlyOptions() == ReadOnlyOption.ReadOnlyLeaseBased
+            && opts.getLeaderReadLeaseTimeoutMs() <= 0) {
+            LOG.error("Node {} can't serve lease-based reads, max clock drift {} ms exceeds leader lease {} ms.",
+                getNodeId(), opts.getMaxClockDriftMs(), opts.getLeaderLeaseTimeoutMs());
+            return false;
+        }
+
         // Init timers.
         initTimers(opts);
 
@@ -988,6 +1015,10 @@ public class NodeImpl implements Node, RaftServerService {
             LOG.error("Node {} initSnapshotStorage failed.", getNodeId());
             return false;
         }
+        if (this.snapshotExecutor != null && this.options.getSnapshotLogIndexThreshold() > 0) {
+            this.thresholdSnapshotIndex.set(this.fsmCaller.getLastAppliedIndex());
+            this.fsmCaller.addLastAppliedLogIndexListener(this::checkSnapshotLogIndexThreshold);
+        }
 
         final Status st = this.logManager.checkConsistency();
         if (!st.isOk()) {
@@ -1557,6 +1588,23 @@ public class NodeImpl implements Node, RaftServerService {
         this.readOnlyService.addRequest(requestContext, done);
     }
 
+    @Override
+    public boolean isStaleReadAllowed(final long maxStalenessMs) {
+        final State st = this.state;
+        final long monotonicNowMs = Utils.monotonicMs();
+        if (st == State.STATE_LEADER) {
+            // A leader holding the lease knows the latest committed index.
+            if (!checkLeaderLease(monotonicNowMs)) {
+                return false;
+            }
+        }
+        else if (st != State.STATE_FOLLOWER || monotonicNowMs - this.lastLeaderTimestamp > maxStalenessMs) {
+            return false;
+        }
+        // Committed but not yet applied entries make the state machine lag even further.
+        return this.fsmCaller.getLastAppliedIndex() >= this.ballotBox.getLastCommittedIndex();
+    }
+
     /**
      * ReadIndex response closure
      */
@@ -1702,9 +1750,16 @@ public class NodeImpl implements Node, RaftServerService {
         }
 
         ReadOnlyOption readOnlyOpt = this.raftOptions.getReadOnlyOptions();
-        if (readOnlyOpt == ReadOnlyOption.ReadOnlyLeaseBased && !isLeaderLeaseValid()) {
-            // If leader lease timeout, we must change option to ReadOnlySafe
-            readOnlyOpt = ReadOnlyOption.ReadOnlySafe;
+        if (readOnlyOpt == ReadOnlyOption.ReadOnlyLeaseBased) {
+            if (isLeaderReadLeaseValid()) {
+                this.metrics.recordTimes("read-index-lease-hit", 1);
+            }
+            else {
+                // If leader lease timeout, we must change option to ReadOnlySafe
+                readOnlyOpt = ReadOnlyOption.ReadOnlySafe;
+
+                this.metrics.recordTimes("read-index-lease-fallback", 1);
+            }
         }
 
         switch (readOnlyOpt) {
@@ -1848,15 +1903,19 @@ public class NodeImpl implements Node, RaftServerService {
     }
 
     // in read_lock
-    private boolean isLeaderLeaseValid() {
+    private boolean isLeaderReadLeaseValid() {
         final long monotonicNowMs = Utils.monotonicMs();
         // Test with a current start lease timestamp.
-        if (checkLeaderLease(monotonicNowMs)) {
+        if (checkLeaderReadLease(monotonicNowMs)) {
             return true;
         }
-        // Refresh start lease timestamp and try again.
+        // The lease is extended by replication: refresh start lease timestamp from the replicators and try again.
         checkDeadNodes0(this.conf.getConf().getPeers(), monotonicNowMs, false, null);
-        return checkLeaderLease(monotonicNowMs);
+        return checkLeaderReadLease(monotonicNowMs);
+    }
+
+    private boolean checkLeaderReadLease(final long monotonicNowMs) {
+        return monotonicNowMs - this.lastLeaderTimestamp < this.options.getLeaderReadLeaseTimeoutMs();
     }
 
     private boolean checkLeaderLease(final long monotonicNowMs) {
@@ -2912,6 +2971,16 @@ public class NodeImpl implements Node, RaftServerService {
         return isLeader(true);
     }
 
+    @Override
+    public long getLastLogIndex() {
+        return this.logManager.getLastLogIndex();
+    }
+
+    @Override
+    public long getLastAppliedLogIndex() {
+        return this.fsmCaller.getLastAppliedIndex();
+    }
+
     @Override
     public boolean isLeader(final boolean blocking) {
         if (!blocking) {
@@ -687,21 +687,22 @@ public class Replicator implements ThreadId.OnError {
                 request = rb.build();
                 // Sending a heartbeat request
                 this.heartbeatCounter++;
-                RpcResponseClosure<AppendEntriesResponse> heartbeatDone;
                 // Prefer passed-in closure.
                 if (heartBeatClosure != null) {
-                    heartbeatDone = heartBeatClosure;
+                    // Someone waits for the response (e.g. read index), so the heartbeat is sent immediately.
+                    this.heartbeatInFly = this.rpcService.appendEntries(this.options.getPeerId().getEndpoint(),
+                        request, this.options.getElectionTimeoutMs() / 2, heartBeatClosure);
                 }
                 else {
-                    heartbeatDone = new RpcResponseClosureAdapter<AppendEntriesResponse>() {
+                    RpcResponseClosure<AppendEntriesResponse> heartbeatDone = new RpcResponseClosureAdapter<AppendEntriesResponse>() {
                         @Override
                         public void run(final Status status) {
                             onHeartbeatReturned(Replicator.this.id, status, request, getResponse(), monotonicSendTimeMs);
                         }
                     };
+                    this.heartbeatInFly = this.rpcService.heartbeat(this.options.getPeerId().getEndpoint(), request,
+                        this.options.getElectionTimeoutMs() / 2, heartbeatDone);
                 }
-                this.heartbeatInFly = this.rpcService.appendEntries(this.options.getPeerId().getEndpoint(), request,
-                    this.options.getElectionTimeoutMs() / 2, heartbeatDone);
             }
             else {
                 // No entries and has empty data means a probe request.
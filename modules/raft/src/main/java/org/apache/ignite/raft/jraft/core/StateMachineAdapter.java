@@ -16,6 +16,7 @@
  */
 package org.apache.ignite.raft.jraft.core;
 
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.lang.IgniteLogger;
 import org.apache.ignite.raft.jraft.Closure;
 import org.apache.ignite.raft.jraft.Iterator;
@@ -53,6 +54,17 @@ public abstract class StateMachineAdapter implements StateMachine {
         return false;
     }
 
+    @Override
+    public Cursor<byte[]> onSnapshotStream(final String path) {
+        return null;
+    }
+
+    @Override
+    public boolean onSnapshotReceive(final SnapshotWriter writer, final java.util.Iterator<byte[]> entries) {
+        error("onSnapshotReceive", "while a snapshot is streamed to " + writer.getPath());
+        return false;
+    }
+
     public long getLeaderTerm() {
         return this.leaderTerm;
     }
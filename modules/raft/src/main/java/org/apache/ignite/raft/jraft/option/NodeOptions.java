@@ -31,6 +31,7 @@ import org.apache.ignite.raft.jraft.core.ReadOnlyServiceImpl;
 import org.apache.ignite.raft.jraft.core.Replicator;
 import org.apache.ignite.raft.jraft.core.Scheduler;
 import org.apache.ignite.raft.jraft.disruptor.StripedDisruptor;
+import org.apache.ignite.raft.jraft.rpc.impl.core.HeartbeatCoalescer;
 import org.apache.ignite.raft.jraft.storage.SnapshotThrottle;
 import org.apache.ignite.raft.jraft.storage.impl.LogManagerImpl;
 import org.apache.ignite.raft.jraft.util.Copiable;
@@ -47,6 +48,9 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
     /** This value is used by default to determine the count of stripes in the striped queue. */
     public static final int DEFAULT_STRIPES = Utils.cpus() * 2;
 
+    /** Default interval of sending coalesced heartbeats. */
+    public static final int DEFAULT_HEARTBEAT_COALESCING_INTERVAL_MS = 20;
+
     // A follower would become a candidate if it doesn't receive any message
     // from the leader in |election_timeout_ms| milliseconds
     // Default: 1200 (1.2s)
@@ -71,6 +75,12 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
     // Default: 90, Max: 100
     private int leaderLeaseTimeRatio = 90;
 
+    // Upper bound of the clock drift between the nodes of a group in milliseconds.
+    // Lease-based reads are only served while the lease is valid for at least this long,
+    // so that a deposed leader can't serve a stale read before it notices the new leader.
+    // Default: 0, Max: leaderLeaseTimeoutMs - 1
+    private int maxClockDriftMs = 0;
+
     // A snapshot saving would be triggered every |snapshot_interval_s| seconds
     // if this was reset as a positive number
     // If |snapshot_interval_s| <= 0, the time based snapshot would be disabled.
@@ -87,6 +97,14 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
     // Default: 0
     private int snapshotLogIndexMargin = 0;
 
+    // A snapshot saving would be triggered as soon as the state machine has applied
+    // |snapshotLogIndexThreshold| entries since the last snapshot. It bounds the log
+    // replayed on restart, independently of |snapshot_interval_s|.
+    // If |snapshotLogIndexThreshold| <= 0, the applied entries based snapshot would be disabled.
+    //
+    // Default: 0
+    private int snapshotLogIndexThreshold = 0;
+
     // We will regard a adding peer as caught up if the margin between the
     // last_log_index of this peer and the last_log_index of leader is less than
     // |catchup_margin|
@@ -184,6 +202,16 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
      */
     private Scheduler scheduler;
 
+    /**
+     * Node-wide heartbeat batcher, {@code null} if heartbeats are sent by each replicator separately.
+     */
+    private HeartbeatCoalescer heartbeatCoalescer;
+
+    /**
+     * Interval of sending coalesced heartbeats in milliseconds. Non-positive value disables heartbeat coalescing.
+     */
+    private int heartbeatCoalescingIntervalMs = DEFAULT_HEARTBEAT_COALESCING_INTERVAL_MS;
+
     /**
      * The election timer.
      */
@@ -397,6 +425,25 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
         return this.electionTimeoutMs * this.leaderLeaseTimeRatio / 100;
     }
 
+    public int getMaxClockDriftMs() {
+        return this.maxClockDriftMs;
+    }
+
+    public void setMaxClockDriftMs(final int maxClockDriftMs) {
+        if (maxClockDriftMs < 0) {
+            throw new IllegalArgumentException("maxClockDriftMs: " + maxClockDriftMs + " (expected: maxClockDriftMs >= 0)");
+        }
+        this.maxClockDriftMs = maxClockDriftMs;
+    }
+
+    /**
+     * @return Part of the leader lease in which lease-based reads may be served, the lease shortened by the max clock
+     * drift.
+     */
+    public int getLeaderReadLeaseTimeoutMs() {
+        return getLeaderLeaseTimeoutMs() - this.maxClockDriftMs;
+    }
+
     public int getSnapshotIntervalSecs() {
         return this.snapshotIntervalSecs;
     }
@@ -413,6 +460,14 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
         this.snapshotLogIndexMargin = snapshotLogIndexMargin;
     }
 
+    public int getSnapshotLogIndexThreshold() {
+        return this.snapshotLogIndexThreshold;
+    }
+
+    public void setSnapshotLogIndexThreshold(final int snapshotLogIndexThreshold) {
+        this.snapshotLogIndexThreshold = snapshotLogIndexThreshold;
+    }
+
     public int getCatchupMargin() {
         return this.catchupMargin;
     }
@@ -501,6 +556,22 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
         this.scheduler = scheduler;
     }
 
+    public HeartbeatCoalescer getHeartbeatCoalescer() {
+        return heartbeatCoalescer;
+    }
+
+    public void setHeartbeatCoalescer(HeartbeatCoalescer heartbeatCoalescer) {
+        this.heartbeatCoalescer = heartbeatCoalescer;
+    }
+
+    public int getHeartbeatCoalescingIntervalMs() {
+        return heartbeatCoalescingIntervalMs;
+    }
+
+    public void setHeartbeatCoalescingIntervalMs(int heartbeatCoalescingIntervalMs) {
+        this.heartbeatCoalescingIntervalMs = heartbeatCoalescingIntervalMs;
+    }
+
     public Timer getElectionTimer() {
         return electionTimer;
     }
@@ -579,8 +650,11 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
         nodeOptions.setElectionTimeoutMs(this.electionTimeoutMs);
         nodeOptions.setElectionPriority(this.electionPriority);
         nodeOptions.setDecayPriorityGap(this.decayPriorityGap);
+        nodeOptions.setLeaderLeaseTimeRatio(this.leaderLeaseTimeRatio);
+        nodeOptions.setMaxClockDriftMs(this.maxClockDriftMs);
         nodeOptions.setSnapshotIntervalSecs(this.snapshotIntervalSecs);
         nodeOptions.setSnapshotLogIndexMargin(this.snapshotLogIndexMargin);
+        nodeOptions.setSnapshotLogIndexThreshold(this.snapshotLogIndexThreshold);
         nodeOptions.setCatchupMargin(this.catchupMargin);
         nodeOptions.setFilterBeforeCopyRemote(this.filterBeforeCopyRemote);
         nodeOptions.setDisableCli(this.disableCli);
@@ -595,6 +669,8 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
         nodeOptions.setStripedExecutor(this.getStripedExecutor());
         nodeOptions.setServerName(this.getServerName());
         nodeOptions.setScheduler(this.getScheduler());
+        nodeOptions.setHeartbeatCoalescer(this.getHeartbeatCoalescer());
+        nodeOptions.setHeartbeatCoalescingIntervalMs(this.getHeartbeatCoalescingIntervalMs());
         nodeOptions.setClientExecutor(this.getClientExecutor());
         nodeOptions.setNodeApplyDisruptor(this.getNodeApplyDisruptor());
         nodeOptions.setfSMCallerExecutorDisruptor(this.getfSMCallerExecutorDisruptor());
@@ -617,8 +693,9 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
     public String toString() {
         return "NodeOptions{" + "electionTimeoutMs=" + electionTimeoutMs + ", electionPriority=" + electionPriority
             + ", decayPriorityGap=" + decayPriorityGap + ", leaderLeaseTimeRatio=" + leaderLeaseTimeRatio
+            + ", maxClockDriftMs=" + maxClockDriftMs
             + ", snapshotIntervalSecs=" + snapshotIntervalSecs + ", snapshotLogIndexMargin="
-            + snapshotLogIndexMargin + ", catchupMargin=" + catchupMargin + ", initialConf=" + initialConf
+            + snapshotLogIndexMargin + ", snapshotLogIndexThreshold=" + snapshotLogIndexThreshold + ", catchupMargin=" + catchupMargin + ", initialConf=" + initialConf
             + ", fsm=" + fsm + ", raftMetaUri='" + raftMetaUri + '\''
             + ", snapshotUri='" + snapshotUri + '\'' + ", filterBeforeCopyRemote=" + filterBeforeCopyRemote
             + ", disableCli=" + disableCli + ", timerPoolSize="
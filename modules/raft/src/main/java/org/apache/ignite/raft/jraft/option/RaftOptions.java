@@ -35,6 +35,16 @@ public class RaftOptions implements Copiable<RaftOptions> {
      */
     private int maxByteCountPerRpc = 128 * 1024;
 
+    /**
+     * Maximum size of a batch of a streamed snapshot
+     */
+    private int maxSnapshotStreamBatchSize = 1024 * 1024;
+
+    /**
+     * Maximum number of batches of a streamed snapshot requested or received but not yet saved by a follower
+     */
+    private int maxSnapshotStreamInflightBatches = 4;
+
     /**
      * File service check hole switch, default disable
      */
@@ -191,6 +201,22 @@ public class RaftOptions implements Copiable<RaftOptions> {
         this.maxByteCountPerRpc = maxByteCountPerRpc;
     }
 
+    public int getMaxSnapshotStreamBatchSize() {
+        return this.maxSnapshotStreamBatchSize;
+    }
+
+    public void setMaxSnapshotStreamBatchSize(final int maxSnapshotStreamBatchSize) {
+        this.maxSnapshotStreamBatchSize = maxSnapshotStreamBatchSize;
+    }
+
+    public int getMaxSnapshotStreamInflightBatches() {
+        return this.maxSnapshotStreamInflightBatches;
+    }
+
+    public void setMaxSnapshotStreamInflightBatches(final int maxSnapshotStreamInflightBatches) {
+        this.maxSnapshotStreamInflightBatches = maxSnapshotStreamInflightBatches;
+    }
+
     public boolean isFileCheckHole() {
         return this.fileCheckHole;
     } // TODO asch review properties https://issues.apache.org/jira/browse/IGNITE-14832
@@ -290,6 +316,8 @@ public class RaftOptions implements Copiable<RaftOptions> {
     public RaftOptions copy() {
         final RaftOptions raftOptions = new RaftOptions();
         raftOptions.setMaxByteCountPerRpc(this.maxByteCountPerRpc);
+        raftOptions.setMaxSnapshotStreamBatchSize(this.maxSnapshotStreamBatchSize);
+        raftOptions.setMaxSnapshotStreamInflightBatches(this.maxSnapshotStreamInflightBatches);
         raftOptions.setFileCheckHole(this.fileCheckHole);
         raftOptions.setMaxEntriesSize(this.maxEntriesSize);
         raftOptions.setMaxBodySize(this.maxBodySize);
@@ -313,8 +341,9 @@ public class RaftOptions implements Copiable<RaftOptions> {
     /** {@inheritDoc} */
     @Override
     public String toString() {
-        return "RaftOptions{" + "maxByteCountPerRpc=" + this.maxByteCountPerRpc + ", fileCheckHole="
-            + this.fileCheckHole + ", maxEntriesSize=" + this.maxEntriesSize + ", maxBodySize=" + this.maxBodySize
+        return "RaftOptions{" + "maxByteCountPerRpc=" + this.maxByteCountPerRpc + ", maxSnapshotStreamBatchSize="
+            + this.maxSnapshotStreamBatchSize + ", maxSnapshotStreamInflightBatches="
+            + this.maxSnapshotStreamInflightBatches + ", fileCheckHole=" + this.fileCheckHole + ", maxEntriesSize=" + this.maxEntriesSize + ", maxBodySize=" + this.maxBodySize
             + ", maxAppendBufferSize=" + this.maxAppendBufferSize + ", maxElectionDelayMs="
             + this.maxElectionDelayMs + ", electionHeartbeatFactor=" + this.electionHeartbeatFactor
             + ", applyBatch=" + this.applyBatch + ", sync=" + this.sync + ", syncMeta=" + this.syncMeta
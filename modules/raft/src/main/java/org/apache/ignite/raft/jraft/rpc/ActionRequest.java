@@ -42,4 +42,10 @@ public interface ActionRequest extends Message {
      * @return {@code True} for linearizable reading.
      */
     boolean readOnlySafe();
+
+    /**
+     * @return Max staleness of a non-linearizable read in milliseconds. A replica which lags behind the leader for longer
+     *      serves the read as a linearizable one. Non-positive value means that the staleness is not bounded.
+     */
+    long maxStalenessMs();
 }
@@ -57,6 +57,18 @@ public interface RaftClientService extends ClientService {
     Future<Message> appendEntries(final Endpoint endpoint, final RpcRequests.AppendEntriesRequest request,
         final int timeoutMs, final RpcResponseClosure<RpcRequests.AppendEntriesResponse> done);
 
+    /**
+     * Sends a periodic heartbeat and handle the response with done. Unlike {@link #appendEntries}, the heartbeat
+     * may be delayed to be batched together with the heartbeats of other raft groups sent to the same node.
+     *
+     * @param endpoint destination address (ip, port)
+     * @param request heartbeat request
+     * @param done callback
+     * @return a future with result
+     */
+    Future<Message> heartbeat(final Endpoint endpoint, final RpcRequests.AppendEntriesRequest request,
+        final int timeoutMs, final RpcResponseClosure<RpcRequests.AppendEntriesResponse> done);
+
     /**
      * Sends a install-snapshot request and handle the response with done.
      *
@@ -80,6 +92,18 @@ public interface RaftClientService extends ClientService {
     Future<Message> getFile(final Endpoint endpoint, final RpcRequests.GetFileRequest request, final int timeoutMs,
         final RpcResponseClosure<RpcRequests.GetFileResponse> done);
 
+    /**
+     * Get the next batch of a streamed snapshot by GetSnapshotBatchRequest, and handle the response with done.
+     *
+     * @param endpoint destination address (ip, port)
+     * @param request request data
+     * @param timeoutMs timeout millis
+     * @param done callback
+     * @return a future result
+     */
+    Future<Message> getSnapshotBatch(final Endpoint endpoint, final RpcRequests.GetSnapshotBatchRequest request,
+        final int timeoutMs, final RpcResponseClosure<RpcRequests.GetSnapshotBatchResponse> done);
+
     /**
      * Send a timeout-now request and handle the response with done.
      *
@@ -226,4 +226,66 @@ public final class RpcRequests {
 
         boolean success();
     }
+
+    /**
+     * A batch of heartbeats sent by all the leaders of a node to the same remote node.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.COALESCED_HEARTBEAT_REQUEST)
+    public interface CoalescedHeartbeatRequest extends Message {
+        /**
+         * @return Heartbeat requests, one per raft group.
+         */
+        Collection<AppendEntriesRequest> heartbeats();
+    }
+
+    /**
+     * Responses to a {@link CoalescedHeartbeatRequest}.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.COALESCED_HEARTBEAT_RESPONSE)
+    public interface CoalescedHeartbeatResponse extends Message {
+        /**
+         * @return Heartbeat responses ({@link AppendEntriesResponse} or {@link ErrorResponse}) in the order of the requests.
+         */
+        Collection<Message> responses();
+    }
+
+    /**
+     * Request of the next batch of a snapshot streamed by the state machine of a leader, see
+     * {@link org.apache.ignite.raft.jraft.StateMachine#onSnapshotStream}.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.GET_SNAPSHOT_BATCH_REQUEST)
+    public interface GetSnapshotBatchRequest extends Message {
+        /**
+         * @return Id of the snapshot reader, the same as for the {@link GetFileRequest}.
+         */
+        long readerId();
+
+        /**
+         * @return Max size of the batch data in bytes. A batch exceeds it by at most one entry.
+         */
+        int maxBytes();
+    }
+
+    /**
+     * A batch of a streamed snapshot.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.GET_SNAPSHOT_BATCH_RESPONSE)
+    public interface GetSnapshotBatchResponse extends Message {
+        /**
+         * @return Sequence number of the batch. Batches are numbered from zero in the order they are read from the
+         * stream, concurrent requests may be answered out of this order.
+         */
+        long seq();
+
+        /**
+         * @return {@code true} if the stream is exhausted, the batches after this one are empty.
+         */
+        boolean eof();
+
+        /**
+         * @return Snapshot entries, each one prefixed with its length as an {@code int}.
+         */
+        @Marshallable
+        ByteString data();
+    }
 }
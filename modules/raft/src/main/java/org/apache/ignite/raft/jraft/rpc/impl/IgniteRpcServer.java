@@ -49,7 +49,9 @@ import org.apache.ignite.raft.jraft.rpc.impl.cli.ResetPeerRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.cli.SnapshotRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.cli.TransferLeaderRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.AppendEntriesRequestProcessor;
+import org.apache.ignite.raft.jraft.rpc.impl.core.CoalescedHeartbeatRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.GetFileRequestProcessor;
+import org.apache.ignite.raft.jraft.rpc.impl.core.GetSnapshotBatchRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.InstallSnapshotRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.ReadIndexRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.RequestVoteRequestProcessor;
@@ -72,6 +74,8 @@ public class IgniteRpcServer implements RpcServer<Void> {
 
     private final Map<String, RpcProcessor> processors = new ConcurrentHashMap<>();
 
+    private final CoalescedHeartbeatRequestProcessor coalescedHeartbeatRequestProcessor;
+
     /**
      * @param lockManager The lock manager.
      * @param service The cluster service.
@@ -94,7 +98,10 @@ public class IgniteRpcServer implements RpcServer<Void> {
             new AppendEntriesRequestProcessor(rpcExecutor, raftMessagesFactory);
         registerConnectionClosedEventListener(appendEntriesRequestProcessor);
         registerProcessor(appendEntriesRequestProcessor);
+        coalescedHeartbeatRequestProcessor = new CoalescedHeartbeatRequestProcessor(rpcExecutor, raftMessagesFactory);
+        registerProcessor(coalescedHeartbeatRequestProcessor);
         registerProcessor(new GetFileRequestProcessor(rpcExecutor, raftMessagesFactory));
+        registerProcessor(new GetSnapshotBatchRequestProcessor(rpcExecutor, raftMessagesFactory));
         registerProcessor(new InstallSnapshotRequestProcessor(rpcExecutor, raftMessagesFactory));
         registerProcessor(new RequestVoteRequestProcessor(rpcExecutor, raftMessagesFactory));
         registerProcessor(new PingRequestProcessor(rpcExecutor, raftMessagesFactory));
@@ -224,6 +231,13 @@ public class IgniteRpcServer implements RpcServer<Void> {
         return service;
     }
 
+    /**
+     * @return Processor of the coalesced heartbeats.
+     */
+    public CoalescedHeartbeatRequestProcessor coalescedHeartbeatRequestProcessor() {
+        return coalescedHeartbeatRequestProcessor;
+    }
+
     /** {@inheritDoc} */
     @Override public void shutdown() {
         // Should deregister listeners.
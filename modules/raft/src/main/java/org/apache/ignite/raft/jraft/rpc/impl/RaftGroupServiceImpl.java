@@ -511,7 +511,19 @@ public class RaftGroupServiceImpl implements RaftGroupService {
      * {@inheritDoc}
      */
     @Override public <R> CompletableFuture<R> run(Peer peer, ReadCommand cmd) {
-        ActionRequest req = factory.actionRequest().command(cmd).groupId(groupId).readOnlySafe(false).build();
+        return run(peer, cmd, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override public <R> CompletableFuture<R> run(Peer peer, ReadCommand cmd, long maxStalenessMs) {
+        ActionRequest req = factory.actionRequest()
+            .command(cmd)
+            .groupId(groupId)
+            .readOnlySafe(false)
+            .maxStalenessMs(maxStalenessMs)
+            .build();
 
         return cluster.messagingService().invoke(peer.address(), req, rpcTimeout)
                 .thenApply(resp -> (R) ((ActionResponse) resp).result());
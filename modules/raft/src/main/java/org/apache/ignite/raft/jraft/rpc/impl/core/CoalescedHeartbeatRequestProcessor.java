@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.raft.jraft.Node;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RaftRpcFactory;
+import org.apache.ignite.raft.jraft.rpc.RaftServerService;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestClosure;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestProcessor;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatRequest;
+
+/**
+ * Fans out a batch of heartbeats to the local raft nodes and replies with their responses in the same order.
+ */
+public class CoalescedHeartbeatRequestProcessor extends RpcRequestProcessor<CoalescedHeartbeatRequest> {
+    /** Number of received batches. */
+    private final LongAdder batches = new LongAdder();
+
+    /** Number of heartbeats delivered to the local nodes. */
+    private final LongAdder heartbeats = new LongAdder();
+
+    public CoalescedHeartbeatRequestProcessor(Executor executor, RaftMessagesFactory msgFactory) {
+        super(executor, msgFactory);
+    }
+
+    @Override
+    public Message processRequest(final CoalescedHeartbeatRequest request, final RpcRequestClosure done) {
+        batches.increment();
+
+        List<Message> responses = new ArrayList<>(request.heartbeats().size());
+
+        for (AppendEntriesRequest heartbeat : request.heartbeats()) {
+            heartbeats.increment();
+
+            responses.add(processHeartbeat(heartbeat, done));
+        }
+
+        return msgFactory().coalescedHeartbeatResponse()
+            .responses(responses)
+            .build();
+    }
+
+    /**
+     * Heartbeats are always answered synchronously by {@link RaftServerService#handleAppendEntriesRequest}.
+     */
+    private Message processHeartbeat(final AppendEntriesRequest request, final RpcRequestClosure done) {
+        final PeerId peer = new PeerId();
+
+        if (!peer.parse(request.peerId())) {
+            return RaftRpcFactory.DEFAULT //
+                .newResponse(msgFactory(), RaftError.EINVAL, "Fail to parse peerId: %s", request.peerId());
+        }
+
+        final Node node = done.getRpcCtx().getNodeManager().get(request.groupId(), peer);
+
+        if (node == null) {
+            return RaftRpcFactory.DEFAULT //
+                .newResponse(msgFactory(), RaftError.ENOENT, "Peer id not found: %s, group: %s", request.peerId(),
+                    request.groupId());
+        }
+
+        final Message response = ((RaftServerService) node).handleAppendEntriesRequest(request, done);
+
+        assert response != null : "Heartbeat must be answered synchronously";
+
+        return response;
+    }
+
+    @Override
+    public String interest() {
+        return CoalescedHeartbeatRequest.class.getName();
+    }
+
+    /**
+     * @return Metric set of the processor.
+     */
+    public MetricSet metrics() {
+        return () -> {
+            Map<String, Metric> gauges = new HashMap<>();
+
+            gauges.put("heartbeat-batches-received", (Gauge<Long>) batches::sum);
+            gauges.put("heartbeats-received", (Gauge<Long>) heartbeats::sum);
+
+            return gauges;
+        };
+    }
+}
@@ -33,6 +33,8 @@ import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesResponse;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetFileRequest;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetFileResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetSnapshotBatchRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetSnapshotBatchResponse;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.InstallSnapshotRequest;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.InstallSnapshotResponse;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.ReadIndexRequest;
@@ -91,6 +93,25 @@ public class DefaultRaftClientService extends AbstractClientService implements R
         return failedFuture(executor, request, done, endpoint);
     }
 
+    @Override
+    public Future<Message> heartbeat(final Endpoint endpoint, final AppendEntriesRequest request,
+        final int timeoutMs, final RpcResponseClosure<AppendEntriesResponse> done) {
+        final HeartbeatCoalescer coalescer = this.nodeOptions.getHeartbeatCoalescer();
+
+        if (coalescer == null) {
+            return appendEntries(endpoint, request, timeoutMs, done);
+        }
+
+        final Executor executor = this.appendEntriesExecutorMap.computeIfAbsent(endpoint,
+            k -> nodeOptions.getStripedExecutor().next());
+
+        if (connect(endpoint)) {
+            return coalescer.enqueue(endpoint, request, timeoutMs, done, executor);
+        }
+
+        return failedFuture(executor, request, done, endpoint);
+    }
+
     @Override
     public Future<Message> getFile(final Endpoint endpoint, final GetFileRequest request, final int timeoutMs,
         final RpcResponseClosure<GetFileResponse> done) {
@@ -100,6 +121,12 @@ public class DefaultRaftClientService extends AbstractClientService implements R
         return invokeWithDone(endpoint, request, ctx, done, timeoutMs);
     }
 
+    @Override
+    public Future<Message> getSnapshotBatch(final Endpoint endpoint, final GetSnapshotBatchRequest request,
+        final int timeoutMs, final RpcResponseClosure<GetSnapshotBatchResponse> done) {
+        return invokeWithDone(endpoint, request, done, timeoutMs);
+    }
+
     @Override
     public Future<Message> installSnapshot(final Endpoint endpoint, final InstallSnapshotRequest request,
         final RpcResponseClosure<InstallSnapshotResponse> done) {
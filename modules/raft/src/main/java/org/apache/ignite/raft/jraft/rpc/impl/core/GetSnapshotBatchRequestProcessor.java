@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import java.util.concurrent.Executor;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestClosure;
+import org.apache.ignite.raft.jraft.rpc.RpcRequestProcessor;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetSnapshotBatchRequest;
+import org.apache.ignite.raft.jraft.storage.FileService;
+
+/**
+ * Get snapshot batch request processor.
+ */
+public class GetSnapshotBatchRequestProcessor extends RpcRequestProcessor<GetSnapshotBatchRequest> {
+
+    public GetSnapshotBatchRequestProcessor(Executor executor, RaftMessagesFactory msgFactory) {
+        super(executor, msgFactory);
+    }
+
+    @Override
+    public Message processRequest(final GetSnapshotBatchRequest request, final RpcRequestClosure done) {
+        return FileService.getInstance().handleGetSnapshotBatch(request);
+    }
+
+    @Override
+    public String interest() {
+        return GetSnapshotBatchRequest.class.getName();
+    }
+}
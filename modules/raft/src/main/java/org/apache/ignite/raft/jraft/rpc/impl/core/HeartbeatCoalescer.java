@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.lang.IgniteLogger;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.Status;
+import org.apache.ignite.raft.jraft.core.Scheduler;
+import org.apache.ignite.raft.jraft.error.InvokeTimeoutException;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.InvokeCallback;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RpcClient;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.ErrorResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcResponseClosure;
+import org.apache.ignite.raft.jraft.util.Endpoint;
+import org.apache.ignite.raft.jraft.util.Utils;
+
+/**
+ * Node-wide heartbeat batcher. Heartbeats of all the raft groups led on this node are queued per destination
+ * and sent as a single {@link CoalescedHeartbeatRequest} once per coalescing interval, so the number of heartbeat
+ * messages between two nodes doesn't depend on the number of raft groups they share.
+ */
+public class HeartbeatCoalescer {
+    private static final IgniteLogger LOG = IgniteLogger.forClass(HeartbeatCoalescer.class);
+
+    /** Client used to send batches. */
+    private final RpcClient rpcClient;
+
+    /** Message factory. */
+    private final RaftMessagesFactory msgFactory;
+
+    /** Scheduler for the flush task. */
+    private final Scheduler scheduler;
+
+    /** Coalescing interval in milliseconds. */
+    private final int intervalMs;
+
+    /** Pending heartbeats by destination. */
+    private final ConcurrentMap<Endpoint, Queue<PendingHeartbeat>> pending = new ConcurrentHashMap<>();
+
+    /** Number of heartbeats passed through the coalescer. */
+    private final LongAdder heartbeats = new LongAdder();
+
+    /** Number of network messages actually sent to carry the heartbeats. */
+    private final LongAdder heartbeatMessages = new LongAdder();
+
+    /** Flush task. */
+    private volatile ScheduledFuture<?> flushTask;
+
+    /** Stopped flag. */
+    private volatile boolean stopped;
+
+    /**
+     * @param rpcClient The RPC client.
+     * @param msgFactory The message factory.
+     * @param scheduler The scheduler.
+     * @param intervalMs The coalescing interval.
+     */
+    public HeartbeatCoalescer(RpcClient rpcClient, RaftMessagesFactory msgFactory, Scheduler scheduler, int intervalMs) {
+        assert intervalMs > 0 : intervalMs;
+
+        this.rpcClient = rpcClient;
+        this.msgFactory = msgFactory;
+        this.scheduler = scheduler;
+        this.intervalMs = intervalMs;
+    }
+
+    /**
+     * Starts the periodic flush.
+     */
+    public void start() {
+        flushTask = scheduler.scheduleAtFixedRate(this::flush, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the coalescer. All the heartbeats which have not been sent yet are failed.
+     */
+    public void stop() {
+        stopped = true;
+
+        ScheduledFuture<?> task = flushTask;
+
+        if (task != null) {
+            task.cancel(false);
+        }
+
+        for (Queue<PendingHeartbeat> queue : pending.values()) {
+            PendingHeartbeat hb;
+
+            while ((hb = queue.poll()) != null) {
+                hb.fail(new Status(RaftError.ESTOP, "Heartbeat coalescer is stopped"), new IllegalStateException("Stopped"));
+            }
+        }
+    }
+
+    /**
+     * Queues a heartbeat to be sent with the next batch to the endpoint.
+     *
+     * @param endpoint Destination.
+     * @param request Heartbeat request.
+     * @param timeoutMs Response timeout.
+     * @param done Closure to run on response.
+     * @param executor Executor to run the closure in.
+     * @return The future completed with the heartbeat response.
+     */
+    public CompletableFuture<Message> enqueue(
+            Endpoint endpoint,
+            AppendEntriesRequest request,
+            int timeoutMs,
+            RpcResponseClosure<AppendEntriesResponse> done,
+            Executor executor
+    ) {
+        var hb = new PendingHeartbeat(request, timeoutMs, done, executor);
+
+        if (stopped) {
+            hb.fail(new Status(RaftError.ESTOP, "Heartbeat coalescer is stopped"), new IllegalStateException("Stopped"));
+
+            return hb.future;
+        }
+
+        heartbeats.increment();
+
+        pending.computeIfAbsent(endpoint, e -> new ConcurrentLinkedQueue<>()).add(hb);
+
+        return hb.future;
+    }
+
+    /**
+     * Sends all the queued heartbeats, one message per destination.
+     */
+    void flush() {
+        for (Map.Entry<Endpoint, Queue<PendingHeartbeat>> entry : pending.entrySet()) {
+            Queue<PendingHeartbeat> queue = entry.getValue();
+
+            if (queue.isEmpty()) {
+                continue;
+            }
+
+            List<PendingHeartbeat> batch = new ArrayList<>();
+            PendingHeartbeat hb;
+
+            while ((hb = queue.poll()) != null) {
+                // Cancelled heartbeats belong to stopped replicators, there is no need to send them.
+                if (!hb.future.isDone()) {
+                    batch.add(hb);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                try {
+                    send(entry.getKey(), batch);
+                } catch (Throwable t) {
+                    LOG.error("Failed to send coalesced heartbeats to {}.", t, entry.getKey());
+
+                    for (PendingHeartbeat failed : batch) {
+                        failed.fail(new Status(RaftError.EINTERNAL, "Fail to send a RPC request:" + t.getMessage()), t);
+                    }
+                }
+            }
+        }
+    }
+
+    private void send(Endpoint endpoint, List<PendingHeartbeat> batch) throws Exception {
+        int timeoutMs = Integer.MAX_VALUE;
+
+        List<AppendEntriesRequest> requests = new ArrayList<>(batch.size());
+
+        for (PendingHeartbeat hb : batch) {
+            timeoutMs = Math.min(timeoutMs, hb.timeoutMs);
+
+            requests.add(hb.request);
+        }
+
+        heartbeatMessages.increment();
+
+        // A single heartbeat is sent as is, there is nothing to coalesce.
+        Object msg = batch.size() == 1
+                ? requests.get(0)
+                : msgFactory.coalescedHeartbeatRequest().heartbeats(requests).build();
+
+        rpcClient.invokeAsync(endpoint, msg, null, new InvokeCallback() {
+            @Override
+            public void complete(Object result, Throwable err) {
+                if (err != null) {
+                    Status status = new Status(err instanceof InvokeTimeoutException ? RaftError.ETIMEDOUT : RaftError.EINTERNAL,
+                            "RPC exception:" + err.getMessage());
+
+                    for (PendingHeartbeat hb : batch) {
+                        hb.fail(status, err);
+                    }
+                } else if (result instanceof CoalescedHeartbeatResponse) {
+                    Iterator<Message> responses = ((CoalescedHeartbeatResponse) result).responses().iterator();
+
+                    for (PendingHeartbeat hb : batch) {
+                        hb.complete(responses.next());
+                    }
+                } else {
+                    // Either a response to a single heartbeat or an error response to the whole batch.
+                    for (PendingHeartbeat hb : batch) {
+                        hb.complete((Message) result);
+                    }
+                }
+            }
+
+            @Override
+            public Executor executor() {
+                // Responses are only dispatched here, the closures run in the executors of their heartbeats.
+                return Runnable::run;
+            }
+        }, timeoutMs);
+    }
+
+    /**
+     * @return Number of heartbeats passed through the coalescer.
+     */
+    public long heartbeats() {
+        return heartbeats.sum();
+    }
+
+    /**
+     * @return Number of network messages sent to carry the heartbeats.
+     */
+    public long heartbeatMessages() {
+        return heartbeatMessages.sum();
+    }
+
+    /**
+     * @return Metric set of the coalescer.
+     */
+    public MetricSet metrics() {
+        return () -> {
+            Map<String, Metric> gauges = new HashMap<>();
+
+            gauges.put("coalesced-heartbeats", (Gauge<Long>) this::heartbeats);
+            gauges.put("heartbeat-messages-sent", (Gauge<Long>) this::heartbeatMessages);
+
+            return gauges;
+        };
+    }
+
+    /**
+     * A heartbeat waiting to be sent.
+     */
+    private static class PendingHeartbeat {
+        final AppendEntriesRequest request;
+
+        final int timeoutMs;
+
+        final RpcResponseClosure<AppendEntriesResponse> done;
+
+        final Executor executor;
+
+        final CompletableFuture<Message> future = new CompletableFuture<>();
+
+        PendingHeartbeat(AppendEntriesRequest request, int timeoutMs, RpcResponseClosure<AppendEntriesResponse> done,
+                Executor executor) {
+            this.request = request;
+            this.timeoutMs = timeoutMs;
+            this.done = done;
+            this.executor = executor;
+        }
+
+        void complete(Message msg) {
+            Utils.runInThread(executor, () -> {
+                Status status = Status.OK();
+
+                if (msg instanceof ErrorResponse) {
+                    ErrorResponse errResp = (ErrorResponse) msg;
+
+                    status = new Status(errResp.errorCode(), errResp.errorMsg());
+                }
+
+                if (done != null) {
+                    try {
+                        if (status.isOk()) {
+                            done.setResponse((AppendEntriesResponse) msg);
+                        }
+
+                        done.run(status);
+                    } catch (Throwable t) {
+                        LOG.error("Fail to run RpcResponseClosure, the request is {}.", t, request);
+                    }
+                }
+
+                if (!future.isDone()) {
+                    future.complete(msg);
+                }
+            });
+        }
+
+        void fail(Status status, Throwable err) {
+            Utils.runInThread(executor, () -> {
+                if (done != null) {
+                    try {
+                        done.run(status);
+                    } catch (Throwable t) {
+                        LOG.error("Fail to run RpcResponseClosure, the request is {}.", t, request);
+                    }
+                }
+
+                if (!future.isDone()) {
+                    future.completeExceptionally(err);
+                }
+            });
+        }
+    }
+}
@@ -31,7 +31,10 @@ import org.apache.ignite.raft.jraft.rpc.Message;
 import org.apache.ignite.raft.jraft.rpc.RaftRpcFactory;
 import org.apache.ignite.raft.jraft.rpc.RpcRequestClosure;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetFileRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetSnapshotBatchRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetSnapshotBatchResponse;
 import org.apache.ignite.raft.jraft.storage.io.FileReader;
+import org.apache.ignite.raft.jraft.storage.snapshot.local.SnapshotFileReader;
 import org.apache.ignite.raft.jraft.util.ByteBufferCollector;
 import org.apache.ignite.raft.jraft.util.ByteString;
 import org.apache.ignite.raft.jraft.util.OnlyForTest;
@@ -131,6 +134,51 @@ public final class FileService {
         }
     }
 
+    /**
+     * Handle GetSnapshotBatchRequest, read the next batch of the snapshot stream.
+     */
+    public Message handleGetSnapshotBatch(final GetSnapshotBatchRequest request) {
+        if (request.maxBytes() <= 0) {
+            return RaftRpcFactory.DEFAULT //
+                .newResponse(msgFactory, RaftError.EREQUEST, "Invalid request: %s", request);
+        }
+        final FileReader reader = this.fileReaderMap.get(request.readerId());
+
+        if (reader == null) {
+            return RaftRpcFactory.DEFAULT //
+                .newResponse(msgFactory, RaftError.ENOENT, "Fail to find reader=%d",
+                    request.readerId());
+        }
+
+        if (!(reader instanceof SnapshotFileReader)) {
+            return RaftRpcFactory.DEFAULT //
+                .newResponse(msgFactory, RaftError.EINVAL, "Reader=%d is not a snapshot reader",
+                    request.readerId());
+        }
+
+        try {
+            final GetSnapshotBatchResponse response = ((SnapshotFileReader) reader)
+                .readBatch(msgFactory.getSnapshotBatchResponse(), request.maxBytes());
+            if (response == null) {
+                return RaftRpcFactory.DEFAULT //
+                    .newResponse(msgFactory, RaftError.EINVAL, "Snapshot streaming is not supported by path=%s",
+                        reader.getPath());
+            }
+            return response;
+        }
+        catch (final RetryAgainException e) {
+            return RaftRpcFactory.DEFAULT //
+                .newResponse(msgFactory, RaftError.EAGAIN,
+                    "Fail to stream snapshot from path=%s with error: %s", reader.getPath(), e.getMessage());
+        }
+        catch (final Exception e) {
+            LOG.error("Fail to stream snapshot path={}", e, reader.getPath());
+            return RaftRpcFactory.DEFAULT //
+                .newResponse(msgFactory, RaftError.EIO,
+                    "Fail to stream snapshot from path=%s", reader.getPath());
+        }
+    }
+
     /**
      * Adds a file reader and return it's generated readerId.
      */
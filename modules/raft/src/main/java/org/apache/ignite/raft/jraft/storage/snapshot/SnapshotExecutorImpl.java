@@ -231,6 +231,9 @@ public class SnapshotExecutorImpl implements SnapshotExecutor {
         if (tmp != null && !tmp.hasServerAddr()) {
             tmp.setServerAddr(opts.getAddr());
         }
+        if (tmp != null && this.node.getOptions() != null) {
+            tmp.setStateMachine(this.node.getOptions().getFsm());
+        }
         final SnapshotReader reader = this.snapshotStorage.open();
         if (reader == null) {
             return true;
@@ -28,6 +28,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteLogger;
+import org.apache.ignite.raft.jraft.StateMachine;
 import org.apache.ignite.raft.jraft.entity.LocalFileMetaOutter.FileSource;
 import org.apache.ignite.raft.jraft.entity.LocalFileMetaOutter.LocalFileMeta;
 import org.apache.ignite.raft.jraft.error.RaftError;
@@ -40,6 +41,7 @@ import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotCopier;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotReader;
 import org.apache.ignite.raft.jraft.storage.snapshot.remote.RemoteFileCopier;
 import org.apache.ignite.raft.jraft.storage.snapshot.remote.Session;
+import org.apache.ignite.raft.jraft.storage.snapshot.remote.SnapshotStreamSession;
 import org.apache.ignite.raft.jraft.util.ArrayDeque;
 import org.apache.ignite.raft.jraft.util.ByteBufferCollector;
 import org.apache.ignite.raft.jraft.util.Requires;
@@ -118,6 +120,9 @@ public class LocalSnapshotCopier extends SnapshotCopier {
             if (!isOk()) {
                 break;
             }
+            if (streamSnapshot()) {
+                break;
+            }
             final Set<String> files = this.remoteSnapshot.listFiles();
             for (final String file : files) {
                 copyFile(file);
@@ -136,6 +141,82 @@ public class LocalSnapshotCopier extends SnapshotCopier {
         }
     }
 
+    /**
+     * Receives the snapshot streamed by the state machine of the leader instead of copying its files. The snapshot is
+     * saved by StateMachine#onSnapshotReceive(SnapshotWriter, java.util.Iterator). Not used when the files are
+     * filtered before copying, because the unchanged files are reused then.
+     *
+     * @return false if the leader doesn't stream the snapshot and the files are to be copied
+     */
+    boolean streamSnapshot() throws IOException, InterruptedException {
+        final StateMachine fsm = this.nodeOptions.getFsm();
+        if (fsm == null || this.filterBeforeCopyRemote) {
+            return false;
+        }
+        SnapshotStreamSession session = null;
+        try {
+            this.lock.lock();
+            try {
+                if (this.cancelled) {
+                    if (isOk()) {
+                        setError(RaftError.ECANCELED, "ECANCELED");
+                    }
+                    return true;
+                }
+                session = this.copier.startStream();
+                this.curSession = session;
+            }
+            finally {
+                this.lock.unlock();
+            }
+            if (!session.awaitStarted()) { // wait out of lock
+                if (session.status().getCode() == RaftError.EINVAL.getNumber()) {
+                    LOG.info("Snapshot streaming is not supported by the leader, copying files: {}.",
+                        session.status());
+                    return false;
+                }
+                if (isOk()) {
+                    setError(session.status().getCode(), session.status().getErrorMsg());
+                }
+                return true;
+            }
+            boolean saved;
+            try {
+                saved = fsm.onSnapshotReceive(this.writer, session);
+            }
+            catch (final Exception e) {
+                LOG.error("Fail to save streamed snapshot to {}.", e, this.writer.getPath());
+                saved = false;
+            }
+            this.lock.lock();
+            try {
+                this.curSession = null;
+            }
+            finally {
+                this.lock.unlock();
+            }
+            if (!session.status().isOk() && isOk()) {
+                setError(session.status().getCode(), session.status().getErrorMsg());
+                return true;
+            }
+            if (!saved) {
+                if (isOk()) {
+                    setError(RaftError.EIO, "Fail to save streamed snapshot to %s", this.writer.getPath());
+                }
+                return true;
+            }
+            if (!this.writer.sync()) {
+                setError(RaftError.EIO, "Fail to sync writer");
+            }
+            return true;
+        }
+        finally {
+            if (session != null) {
+                Utils.closeQuietly(session);
+            }
+        }
+    }
+
     void copyFile(final String fileName) throws IOException, InterruptedException {
         if (this.writer.getFileMeta(fileName) != null) {
             LOG.info("Skipped downloading {}", fileName);
@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Set;
 import org.apache.ignite.lang.IgniteLogger;
+import org.apache.ignite.raft.jraft.StateMachine;
 import org.apache.ignite.raft.jraft.entity.RaftOutter.SnapshotMeta;
 import org.apache.ignite.raft.jraft.error.RaftError;
 import org.apache.ignite.raft.jraft.option.RaftOptions;
@@ -39,12 +40,16 @@ public class LocalSnapshotReader extends SnapshotReader {
 
     /** Generated reader id */
     private long readerId;
+    /** File reader registered in the file service */
+    private SnapshotFileReader fileReader;
     /** remote peer addr */
     private final Endpoint addr;
     private final LocalSnapshotMetaTable metaTable;
     private final String path;
     private final LocalSnapshotStorage snapshotStorage;
     private final SnapshotThrottle snapshotThrottle;
+    /** State machine streaming the snapshot, null if only files are copied */
+    private StateMachine fsm;
 
     @Override
     public void close() throws IOException {
@@ -63,6 +68,10 @@ public class LocalSnapshotReader extends SnapshotReader {
         this.metaTable = new LocalSnapshotMetaTable(raftOptions);
     }
 
+    public void setStateMachine(final StateMachine fsm) {
+        this.fsm = fsm;
+    }
+
     @OnlyForTest
     long getReaderId() {
         return this.readerId;
@@ -118,6 +127,10 @@ public class LocalSnapshotReader extends SnapshotReader {
         if (this.readerId == 0) {
             final SnapshotFileReader reader = new SnapshotFileReader(this.path, this.snapshotThrottle);
             reader.setMetaTable(this.metaTable);
+            final StateMachine fsm = this.fsm;
+            if (fsm != null) {
+                reader.setStreamFactory(() -> fsm.onSnapshotStream(this.path));
+            }
             if (!reader.open()) {
                 LOG.error("Open snapshot {} failed.", this.path);
                 return null;
@@ -127,6 +140,7 @@ public class LocalSnapshotReader extends SnapshotReader {
                 LOG.error("Fail to add reader to file_service.");
                 return null;
             }
+            this.fileReader = reader;
         }
 
         return String.format(REMOTE_SNAPSHOT_URI_SCHEME + "%s/%d", this.addr.toString(), this.readerId);
@@ -136,6 +150,8 @@ public class LocalSnapshotReader extends SnapshotReader {
         if (this.readerId > 0) {
             FileService.getInstance().removeReader(this.readerId);
             this.readerId = 0;
+            this.fileReader.closeStream();
+            this.fileReader = null;
         }
         else {
             if (this.readerId != 0) {
@@ -30,6 +30,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteLogger;
+import org.apache.ignite.raft.jraft.StateMachine;
 import org.apache.ignite.raft.jraft.error.RaftError;
 import org.apache.ignite.raft.jraft.option.RaftOptions;
 import org.apache.ignite.raft.jraft.option.SnapshotCopierOptions;
@@ -58,6 +59,7 @@ public class LocalSnapshotStorage implements SnapshotStorage {
     private final Lock lock;
     private final RaftOptions raftOptions;
     private SnapshotThrottle snapshotThrottle;
+    private StateMachine fsm;
 
     @Override
     public void setSnapshotThrottle(SnapshotThrottle snapshotThrottle) {
@@ -72,6 +74,17 @@ public class LocalSnapshotStorage implements SnapshotStorage {
         this.addr = addr;
     }
 
+    public StateMachine getStateMachine() {
+        return this.fsm;
+    }
+
+    /**
+     * Sets the state machine which streams snapshots to followers, see StateMachine#onSnapshotStream(String).
+     */
+    public void setStateMachine(StateMachine fsm) {
+        this.fsm = fsm;
+    }
+
     public LocalSnapshotStorage(String path, RaftOptions raftOptions) {
         super();
         this.path = path;
@@ -300,8 +313,9 @@ public class LocalSnapshotStorage implements SnapshotStorage {
             return null;
         }
         final String snapshotPath = getSnapshotPath(lsIndex);
-        final SnapshotReader reader = new LocalSnapshotReader(this, this.snapshotThrottle, this.addr, this.raftOptions,
-            snapshotPath);
+        final LocalSnapshotReader reader = new LocalSnapshotReader(this, this.snapshotThrottle, this.addr,
+            this.raftOptions, snapshotPath);
+        reader.setStateMachine(this.fsm);
         if (!reader.init(null)) {
             LOG.error("Fail to init reader for path {}.", snapshotPath);
             unref(lsIndex);
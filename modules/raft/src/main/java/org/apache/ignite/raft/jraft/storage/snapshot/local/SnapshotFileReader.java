@@ -20,26 +20,53 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.lang.IgniteLogger;
 import org.apache.ignite.raft.jraft.entity.LocalFileMetaOutter.LocalFileMeta;
 import org.apache.ignite.raft.jraft.error.RetryAgainException;
+import org.apache.ignite.raft.jraft.rpc.GetSnapshotBatchResponseBuilder;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetSnapshotBatchResponse;
 import org.apache.ignite.raft.jraft.storage.SnapshotThrottle;
 import org.apache.ignite.raft.jraft.storage.io.LocalDirReader;
 import org.apache.ignite.raft.jraft.storage.snapshot.Snapshot;
 import org.apache.ignite.raft.jraft.util.ByteBufferCollector;
+import org.apache.ignite.raft.jraft.util.ByteString;
 
 /**
  * Snapshot file reader
  */
 public class SnapshotFileReader extends LocalDirReader {
+    private static final IgniteLogger LOG = IgniteLogger.forClass(SnapshotFileReader.class);
 
     private final SnapshotThrottle snapshotThrottle;
     private LocalSnapshotMetaTable metaTable;
 
+    /**
+     * Opens the stream of the snapshot entries, see StateMachine#onSnapshotStream(String)
+     */
+    private Supplier<Cursor<byte[]>> streamFactory;
+    /**
+     * The stream, opened by the first batch request
+     */
+    private Cursor<byte[]> stream;
+    /**
+     * Sequence number of the next batch
+     */
+    private long nextBatchSeq;
+    private boolean streamClosed;
+
     public SnapshotFileReader(String path, SnapshotThrottle snapshotThrottle) {
         super(path);
         this.snapshotThrottle = snapshotThrottle;
     }
 
+    public void setStreamFactory(Supplier<Cursor<byte[]>> streamFactory) {
+        this.streamFactory = streamFactory;
+    }
+
     public LocalSnapshotMetaTable getMetaTable() {
         return this.metaTable;
     }
@@ -84,4 +111,71 @@ public class SnapshotFileReader extends LocalDirReader {
 
         return readFileWithMeta(metaBufferCollector, fileName, fileMeta, offset, newMaxCount);
     }
+
+    /**
+     * Reads the next batch of the snapshot stream. Batches are numbered in the order they are read, so concurrent
+     * requests get distinct batches.
+     *
+     * @param responseBuilder builder of the response
+     * @param maxBytes max size of the batch, exceeded by at most one entry
+     * @return the batch or null if the state machine doesn't support snapshot streaming
+     */
+    public synchronized GetSnapshotBatchResponse readBatch(final GetSnapshotBatchResponseBuilder responseBuilder,
+        final int maxBytes) throws RetryAgainException {
+        if (this.stream == null) {
+            if (this.streamFactory == null || this.streamClosed) {
+                return null;
+            }
+            this.stream = this.streamFactory.get();
+            if (this.stream == null) {
+                this.streamClosed = true;
+                return null;
+            }
+        }
+
+        // go through throttle
+        long newMaxBytes = maxBytes;
+        if (this.snapshotThrottle != null) {
+            newMaxBytes = this.snapshotThrottle.throttledByThroughput(maxBytes);
+            if (newMaxBytes == 0) {
+                throw new RetryAgainException("readBatch throttled by throughput");
+            }
+        }
+
+        final List<byte[]> entries = new ArrayList<>();
+        int size = 0;
+        while (size < newMaxBytes && this.stream.hasNext()) {
+            final byte[] entry = this.stream.next();
+            entries.add(entry);
+            size += Integer.BYTES + entry.length;
+        }
+
+        final ByteBuffer buf = ByteBuffer.allocate(size);
+        for (final byte[] entry : entries) {
+            buf.putInt(entry.length).put(entry);
+        }
+        buf.flip();
+
+        return responseBuilder
+            .seq(this.nextBatchSeq++)
+            .eof(!this.stream.hasNext())
+            .data(buf.hasRemaining() ? new ByteString(buf) : ByteString.EMPTY)
+            .build();
+    }
+
+    /**
+     * Closes the snapshot stream, further batch requests are not served.
+     */
+    public synchronized void closeStream() {
+        this.streamClosed = true;
+        if (this.stream != null) {
+            try {
+                this.stream.close();
+            }
+            catch (final Exception e) {
+                LOG.warn("Fail to close snapshot stream of {}.", e, getPath());
+            }
+            this.stream = null;
+        }
+    }
 }
@@ -191,4 +191,16 @@ public class RemoteFileCopier {
         session.sendNextRpc();
         return session;
     }
+
+    /**
+     * Starts receiving the snapshot streamed by the state machine of the remote peer.
+     *
+     * @return the session, its iterator returns the snapshot entries
+     */
+    public SnapshotStreamSession startStream() {
+        final SnapshotStreamSession session = new SnapshotStreamSession(this.rpcService, this.timerManager,
+            this.snapshotThrottle, this.raftOptions, this.nodeOptions, this.readId, this.endpoint);
+        session.start();
+        return session;
+    }
 }
@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.raft.jraft.storage.snapshot.remote;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.ignite.lang.IgniteLogger;
+import org.apache.ignite.raft.jraft.Status;
+import org.apache.ignite.raft.jraft.core.Scheduler;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.option.CopyOptions;
+import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.rpc.RaftClientService;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetSnapshotBatchRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetSnapshotBatchResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcResponseClosureAdapter;
+import org.apache.ignite.raft.jraft.storage.SnapshotThrottle;
+import org.apache.ignite.raft.jraft.util.ByteString;
+import org.apache.ignite.raft.jraft.util.Endpoint;
+import org.apache.ignite.raft.jraft.util.OnlyForTest;
+import org.apache.ignite.raft.jraft.util.Utils;
+
+/**
+ * Session receiving a snapshot streamed by the state machine of the leader, see
+ * StateMachine#onSnapshotStream(String). Up to RaftOptions#getMaxSnapshotStreamInflightBatches batches are requested
+ * or received but not yet consumed at any time, so the leader reads the next batches while the follower saves the
+ * previous ones. Batches may arrive out of order, the entries are returned by the iterator in the order of the stream.
+ * Unlike the file copy, a failed batch request fails the session: the leader can't read the same batch again.
+ */
+public class SnapshotStreamSession implements Session, Iterator<byte[]> {
+    private static final IgniteLogger LOG = IgniteLogger.forClass(SnapshotStreamSession.class);
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition batchReceived = this.lock.newCondition();
+    private final Status st = Status.OK();
+    private final CountDownLatch finishLatch = new CountDownLatch(1);
+    private final RaftClientService rpcService;
+    private final Scheduler timerManager;
+    private final SnapshotThrottle snapshotThrottle;
+    private final RaftOptions raftOptions;
+    private final NodeOptions nodeOptions;
+    private final Endpoint endpoint;
+    private final long readerId;
+    private CopyOptions copyOptions = new CopyOptions();
+    /**
+     * Received batches by sequence number
+     */
+    private final Map<Long, ByteString> batches = new HashMap<>();
+    /**
+     * Number of requests sent or waiting for a retry
+     */
+    private int inflight;
+    /**
+     * Sequence number of the last batch, known after it is received
+     */
+    private long eofSeq = Long.MAX_VALUE;
+    /**
+     * Sequence number of the next batch to consume
+     */
+    private long nextSeq;
+    /**
+     * Entries of the batch being consumed
+     */
+    private ByteBuffer current;
+    private boolean finished;
+
+    public SnapshotStreamSession(final RaftClientService rpcService, final Scheduler timerManager,
+        final SnapshotThrottle snapshotThrottle, final RaftOptions raftOptions, final NodeOptions nodeOptions,
+        final long readerId, final Endpoint endpoint) {
+        this.rpcService = rpcService;
+        this.timerManager = timerManager;
+        this.snapshotThrottle = snapshotThrottle;
+        this.raftOptions = raftOptions;
+        this.nodeOptions = nodeOptions;
+        this.readerId = readerId;
+        this.endpoint = endpoint;
+    }
+
+    public void setCopyOptions(final CopyOptions copyOptions) {
+        this.copyOptions = copyOptions;
+    }
+
+    @OnlyForTest
+    int getInflight() {
+        this.lock.lock();
+        try {
+            return this.inflight;
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Sends the first batch requests.
+     */
+    public void start() {
+        this.lock.lock();
+        try {
+            fillWindow();
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the first batch is received or the session fails.
+     *
+     * @return true if the stream has started, false if the session failed, see {@link #status()}
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean awaitStarted() throws InterruptedException {
+        this.lock.lock();
+        try {
+            while (!this.finished && this.nextSeq == 0 && !this.batches.containsKey(0L)) {
+                this.batchReceived.await();
+            }
+            return this.st.isOk();
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the next entry is received. Throws IllegalStateException if the session failed or was canceled.
+     */
+    @Override
+    public boolean hasNext() {
+        if (this.current != null && this.current.hasRemaining()) {
+            return true;
+        }
+        this.lock.lock();
+        try {
+            while (true) {
+                if (this.current != null && this.current.hasRemaining()) {
+                    return true;
+                }
+                if (!this.st.isOk()) {
+                    throw new IllegalStateException("Fail to receive snapshot stream: " + this.st);
+                }
+                if (this.nextSeq > this.eofSeq) {
+                    onFinished();
+                    return false;
+                }
+                final ByteString batch = this.batches.remove(this.nextSeq);
+                if (batch == null) {
+                    this.batchReceived.await();
+                    continue;
+                }
+                this.nextSeq++;
+                this.current = batch.asReadOnlyByteBuffer();
+                fillWindow();
+            }
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while receiving snapshot stream", e);
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final byte[] entry = new byte[this.current.getInt()];
+        this.current.get(entry);
+        return entry;
+    }
+
+    @Override
+    public void cancel() {
+        this.lock.lock();
+        try {
+            if (this.finished) {
+                return;
+            }
+            if (this.st.isOk()) {
+                this.st.setError(RaftError.ECANCELED, RaftError.ECANCELED.name());
+            }
+            onFinished();
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void join() throws InterruptedException {
+        this.finishLatch.await();
+    }
+
+    @Override
+    public Status status() {
+        return this.st;
+    }
+
+    @Override
+    public void close() {
+        cancel();
+    }
+
+    private void onFinished() {
+        if (!this.finished) {
+            // EINVAL means the leader doesn't stream snapshots, the copier falls back to copying files
+            if (!this.st.isOk() && this.st.getRaftError() != RaftError.EINVAL) {
+                LOG.error("Fail to receive snapshot stream, readerId={} nextSeq={} status={}", this.readerId,
+                    this.nextSeq, this.st);
+            }
+            this.batches.clear();
+            this.finished = true;
+            this.batchReceived.signalAll();
+            this.finishLatch.countDown();
+        }
+    }
+
+    /**
+     * Requests more batches while the window allows, must be called under the lock.
+     */
+    private void fillWindow() {
+        while (!this.finished && this.eofSeq == Long.MAX_VALUE
+            && this.inflight + this.batches.size() < this.raftOptions.getMaxSnapshotStreamInflightBatches()) {
+            this.inflight++;
+            sendRequest();
+        }
+    }
+
+    private void onTimer() {
+        Utils.runInThread(this.nodeOptions.getCommonExecutor(), () -> {
+            this.lock.lock();
+            try {
+                if (!this.finished) {
+                    sendRequest();
+                }
+            }
+            finally {
+                this.lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Sends a request counted as inflight, must be called under the lock.
+     */
+    private void sendRequest() {
+        final int maxBytes = this.raftOptions.getMaxSnapshotStreamBatchSize();
+        // throttle
+        long newMaxBytes = maxBytes;
+        if (this.snapshotThrottle != null) {
+            newMaxBytes = this.snapshotThrottle.throttledByThroughput(maxBytes);
+            if (newMaxBytes == 0) {
+                this.timerManager.schedule(this::onTimer, this.copyOptions.getRetryIntervalMs(),
+                    TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+        final GetSnapshotBatchRequest request = this.raftOptions.getRaftMessagesFactory()
+            .getSnapshotBatchRequest()
+            .readerId(this.readerId)
+            .maxBytes((int) newMaxBytes)
+            .build();
+        this.rpcService.getSnapshotBatch(this.endpoint, request, this.copyOptions.getTimeoutMs(),
+            new RpcResponseClosureAdapter<GetSnapshotBatchResponse>() {
+                @Override
+                public void run(final Status status) {
+                    onRpcReturned(status, getResponse());
+                }
+            });
+    }
+
+    void onRpcReturned(final Status status, final GetSnapshotBatchResponse response) {
+        this.lock.lock();
+        try {
+            if (this.finished) {
+                return;
+            }
+            if (!status.isOk()) {
+                // Throttled reading didn't consume the stream, so the request can be repeated
+                if (status.getCode() == RaftError.EAGAIN.getNumber()) {
+                    this.timerManager.schedule(this::onTimer, this.copyOptions.getRetryIntervalMs(),
+                        TimeUnit.MILLISECONDS);
+                    return;
+                }
+                this.st.setError(status.getCode(), status.getErrorMsg());
+                onFinished();
+                return;
+            }
+            this.inflight--;
+            if (response.eof()) {
+                this.eofSeq = Math.min(this.eofSeq, response.seq());
+            }
+            if (response.seq() <= this.eofSeq) {
+                this.batches.put(response.seq(), response.data());
+                this.batchReceived.signalAll();
+            }
+            fillWindow();
+        }
+        finally {
+            this.lock.unlock();
+        }
+    }
+}
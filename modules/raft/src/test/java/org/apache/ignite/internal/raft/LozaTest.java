@@ -17,11 +17,24 @@
 
 package org.apache.ignite.internal.raft;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
+import org.apache.ignite.internal.raft.server.RaftGroupOptions;
+import org.apache.ignite.internal.raft.server.impl.JraftServerImpl;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.apache.ignite.lang.NodeStoppingException;
 import org.apache.ignite.network.ClusterLocalConfiguration;
@@ -33,6 +46,7 @@ import org.apache.ignite.network.TopologyService;
 import org.apache.ignite.raft.client.service.RaftGroupListener;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -77,8 +91,120 @@ public class LozaTest extends IgniteAbstractTest {
 
         Supplier<RaftGroupListener> lsnrSupplier = () -> null;
 
-        assertThrows(NodeStoppingException.class, () -> loza.updateRaftGroup(raftGroupId, nodes, newNodes, lsnrSupplier, () -> null));
+        assertThrows(NodeStoppingException.class, () -> loza.updateRaftGroup(raftGroupId, nodes, newNodes, lsnrSupplier, () -> null,
+                RaftGroupOptions.defaults()));
         assertThrows(NodeStoppingException.class, () -> loza.stopRaftGroup(raftGroupId));
         assertThrows(NodeStoppingException.class, () -> loza.prepareRaftGroup(raftGroupId, nodes, lsnrSupplier));
     }
+
+    /**
+     * Checks that a stop of a raft group waits for the running start of its local node, so the started node is stopped.
+     *
+     * @throws Exception If fail.
+     */
+    @Test
+    public void testStopRaftGroupDuringStart() throws Exception {
+        String raftGroupId = "test_raft_group";
+
+        ClusterNode locNode = new ClusterNode(UUID.randomUUID().toString(), "test_node", NetworkAddress.from("127.0.0.1:123"));
+
+        JraftServerImpl srv = Mockito.mock(JraftServerImpl.class);
+        TopologyService topologySvc = Mockito.mock(TopologyService.class);
+
+        Mockito.doReturn(clusterNetSvc).when(srv).clusterService();
+        Mockito.doReturn(new ClusterLocalConfiguration("test_node", null)).when(clusterNetSvc).localConfiguration();
+        Mockito.doReturn(topologySvc).when(clusterNetSvc).topologyService();
+        Mockito.doReturn(locNode).when(topologySvc).localMember();
+
+        CountDownLatch startBegun = new CountDownLatch(1);
+        CountDownLatch finishStart = new CountDownLatch(1);
+
+        Mockito.doAnswer(invocation -> {
+            startBegun.countDown();
+
+            return finishStart.await(10, SECONDS);
+        }).when(srv).startRaftGroup(eq(raftGroupId), any(), any(), any(), any());
+
+        Loza loza = new Loza(srv);
+
+        try {
+            loza.updateRaftGroup(raftGroupId, List.of(locNode), List.of(locNode), () -> null, () -> null, RaftGroupOptions.defaults());
+
+            assertTrue(startBegun.await(10, SECONDS));
+
+            CompletableFuture<Void> stopFut = CompletableFuture.runAsync(() -> {
+                try {
+                    loza.stopRaftGroup(raftGroupId);
+                } catch (NodeStoppingException e) {
+                    throw new CompletionException(e);
+                }
+            });
+
+            assertThrows(TimeoutException.class, () -> stopFut.get(100, MILLISECONDS));
+
+            finishStart.countDown();
+
+            stopFut.get(10, SECONDS);
+
+            InOrder inOrder = Mockito.inOrder(srv);
+
+            inOrder.verify(srv).startRaftGroup(eq(raftGroupId), any(), any(), any(), any());
+            inOrder.verify(srv).stopRaftGroup(raftGroupId);
+        } finally {
+            loza.stop();
+        }
+    }
+
+    /**
+     * Checks that a raft group stopped while its local start is queued can be started again before the cancelled start leaves the queue.
+     *
+     * @throws Exception If fail.
+     */
+    @Test
+    public void testRestartRaftGroupWithQueuedStart() throws Exception {
+        String raftGroupId = "test_raft_group";
+
+        ClusterNode locNode = new ClusterNode(UUID.randomUUID().toString(), "test_node", NetworkAddress.from("127.0.0.1:123"));
+
+        JraftServerImpl srv = Mockito.mock(JraftServerImpl.class);
+        TopologyService topologySvc = Mockito.mock(TopologyService.class);
+
+        Mockito.doReturn(clusterNetSvc).when(srv).clusterService();
+        Mockito.doReturn(new ClusterLocalConfiguration("test_node", null)).when(clusterNetSvc).localConfiguration();
+        Mockito.doReturn(topologySvc).when(clusterNetSvc).topologyService();
+        Mockito.doReturn(locNode).when(topologySvc).localMember();
+
+        CountDownLatch finishBlockingStarts = new CountDownLatch(1);
+
+        // Starts of the other groups occupy the whole start pool, so the start of the tested group stays queued.
+        Mockito.doAnswer(invocation -> raftGroupId.equals(invocation.getArgument(0)) || finishBlockingStarts.await(10, SECONDS))
+                .when(srv).startRaftGroup(any(), any(), any(), any(), any());
+
+        Loza loza = new Loza(srv);
+
+        try {
+            for (int i = 0; i < Loza.GROUP_START_POOL_SIZE; i++) {
+                loza.updateRaftGroup("blocking_raft_group_" + i, List.of(locNode), List.of(locNode), () -> null, () -> null,
+                        RaftGroupOptions.defaults());
+            }
+
+            loza.updateRaftGroup(raftGroupId, List.of(locNode), List.of(locNode), () -> null, () -> null, RaftGroupOptions.defaults());
+
+            loza.stopRaftGroup(raftGroupId);
+
+            CompletableFuture<?> restartFut = loza.updateRaftGroup(raftGroupId, List.of(locNode), List.of(locNode), () -> null,
+                    () -> null, RaftGroupOptions.defaults());
+
+            assertFalse(restartFut.isCompletedExceptionally());
+
+            finishBlockingStarts.countDown();
+
+            // The cancelled start is skipped, only the restart starts the local node.
+            Mockito.verify(srv, timeout(10_000)).startRaftGroup(eq(raftGroupId), any(), any(), any(), any());
+        } finally {
+            finishBlockingStarts.countDown();
+
+            loza.stop();
+        }
+    }
 }
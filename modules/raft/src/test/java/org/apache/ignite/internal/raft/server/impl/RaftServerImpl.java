@@ -28,6 +28,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import org.apache.ignite.internal.raft.server.RaftGroupEventsListener;
+import org.apache.ignite.internal.raft.server.RaftGroupOptions;
 import org.apache.ignite.internal.raft.server.RaftServer;
 import org.apache.ignite.lang.IgniteLogger;
 import org.apache.ignite.lang.IgniteStringFormatter;
@@ -189,6 +190,13 @@ public class RaftServerImpl implements RaftServer {
         return startRaftGroup(groupId, lsnr, initialConf);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean startRaftGroup(String groupId, RaftGroupEventsListener evLsnr, RaftGroupListener lsnr, List<Peer> initialConf,
+            RaftGroupOptions groupOptions) {
+        return startRaftGroup(groupId, lsnr, initialConf);
+    }
+
     /** {@inheritDoc} */
     @Override
     public synchronized boolean stopRaftGroup(String groupId) {
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+
+import com.codahale.metrics.Gauge;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.raft.jraft.Node;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.entity.NodeId;
+import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RaftServerService;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.ErrorResponse;
+import org.apache.ignite.raft.jraft.test.MockAsyncContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CoalescedHeartbeatRequestProcessorTest {
+    @Mock(extraInterfaces = {RaftServerService.class})
+    private Node node;
+
+    private final RaftMessagesFactory msgFactory = new RaftMessagesFactory();
+
+    private final MockAsyncContext asyncContext = new MockAsyncContext();
+
+    private final String peerIdStr = "localhost:8081";
+
+    @Test
+    public void testFanOut() {
+        PeerId peerId = new PeerId();
+        peerId.parse(peerIdStr);
+
+        Mockito.when(node.getGroupId()).thenReturn("group1");
+        Mockito.when(node.getNodeId()).thenReturn(new NodeId("group1", peerId));
+        asyncContext.getNodeManager().add(node);
+
+        AppendEntriesRequest hb1 = createHeartbeat("group1");
+        AppendEntriesRequest hb2 = createHeartbeat("group2");
+
+        AppendEntriesResponse resp1 = msgFactory.appendEntriesResponse().success(true).term(1).lastLogIndex(10).build();
+
+        Mockito.when(((RaftServerService) node).handleAppendEntriesRequest(eq(hb1), Mockito.any())).thenReturn(resp1);
+
+        CoalescedHeartbeatRequest request = msgFactory.coalescedHeartbeatRequest().heartbeats(List.of(hb1, hb2)).build();
+
+        CoalescedHeartbeatRequestProcessor processor = new CoalescedHeartbeatRequestProcessor(null, msgFactory);
+
+        processor.handleRequest(asyncContext, request);
+
+        List<Message> responses = new ArrayList<>(asyncContext.as(CoalescedHeartbeatResponse.class).responses());
+
+        assertEquals(2, responses.size());
+        assertEquals(resp1, responses.get(0));
+        assertTrue(responses.get(1) instanceof ErrorResponse);
+        assertEquals(RaftError.ENOENT.getNumber(), ((ErrorResponse) responses.get(1)).errorCode());
+
+        assertEquals(1L, gauge(processor, "heartbeat-batches-received"));
+        assertEquals(2L, gauge(processor, "heartbeats-received"));
+    }
+
+    private AppendEntriesRequest createHeartbeat(String groupId) {
+        return msgFactory.appendEntriesRequest()
+            .groupId(groupId)
+            .serverId("localhost:8082")
+            .peerId(peerIdStr)
+            .term(1)
+            .prevLogIndex(10)
+            .prevLogTerm(1)
+            .committedIndex(10)
+            .build();
+    }
+
+    private static long gauge(CoalescedHeartbeatRequestProcessor processor, String name) {
+        return ((Gauge<Long>) processor.metrics().getMetrics().get(name)).getValue();
+    }
+}
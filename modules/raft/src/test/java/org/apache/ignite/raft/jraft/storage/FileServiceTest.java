@@ -19,6 +19,7 @@ package org.apache.ignite.raft.jraft.storage;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -26,6 +27,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.lang.IgniteLogger;
@@ -36,6 +39,7 @@ import org.apache.ignite.raft.jraft.rpc.RpcContext;
 import org.apache.ignite.raft.jraft.rpc.RpcRequestClosure;
 import org.apache.ignite.raft.jraft.rpc.RpcRequests;
 import org.apache.ignite.raft.jraft.storage.io.LocalDirReader;
+import org.apache.ignite.raft.jraft.storage.snapshot.local.SnapshotFileReader;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -103,6 +107,47 @@ public class FileServiceTest {
         assertEquals(String.format("Fail to read from path=%s filename=data", this.path), response.errorMsg());
     }
 
+    @Test
+    public void testGetSnapshotBatch() {
+        SnapshotFileReader reader = new SnapshotFileReader(this.path.toString(), null);
+        reader.setStreamFactory(() -> Cursor.fromIterator(List.of(new byte[10], new byte[10], new byte[10]).iterator()));
+        long readerId = FileService.getInstance().addReader(reader);
+
+        // The first batch exceeds the limit by one entry.
+        RpcRequests.GetSnapshotBatchResponse batch = getSnapshotBatch(readerId, 20);
+        assertEquals(0, batch.seq());
+        assertFalse(batch.eof());
+        assertEquals(2 * (Integer.BYTES + 10), batch.data().size());
+
+        batch = getSnapshotBatch(readerId, 20);
+        assertEquals(1, batch.seq());
+        assertTrue(batch.eof());
+        assertEquals(Integer.BYTES + 10, batch.data().size());
+
+        batch = getSnapshotBatch(readerId, 20);
+        assertEquals(2, batch.seq());
+        assertTrue(batch.eof());
+        assertEquals(0, batch.data().size());
+
+        reader.closeStream();
+    }
+
+    @Test
+    public void testGetSnapshotBatchNotSupported() {
+        long readerId = FileService.getInstance().addReader(new SnapshotFileReader(this.path.toString(), null));
+        Message msg = FileService.getInstance().handleGetSnapshotBatch(
+            msgFactory.getSnapshotBatchRequest().readerId(readerId).maxBytes(20).build());
+        assertTrue(msg instanceof RpcRequests.ErrorResponse);
+        assertEquals(RaftError.EINVAL.getNumber(), ((RpcRequests.ErrorResponse) msg).errorCode());
+    }
+
+    private RpcRequests.GetSnapshotBatchResponse getSnapshotBatch(long readerId, int maxBytes) {
+        Message msg = FileService.getInstance().handleGetSnapshotBatch(
+            msgFactory.getSnapshotBatchRequest().readerId(readerId).maxBytes(maxBytes).build());
+        assertTrue(msg instanceof RpcRequests.GetSnapshotBatchResponse);
+        return (RpcRequests.GetSnapshotBatchResponse) msg;
+    }
+
     private String writeData() throws IOException {
         File file = new File(this.path + File.separator + "data");
         String data = "jraft is great!";
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.raft.jraft.storage.snapshot.remote;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.raft.jraft.Status;
+import org.apache.ignite.raft.jraft.core.TimerManager;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.option.CopyOptions;
+import org.apache.ignite.raft.jraft.option.NodeOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.rpc.RaftClientService;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.GetSnapshotBatchResponse;
+import org.apache.ignite.raft.jraft.util.ByteString;
+import org.apache.ignite.raft.jraft.util.Endpoint;
+import org.apache.ignite.raft.jraft.util.ExecutorServiceHelper;
+import org.apache.ignite.raft.jraft.util.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+public class SnapshotStreamSessionTest {
+    private SnapshotStreamSession session;
+    @Mock
+    private RaftClientService rpcService;
+    private final Endpoint address = new Endpoint("localhost", 8081);
+    private CopyOptions copyOpts;
+    private RaftOptions raftOpts;
+    private NodeOptions nodeOptions;
+    private TimerManager timerManager;
+
+    @BeforeEach
+    public void setup() {
+        this.timerManager = new TimerManager(5);
+        this.copyOpts = new CopyOptions();
+        this.copyOpts.setRetryIntervalMs(10);
+        this.raftOpts = new RaftOptions();
+        this.raftOpts.setMaxSnapshotStreamInflightBatches(2);
+        this.nodeOptions = new NodeOptions();
+        this.nodeOptions.setCommonExecutor(Executors.newSingleThreadExecutor());
+        this.session = new SnapshotStreamSession(rpcService, timerManager, null, raftOpts, this.nodeOptions, 99,
+            address);
+        this.session.setCopyOptions(copyOpts);
+    }
+
+    @AfterEach
+    public void teardown() {
+        Utils.closeQuietly(this.session);
+        this.timerManager.shutdown();
+        ExecutorServiceHelper.shutdownAndAwaitTermination(this.nodeOptions.getCommonExecutor());
+    }
+
+    @Test
+    public void testWindow() {
+        this.session.start();
+        Mockito.verify(this.rpcService, Mockito.times(2)).getSnapshotBatch(eq(this.address), any(),
+            eq(this.copyOpts.getTimeoutMs()), any());
+        assertEquals(2, this.session.getInflight());
+
+        // A received batch occupies the window until it is consumed.
+        this.session.onRpcReturned(Status.OK(), batch(0, false, "a"));
+        assertEquals(1, this.session.getInflight());
+        Mockito.verify(this.rpcService, Mockito.times(2)).getSnapshotBatch(eq(this.address), any(),
+            eq(this.copyOpts.getTimeoutMs()), any());
+
+        assertArrayEquals(bytes("a"), this.session.next());
+        assertEquals(2, this.session.getInflight());
+        Mockito.verify(this.rpcService, Mockito.times(3)).getSnapshotBatch(eq(this.address), any(),
+            eq(this.copyOpts.getTimeoutMs()), any());
+    }
+
+    @Test
+    public void testBatchesOutOfOrder() throws Exception {
+        this.session.start();
+        this.session.onRpcReturned(Status.OK(), batch(1, true, "c"));
+        this.session.onRpcReturned(Status.OK(), batch(0, false, "a", "b"));
+        assertTrue(this.session.awaitStarted());
+
+        assertArrayEquals(bytes("a"), this.session.next());
+        assertArrayEquals(bytes("b"), this.session.next());
+        assertArrayEquals(bytes("c"), this.session.next());
+        assertFalse(this.session.hasNext());
+        assertTrue(this.session.status().isOk());
+        this.session.join();
+    }
+
+    @Test
+    public void testRetryOnEagain() {
+        this.session.start();
+        this.session.onRpcReturned(new Status(RaftError.EAGAIN, "test"), null);
+        assertEquals(2, this.session.getInflight());
+        Mockito.verify(this.rpcService, Mockito.timeout(TimeUnit.SECONDS.toMillis(5)).times(3)).getSnapshotBatch(
+            eq(this.address), any(), eq(this.copyOpts.getTimeoutMs()), any());
+        assertTrue(this.session.status().isOk());
+    }
+
+    @Test
+    public void testFailOnError() throws Exception {
+        this.session.start();
+        this.session.onRpcReturned(new Status(RaftError.EIO, "test"), null);
+        assertFalse(this.session.awaitStarted());
+        assertEquals(RaftError.EIO.getNumber(), this.session.status().getCode());
+        assertThrows(IllegalStateException.class, this.session::hasNext);
+        this.session.join();
+    }
+
+    private GetSnapshotBatchResponse batch(long seq, boolean eof, String... entries) {
+        int size = 0;
+        for (String entry : entries) {
+            size += Integer.BYTES + entry.length();
+        }
+        ByteBuffer buf = ByteBuffer.allocate(size);
+        for (String entry : entries) {
+            buf.putInt(entry.length()).put(bytes(entry));
+        }
+        buf.flip();
+        return this.raftOpts.getRaftMessagesFactory().getSnapshotBatchResponse()
+            .seq(seq)
+            .eof(eof)
+            .data(new ByteString(buf))
+            .build();
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -22,10 +22,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import org.apache.ignite.internal.rocksdb.RocksUtils;
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.rocksdb.EnvOptions;
@@ -37,6 +42,8 @@ import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
 import org.rocksdb.Snapshot;
+import org.rocksdb.SstFileReader;
+import org.rocksdb.SstFileReaderIterator;
 import org.rocksdb.SstFileWriter;
 
 /**
@@ -69,7 +76,8 @@ public class RocksSnapshotManager {
     }
 
     /**
-     * Creates a snapshot of the enclosed RocksDB instance and saves it into a provided folder.
+     * Creates a snapshot of the enclosed RocksDB instance and saves it into a provided folder. The snapshot captures the
+     * state of the database at the moment of the call, the files are written asynchronously.
      *
      * @param snapshotDir Folder to save the snapshot into.
      * @return Future that either completes successfully upon snapshot creation or signals a failure.
@@ -77,7 +85,9 @@ public class RocksSnapshotManager {
     public CompletableFuture<Void> createSnapshot(Path snapshotDir) {
         Path tmpPath = Paths.get(snapshotDir.toString() + TMP_SUFFIX);
 
-        return CompletableFuture.supplyAsync(db::getSnapshot, executor)
+        Snapshot dbSnapshot = db.getSnapshot();
+
+        return CompletableFuture.completedFuture(dbSnapshot)
                 .thenComposeAsync(snapshot -> {
                     createTmpSnapshotDir(tmpPath);
 
@@ -164,6 +174,117 @@ public class RocksSnapshotManager {
         }
     }
 
+    /**
+     * Opens a cursor over the entries of the column family range saved into the snapshot by {@link #createSnapshot}, in the
+     * ascending key order.
+     *
+     * @param snapshotDir Path to the directory where a snapshot was created.
+     * @param range Column family range.
+     * @param decoder Converts a key and a value into the cursor's value representation.
+     * @param <T> Type of the cursor values.
+     * @return Cursor over the snapshot entries.
+     */
+    public <T> Cursor<T> readSnapshot(Path snapshotDir, ColumnFamilyRange range, BiFunction<byte[], byte[], T> decoder) {
+        Path snapshotPath = snapshotDir.resolve(range.columnFamily().name());
+
+        if (!Files.exists(snapshotPath)) {
+            throw new IgniteInternalException("Snapshot not found: " + snapshotPath);
+        }
+
+        var options = new Options();
+        var reader = new SstFileReader(options);
+        var readOptions = new ReadOptions();
+
+        try {
+            reader.open(snapshotPath.toString());
+        } catch (RocksDBException e) {
+            readOptions.close();
+            reader.close();
+            options.close();
+
+            throw new IgniteInternalException("Failed to open snapshot: " + snapshotPath, e);
+        }
+
+        SstFileReaderIterator it = reader.newIterator(readOptions);
+
+        it.seekToFirst();
+
+        return new Cursor<>() {
+            /** {@inheritDoc} */
+            @Override
+            public boolean hasNext() {
+                if (it.isValid()) {
+                    return true;
+                }
+
+                try {
+                    it.status();
+                } catch (RocksDBException e) {
+                    throw new IgniteInternalException(e);
+                }
+
+                return false;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                T result = decoder.apply(it.key(), it.value());
+
+                it.next();
+
+                return result;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void close() throws Exception {
+                IgniteUtils.closeAll(it, readOptions, reader, options);
+            }
+        };
+    }
+
+    /**
+     * Saves the entries of the column family range into the snapshot directory the same way {@link #createSnapshot} does, so
+     * that they can be loaded with {@link #restoreSnapshot}. The database itself is not modified.
+     *
+     * @param snapshotDir Existing directory to save the snapshot into.
+     * @param range Column family range.
+     * @param entries Entries in the ascending order of their keys.
+     * @param keyEncoder Converts an entry into a key.
+     * @param valueEncoder Converts an entry into a value.
+     * @param <T> Type of the entries.
+     */
+    public <T> void writeSnapshot(
+            Path snapshotDir,
+            ColumnFamilyRange range,
+            Iterator<T> entries,
+            Function<T, byte[]> keyEncoder,
+            Function<T, byte[]> valueEncoder
+    ) {
+        try (
+                EnvOptions envOptions = new EnvOptions();
+                Options options = new Options();
+                SstFileWriter sstFileWriter = new SstFileWriter(envOptions, options)
+        ) {
+            sstFileWriter.open(snapshotDir.resolve(range.columnFamily().name()).toString());
+
+            while (entries.hasNext()) {
+                T entry = entries.next();
+
+                sstFileWriter.put(keyEncoder.apply(entry), valueEncoder.apply(entry));
+            }
+
+            sstFileWriter.finish();
+        } catch (RocksDBException e) {
+            throw new IgniteInternalException("Failed to write snapshot", e);
+        }
+    }
+
     /**
      * Creates an iterator over the provided key range.
      */
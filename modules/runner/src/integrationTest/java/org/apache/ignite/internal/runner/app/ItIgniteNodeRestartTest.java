@@ -128,6 +128,9 @@ public class ItIgniteNodeRestartTest extends IgniteAbstractTest {
     /** Test table name. */
     private static final String TABLE_NAME_2 = "Table2";
 
+    /** Upper bound of the raft leader lease, the default election timeout. */
+    private static final long LEADER_LEASE_TIMEOUT_MS = 1_200;
+
     /** Nodes bootstrap configuration pattern. */
     private static final String NODE_BOOTSTRAP_CFG = "{\n"
             + "  network.port: {},\n"
@@ -759,7 +762,7 @@ public class ItIgniteNodeRestartTest extends IgniteAbstractTest {
      * @param testInfo Test info.
      */
     @Test
-    public void testOneNodeRestartWithGap(TestInfo testInfo) throws NodeStoppingException {
+    public void testOneNodeRestartWithGap(TestInfo testInfo) throws Exception {
         Ignite ignite = startNode(testInfo, 0);
 
         String cfgString = configurationString(1, null, null);
@@ -774,6 +777,9 @@ public class ItIgniteNodeRestartTest extends IgniteAbstractTest {
 
         assertNotNull(table);
 
+        // A leader on the remaining node still serves reads under its lease, wait until the lease is over.
+        Thread.sleep(LEADER_LEASE_TIMEOUT_MS);
+
         assertThrowsWithCause(() -> table.keyValueView().get(null, Tuple.create().set("id", 0)), TimeoutException.class);
 
         createTableWithData(ignite, TABLE_NAME_2, 1, 1);
@@ -22,8 +22,13 @@ import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.internal.client.proto.TableScanFilterOp;
+import org.apache.ignite.internal.client.table.ClientTable;
+import org.apache.ignite.internal.client.table.ClientTableScanCursor;
+import org.apache.ignite.internal.client.table.ClientTableScanOptions;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.table.RecordView;
@@ -72,4 +77,49 @@ public class ItThinClientConnectionTest extends ItAbstractThinClientTest {
             }
         }
     }
+
+    /**
+     * Check that thin client scans the table and its partitions page by page.
+     */
+    @Test
+    void testTableScan() {
+        ClientTable table = (ClientTable) client().tables().table(SCHEMA_NAME + "." + TABLE_NAME);
+        RecordView<Tuple> recView = table.recordView();
+
+        for (int i = 0; i < 100; i++) {
+            recView.upsert(null, Tuple.create().set(COLUMN_KEY, i).set(COLUMN_VAL, "v" + i));
+        }
+
+        assertEquals(100, scan(table, new ClientTableScanOptions().pageSize(7)).size());
+
+        int total = 0;
+
+        for (int p = 0; p < 10; p++) {
+            total += scan(table, new ClientTableScanOptions().partition(p).prefetch(false)).size();
+        }
+
+        assertEquals(100, total);
+
+        List<Tuple> rows = scan(table, new ClientTableScanOptions()
+                .columns(COLUMN_VAL)
+                .filter(COLUMN_KEY, TableScanFilterOp.EQ, 42));
+
+        assertEquals(1, rows.size());
+        assertEquals("v42", rows.get(0).stringValue(COLUMN_VAL));
+
+        for (int i = 0; i < 100; i++) {
+            recView.delete(null, Tuple.create().set(COLUMN_KEY, i));
+        }
+    }
+
+    private static List<Tuple> scan(ClientTable table, ClientTableScanOptions opts) {
+        ClientTableScanCursor cursor = table.scanAsync(null, opts).join();
+        List<Tuple> rows = new ArrayList<>(cursor.currentPage());
+
+        while (cursor.hasMorePages()) {
+            rows.addAll(cursor.fetchNextPage().join().currentPage());
+        }
+
+        return rows;
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.runner.app.client;
+
+import static java.util.stream.Collectors.toList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgnitionManager;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.internal.schema.configuration.SchemaConfigurationConverter;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.schema.SchemaBuilders;
+import org.apache.ignite.schema.definition.ColumnType;
+import org.apache.ignite.schema.definition.TableDefinition;
+import org.apache.ignite.table.DataStreamerOptions;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ingestion throughput of a thin client against a three-node cluster: every invocation loads {@link #ROWS} rows with
+ * the data streamer or with {@code upsertAll} batches of the same size sent one after another. The client is
+ * connected to all the nodes.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ThinClientDataStreamerBenchmark {
+    /** Table name. */
+    private static final String TABLE_NAME = "PUB.TBL1";
+
+    /** First node port. */
+    private static final int PORT = 3344;
+
+    /** Number of nodes. */
+    private static final int NODES = 3;
+
+    /** Number of rows loaded by an invocation. */
+    private static final int ROWS = 100_000;
+
+    /** Number of rows in a batch. */
+    private static final int BATCH_SIZE = 1000;
+
+    /** Whether the rows are loaded with the data streamer or with {@code upsertAll} batches. */
+    @Param({"true", "false"})
+    private boolean streamer;
+
+    /** Node bootstrap configurations by node name. */
+    private final Map<String, String> nodesBootstrapCfg = new LinkedHashMap<>();
+
+    /** Work directory. */
+    private Path workDir;
+
+    /** Client. */
+    private IgniteClient client;
+
+    /** Record view of the client. */
+    private RecordView<Tuple> view;
+
+    /**
+     * Starts the cluster, creates the table and connects the client.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("thin-client-streamer-benchmark");
+
+        String netClusterNodes = "[ \"localhost:3344\", \"localhost:3345\", \"localhost:3346\" ]";
+
+        for (int i = 0; i < NODES; i++) {
+            nodesBootstrapCfg.put(
+                    "node" + i,
+                    "{\n"
+                            + "  network.port: " + (PORT + i) + ",\n"
+                            + "  network.nodeFinder.netClusterNodes: " + netClusterNodes + "\n"
+                            + "}"
+            );
+        }
+
+        List<CompletableFuture<Ignite>> futures = nodesBootstrapCfg.entrySet().stream()
+                .map(e -> IgnitionManager.start(e.getKey(), e.getValue(), workDir.resolve(e.getKey())))
+                .collect(toList());
+
+        String metaStorageNode = nodesBootstrapCfg.keySet().iterator().next();
+
+        IgnitionManager.init(metaStorageNode, List.of(metaStorageNode), "cluster");
+
+        List<Ignite> nodes = new ArrayList<>();
+
+        for (CompletableFuture<Ignite> future : futures) {
+            nodes.add(future.get(30, TimeUnit.SECONDS));
+        }
+
+        TableDefinition schTbl = SchemaBuilders.tableBuilder("PUB", "TBL1").columns(
+                SchemaBuilders.column("key", ColumnType.INT32).build(),
+                SchemaBuilders.column("val", ColumnType.string()).asNullable(true).build()
+        ).withPrimaryKey("key").build();
+
+        nodes.get(0).tables().createTable(schTbl.canonicalName(), tblCh ->
+                SchemaConfigurationConverter.convert(schTbl, tblCh)
+                        .changeReplicas(1)
+                        .changePartitions(10)
+        );
+
+        List<String> addrs = ItAbstractThinClientTest.getClientAddresses(nodes);
+
+        client = IgniteClient.builder()
+                .addresses(addrs.toArray(new String[0]))
+                .build();
+
+        view = client.tables().table(TABLE_NAME).recordView();
+    }
+
+    /**
+     * Stops the client and the cluster.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        var closeables = new ArrayList<AutoCloseable>();
+
+        closeables.add(client);
+
+        nodesBootstrapCfg.keySet().stream()
+                .map(name -> (AutoCloseable) () -> IgnitionManager.stop(name))
+                .forEach(closeables::add);
+
+        IgniteUtils.closeAll(closeables);
+
+        IgniteUtils.deleteIfExists(workDir);
+    }
+
+    /**
+     * Loads the rows.
+     */
+    @Benchmark
+    public void load() throws Exception {
+        if (streamer) {
+            CompletableFuture<Void> fut;
+
+            try (var publisher = new SubmissionPublisher<Tuple>()) {
+                fut = view.streamData(publisher, new DataStreamerOptions().batchSize(BATCH_SIZE));
+
+                for (int i = 0; i < ROWS; i++) {
+                    publisher.submit(row(i));
+                }
+            }
+
+            fut.get();
+        } else {
+            List<Tuple> batch = new ArrayList<>(BATCH_SIZE);
+
+            for (int i = 0; i < ROWS; i++) {
+                batch.add(row(i));
+
+                if (batch.size() == BATCH_SIZE) {
+                    view.upsertAll(null, batch);
+
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                view.upsertAll(null, batch);
+            }
+        }
+    }
+
+    private static Tuple row(int key) {
+        return Tuple.create().set("key", key).set("val", "val-" + key);
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ThinClientDataStreamerBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.runner.app.client;
+
+import static java.util.stream.Collectors.toList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgnitionManager;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.internal.schema.configuration.SchemaConfigurationConverter;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.schema.SchemaBuilders;
+import org.apache.ignite.schema.definition.ColumnType;
+import org.apache.ignite.schema.definition.TableDefinition;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Latency of thin client key operations against a three-node cluster. A partition-aware client is connected to all
+ * the nodes and sends the requests to the partition leaders, otherwise the client is connected to a single node which
+ * forwards the requests for the partitions it doesn't lead. Use the {@code p0.99} row of the sample time output to
+ * compare the tails.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ThinClientKeyOperationBenchmark {
+    /** Table name. */
+    private static final String TABLE_NAME = "PUB.TBL1";
+
+    /** First node port. */
+    private static final int PORT = 3344;
+
+    /** Number of nodes. */
+    private static final int NODES = 3;
+
+    /** Number of keys. */
+    private static final int KEYS = 1000;
+
+    /** Whether the client is connected to all the nodes and routes the requests to the partition leaders. */
+    @Param({"true", "false"})
+    private boolean partitionAware;
+
+    /** Node bootstrap configurations by node name. */
+    private final Map<String, String> nodesBootstrapCfg = new LinkedHashMap<>();
+
+    /** Work directory. */
+    private Path workDir;
+
+    /** Client. */
+    private IgniteClient client;
+
+    /** Record view of the client. */
+    private RecordView<Tuple> view;
+
+    /**
+     * Starts the cluster, creates and fills the table and connects the client.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("thin-client-benchmark");
+
+        String netClusterNodes = "[ \"localhost:3344\", \"localhost:3345\", \"localhost:3346\" ]";
+
+        for (int i = 0; i < NODES; i++) {
+            nodesBootstrapCfg.put(
+                    "node" + i,
+                    "{\n"
+                            + "  network.port: " + (PORT + i) + ",\n"
+                            + "  network.nodeFinder.netClusterNodes: " + netClusterNodes + "\n"
+                            + "}"
+            );
+        }
+
+        List<CompletableFuture<Ignite>> futures = nodesBootstrapCfg.entrySet().stream()
+                .map(e -> IgnitionManager.start(e.getKey(), e.getValue(), workDir.resolve(e.getKey())))
+                .collect(toList());
+
+        String metaStorageNode = nodesBootstrapCfg.keySet().iterator().next();
+
+        IgnitionManager.init(metaStorageNode, List.of(metaStorageNode), "cluster");
+
+        List<Ignite> nodes = new ArrayList<>();
+
+        for (CompletableFuture<Ignite> future : futures) {
+            nodes.add(future.get(30, TimeUnit.SECONDS));
+        }
+
+        TableDefinition schTbl = SchemaBuilders.tableBuilder("PUB", "TBL1").columns(
+                SchemaBuilders.column("key", ColumnType.INT32).build(),
+                SchemaBuilders.column("val", ColumnType.string()).asNullable(true).build()
+        ).withPrimaryKey("key").build();
+
+        nodes.get(0).tables().createTable(schTbl.canonicalName(), tblCh ->
+                SchemaConfigurationConverter.convert(schTbl, tblCh)
+                        .changeReplicas(1)
+                        .changePartitions(10)
+        );
+
+        List<String> addrs = ItAbstractThinClientTest.getClientAddresses(nodes);
+
+        client = IgniteClient.builder()
+                .addresses((partitionAware ? addrs : addrs.subList(0, 1)).toArray(new String[0]))
+                .build();
+
+        view = client.tables().table(TABLE_NAME).recordView();
+
+        for (int i = 0; i < KEYS; i++) {
+            view.upsert(null, Tuple.create().set("key", i).set("val", "val-" + i));
+        }
+    }
+
+    /**
+     * Stops the client and the cluster.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        var closeables = new ArrayList<AutoCloseable>();
+
+        closeables.add(client);
+
+        nodesBootstrapCfg.keySet().stream()
+                .map(name -> (AutoCloseable) () -> IgnitionManager.stop(name))
+                .forEach(closeables::add);
+
+        IgniteUtils.closeAll(closeables);
+
+        IgniteUtils.deleteIfExists(workDir);
+    }
+
+    /**
+     * Gets a random key.
+     */
+    @Benchmark
+    public Tuple get() {
+        return view.get(null, Tuple.create().set("key", ThreadLocalRandom.current().nextInt(KEYS)));
+    }
+
+    /**
+     * Upserts a random key.
+     */
+    @Benchmark
+    public void upsert() {
+        int key = ThreadLocalRandom.current().nextInt(KEYS);
+
+        view.upsert(null, Tuple.create().set("key", key).set("val", "val-" + key));
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ThinClientKeyOperationBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.runner.app.client;
+
+import static java.util.stream.Collectors.toList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgnitionManager;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.internal.client.proto.TableScanFilterOp;
+import org.apache.ignite.internal.client.table.ClientTable;
+import org.apache.ignite.internal.client.table.ClientTableScanCursor;
+import org.apache.ignite.internal.client.table.ClientTableScanOptions;
+import org.apache.ignite.internal.schema.configuration.SchemaConfigurationConverter;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.schema.SchemaBuilders;
+import org.apache.ignite.schema.definition.ColumnType;
+import org.apache.ignite.schema.definition.TableDefinition;
+import org.apache.ignite.sql.Session;
+import org.apache.ignite.sql.async.AsyncResultSet;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Full scan of a table by a thin client connected to a three-node cluster: the table scan operation, which streams the
+ * rows of the partitions page by page, is compared with the equivalent SQL queries, with and without a predicate.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ThinClientTableScanBenchmark {
+    /** Table name. */
+    private static final String TABLE_NAME = "PUB.TBL1";
+
+    /** First node port. */
+    private static final int PORT = 3344;
+
+    /** Number of nodes. */
+    private static final int NODES = 3;
+
+    /** Number of rows. */
+    private static final int ROWS = 100_000;
+
+    /** Upper bound of the keys matching the predicate. */
+    private static final int FILTER_BOUND = ROWS / 10;
+
+    /** Number of rows in a page. */
+    @Param({"512", "4096"})
+    private int pageSize;
+
+    /** Node bootstrap configurations by node name. */
+    private final Map<String, String> nodesBootstrapCfg = new LinkedHashMap<>();
+
+    /** Work directory. */
+    private Path workDir;
+
+    /** Client. */
+    private IgniteClient client;
+
+    /** Client table. */
+    private ClientTable table;
+
+    /** SQL session. */
+    private Session session;
+
+    /**
+     * Starts the cluster, creates and fills the table and connects the client.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("thin-client-benchmark");
+
+        String netClusterNodes = "[ \"localhost:3344\", \"localhost:3345\", \"localhost:3346\" ]";
+
+        for (int i = 0; i < NODES; i++) {
+            nodesBootstrapCfg.put(
+                    "node" + i,
+                    "{\n"
+                            + "  network.port: " + (PORT + i) + ",\n"
+                            + "  network.nodeFinder.netClusterNodes: " + netClusterNodes + "\n"
+                            + "}"
+            );
+        }
+
+        List<CompletableFuture<Ignite>> futures = nodesBootstrapCfg.entrySet().stream()
+                .map(e -> IgnitionManager.start(e.getKey(), e.getValue(), workDir.resolve(e.getKey())))
+                .collect(toList());
+
+        String metaStorageNode = nodesBootstrapCfg.keySet().iterator().next();
+
+        IgnitionManager.init(metaStorageNode, List.of(metaStorageNode), "cluster");
+
+        List<Ignite> nodes = new ArrayList<>();
+
+        for (CompletableFuture<Ignite> future : futures) {
+            nodes.add(future.get(30, TimeUnit.SECONDS));
+        }
+
+        TableDefinition schTbl = SchemaBuilders.tableBuilder("PUB", "TBL1").columns(
+                SchemaBuilders.column("key", ColumnType.INT32).build(),
+                SchemaBuilders.column("val", ColumnType.string()).asNullable(true).build()
+        ).withPrimaryKey("key").build();
+
+        nodes.get(0).tables().createTable(schTbl.canonicalName(), tblCh ->
+                SchemaConfigurationConverter.convert(schTbl, tblCh)
+                        .changeReplicas(1)
+                        .changePartitions(10)
+        );
+
+        client = IgniteClient.builder()
+                .addresses(ItAbstractThinClientTest.getClientAddresses(nodes).toArray(new String[0]))
+                .build();
+
+        table = (ClientTable) client.tables().table(TABLE_NAME);
+        session = client.sql().sessionBuilder().defaultPageSize(pageSize).build();
+
+        RecordView<Tuple> view = table.recordView();
+        List<Tuple> batch = new ArrayList<>();
+
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(Tuple.create().set("key", i).set("val", "val-" + i));
+
+            if (batch.size() == 1000) {
+                view.upsertAll(null, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Stops the client and the cluster.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        var closeables = new ArrayList<AutoCloseable>();
+
+        closeables.add(session);
+        closeables.add(client);
+
+        nodesBootstrapCfg.keySet().stream()
+                .map(name -> (AutoCloseable) () -> IgnitionManager.stop(name))
+                .forEach(closeables::add);
+
+        IgniteUtils.closeAll(closeables);
+
+        IgniteUtils.deleteIfExists(workDir);
+    }
+
+    /**
+     * Scans the table with the table scan operation.
+     */
+    @Benchmark
+    public int tableScan() {
+        return scan(new ClientTableScanOptions().pageSize(pageSize));
+    }
+
+    /**
+     * Scans the table with the table scan operation, the predicate is evaluated by the server.
+     */
+    @Benchmark
+    public int tableScanWithFilter() {
+        return scan(new ClientTableScanOptions().pageSize(pageSize).filter("key", TableScanFilterOp.LT, FILTER_BOUND));
+    }
+
+    /**
+     * Scans the table with SQL.
+     */
+    @Benchmark
+    public int sqlScan() {
+        return sql("SELECT * FROM " + TABLE_NAME);
+    }
+
+    /**
+     * Scans the table with SQL, with the predicate.
+     */
+    @Benchmark
+    public int sqlScanWithFilter() {
+        return sql("SELECT * FROM " + TABLE_NAME + " WHERE key < " + FILTER_BOUND);
+    }
+
+    private int scan(ClientTableScanOptions opts) {
+        ClientTableScanCursor cursor = table.scanAsync(null, opts).join();
+        int cnt = cursor.currentPage().size();
+
+        while (cursor.hasMorePages()) {
+            cnt += cursor.fetchNextPage().join().currentPage().size();
+        }
+
+        return cnt;
+    }
+
+    private int sql(String query) {
+        AsyncResultSet rs = session.executeAsync(null, query).join();
+        int cnt = rs.currentPageSize();
+
+        while (rs.hasMorePages()) {
+            rs = rs.fetchNextPage().toCompletableFuture().join();
+            cnt += rs.currentPageSize();
+        }
+
+        return cnt;
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ThinClientTableScanBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -34,6 +34,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -56,6 +57,7 @@ import org.apache.ignite.sql.Session;
 import org.apache.ignite.sql.SqlColumnType;
 import org.apache.ignite.sql.SqlRow;
 import org.apache.ignite.sql.async.AsyncResultSet;
+import org.apache.ignite.sql.reactive.ReactiveResultSet;
 import org.apache.ignite.table.Table;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Disabled;
@@ -316,6 +318,64 @@ public class ItSqlAsynchronousApiTest extends AbstractBasicIntegrationTest {
         }
     }
 
+    @Test
+    public void reactive() throws ExecutionException, InterruptedException {
+        sql("CREATE TABLE TEST(ID INT PRIMARY KEY, VAL0 INT)");
+
+        IgniteSql sql = igniteSql();
+        Session ses = sql.sessionBuilder().defaultPageSize(4).build();
+
+        ReactiveResultSet dml = ses.executeReactive(null, "INSERT INTO TEST SELECT X, X FROM TABLE(SYSTEM_RANGE(0, " + (ROW_COUNT - 1) + "))");
+
+        assertEquals(ROW_COUNT, (long) first(dml.affectedRows()).get());
+
+        ReactiveResultSet rs = ses.executeReactive(null, "SELECT ID FROM TEST ORDER BY ID");
+
+        assertTrue(first(rs.hasRowSet()).get());
+        assertEquals(1, first(rs.metadata()).get().columns().size());
+
+        // Requests the rows one by one.
+        CompletableFuture<List<Integer>> resFut = new CompletableFuture<>();
+
+        rs.subscribe(new Flow.Subscriber<>() {
+            private final List<Integer> res = new ArrayList<>();
+
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(SqlRow item) {
+                res.add(item.intValue(0));
+
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                resFut.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                resFut.complete(res);
+            }
+        });
+
+        List<Integer> res = resFut.get();
+
+        assertEquals(ROW_COUNT, res.size());
+
+        for (int i = 0; i < ROW_COUNT; ++i) {
+            assertEquals(i, res.get(i));
+        }
+    }
+
     @Test
     public void errors() {
         IgniteSql sql = igniteSql();
@@ -397,6 +457,40 @@ public class ItSqlAsynchronousApiTest extends AbstractBasicIntegrationTest {
         asyncRes.closeAsync().toCompletableFuture().get();
     }
 
+    /**
+     * Subscribes to the publisher and returns the first item.
+     *
+     * @param publisher Publisher.
+     * @return Future that will be completed with the first item.
+     */
+    private static <T> CompletableFuture<T> first(Flow.Publisher<T> publisher) {
+        CompletableFuture<T> fut = new CompletableFuture<>();
+
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T item) {
+                fut.complete(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fut.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                // No-op.
+            }
+        });
+
+        return fut;
+    }
+
     private static void checkError(Class<? extends Throwable> expectedException, String msg, Session ses, String sql, Object... args) {
         CompletableFuture<AsyncResultSet> fut = ses.executeAsync(
                 null,
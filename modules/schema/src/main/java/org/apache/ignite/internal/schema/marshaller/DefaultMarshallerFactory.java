@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.schema.marshaller;
+
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.asm.AsmMarshallerGenerator;
+import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
+import org.apache.ignite.table.mapper.Mapper;
+import org.apache.ignite.table.mapper.PojoMapper;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Marshaller factory that creates generated marshallers whenever the mapping allows it, and falls back to the reflection-based
+ * marshallers otherwise (e.g. for type converters or partially mapped classes).
+ */
+public class DefaultMarshallerFactory implements MarshallerFactory {
+    /** Shared instance. Both underlying factories are stateless, generated classes are cached per schema. */
+    public static final MarshallerFactory INSTANCE = new DefaultMarshallerFactory();
+
+    /** Code generating factory. */
+    private final MarshallerFactory asmFactory = new AsmMarshallerGenerator();
+
+    /** Reflection-based factory. */
+    private final MarshallerFactory reflectionFactory = new ReflectionMarshallerFactory();
+
+    /** {@inheritDoc} */
+    @Override
+    public <K, V> KvMarshaller<K, V> create(SchemaDescriptor schema, @NotNull Mapper<K> keyMapper, @NotNull Mapper<V> valueMapper) {
+        if (AsmMarshallerGenerator.supports(schema.keyColumns(), keyMapper)
+                && AsmMarshallerGenerator.supports(schema.valueColumns(), valueMapper)) {
+            return asmFactory.create(schema, keyMapper, valueMapper);
+        }
+
+        return reflectionFactory.create(schema, keyMapper, valueMapper);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> RecordMarshaller<R> create(SchemaDescriptor schema, @NotNull Mapper<R> mapper) {
+        // Records are always mapped field by field, a single column mapper is not applicable.
+        if (mapper instanceof PojoMapper
+                && AsmMarshallerGenerator.supports(schema.keyColumns(), mapper)
+                && AsmMarshallerGenerator.supports(schema.valueColumns(), mapper)) {
+            return asmFactory.create(schema, mapper);
+        }
+
+        return reflectionFactory.create(schema, mapper);
+    }
+}
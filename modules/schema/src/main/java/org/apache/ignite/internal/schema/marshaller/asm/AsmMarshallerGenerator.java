@@ -19,6 +19,7 @@ package org.apache.ignite.internal.schema.marshaller.asm;
 
 import com.facebook.presto.bytecode.Access;
 import com.facebook.presto.bytecode.BytecodeBlock;
+import com.facebook.presto.bytecode.BytecodeNode;
 import com.facebook.presto.bytecode.ClassDefinition;
 import com.facebook.presto.bytecode.ClassGenerator;
 import com.facebook.presto.bytecode.FieldDefinition;
@@ -29,15 +30,26 @@ import com.facebook.presto.bytecode.Scope;
 import com.facebook.presto.bytecode.Variable;
 import com.facebook.presto.bytecode.control.IfStatement;
 import com.facebook.presto.bytecode.control.TryCatch;
+import com.facebook.presto.bytecode.expression.BytecodeExpression;
 import com.facebook.presto.bytecode.expression.BytecodeExpressions;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import javax.annotation.processing.Generated;
 import jdk.jfr.Experimental;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ByteBufferRow;
+import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.Columns;
+import org.apache.ignite.internal.schema.NativeType;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.marshaller.BinaryMode;
 import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
@@ -48,12 +60,19 @@ import org.apache.ignite.internal.schema.marshaller.RecordMarshaller;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.schema.row.RowAssembler;
 import org.apache.ignite.internal.util.ObjectFactory;
-import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.lang.IgniteLogger;
 import org.apache.ignite.table.mapper.Mapper;
+import org.apache.ignite.table.mapper.OneColumnMapper;
+import org.apache.ignite.table.mapper.PojoMapper;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * {@link org.apache.ignite.internal.schema.marshaller.reflection.Marshaller} code generator.
+ *
+ * <p>Generated marshallers write and read columns with straight-line {@link RowAssembler} and {@link Row} calls, so neither
+ * reflection handles nor boxing of primitive fields are involved. Generated classes are cached per schema and per class-to-columns
+ * mapping. Mappings that involve type converters, unmapped columns or incompatible field types are not supported, see
+ * {@link #supports(Columns, Mapper)}.
  */
 @Experimental
 public class AsmMarshallerGenerator implements MarshallerFactory {
@@ -65,35 +84,159 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
 
     /** Marshaller package name prefix. */
     public static final String MARSHALLER_CLASS_NAME_PREFIX = "MarshallerForSchema_";
+
+    /** Generated marshaller classes: schema -> mapping -> class. Schemas are weakly referenced, the classes do not refer to them. */
+    private static final Map<SchemaDescriptor, Map<List<Object>, Class<?>>> CLASS_CACHE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Generated class index, makes class names unique. */
+    private static final AtomicInteger CLASS_IDX = new AtomicInteger();
+
     /** Dump generated code. */
     private final boolean dumpCode = LOG.isTraceEnabled();
 
+    /**
+     * Checks whether the generated code can handle the mapping of given columns: the mapper must be a {@link OneColumnMapper} of
+     * a natively supported type for a single column, or a {@link PojoMapper} that binds every column to a field of a compatible type.
+     * Type converters are not supported.
+     *
+     * @param columns Columns.
+     * @param mapper  Mapper.
+     * @return {@code True} if a marshaller for the mapping can be generated, {@code false} otherwise.
+     */
+    public static boolean supports(Columns columns, Mapper<?> mapper) {
+        if (mapper instanceof OneColumnMapper) {
+            final OneColumnMapper<?> oneColumnMapper = (OneColumnMapper<?>) mapper;
+
+            if (oneColumnMapper.converter() != null || columns.length() != 1 || mapper.targetType().isPrimitive()) {
+                return false;
+            }
+
+            final Column col = columns.column(0);
+            final BinaryMode mode = MarshallerUtil.mode(mapper.targetType());
+
+            return (oneColumnMapper.mappedColumn() == null || oneColumnMapper.mappedColumn().equals(col.name()))
+                    && mode != BinaryMode.POJO
+                    && mode.typeSpec() == col.type().spec();
+        } else if (mapper instanceof PojoMapper) {
+            for (int i = 0; i < columns.length(); i++) {
+                if (ObjectMarshallerCodeGenerator.mappedField(columns.column(i), (PojoMapper<?>) mapper) == null) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
     /** {@inheritDoc} */
     @Override
     public <K, V> KvMarshaller<K, V> create(SchemaDescriptor schema, Mapper<K> keyMapper, Mapper<V> valueMapper) {
-        final String className = MARSHALLER_CLASS_NAME_PREFIX + schema.version();
-
         Class<K> keyClass = keyMapper.targetType();
         Class<V> valClass = valueMapper.targetType();
-        final StringWriter writer = new StringWriter();
+
+        try {
+            final List<Object> mapping = List.of(
+                    KvMarshaller.class,
+                    mappingKey(schema.keyColumns(), keyMapper),
+                    mappingKey(schema.valueColumns(), valueMapper)
+            );
+
+            final Class<? extends KvMarshaller> aClass = marshallerClass(schema, mapping, KvMarshaller.class,
+                    className -> generateKvMarshallerClass(className, schema, keyMapper, valueMapper));
+
+            // Instantiate marshaller.
+            //noinspection unchecked
+            return aClass
+                    .getDeclaredConstructor(
+                            SchemaDescriptor.class,
+                            ObjectFactory.class,
+                            ObjectFactory.class)
+                    .newInstance(
+                            schema,
+                            MarshallerUtil.factoryForClass(keyClass),
+                            MarshallerUtil.factoryForClass(valClass));
+
+        } catch (Exception | LinkageError e) {
+            throw new IllegalArgumentException("Failed to create marshaller for key-value pair: schemaVer=" + schema.version()
+                    + ", keyClass=" + keyClass.getSimpleName() + ", valueClass=" + valClass.getSimpleName(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> RecordMarshaller<R> create(SchemaDescriptor schema, Mapper<R> mapper) {
+        Class<R> recClass = mapper.targetType();
+
         try {
+            final List<Object> mapping = List.of(
+                    RecordMarshaller.class,
+                    mappingKey(schema.keyColumns(), mapper),
+                    mappingKey(schema.valueColumns(), mapper)
+            );
+
+            final Class<? extends RecordMarshaller> aClass = marshallerClass(schema, mapping, RecordMarshaller.class,
+                    className -> generateRecordMarshallerClass(className, schema, mapper));
+
+            final ObjectFactory<R> factory = MarshallerUtil.factoryForClass(recClass);
+
+            // Instantiate marshaller.
+            //noinspection unchecked
+            return aClass
+                    .getDeclaredConstructor(
+                            SchemaDescriptor.class,
+                            ObjectFactory.class,
+                            ObjectFactory.class)
+                    .newInstance(schema, factory, factory);
+
+        } catch (Exception | LinkageError e) {
+            throw new IllegalArgumentException("Failed to create marshaller for record: schemaVer=" + schema.version()
+                    + ", recordClass=" + recClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Gets a cached marshaller class or generates a new one.
+     *
+     * @param schema    Schema descriptor.
+     * @param mapping   Mapping key, see {@link #mappingKey(Columns, Mapper)}.
+     * @param iface     Marshaller interface.
+     * @param generator Class definition generator, accepts a class name.
+     * @return Marshaller class.
+     */
+    private <T> Class<? extends T> marshallerClass(
+            SchemaDescriptor schema,
+            List<Object> mapping,
+            Class<T> iface,
+            Function<String, ClassDefinition> generator
+    ) {
+        final Map<List<Object>, Class<?>> schemaClasses = CLASS_CACHE.computeIfAbsent(schema, s -> new ConcurrentHashMap<>());
+
+        //noinspection unchecked
+        return (Class<? extends T>) schemaClasses.computeIfAbsent(mapping, m -> {
+            final String className = MARSHALLER_CLASS_NAME_PREFIX + schema.version() + '_' + CLASS_IDX.incrementAndGet();
+
             // Generate Marshaller code.
             long generation = System.nanoTime();
 
-            final ClassDefinition classDef = generateMarshallerClass(className, schema, keyClass, valClass);
+            final ClassDefinition classDef = generator.apply(className);
             long compilationTime = System.nanoTime();
             generation = compilationTime - generation;
 
-            final ClassGenerator generator = ClassGenerator.classGenerator(getClassLoader());
+            final ClassGenerator classGenerator = ClassGenerator.classGenerator(getClassLoader());
+
+            final StringWriter writer = new StringWriter();
 
             if (dumpCode) {
-                generator.outputTo(writer)
+                classGenerator.outputTo(writer)
                         .fakeLineNumbers(true)
                         .runAsmVerifier(true)
                         .dumpRawBytecode(true);
             }
 
-            final Class<? extends KvMarshaller> aClass = generator.defineClass(classDef, KvMarshaller.class);
+            final Class<? extends T> aClass = classGenerator.defineClass(classDef, iface);
             compilationTime = System.nanoTime() - compilationTime;
 
             if (LOG.isTraceEnabled()) {
@@ -104,53 +247,117 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
                         TimeUnit.NANOSECONDS.toMicros(generation), TimeUnit.NANOSECONDS.toMicros(compilationTime));
             }
 
-            // Instantiate marshaller.
-            //noinspection unchecked
-            return aClass
-                    .getDeclaredConstructor(
-                            SchemaDescriptor.class,
-                            ObjectFactory.class,
-                            ObjectFactory.class)
-                    .newInstance(
-                            schema,
-                            MarshallerUtil.factoryForClass(keyClass),
-                            MarshallerUtil.factoryForClass(valClass));
+            return aClass;
+        });
+    }
 
-        } catch (Exception | LinkageError e) {
-            throw new IllegalArgumentException("Failed to create marshaller for key-value pair: schemaVer=" + schema.version()
-                    + ", keyClass=" + keyClass.getSimpleName() + ", valueClass=" + valClass.getSimpleName(), e);
+    /**
+     * Builds a key that identifies the binding of given columns to the mapper target class.
+     *
+     * @param columns Columns.
+     * @param mapper  Mapper.
+     * @return Mapping key.
+     */
+    private static List<Object> mappingKey(Columns columns, Mapper<?> mapper) {
+        final List<Object> key = new ArrayList<>(columns.length() + 1);
+
+        key.add(mapper.targetType());
+
+        if (mapper instanceof OneColumnMapper) {
+            key.add(((OneColumnMapper<?>) mapper).mappedColumn());
+        } else if (mapper instanceof PojoMapper) {
+            for (int i = 0; i < columns.length(); i++) {
+                key.add(((PojoMapper<?>) mapper).fieldForColumn(columns.column(i).name()));
+            }
         }
+
+        return key;
     }
 
-    /** {@inheritDoc} */
-    @Override
-    public <R> RecordMarshaller<R> create(SchemaDescriptor schema, Mapper<R> mapper) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+    /**
+     * Generates key-value marshaller class definition.
+     *
+     * @param className   Marshaller class name.
+     * @param schema      Schema descriptor.
+     * @param keyMapper   Key mapper.
+     * @param valueMapper Value mapper.
+     * @return Generated java class definition.
+     */
+    private ClassDefinition generateKvMarshallerClass(
+            String className,
+            SchemaDescriptor schema,
+            Mapper<?> keyMapper,
+            Mapper<?> valueMapper
+    ) {
+        MarshallerCodeGenerator keyMarsh = createMarshaller(keyMapper, schema.keyColumns(), 0);
+        MarshallerCodeGenerator valMarsh = createMarshaller(valueMapper, schema.valueColumns(), schema.keyColumns().length());
+
+        final ClassDefinition classDef = createClassDefinition(className, KvMarshaller.class, keyMarsh, valMarsh);
+
+        generateAssemblerFactoryMethod(classDef, schema, keyMarsh, valMarsh);
+
+        generateSchemaVersionMethod(classDef, schema);
+
+        generateMarshalMethod(classDef, "marshal", "key", null, keyMarsh, valMarsh);
+        generateMarshalMethod(classDef, "marshal", "key", "val", keyMarsh, valMarsh);
+        generateUnmarshalKeyMethod(classDef, keyMarsh);
+        generateUnmarshalValueMethod(classDef, valMarsh);
+        return classDef;
     }
 
     /**
-     * Generates marshaller class definition.
+     * Generates record marshaller class definition.
      *
      * @param className Marshaller class name.
      * @param schema    Schema descriptor.
-     * @param keyClass  Key class.
-     * @param valClass  Value class.
+     * @param mapper    Record mapper.
      * @return Generated java class definition.
      */
-    private ClassDefinition generateMarshallerClass(
+    private ClassDefinition generateRecordMarshallerClass(
             String className,
             SchemaDescriptor schema,
-            Class<?> keyClass,
-            Class<?> valClass
+            Mapper<?> mapper
     ) {
-        MarshallerCodeGenerator keyMarsh = createMarshaller(keyClass, schema.keyColumns(), 0);
-        MarshallerCodeGenerator valMarsh = createMarshaller(valClass, schema.valueColumns(), schema.keyColumns().length());
+        if (!(mapper instanceof PojoMapper)) {
+            throw new IllegalArgumentException("Mapper of unsupported type: " + mapper.getClass());
+        }
+
+        ObjectMarshallerCodeGenerator keyMarsh = new ObjectMarshallerCodeGenerator(schema.keyColumns(), (PojoMapper<?>) mapper, 0);
+        ObjectMarshallerCodeGenerator valMarsh = new ObjectMarshallerCodeGenerator(schema.valueColumns(), (PojoMapper<?>) mapper,
+                schema.keyColumns().length());
+
+        final ClassDefinition classDef = createClassDefinition(className, RecordMarshaller.class, keyMarsh, valMarsh);
+
+        generateAssemblerFactoryMethod(classDef, schema, keyMarsh, valMarsh);
+
+        generateSchemaVersionMethod(classDef, schema);
+
+        generateMarshalMethod(classDef, "marshal", "rec", "rec", keyMarsh, valMarsh);
+        generateMarshalMethod(classDef, "marshalKey", "rec", null, keyMarsh, valMarsh);
+        generateUnmarshalRecordMethod(classDef, keyMarsh, valMarsh);
+        return classDef;
+    }
 
+    /**
+     * Creates marshaller class definition with static handlers, fields and constructor.
+     *
+     * @param className Marshaller class name.
+     * @param iface     Marshaller interface.
+     * @param keyMarsh  Key marshaller code generator.
+     * @param valMarsh  Value marshaller code generator.
+     * @return Class definition.
+     */
+    private ClassDefinition createClassDefinition(
+            String className,
+            Class<?> iface,
+            MarshallerCodeGenerator keyMarsh,
+            MarshallerCodeGenerator valMarsh
+    ) {
         final ClassDefinition classDef = new ClassDefinition(
                 EnumSet.of(Access.PUBLIC),
                 MARSHALLER_PACKAGE_NAME.replace('.', '/') + '/' + className,
                 ParameterizedType.type(Object.class),
-                ParameterizedType.type(KvMarshaller.class)
+                ParameterizedType.type(iface)
         );
 
         classDef.declareAnnotation(Generated.class).setValue("value", getClass().getCanonicalName());
@@ -164,13 +371,7 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
         valMarsh.initStaticHandlers(classDef, valueClassField);
 
         generateFieldsAndConstructor(classDef);
-        generateAssemblerFactoryMethod(classDef, schema, keyMarsh, valMarsh);
-
-        generateSchemaVersionMethod(classDef, schema);
 
-        generateMarshalMethod(classDef, keyMarsh, valMarsh);
-        generateUnmarshalKeyMethod(classDef, keyMarsh);
-        generateUnmarshalValueMethod(classDef, valMarsh);
         return classDef;
     }
 
@@ -193,24 +394,27 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
     }
 
     /**
-     * Creates marshaller code generator for given class.
+     * Creates marshaller code generator for given mapper.
      *
-     * @param cls         Target class.
-     * @param columns     Columns that cls mapped to.
+     * @param mapper      Mapper.
+     * @param columns     Columns that the mapper target class is mapped to.
      * @param firstColIdx First column absolute index in schema.
      * @return Marshaller code generator.
      */
     private static MarshallerCodeGenerator createMarshaller(
-            Class<?> cls,
+            Mapper<?> mapper,
             Columns columns,
             int firstColIdx
     ) {
-        final BinaryMode mode = MarshallerUtil.mode(cls);
+        if (!supports(columns, mapper)) {
+            throw new IllegalArgumentException("Mapping is not supported by generated marshaller: " + mapper.targetType().getName());
+        }
 
-        if (mode == BinaryMode.POJO) {
-            return new ObjectMarshallerCodeGenerator(columns, cls, firstColIdx);
+        if (mapper instanceof PojoMapper) {
+            return new ObjectMarshallerCodeGenerator(columns, (PojoMapper<?>) mapper, firstColIdx);
         } else {
-            return new IdentityMarshallerCodeGenerator(ColumnAccessCodeGenerator.createAccessor(mode, null, firstColIdx));
+            return new IdentityMarshallerCodeGenerator(
+                    ColumnAccessCodeGenerator.createAccessor(MarshallerUtil.mode(mapper.targetType()), null, firstColIdx));
         }
     }
 
@@ -241,7 +445,7 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
     }
 
     /**
-     * Generates helper method.
+     * Generates helper method that creates a row assembler sized for the varlen columns of the key and value objects.
      *
      * @param classDef Marshaller class definition.
      * @param schema   Schema descriptor.
@@ -265,105 +469,123 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
         final Scope scope = methodDef.getScope();
         final BytecodeBlock body = methodDef.getBody();
 
+        final Variable varlenKeySize = scope.declareVariable("varlenKeySize", body, BytecodeExpressions.defaultValue(int.class));
         final Variable varlenKeyCols = scope.declareVariable("varlenKeyCols", body, BytecodeExpressions.defaultValue(int.class));
+        final Variable varlenValueSize = scope.declareVariable("varlenValueSize", body, BytecodeExpressions.defaultValue(int.class));
         final Variable varlenValueCols = scope.declareVariable("varlenValueCols", body, BytecodeExpressions.defaultValue(int.class));
 
-        final Variable keyCols = scope.declareVariable(Columns.class, "keyCols");
-        final Variable valCols = scope.declareVariable(Columns.class, "valCols");
+        body.append(collectVarlenStatistic(classDef, methodDef, schema.keyColumns(), "keyColumns", keyMarsh,
+                scope.getVariable("key"), varlenKeySize, varlenKeyCols));
+        body.append(collectVarlenStatistic(classDef, methodDef, schema.valueColumns(), "valueColumns", valMarsh,
+                scope.getVariable("val"), varlenValueSize, varlenValueCols));
 
-        body.append(keyCols.set(
-                methodDef.getThis().getField("schema", SchemaDescriptor.class)
-                        .invoke("keyColumns", Columns.class)));
-        body.append(valCols.set(
-                methodDef.getThis().getField("schema", SchemaDescriptor.class)
-                        .invoke("valueColumns", Columns.class)));
+        body.append(BytecodeExpressions.newInstance(RowAssembler.class,
+                methodDef.getThis().getField("schema", SchemaDescriptor.class),
+                varlenKeySize,
+                varlenKeyCols,
+                varlenValueSize,
+                varlenValueCols));
 
-        Columns columns = schema.keyColumns();
-        if (columns.hasVarlengthColumns()) {
-            final Variable tmp = scope.createTempVariable(Object.class);
+        body.retObject();
+    }
 
-            for (int i = columns.firstVarlengthColumn(); i < columns.length(); i++) {
-                assert !columns.column(i).type().spec().fixedLength();
+    /**
+     * Generates a code that counts non-null varlen columns of the object and sums up their sizes.
+     *
+     * @param classDef       Marshaller class definition.
+     * @param methodDef      Method definition.
+     * @param columns        Columns.
+     * @param columnsGetter  Name of the schema method that returns the columns.
+     * @param marsh          Marshaller code generator.
+     * @param obj            Object variable, the statistic is not collected if the object is {@code null}.
+     * @param varlenSize     Varlen columns size variable.
+     * @param varlenCols     Non-null varlen columns count variable.
+     * @return Statistic collection code.
+     */
+    private BytecodeNode collectVarlenStatistic(
+            ClassDefinition classDef,
+            MethodDefinition methodDef,
+            Columns columns,
+            String columnsGetter,
+            MarshallerCodeGenerator marsh,
+            Variable obj,
+            Variable varlenSize,
+            Variable varlenCols
+    ) {
+        final BytecodeBlock block = new BytecodeBlock();
 
-                body.append(keyMarsh.getValue(classDef.getType(), scope.getVariable("key"), i)).putVariable(tmp);
-                body.append(new IfStatement().condition(BytecodeExpressions.isNotNull(tmp)).ifTrue(
-                        new BytecodeBlock().append(varlenKeyCols.increment()))
-                );
-            }
+        if (!columns.hasVarlengthColumns()) {
+            return block;
         }
 
-        columns = schema.valueColumns();
-        if (columns.hasVarlengthColumns()) {
-            final Variable tmp = scope.createTempVariable(Object.class);
+        final Variable tmp = methodDef.getScope().createTempVariable(Object.class);
 
-            for (int i = columns.firstVarlengthColumn(); i < columns.length(); i++) {
-                assert !columns.column(i).type().spec().fixedLength();
+        for (int i = columns.firstVarlengthColumn(); i < columns.length(); i++) {
+            assert !columns.column(i).type().spec().fixedLength();
 
-                body.append(valMarsh.getValue(classDef.getType(), scope.getVariable("val"), i)).putVariable(tmp);
-                body.append(new IfStatement().condition(BytecodeExpressions.isNotNull(tmp)).ifTrue(
-                        new BytecodeBlock().append(varlenValueCols.increment()))
-                );
-            }
-        }
+            final BytecodeExpression colType = methodDef.getThis().getField("schema", SchemaDescriptor.class)
+                    .invoke(columnsGetter, Columns.class)
+                    .invoke("column", Column.class, BytecodeExpressions.constantInt(i))
+                    .invoke("type", NativeType.class);
 
-        body.append(BytecodeExpressions.newInstance(RowAssembler.class,
-                methodDef.getThis().getField("schema", SchemaDescriptor.class),
-                varlenKeyCols,
-                varlenValueCols));
+            block.append(marsh.getValue(classDef.getType(), obj, i)).putVariable(tmp);
+            block.append(new IfStatement().condition(BytecodeExpressions.isNotNull(tmp)).ifTrue(
+                    new BytecodeBlock()
+                            .append(varlenCols.increment())
+                            .append(varlenSize.set(BytecodeExpressions.add(varlenSize,
+                                    BytecodeExpressions.invokeStatic(MarshallerUtil.class, "getValueSize", int.class, tmp, colType))))
+            ));
+        }
 
-        body.retObject();
+        return new IfStatement().condition(BytecodeExpressions.isNotNull(obj)).ifTrue(block);
     }
 
     /**
      * Generates marshal method.
      *
-     * @param classDef Marshaller class definition.
-     * @param keyMarsh Key marshaller code generator.
-     * @param valMarsh Value marshaller code generator.
+     * @param classDef   Marshaller class definition.
+     * @param methodName Method name.
+     * @param keyArg     Name of the argument to marshal the key columns from.
+     * @param valArg     Name of the argument to marshal the value columns from, or {@code null} to marshal the key columns only.
+     * @param keyMarsh   Key marshaller code generator.
+     * @param valMarsh   Value marshaller code generator.
      */
     private void generateMarshalMethod(
             ClassDefinition classDef,
+            String methodName,
+            String keyArg,
+            @Nullable String valArg,
             MarshallerCodeGenerator keyMarsh,
             MarshallerCodeGenerator valMarsh
     ) {
+        final List<Parameter> params = (valArg == null || valArg.equals(keyArg))
+                ? List.of(Parameter.arg(keyArg, Object.class))
+                : List.of(Parameter.arg(keyArg, Object.class), Parameter.arg(valArg, Object.class));
+
         final MethodDefinition methodDef = classDef.declareMethod(
                 EnumSet.of(Access.PUBLIC),
-                "marshal",
+                methodName,
                 ParameterizedType.type(Row.class),
-                Parameter.arg("key", Object.class),
-                Parameter.arg("val", Object.class)
+                params
         ).addException(MarshallerException.class);
 
         methodDef.declareAnnotation(Override.class);
 
-        final Variable asm = methodDef.getScope().createTempVariable(RowAssembler.class);
+        final Scope scope = methodDef.getScope();
+        final Variable asm = scope.createTempVariable(RowAssembler.class);
 
-        methodDef.getBody()
-                .append(asm.set(methodDef.getScope().getThis().invoke("createAssembler",
-                        RowAssembler.class,
-                        methodDef.getScope().getVariable("key"),
-                        methodDef.getScope().getVariable("val"))))
-                .append(new IfStatement().condition(BytecodeExpressions.isNull(asm)).ifTrue(
-                        new BytecodeBlock()
-                                .append(BytecodeExpressions.newInstance(IgniteInternalException.class,
-                                        BytecodeExpressions.constantString("ASM can't be null.")))
-                                .throwObject()
-                ));
+        final Variable key = scope.getVariable(keyArg);
+        final BytecodeExpression val = valArg == null ? BytecodeExpressions.constantNull(Object.class) : scope.getVariable(valArg);
+
+        final BytecodeBlock block = new BytecodeBlock()
+                .append(asm.set(scope.getThis().invoke("createAssembler", RowAssembler.class, key, val)))
+                .append(keyMarsh.marshallObject(classDef.getType(), asm, key));
+
+        if (valArg != null) {
+            block.append(valMarsh.marshallObject(classDef.getType(), asm, scope.getVariable(valArg)));
+        }
 
-        final BytecodeBlock block = new BytecodeBlock();
         block.append(
-                        keyMarsh.marshallObject(
-                                classDef.getType(),
-                                asm,
-                                methodDef.getScope().getVariable("key"))
-                )
-                .append(
-                        valMarsh.marshallObject(
-                                classDef.getType(),
-                                asm,
-                                methodDef.getScope().getVariable("val"))
-                )
-                .append(
                         BytecodeExpressions.newInstance(Row.class,
                                 methodDef.getThis().getField("schema", SchemaDescriptor.class),
                                 BytecodeExpressions.newInstance(ByteBufferRow.class,
@@ -371,7 +593,7 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
                 )
                 .retObject();
 
-        final Variable ex = methodDef.getScope().createTempVariable(Throwable.class);
+        final Variable ex = scope.createTempVariable(Throwable.class);
         methodDef.getBody().append(new TryCatch(
                 block,
                 new BytecodeBlock()
@@ -380,7 +602,6 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
                         .throwObject(),
                 ParameterizedType.type(Throwable.class)
         ));
-
     }
 
     /**
@@ -425,12 +646,48 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
 
         methodDef.declareAnnotation(Override.class);
 
+        final Variable row = methodDef.getScope().getVariable("row");
         final Variable obj = methodDef.getScope().declareVariable(Object.class, "obj");
         final Variable objFactory = methodDef.getScope().declareVariable("factory",
                 methodDef.getBody(), methodDef.getThis().getField("valFactory", ObjectFactory.class));
 
         methodDef.getBody()
-                .append(valMarsh.unmarshallObject(classDef.getType(), methodDef.getScope().getVariable("row"), obj, objFactory))
+                .append(new IfStatement().condition(BytecodeExpressions.not(row.invoke("hasValue", boolean.class))).ifTrue(
+                        new BytecodeBlock().append(BytecodeExpressions.constantNull(Object.class)).retObject()))
+                .append(valMarsh.unmarshallObject(classDef.getType(), row, obj, objFactory))
+                .append(obj)
+                .retObject();
+    }
+
+    /**
+     * Generates unmarshal record method.
+     *
+     * @param classDef Marshaller class definition.
+     * @param keyMarsh Key columns marshaller code generator.
+     * @param valMarsh Value columns marshaller code generator.
+     */
+    private void generateUnmarshalRecordMethod(
+            ClassDefinition classDef,
+            ObjectMarshallerCodeGenerator keyMarsh,
+            ObjectMarshallerCodeGenerator valMarsh
+    ) {
+        final MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PUBLIC),
+                "unmarshal",
+                ParameterizedType.type(Object.class),
+                Parameter.arg("row", Row.class)
+        ).addException(MarshallerException.class);
+
+        methodDef.declareAnnotation(Override.class);
+
+        final Variable row = methodDef.getScope().getVariable("row");
+        final Variable obj = methodDef.getScope().declareVariable(Object.class, "obj");
+        final Variable objFactory = methodDef.getScope().declareVariable("factory",
+                methodDef.getBody(), methodDef.getThis().getField("keyFactory", ObjectFactory.class));
+
+        methodDef.getBody()
+                .append(keyMarsh.unmarshallObject(classDef.getType(), row, obj, objFactory))
+                .append(valMarsh.unmarshallFields(classDef.getType(), row, obj))
                 .append(obj)
                 .retObject();
     }
@@ -31,16 +31,16 @@ import com.facebook.presto.bytecode.expression.BytecodeExpressions;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.Columns;
+import org.apache.ignite.internal.schema.marshaller.BinaryMode;
 import org.apache.ignite.internal.schema.marshaller.MarshallerUtil;
 import org.apache.ignite.internal.schema.row.RowAssembler;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.table.mapper.PojoMapper;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Generates marshaller methods code.
@@ -55,23 +55,28 @@ class ObjectMarshallerCodeGenerator implements MarshallerCodeGenerator {
     /** Object field access expression generators. */
     private final ColumnAccessCodeGenerator[] columnAccessors;
 
+    /**
+     * Constructor.
+     *
+     * @param columns     Columns that the target class is mapped to.
+     * @param mapper      Mapper of the target class.
+     * @param firstColIdx First column absolute index in schema.
+     */
     ObjectMarshallerCodeGenerator(
             Columns columns,
-            Class<?> targetClass,
+            PojoMapper<?> mapper,
             int firstColIdx
     ) {
         this.columns = columns;
-        this.targetClass = targetClass;
+        this.targetClass = mapper.targetType();
         columnAccessors = new ColumnAccessCodeGenerator[columns.length()];
 
-        Map<String, Field> flds = Arrays.stream(targetClass.getDeclaredFields())
-                .collect(Collectors.toMap(f -> f.getName().toUpperCase(), Function.identity()));
-
         for (int i = 0; i < columns.length(); i++) {
-            final Field field = flds.get(columns.column(i).name());
+            final Column col = columns.column(i);
+            final Field field = mappedField(col, mapper);
 
             if (field == null) {
-                throw new IgniteInternalException("Field not found for column [col=" + columns.column(i) + ']');
+                throw new IgniteInternalException("Field not found for column [col=" + col + ']');
             }
 
             columnAccessors[i] = ColumnAccessCodeGenerator.createAccessor(MarshallerUtil.mode(field.getType()), field.getName(),
@@ -79,6 +84,42 @@ class ObjectMarshallerCodeGenerator implements MarshallerCodeGenerator {
         }
     }
 
+    /**
+     * Resolves a field the column is bound to, if the binding can be handled by the generated code: the field is mapped without
+     * a type converter, has a type that is natively compatible with the column type, and is not primitive for a nullable column.
+     *
+     * @param col    Column.
+     * @param mapper Mapper of the target class.
+     * @return Mapped field or {@code null} if there is no such field or the binding requires the reflection-based marshaller.
+     */
+    static @Nullable Field mappedField(Column col, PojoMapper<?> mapper) {
+        final String fieldName = mapper.fieldForColumn(col.name());
+
+        if (fieldName == null || mapper.converterForColumn(col.name()) != null) {
+            return null;
+        }
+
+        final Field field;
+
+        try {
+            field = mapper.targetType().getDeclaredField(fieldName);
+        } catch (NoSuchFieldException | SecurityException ignore) {
+            return null;
+        }
+
+        final BinaryMode mode = MarshallerUtil.mode(field.getType());
+
+        if (mode == BinaryMode.POJO || mode.typeSpec() != col.type().spec()) {
+            return null;
+        }
+
+        if (field.getType().isPrimitive() && col.nullable()) {
+            return null;
+        }
+
+        return field;
+    }
+
     /** {@inheritDoc} */
     @Override
     public BytecodeNode getValue(ParameterizedType marshallerClass, Variable obj,
@@ -111,7 +152,7 @@ class ObjectMarshallerCodeGenerator implements MarshallerCodeGenerator {
                     Collections.singletonList(columnAccessor.writeArgType()),
                     fld.cast(columnAccessor.writeArgType()));
 
-            if (columns.column(i).nullable()) {
+            if (!columnAccessor.mappedType().isPrimitive()) {
                 block.append(new BytecodeBlock().append(
                         new IfStatement().condition(BytecodeExpressions.isNull(fld))
                                 .ifTrue(asm.invoke("appendNull", RowAssembler.class))
@@ -128,9 +169,21 @@ class ObjectMarshallerCodeGenerator implements MarshallerCodeGenerator {
     /** {@inheritDoc} */
     @Override
     public BytecodeBlock unmarshallObject(ParameterizedType marshallerClass, Variable row, Variable objVar, Variable objFactory) {
-        final BytecodeBlock block = new BytecodeBlock();
+        return new BytecodeBlock()
+                .append(objVar.set(objFactory.invoke("create", Object.class)))
+                .append(unmarshallFields(marshallerClass, row, objVar));
+    }
 
-        block.append(objVar.set(objFactory.invoke("create", Object.class)));
+    /**
+     * Returns a code that reads the mapped columns of a {@code row} into the fields of an already created object.
+     *
+     * @param marshallerClass Marshaller class.
+     * @param row             Row.
+     * @param objVar          Target object variable.
+     * @return Unmarshall fields code.
+     */
+    BytecodeBlock unmarshallFields(ParameterizedType marshallerClass, Variable row, Variable objVar) {
+        final BytecodeBlock block = new BytecodeBlock();
 
         for (int i = 0; i < columns.length(); i++) {
             final ColumnAccessCodeGenerator columnAccessor = columnAccessors[i];
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.schema.registry;
+
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypeSpec;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.mapping.ColumnMapper;
+
+/**
+ * Column mapping from an older row schema to a newer schema, flattened into arrays indexed by the newer schema column index.
+ *
+ * <p>Resolving a column of an upgraded row then costs a couple of array reads instead of a chain of mapper and column lookups.
+ */
+final class CompiledColumnMapping {
+    /** Row column indices, or {@code -1} for the columns missed in the row schema. */
+    private final int[] mapping;
+
+    /** Type specs of the columns the values are read from. */
+    private final NativeTypeSpec[] specs;
+
+    /** Columns which default values are used for the columns missed in the row schema. */
+    private final Column[] defaultCols;
+
+    /**
+     * Constructor.
+     *
+     * @param schema    Target schema descriptor.
+     * @param rowSchema Row schema descriptor.
+     * @param mapper    Column mapper from the row schema to the target one.
+     */
+    CompiledColumnMapping(SchemaDescriptor schema, SchemaDescriptor rowSchema, ColumnMapper mapper) {
+        int len = schema.length();
+
+        mapping = new int[len];
+        specs = new NativeTypeSpec[len];
+        defaultCols = new Column[len];
+
+        for (int i = 0; i < len; i++) {
+            int mappedId = mapper.map(i);
+
+            Column col = mappedId < 0 ? mapper.mappedColumn(i) : rowSchema.column(mappedId);
+
+            mapping[i] = mappedId;
+            // Unresolvable columns fail on access, as the mapper itself does.
+            specs[i] = col == null ? null : col.type().spec();
+            defaultCols[i] = mappedId < 0 ? col : null;
+        }
+    }
+
+    /**
+     * Maps a column.
+     *
+     * @param colIdx Column index in the target schema.
+     * @return Column index in the row schema, or {@code -1} if the row schema has no such column.
+     */
+    int map(int colIdx) {
+        return mapping[colIdx];
+    }
+
+    /**
+     * Gets a type spec of the column the value is read from.
+     *
+     * @param colIdx Column index in the target schema.
+     * @return Type spec.
+     */
+    NativeTypeSpec spec(int colIdx) {
+        return specs[colIdx];
+    }
+
+    /**
+     * Gets a default value for a column missed in the row schema.
+     *
+     * @param colIdx Column index in the target schema.
+     * @return Default value.
+     */
+    Object defaultValue(int colIdx) {
+        return defaultCols[colIdx].defaultValue();
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
 import org.apache.ignite.internal.schema.BinaryRow;
@@ -41,8 +42,8 @@ public class SchemaRegistryImpl implements SchemaRegistry {
     /** Cached schemas. */
     private final ConcurrentNavigableMap<Integer, SchemaDescriptor> schemaCache = new ConcurrentSkipListMap<>();
 
-    /** Column mappers cache. */
-    private final Map<Long, ColumnMapper> mappingCache = new ConcurrentHashMap<>();
+    /** Compiled column mappings cache: target schema version -> mappings indexed by the row schema version. */
+    private final Map<Integer, AtomicReferenceArray<CompiledColumnMapping>> mappingCache = new ConcurrentHashMap<>();
 
     /** Last registered version. */
     private volatile int lastVer;
@@ -171,7 +172,7 @@ public class SchemaRegistryImpl implements SchemaRegistry {
 
         final SchemaDescriptor rowSchema = schema(row.schemaVersion());
 
-        ColumnMapper mapping = resolveMapping(curSchema, rowSchema);
+        CompiledColumnMapping mapping = resolveMapping(curSchema, rowSchema);
 
         return new UpgradingRowAdapter(curSchema, rowSchema, row, mapping);
     }
@@ -181,32 +182,29 @@ public class SchemaRegistryImpl implements SchemaRegistry {
      *
      * @param curSchema Target schema.
      * @param rowSchema Row schema.
-     * @return Column mapper for target schema.
+     * @return Compiled column mapping for target schema.
      */
-    ColumnMapper resolveMapping(SchemaDescriptor curSchema, SchemaDescriptor rowSchema) {
+    CompiledColumnMapping resolveMapping(SchemaDescriptor curSchema, SchemaDescriptor rowSchema) {
         assert curSchema.version() > rowSchema.version();
 
-        if (curSchema.version() == rowSchema.version() + 1) {
-            return curSchema.columnMapping();
-        }
-
-        final long mappingKey = (((long) curSchema.version()) << 32) | (rowSchema.version());
+        AtomicReferenceArray<CompiledColumnMapping> mappings =
+                mappingCache.computeIfAbsent(curSchema.version(), AtomicReferenceArray::new);
 
-        ColumnMapper mapping;
+        CompiledColumnMapping mapping = mappings.get(rowSchema.version());
 
-        if ((mapping = mappingCache.get(mappingKey)) != null) {
+        if (mapping != null) {
             return mapping;
         }
 
-        mapping = schema(rowSchema.version() + 1).columnMapping();
+        ColumnMapper mapper = schema(rowSchema.version() + 1).columnMapping();
 
         for (int i = rowSchema.version() + 2; i <= curSchema.version(); i++) {
-            mapping = ColumnMapping.mergeMapping(mapping, schema(i));
+            mapper = ColumnMapping.mergeMapping(mapper, schema(i));
         }
 
-        mappingCache.putIfAbsent(mappingKey, mapping);
+        mapping = new CompiledColumnMapping(curSchema, rowSchema, mapper);
 
-        return mapping;
+        return mappings.compareAndSet(rowSchema.version(), null, mapping) ? mapping : mappings.get(rowSchema.version());
     }
 
     /**
@@ -242,16 +240,32 @@ public class SchemaRegistryImpl implements SchemaRegistry {
         }
 
         if (schemaCache.remove(ver) != null) {
-            mappingCache.keySet().removeIf(k -> (k & 0xFFFF_FFFFL) == ver);
+            mappingCache.remove(ver);
+
+            for (AtomicReferenceArray<CompiledColumnMapping> mappings : mappingCache.values()) {
+                if (ver < mappings.length()) {
+                    mappings.set(ver, null);
+                }
+            }
         }
     }
 
     /**
      * For test purposes only.
      *
-     * @return ColumnMapping cache.
+     * @return Number of cached column mappings.
      */
-    Map<Long, ColumnMapper> mappingCache() {
-        return mappingCache;
+    int mappingCacheSize() {
+        int size = 0;
+
+        for (AtomicReferenceArray<CompiledColumnMapping> mappings : mappingCache.values()) {
+            for (int i = 0; i < mappings.length(); i++) {
+                if (mappings.get(i) != null) {
+                    size++;
+                }
+            }
+        }
+
+        return size;
     }
 }
@@ -26,12 +26,10 @@ import java.time.LocalTime;
 import java.util.BitSet;
 import java.util.UUID;
 import org.apache.ignite.internal.schema.BinaryRow;
-import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.InvalidTypeException;
 import org.apache.ignite.internal.schema.NativeTypeSpec;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaException;
-import org.apache.ignite.internal.schema.mapping.ColumnMapper;
 import org.apache.ignite.internal.schema.row.Row;
 import org.jetbrains.annotations.NotNull;
 
@@ -39,8 +37,8 @@ import org.jetbrains.annotations.NotNull;
  * Adapter for row of older schema.
  */
 class UpgradingRowAdapter extends Row {
-    /** Column mapper. */
-    private final ColumnMapper mapper;
+    /** Compiled column mapping. */
+    private final CompiledColumnMapping mapping;
 
     /** Adapter schema. */
     private final SchemaDescriptor schema;
@@ -51,13 +49,13 @@ class UpgradingRowAdapter extends Row {
      * @param schema    Row adapter schema descriptor.
      * @param rowSchema Row schema descriptor.
      * @param row       Row.
-     * @param mapper    Column mapper.
+     * @param mapping   Compiled column mapping.
      */
-    UpgradingRowAdapter(SchemaDescriptor schema, SchemaDescriptor rowSchema, BinaryRow row, ColumnMapper mapper) {
+    UpgradingRowAdapter(SchemaDescriptor schema, SchemaDescriptor rowSchema, BinaryRow row, CompiledColumnMapping mapping) {
         super(rowSchema, row);
 
         this.schema = schema;
-        this.mapper = mapper;
+        this.mapping = mapping;
     }
 
     /** {@inheritDoc} */
@@ -80,7 +78,7 @@ class UpgradingRowAdapter extends Row {
      * @return Column index in targer schema.
      */
     private int mapColumn(int colIdx) throws InvalidTypeException {
-        return mapper.map(colIdx);
+        return mapping.map(colIdx);
     }
 
     /** {@inheritDoc} */
@@ -89,7 +87,7 @@ class UpgradingRowAdapter extends Row {
         int mappedId = mapColumn(colIdx);
 
         return mappedId < 0
-                ? mapper.mappedColumn(colIdx).defaultValue()
+                ? mapping.defaultValue(colIdx)
                 : schema.column(colIdx).type().spec().objectValue(this, colIdx);
     }
 
@@ -98,13 +96,11 @@ class UpgradingRowAdapter extends Row {
     public byte byteValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.INT8 != column.type().spec()) {
+        if (NativeTypeSpec.INT8 != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (byte) column.defaultValue() : super.byteValue(mappedId);
+        return mappedId < 0 ? (byte) mapping.defaultValue(colIdx) : super.byteValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -112,13 +108,11 @@ class UpgradingRowAdapter extends Row {
     public Byte byteValueBoxed(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.INT8 != column.type().spec()) {
+        if (NativeTypeSpec.INT8 != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (Byte) column.defaultValue() : super.byteValueBoxed(mappedId);
+        return mappedId < 0 ? (Byte) mapping.defaultValue(colIdx) : super.byteValueBoxed(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -126,13 +120,11 @@ class UpgradingRowAdapter extends Row {
     public short shortValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.INT16 != column.type().spec()) {
+        if (NativeTypeSpec.INT16 != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (short) column.defaultValue() : super.shortValue(mappedId);
+        return mappedId < 0 ? (short) mapping.defaultValue(colIdx) : super.shortValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -140,13 +132,11 @@ class UpgradingRowAdapter extends Row {
     public Short shortValueBoxed(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.INT16 != column.type().spec()) {
+        if (NativeTypeSpec.INT16 != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (Short) column.defaultValue() : super.shortValueBoxed(mappedId);
+        return mappedId < 0 ? (Short) mapping.defaultValue(colIdx) : super.shortValueBoxed(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -154,13 +144,11 @@ class UpgradingRowAdapter extends Row {
     public int intValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.INT32 != column.type().spec()) {
+        if (NativeTypeSpec.INT32 != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (int) column.defaultValue() : super.intValue(mappedId);
+        return mappedId < 0 ? (int) mapping.defaultValue(colIdx) : super.intValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -168,13 +156,11 @@ class UpgradingRowAdapter extends Row {
     public Integer intValueBoxed(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.INT32 != column.type().spec()) {
+        if (NativeTypeSpec.INT32 != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (Integer) column.defaultValue() : super.intValueBoxed(mappedId);
+        return mappedId < 0 ? (Integer) mapping.defaultValue(colIdx) : super.intValueBoxed(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -182,13 +168,11 @@ class UpgradingRowAdapter extends Row {
     public long longValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.INT64 != column.type().spec()) {
+        if (NativeTypeSpec.INT64 != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (long) column.defaultValue() : super.longValue(mappedId);
+        return mappedId < 0 ? (long) mapping.defaultValue(colIdx) : super.longValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -196,13 +180,11 @@ class UpgradingRowAdapter extends Row {
     public Long longValueBoxed(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.INT64 != column.type().spec()) {
+        if (NativeTypeSpec.INT64 != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (Long) column.defaultValue() : super.longValueBoxed(mappedId);
+        return mappedId < 0 ? (Long) mapping.defaultValue(colIdx) : super.longValueBoxed(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -210,13 +192,11 @@ class UpgradingRowAdapter extends Row {
     public float floatValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.FLOAT != column.type().spec()) {
+        if (NativeTypeSpec.FLOAT != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (float) column.defaultValue() : super.floatValue(mappedId);
+        return mappedId < 0 ? (float) mapping.defaultValue(colIdx) : super.floatValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -224,13 +204,11 @@ class UpgradingRowAdapter extends Row {
     public Float floatValueBoxed(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.FLOAT != column.type().spec()) {
+        if (NativeTypeSpec.FLOAT != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (Float) column.defaultValue() : super.floatValueBoxed(mappedId);
+        return mappedId < 0 ? (Float) mapping.defaultValue(colIdx) : super.floatValueBoxed(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -238,13 +216,11 @@ class UpgradingRowAdapter extends Row {
     public double doubleValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.DOUBLE != column.type().spec()) {
+        if (NativeTypeSpec.DOUBLE != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (double) column.defaultValue() : super.doubleValue(mappedId);
+        return mappedId < 0 ? (double) mapping.defaultValue(colIdx) : super.doubleValue(mappedId);
     }
 
 
@@ -253,13 +229,11 @@ class UpgradingRowAdapter extends Row {
     public Double doubleValueBoxed(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.DOUBLE != column.type().spec()) {
+        if (NativeTypeSpec.DOUBLE != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (Double) column.defaultValue() : super.doubleValueBoxed(mappedId);
+        return mappedId < 0 ? (Double) mapping.defaultValue(colIdx) : super.doubleValueBoxed(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -267,13 +241,11 @@ class UpgradingRowAdapter extends Row {
     public BigDecimal decimalValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.DECIMAL != column.type().spec()) {
+        if (NativeTypeSpec.DECIMAL != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (BigDecimal) column.defaultValue() : super.decimalValue(mappedId);
+        return mappedId < 0 ? (BigDecimal) mapping.defaultValue(colIdx) : super.decimalValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -281,13 +253,11 @@ class UpgradingRowAdapter extends Row {
     public BigInteger numberValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.NUMBER != column.type().spec()) {
+        if (NativeTypeSpec.NUMBER != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (BigInteger) column.defaultValue() : super.numberValue(mappedId);
+        return mappedId < 0 ? (BigInteger) mapping.defaultValue(colIdx) : super.numberValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -295,13 +265,11 @@ class UpgradingRowAdapter extends Row {
     public String stringValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.STRING != column.type().spec()) {
+        if (NativeTypeSpec.STRING != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (String) column.defaultValue() : super.stringValue(mappedId);
+        return mappedId < 0 ? (String) mapping.defaultValue(colIdx) : super.stringValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -309,13 +277,11 @@ class UpgradingRowAdapter extends Row {
     public byte[] bytesValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.BYTES != column.type().spec()) {
+        if (NativeTypeSpec.BYTES != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (byte[]) column.defaultValue() : super.bytesValue(mappedId);
+        return mappedId < 0 ? (byte[]) mapping.defaultValue(colIdx) : super.bytesValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -323,13 +289,11 @@ class UpgradingRowAdapter extends Row {
     public UUID uuidValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.UUID != column.type().spec()) {
+        if (NativeTypeSpec.UUID != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (UUID) column.defaultValue() : super.uuidValue(mappedId);
+        return mappedId < 0 ? (UUID) mapping.defaultValue(colIdx) : super.uuidValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -337,13 +301,11 @@ class UpgradingRowAdapter extends Row {
     public BitSet bitmaskValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.BITMASK != column.type().spec()) {
+        if (NativeTypeSpec.BITMASK != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (BitSet) column.defaultValue() : super.bitmaskValue(mappedId);
+        return mappedId < 0 ? (BitSet) mapping.defaultValue(colIdx) : super.bitmaskValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -351,13 +313,11 @@ class UpgradingRowAdapter extends Row {
     public LocalDate dateValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.DATE != column.type().spec()) {
+        if (NativeTypeSpec.DATE != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (LocalDate) column.defaultValue() : super.dateValue(mappedId);
+        return mappedId < 0 ? (LocalDate) mapping.defaultValue(colIdx) : super.dateValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -365,13 +325,11 @@ class UpgradingRowAdapter extends Row {
     public LocalTime timeValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.TIME != column.type().spec()) {
+        if (NativeTypeSpec.TIME != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (LocalTime) column.defaultValue() : super.timeValue(mappedId);
+        return mappedId < 0 ? (LocalTime) mapping.defaultValue(colIdx) : super.timeValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -379,13 +337,11 @@ class UpgradingRowAdapter extends Row {
     public LocalDateTime dateTimeValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.DATETIME != column.type().spec()) {
+        if (NativeTypeSpec.DATETIME != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (LocalDateTime) column.defaultValue() : super.dateTimeValue(mappedId);
+        return mappedId < 0 ? (LocalDateTime) mapping.defaultValue(colIdx) : super.dateTimeValue(mappedId);
     }
 
     /** {@inheritDoc} */
@@ -393,12 +349,10 @@ class UpgradingRowAdapter extends Row {
     public Instant timestampValue(int colIdx) throws InvalidTypeException {
         int mappedId = mapColumn(colIdx);
 
-        Column column = mappedId < 0 ? mapper.mappedColumn(colIdx) : super.schema().column(mappedId);
-
-        if (NativeTypeSpec.TIMESTAMP != column.type().spec()) {
+        if (NativeTypeSpec.TIMESTAMP != mapping.spec(colIdx)) {
             throw new SchemaException("Type conversion is not supported yet.");
         }
 
-        return mappedId < 0 ? (Instant) column.defaultValue() : super.timestampValue(mappedId);
+        return mappedId < 0 ? (Instant) mapping.defaultValue(colIdx) : super.timestampValue(mappedId);
     }
 }
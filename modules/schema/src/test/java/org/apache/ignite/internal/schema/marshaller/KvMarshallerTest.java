@@ -32,7 +32,9 @@ import static org.apache.ignite.internal.schema.NativeTypes.time;
 import static org.apache.ignite.internal.schema.NativeTypes.timestamp;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
@@ -81,6 +83,7 @@ import org.apache.ignite.table.mapper.Mapper;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -95,7 +98,8 @@ public class KvMarshallerTest {
     private static List<MarshallerFactory> marshallerFactoryProvider() {
         return List.of(
                 new ReflectionMarshallerFactory(),
-                new AsmMarshallerGenerator()
+                new AsmMarshallerGenerator(),
+                new DefaultMarshallerFactory()
         );
     }
 
@@ -165,6 +169,37 @@ public class KvMarshallerTest {
         assertEquals(val, restoredVal);
     }
 
+    @Test
+    public void generatedMarshallerWritesSameRowAsReflection() throws MarshallerException {
+        SchemaDescriptor schema = new SchemaDescriptor(1, columnsAllTypes(false), columnsAllTypes(true));
+
+        final TestObjectWithAllTypes key = TestObjectWithAllTypes.randomKey(rnd);
+        final TestObjectWithAllTypes val = TestObjectWithAllTypes.randomObject(rnd);
+
+        KvMarshaller<TestObjectWithAllTypes, TestObjectWithAllTypes> reflectionMarshaller =
+                new ReflectionMarshallerFactory().create(schema, TestObjectWithAllTypes.class, TestObjectWithAllTypes.class);
+        KvMarshaller<TestObjectWithAllTypes, TestObjectWithAllTypes> generatedMarshaller =
+                new AsmMarshallerGenerator().create(schema, TestObjectWithAllTypes.class, TestObjectWithAllTypes.class);
+
+        assertArrayEquals(reflectionMarshaller.marshal(key, val).bytes(), generatedMarshaller.marshal(key, val).bytes());
+        assertArrayEquals(reflectionMarshaller.marshal(key).bytes(), generatedMarshaller.marshal(key).bytes());
+
+        assertNull(generatedMarshaller.unmarshalValue(generatedMarshaller.marshal(key)));
+    }
+
+    @Test
+    public void generatedMarshallerClassIsCachedPerSchema() {
+        SchemaDescriptor schema = new SchemaDescriptor(1, columnsAllTypes(false), columnsAllTypes(true));
+        SchemaDescriptor otherSchema = new SchemaDescriptor(1, columnsAllTypes(false), columnsAllTypes(true));
+
+        MarshallerFactory factory = new AsmMarshallerGenerator();
+
+        Class<?> marshallerClass = factory.create(schema, TestObjectWithAllTypes.class, TestObjectWithAllTypes.class).getClass();
+
+        assertSame(marshallerClass, factory.create(schema, TestObjectWithAllTypes.class, TestObjectWithAllTypes.class).getClass());
+        assertNotSame(marshallerClass, factory.create(otherSchema, TestObjectWithAllTypes.class, TestObjectWithAllTypes.class).getClass());
+    }
+
     @ParameterizedTest
     @MethodSource("marshallerFactoryProvider")
     public void narrowType(MarshallerFactory factory) throws MarshallerException {
@@ -246,7 +281,7 @@ public class KvMarshallerTest {
     @ParameterizedTest
     @MethodSource("marshallerFactoryProvider")
     public void columnNameMapping(MarshallerFactory factory) throws MarshallerException {
-        Assumptions.assumeFalse(factory instanceof AsmMarshallerGenerator, "Generated marshaller doesn't support column mapping, yet.");
+        Assumptions.assumeFalse(factory instanceof AsmMarshallerGenerator, "Generated marshaller doesn't support unmapped columns, yet.");
 
         SchemaDescriptor schema = new SchemaDescriptor(1,
                 new Column[]{new Column("key".toUpperCase(), INT64, false)},
@@ -298,6 +333,17 @@ public class KvMarshallerTest {
 
         SchemaDescriptor schema = new SchemaDescriptor(1, keyCols, valCols);
 
+        // Generated marshaller checks the field types when the marshaller class is generated.
+        if (factory instanceof AsmMarshallerGenerator) {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> factory.create(schema, TestObjectWithAllTypes.class, TestObjectWithAllTypes.class),
+                    "Mapping is not supported by generated marshaller"
+            );
+
+            return;
+        }
+
         KvMarshaller<TestObjectWithAllTypes, TestObjectWithAllTypes> marshaller =
                 factory.create(schema, TestObjectWithAllTypes.class, TestObjectWithAllTypes.class);
 
@@ -465,7 +511,7 @@ public class KvMarshallerTest {
     @ParameterizedTest
     @MethodSource("marshallerFactoryProvider")
     public void pojoMapping(MarshallerFactory factory) throws MarshallerException, IOException {
-        Assumptions.assumeFalse(factory instanceof AsmMarshallerGenerator, "Generated marshaller doesn't support column mapping.");
+        Assumptions.assumeFalse(factory instanceof AsmMarshallerGenerator, "Generated marshaller doesn't support type converters.");
 
         final SchemaDescriptor schema = new SchemaDescriptor(
                 1,
@@ -30,6 +30,7 @@ import static org.apache.ignite.internal.schema.NativeTypes.UUID;
 import static org.apache.ignite.internal.schema.NativeTypes.datetime;
 import static org.apache.ignite.internal.schema.NativeTypes.time;
 import static org.apache.ignite.internal.schema.NativeTypes.timestamp;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -60,6 +61,7 @@ import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.NativeTypeSpec;
 import org.apache.ignite.internal.schema.NativeTypes;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.asm.AsmMarshallerGenerator;
 import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.schema.testobjects.TestObjectWithAllTypes;
@@ -68,6 +70,7 @@ import org.apache.ignite.internal.schema.testobjects.TestObjectWithPrivateConstr
 import org.apache.ignite.internal.testframework.IgniteTestUtils;
 import org.apache.ignite.internal.util.ObjectFactory;
 import org.apache.ignite.table.mapper.Mapper;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -81,7 +84,11 @@ public class RecordMarshallerTest {
      * Returns list of marshaller factories for the test.
      */
     private static List<MarshallerFactory> marshallerFactoryProvider() {
-        return List.of(new ReflectionMarshallerFactory());
+        return List.of(
+                new ReflectionMarshallerFactory(),
+                new AsmMarshallerGenerator(),
+                new DefaultMarshallerFactory()
+        );
     }
 
     /** Random. */
@@ -117,9 +124,26 @@ public class RecordMarshallerTest {
         assertEquals(rec, restoredRec);
     }
 
+    @Test
+    public void generatedMarshallerWritesSameRowAsReflection() throws MarshallerException {
+        SchemaDescriptor schema = new SchemaDescriptor(1, keyColumns(), valueColumnsAllTypes());
+
+        final TestObjectWithAllTypes rec = TestObjectWithAllTypes.randomObject(rnd);
+
+        RecordMarshaller<TestObjectWithAllTypes> reflectionMarshaller =
+                new ReflectionMarshallerFactory().create(schema, TestObjectWithAllTypes.class);
+        RecordMarshaller<TestObjectWithAllTypes> generatedMarshaller =
+                new AsmMarshallerGenerator().create(schema, TestObjectWithAllTypes.class);
+
+        assertArrayEquals(reflectionMarshaller.marshal(rec).bytes(), generatedMarshaller.marshal(rec).bytes());
+        assertArrayEquals(reflectionMarshaller.marshalKey(rec).bytes(), generatedMarshaller.marshalKey(rec).bytes());
+    }
+
     @ParameterizedTest
     @MethodSource("marshallerFactoryProvider")
     public void truncatedType(MarshallerFactory factory) throws MarshallerException {
+        Assumptions.assumeFalse(factory instanceof AsmMarshallerGenerator, "Generated marshaller doesn't support unmapped columns, yet.");
+
         SchemaDescriptor schema = new SchemaDescriptor(1, keyColumns(), valueColumnsAllTypes());
 
         RecordMarshaller<TestTruncatedObject> marshaller = factory.create(schema, TestTruncatedObject.class);
@@ -174,6 +198,8 @@ public class RecordMarshallerTest {
     @ParameterizedTest
     @MethodSource("marshallerFactoryProvider")
     public void mapping(MarshallerFactory factory) throws MarshallerException {
+        Assumptions.assumeFalse(factory instanceof AsmMarshallerGenerator, "Generated marshaller doesn't support unmapped columns, yet.");
+
         SchemaDescriptor schema = new SchemaDescriptor(1,
                 new Column[]{new Column("key".toUpperCase(), INT64, false)},
                 new Column[]{
@@ -215,6 +241,17 @@ public class RecordMarshallerTest {
                 }
         );
 
+        // Generated marshaller checks the field types when the marshaller class is generated.
+        if (factory instanceof AsmMarshallerGenerator) {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> factory.create(schema, TestObjectWithAllTypes.class),
+                    "Mapping is not supported by generated marshaller"
+            );
+
+            return;
+        }
+
         RecordMarshaller<TestObjectWithAllTypes> marshaller = factory.create(schema, TestObjectWithAllTypes.class);
 
         final TestObjectWithAllTypes rec = TestObjectWithAllTypes.randomObject(rnd);
@@ -24,6 +24,7 @@ import static org.apache.ignite.internal.schema.SchemaManager.INITIAL_SCHEMA_VER
 import static org.apache.ignite.internal.schema.mapping.ColumnMapping.createMapper;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -33,7 +34,6 @@ import java.util.stream.Collectors;
 import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaUtils;
-import org.apache.ignite.internal.schema.mapping.ColumnMapper;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -545,28 +545,30 @@ public class SchemaRegistryImplTest {
 
         final SchemaRegistryImpl reg = new SchemaRegistryImpl(v -> null, () -> INITIAL_SCHEMA_VERSION, schemaV1);
 
-        final Map<Long, ColumnMapper> cache = reg.mappingCache();
-
         assertThrows(SchemaRegistrationConflictException.class, () -> reg.onSchemaRegistered(schemaV1));
         reg.onSchemaRegistered(schemaV2);
         reg.onSchemaRegistered(schemaV3);
         reg.onSchemaRegistered(schemaV4);
 
-        assertEquals(0, cache.size());
+        assertEquals(0, reg.mappingCacheSize());
 
         reg.resolveMapping(schemaV4, schemaV1);
         reg.resolveMapping(schemaV3, schemaV1);
         reg.resolveMapping(schemaV4, schemaV2);
 
-        assertEquals(3, cache.size());
+        assertEquals(3, reg.mappingCacheSize());
+
+        assertSame(reg.resolveMapping(schemaV4, schemaV1), reg.resolveMapping(schemaV4, schemaV1));
+
+        assertEquals(3, reg.mappingCacheSize());
 
         reg.onSchemaDropped(schemaV1.version());
 
-        assertEquals(1, cache.size());
+        assertEquals(1, reg.mappingCacheSize());
 
         reg.onSchemaDropped(schemaV2.version());
 
-        assertEquals(0, cache.size());
+        assertEquals(0, reg.mappingCacheSize());
     }
 
     /**
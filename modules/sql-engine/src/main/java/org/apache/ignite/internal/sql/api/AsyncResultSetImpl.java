@@ -161,7 +161,7 @@ public class AsyncResultSetImpl implements AsyncResultSet {
         }
     }
 
-    private static class SqlRowImpl implements SqlRow {
+    static class SqlRowImpl implements SqlRow {
         private final List<Object> row;
 
         private final ResultSetMetadata meta;
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.sql.api.AsyncResultSetImpl.SqlRowImpl;
+import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
+import org.apache.ignite.internal.sql.engine.SqlQueryType;
+import org.apache.ignite.internal.sql.engine.util.TransformingIterator;
+import org.apache.ignite.internal.util.FuturePublisher;
+import org.apache.ignite.internal.util.PagedPublisher;
+import org.apache.ignite.sql.ResultSetMetadata;
+import org.apache.ignite.sql.SqlRow;
+import org.apache.ignite.sql.reactive.ReactiveResultSet;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reactive result set implementation.
+ *
+ * <p>The query is started when any of the publishers is requested for data. The rows are fetched from the query cursor only when
+ * the subscriber has demand for them, and a fetch is limited by the demand and the page size, so the demand propagates down to the
+ * root node of the query and the exchange buffers of the remote fragments instead of buffering the whole result.
+ */
+public class ReactiveResultSetImpl implements ReactiveResultSet {
+    /** Query starter. */
+    private final Supplier<CompletableFuture<AsyncSqlCursor<List<Object>>>> qry;
+
+    /** Maximal number of rows fetched from the cursor at once. */
+    private final int pageSize;
+
+    /** Callback to run when the cursor is closed. */
+    private final Consumer<AsyncSqlCursor<List<Object>>> closeRun;
+
+    /** Rows publisher. */
+    private final PagedPublisher<SqlRow> rows;
+
+    /** Query cursor future, {@code null} until the query is started. */
+    private volatile @Nullable CompletableFuture<AsyncSqlCursor<List<Object>>> curFut;
+
+    /** Result of the DML or DDL statement, {@code null} until requested. */
+    private volatile @Nullable CompletableFuture<Object> resFut;
+
+    /**
+     * Constructor.
+     *
+     * @param qry Query starter.
+     * @param pageSize Maximal number of rows fetched from the cursor at once.
+     * @param closeRun Callback to run when the cursor is closed.
+     */
+    public ReactiveResultSetImpl(
+            Supplier<CompletableFuture<AsyncSqlCursor<List<Object>>>> qry,
+            int pageSize,
+            Consumer<AsyncSqlCursor<List<Object>>> closeRun
+    ) {
+        this.qry = qry;
+        this.pageSize = pageSize;
+        this.closeRun = closeRun;
+
+        rows = new PagedPublisher<>(new RowSource());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Flow.Subscriber<? super SqlRow> subscriber) {
+        rows.subscribe(subscriber);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Flow.Publisher<@Nullable ResultSetMetadata> metadata() {
+        return new FuturePublisher<>(() -> cursor().thenApply(cur -> returnsRows(cur) ? cur.metadata() : null));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Flow.Publisher<Boolean> hasRowSet() {
+        return new FuturePublisher<>(() -> cursor().thenApply(ReactiveResultSetImpl::returnsRows));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Flow.Publisher<Long> affectedRows() {
+        return new FuturePublisher<>(() -> cursor().thenCompose(cur -> cur.queryType() != SqlQueryType.DML
+                ? CompletableFuture.completedFuture(-1L)
+                : result(cur).thenApply(res -> {
+                    assert res instanceof Long : "Invalid DML result: " + res;
+
+                    return (Long) res;
+                })));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Flow.Publisher<Boolean> wasApplied() {
+        return new FuturePublisher<>(() -> cursor().thenCompose(cur -> cur.queryType() != SqlQueryType.DDL
+                ? CompletableFuture.completedFuture(false)
+                : result(cur).thenApply(res -> {
+                    assert res instanceof Boolean : "Invalid DDL result: " + res;
+
+                    return (Boolean) res;
+                })));
+    }
+
+    /**
+     * Starts the query if it is not started yet.
+     *
+     * @return Query cursor future.
+     */
+    private CompletableFuture<AsyncSqlCursor<List<Object>>> cursor() {
+        CompletableFuture<AsyncSqlCursor<List<Object>>> fut = curFut;
+
+        if (fut == null) {
+            synchronized (this) {
+                fut = curFut;
+
+                if (fut == null) {
+                    curFut = fut = qry.get();
+                }
+            }
+        }
+
+        return fut;
+    }
+
+    /**
+     * Reads the single value the DML or DDL statement results in.
+     *
+     * @param cur Query cursor.
+     * @return Statement result future.
+     */
+    private CompletableFuture<Object> result(AsyncSqlCursor<List<Object>> cur) {
+        CompletableFuture<Object> fut = resFut;
+
+        if (fut == null) {
+            synchronized (this) {
+                fut = resFut;
+
+                if (fut == null) {
+                    resFut = fut = cur.requestNextAsync(1)
+                            .thenApply(page -> {
+                                assert page.items().size() == 1 && page.items().get(0).size() == 1 && !page.hasMore()
+                                        : "Invalid query result: [type=" + cur.queryType() + ", res=" + page.items() + ']';
+
+                                return page.items().get(0).get(0);
+                            })
+                            .whenComplete((res, e) -> close(cur))
+                            .toCompletableFuture();
+                }
+            }
+        }
+
+        return fut;
+    }
+
+    /**
+     * Closes the cursor.
+     *
+     * @param cur Query cursor.
+     * @return Future that will be completed when the cursor is closed.
+     */
+    private CompletableFuture<Void> close(AsyncSqlCursor<List<Object>> cur) {
+        return cur.closeAsync().whenComplete((v, e) -> closeRun.accept(cur));
+    }
+
+    private static boolean returnsRows(AsyncSqlCursor<List<Object>> cur) {
+        return cur.queryType() == SqlQueryType.QUERY || cur.queryType() == SqlQueryType.EXPLAIN;
+    }
+
+    /**
+     * Source of the result rows.
+     */
+    private class RowSource implements PagedPublisher.PageSource<SqlRow> {
+        /** Whether the cursor has more rows. */
+        private volatile boolean hasMore = true;
+
+        /** {@inheritDoc} */
+        @Override
+        public CompletionStage<? extends Iterable<SqlRow>> nextPage(int maxItems) {
+            return cursor().thenCompose(cur -> {
+                if (!returnsRows(cur)) {
+                    hasMore = false;
+
+                    // The statement is executed when its result is requested.
+                    return result(cur).thenApply(res -> List.<SqlRow>of());
+                }
+
+                ResultSetMetadata meta = cur.metadata();
+
+                return cur.requestNextAsync(Math.min(maxItems, pageSize))
+                        .thenApply(page -> {
+                            hasMore = page.hasMore();
+
+                            return (Iterable<SqlRow>) () -> new TransformingIterator<>(
+                                    page.items().iterator(),
+                                    item -> new SqlRowImpl(item, meta)
+                            );
+                        });
+            });
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasMorePages() {
+            return hasMore;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CompletionStage<Void> closeAsync() {
+            CompletableFuture<AsyncSqlCursor<List<Object>>> fut = curFut;
+
+            if (fut == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            return fut.thenCompose(cur -> returnsRows(cur) ? close(cur) : CompletableFuture.completedFuture(null));
+        }
+    }
+}
@@ -147,59 +147,31 @@ public class SessionImpl implements Session {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<AsyncResultSet> executeAsync(@Nullable Transaction transaction, String query, @Nullable Object... arguments) {
-        if (!busyLock.enterBusy()) {
-            return CompletableFuture.failedFuture(new IgniteSqlException("Session is closed."));
-        }
-
-        try {
-            QueryContext ctx = QueryContext.of(transaction, new QueryTimeout(timeout, TimeUnit.NANOSECONDS));
-
-            final CompletableFuture<AsyncSqlCursor<List<Object>>> f = qryProc.querySingleAsync(ctx, schema, query, arguments);
-
-            futsToClose.add(f);
-
-            return f.whenComplete(
-                    (cur, ex0) -> futsToClose.remove(f))
-                    .thenCompose(cur -> {
-                        if (!busyLock.enterBusy()) {
-                            return cur.closeAsync()
-                                    .thenCompose((v) -> CompletableFuture.failedFuture(new IgniteSqlException("Session is closed")));
-                        }
-
-                        try {
-                            cursToClose.add(cur);
-
-                            return cur.requestNextAsync(pageSize)
-                                    .<AsyncResultSet>thenApply(
-                                            batchRes -> new AsyncResultSetImpl(
-                                                    cur,
-                                                    batchRes,
-                                                    pageSize,
-                                                    () -> cursToClose.remove(cur)
-                                            )
-                                    )
-                                    .whenComplete((ars, ex1) -> {
-                                        if (ex1 != null) {
-                                            cursToClose.remove(cur);
-
-                                            cur.closeAsync();
-                                        }
-                                    });
-                        } catch (Throwable e) {
-                            cursToClose.remove(cur);
-
-                            return cur.closeAsync()
-                                    .thenCompose((v) -> CompletableFuture.failedFuture(e));
-                        } finally {
-                            busyLock.leaveBusy();
-                        }
-                    }
-            );
-        } catch (Exception e) {
-            return CompletableFuture.failedFuture(e);
-        } finally {
-            busyLock.leaveBusy();
-        }
+        return queryAsync(transaction, query, arguments).thenCompose(cur -> {
+            try {
+                return cur.requestNextAsync(pageSize)
+                        .<AsyncResultSet>thenApply(
+                                batchRes -> new AsyncResultSetImpl(
+                                        cur,
+                                        batchRes,
+                                        pageSize,
+                                        () -> cursToClose.remove(cur)
+                                )
+                        )
+                        .whenComplete((ars, ex1) -> {
+                            if (ex1 != null) {
+                                cursToClose.remove(cur);
+
+                                cur.closeAsync();
+                            }
+                        });
+            } catch (Throwable e) {
+                cursToClose.remove(cur);
+
+                return cur.closeAsync()
+                        .thenCompose((v) -> CompletableFuture.failedFuture(e));
+            }
+        });
     }
 
     /** {@inheritDoc} */
@@ -234,13 +206,14 @@ public class SessionImpl implements Session {
     /** {@inheritDoc} */
     @Override
     public ReactiveResultSet executeReactive(@Nullable Transaction transaction, String query, @Nullable Object... arguments) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        return new ReactiveResultSetImpl(() -> queryAsync(transaction, query, arguments), pageSize, cursToClose::remove);
     }
 
     /** {@inheritDoc} */
     @Override
     public ReactiveResultSet executeReactive(@Nullable Transaction transaction, Statement statement, @Nullable Object... arguments) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        // TODO: IGNITE-16967 use all statement properties.
+        return executeReactive(transaction, statement.query(), arguments);
     }
 
     /** {@inheritDoc} */
@@ -284,6 +257,54 @@ public class SessionImpl implements Session {
         throw new UnsupportedOperationException("Not implemented yet.");
     }
 
+    /**
+     * Starts the query and registers its cursor to be closed with the session.
+     *
+     * @param transaction Transaction.
+     * @param query Query.
+     * @param arguments Query arguments.
+     * @return Query cursor future.
+     */
+    private CompletableFuture<AsyncSqlCursor<List<Object>>> queryAsync(
+            @Nullable Transaction transaction,
+            String query,
+            @Nullable Object... arguments
+    ) {
+        if (!busyLock.enterBusy()) {
+            return CompletableFuture.failedFuture(new IgniteSqlException("Session is closed."));
+        }
+
+        try {
+            QueryContext ctx = QueryContext.of(transaction, new QueryTimeout(timeout, TimeUnit.NANOSECONDS));
+
+            final CompletableFuture<AsyncSqlCursor<List<Object>>> f = qryProc.querySingleAsync(ctx, schema, query, arguments);
+
+            futsToClose.add(f);
+
+            return f.whenComplete(
+                    (cur, ex0) -> futsToClose.remove(f))
+                    .thenCompose(cur -> {
+                        if (!busyLock.enterBusy()) {
+                            return cur.closeAsync()
+                                    .thenCompose((v) -> CompletableFuture.failedFuture(new IgniteSqlException("Session is closed")));
+                        }
+
+                        try {
+                            cursToClose.add(cur);
+
+                            return CompletableFuture.completedFuture(cur);
+                        } finally {
+                            busyLock.leaveBusy();
+                        }
+                    }
+            );
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
     /**
      * Awaits completion of the given stage and returns its result.
      *
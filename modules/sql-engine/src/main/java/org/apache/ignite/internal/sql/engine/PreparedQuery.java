@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine;
+
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.sql.ResultSetMetadata;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Single statement query prepared with {@link QueryProcessor#prepareSingleAsync}.
+ */
+public class PreparedQuery {
+    /** Schema name. */
+    private final String schemaName;
+
+    /** Query. */
+    private final String query;
+
+    /** Query type. */
+    private final SqlQueryType queryType;
+
+    /** Result set metadata. */
+    private final @Nullable ResultSetMetadata metadata;
+
+    /**
+     * Constructor.
+     *
+     * @param schemaName Schema name.
+     * @param query Query.
+     * @param queryType Query type.
+     * @param metadata Result set metadata.
+     */
+    public PreparedQuery(String schemaName, String query, SqlQueryType queryType, @Nullable ResultSetMetadata metadata) {
+        this.schemaName = schemaName;
+        this.query = query;
+        this.queryType = queryType;
+        this.metadata = metadata;
+    }
+
+    /**
+     * Returns schema name.
+     *
+     * @return Schema name.
+     */
+    public String schemaName() {
+        return schemaName;
+    }
+
+    /**
+     * Returns query.
+     *
+     * @return Query.
+     */
+    public String query() {
+        return query;
+    }
+
+    /**
+     * Returns query type.
+     *
+     * @return Query type.
+     */
+    public SqlQueryType queryType() {
+        return queryType;
+    }
+
+    /**
+     * Returns result set metadata.
+     *
+     * @return Result set metadata, or {@code null} if the query doesn't return rows.
+     */
+    public @Nullable ResultSetMetadata metadata() {
+        return metadata;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(PreparedQuery.class, this);
+    }
+}
@@ -65,4 +65,19 @@ public interface QueryProcessor extends IgniteComponent {
      * @throws IgniteException in case of an error.
      */
     CompletableFuture<AsyncSqlCursor<List<Object>>> querySingleAsync(QueryContext context, String schemaName, String qry, Object... params);
+
+    /**
+     * Prepares the single statement query with given schema name.
+     *
+     * <p>The plan of the query is put to the plan cache shared by all sessions, so the query executed later with
+     * {@link #querySingleAsync(QueryContext, String, String, Object...)} is neither parsed nor planned again, unless the plan is evicted.
+     *
+     * @param context User query context.
+     * @param schemaName Schema name.
+     * @param qry Single statement SQL query.
+     * @return Prepared query.
+     *
+     * @throws IgniteException in case of an error.
+     */
+    CompletableFuture<PreparedQuery> prepareSingleAsync(QueryContext context, String schemaName, String qry);
 }
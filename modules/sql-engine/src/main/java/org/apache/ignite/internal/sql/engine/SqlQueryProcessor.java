@@ -37,7 +37,6 @@ import org.apache.calcite.sql.SqlNodeList;
 import org.apache.calcite.tools.Frameworks;
 import org.apache.calcite.util.Pair;
 import org.apache.ignite.internal.manager.EventListener;
-import org.apache.ignite.internal.sql.api.IgniteSqlException;
 import org.apache.ignite.internal.sql.engine.exec.ArrayRowHandler;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeServiceImpl;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionService;
@@ -47,7 +46,7 @@ import org.apache.ignite.internal.sql.engine.exec.MailboxRegistryImpl;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
-import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
+import org.apache.ignite.internal.sql.engine.prepare.PlanCacheMetrics;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManagerImpl;
@@ -98,7 +97,7 @@ public class SqlQueryProcessor implements QueryProcessor {
 
     private volatile ExecutionService executionSrvc;
 
-    private volatile PrepareService prepareSvc;
+    private volatile PrepareServiceImpl prepareSvc;
 
     private volatile SqlSchemaManager schemaManager;
 
@@ -245,41 +244,78 @@ public class SqlQueryProcessor implements QueryProcessor {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PreparedQuery> prepareSingleAsync(QueryContext context, String schemaName, String qry) {
+        if (!busyLock.enterBusy()) {
+            throw new IgniteInternalException(new NodeStoppingException());
+        }
+
+        try {
+            return prepareSingle0(context, schemaName, qry);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    /**
+     * Returns the metrics of the query plan cache.
+     *
+     * @return Plan cache metrics.
+     */
+    public PlanCacheMetrics planCacheMetrics() {
+        return prepareSvc.cacheMetrics();
+    }
+
+    private CompletableFuture<PreparedQuery> prepareSingle0(
+            QueryContext context,
+            String schemaName,
+            String sql
+    ) {
+        long schemaVer = prepareSvc.schemaVersion();
+
+        SchemaPlus schema = schemaManager.schema(schemaName);
+
+        if (schema == null) {
+            return CompletableFuture.failedFuture(new IgniteInternalException(format("Schema not found [schemaName={}]", schemaName)));
+        }
+
+        BaseQueryContext ctx = createContext(schema, schemaVer);
+
+        return CompletableFuture.supplyAsync(() -> prepareSvc.prepareAsync(sql, ctx), taskExecutor)
+                .thenCompose(Function.identity())
+                .thenApply(plan -> {
+                    context.maybeUnwrap(QueryValidator.class)
+                            .ifPresent(queryValidator -> queryValidator.validatePlan(plan));
+
+                    return new PreparedQuery(
+                            schemaName,
+                            sql,
+                            SqlQueryType.mapPlanTypeToSqlType(plan.type()),
+                            plan.metadata()
+                    );
+                });
+    }
+
     private CompletableFuture<AsyncSqlCursor<List<Object>>> querySingle0(
             QueryContext context,
             String schemaName,
             String sql,
             Object... params) {
+        long schemaVer = prepareSvc.schemaVersion();
+
         SchemaPlus schema = schemaManager.schema(schemaName);
 
         if (schema == null) {
             return CompletableFuture.failedFuture(new IgniteInternalException(format("Schema not found [schemaName={}]", schemaName)));
         }
 
-        final BaseQueryContext ctx = BaseQueryContext.builder()
-                .cancel(new QueryCancel())
-                .frameworkConfig(
-                        Frameworks.newConfigBuilder(FRAMEWORK_CONFIG)
-                                .defaultSchema(schema)
-                                .build()
-                )
-                .logger(LOG)
-                .parameters(params)
-                .build();
+        final BaseQueryContext ctx = createContext(schema, schemaVer, params);
 
         CompletableFuture<Void> start = new CompletableFuture<>();
 
-        CompletableFuture<AsyncSqlCursor<List<Object>>> stage = start.thenApply(
-                        (v) -> Commons.parse(sql, FRAMEWORK_CONFIG.getParserConfig())
-                )
-                .thenApply(nodes -> {
-                    if (nodes.size() > 1) {
-                        throw new IgniteSqlException("Multiple statements aren't allowed.");
-                    }
-
-                    return nodes.get(0);
-                })
-                .thenCompose(sqlNode -> prepareSvc.prepareAsync(sqlNode, ctx))
+        CompletableFuture<AsyncSqlCursor<List<Object>>> stage = start
+                .thenCompose(v -> prepareSvc.prepareAsync(sql, ctx))
                 .thenApply(plan -> {
                     context.maybeUnwrap(QueryValidator.class)
                             .ifPresent(queryValidator -> queryValidator.validatePlan(plan));
@@ -308,6 +344,8 @@ public class SqlQueryProcessor implements QueryProcessor {
             String sql,
             Object... params
     ) {
+        long schemaVer = prepareSvc.schemaVersion();
+
         SchemaPlus schema = schemaManager.schema(schemaName);
 
         if (schema == null) {
@@ -321,16 +359,7 @@ public class SqlQueryProcessor implements QueryProcessor {
         CompletableFuture<Void> start = new CompletableFuture<>();
 
         for (SqlNode sqlNode : nodes) {
-            final BaseQueryContext ctx = BaseQueryContext.builder()
-                    .cancel(new QueryCancel())
-                    .frameworkConfig(
-                            Frameworks.newConfigBuilder(FRAMEWORK_CONFIG)
-                                    .defaultSchema(schema)
-                                    .build()
-                    )
-                    .logger(LOG)
-                    .parameters(params)
-                    .build();
+            final BaseQueryContext ctx = createContext(schema, schemaVer, params);
 
             CompletableFuture<AsyncSqlCursor<List<Object>>> stage = start.thenCompose(none -> prepareSvc.prepareAsync(sqlNode, ctx))
                     .thenApply(plan -> {
@@ -358,6 +387,24 @@ public class SqlQueryProcessor implements QueryProcessor {
         return res;
     }
 
+    /**
+     * Creates a query context. The schema version must be taken before the schema: a schema update in between then only makes the
+     * cached plan unreachable, while the reverse order could cache a plan of the old schema under the new version.
+     */
+    private static BaseQueryContext createContext(SchemaPlus schema, long schemaVer, Object... params) {
+        return BaseQueryContext.builder()
+                .cancel(new QueryCancel())
+                .frameworkConfig(
+                        Frameworks.newConfigBuilder(FRAMEWORK_CONFIG)
+                                .defaultSchema(schema)
+                                .build()
+                )
+                .logger(LOG)
+                .parameters(params)
+                .schemaVersion(schemaVer)
+                .build();
+    }
+
     private abstract static class AbstractTableEventListener implements EventListener<TableEventParameters> {
         protected final SqlSchemaManagerImpl schemaHolder;
 
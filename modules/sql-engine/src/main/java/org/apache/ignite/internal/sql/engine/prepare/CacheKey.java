@@ -28,6 +28,8 @@ public class CacheKey {
 
     private final String query;
 
+    private final long schemaVer;
+
     private final Object contextKey;
 
     /**
@@ -35,12 +37,14 @@ public class CacheKey {
      *
      * @param schemaName Schema name.
      * @param query      Query string.
+     * @param schemaVer  Version of the schema the plan is built for.
      * @param contextKey Optional context key to differ queries with and without/different flags, having an impact on result plan (like
      *                   LOCAL flag)
      */
-    public CacheKey(String schemaName, String query, Object contextKey) {
+    public CacheKey(String schemaName, String query, long schemaVer, Object contextKey) {
         this.schemaName = schemaName;
         this.query = query;
+        this.schemaVer = schemaVer;
         this.contextKey = contextKey;
     }
 
@@ -49,9 +53,19 @@ public class CacheKey {
      *
      * @param schemaName Schema name.
      * @param query      Query string.
+     * @param schemaVer  Version of the schema the plan is built for.
+     */
+    public CacheKey(String schemaName, String query, long schemaVer) {
+        this(schemaName, query, schemaVer, null);
+    }
+
+    /**
+     * Returns version of the schema the plan is built for.
+     *
+     * @return Schema version.
      */
-    public CacheKey(String schemaName, String query) {
-        this(schemaName, query, null);
+    public long schemaVersion() {
+        return schemaVer;
     }
 
     /** {@inheritDoc} */
@@ -66,6 +80,9 @@ public class CacheKey {
 
         CacheKey cacheKey = (CacheKey) o;
 
+        if (schemaVer != cacheKey.schemaVer) {
+            return false;
+        }
         if (!schemaName.equals(cacheKey.schemaName)) {
             return false;
         }
@@ -80,6 +97,7 @@ public class CacheKey {
     public int hashCode() {
         int result = schemaName.hashCode();
         result = 31 * result + query.hashCode();
+        result = 31 * result + Long.hashCode(schemaVer);
         result = 31 * result + (contextKey != null ? contextKey.hashCode() : 0);
         return result;
     }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Snapshot of the query plan cache metrics.
+ */
+public class PlanCacheMetrics {
+    /** Number of queries served with a cached plan. */
+    private final long hits;
+
+    /** Number of queries planned from scratch. */
+    private final long misses;
+
+    /** Number of cached plans. */
+    private final long size;
+
+    /**
+     * Constructor.
+     *
+     * @param hits Number of queries served with a cached plan.
+     * @param misses Number of queries planned from scratch.
+     * @param size Number of cached plans.
+     */
+    public PlanCacheMetrics(long hits, long misses, long size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of queries served with a cached plan.
+     *
+     * @return Number of cache hits.
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of queries planned from scratch.
+     *
+     * @return Number of cache misses.
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of cached plans.
+     *
+     * @return Cache size.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the ratio of the queries served with a cached plan.
+     *
+     * @return Hit rate from {@code 0} to {@code 1}, or {@code 0} if no query is planned yet.
+     */
+    public double hitRate() {
+        long total = hits + misses;
+
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(PlanCacheMetrics.class, this, "hitRate", hitRate());
+    }
+}
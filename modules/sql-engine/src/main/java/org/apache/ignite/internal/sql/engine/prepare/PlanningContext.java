@@ -120,6 +120,13 @@ public final class PlanningContext implements Context {
         return config().getDefaultSchema();
     }
 
+    /**
+     * Get schema version.
+     */
+    public long schemaVersion() {
+        return unwrap(BaseQueryContext.class).schemaVersion();
+    }
+
     /**
      * Get type factory.
      */
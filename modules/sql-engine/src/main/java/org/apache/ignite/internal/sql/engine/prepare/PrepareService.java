@@ -30,4 +30,14 @@ public interface PrepareService extends LifecycleAware {
      * Prepare query plan.
      */
     CompletableFuture<QueryPlan> prepareAsync(SqlNode sqlNode, BaseQueryContext ctx);
+
+    /**
+     * Prepare query plan of a single statement query. The plan is looked up by the query text first, so a cached query is not
+     * parsed again.
+     *
+     * @param sql Single statement SQL query.
+     * @param ctx Query context.
+     * @return Query plan future.
+     */
+    CompletableFuture<QueryPlan> prepareAsync(String sql, BaseQueryContext ctx);
 }
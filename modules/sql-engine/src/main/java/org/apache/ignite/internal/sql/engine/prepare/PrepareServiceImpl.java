@@ -28,6 +28,8 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
@@ -39,11 +41,13 @@ import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.SqlNodeList;
 import org.apache.ignite.internal.sql.api.ColumnMetadataImpl;
+import org.apache.ignite.internal.sql.api.IgniteSqlException;
 import org.apache.ignite.internal.sql.api.ResultSetMetadataImpl;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DdlSqlToCommandConverter;
 import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
 import org.apache.ignite.internal.sql.engine.schema.SchemaUpdateListener;
 import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
 import org.apache.ignite.internal.storage.DataStorageManager;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
@@ -54,6 +58,10 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * An implementation of the {@link PrepareService} that uses a Calcite-based query planner to validate and optimize a given query.
+ *
+ * <p>Plans of queries and DML statements are cached and shared by all sessions. A plan is cached by the normalized statement and,
+ * when the query text is prepared, by the text itself, so a repeated query is neither parsed nor planned again. The cache is bounded
+ * by size, and the keys include the schema version: a schema change evicts the plans built for the previous versions.
  */
 public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener {
     private static final long THREAD_TIMEOUT_MS = 60_000;
@@ -68,6 +76,15 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
 
     private volatile ThreadPoolExecutor planningPool;
 
+    /** Schema version, incremented on every schema change. */
+    private volatile long schemaVer;
+
+    /** Number of queries served with a cached plan. */
+    private final LongAdder cacheHits = new LongAdder();
+
+    /** Number of queries planned from scratch. */
+    private final LongAdder cacheMisses = new LongAdder();
+
     /**
      * Factory method.
      *
@@ -174,10 +191,74 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<QueryPlan> prepareAsync(String sql, BaseQueryContext ctx) {
+        CacheKey key = new CacheKey(ctx.schemaName(), sql, ctx.schemaVersion());
+
+        CompletableFuture<QueryPlan> planFut = cache.get(key);
+
+        if (planFut != null) {
+            cacheHits.increment();
+
+            return planFut.thenApply(QueryPlan::copy);
+        }
+
+        SqlNodeList nodes = Commons.parse(sql, ctx.config().getParserConfig());
+
+        if (nodes.size() > 1) {
+            throw new IgniteSqlException("Multiple statements aren't allowed.");
+        }
+
+        SqlNode sqlNode = nodes.get(0);
+
+        if (!cacheable(sqlNode)) {
+            return prepareAsync(sqlNode, ctx);
+        }
+
+        CompletableFuture<QueryPlan> newPlanFut = prepareAsync(sqlNode, ctx);
+
+        planFut = cache.putIfAbsent(key, newPlanFut);
+
+        if (planFut == null) {
+            planFut = newPlanFut;
+
+            // Don't keep the failed plan: the text may become valid after a schema change.
+            planFut.whenComplete((plan, e) -> {
+                if (e != null) {
+                    cache.remove(key, newPlanFut);
+                }
+            });
+        }
+
+        return planFut.thenApply(QueryPlan::copy);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void onSchemaUpdated() {
-        cache.clear();
+        long ver = ++schemaVer;
+
+        cache.keySet().removeIf(key -> key.schemaVersion() < ver);
+    }
+
+    /**
+     * Returns the current schema version. The plans are cached by the version of the query context, which must be taken before
+     * the schema of the context: a plan built against an older schema is then never cached under a newer version.
+     *
+     * @return Schema version.
+     */
+    public long schemaVersion() {
+        return schemaVer;
+    }
+
+    /**
+     * Returns the plan cache metrics.
+     *
+     * @return Plan cache metrics.
+     */
+    public PlanCacheMetrics cacheMetrics() {
+        return new PlanCacheMetrics(cacheHits.sum(), cacheMisses.sum(), cache.size());
     }
 
     private CompletableFuture<QueryPlan> prepareDdl(SqlNode sqlNode, PlanningContext ctx) {
@@ -208,10 +289,44 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
         return !(sqlNode instanceof SqlNodeList);
     }
 
-    private CompletableFuture<QueryPlan> prepareQuery(SqlNode sqlNode, PlanningContext ctx) {
-        var key = new CacheKey(ctx.schemaName(), sqlNode.toString());
+    private boolean cacheable(SqlNode sqlNode) {
+        switch (sqlNode.getKind()) {
+            case SELECT:
+            case ORDER_BY:
+            case WITH:
+            case VALUES:
+            case UNION:
+            case EXCEPT:
+            case INTERSECT:
+            case INSERT:
+            case DELETE:
+            case UPDATE:
+            case MERGE:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    private CompletableFuture<QueryPlan> cachedPlan(SqlNode sqlNode, PlanningContext ctx, Supplier<QueryPlan> planner) {
+        var key = new CacheKey(ctx.schemaName(), sqlNode.toString(), ctx.schemaVersion());
 
-        var planFut = cache.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(() -> {
+        var planFut = cache.get(key);
+
+        if (planFut != null) {
+            cacheHits.increment();
+        } else {
+            cacheMisses.increment();
+
+            planFut = cache.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(planner, planningPool));
+        }
+
+        return planFut.thenApply(QueryPlan::copy);
+    }
+
+    private CompletableFuture<QueryPlan> prepareQuery(SqlNode sqlNode, PlanningContext ctx) {
+        return cachedPlan(sqlNode, ctx, () -> {
             IgnitePlanner planner = ctx.planner();
 
             // Validate
@@ -227,15 +342,11 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
             QueryTemplate template = new QueryTemplate(fragments);
 
             return new MultiStepQueryPlan(template, resultSetMetadata(ctx, validated.dataType(), validated.origins()));
-        }, planningPool));
-
-        return planFut.thenApply(QueryPlan::copy);
+        });
     }
 
     private CompletableFuture<QueryPlan> prepareDml(SqlNode sqlNode, PlanningContext ctx) {
-        var key = new CacheKey(ctx.schemaName(), sqlNode.toString());
-
-        var planFut = cache.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(() -> {
+        return cachedPlan(sqlNode, ctx, () -> {
             IgnitePlanner planner = ctx.planner();
 
             // Validate
@@ -250,9 +361,7 @@ public class PrepareServiceImpl implements PrepareService, SchemaUpdateListener
             QueryTemplate template = new QueryTemplate(fragments);
 
             return new MultiStepDmlPlan(template);
-        }, planningPool));
-
-        return planFut.thenApply(QueryPlan::copy);
+        });
     }
 
     private ResultSetMetadata resultSetMetadata(PlanningContext ctx, RelDataType sqlType,
@@ -158,6 +158,8 @@ public final class BaseQueryContext extends AbstractQueryContext {
 
     private final Object[] parameters;
 
+    private final long schemaVersion;
+
     private CalciteCatalogReader catalogReader;
 
     /**
@@ -168,6 +170,7 @@ public final class BaseQueryContext extends AbstractQueryContext {
             FrameworkConfig cfg,
             QueryCancel cancel,
             Object[] parameters,
+            long schemaVersion,
             IgniteLogger log
     ) {
         super(Contexts.chain(cfg.getContext()));
@@ -179,6 +182,7 @@ public final class BaseQueryContext extends AbstractQueryContext {
         this.log = log;
         this.cancel = cancel;
         this.parameters = parameters;
+        this.schemaVersion = schemaVersion;
 
         RelDataTypeSystem typeSys = CALCITE_CONNECTION_CONFIG.typeSystem(RelDataTypeSystem.class, cfg.getTypeSystem());
 
@@ -219,6 +223,13 @@ public final class BaseQueryContext extends AbstractQueryContext {
         return cfg.getDefaultSchema();
     }
 
+    /**
+     * Returns the version of the schema the query is planned with, the plans are cached by it.
+     */
+    public long schemaVersion() {
+        return schemaVersion;
+    }
+
     public IgniteTypeFactory typeFactory() {
         return typeFactory;
     }
@@ -279,6 +290,8 @@ public final class BaseQueryContext extends AbstractQueryContext {
 
         private Object[] parameters = ArrayUtils.OBJECT_EMPTY_ARRAY;
 
+        private long schemaVersion;
+
         public Builder frameworkConfig(FrameworkConfig frameworkCfg) {
             this.frameworkCfg = Objects.requireNonNull(frameworkCfg);
             return this;
@@ -304,8 +317,13 @@ public final class BaseQueryContext extends AbstractQueryContext {
             return this;
         }
 
+        public Builder schemaVersion(long schemaVersion) {
+            this.schemaVersion = schemaVersion;
+            return this;
+        }
+
         public BaseQueryContext build() {
-            return new BaseQueryContext(queryId, frameworkCfg, cancel, parameters, log);
+            return new BaseQueryContext(queryId, frameworkCfg, cancel, parameters, schemaVersion, log);
         }
     }
 }
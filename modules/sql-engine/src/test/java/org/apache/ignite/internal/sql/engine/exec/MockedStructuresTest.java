@@ -27,6 +27,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -61,8 +62,13 @@ import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaManager;
 import org.apache.ignite.internal.schema.SchemaUtils;
+import org.apache.ignite.internal.sql.api.IgniteSqlException;
 import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
+import org.apache.ignite.internal.sql.engine.PreparedQuery;
+import org.apache.ignite.internal.sql.engine.QueryContext;
 import org.apache.ignite.internal.sql.engine.SqlQueryProcessor;
+import org.apache.ignite.internal.sql.engine.SqlQueryType;
+import org.apache.ignite.internal.sql.engine.prepare.PlanCacheMetrics;
 import org.apache.ignite.internal.storage.DataStorageManager;
 import org.apache.ignite.internal.storage.DataStorageModules;
 import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapDataStorageModule;
@@ -312,6 +318,42 @@ public class MockedStructuresTest extends IgniteAbstractTest {
                 .equalsIgnoreCase("PUBLIC." + curMethodName)));
     }
 
+    /**
+     * Tests the plan cache shared by the prepared queries.
+     */
+    @Test
+    public void testPlanCache() {
+        String curMethodName = getCurrentMethodName();
+
+        awaitFirst(queryProc.queryAsync("PUBLIC", String.format("CREATE TABLE %s (c1 int PRIMARY KEY, c2 varchar(255))", curMethodName)));
+
+        String qry = String.format("SELECT c2 FROM %s WHERE c1 = ?", curMethodName);
+
+        PlanCacheMetrics initial = queryProc.planCacheMetrics();
+
+        PreparedQuery prepared = await(queryProc.prepareSingleAsync(QueryContext.of(), "PUBLIC", qry));
+
+        assertEquals(SqlQueryType.QUERY, prepared.queryType());
+        assertEquals(1, prepared.metadata().columns().size());
+
+        await(queryProc.prepareSingleAsync(QueryContext.of(), "PUBLIC", qry));
+
+        PlanCacheMetrics cached = queryProc.planCacheMetrics();
+
+        assertEquals(initial.misses() + 1, cached.misses());
+        assertEquals(initial.hits() + 1, cached.hits());
+
+        // The schema change evicts the plans built for the previous schema version.
+        awaitFirst(queryProc.queryAsync("PUBLIC", String.format("ALTER TABLE %s ADD COLUMN c3 varchar", curMethodName)));
+
+        await(queryProc.prepareSingleAsync(QueryContext.of(), "PUBLIC", qry));
+
+        assertEquals(cached.misses() + 1, queryProc.planCacheMetrics().misses());
+
+        assertThrows(IgniteSqlException.class,
+                () -> await(queryProc.prepareSingleAsync(QueryContext.of(), "PUBLIC", qry + "; " + qry)));
+    }
+
     /**
      * Tests create and drop table through public API.
      */
@@ -635,7 +677,7 @@ public class MockedStructuresTest extends IgniteAbstractTest {
             return completedFuture(raftGrpSrvcMock);
         });
 
-        when(rm.updateRaftGroup(any(), any(), any(), any(), any())).thenAnswer(mock -> {
+        when(rm.updateRaftGroup(any(), any(), any(), any(), any(), any())).thenAnswer(mock -> {
             RaftGroupService raftGrpSrvcMock = mock(RaftGroupService.class);
 
             when(raftGrpSrvcMock.leader()).thenReturn(new Peer(new NetworkAddress("localhost", 47500)));
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.storage;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
@@ -72,6 +73,17 @@ public interface PartitionStorage extends AutoCloseable {
      */
     void writeAll(List<? extends DataRow> rows) throws StorageException;
 
+    /**
+     * Loads a collection of {@link DataRow}s into the storage, e.g. on rebalance or on a snapshot restore. The result is the same as
+     * the one of {@link #writeAll(List)}, including that the last of the rows with the same key wins, but the storage may build its
+     * data structures from the whole collection at once if it is empty. The method must not be called concurrently with other
+     * modifications of the storage.
+     *
+     * @param rows Data rows in any order.
+     * @throws StorageException If failed to write the data or the storage is already stopped.
+     */
+    void bulkLoad(List<? extends DataRow> rows) throws StorageException;
+
     /**
      * Inserts a collection of {@link DataRow}s into the storage and returns a collection of rows that can't be inserted due to their keys
      * being already present in the storage.
@@ -142,6 +154,27 @@ public interface PartitionStorage extends AutoCloseable {
      */
     void restoreSnapshot(Path snapshotPath);
 
+    /**
+     * Creates cursor over the rows of a snapshot which was previously captured with a {@link #snapshot(Path)}. The rows are
+     * returned in the order expected by {@link #writeSnapshot(Path, Iterator)}, which allows to stream a snapshot to another
+     * node instead of copying its files.
+     *
+     * @param snapshotPath Path to the snapshot's directory.
+     * @return Cursor over the snapshot rows.
+     * @throws StorageException If failed to read the snapshot.
+     */
+    Cursor<DataRow> scanSnapshot(Path snapshotPath) throws StorageException;
+
+    /**
+     * Saves rows produced by a {@link #scanSnapshot(Path)} of a storage of the same partition into the specified directory, so
+     * that they can be restored with a {@link #restoreSnapshot(Path)}. The data of this storage is not modified.
+     *
+     * @param snapshotPath Existing directory to store a snapshot.
+     * @param rows Snapshot rows.
+     * @throws StorageException If failed to write the snapshot.
+     */
+    void writeSnapshot(Path snapshotPath, Iterator<? extends DataRow> rows) throws StorageException;
+
     /**
      * Removes all data from this storage and frees all associated resources.
      *
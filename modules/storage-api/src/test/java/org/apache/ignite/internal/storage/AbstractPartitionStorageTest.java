@@ -32,9 +32,11 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -490,6 +492,40 @@ public abstract class AbstractPartitionStorageTest {
         rows.forEach(this::checkHasSameEntry);
     }
 
+    /**
+     * Tests that {@link PartitionStorage#bulkLoad(List)} operation writes unsorted rows with repeated keys the same way as
+     * {@link PartitionStorage#writeAll(List)}, both into an empty and a non-empty storage.
+     */
+    @Test
+    public void testBulkLoad() throws Exception {
+        List<DataRow> rows = IntStream.range(0, 5_000)
+                .mapToObj(i -> dataRow(KEY + i, VALUE + i))
+                .collect(Collectors.toList());
+
+        Collections.shuffle(rows);
+
+        List<DataRow> load = new ArrayList<>(rows);
+
+        // The last of the rows with the same key wins.
+        load.add(0, dataRow(KEY + 0, "old"));
+        load.add(0, dataRow(KEY + 1, "old"));
+
+        storage.bulkLoad(load);
+
+        rows.forEach(this::checkHasSameEntry);
+
+        assertEquals(rows.size(), storage.rowsCount());
+        assertEquals(rows.size(), toList(storage.scan(row -> true)).size());
+
+        List<DataRow> more = List.of(dataRow(KEY + 2, "new"), dataRow("new-key", VALUE));
+
+        storage.bulkLoad(more);
+
+        more.forEach(this::checkHasSameEntry);
+
+        assertEquals(rows.size() + 1, storage.rowsCount());
+    }
+
     /**
      * Tests that {@link PartitionStorage#insertAll(List)} operation doesn't insert data rows which keys are already present in the storage.
      * This operation must also return the list of such data rows.
@@ -577,6 +613,42 @@ public abstract class AbstractPartitionStorageTest {
         rows.forEach(this::checkHasSameEntry);
     }
 
+    /**
+     * Tests that {@link PartitionStorage#rowsCount()} follows all kinds of updates.
+     */
+    @Test
+    public void testRowsCount() {
+        assertEquals(0, storage.rowsCount());
+
+        List<DataRow> rows = insertBulk(10);
+
+        assertEquals(10, storage.rowsCount());
+
+        // Replace.
+        storage.write(dataRow(KEY + "_0", "updated"));
+
+        assertEquals(10, storage.rowsCount());
+
+        storage.insertAll(List.of(dataRow(KEY + "_1", VALUE), dataRow("new-key", VALUE)));
+
+        assertEquals(11, storage.rowsCount());
+
+        storage.invoke(searchRow("invoke-key"), new SimpleWriteInvokeClosure(dataRow("invoke-key", VALUE)));
+        storage.invoke(searchRow(KEY + "_2"), new SimpleWriteInvokeClosure(dataRow(KEY + "_2", "updated")));
+
+        assertEquals(12, storage.rowsCount());
+
+        storage.invoke(searchRow("invoke-key"), new SimpleRemoveInvokeClosure());
+
+        assertEquals(11, storage.rowsCount());
+
+        storage.remove(searchRow("new-key"));
+        storage.removeAll(List.of(searchRow(KEY + "_3"), searchRow("absent-key")));
+        storage.removeAllExact(List.of(rows.get(4), dataRow(KEY + "_5", "mismatch")));
+
+        assertEquals(8, storage.rowsCount());
+    }
+
     /**
      * Tests that {@link PartitionStorage#snapshot(Path)} and {@link PartitionStorage#restoreSnapshot(Path)} operations work properly
      * in basic scenario of creating snapshot and restoring it on the clear db.
@@ -601,6 +673,38 @@ public abstract class AbstractPartitionStorageTest {
         rows.forEach(this::checkHasSameEntry);
     }
 
+    /**
+     * Tests that a snapshot read with {@link PartitionStorage#scanSnapshot(Path)} and saved with
+     * {@link PartitionStorage#writeSnapshot(Path, Iterator)} can be restored.
+     *
+     * @param workDir Directory to store snapshot files.
+     * @throws Exception If failed to take snapshot.
+     */
+    @Test
+    public void testSnapshotStream(@WorkDirectory Path workDir) throws Exception {
+        List<DataRow> rows = insertBulk(10);
+
+        Path snapshotDir = workDir.resolve("snapshot");
+        Path streamedDir = workDir.resolve("streamed");
+
+        Files.createDirectories(snapshotDir);
+        Files.createDirectories(streamedDir);
+
+        storage.snapshot(snapshotDir).get(1, TimeUnit.SECONDS);
+
+        storage.removeAll(rows);
+
+        try (Cursor<DataRow> cursor = storage.scanSnapshot(snapshotDir)) {
+            storage.writeSnapshot(streamedDir, cursor);
+        }
+
+        rows.forEach(row -> assertNull(storage.read(row)));
+
+        storage.restoreSnapshot(streamedDir);
+
+        rows.forEach(this::checkHasSameEntry);
+    }
+
     /**
      * Inserts and returns a given amount of data rows with {@link #KEY}_i as a key and {@link #VALUE}_i as a value where i is an index of
      * the data row.
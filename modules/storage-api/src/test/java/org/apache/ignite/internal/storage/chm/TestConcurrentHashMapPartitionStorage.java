@@ -32,6 +32,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -109,6 +110,12 @@ public class TestConcurrentHashMapPartitionStorage implements PartitionStorage {
         rows.forEach(this::write);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void bulkLoad(List<? extends DataRow> rows) throws StorageException {
+        writeAll(rows);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Collection<DataRow> insertAll(List<? extends DataRow> rows) throws StorageException {
@@ -213,22 +220,73 @@ public class TestConcurrentHashMapPartitionStorage implements PartitionStorage {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> snapshot(Path snapshotPath) {
-        return CompletableFuture.runAsync(() -> {
-            try (
-                    OutputStream out = Files.newOutputStream(snapshotPath.resolve(SNAPSHOT_FILE));
-                    ObjectOutputStream objOut = new ObjectOutputStream(out)
-            ) {
-                objOut.writeObject(map.keySet().stream().map(ByteArray::bytes).collect(toList()));
-                objOut.writeObject(new ArrayList<>(map.values()));
-            } catch (Exception e) {
-                throw new IgniteInternalException(e);
-            }
-        });
+        return CompletableFuture.runAsync(() -> writeSnapshot(
+                snapshotPath,
+                map.keySet().stream().map(ByteArray::bytes).collect(toList()),
+                new ArrayList<>(map.values())
+        ));
     }
 
     /** {@inheritDoc} */
     @Override
     public void restoreSnapshot(Path snapshotPath) {
+        Map<ByteArray, byte[]> snapshot = readSnapshot(snapshotPath);
+
+        map.clear();
+
+        map.putAll(snapshot);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Cursor<DataRow> scanSnapshot(Path snapshotPath) throws StorageException {
+        Iterator<DataRow> iter = readSnapshot(snapshotPath).entrySet().stream()
+                .<DataRow>map(e -> new SimpleDataRow(e.getKey().bytes(), e.getValue()))
+                .iterator();
+
+        return Cursor.fromIterator(iter);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeSnapshot(Path snapshotPath, Iterator<? extends DataRow> rows) throws StorageException {
+        List<byte[]> keys = new ArrayList<>();
+        List<byte[]> values = new ArrayList<>();
+
+        rows.forEachRemaining(row -> {
+            keys.add(row.keyBytes());
+            values.add(row.valueBytes());
+        });
+
+        writeSnapshot(snapshotPath, keys, values);
+    }
+
+    /**
+     * Writes the snapshot file.
+     *
+     * @param snapshotPath Snapshot directory.
+     * @param keys Keys.
+     * @param values Values.
+     */
+    private static void writeSnapshot(Path snapshotPath, List<byte[]> keys, List<byte[]> values) {
+        try (
+                OutputStream out = Files.newOutputStream(snapshotPath.resolve(SNAPSHOT_FILE));
+                ObjectOutputStream objOut = new ObjectOutputStream(out)
+        ) {
+            objOut.writeObject(keys);
+            objOut.writeObject(values);
+        } catch (Exception e) {
+            throw new IgniteInternalException(e);
+        }
+    }
+
+    /**
+     * Reads the snapshot file.
+     *
+     * @param snapshotPath Snapshot directory.
+     * @return Snapshot content.
+     */
+    private static Map<ByteArray, byte[]> readSnapshot(Path snapshotPath) {
         try (
                 InputStream in = Files.newInputStream(snapshotPath.resolve(SNAPSHOT_FILE));
                 ObjectInputStream objIn = new ObjectInputStream(in)
@@ -236,11 +294,13 @@ public class TestConcurrentHashMapPartitionStorage implements PartitionStorage {
             var keys = (List<byte[]>) objIn.readObject();
             var values = (List<byte[]>) objIn.readObject();
 
-            map.clear();
+            Map<ByteArray, byte[]> snapshot = new TreeMap<>();
 
             for (int i = 0; i < keys.size(); i++) {
-                map.put(new ByteArray(keys.get(i)), values.get(i));
+                snapshot.put(new ByteArray(keys.get(i)), values.get(i));
             }
+
+            return snapshot;
         } catch (Exception e) {
             throw new IgniteInternalException(e);
         }
@@ -25,6 +25,9 @@ import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.apache.ignite.configuration.notifications.ConfigurationNamedListListener;
 import org.apache.ignite.configuration.notifications.ConfigurationNotificationEvent;
@@ -45,6 +48,8 @@ import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryDataStorageView;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryStorageEngineConfiguration;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.IgniteLogger;
 import org.jetbrains.annotations.Nullable;
@@ -69,6 +74,12 @@ public class PageMemoryStorageEngine implements StorageEngine {
 
     private final Map<String, AbstractPageMemoryDataRegion> regions = new ConcurrentHashMap<>();
 
+    /** Thread pool for copying the pages of partition snapshots. */
+    private final ExecutorService snapshotExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new NamedThreadFactory("pagememory-snapshot-pool")
+    );
+
     @Nullable
     private volatile FilePageStoreManager filePageStoreManager;
 
@@ -113,7 +124,8 @@ public class PageMemoryStorageEngine implements StorageEngine {
                     igniteInstanceName,
                     storagePath,
                     fileIoFactory,
-                    pageSize
+                    pageSize,
+                    engineConfig.checkpoint().useDeltaFiles().value()
             );
 
             filePageStoreManager.start();
@@ -155,6 +167,8 @@ public class PageMemoryStorageEngine implements StorageEngine {
     /** {@inheritDoc} */
     @Override
     public void stop() throws StorageException {
+        IgniteUtils.shutdownAndAwaitTermination(snapshotExecutor, 10, TimeUnit.SECONDS);
+
         try {
             Stream<AutoCloseable> closeRegions = regions.values().stream().map(region -> region::stop);
 
@@ -181,7 +195,7 @@ public class PageMemoryStorageEngine implements StorageEngine {
         PageMemoryDataRegion dataRegion = regions.get(dataStorageView.dataRegion());
 
         if (dataRegion.persistent()) {
-            return new PersistentPageMemoryTableStorage(tableCfg, (PersistentPageMemoryDataRegion) dataRegion);
+            return new PersistentPageMemoryTableStorage(tableCfg, (PersistentPageMemoryDataRegion) dataRegion, snapshotExecutor);
         }
 
         return new VolatilePageMemoryTableStorage(tableCfg, (VolatilePageMemoryDataRegion) dataRegion);
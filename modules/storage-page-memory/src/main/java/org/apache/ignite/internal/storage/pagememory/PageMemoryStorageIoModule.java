@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.pagememory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import org.apache.ignite.internal.pagememory.io.IoVersions;
@@ -34,12 +35,17 @@ public class PageMemoryStorageIoModule implements PageIoModule {
     /** {@inheritDoc} */
     @Override
     public Collection<IoVersions<?>> ioVersions() {
-        return List.of(
+        List<IoVersions<?>> ioVersions = new ArrayList<>(List.of(
                 TableMetaIo.VERSIONS,
                 TableInnerIo.VERSIONS,
                 TableLeafIo.VERSIONS,
                 TableDataIo.VERSIONS,
                 PartitionMetaIo.VERSIONS
-        );
+        ));
+
+        ioVersions.addAll(TableInnerIo.inlineVersions());
+        ioVersions.addAll(TableLeafIo.inlineVersions());
+
+        return ioVersions;
     }
 }
@@ -29,6 +29,12 @@ class PartitionMeta {
     /** {@link TableFreeList} root. */
     final FullPageId reuseListRoot;
 
+    /** Number of rows as of the last checkpoint. */
+    final long rowCount;
+
+    /** Total size of the keys and values of the rows as of the last checkpoint. */
+    final long rowBytes;
+
     /** Have been allocated (created) or read. */
     final boolean allocated;
 
@@ -37,15 +43,21 @@ class PartitionMeta {
      *
      * @param reuseListRoot {@link TableFreeList} root.
      * @param treeRoot {@link TableTree} root.
+     * @param rowCount Number of rows as of the last checkpoint.
+     * @param rowBytes Total size of the keys and values of the rows as of the last checkpoint.
      * @param allocated Have been allocated (created) or read.
      */
     public PartitionMeta(
             FullPageId treeRoot,
             FullPageId reuseListRoot,
+            long rowCount,
+            long rowBytes,
             boolean allocated
     ) {
         this.treeRoot = treeRoot;
         this.reuseListRoot = reuseListRoot;
+        this.rowCount = rowCount;
+        this.rowBytes = rowBytes;
         this.allocated = allocated;
     }
 }
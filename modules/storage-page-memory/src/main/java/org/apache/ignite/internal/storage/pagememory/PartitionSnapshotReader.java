@@ -0,0 +1,476 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.itemId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
+import static org.apache.ignite.internal.storage.pagememory.PartitionSnapshotWriter.allocatePageBuffer;
+import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
+import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.pagememory.io.DataPagePayload;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusMetaIo;
+import org.apache.ignite.internal.storage.DataRow;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.basic.SimpleDataRow;
+import org.apache.ignite.internal.storage.pagememory.io.PartitionMetaIo;
+import org.apache.ignite.internal.storage.pagememory.io.RowIo;
+import org.apache.ignite.internal.storage.pagememory.io.TableDataIo;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cursor over the rows of a partition snapshot.
+ *
+ * <p>A snapshot taken by {@link PersistentPageMemoryPartitionStorage#snapshot} consists of a base file with the partition pages and
+ * delta files with the pages changed since the previous snapshot, applied in the order of their names. The rows are read by walking the
+ * leaves of the partition tree, the same way the tree cursor does, but on the pages of the snapshot files instead of the page memory.
+ *
+ * <p>A snapshot written by {@link #writeRows} consists of a single file with the rows, it is used to install the
+ * snapshots streamed from another node.
+ */
+class PartitionSnapshotReader implements Cursor<DataRow> {
+    /** Name of the base file of a partition snapshot. */
+    static final String BASE_FILE_NAME = "part.bin";
+
+    /** Name prefix of the delta files of a partition snapshot. */
+    static final String DELTA_FILE_PREFIX = "delta-";
+
+    /** Name template of the delta files of a partition snapshot. */
+    static final String DELTA_FILE_TEMPLATE = DELTA_FILE_PREFIX + "%08d.bin";
+
+    /** Name of the file with the rows of a streamed snapshot. */
+    static final String ROWS_FILE_NAME = "rows.bin";
+
+    private final PageIoRegistry ioRegistry;
+
+    private final List<FileChannel> channels = new ArrayList<>();
+
+    private final int partId;
+
+    private final int pageSize;
+
+    /** Number of pages in the base file. */
+    private final long basePages;
+
+    /** Positions of the pages changed by the delta files, the values are {@code {file number, position}}. */
+    private final Map<Integer, long[]> changedPages = new HashMap<>();
+
+    /** Buffer of the current leaf page. */
+    private final ByteBuffer leafBuf;
+
+    /** Buffer of the current data page. */
+    private final ByteBuffer dataBuf;
+
+    /** Index of the page in {@link #dataBuf}, {@code -1} if none. */
+    private int dataPageIdx = -1;
+
+    /** Index of the next row in the current leaf page. */
+    private int leafRowIdx;
+
+    /** Whether there is a current leaf page. */
+    private boolean hasLeaf;
+
+    /** Next row, {@code null} if it is not read yet. */
+    private @Nullable DataRow next;
+
+    /**
+     * Constructor.
+     *
+     * @param snapshotDir Snapshot directory.
+     * @param ioRegistry Page IO registry.
+     * @throws IOException If failed to read the snapshot files.
+     * @throws IgniteInternalCheckedException If failed to read the partition pages.
+     */
+    private PartitionSnapshotReader(Path snapshotDir, PageIoRegistry ioRegistry) throws IOException, IgniteInternalCheckedException {
+        this.ioRegistry = ioRegistry;
+
+        try {
+            ByteBuffer baseHeader = openSnapshotFile(snapshotDir.resolve(BASE_FILE_NAME), (byte) 0);
+
+            partId = baseHeader.getInt();
+            pageSize = baseHeader.getInt();
+            basePages = baseHeader.getLong();
+
+            List<Path> deltaFiles;
+
+            try (Stream<Path> files = Files.list(snapshotDir)) {
+                deltaFiles = files.filter(file -> file.getFileName().toString().startsWith(DELTA_FILE_PREFIX))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+
+            for (Path deltaFile : deltaFiles) {
+                indexDeltaFile(deltaFile);
+            }
+
+            leafBuf = allocatePageBuffer(pageSize);
+            dataBuf = allocatePageBuffer(pageSize);
+
+            ByteBuffer metaBuf = allocatePageBuffer(pageSize);
+
+            PartitionMetaIo partitionMetaIo = readPage(0, metaBuf);
+
+            long treeMetaPageId = partitionMetaIo.getTreeRootPageId(bufferAddress(metaBuf));
+
+            BplusMetaIo treeMetaIo = readPage(pageIndex(treeMetaPageId), metaBuf);
+
+            long firstLeafPageId = treeMetaIo.getFirstPageId(bufferAddress(metaBuf), 0);
+
+            readPage(pageIndex(firstLeafPageId), leafBuf);
+
+            hasLeaf = true;
+        } catch (IOException | IgniteInternalCheckedException | RuntimeException e) {
+            closeChannels();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a cursor over the rows of the snapshot.
+     *
+     * @param snapshotDir Snapshot directory.
+     * @param ioRegistry Page IO registry.
+     * @return Cursor over the rows.
+     * @throws StorageException If failed to open the snapshot.
+     */
+    static Cursor<DataRow> open(Path snapshotDir, PageIoRegistry ioRegistry) throws StorageException {
+        try {
+            Path rowsFile = snapshotDir.resolve(ROWS_FILE_NAME);
+
+            if (Files.exists(rowsFile)) {
+                return openRowsFile(rowsFile);
+            }
+
+            return new PartitionSnapshotReader(snapshotDir, ioRegistry);
+        } catch (IOException | IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to open partition snapshot: " + snapshotDir, e);
+        }
+    }
+
+    /**
+     * Writes the rows into the snapshot directory, so that they can be read with {@link #open}.
+     *
+     * @param snapshotDir Existing snapshot directory.
+     * @param rows Rows.
+     * @throws StorageException If failed to write the rows.
+     */
+    static void writeRows(Path snapshotDir, Iterator<? extends DataRow> rows) throws StorageException {
+        Path rowsFile = snapshotDir.resolve(ROWS_FILE_NAME);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(rowsFile)))) {
+            while (rows.hasNext()) {
+                DataRow row = rows.next();
+
+                byte[] key = row.keyBytes();
+                byte[] value = row.valueBytes();
+
+                out.writeInt(key.length);
+                out.write(key);
+                out.writeInt(value == null ? 0 : value.length);
+                out.write(value == null ? BYTE_EMPTY_ARRAY : value);
+            }
+
+            // End of the rows marker, distinguishes a complete file from a truncated one.
+            out.writeInt(-1);
+        } catch (IOException e) {
+            throw new StorageException("Failed to write partition snapshot: " + snapshotDir, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+
+        try {
+            next = advance();
+        } catch (IOException | IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to read partition snapshot: " + partId, e);
+        }
+
+        return next != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        DataRow row = next;
+
+        next = null;
+
+        return row;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws Exception {
+        closeChannels();
+    }
+
+    private @Nullable DataRow advance() throws IOException, IgniteInternalCheckedException {
+        while (hasLeaf) {
+            long leafAddr = bufferAddress(leafBuf);
+
+            BplusIo<?> leafIo = ioRegistry.resolve(leafAddr);
+
+            if (leafRowIdx < leafIo.getCount(leafAddr)) {
+                return readRow(((RowIo) leafIo).link(leafAddr, leafRowIdx++));
+            }
+
+            long fwdPageId = leafIo.getForward(leafAddr);
+
+            leafRowIdx = 0;
+            hasLeaf = fwdPageId != 0;
+
+            if (hasLeaf) {
+                readPage(pageIndex(fwdPageId), leafBuf);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads a row by its link, see {@link TableTree#getRowByLink}.
+     */
+    private DataRow readRow(long link) throws IOException, IgniteInternalCheckedException {
+        FragmentedByteArray keyBytes = new FragmentedByteArray();
+        FragmentedByteArray valueBytes = new FragmentedByteArray();
+
+        long nextLink = link;
+
+        do {
+            long pageId = pageId(nextLink);
+
+            if (partitionId(pageId) != partId) {
+                throw new IgniteInternalCheckedException("Row is stored out of the partition [partId=" + partId + ", link=" + link + ']');
+            }
+
+            if (dataPageIdx != pageIndex(pageId)) {
+                readPage(pageIndex(pageId), dataBuf);
+
+                dataPageIdx = pageIndex(pageId);
+            }
+
+            long pageAddr = bufferAddress(dataBuf);
+
+            TableDataIo dataIo = ioRegistry.resolve(pageAddr);
+
+            DataPagePayload data = dataIo.readPayload(pageAddr, itemId(nextLink), pageSize);
+
+            ByteBuffer payload = dataBuf.duplicate().order(dataBuf.order());
+
+            payload.limit(data.offset() + data.payloadSize());
+            payload.position(data.offset());
+
+            keyBytes.readData(payload);
+
+            if (keyBytes.ready()) {
+                valueBytes.readData(payload);
+            }
+
+            nextLink = keyBytes.ready() && valueBytes.ready() ? 0 : data.nextLink();
+        } while (nextLink != 0);
+
+        return new SimpleDataRow(keyBytes.array(), valueBytes.array() == null ? BYTE_EMPTY_ARRAY : valueBytes.array());
+    }
+
+    /**
+     * Reads the latest version of the page into the buffer and resolves its IO.
+     */
+    private <T extends PageIo> T readPage(int pageIdx, ByteBuffer buf) throws IOException, IgniteInternalCheckedException {
+        long[] changed = changedPages.get(pageIdx);
+
+        if (changed != null) {
+            readFully(channels.get((int) changed[0]), buf, changed[1]);
+        } else if (pageIdx < basePages) {
+            readFully(channels.get(0), buf, (long) (pageIdx + 1) * pageSize);
+        } else {
+            throw new IgniteInternalCheckedException("Page is missing in the snapshot [partId=" + partId + ", pageIdx=" + pageIdx + ']');
+        }
+
+        return ioRegistry.resolve(bufferAddress(buf));
+    }
+
+    private void indexDeltaFile(Path deltaFile) throws IOException, IgniteInternalCheckedException {
+        ByteBuffer header = openSnapshotFile(deltaFile, (byte) 1);
+
+        if (header.getInt() != partId || header.getInt() != pageSize) {
+            throw new IgniteInternalCheckedException("Delta file does not match the base file: " + deltaFile);
+        }
+
+        int fileNo = channels.size() - 1;
+        FileChannel channel = channels.get(fileNo);
+
+        ByteBuffer idxBuf = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        for (long pos = pageSize; pos + Long.BYTES + pageSize <= channel.size(); pos += Long.BYTES + pageSize) {
+            idxBuf.clear();
+
+            readFully(channel, idxBuf, pos);
+
+            changedPages.put((int) idxBuf.getLong(0), new long[] {fileNo, pos + Long.BYTES});
+        }
+    }
+
+    /**
+     * Opens a snapshot file and checks its header.
+     *
+     * @return Header buffer positioned after the file type.
+     */
+    private ByteBuffer openSnapshotFile(Path file, byte type) throws IOException, IgniteInternalCheckedException {
+        FileChannel channel = FileChannel.open(file, READ);
+
+        channels.add(channel);
+
+        ByteBuffer header = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + 1).order(ByteOrder.LITTLE_ENDIAN);
+
+        readFully(channel, header, 0);
+
+        header.flip();
+
+        if (header.getLong() != PartitionSnapshotWriter.MAGIC
+                || header.getInt() != PartitionSnapshotWriter.VERSION
+                || header.get() != type) {
+            throw new IgniteInternalCheckedException("Invalid partition snapshot file: " + file);
+        }
+
+        ByteBuffer rest = ByteBuffer.allocate(Integer.BYTES * 2 + Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        readFully(channel, rest, header.capacity());
+
+        return rest.flip();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buf, long pos) throws IOException {
+        buf.clear();
+
+        while (buf.hasRemaining()) {
+            int n = channel.read(buf, pos + buf.position());
+
+            if (n < 0) {
+                throw new IOException("Unexpected end of the snapshot file");
+            }
+        }
+    }
+
+    private void closeChannels() {
+        try {
+            IgniteUtils.closeAll(channels);
+        } catch (Exception ignored) {
+            // No-op.
+        }
+    }
+
+    private static Cursor<DataRow> openRowsFile(Path rowsFile) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(rowsFile)));
+
+        return new Cursor<>() {
+            /** Next row, {@code null} if it is not read yet. */
+            private @Nullable DataRow next;
+
+            /** Whether the end of the rows marker has been read. */
+            private boolean finished;
+
+            /** {@inheritDoc} */
+            @Override
+            public boolean hasNext() {
+                if (next != null) {
+                    return true;
+                }
+
+                if (finished) {
+                    return false;
+                }
+
+                try {
+                    int keyLen = in.readInt();
+
+                    if (keyLen < 0) {
+                        finished = true;
+
+                        return false;
+                    }
+
+                    byte[] key = in.readNBytes(keyLen);
+                    byte[] value = in.readNBytes(in.readInt());
+
+                    next = new SimpleDataRow(key, value);
+
+                    return true;
+                } catch (IOException e) {
+                    throw new StorageException("Failed to read partition snapshot: " + rowsFile, e);
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public DataRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                DataRow row = next;
+
+                next = null;
+
+                return row;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void close() throws Exception {
+                in.close();
+            }
+        };
+    }
+}
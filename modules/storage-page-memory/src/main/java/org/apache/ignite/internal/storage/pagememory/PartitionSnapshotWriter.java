@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.BitSet;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
+import org.apache.ignite.internal.pagememory.persistence.store.PageWriteListener;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Copy-on-write capture of the partition file pages at a checkpoint marker.
+ *
+ * <p>The writer is registered as a write listener of the partition file page store at the checkpoint marker, under the checkpoint write
+ * lock, so no write of the partition file is missed. Until the marker checkpoint has finished, the pages written to the file are the pages
+ * of the marker, and they are copied into the snapshot file as they are written. Then the file contains exactly the pages of the marker:
+ * before the page store overwrites a captured page that has not been copied yet, the previous version of the page is read from the file
+ * and copied into the snapshot file. The rest of the pages are copied by {@link #copyPages()}.
+ *
+ * <p>A base snapshot file consists of a header page followed by all partition pages in the order of their indexes. A delta snapshot file
+ * consists of a header page followed by the records of the changed pages, each record is a page index followed by the page.
+ */
+class PartitionSnapshotWriter implements PageWriteListener, AutoCloseable {
+    /** Magic number of the snapshot files. */
+    static final long MAGIC = 0x5350414E53484F54L;
+
+    /** Version of the snapshot files format. */
+    static final int VERSION = 1;
+
+    private final FilePageStore filePageStore;
+
+    private final int partId;
+
+    private final int pageSize;
+
+    /** Number of the captured pages. */
+    private final long pages;
+
+    /** Delta snapshot, only the changed pages are captured. */
+    private final boolean delta;
+
+    /** Indexes of the changed pages of a delta snapshot, known when the marker checkpoint has finished. */
+    private volatile @Nullable BitSet changedPages;
+
+    /** The marker checkpoint has finished, the next writes of the partition file overwrite the pages of the marker. */
+    private volatile boolean markerFinished;
+
+    private final FileChannel channel;
+
+    /** Indexes of the copied pages, guarded by {@code this}. */
+    private final BitSet copiedPages = new BitSet();
+
+    /** Buffer for the pages copied by the write listener, guarded by {@code this}. */
+    private final ByteBuffer listenerBuf;
+
+    /** Position of the next delta record, guarded by {@code this}. */
+    private long deltaPos;
+
+    /** Error of the write listener, guarded by {@code this}. */
+    private @Nullable Throwable listenerErr;
+
+    /**
+     * Constructor.
+     *
+     * @param filePageStore Partition file page store.
+     * @param partId Partition ID.
+     * @param pageSize Page size in bytes.
+     * @param pages Number of the partition pages at the checkpoint marker.
+     * @param delta {@code True} for a delta snapshot, {@code false} for a base snapshot.
+     * @param snapshotFile Snapshot file to create.
+     * @throws IOException If failed to create the snapshot file.
+     */
+    PartitionSnapshotWriter(
+            FilePageStore filePageStore,
+            int partId,
+            int pageSize,
+            long pages,
+            boolean delta,
+            Path snapshotFile
+    ) throws IOException {
+        this.filePageStore = filePageStore;
+        this.partId = partId;
+        this.pageSize = pageSize;
+        this.pages = pages;
+        this.delta = delta;
+
+        listenerBuf = allocatePageBuffer(pageSize);
+
+        channel = FileChannel.open(snapshotFile, CREATE_NEW, WRITE);
+
+        try {
+            ByteBuffer header = ByteBuffer.allocate(pageSize).order(ByteOrder.LITTLE_ENDIAN);
+
+            header.putLong(MAGIC)
+                    .putInt(VERSION)
+                    .put((byte) (delta ? 1 : 0))
+                    .putInt(partId)
+                    .putInt(pageSize)
+                    .putLong(pages)
+                    .rewind();
+
+            writeFully(header, 0);
+        } catch (IOException e) {
+            channel.close();
+
+            throw e;
+        }
+
+        deltaPos = pageSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void accept(long pageId, ByteBuffer buf) {
+        int pageIdx = pageIndex(pageId);
+
+        if (pageIdx >= pages || (markerFinished && !captured(pageIdx))) {
+            return;
+        }
+
+        synchronized (this) {
+            if (copiedPages.get(pageIdx) || listenerErr != null) {
+                return;
+            }
+
+            try {
+                if (!markerFinished) {
+                    // The marker checkpoint writes the page of the marker, a written page is changed, so it is captured by a delta too.
+                    writePage(pageIdx, buf);
+                } else {
+                    // The page is still unchanged in the file, the page store holds its read lock while notifying the listeners.
+                    listenerBuf.clear();
+
+                    filePageStore.read(pageId(partId, FLAG_DATA, pageIdx), listenerBuf, false);
+
+                    writePage(pageIdx, listenerBuf);
+                }
+            } catch (Throwable e) {
+                // The page must be written anyway, the snapshot is failed by the copying thread.
+                listenerErr = e;
+            }
+        }
+    }
+
+    /**
+     * Switches the write listener to copy-on-write, called when the marker checkpoint has finished.
+     *
+     * @param changedPages Indexes of the pages changed since the previous snapshot, including the pages written by the marker checkpoint,
+     *      {@code null} for a base snapshot.
+     */
+    synchronized void onMarkerFinished(@Nullable BitSet changedPages) {
+        assert delta == (changedPages != null);
+
+        this.changedPages = changedPages;
+
+        markerFinished = true;
+    }
+
+    /**
+     * Copies the captured pages that have not been copied by the write listener yet and syncs the snapshot file.
+     *
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    void copyPages() throws IgniteInternalCheckedException {
+        assert markerFinished;
+
+        ByteBuffer buf = allocatePageBuffer(pageSize);
+
+        try {
+            for (int pageIdx = nextCaptured(0); pageIdx >= 0 && pageIdx < pages; pageIdx = nextCaptured(pageIdx + 1)) {
+                synchronized (this) {
+                    if (copiedPages.get(pageIdx)) {
+                        continue;
+                    }
+                }
+
+                // The page is read without holding the monitor, so the listener never waits for the page store lock held by this thread.
+                // If the page is overwritten meanwhile, the listener copies the previous version first and this one is skipped.
+                buf.clear();
+
+                filePageStore.read(pageId(partId, FLAG_DATA, pageIdx), buf, false);
+
+                synchronized (this) {
+                    if (!copiedPages.get(pageIdx)) {
+                        writePage(pageIdx, buf);
+                    }
+                }
+            }
+
+            synchronized (this) {
+                if (listenerErr != null) {
+                    throw new IgniteInternalCheckedException("Failed to copy a page on write", listenerErr);
+                }
+            }
+
+            channel.force(true);
+        } catch (IOException e) {
+            throw new IgniteInternalCheckedException("Failed to write partition snapshot: " + partId, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean captured(int pageIdx) {
+        return pageIdx < pages && (!delta || changedPages.get(pageIdx));
+    }
+
+    private int nextCaptured(int fromIdx) {
+        return delta ? changedPages.nextSetBit(fromIdx) : fromIdx;
+    }
+
+    /**
+     * Writes the page into the snapshot file, guarded by {@code this}.
+     */
+    private void writePage(int pageIdx, ByteBuffer buf) throws IOException {
+        buf.rewind();
+
+        if (!delta) {
+            writeFully(buf, (long) (pageIdx + 1) * pageSize);
+        } else {
+            ByteBuffer idxBuf = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, pageIdx);
+
+            writeFully(idxBuf, deltaPos);
+            writeFully(buf, deltaPos + Long.BYTES);
+
+            deltaPos += Long.BYTES + pageSize;
+        }
+
+        copiedPages.set(pageIdx);
+    }
+
+    private void writeFully(ByteBuffer buf, long pos) throws IOException {
+        while (buf.hasRemaining()) {
+            pos += channel.write(buf, pos);
+        }
+    }
+
+    /**
+     * Allocates a buffer suitable for reading pages from a file page store.
+     *
+     * @param pageSize Page size in bytes.
+     */
+    static ByteBuffer allocatePageBuffer(int pageSize) {
+        return ByteBuffer.allocateDirect(pageSize).order(ByteOrder.nativeOrder());
+    }
+}
@@ -24,9 +24,11 @@ import java.util.Arrays;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.mem.MemoryAllocators;
 import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteThrottlePolicy;
 
 /**
  * Implementation of {@link AbstractPageMemoryDataRegion} for persistent case.
@@ -80,6 +82,12 @@ class PersistentPageMemoryDataRegion extends AbstractPageMemoryDataRegion {
                 pageSize
         );
 
+        PagesWriteThrottlePolicy writeThrottle = checkpointManager.createWriteThrottle(pageMemoryImpl);
+
+        if (writeThrottle != null) {
+            pageMemoryImpl.initThrottling(writeThrottle);
+        }
+
         pageMemoryImpl.start();
 
         pageMemory = pageMemoryImpl;
@@ -104,6 +112,7 @@ class PersistentPageMemoryDataRegion extends AbstractPageMemoryDataRegion {
      *
      * @param dataRegionConfigView Data region configuration.
      * @param concurrencyLevel Number of concurrent segments in Ignite internal page mapping tables, must be greater than 0.
+     *      Increased if the segments exceed the max chunk size of the memory allocator.
      */
     // TODO: IGNITE-16350 Add more and more detailed description
     static long[] calculateSegmentSizes(PageMemoryDataRegionView dataRegionConfigView, int concurrencyLevel) {
@@ -111,6 +120,13 @@ class PersistentPageMemoryDataRegion extends AbstractPageMemoryDataRegion {
 
         long maxSize = dataRegionConfigView.maxSize();
 
+        long maxChunkSize = MemoryAllocators.maxChunkSize(dataRegionConfigView.memoryAllocator());
+
+        // Every segment is allocated as a single chunk, so more segments are needed if the allocator limits the chunk size.
+        if (maxSize / concurrencyLevel > maxChunkSize) {
+            concurrencyLevel = (int) ((maxSize - 1) / maxChunkSize + 1);
+        }
+
         long fragmentSize = Math.max(maxSize / concurrencyLevel, MiB);
 
         long[] sizes = new long[concurrencyLevel];
@@ -129,14 +145,16 @@ class PersistentPageMemoryDataRegion extends AbstractPageMemoryDataRegion {
     static long calculateCheckpointBufferSize(PageMemoryDataRegionView dataRegionConfigView) {
         long maxSize = dataRegionConfigView.maxSize();
 
-        if (maxSize < GiB) {
-            return Math.min(GiB / 4L, maxSize);
-        }
+        long size;
 
-        if (maxSize < 8L * GiB) {
-            return maxSize / 4L;
+        if (maxSize < GiB) {
+            size = Math.min(GiB / 4L, maxSize);
+        } else if (maxSize < 8L * GiB) {
+            size = maxSize / 4L;
+        } else {
+            size = 2L * GiB;
         }
 
-        return 2L * GiB;
+        return Math.min(size, MemoryAllocators.maxChunkSize(dataRegionConfigView.memoryAllocator()));
     }
 }
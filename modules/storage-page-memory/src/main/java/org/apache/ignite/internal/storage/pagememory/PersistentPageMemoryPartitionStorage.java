@@ -17,150 +17,943 @@
 
 package org.apache.ignite.internal.storage.pagememory;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
+import static org.apache.ignite.internal.storage.pagememory.PartitionSnapshotReader.BASE_FILE_NAME;
+import static org.apache.ignite.internal.storage.pagememory.PartitionSnapshotReader.DELTA_FILE_TEMPLATE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.apache.ignite.configuration.schemas.table.TableView;
+import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointListener;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
+import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
+import org.apache.ignite.internal.pagememory.persistence.store.PageWriteListener;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.storage.DataRow;
 import org.apache.ignite.internal.storage.InvokeClosure;
 import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.SearchRow;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.StorageUtils;
+import org.apache.ignite.internal.storage.pagememory.io.PartitionMetaIo;
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.IgniteCursor;
+import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.lang.IgniteInternalException;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link PartitionStorage} based on a {@link BplusTree} for persistent case.
+ *
+ * <p>The row counters are written to the partition meta page at the beginning of every checkpoint, under the checkpoint write lock,
+ * so the persisted counters are consistent with the checkpointed pages and are restored after a restart without a tree scan.
+ *
+ * <p>A snapshot captures the partition file pages at the marker of a forced checkpoint. A listener of the partition file page store is
+ * registered at the marker, it copies the pages written by the marker checkpoint, and when the checkpoint ends, the rest of the pages are
+ * copied into the snapshot files in the background while the next checkpoints are protected by copy-on-write, see
+ * {@link PartitionSnapshotWriter}. Only the pages written since the previous snapshot are copied into a delta file, the snapshot directory
+ * receives hard links to the base file and the delta files of the chain.
+ *
+ * <p>A defragmentation copies the rows into a compacted partition file with a rebuilt tree, see
+ * {@link PersistentPageMemoryTableStorage#copyPartition}, and replaces the partition file with it when the copy has been checkpointed.
+ * A snapshot restore streams the rows of the snapshot into a new partition file the same way. The partition is neither read nor updated
+ * while its file is replaced, which is ensured by the {@link #partitionLock}.
  */
-public class PersistentPageMemoryPartitionStorage extends VolatilePageMemoryPartitionStorage {
+public class PersistentPageMemoryPartitionStorage extends VolatilePageMemoryPartitionStorage implements CheckpointListener {
+    /** Maximum number of delta files in a snapshot chain, the next snapshot starts a new chain with a base file. */
+    private static final int MAX_SNAPSHOT_DELTAS = 16;
+
+    private final CheckpointManager checkpointManager;
+
     private final CheckpointTimeoutLock checkpointTimeoutLock;
 
+    private final PageMemoryImpl pageMemory;
+
+    private final int grpId;
+
+    private final long partMetaPageId;
+
+    private final FilePageStore filePageStore;
+
+    private final Executor snapshotExecutor;
+
+    private final PersistentPageMemoryTableStorage tableStorage;
+
+    /** Directory with the files of the snapshot chain, snapshot directories link to them. */
+    private final Path snapshotChainDir;
+
+    /** Number of rows written to the partition meta page, accessed under the checkpoint write lock or on a file replacement. */
+    private long savedRowCount;
+
+    /** Total size of the rows written to the partition meta page, accessed under the checkpoint write lock or on a file replacement. */
+    private long savedRowBytes;
+
+    /** Indexes of the partition pages written to the file since the last snapshot, guarded by itself. */
+    private BitSet writtenPages = new BitSet();
+
+    /** Tracks the pages written to the partition file. */
+    private final PageWriteListener writtenPagesTracker = (pageId, buf) -> {
+        synchronized (this) {
+            writtenPages.set(pageIndex(pageId));
+        }
+    };
+
+    /** Snapshots that wait for a checkpoint marker. */
+    private final Queue<SnapshotRequest> pendingSnapshots = new ConcurrentLinkedQueue<>();
+
+    /** Snapshots captured at the marker of {@link #markedProgress}, accessed by the checkpointer thread. */
+    private List<SnapshotRequest> markedSnapshots = new ArrayList<>();
+
+    /** Checkpoint of the marked snapshots, accessed by the checkpointer thread. */
+    private @Nullable CheckpointProgress markedProgress;
+
+    /** Number of the partition pages at the marker, accessed by the checkpointer thread. */
+    private long markedPages;
+
+    /** Files of the snapshot chain of the marked snapshots, accessed by the checkpointer thread. */
+    private @Nullable List<Path> markedChain;
+
+    /** Writer of the marked snapshots, registered at the marker, accessed by the checkpointer thread. */
+    private @Nullable PartitionSnapshotWriter markedWriter;
+
+    /** Files of the snapshot chain, the base file first, empty if the next snapshot starts a new chain, guarded by {@code this}. */
+    private List<Path> snapshotChain = List.of();
+
+    /** Sequence number of the last snapshot file, accessed by the checkpointer thread. */
+    private long snapshotFileSeq;
+
+    /** Future of the last snapshot, the snapshots are copied one after another, changed by the checkpointer thread. */
+    private volatile CompletableFuture<Void> lastSnapshotFut = completedFuture(null);
+
+    /**
+     * Operations with the rows hold the read lock, the defragmentation holds the write lock while it copies the rows and replaces the
+     * partition file. Acquired before the checkpoint read lock.
+     */
+    private final ReadWriteLock partitionLock = new ReentrantReadWriteLock();
+
+    /**
+     * Defragmentation or snapshot restore is in progress, the pending snapshots are not captured until the partition file is replaced.
+     */
+    private volatile boolean replacingFile;
+
     /**
      * Constructor.
      *
      * @param partId Partition id.
      * @param freeList Table free list.
      * @param tree Table tree.
-     * @param checkpointTimeoutLock Checkpoint timeout lock.
+     * @param partitionMeta Partition meta.
+     * @param checkpointManager Checkpoint manager.
+     * @param pageMemory Page memory.
+     * @param grpId Group ID.
+     * @param filePageStore Partition file page store.
+     * @param snapshotExecutor Executor for copying the pages of snapshots.
+     * @param tableStorage Table storage, creates the new partition files on a defragmentation or a snapshot restore.
      * @throws StorageException If there is an error while creating the partition storage.
      */
     public PersistentPageMemoryPartitionStorage(
             int partId,
             TableFreeList freeList,
             TableTree tree,
-            CheckpointTimeoutLock checkpointTimeoutLock
+            PartitionMeta partitionMeta,
+            CheckpointManager checkpointManager,
+            PageMemoryImpl pageMemory,
+            int grpId,
+            FilePageStore filePageStore,
+            Executor snapshotExecutor,
+            PersistentPageMemoryTableStorage tableStorage
     ) throws StorageException {
-        super(partId, freeList, tree);
+        super(partId, freeList, tree, partitionMeta.rowCount, partitionMeta.rowBytes);
+
+        this.checkpointManager = checkpointManager;
+        this.pageMemory = pageMemory;
+        this.grpId = grpId;
+        this.filePageStore = filePageStore;
+        this.snapshotExecutor = snapshotExecutor;
+        this.tableStorage = tableStorage;
+
+        checkpointTimeoutLock = checkpointManager.checkpointTimeoutLock();
+        partMetaPageId = pageMemory.partitionMetaPageId(grpId, partId);
+        savedRowCount = partitionMeta.rowCount;
+        savedRowBytes = partitionMeta.rowBytes;
+
+        Path partFile = filePageStore.filePath();
+
+        snapshotChainDir = partFile.resolveSibling(partFile.getFileName() + ".snapshot");
+
+        // The pages written before the restart are not tracked, so the chain left by the previous run cannot be continued.
+        IgniteUtils.deleteIfExists(snapshotChainDir);
+
+        filePageStore.addWriteListener(writtenPagesTracker);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMarkCheckpointBegin(CheckpointProgress progress) throws IgniteInternalCheckedException {
+        markSnapshots(progress);
+
+        // Updates hold the checkpoint read lock, so the counters do not change while the write lock is held.
+        long rowCount = this.rowCount.get();
+        long rowBytes = this.rowBytes.get();
+
+        if (rowCount == savedRowCount && rowBytes == savedRowBytes) {
+            return;
+        }
+
+        writeRowCounters(pageMemory, grpId, partMetaPageId, rowCount, rowBytes);
+
+        savedRowCount = rowCount;
+        savedRowBytes = rowBytes;
+    }
+
+    /**
+     * Writes the row counters to the partition meta page.
+     *
+     * @param pageMemory Page memory.
+     * @param grpId Group ID.
+     * @param partMetaPageId Partition meta page ID.
+     * @param rowCount Number of rows.
+     * @param rowBytes Total size of the keys and values of the rows.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    static void writeRowCounters(
+            PageMemoryImpl pageMemory,
+            int grpId,
+            long partMetaPageId,
+            long rowCount,
+            long rowBytes
+    ) throws IgniteInternalCheckedException {
+        long partMetaPage = pageMemory.acquirePage(grpId, partMetaPageId);
+
+        try {
+            long partMetaPageAddr = pageMemory.writeLock(grpId, partMetaPageId, partMetaPage);
+
+            try {
+                PartitionMetaIo partMetaIo = pageMemory.ioRegistry().resolve(partMetaPageAddr);
+
+                partMetaIo.setRowCount(partMetaPageAddr, rowCount);
+                partMetaIo.setRowBytes(partMetaPageAddr, rowBytes);
+            } finally {
+                pageMemory.writeUnlock(grpId, partMetaPageId, partMetaPage, true);
+            }
+        } finally {
+            pageMemory.releasePage(grpId, partMetaPageId, partMetaPage);
+        }
+    }
+
+    /**
+     * Captures the pending snapshots at the checkpoint marker, holds the checkpoint write lock. The pages of the marker are protected from
+     * this moment, so neither the marker checkpoint nor the next ones can overwrite them before they are copied.
+     */
+    private void markSnapshots(CheckpointProgress progress) {
+        if (!markedSnapshots.isEmpty()) {
+            // The previous checkpoint has failed before its end.
+            closeMarkedWriter();
+
+            onSnapshotFailed(markedSnapshots, new IgniteInternalException("Checkpoint failed: " + markedProgress.id()));
+
+            markedSnapshots = new ArrayList<>();
+        }
+
+        // The partition file is going to be replaced, the pending snapshots are captured after the defragmentation.
+        if (!replacingFile) {
+            for (SnapshotRequest req; (req = pendingSnapshots.poll()) != null; ) {
+                markedSnapshots.add(req);
+            }
+        }
+
+        markedProgress = progress;
+        markedPages = filePageStore.pages();
+
+        if (markedSnapshots.isEmpty()) {
+            return;
+        }
+
+        List<Path> chain;
+
+        synchronized (this) {
+            // The pages written by the marker checkpoint are not counted yet, which only makes a delta a bit more likely.
+            boolean base = snapshotChain.isEmpty()
+                    || snapshotChain.size() > MAX_SNAPSHOT_DELTAS
+                    || writtenPages.cardinality() > markedPages / 2;
+
+            Path file = snapshotChainDir.resolve(String.format(base ? "base-%d.bin" : "delta-%d.bin", ++snapshotFileSeq));
+
+            chain = new ArrayList<>(base ? List.of() : snapshotChain);
+
+            chain.add(file);
+
+            snapshotChain = chain;
+        }
+
+        try {
+            Files.createDirectories(snapshotChainDir);
 
-        this.checkpointTimeoutLock = checkpointTimeoutLock;
+            markedWriter = new PartitionSnapshotWriter(
+                    filePageStore,
+                    partId,
+                    pageMemory.pageSize(),
+                    markedPages,
+                    chain.size() > 1,
+                    chain.get(chain.size() - 1)
+            );
+        } catch (IOException e) {
+            onSnapshotFailed(markedSnapshots, new IgniteInternalException("Failed to create partition snapshot: " + partId, e));
+
+            markedSnapshots = new ArrayList<>();
+
+            return;
+        }
+
+        markedChain = chain;
+
+        filePageStore.addWriteListener(markedWriter);
+    }
+
+    /**
+     * Unregisters and closes the writer of the marked snapshots.
+     */
+    private void closeMarkedWriter() {
+        if (markedWriter == null) {
+            return;
+        }
+
+        filePageStore.removeWriteListener(markedWriter);
+
+        try {
+            markedWriter.close();
+        } catch (IOException e) {
+            // The snapshot is failed anyway.
+        }
+
+        markedWriter = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void afterCheckpointEnd(CheckpointProgress progress) {
+        if (progress != markedProgress || markedSnapshots.isEmpty()) {
+            return;
+        }
+
+        List<SnapshotRequest> snapshots = markedSnapshots;
+        List<Path> chain = markedChain;
+        PartitionSnapshotWriter writer = markedWriter;
+
+        markedSnapshots = new ArrayList<>();
+        markedChain = null;
+        markedWriter = null;
+        markedProgress = null;
+
+        BitSet changedPages;
+
+        synchronized (this) {
+            changedPages = writtenPages;
+
+            writtenPages = new BitSet();
+        }
+
+        boolean base = chain.size() == 1;
+
+        // The file contains exactly the pages of the marker now, the next checkpoint can be started right after this callback.
+        writer.onMarkerFinished(base ? null : changedPages);
+
+        lastSnapshotFut = lastSnapshotFut
+                .handleAsync((v, e) -> {
+                    try (writer) {
+                        if (e != null) {
+                            throw new IgniteInternalException("Previous snapshot in the chain failed: " + partId, e);
+                        }
+
+                        writer.copyPages();
+                    } catch (IOException | IgniteInternalCheckedException ex) {
+                        throw new IgniteInternalException("Failed to create partition snapshot: " + partId, ex);
+                    } finally {
+                        filePageStore.removeWriteListener(writer);
+                    }
+
+                    for (SnapshotRequest snapshot : snapshots) {
+                        linkSnapshotFiles(chain, snapshot.path);
+                    }
+
+                    if (base) {
+                        removeStaleSnapshotFiles(chain);
+                    }
+
+                    return (Void) null;
+                }, snapshotExecutor)
+                .whenComplete((v, e) -> {
+                    if (e != null) {
+                        onSnapshotFailed(snapshots, e);
+                    } else {
+                        snapshots.forEach(snapshot -> snapshot.fut.complete(null));
+                    }
+                });
+    }
+
+    /**
+     * Fails the snapshots and resets the snapshot chain, the written pages of the failed snapshot are lost, so the next snapshot starts
+     * a new chain.
+     */
+    private void onSnapshotFailed(List<SnapshotRequest> snapshots, Throwable e) {
+        synchronized (this) {
+            snapshotChain = List.of();
+        }
+
+        failSnapshots(snapshots, e);
+    }
+
+    private static void failSnapshots(List<SnapshotRequest> snapshots, Throwable e) {
+        snapshots.forEach(snapshot -> snapshot.fut.completeExceptionally(e));
+    }
+
+    /**
+     * Links the files of the snapshot chain into the snapshot directory, copies them if hard links are not supported.
+     */
+    private static void linkSnapshotFiles(List<Path> chain, Path snapshotDir) {
+        try {
+            Files.createDirectories(snapshotDir);
+
+            for (int i = 0; i < chain.size(); i++) {
+                Path link = snapshotDir.resolve(i == 0 ? BASE_FILE_NAME : String.format(DELTA_FILE_TEMPLATE, i));
+
+                Files.deleteIfExists(link);
+
+                try {
+                    Files.createLink(link, chain.get(i));
+                } catch (UnsupportedOperationException | FileSystemException e) {
+                    Files.copy(chain.get(i), link);
+                }
+            }
+        } catch (IOException e) {
+            throw new IgniteInternalException("Failed to link partition snapshot files: " + snapshotDir, e);
+        }
+    }
+
+    /**
+     * Removes the files of the previous chains, the snapshot directories keep their own links to them.
+     */
+    private void removeStaleSnapshotFiles(List<Path> chain) {
+        String base = chain.get(0).getFileName().toString();
+
+        long baseSeq = Long.parseLong(base.substring(base.indexOf('-') + 1, base.indexOf('.')));
+
+        try (Stream<Path> files = Files.list(snapshotChainDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+
+                if (Long.parseLong(name.substring(name.indexOf('-') + 1, name.indexOf('.'))) < baseSeq) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            // Stale files only take disk space.
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable DataRow read(SearchRow key) throws StorageException {
+        partitionLock.readLock().lock();
+
+        try {
+            return super.read(key);
+        } finally {
+            partitionLock.readLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<DataRow> readAll(List<? extends SearchRow> keys) throws StorageException {
+        partitionLock.readLock().lock();
+
+        try {
+            return super.readAll(keys);
+        } finally {
+            partitionLock.readLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Cursor<DataRow> scan(Predicate<SearchRow> filter) throws StorageException {
+        partitionLock.readLock().lock();
+
+        try {
+            TableTree scanTree = tree;
+
+            Cursor<DataRow> cursor = super.scan(filter);
+
+            return new Cursor<DataRow>() {
+                /** {@inheritDoc} */
+                @Override
+                public void close() throws Exception {
+                    cursor.close();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public Iterator<DataRow> iterator() {
+                    return this;
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public boolean hasNext() {
+                    return cursor.hasNext();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public DataRow next() {
+                    partitionLock.readLock().lock();
+
+                    try {
+                        // The pages of the tree the cursor points to have been replaced.
+                        if (tree != scanTree) {
+                            throw new StorageException("Partition has been defragmented during the scan: " + partId);
+                        }
+
+                        return cursor.next();
+                    } finally {
+                        partitionLock.readLock().unlock();
+                    }
+                }
+            };
+        } finally {
+            partitionLock.readLock().unlock();
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void write(DataRow row) throws StorageException {
-        checkpointTimeoutLock.checkpointReadLock();
+        partitionLock.readLock().lock();
 
         try {
-            super.write(row);
+            checkpointTimeoutLock.checkpointReadLock();
+
+            try {
+                super.write(row);
+            } finally {
+                checkpointTimeoutLock.checkpointReadUnlock();
+            }
         } finally {
-            checkpointTimeoutLock.checkpointReadUnlock();
+            partitionLock.readLock().unlock();
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public void writeAll(List<? extends DataRow> rows) throws StorageException {
-        checkpointTimeoutLock.checkpointReadLock();
+        partitionLock.readLock().lock();
 
         try {
-            super.writeAll(rows);
+            checkpointTimeoutLock.checkpointReadLock();
+
+            try {
+                super.writeAll(rows);
+            } finally {
+                checkpointTimeoutLock.checkpointReadUnlock();
+            }
         } finally {
-            checkpointTimeoutLock.checkpointReadUnlock();
+            partitionLock.readLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void bulkLoad(List<? extends DataRow> rows) throws StorageException {
+        partitionLock.readLock().lock();
+
+        try {
+            checkpointTimeoutLock.checkpointReadLock();
+
+            try {
+                super.bulkLoad(rows);
+            } finally {
+                checkpointTimeoutLock.checkpointReadUnlock();
+            }
+        } finally {
+            partitionLock.readLock().unlock();
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public Collection<DataRow> insertAll(List<? extends DataRow> rows) throws StorageException {
-        checkpointTimeoutLock.checkpointReadLock();
+        partitionLock.readLock().lock();
 
         try {
-            return super.insertAll(rows);
+            checkpointTimeoutLock.checkpointReadLock();
+
+            try {
+                return super.insertAll(rows);
+            } finally {
+                checkpointTimeoutLock.checkpointReadUnlock();
+            }
         } finally {
-            checkpointTimeoutLock.checkpointReadUnlock();
+            partitionLock.readLock().unlock();
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public void remove(SearchRow key) throws StorageException {
-        checkpointTimeoutLock.checkpointReadLock();
+        partitionLock.readLock().lock();
 
         try {
-            super.remove(key);
+            checkpointTimeoutLock.checkpointReadLock();
+
+            try {
+                super.remove(key);
+            } finally {
+                checkpointTimeoutLock.checkpointReadUnlock();
+            }
         } finally {
-            checkpointTimeoutLock.checkpointReadUnlock();
+            partitionLock.readLock().unlock();
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public Collection<SearchRow> removeAll(List<? extends SearchRow> keys) throws StorageException {
-        checkpointTimeoutLock.checkpointReadLock();
+        partitionLock.readLock().lock();
 
         try {
-            return super.removeAll(keys);
+            checkpointTimeoutLock.checkpointReadLock();
+
+            try {
+                return super.removeAll(keys);
+            } finally {
+                checkpointTimeoutLock.checkpointReadUnlock();
+            }
         } finally {
-            checkpointTimeoutLock.checkpointReadUnlock();
+            partitionLock.readLock().unlock();
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public Collection<DataRow> removeAllExact(List<? extends DataRow> keyValues) throws StorageException {
-        checkpointTimeoutLock.checkpointReadLock();
+        partitionLock.readLock().lock();
 
         try {
-            return super.removeAllExact(keyValues);
+            checkpointTimeoutLock.checkpointReadLock();
+
+            try {
+                return super.removeAllExact(keyValues);
+            } finally {
+                checkpointTimeoutLock.checkpointReadUnlock();
+            }
         } finally {
-            checkpointTimeoutLock.checkpointReadUnlock();
+            partitionLock.readLock().unlock();
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public <T> @Nullable T invoke(SearchRow key, InvokeClosure<T> clo) throws StorageException {
-        checkpointTimeoutLock.checkpointReadLock();
+        partitionLock.readLock().lock();
 
         try {
-            return super.invoke(key, clo);
+            checkpointTimeoutLock.checkpointReadLock();
+
+            try {
+                return super.invoke(key, clo);
+            } finally {
+                checkpointTimeoutLock.checkpointReadUnlock();
+            }
         } finally {
-            checkpointTimeoutLock.checkpointReadUnlock();
+            partitionLock.readLock().unlock();
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> snapshot(Path snapshotPath) {
+        SnapshotRequest req = new SnapshotRequest(snapshotPath);
+
+        pendingSnapshots.add(req);
+
+        checkpointManager.forceCheckpoint("partition snapshot").futureFor(FINISHED).whenComplete((v, e) -> {
+            if (e != null) {
+                pendingSnapshots.remove(req);
+
+                req.fut.completeExceptionally(e);
+            }
+        });
+
+        return req.fut;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The rows of the snapshot are streamed into a new partition file, which replaces the partition file when it is complete, like on
+     * a defragmentation. The partition is neither read nor updated until the end of the restore, and is not changed if the restore fails.
+     */
+    @Override
+    public void restoreSnapshot(Path snapshotPath) {
+        partitionLock.writeLock().lock();
+
+        try (Cursor<DataRow> cursor = scanSnapshot(snapshotPath)) {
+            replacingFile = true;
+
+            replacePartition(new SnapshotRowsCursor(cursor, partId), "partition snapshot restore");
+        } catch (StorageException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new StorageException("Interrupted while restoring partition snapshot: " + snapshotPath, e);
+        } catch (ExecutionException e) {
+            throw new StorageException("Failed to restore partition snapshot: " + snapshotPath, e.getCause());
+        } catch (Exception e) {
+            throw new StorageException("Failed to restore partition snapshot: " + snapshotPath, e);
+        } finally {
+            finishReplace();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Cursor<DataRow> scanSnapshot(Path snapshotPath) throws StorageException {
+        return PartitionSnapshotReader.open(snapshotPath, pageMemory.ioRegistry());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeSnapshot(Path snapshotPath, Iterator<? extends DataRow> rows) throws StorageException {
+        PartitionSnapshotReader.writeRows(snapshotPath, rows);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        filePageStore.removeWriteListener(writtenPagesTracker);
+
+        super.close();
+    }
+
     /** {@inheritDoc} */
     @Override
     public void destroy() throws StorageException {
-        checkpointTimeoutLock.checkpointReadLock();
+        partitionLock.readLock().lock();
 
         try {
-            // TODO: IGNITE-17132 Fix partition destruction
+            checkpointTimeoutLock.checkpointReadLock();
+
+            try {
+                // TODO: IGNITE-17132 Fix partition destruction
 
-            IgniteCursor<TableDataRow> cursor = tree.find(null, null);
+                IgniteCursor<TableDataRow> cursor = tree.find(null, null);
 
-            while (cursor.next()) {
-                TableDataRow row = cursor.get();
+                while (cursor.next()) {
+                    TableDataRow row = cursor.get();
 
-                if (tree.removex(row)) {
-                    freeList.removeDataRowByLink(row.link());
+                    if (tree.removex(row)) {
+                        freeList.removeDataRowByLink(row.link());
+
+                        onRowChanged(row, null);
+                    }
                 }
+            } catch (IgniteInternalCheckedException e) {
+                throw new StorageException("Error destroy partition: " + partId, e);
+            } finally {
+                checkpointTimeoutLock.checkpointReadUnlock();
             }
+        } finally {
+            partitionLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Defragments the partition, see {@link PersistentPageMemoryTableStorage#defragmentPartition}.
+     *
+     * @return Number of bytes reclaimed from the partition file.
+     * @throws StorageException If failed.
+     */
+    long defragment() throws StorageException {
+        partitionLock.writeLock().lock();
+
+        try {
+            replacingFile = true;
+
+            long oldPages = filePageStore.pages();
+
+            replacePartition(tree.find(null, null), "partition defragmentation");
+
+            return (oldPages - filePageStore.pages()) * pageMemory.pageSize();
         } catch (IgniteInternalCheckedException e) {
-            throw new StorageException("Error destroy partition: " + partId, e);
+            throw new StorageException("Error defragmenting partition: " + partId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new StorageException("Interrupted while defragmenting partition: " + partId, e);
+        } catch (ExecutionException e) {
+            throw new StorageException("Error defragmenting partition: " + partId, e.getCause());
+        } finally {
+            finishReplace();
+        }
+    }
+
+    /**
+     * Replaces the partition file with a new file containing the rows, holds the write lock of the partition.
+     *
+     * <p>The copy of the rows is checkpointed while the partition is locked, so the partition file is replaced between two checkpoints and
+     * none of the partition pages are dirty: the loaded pages are invalidated and the tree and the free list are opened from the new file.
+     * The free list pages of the old partition in the index file of the table are not reused. The partition is not changed if the copy
+     * fails.
+     *
+     * @param rows Unique rows in the tree order.
+     * @param reason Reason of the forced checkpoints.
+     */
+    private void replacePartition(
+            IgniteCursor<TableDataRow> rows,
+            String reason
+    ) throws IgniteInternalCheckedException, InterruptedException, ExecutionException {
+        // Completes the snapshots captured before the lock, their pages are copied from the current partition file.
+        checkpointManager.forceCheckpoint(reason).futureFor(FINISHED).get();
+
+        lastSnapshotFut.handle((v, e) -> null).get();
+
+        FilePageStore copyFilePageStore = tableStorage.copyPartition(partId, rows);
+
+        checkpointManager.forceCheckpoint(reason).futureFor(FINISHED).get();
+
+        checkpointTimeoutLock.checkpointReadLock();
+
+        try {
+            filePageStore.replaceFile(copyFilePageStore);
+
+            pageMemory.invalidate(grpId, partId);
+
+            filePageStore.ensure();
+
+            TableView tableView = tableStorage.configuration().value();
+
+            PartitionMeta partitionMeta = tableStorage.getOrCreatePartitionMeta(grpId, tableView, partId, filePageStore);
+
+            TableTree oldTree = tree;
+            TableFreeList oldFreeList = freeList;
+
+            freeList = tableStorage.createTableFreeList(grpId, tableView, partId, partitionMeta);
+            tree = tableStorage.createTableTree(grpId, tableView, partId, freeList, partitionMeta);
+
+            oldTree.close();
+            oldFreeList.close();
+
+            rowCount.set(partitionMeta.rowCount);
+            rowBytes.set(partitionMeta.rowBytes);
+
+            savedRowCount = partitionMeta.rowCount;
+            savedRowBytes = partitionMeta.rowBytes;
+
+            synchronized (this) {
+                // The pages of the chain are the pages of the old file, the next snapshot starts a new chain.
+                writtenPages = new BitSet();
+
+                snapshotChain = List.of();
+            }
         } finally {
             checkpointTimeoutLock.checkpointReadUnlock();
         }
     }
+
+    /**
+     * Releases the write lock of the partition taken to replace the partition file, and captures the snapshots requested meanwhile.
+     */
+    private void finishReplace() {
+        replacingFile = false;
+
+        partitionLock.writeLock().unlock();
+
+        if (!pendingSnapshots.isEmpty()) {
+            checkpointManager.forceCheckpoint("partition snapshot");
+        }
+    }
+
+    /**
+     * Cursor over the rows of a snapshot, checks that the rows are unique and in the tree order.
+     */
+    private static class SnapshotRowsCursor implements IgniteCursor<TableDataRow> {
+        private final Iterator<DataRow> rows;
+
+        private final int partId;
+
+        private @Nullable TableDataRow cur;
+
+        SnapshotRowsCursor(Iterator<DataRow> rows, int partId) {
+            this.rows = rows;
+            this.partId = partId;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean next() throws IgniteInternalCheckedException {
+            if (!rows.hasNext()) {
+                return false;
+            }
+
+            DataRow row = rows.next();
+
+            ByteBuffer key = row.key();
+
+            TableDataRow next = new TableDataRow(StorageUtils.hashCode(key), key, row.value(), partId);
+
+            if (cur != null && TableTree.ROW_ORDER.compare(cur, next) >= 0) {
+                throw new IgniteInternalCheckedException("Snapshot rows are not in the tree order: " + partId);
+            }
+
+            cur = next;
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public TableDataRow get() {
+            return cur;
+        }
+    }
+
+    /**
+     * Snapshot request.
+     */
+    private static class SnapshotRequest {
+        /** Snapshot directory. */
+        final Path path;
+
+        /** Future that is completed when the snapshot files are linked into the snapshot directory. */
+        final CompletableFuture<Void> fut = new CompletableFuture<>();
+
+        SnapshotRequest(Path path) {
+            this.path = path;
+        }
+    }
 }
@@ -20,6 +20,11 @@ package org.apache.ignite.internal.storage.pagememory;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.storage.StorageUtils.groupId;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.configuration.schemas.table.TableView;
@@ -27,28 +32,45 @@ import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.persistence.PageMemoryImpl;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryDataStorageView;
 import org.apache.ignite.internal.storage.pagememory.io.PartitionMetaIo;
+import org.apache.ignite.internal.util.IgniteCursor;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.lang.IgniteInternalException;
 
 /**
  * Implementation of {@link AbstractPageMemoryTableStorage} for persistent case.
  */
 class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
+    /** Suffix of the name of the group the defragmented copies of the table partitions are written into. */
+    private static final String DEFRAGMENTATION_GROUP_SUFFIX = "-dfrg";
+
+    /** Maximum number of rows copied into the data pages of a defragmented partition at once. */
+    private static final int DEFRAGMENTATION_BATCH_SIZE = 1_000;
+
+    /** Executor for copying the pages of partition snapshots. */
+    private final Executor snapshotExecutor;
+
     /**
      * Constructor.
      *
      * @param tableCfg Table configuration.
      * @param dataRegion Data region for the table.
+     * @param snapshotExecutor Executor for copying the pages of partition snapshots.
      */
     public PersistentPageMemoryTableStorage(
             TableConfiguration tableCfg,
-            PersistentPageMemoryDataRegion dataRegion
+            PersistentPageMemoryDataRegion dataRegion,
+            Executor snapshotExecutor
     ) {
         super(tableCfg, dataRegion);
+
+        this.snapshotExecutor = snapshotExecutor;
     }
 
     /** {@inheritDoc} */
@@ -75,22 +97,42 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
 
         FilePageStore partitionFilePageStore = ensurePartitionFilePageStore(tableView, partId);
 
-        CheckpointTimeoutLock checkpointTimeoutLock = ((PersistentPageMemoryDataRegion) dataRegion)
-                .checkpointManager()
-                .checkpointTimeoutLock();
+        CheckpointManager checkpointManager = ((PersistentPageMemoryDataRegion) dataRegion).checkpointManager();
+
+        CheckpointTimeoutLock checkpointTimeoutLock = checkpointManager.checkpointTimeoutLock();
 
         checkpointTimeoutLock.checkpointReadLock();
 
+        int grpId = groupId(tableView);
+
         try {
-            PartitionMeta partitionMeta = getOrCreatePartitionMeta(tableView, partId, partitionFilePageStore);
+            PartitionMeta partitionMeta = getOrCreatePartitionMeta(grpId, tableView, partId, partitionFilePageStore);
 
-            TableFreeList tableFreeList = createTableFreeList(tableView, partId, partitionMeta);
+            TableFreeList tableFreeList = createTableFreeList(grpId, tableView, partId, partitionMeta);
 
-            autoCloseables.add(tableFreeList::close);
+            TableTree tableTree = createTableTree(grpId, tableView, partId, tableFreeList, partitionMeta);
 
-            TableTree tableTree = createTableTree(tableView, partId, tableFreeList, partitionMeta);
+            PersistentPageMemoryPartitionStorage partitionStorage = new PersistentPageMemoryPartitionStorage(
+                    partId,
+                    tableFreeList,
+                    tableTree,
+                    partitionMeta,
+                    checkpointManager,
+                    (PageMemoryImpl) dataRegion.pageMemory(),
+                    grpId,
+                    partitionFilePageStore,
+                    snapshotExecutor,
+                    this
+            );
+
+            // The free list is replaced by the defragmentation of the partition.
+            autoCloseables.add(() -> partitionStorage.freeList.close());
 
-            return new PersistentPageMemoryPartitionStorage(partId, tableFreeList, tableTree, checkpointTimeoutLock);
+            checkpointManager.addCheckpointListener(partitionStorage, dataRegion);
+
+            autoCloseables.add(() -> checkpointManager.removeCheckpointListener(partitionStorage));
+
+            return partitionStorage;
         } finally {
             checkpointTimeoutLock.checkpointReadUnlock();
         }
@@ -102,6 +144,128 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
         close(true);
     }
 
+    /**
+     * Defragments the partition: copies its rows into a new partition file with a rebuilt tree, and replaces the partition file with the
+     * compacted one at a checkpoint boundary. The partition is neither read nor updated until the end of the defragmentation.
+     *
+     * @param partId Partition ID.
+     * @return Number of bytes reclaimed from the partition file.
+     * @throws StorageException If failed.
+     */
+    public long defragmentPartition(int partId) throws StorageException {
+        return ((PersistentPageMemoryPartitionStorage) getOrCreatePartition(partId)).defragment();
+    }
+
+    /**
+     * Copies the rows into the partition file of the defragmentation group of the table. The data pages are filled one after another and
+     * the tree is bulk loaded, so all the pages of the copy but the last ones are full. The row counters of the copy are written to its
+     * partition meta page.
+     *
+     * <p>The rows keep their partition ID, so the links of the copied rows stay valid when the copy replaces the partition file. The
+     * pages of the copy are written to the disk by the next checkpoints.
+     *
+     * <p>The checkpoint read lock is released between the batches of rows, so checkpoints aren't blocked for the whole copy. A checkpoint
+     * may write a partially built copy, which is safe since nobody reads the defragmentation group until the copy replaces the partition
+     * file, and a copy left by a failure is discarded by the next defragmentation.
+     *
+     * @param partId Partition ID.
+     * @param rows Unique rows in the tree order, e.g. a cursor of the partition tree, which must not be modified concurrently.
+     * @return File page store of the copy.
+     * @throws StorageException If failed.
+     */
+    FilePageStore copyPartition(int partId, IgniteCursor<TableDataRow> rows) throws StorageException {
+        TableView tableView = tableCfg.value();
+
+        PersistentPageMemoryDataRegion persistentDataRegion = (PersistentPageMemoryDataRegion) dataRegion;
+
+        PageMemoryImpl pageMemoryImpl = (PageMemoryImpl) persistentDataRegion.pageMemory();
+
+        String copyGrpName = tableView.name() + DEFRAGMENTATION_GROUP_SUFFIX;
+
+        int copyGrpId = copyGrpName.hashCode();
+
+        FilePageStore copyFilePageStore;
+
+        try {
+            persistentDataRegion.filePageStoreManager().initialize(copyGrpName, copyGrpId, tableView.partitions());
+
+            copyFilePageStore = persistentDataRegion.filePageStoreManager().getStore(copyGrpId, partId);
+
+            // Pages and files of a previous copy may be left by a failed defragmentation or by the previous run.
+            pageMemoryImpl.invalidate(copyGrpId, partId);
+
+            copyFilePageStore.stop(true);
+
+            copyFilePageStore.ensure();
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException(
+                    String.format(
+                            "Error initializing defragmentation file page store [tableName=%s, partitionId=%s]",
+                            tableView.name(),
+                            partId
+                    ),
+                    e
+            );
+        }
+
+        CheckpointTimeoutLock checkpointTimeoutLock = persistentDataRegion.checkpointManager().checkpointTimeoutLock();
+
+        checkpointTimeoutLock.checkpointReadLock();
+
+        try {
+            PartitionMeta copyMeta = getOrCreatePartitionMeta(copyGrpId, tableView, partId, copyFilePageStore);
+
+            // The page lists of the copy are never saved, so their pages are taken from the copy instead of the index file of the group.
+            TableFreeList copyFreeList = new TableFreeList(
+                    copyGrpId,
+                    pageMemoryImpl,
+                    PageLockListenerNoOp.INSTANCE,
+                    copyMeta.reuseListRoot.pageId(),
+                    true,
+                    null,
+                    PageEvictionTrackerNoOp.INSTANCE,
+                    IoStatisticsHolderNoOp.INSTANCE
+            ) {
+                /** {@inheritDoc} */
+                @Override
+                protected long allocatePageNoReuse() throws IgniteInternalCheckedException {
+                    return pageMem.allocatePage(grpId, partId, defaultPageFlag);
+                }
+            };
+
+            TableTree copyTree = createTableTree(copyGrpId, tableView, partId, copyFreeList, copyMeta);
+
+            try {
+                CopyIterator copyIterator = new CopyIterator(rows, copyFreeList, partId, checkpointTimeoutLock);
+
+                copyTree.bulkLoad(copyIterator);
+
+                PersistentPageMemoryPartitionStorage.writeRowCounters(
+                        pageMemoryImpl,
+                        copyGrpId,
+                        pageMemoryImpl.partitionMetaPageId(copyGrpId, partId),
+                        copyIterator.rowCount,
+                        copyIterator.rowBytes
+                );
+            } finally {
+                copyTree.close();
+                copyFreeList.close();
+            }
+
+            return copyFilePageStore;
+        } catch (IgniteInternalCheckedException | IgniteInternalException e) {
+            throw new StorageException(
+                    String.format("Error copying partition rows [tableName=%s, partitionId=%s]", tableView.name(), partId),
+                    e
+            );
+        } finally {
+            // The lock is not held if the copy failed to take it back between the batches.
+            if (checkpointTimeoutLock.checkpointLockIsHeldByThread()) {
+                checkpointTimeoutLock.checkpointReadUnlock();
+            }
+        }
+    }
+
     /**
      * Initializes the partition file page store if it hasn't already.
      *
@@ -130,6 +294,7 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
     /**
      * Creates new or reads existing partition meta.
      *
+     * @param grpId Group ID.
      * @param tableView Table configuration.
      * @param partId Partition ID.
      * @param filePageStore Partition file page store.
@@ -137,14 +302,13 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
      * @throws StorageException If failed.
      */
     PartitionMeta getOrCreatePartitionMeta(
+            int grpId,
             TableView tableView,
             int partId,
             FilePageStore filePageStore
     ) throws StorageException {
         PageMemoryImpl pageMemoryImpl = (PageMemoryImpl) dataRegion.pageMemory();
 
-        int grpId = groupId(tableView);
-
         boolean allocatePartMetaPage = filePageStore.pages() == 0;
 
         try {
@@ -160,6 +324,8 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
                 try {
                     long treeRootPageId;
                     long reuseListRootPageId;
+                    long rowCount = 0;
+                    long rowBytes = 0;
 
                     if (allocatePartMetaPage) {
                         PartitionMetaIo partMetaIo = PartitionMetaIo.VERSIONS.latest();
@@ -176,11 +342,15 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
 
                         treeRootPageId = partMetaIo.getTreeRootPageId(partMetaPageAddr);
                         reuseListRootPageId = partMetaIo.getReuseListRootPageId(partMetaPageAddr);
+                        rowCount = partMetaIo.getRowCount(partMetaPageAddr);
+                        rowBytes = partMetaIo.getRowBytes(partMetaPageAddr);
                     }
 
                     return new PartitionMeta(
                             new FullPageId(treeRootPageId, grpId),
                             new FullPageId(reuseListRootPageId, grpId),
+                            rowCount,
+                            rowBytes,
                             allocatePartMetaPage
                     );
                 } finally {
@@ -200,19 +370,21 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
     /**
      * Returns new {@link TableFreeList} instance for partition.
      *
+     * @param grpId Group ID.
      * @param tableView Table configuration.
      * @param partId Partition ID.
      * @param partitionMeta Table partition metadata.
      * @throws StorageException If failed.
      */
     TableFreeList createTableFreeList(
+            int grpId,
             TableView tableView,
             int partId,
             PartitionMeta partitionMeta
     ) throws StorageException {
         try {
             return new TableFreeList(
-                    groupId(tableView),
+                    grpId,
                     dataRegion.pageMemory(),
                     PageLockListenerNoOp.INSTANCE,
                     partitionMeta.reuseListRoot.pageId(),
@@ -232,6 +404,7 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
     /**
      * Returns new {@link TableTree} instance for partition.
      *
+     * @param grpId Group ID.
      * @param tableView Table configuration.
      * @param partId Partition ID.
      * @param freeList Table free list.
@@ -239,13 +412,12 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
      * @throws StorageException If failed.
      */
     TableTree createTableTree(
+            int grpId,
             TableView tableView,
             int partId,
             TableFreeList freeList,
             PartitionMeta partitionMeta
     ) throws StorageException {
-        int grpId = groupId(tableView);
-
         try {
             return new TableTree(
                     grpId,
@@ -256,7 +428,8 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
                     partitionMeta.treeRoot.pageId(),
                     freeList,
                     partId,
-                    partitionMeta.allocated
+                    partitionMeta.allocated,
+                    ((PageMemoryDataStorageView) tableView.dataStorage()).inlineSize()
             );
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException(
@@ -265,4 +438,86 @@ class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
             );
         }
     }
+
+    /**
+     * Iterator over the copies of the rows of a partition, in the tree order. The rows are written into the data pages of the copy in
+     * batches, so that the links of the rows are known when the rows are stored into the tree of the copy.
+     *
+     * <p>The iterator is called with the checkpoint read lock held and no page locked, it releases the lock before each next batch to let
+     * a pending checkpoint begin.
+     */
+    private static class CopyIterator implements Iterator<TableDataRow> {
+        private final IgniteCursor<TableDataRow> cursor;
+
+        private final TableFreeList copyFreeList;
+
+        private final int partId;
+
+        private final CheckpointTimeoutLock checkpointTimeoutLock;
+
+        private final List<TableDataRow> batch = new ArrayList<>(DEFRAGMENTATION_BATCH_SIZE);
+
+        private int batchIdx;
+
+        private boolean cursorFinished;
+
+        /** Number of the copied rows. */
+        long rowCount;
+
+        /** Total size of the keys and values of the copied rows. */
+        long rowBytes;
+
+        CopyIterator(
+                IgniteCursor<TableDataRow> cursor,
+                TableFreeList copyFreeList,
+                int partId,
+                CheckpointTimeoutLock checkpointTimeoutLock
+        ) {
+            this.cursor = cursor;
+            this.copyFreeList = copyFreeList;
+            this.partId = partId;
+            this.checkpointTimeoutLock = checkpointTimeoutLock;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            if (batchIdx == batch.size() && !cursorFinished) {
+                batch.clear();
+                batchIdx = 0;
+
+                checkpointTimeoutLock.checkpointReadUnlock();
+                checkpointTimeoutLock.checkpointReadLock();
+
+                try {
+                    while (batch.size() < DEFRAGMENTATION_BATCH_SIZE && !(cursorFinished = !cursor.next())) {
+                        TableDataRow row = cursor.get();
+
+                        batch.add(new TableDataRow(row.hash(), row.key(), row.value(), partId));
+
+                        rowCount++;
+                        rowBytes += row.key().limit() + row.value().limit();
+                    }
+
+                    if (!batch.isEmpty()) {
+                        copyFreeList.insertDataRows(batch);
+                    }
+                } catch (IgniteInternalCheckedException e) {
+                    throw new IgniteInternalException("Error copying partition rows: " + partId, e);
+                }
+            }
+
+            return batchIdx < batch.size();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public TableDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return batch.get(batchIdx++);
+        }
+    }
 }
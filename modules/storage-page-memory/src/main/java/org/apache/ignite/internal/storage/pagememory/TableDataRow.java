@@ -33,6 +33,9 @@ import org.apache.ignite.internal.storage.pagememory.io.TableDataIo;
 public class TableDataRow extends TableSearchRow implements Storable {
     private long link;
 
+    /** Partition ID, defines the partition of the data pages allocated for the row. */
+    private final int partId;
+
     private final ByteBuffer value;
 
     /**
@@ -52,17 +55,26 @@ public class TableDataRow extends TableSearchRow implements Storable {
         this.link = link;
 
         this.value = value;
+
+        partId = partitionId(pageId(link));
     }
 
     /**
-     * Constructor.
+     * Constructor of a row that is not stored yet.
      *
      * @param hash Row hash.
      * @param key Key byte buffer.
      * @param value Value byte buffer.
+     * @param partId Partition ID.
      */
-    public TableDataRow(int hash, ByteBuffer key, ByteBuffer value) {
-        this(0, hash, key, value);
+    public TableDataRow(int hash, ByteBuffer key, ByteBuffer value, int partId) {
+        super(hash, key);
+
+        assert !value.isReadOnly();
+        assert value.position() == 0;
+
+        this.value = value;
+        this.partId = partId;
     }
 
     /** {@inheritDoc} */
@@ -80,7 +92,7 @@ public class TableDataRow extends TableSearchRow implements Storable {
     /** {@inheritDoc} */
     @Override
     public int partition() {
-        return partitionId(pageId(link));
+        return partId;
     }
 
     /** {@inheritDoc} */
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.storage.pagememory;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.INDEX_PARTITION;
 
+import java.util.Collection;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.evict.PageEvictionTracker;
@@ -95,6 +96,16 @@ public class TableFreeList extends AbstractFreeList<TableDataRow> {
         super.insertDataRow(row, statHolder);
     }
 
+    /**
+     * Inserts the rows, writing as many of them into a single data page as it fits.
+     *
+     * @param rows Rows.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void insertDataRows(Collection<TableDataRow> rows) throws IgniteInternalCheckedException {
+        super.insertDataRows(rows, statHolder);
+    }
+
     /**
      * Removes a row by link.
      *
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.storage.pagememory;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.itemId;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getByte;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.getBytes;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.getInt;
 import static org.apache.ignite.internal.storage.pagememory.TableTree.RowData.FULL;
@@ -28,6 +29,7 @@ import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
 
 import java.nio.ByteBuffer;
+import java.util.Comparator;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.io.DataPagePayload;
@@ -47,6 +49,17 @@ import org.jetbrains.annotations.Nullable;
  * {@link BplusTree} implementation for storage-page-memory module.
  */
 public class TableTree extends BplusTree<TableSearchRow, TableDataRow> {
+    /** Order of the rows in the tree, the same as the one of {@link #compare(BplusIo, long, int, TableSearchRow)}. */
+    static final Comparator<TableSearchRow> ROW_ORDER = Comparator.comparingInt(TableSearchRow::hash)
+            .thenComparingInt(row -> row.key().limit())
+            .thenComparing(TableSearchRow::key);
+
+    /** Maximum number of the key bytes stored in the tree pages for each row. */
+    public static final int MAX_INLINE_SIZE = 256;
+
+    /** Result of {@link #compareInline} if the inlined key bytes are not enough to compare the rows. */
+    private static final int INLINE_TIE = Integer.MIN_VALUE;
+
     private final int partId;
 
     /**
@@ -61,6 +74,8 @@ public class TableTree extends BplusTree<TableSearchRow, TableDataRow> {
      * @param reuseList Reuse list.
      * @param partId Partition id.
      * @param initNew {@code True} if new tree should be created.
+     * @param inlineSize Number of the key bytes to store in the tree pages for each row if a new tree is created, an existing tree keeps
+     *      the inline size it was created with.
      */
     public TableTree(
             int grpId,
@@ -71,7 +86,8 @@ public class TableTree extends BplusTree<TableSearchRow, TableDataRow> {
             long metaPageId,
             @Nullable ReuseList reuseList,
             int partId,
-            boolean initNew
+            boolean initNew,
+            int inlineSize
     ) throws IgniteInternalCheckedException {
         super(
                 "TableTree_" + grpId,
@@ -87,9 +103,36 @@ public class TableTree extends BplusTree<TableSearchRow, TableDataRow> {
 
         this.partId = partId;
 
-        setIos(TableInnerIo.VERSIONS, TableLeafIo.VERSIONS, TableMetaIo.VERSIONS);
+        if (!initNew) {
+            inlineSize = readInlineSize();
+        }
+
+        setIos(TableInnerIo.versions(inlineSize), TableLeafIo.versions(inlineSize), TableMetaIo.VERSIONS);
 
-        initTree(initNew);
+        initTree(initNew, inlineSize);
+    }
+
+    /**
+     * Reads the inline size of the existing tree from its meta page.
+     *
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private int readInlineSize() throws IgniteInternalCheckedException {
+        long metaPage = acquirePage(metaPageId);
+
+        try {
+            long pageAddr = readLock(metaPageId, metaPage);
+
+            assert pageAddr != 0L : metaPageId;
+
+            try {
+                return TableMetaIo.VERSIONS.forPage(pageAddr).getInlineSize(pageAddr);
+            } finally {
+                readUnlock(metaPageId, metaPage, pageAddr);
+            }
+        } finally {
+            releasePage(metaPageId, metaPage);
+        }
     }
 
     /** {@inheritDoc} */
@@ -105,7 +148,64 @@ public class TableTree extends BplusTree<TableSearchRow, TableDataRow> {
 
         int cmp = Integer.compare(rowIo.hash(pageAddr, idx), row.hash());
 
-        return cmp != 0 ? cmp : compareRows(rowIo.link(pageAddr, idx), row);
+        if (cmp != 0) {
+            return cmp;
+        }
+
+        if (rowIo.inlineSize() != 0) {
+            cmp = compareInline(rowIo, pageAddr, idx, row);
+
+            if (cmp != INLINE_TIE) {
+                return cmp;
+            }
+        }
+
+        return compareRows(rowIo.link(pageAddr, idx), row);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean canCompareOptimistically(BplusIo<TableSearchRow> io, long pageAddr, int idx, TableSearchRow row) {
+        RowIo rowIo = (RowIo) io;
+
+        // Rows with equal hashes are compared by the inlined key bytes, and by the keys from the data pages if those are not enough.
+        return rowIo.hash(pageAddr, idx) != row.hash()
+                || rowIo.inlineSize() != 0 && compareInline(rowIo, pageAddr, idx, row) != INLINE_TIE;
+    }
+
+    /**
+     * Compares the key bytes inlined into the tree page with the key of the row, in the order of {@link #ROW_ORDER}.
+     *
+     * @param io IO.
+     * @param pageAddr Page address.
+     * @param idx Index of row in the given buffer.
+     * @param row Lookup row.
+     * @return Comparison result, or {@link #INLINE_TIE} if the inlined bytes are equal to the beginning of a longer key.
+     */
+    private static int compareInline(RowIo io, long pageAddr, int idx, TableSearchRow row) {
+        ByteBuffer key = row.key();
+
+        int keySize = io.keySize(pageAddr, idx);
+
+        int cmp = Integer.compare(keySize, key.limit());
+
+        if (cmp != 0) {
+            return cmp;
+        }
+
+        int len = Math.min(keySize, io.inlineSize());
+
+        int off = io.inlineKeyOffset(idx);
+
+        for (int i = 0; i < len; i++) {
+            cmp = Byte.compare(getByte(pageAddr, off + i), key.get(i));
+
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+
+        return len == keySize ? 0 : INLINE_TIE;
     }
 
     /** {@inheritDoc} */
@@ -119,6 +219,25 @@ public class TableTree extends BplusTree<TableSearchRow, TableDataRow> {
         return getRowByLink(link, hash, FULL);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void prefetchRows(BplusIo<TableSearchRow> io, long pageAddr, int startIdx, int endIdx) {
+        RowIo rowIo = (RowIo) io;
+
+        long prevPageId = 0;
+
+        for (int idx = startIdx; idx < endIdx; idx++) {
+            long pageId = pageId(rowIo.link(pageAddr, idx));
+
+            // Rows inserted one after another are usually stored in the same data page.
+            if (pageId != prevPageId) {
+                prefetchPage(pageId);
+
+                prevPageId = pageId;
+            }
+        }
+    }
+
     /**
      * Returns a row by link.
      *
@@ -27,6 +27,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.pagememory.tree.IgniteTree;
@@ -50,9 +51,17 @@ import org.jetbrains.annotations.Nullable;
 class VolatilePageMemoryPartitionStorage implements PartitionStorage {
     protected final int partId;
 
-    protected final TableTree tree;
+    /** Table tree, replaced only by the defragmentation of a persistent partition, see {@link PersistentPageMemoryPartitionStorage}. */
+    protected TableTree tree;
 
-    protected final TableFreeList freeList;
+    /** Table free list, replaced along with the {@link #tree}. */
+    protected TableFreeList freeList;
+
+    /** Number of rows, maintained on updates so that {@link #rowsCount()} does not traverse the tree. */
+    protected final AtomicLong rowCount;
+
+    /** Total size of the keys and values of the rows. */
+    protected final AtomicLong rowBytes;
 
     /**
      * Constructor.
@@ -66,12 +75,34 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
             int partId,
             TableFreeList freeList,
             TableTree tree
+    ) throws StorageException {
+        this(partId, freeList, tree, 0, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param partId Partition id.
+     * @param freeList Table free list.
+     * @param tree Table tree.
+     * @param rowCount Initial number of rows.
+     * @param rowBytes Initial total size of the keys and values of the rows.
+     * @throws StorageException If there is an error while creating the partition storage.
+     */
+    protected VolatilePageMemoryPartitionStorage(
+            int partId,
+            TableFreeList freeList,
+            TableTree tree,
+            long rowCount,
+            long rowBytes
     ) throws StorageException {
         assert partId >= 0 && partId < MAX_PARTITION_ID : partId;
 
         this.partId = partId;
         this.freeList = freeList;
         this.tree = tree;
+        this.rowCount = new AtomicLong(rowCount);
+        this.rowBytes = new AtomicLong(rowBytes);
     }
 
     /** {@inheritDoc} */
@@ -114,7 +145,7 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
 
             freeList.insertDataRow(dataRow);
 
-            tree.put(dataRow);
+            onRowChanged(tree.put(dataRow), dataRow);
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error writing row", e);
         }
@@ -129,13 +160,52 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
 
                 freeList.insertDataRow(dataRow);
 
-                tree.put(dataRow);
+                onRowChanged(tree.put(dataRow), dataRow);
             }
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error writing rows", e);
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void bulkLoad(List<? extends DataRow> rows) throws StorageException {
+        try {
+            if (!tree.isEmpty()) {
+                writeAll(rows);
+
+                return;
+            }
+
+            List<TableDataRow> dataRows = new ArrayList<>(rows.size());
+
+            for (DataRow row : rows) {
+                dataRows.add(wrap(row));
+            }
+
+            // Stable sort, so that the last of the rows with the same key is the one that is kept.
+            dataRows.sort(TableTree.ROW_ORDER);
+
+            List<TableDataRow> uniqueRows = new ArrayList<>(dataRows.size());
+
+            for (int i = 0; i < dataRows.size(); i++) {
+                if (i == dataRows.size() - 1 || TableTree.ROW_ORDER.compare(dataRows.get(i), dataRows.get(i + 1)) != 0) {
+                    uniqueRows.add(dataRows.get(i));
+                }
+            }
+
+            freeList.insertDataRows(uniqueRows);
+
+            tree.bulkLoad(uniqueRows.iterator());
+
+            for (TableDataRow row : uniqueRows) {
+                onRowChanged(null, row);
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error loading rows", e);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public Collection<DataRow> insertAll(List<? extends DataRow> rows) throws StorageException {
@@ -155,6 +225,8 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
 
                 if (insertClosure.oldRow != null) {
                     cantInsert.add(row);
+                } else {
+                    onRowChanged(null, dataRow);
                 }
             }
         } catch (IgniteInternalCheckedException e) {
@@ -174,6 +246,8 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
 
             if (removed != null) {
                 freeList.removeDataRowByLink(removed.link());
+
+                onRowChanged(removed, null);
             }
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error removing row", e);
@@ -191,6 +265,8 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
 
                 if (removed != null) {
                     freeList.removeDataRowByLink(removed.link());
+
+                    onRowChanged(removed, null);
                 } else {
                     skippedRows.add(key);
                 }
@@ -223,6 +299,8 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
                     skipped.add(keyValue);
                 } else {
                     freeList.removeDataRowByLink(removeExactClosure.foundRow.link());
+
+                    onRowChanged(removeExactClosure.foundRow, null);
                 }
             }
         } catch (IgniteInternalCheckedException e) {
@@ -235,10 +313,16 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
     /** {@inheritDoc} */
     @Override
     public <T> @Nullable T invoke(SearchRow key, InvokeClosure<T> clo) throws StorageException {
-        IgniteTree.InvokeClosure<TableDataRow> treeClosure = new IgniteTree.InvokeClosure<>() {
+        var treeClosure = new IgniteTree.InvokeClosure<TableDataRow>() {
+            @Nullable TableDataRow oldRow;
+
+            @Nullable TableDataRow newRow;
+
             /** {@inheritDoc} */
             @Override
             public void call(@Nullable TableDataRow oldRow) {
+                this.oldRow = oldRow;
+
                 clo.call(wrap(oldRow));
             }
 
@@ -259,6 +343,8 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
                     throw new IgniteInternalException(e);
                 }
 
+                this.newRow = dataRow;
+
                 return dataRow;
             }
 
@@ -285,6 +371,21 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
 
         try {
             tree.invoke(wrap(key), null, treeClosure);
+
+            switch (clo.operationType()) {
+                case WRITE:
+                    onRowChanged(treeClosure.oldRow, treeClosure.newRow);
+
+                    break;
+
+                case REMOVE:
+                    onRowChanged(treeClosure.oldRow, null);
+
+                    break;
+
+                default:
+                    break;
+            }
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error invoking a closure for a row", e);
         }
@@ -365,11 +466,26 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
         throw new UnsupportedOperationException("Snapshots are not supported yet.");
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Cursor<DataRow> scanSnapshot(Path snapshotPath) throws StorageException {
+        throw new UnsupportedOperationException("Snapshots are not supported yet.");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeSnapshot(Path snapshotPath, Iterator<? extends DataRow> rows) throws StorageException {
+        throw new UnsupportedOperationException("Snapshots are not supported yet.");
+    }
+
     /** {@inheritDoc} */
     @Override
     public void destroy() throws StorageException {
         try {
             tree.destroy();
+
+            rowCount.set(0);
+            rowBytes.set(0);
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error while destroying data", e);
         }
@@ -378,11 +494,39 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
     /** {@inheritDoc} */
     @Override
     public long rowsCount() {
-        try {
-            return tree.size();
-        } catch (IgniteInternalCheckedException e) {
-            throw new StorageException("Error occurred while fetching the size.", e);
+        return rowCount.get();
+    }
+
+    /**
+     * Returns the total size of the keys and values of the rows in the partition.
+     *
+     * @return Size in bytes.
+     */
+    public long rowsBytes() {
+        return rowBytes.get();
+    }
+
+    /**
+     * Updates the row counters after a row is inserted, replaced or removed.
+     *
+     * @param oldRow Previous row, {@code null} if there was no row.
+     * @param newRow New row, {@code null} if the row has been removed.
+     */
+    protected void onRowChanged(@Nullable TableDataRow oldRow, @Nullable TableDataRow newRow) {
+        int rowsDelta = (newRow == null ? 0 : 1) - (oldRow == null ? 0 : 1);
+        long bytesDelta = payloadSize(newRow) - payloadSize(oldRow);
+
+        if (rowsDelta != 0) {
+            rowCount.addAndGet(rowsDelta);
         }
+
+        if (bytesDelta != 0) {
+            rowBytes.addAndGet(bytesDelta);
+        }
+    }
+
+    private static long payloadSize(@Nullable TableDataRow row) {
+        return row == null ? 0 : row.key().limit() + row.value().limit();
     }
 
     /** {@inheritDoc} */
@@ -397,11 +541,11 @@ class VolatilePageMemoryPartitionStorage implements PartitionStorage {
         return new TableSearchRow(StorageUtils.hashCode(key), key);
     }
 
-    private static TableDataRow wrap(DataRow dataRow) {
+    private TableDataRow wrap(DataRow dataRow) {
         ByteBuffer key = dataRow.key();
         ByteBuffer value = dataRow.value();
 
-        return new TableDataRow(StorageUtils.hashCode(key), key, value);
+        return new TableDataRow(StorageUtils.hashCode(key), key, value, partId);
     }
 
     private static @Nullable DataRow wrap(TableDataRow tableDataRow) {
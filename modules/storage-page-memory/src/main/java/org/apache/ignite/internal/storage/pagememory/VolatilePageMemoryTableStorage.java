@@ -25,6 +25,7 @@ import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.configuration.schemas.table.TableView;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryDataStorageView;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 
 /**
@@ -86,7 +87,8 @@ class VolatilePageMemoryTableStorage extends AbstractPageMemoryTableStorage {
                     dataRegion.pageMemory().allocatePage(grpId, partId, FLAG_AUX),
                     freeList,
                     partId,
-                    true
+                    true,
+                    ((PageMemoryDataStorageView) tableView.dataStorage()).inlineSize()
             );
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException(
@@ -26,6 +26,7 @@ import org.apache.ignite.configuration.RootKey;
 import org.apache.ignite.configuration.annotation.ConfigurationType;
 import org.apache.ignite.configuration.validation.Validator;
 import org.apache.ignite.internal.configuration.ConfigurationModule;
+import org.apache.ignite.internal.pagememory.configuration.schema.MappedFileMemoryAllocatorConfigurationSchema;
 import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorConfigurationSchema;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryDataStorageConfigurationSchema;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryStorageEngineConfiguration;
@@ -51,7 +52,8 @@ public class PageMemoryStorageEngineDistributedConfigurationModule implements Co
     public Collection<Class<?>> polymorphicSchemaExtensions() {
         return List.of(
                 PageMemoryDataStorageConfigurationSchema.class,
-                UnsafeMemoryAllocatorConfigurationSchema.class
+                UnsafeMemoryAllocatorConfigurationSchema.class,
+                MappedFileMemoryAllocatorConfigurationSchema.class
         );
     }
 
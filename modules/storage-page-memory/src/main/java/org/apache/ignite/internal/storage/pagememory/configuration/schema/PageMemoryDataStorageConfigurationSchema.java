@@ -18,10 +18,12 @@
 package org.apache.ignite.internal.storage.pagememory.configuration.schema;
 
 import static org.apache.ignite.internal.storage.pagememory.PageMemoryStorageEngine.ENGINE_NAME;
+import static org.apache.ignite.internal.storage.pagememory.TableTree.MAX_INLINE_SIZE;
 import static org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryStorageEngineConfigurationSchema.DEFAULT_DATA_REGION_NAME;
 
 import org.apache.ignite.configuration.annotation.PolymorphicConfigInstance;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.Range;
 import org.apache.ignite.configuration.schemas.store.DataStorageConfigurationSchema;
 import org.apache.ignite.internal.storage.pagememory.PageMemoryStorageEngine;
 import org.apache.ignite.internal.storage.pagememory.configuration.PageMemoryDataRegionName;
@@ -35,4 +37,12 @@ public class PageMemoryDataStorageConfigurationSchema extends DataStorageConfigu
     @Value(hasDefault = true)
     @PageMemoryDataRegionName
     public String dataRegion = DEFAULT_DATA_REGION_NAME;
+
+    /**
+     * Number of the key bytes stored in the tree pages for each row, {@code 0} to store only the key hashes. Keys that fit into the inline
+     * size are compared without reading the data pages. Applies to the partitions created after the change.
+     */
+    @Range(min = 0, max = MAX_INLINE_SIZE)
+    @Value(hasDefault = true)
+    public int inlineSize = 16;
 }
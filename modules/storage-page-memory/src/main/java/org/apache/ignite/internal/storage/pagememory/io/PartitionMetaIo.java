@@ -33,6 +33,10 @@ public class PartitionMetaIo extends PageIo {
 
     private static final int REUSE_LIST_ROOT_PAGE_ID_OFF = TREE_ROOT_PAGE_ID_OFF + Long.BYTES;
 
+    private static final int ROW_COUNT_OFF = REUSE_LIST_ROOT_PAGE_ID_OFF + Long.BYTES;
+
+    private static final int ROW_BYTES_OFF = ROW_COUNT_OFF + Long.BYTES;
+
     /** Page IO type. */
     public static final short T_TABLE_PARTITION_META_IO = 7;
 
@@ -55,6 +59,8 @@ public class PartitionMetaIo extends PageIo {
 
         setTreeRootPageId(pageAddr, 0);
         setReuseListRootPageId(pageAddr, 0);
+        setRowCount(pageAddr, 0);
+        setRowBytes(pageAddr, 0);
     }
 
     /**
@@ -99,12 +105,56 @@ public class PartitionMetaIo extends PageIo {
         return getLong(pageAddr, REUSE_LIST_ROOT_PAGE_ID_OFF);
     }
 
+    /**
+     * Sets the number of rows in the partition.
+     *
+     * @param pageAddr Page address.
+     * @param rowCount Number of rows.
+     */
+    public void setRowCount(long pageAddr, long rowCount) {
+        assertPageType(pageAddr);
+
+        putLong(pageAddr, ROW_COUNT_OFF, rowCount);
+    }
+
+    /**
+     * Returns the number of rows in the partition.
+     *
+     * @param pageAddr Page address.
+     */
+    public long getRowCount(long pageAddr) {
+        return getLong(pageAddr, ROW_COUNT_OFF);
+    }
+
+    /**
+     * Sets the total size of the keys and values of the rows in the partition.
+     *
+     * @param pageAddr Page address.
+     * @param rowBytes Size in bytes.
+     */
+    public void setRowBytes(long pageAddr, long rowBytes) {
+        assertPageType(pageAddr);
+
+        putLong(pageAddr, ROW_BYTES_OFF, rowBytes);
+    }
+
+    /**
+     * Returns the total size of the keys and values of the rows in the partition.
+     *
+     * @param pageAddr Page address.
+     */
+    public long getRowBytes(long pageAddr) {
+        return getLong(pageAddr, ROW_BYTES_OFF);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void printPage(long addr, int pageSize, IgniteStringBuilder sb) {
         sb.app("TablePartitionMeta [").nl()
                 .app("treeRootPageId=").appendHex(getTreeRootPageId(addr)).nl()
                 .app(", reuseListRootPageId=").appendHex(getReuseListRootPageId(addr)).nl()
+                .app(", rowCount=").app(getRowCount(addr)).nl()
+                .app(", rowBytes=").app(getRowBytes(addr)).nl()
                 .app(']');
     }
 }
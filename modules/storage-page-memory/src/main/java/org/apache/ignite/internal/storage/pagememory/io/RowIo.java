@@ -36,4 +36,24 @@ public interface RowIo {
      * @param idx Index.
      */
     int hash(long pageAddr, int idx);
+
+    /**
+     * Returns the number of the key bytes stored in the page for each row, {@code 0} if the keys are not inlined.
+     */
+    int inlineSize();
+
+    /**
+     * Returns the key size of the row in the page by index, stored only if the keys are inlined.
+     *
+     * @param pageAddr Page address.
+     * @param idx Index.
+     */
+    int keySize(long pageAddr, int idx);
+
+    /**
+     * Returns the offset of the inlined key bytes of the row by index.
+     *
+     * @param idx Index.
+     */
+    int inlineKeyOffset(int idx);
 }
@@ -17,12 +17,17 @@
 
 package org.apache.ignite.internal.storage.pagememory.io;
 
+import static org.apache.ignite.internal.pagememory.util.PageUtils.copyMemory;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.getInt;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.getLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putByteBuffer;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.putInt;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
+import static org.apache.ignite.internal.storage.pagememory.TableTree.MAX_INLINE_SIZE;
 import static org.apache.ignite.internal.storage.pagememory.TableTree.RowData.KEY_ONLY;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import org.apache.ignite.internal.pagememory.io.IoVersions;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
@@ -34,44 +39,89 @@ import org.apache.ignite.lang.IgniteInternalCheckedException;
 /**
  * IO routines for {@link TableTree} leaf pages.
  *
- * <p>Structure: hash(int) + link(long).
+ * <p>Structure: hash(int) + link(long), followed by keySize(int) + the first {@link #inlineSize()} bytes of the key if the keys are
+ * inlined. Each inline size has its own page IO type.
  */
 public class TableLeafIo extends BplusLeafIo<TableSearchRow> implements RowIo {
     private static final int LINK_OFFSET = 4;
 
+    private static final int KEY_SIZE_OFFSET = LINK_OFFSET + Long.BYTES;
+
+    private static final int INLINE_KEY_OFFSET = KEY_SIZE_OFFSET + Integer.BYTES;
+
     /** Page IO type. */
     public static final short T_TABLE_LEAF_IO = 5;
 
+    /** First page IO type of the pages with inlined keys, the pages with N bytes of the keys have type {@code START + N - 1}. */
+    public static final short T_TABLE_INLINE_LEAF_IO_START = 20000;
+
     /** I/O versions. */
     public static final IoVersions<TableLeafIo> VERSIONS = new IoVersions<>(new TableLeafIo(1));
 
+    /** I/O versions of the pages with inlined keys, by inline size minus one. */
+    private static final IoVersions<TableLeafIo>[] INLINE_VERSIONS = new IoVersions[MAX_INLINE_SIZE];
+
+    static {
+        for (int i = 0; i < MAX_INLINE_SIZE; i++) {
+            INLINE_VERSIONS[i] = new IoVersions<>(new TableLeafIo(T_TABLE_INLINE_LEAF_IO_START + i, 1, i + 1));
+        }
+    }
+
+    /** Number of the key bytes stored for each row. */
+    private final int inlineSize;
+
     /**
      * Constructor.
      *
      * @param ver Page format version.
      */
     protected TableLeafIo(int ver) {
+        this(T_TABLE_LEAF_IO, ver, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param type Page type.
+     * @param ver Page format version.
+     * @param inlineSize Number of the key bytes stored for each row.
+     */
+    protected TableLeafIo(int type, int ver, int inlineSize) {
         super(
-                T_TABLE_LEAF_IO,
+                type,
                 ver,
                 Integer.BYTES + Long.BYTES // hash(int) + link(long);
+                        + (inlineSize == 0 ? 0 : Integer.BYTES + inlineSize) // keySize(int) + key bytes;
         );
+
+        this.inlineSize = inlineSize;
+    }
+
+    /**
+     * Returns I/O versions of the pages with the given inline size.
+     *
+     * @param inlineSize Number of the key bytes stored for each row, from {@code 0} to {@link TableTree#MAX_INLINE_SIZE}.
+     */
+    public static IoVersions<TableLeafIo> versions(int inlineSize) {
+        assert inlineSize >= 0 && inlineSize <= MAX_INLINE_SIZE : inlineSize;
+
+        return inlineSize == 0 ? VERSIONS : INLINE_VERSIONS[inlineSize - 1];
+    }
+
+    /**
+     * Returns I/O versions of the pages with inlined keys of all the inline sizes.
+     */
+    public static List<IoVersions<TableLeafIo>> inlineVersions() {
+        return List.of(INLINE_VERSIONS);
     }
 
     /** {@inheritDoc} */
     @Override
     public void store(long dstPageAddr, int dstIdx, BplusIo<TableSearchRow> srcIo, long srcPageAddr, int srcIdx) {
         assertPageType(dstPageAddr);
+        assert srcIo.getItemSize() == getItemSize() : srcIo;
 
-        int srcHash = hash(srcPageAddr, srcIdx);
-        long srcLink = link(srcPageAddr, srcIdx);
-
-        int dstOff = offset(dstIdx);
-
-        putInt(dstPageAddr, dstOff, srcHash);
-        dstOff += LINK_OFFSET;
-
-        putLong(dstPageAddr, dstOff, srcLink);
+        copyMemory(srcPageAddr, srcIo.offset(srcIdx), dstPageAddr, offset(dstIdx), getItemSize());
     }
 
     /** {@inheritDoc} */
@@ -80,9 +130,23 @@ public class TableLeafIo extends BplusLeafIo<TableSearchRow> implements RowIo {
         assertPageType(pageAddr);
 
         putInt(pageAddr, off, row.hash());
-        off += LINK_OFFSET;
+        putLong(pageAddr, off + LINK_OFFSET, row.link());
+
+        if (inlineSize != 0) {
+            ByteBuffer key = row.key();
 
-        putLong(pageAddr, off, row.link());
+            int keySize = key.limit();
+
+            putInt(pageAddr, off + KEY_SIZE_OFFSET, keySize);
+
+            key.limit(Math.min(keySize, inlineSize));
+
+            try {
+                putByteBuffer(pageAddr, off + INLINE_KEY_OFFSET, key);
+            } finally {
+                key.limit(keySize);
+            }
+        }
     }
 
     /** {@inheritDoc} */
@@ -109,4 +173,25 @@ public class TableLeafIo extends BplusLeafIo<TableSearchRow> implements RowIo {
 
         return getInt(pageAddr, offset(idx));
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public int inlineSize() {
+        return inlineSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int keySize(long pageAddr, int idx) {
+        assert inlineSize != 0 : "Keys are not inlined";
+        assert idx < getCount(pageAddr) : idx;
+
+        return getInt(pageAddr, offset(idx) + KEY_SIZE_OFFSET);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int inlineKeyOffset(int idx) {
+        return offset(idx) + INLINE_KEY_OFFSET;
+    }
 }
@@ -17,19 +17,31 @@
 
 package org.apache.ignite.internal.storage.pagememory.io;
 
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getShort;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putShort;
+
 import org.apache.ignite.internal.pagememory.io.IoVersions;
 import org.apache.ignite.internal.pagememory.tree.io.BplusMetaIo;
 import org.apache.ignite.internal.storage.pagememory.TableTree;
 
 /**
  * IO routines for {@link TableTree} meta pages.
+ *
+ * <p>Since version 2 the number of levels is limited by {@link #MAX_LEVELS_V2} and the inline size of the tree is stored after the page
+ * IDs of the levels.
  */
 public class TableMetaIo extends BplusMetaIo {
+    /** Maximum number of levels of a tree since version 2. */
+    private static final int MAX_LEVELS_V2 = 64;
+
+    /** Offset where the inline size is stored since version 2. */
+    private static final int INLINE_SIZE_OFFSET = REFS_OFFSET + MAX_LEVELS_V2 * Long.BYTES;
+
     /** Page IO type. */
     public static final short T_TABLE_META_IO = 3;
 
     /** I/O versions. */
-    public static final IoVersions<TableMetaIo> VERSIONS = new IoVersions<>(new TableMetaIo(1));
+    public static final IoVersions<TableMetaIo> VERSIONS = new IoVersions<>(new TableMetaIo(1), new TableMetaIo(2));
 
     /**
      * Constructor.
@@ -39,4 +51,30 @@ public class TableMetaIo extends BplusMetaIo {
     protected TableMetaIo(int ver) {
         super(T_TABLE_META_IO, ver);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int getMaxLevels(int pageSize) {
+        int maxLevels = super.getMaxLevels(pageSize);
+
+        return getVersion() == 1 ? maxLevels : Math.min(maxLevels, MAX_LEVELS_V2);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getInlineSize(long pageAddr) {
+        return getVersion() == 1 ? 0 : getShort(pageAddr, INLINE_SIZE_OFFSET);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setInlineSize(long pageAddr, int inlineSize) {
+        if (getVersion() == 1) {
+            super.setInlineSize(pageAddr, inlineSize);
+        } else {
+            assertPageType(pageAddr);
+
+            putShort(pageAddr, INLINE_SIZE_OFFSET, (short) inlineSize);
+        }
+    }
 }
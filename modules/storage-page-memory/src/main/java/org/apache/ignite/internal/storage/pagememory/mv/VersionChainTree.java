@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.storage.pagememory.mv;
 
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
 
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.internal.pagememory.PageMemory;
@@ -102,6 +103,12 @@ public class VersionChainTree extends BplusTree<VersionChainLink, VersionChain>
         return Long.compare(thisLink, thatLink);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean canCompareOptimistically(BplusIo<VersionChainLink> io, long pageAddr, int idx, VersionChainLink row) {
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override
     public VersionChain getRow(BplusIo<VersionChainLink> io, long pageAddr, int idx, Object x) throws IgniteInternalCheckedException {
@@ -111,4 +118,23 @@ public class VersionChainTree extends BplusTree<VersionChainLink, VersionChain>
 
         return dataPageReader.getRowByLink(link);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void prefetchRows(BplusIo<VersionChainLink> io, long pageAddr, int startIdx, int endIdx) {
+        VersionChainIo rowIo = (VersionChainIo) io;
+
+        long prevPageId = 0;
+
+        for (int idx = startIdx; idx < endIdx; idx++) {
+            long pageId = pageId(rowIo.link(pageAddr, idx));
+
+            // Version chains created one after another usually share a data page.
+            if (pageId != prevPageId) {
+                prefetchPage(pageId);
+
+                prevPageId = pageId;
+            }
+        }
+    }
 }
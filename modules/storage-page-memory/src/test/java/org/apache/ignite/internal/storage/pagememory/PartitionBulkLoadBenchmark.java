@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.INDEX_PARTITION;
+import static org.apache.ignite.internal.util.Constants.GiB;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
+import org.apache.ignite.internal.pagememory.impl.PageMemoryNoStoreImpl;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.storage.DataRow;
+import org.apache.ignite.internal.storage.basic.SimpleDataRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of loading rows into an empty {@link VolatilePageMemoryPartitionStorage}: {@link VolatilePageMemoryPartitionStorage#bulkLoad}
+ * fills the data pages and the tree leaves one after another, {@link VolatilePageMemoryPartitionStorage#write} inserts the rows one by one.
+ *
+ * <p>Each iteration loads the same random rows into a new partition, so the time of an iteration is the time of loading all the rows.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+public class PartitionBulkLoadBenchmark {
+    private static final int PAGE_SIZE = 16 * 1024;
+
+    private static final int GROUP_ID = 1;
+
+    private static final int PARTITION_ID = 0;
+
+    /** Default number of the key bytes inlined into the tree pages. */
+    private static final int INLINE_SIZE = 16;
+
+    /** Number of the loaded rows. */
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    /** Key size in bytes. */
+    @Param({"8", "32"})
+    public int keySize;
+
+    private List<DataRow> dataRows;
+
+    private PageMemoryNoStoreImpl pageMem;
+
+    private VolatilePageMemoryPartitionStorage partition;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(PartitionBulkLoadBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Generates the rows.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+
+        dataRows = new ArrayList<>(rows);
+
+        for (int i = 0; i < rows; i++) {
+            byte[] key = new byte[keySize];
+
+            random.nextBytes(key);
+
+            dataRows.add(new SimpleDataRow(key, new byte[16]));
+        }
+    }
+
+    /**
+     * Creates an empty partition.
+     */
+    @Setup(Level.Iteration)
+    public void setUpPartition() throws Exception {
+        UnsafeMemoryAllocatorView memoryAllocatorView = mock(UnsafeMemoryAllocatorView.class);
+
+        PageMemoryDataRegionView dataRegionView = mock(PageMemoryDataRegionView.class);
+
+        when(dataRegionView.name()).thenReturn("benchmark");
+        when(dataRegionView.memoryAllocator()).thenReturn(memoryAllocatorView);
+        when(dataRegionView.initSize()).thenReturn(GiB);
+        when(dataRegionView.maxSize()).thenReturn(GiB);
+
+        PageMemoryDataRegionConfiguration dataRegionCfg = mock(PageMemoryDataRegionConfiguration.class);
+
+        when(dataRegionCfg.value()).thenReturn(dataRegionView);
+
+        PageIoRegistry ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        pageMem = new PageMemoryNoStoreImpl(dataRegionCfg, ioRegistry, PAGE_SIZE);
+
+        pageMem.start();
+
+        TableFreeList freeList = new TableFreeList(
+                GROUP_ID,
+                pageMem,
+                PageLockListenerNoOp.INSTANCE,
+                pageMem.allocatePage(GROUP_ID, INDEX_PARTITION, FLAG_AUX),
+                true,
+                null,
+                PageEvictionTrackerNoOp.INSTANCE,
+                IoStatisticsHolderNoOp.INSTANCE
+        );
+
+        TableTree tree = new TableTree(
+                GROUP_ID,
+                "benchmark",
+                pageMem,
+                PageLockListenerNoOp.INSTANCE,
+                new AtomicLong(),
+                pageMem.allocatePage(GROUP_ID, PARTITION_ID, FLAG_AUX),
+                freeList,
+                PARTITION_ID,
+                true,
+                INLINE_SIZE
+        );
+
+        partition = new VolatilePageMemoryPartitionStorage(PARTITION_ID, freeList, tree);
+    }
+
+    /**
+     * Stops the page memory.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDownPartition() {
+        partition.close();
+
+        partition.freeList.close();
+
+        pageMem.stop(true);
+    }
+
+    /**
+     * Loads the rows with a bulk load.
+     */
+    @Benchmark
+    public void bulkLoad() {
+        partition.bulkLoad(dataRows);
+    }
+
+    /**
+     * Loads the rows one by one.
+     */
+    @Benchmark
+    public void write() {
+        for (DataRow row : dataRows) {
+            partition.write(row);
+        }
+    }
+}
@@ -28,9 +28,12 @@ import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.MappedFileMemoryAllocatorChange;
+import org.apache.ignite.internal.pagememory.configuration.schema.MappedFileMemoryAllocatorConfigurationSchema;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
 import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorConfigurationSchema;
+import org.apache.ignite.internal.pagememory.mem.file.MappedFileMemoryAllocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -39,7 +42,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
  */
 @ExtendWith(ConfigurationExtension.class)
 public class PersistentPageMemoryDataRegionTest {
-    @InjectConfiguration(polymorphicExtensions = UnsafeMemoryAllocatorConfigurationSchema.class)
+    @InjectConfiguration(
+            polymorphicExtensions = {UnsafeMemoryAllocatorConfigurationSchema.class, MappedFileMemoryAllocatorConfigurationSchema.class}
+    )
     private PageMemoryDataRegionConfiguration dataRegionConfig;
 
     @Test
@@ -80,6 +85,24 @@ public class PersistentPageMemoryDataRegionTest {
         assertEquals(2L * GiB, calculateCheckpointBufferSize(dataRegionConfig.value()));
     }
 
+    @Test
+    void testMappedFileMemoryAllocatorChunkSizeLimit() throws Exception {
+        dataRegionConfig.change(c -> c
+                .changeMaxSize(10L * GiB)
+                .changeMemoryAllocator(allocator -> allocator.convert(MappedFileMemoryAllocatorChange.class))
+        ).get(1, TimeUnit.SECONDS);
+
+        // Segments can't be larger than a single mapping.
+        assertArrayEquals(
+                fill(new long[10], MappedFileMemoryAllocator.MAX_CHUNK_SIZE),
+                calculateSegmentSizes(dataRegionConfig.value(), 2)
+        );
+
+        assertArrayEquals(fill(new long[16], (10L * GiB) / 16), calculateSegmentSizes(dataRegionConfig.value(), 16));
+
+        assertEquals(MappedFileMemoryAllocator.MAX_CHUNK_SIZE, calculateCheckpointBufferSize(dataRegionConfig.value()));
+    }
+
     private long[] fill(long[] arr, long v) {
         Arrays.fill(arr, v);
 
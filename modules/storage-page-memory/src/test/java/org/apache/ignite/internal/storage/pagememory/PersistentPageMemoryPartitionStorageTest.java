@@ -17,14 +17,21 @@
 
 package org.apache.ignite.internal.storage.pagememory;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -38,6 +45,8 @@ import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAl
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.storage.AbstractPartitionStorageTest;
 import org.apache.ignite.internal.storage.DataRow;
+import org.apache.ignite.internal.storage.PartitionStorage;
+import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.TableStorage;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryDataStorageChange;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryDataStorageConfigurationSchema;
@@ -46,12 +55,12 @@ import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMe
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PageMemoryStorageEngineConfigurationSchema;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -82,7 +91,6 @@ public class PersistentPageMemoryPartitionStorageTest extends AbstractPartitionS
 
     private TableStorage table;
 
-    @WorkDirectory
     private Path workDir;
 
     @BeforeAll
@@ -93,7 +101,9 @@ public class PersistentPageMemoryPartitionStorageTest extends AbstractPartitionS
     }
 
     @BeforeEach
-    void setUp() throws Exception {
+    void setUp(@WorkDirectory Path workDir) throws Exception {
+        this.workDir = workDir;
+
         String nodeName = "test-node";
 
         longJvmPauseDetector = new LongJvmPauseDetector(nodeName);
@@ -139,22 +149,41 @@ public class PersistentPageMemoryPartitionStorageTest extends AbstractPartitionS
         ioRegistry = null;
     }
 
-    /** {@inheritDoc} */
     @Test
-    @Override
-    @Disabled("https://issues.apache.org/jira/browse/IGNITE-16644")
-    public void testSnapshot(@WorkDirectory Path workDir) throws Exception {
-        super.testSnapshot(workDir);
+    void testReadAfterRestart() throws Exception {
+        List<DataRow> rows = IntStream.range(0, 100)
+                .mapToObj(i -> dataRow(KEY + i, VALUE + i))
+                .collect(Collectors.toList());
+
+        storage.writeAll(rows);
+
+        engine
+                .checkpointManager()
+                .forceCheckpoint("before_stop_engine")
+                .futureFor(FINISHED)
+                .get(1, TimeUnit.SECONDS);
+
+        tearDown();
+
+        setUp(workDir);
+
+        rows.forEach(this::checkHasSameEntry);
     }
 
     @Test
-    void testReadAfterRestart() throws Exception {
+    void testRowsCountAfterRestart() throws Exception {
         List<DataRow> rows = IntStream.range(0, 100)
                 .mapToObj(i -> dataRow(KEY + i, VALUE + i))
                 .collect(Collectors.toList());
 
         storage.writeAll(rows);
 
+        storage.removeAll(IntStream.range(0, 10).mapToObj(i -> searchRow(KEY + i)).collect(Collectors.toList()));
+
+        long rowsBytes = ((PersistentPageMemoryPartitionStorage) storage).rowsBytes();
+
+        assertEquals(90, storage.rowsCount());
+
         engine
                 .checkpointManager()
                 .forceCheckpoint("before_stop_engine")
@@ -163,8 +192,137 @@ public class PersistentPageMemoryPartitionStorageTest extends AbstractPartitionS
 
         tearDown();
 
-        setUp();
+        setUp(workDir);
 
-        rows.forEach(this::checkHasSameEntry);
+        assertEquals(90, storage.rowsCount());
+        assertEquals(rowsBytes, ((PersistentPageMemoryPartitionStorage) storage).rowsBytes());
+    }
+
+    @Test
+    void testIncrementalSnapshot() throws Exception {
+        // Not the first partition, its rows must be stored in its own partition file.
+        PartitionStorage partition = table.getOrCreatePartition(1);
+
+        String bigValue = VALUE.repeat(1000);
+
+        Map<String, String> rows = new HashMap<>();
+
+        IntStream.range(0, 2000).forEach(i -> rows.put(KEY + i, (i % 100 == 0 ? bigValue : VALUE) + i));
+
+        rows.forEach((key, value) -> partition.write(dataRow(key, value)));
+
+        Path baseDir = workDir.resolve("snapshot-base");
+        Path deltaDir = workDir.resolve("snapshot-delta");
+
+        partition.snapshot(baseDir).get(5, TimeUnit.SECONDS);
+
+        Map<String, String> baseRows = new HashMap<>(rows);
+
+        IntStream.range(0, 10).forEach(i -> rows.put(KEY + i, "updated" + i));
+        IntStream.range(10, 20).forEach(i -> rows.remove(KEY + i));
+
+        IntStream.range(0, 10).forEach(i -> partition.write(dataRow(KEY + i, "updated" + i)));
+        IntStream.range(10, 20).forEach(i -> partition.remove(searchRow(KEY + i)));
+
+        partition.snapshot(deltaDir).get(5, TimeUnit.SECONDS);
+
+        Path deltaFile = deltaDir.resolve(String.format(PartitionSnapshotReader.DELTA_FILE_TEMPLATE, 1));
+
+        assertTrue(Files.exists(deltaDir.resolve(PartitionSnapshotReader.BASE_FILE_NAME)));
+        assertTrue(Files.size(deltaFile) < Files.size(baseDir.resolve(PartitionSnapshotReader.BASE_FILE_NAME)));
+
+        // Changes made after the snapshot are not visible in it.
+        partition.remove(searchRow(KEY + 100));
+
+        assertEquals(baseRows, readSnapshot(partition, baseDir));
+        assertEquals(rows, readSnapshot(partition, deltaDir));
+
+        partition.restoreSnapshot(deltaDir);
+
+        assertEquals(rows.size(), partition.rowsCount());
+
+        rows.forEach((key, value) -> assertEquals(value, new String(partition.read(searchRow(key)).valueBytes(), UTF_8)));
+    }
+
+    @Test
+    void testFailedSnapshotRestoreKeepsPartition() throws Exception {
+        PartitionStorage partition = table.getOrCreatePartition(1);
+
+        IntStream.range(0, 100).forEach(i -> partition.write(dataRow(KEY + i, VALUE + i)));
+
+        Path snapshotDir = Files.createDirectories(workDir.resolve("snapshot-unsorted"));
+
+        // The same row twice, the rows are not in the tree order.
+        partition.writeSnapshot(snapshotDir, List.of(dataRow(KEY, VALUE), dataRow(KEY, VALUE)).iterator());
+
+        assertThrows(StorageException.class, () -> partition.restoreSnapshot(snapshotDir));
+
+        assertEquals(100, partition.rowsCount());
+
+        IntStream.range(0, 100).forEach(i -> assertEquals(VALUE + i, new String(partition.read(searchRow(KEY + i)).valueBytes(), UTF_8)));
+    }
+
+    @Test
+    void testDefragmentation() throws Exception {
+        PartitionStorage partition = table.getOrCreatePartition(1);
+
+        String bigValue = VALUE.repeat(100);
+
+        Map<String, String> rows = new HashMap<>();
+
+        IntStream.range(0, 5000).forEach(i -> rows.put(KEY + i, bigValue + i));
+
+        rows.forEach((key, value) -> partition.write(dataRow(key, value)));
+
+        // Every tenth row is left, so most of the data pages are almost empty.
+        IntStream.range(0, 5000).filter(i -> i % 10 != 0).forEach(i -> {
+            rows.remove(KEY + i);
+
+            partition.remove(searchRow(KEY + i));
+        });
+
+        long rowsBytes = ((PersistentPageMemoryPartitionStorage) partition).rowsBytes();
+
+        long reclaimedBytes = ((PersistentPageMemoryTableStorage) table).defragmentPartition(1);
+
+        assertThat(reclaimedBytes, is(greaterThan(0L)));
+
+        assertEquals(rows.size(), partition.rowsCount());
+        assertEquals(rowsBytes, ((PersistentPageMemoryPartitionStorage) partition).rowsBytes());
+
+        rows.forEach((key, value) -> assertEquals(value, new String(partition.read(searchRow(key)).valueBytes(), UTF_8)));
+
+        // The defragmented partition is updated as usual.
+        partition.write(dataRow(KEY + 1, VALUE));
+        partition.remove(searchRow(KEY + 0));
+
+        rows.put(KEY + 1, VALUE);
+        rows.remove(KEY + 0);
+
+        engine
+                .checkpointManager()
+                .forceCheckpoint("before_stop_engine")
+                .futureFor(FINISHED)
+                .get(1, TimeUnit.SECONDS);
+
+        tearDown();
+
+        setUp(workDir);
+
+        PartitionStorage restartedPartition = table.getOrCreatePartition(1);
+
+        assertEquals(rows.size(), restartedPartition.rowsCount());
+
+        rows.forEach((key, value) -> assertEquals(value, new String(restartedPartition.read(searchRow(key)).valueBytes(), UTF_8)));
+    }
+
+    private static Map<String, String> readSnapshot(PartitionStorage partition, Path snapshotDir) throws Exception {
+        Map<String, String> rows = new HashMap<>();
+
+        try (Cursor<DataRow> cursor = partition.scanSnapshot(snapshotDir)) {
+            cursor.forEachRemaining(row -> rows.put(new String(row.keyBytes(), UTF_8), new String(row.valueBytes(), UTF_8)));
+        }
+
+        return rows;
     }
 }
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.INDEX_PARTITION;
+import static org.apache.ignite.internal.util.Constants.GiB;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
+import org.apache.ignite.internal.pagememory.impl.PageMemoryNoStoreImpl;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.storage.StorageUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Point lookup latency benchmark of {@link TableTree} with and without the keys inlined into the tree pages.
+ *
+ * <p>The tree and the data pages of the rows are much larger than the CPU caches, so every data page read to compare the keys is a cache
+ * miss. The keys are random, so the rows are ordered by the hashes, and the keys are compared to confirm the match in the leaf.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+public class TableTreeLookupBenchmark {
+    private static final int PAGE_SIZE = 16 * 1024;
+
+    private static final int GROUP_ID = 1;
+
+    private static final int PARTITION_ID = 0;
+
+    /** Number of rows in the tree. */
+    @Param({"4000000"})
+    public int rows;
+
+    /** Key size in bytes. */
+    @Param({"8", "32"})
+    public int keySize;
+
+    /** Number of the key bytes inlined into the tree pages. */
+    @Param({"0", "32"})
+    public int inlineSize;
+
+    private PageMemoryNoStoreImpl pageMem;
+
+    private TableFreeList freeList;
+
+    private TableTree tree;
+
+    private byte[][] keys;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(TableTreeLookupBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Fills the tree.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        UnsafeMemoryAllocatorView memoryAllocatorView = mock(UnsafeMemoryAllocatorView.class);
+
+        PageMemoryDataRegionView dataRegionView = mock(PageMemoryDataRegionView.class);
+
+        when(dataRegionView.name()).thenReturn("benchmark");
+        when(dataRegionView.memoryAllocator()).thenReturn(memoryAllocatorView);
+        when(dataRegionView.initSize()).thenReturn(2L * GiB);
+        when(dataRegionView.maxSize()).thenReturn(2L * GiB);
+
+        PageMemoryDataRegionConfiguration dataRegionCfg = mock(PageMemoryDataRegionConfiguration.class);
+
+        when(dataRegionCfg.value()).thenReturn(dataRegionView);
+
+        PageIoRegistry ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        pageMem = new PageMemoryNoStoreImpl(dataRegionCfg, ioRegistry, PAGE_SIZE);
+
+        pageMem.start();
+
+        freeList = new TableFreeList(
+                GROUP_ID,
+                pageMem,
+                PageLockListenerNoOp.INSTANCE,
+                pageMem.allocatePage(GROUP_ID, INDEX_PARTITION, FLAG_AUX),
+                true,
+                null,
+                PageEvictionTrackerNoOp.INSTANCE,
+                IoStatisticsHolderNoOp.INSTANCE
+        );
+
+        tree = new TableTree(
+                GROUP_ID,
+                "benchmark",
+                pageMem,
+                PageLockListenerNoOp.INSTANCE,
+                new AtomicLong(),
+                pageMem.allocatePage(GROUP_ID, PARTITION_ID, FLAG_AUX),
+                freeList,
+                PARTITION_ID,
+                true,
+                inlineSize
+        );
+
+        Random random = new Random(0);
+
+        keys = new byte[rows][keySize];
+
+        for (byte[] key : keys) {
+            random.nextBytes(key);
+
+            ByteBuffer keyBuf = ByteBuffer.wrap(key);
+
+            TableDataRow row = new TableDataRow(StorageUtils.hashCode(keyBuf), keyBuf, ByteBuffer.wrap(new byte[16]), PARTITION_ID);
+
+            freeList.insertDataRow(row);
+
+            tree.put(row);
+        }
+    }
+
+    /**
+     * Stops the page memory.
+     */
+    @TearDown
+    public void tearDown() {
+        tree.close();
+
+        freeList.close();
+
+        pageMem.stop(true);
+    }
+
+    /**
+     * Looks up a random row.
+     */
+    @Benchmark
+    public TableDataRow findOne() throws Exception {
+        ByteBuffer key = ByteBuffer.wrap(keys[ThreadLocalRandom.current().nextInt(rows)]);
+
+        return tree.findOne(new TableSearchRow(StorageUtils.hashCode(key), key));
+    }
+}
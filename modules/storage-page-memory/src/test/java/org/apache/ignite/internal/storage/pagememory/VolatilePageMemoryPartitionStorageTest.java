@@ -18,15 +18,22 @@
 package org.apache.ignite.internal.storage.pagememory;
 
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.apache.ignite.configuration.schemas.store.UnknownDataStorageConfigurationSchema;
 import org.apache.ignite.configuration.schemas.table.HashIndexConfigurationSchema;
 import org.apache.ignite.configuration.schemas.table.TableConfiguration;
@@ -137,6 +144,14 @@ public class VolatilePageMemoryPartitionStorageTest extends AbstractPartitionSto
         super.testSnapshot(workDir);
     }
 
+    /** {@inheritDoc} */
+    @Test
+    @Override
+    @Disabled("https://issues.apache.org/jira/browse/IGNITE-16644")
+    public void testSnapshotStream(@WorkDirectory Path workDir) throws Exception {
+        super.testSnapshotStream(workDir);
+    }
+
     /**
      * Checks that fragments are written and read correctly.
      *
@@ -155,6 +170,55 @@ public class VolatilePageMemoryPartitionStorageTest extends AbstractPartitionSto
         assertArrayEquals(dataRow.valueBytes(), read.valueBytes());
     }
 
+    /**
+     * Checks that the rows with equal key hashes are read and removed correctly, both when the keys fit into the inline size and when
+     * they don't.
+     */
+    @Test
+    void testEqualHashes() {
+        int inlineSize = ((PageMemoryDataStorageView) tableCfg.dataStorage().value()).inlineSize();
+
+        assertThat(inlineSize, is(greaterThan(0)));
+
+        // "Aa" and "BB" have equal hashes, so do all the keys of the same number of such blocks.
+        List<String> keys = new ArrayList<>();
+
+        keys.addAll(equalHashKeys(inlineSize / 2 / 2));
+        keys.addAll(equalHashKeys(inlineSize / 2 + 2));
+
+        for (String key : keys) {
+            storage.write(dataRow(key, "value_" + key));
+        }
+
+        for (String key : keys) {
+            assertArrayEquals(("value_" + key).getBytes(StandardCharsets.UTF_8), storage.read(searchRow(key)).valueBytes());
+        }
+
+        for (int i = 0; i < keys.size(); i += 2) {
+            storage.remove(searchRow(keys.get(i)));
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            DataRow read = storage.read(searchRow(keys.get(i)));
+
+            if (i % 2 == 0) {
+                assertNull(read);
+            } else {
+                assertArrayEquals(("value_" + keys.get(i)).getBytes(StandardCharsets.UTF_8), read.valueBytes());
+            }
+        }
+    }
+
+    private static List<String> equalHashKeys(int blocks) {
+        List<String> keys = List.of("");
+
+        for (int i = 0; i < blocks; i++) {
+            keys = keys.stream().flatMap(key -> Stream.of(key + "Aa", key + "BB")).collect(toList());
+        }
+
+        return keys;
+    }
+
     private String createRandomString(int len) {
         return ThreadLocalRandom.current().ints(len).mapToObj(i -> String.valueOf(Math.abs(i % 10))).collect(joining(""));
     }
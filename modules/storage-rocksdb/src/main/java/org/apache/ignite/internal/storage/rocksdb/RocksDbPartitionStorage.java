@@ -26,6 +26,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -75,6 +76,9 @@ class RocksDbPartitionStorage implements PartitionStorage {
     /** Data column family. */
     private final ColumnFamily data;
 
+    /** Key range of the partition in the data column family. */
+    private final ColumnFamilyRange snapshotRange;
+
     /** Snapshot manager. */
     private final RocksSnapshotManager snapshotManager;
 
@@ -100,7 +104,7 @@ class RocksDbPartitionStorage implements PartitionStorage {
         this.db = db;
         this.data = columnFamily;
 
-        ColumnFamilyRange snapshotRange = range(columnFamily, partitionStartPrefix(), partitionEndPrefix());
+        this.snapshotRange = range(columnFamily, partitionStartPrefix(), partitionEndPrefix());
 
         this.snapshotManager = new RocksSnapshotManager(db, List.of(snapshotRange), threadPool);
     }
@@ -185,6 +189,13 @@ class RocksDbPartitionStorage implements PartitionStorage {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void bulkLoad(List<? extends DataRow> rows) throws StorageException {
+        // Rows are written with a single write batch, there is nothing else to speed up.
+        writeAll(rows);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Collection<DataRow> insertAll(List<? extends DataRow> rows) throws StorageException {
@@ -393,6 +404,19 @@ class RocksDbPartitionStorage implements PartitionStorage {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Cursor<DataRow> scanSnapshot(Path snapshotPath) throws StorageException {
+        return snapshotManager.readSnapshot(snapshotPath, snapshotRange, RocksDbPartitionStorage::decodeRow);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeSnapshot(Path snapshotPath, Iterator<? extends DataRow> rows) throws StorageException {
+        // Rows come in the order of the partition keys of the sender, which are the same as the keys of this partition.
+        snapshotManager.writeSnapshot(snapshotPath, snapshotRange, rows, this::partitionKey, DataRow::valueBytes);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() throws Exception {
@@ -460,12 +484,19 @@ class RocksDbPartitionStorage implements PartitionStorage {
 
         @Override
         protected DataRow decodeEntry(byte[] key, byte[] value) {
-            byte[] rowKey = Arrays.copyOfRange(key, PARTITION_KEY_PREFIX_SIZE, key.length);
-
-            return new SimpleDataRow(rowKey, value);
+            return decodeRow(key, value);
         }
     }
 
+    /**
+     * Converts a key stored in this partition storage and its value into a data row.
+     */
+    private static DataRow decodeRow(byte[] key, byte[] value) {
+        byte[] rowKey = Arrays.copyOfRange(key, PARTITION_KEY_PREFIX_SIZE, key.length);
+
+        return new SimpleDataRow(rowKey, value);
+    }
+
     /**
      * Creates a key used in this partition storage by prepending a partition ID (to distinguish between different partition data)
      * and the key's hash (an optimisation).
@@ -32,6 +32,7 @@ import org.apache.ignite.internal.schema.SchemaMismatchException;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.table.TableRow;
 import org.apache.ignite.table.Tuple;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -60,8 +61,24 @@ public class TupleMarshallerImpl implements TupleMarshaller {
     /** {@inheritDoc} */
     @Override
     public Row marshal(@NotNull Tuple tuple) throws TupleMarshallerException {
+        return marshal(schemaReg.schema(), tuple);
+    }
+
+    /**
+     * Marshals a tuple to a row of the given schema version rather than of the latest one.
+     *
+     * @param schema Schema.
+     * @param tuple  Record tuple.
+     * @return Table row with columns set from given tuples.
+     * @throws TupleMarshallerException If failed to marshal tuple.
+     */
+    public Row marshal(SchemaDescriptor schema, @NotNull Tuple tuple) throws TupleMarshallerException {
         try {
-            SchemaDescriptor schema = schemaReg.schema();
+            Row row = binaryRow(schema, tuple);
+
+            if (row != null && row.hasValue() == schema.valueColumns().length() > 0) {
+                return row;
+            }
 
             InternalTuple keyTuple0 = toInternalTuple(schema, tuple, true);
             InternalTuple valTuple0 = toInternalTuple(schema, tuple, false);
@@ -81,9 +98,20 @@ public class TupleMarshallerImpl implements TupleMarshaller {
     /** {@inheritDoc} */
     @Override
     public Row marshal(@NotNull Tuple keyTuple, @Nullable Tuple valTuple) throws TupleMarshallerException {
-        try {
-            SchemaDescriptor schema = schemaReg.schema();
+        return marshal(schemaReg.schema(), keyTuple, valTuple);
+    }
 
+    /**
+     * Marshals a key-value pair to a row of the given schema version rather than of the latest one.
+     *
+     * @param schema   Schema.
+     * @param keyTuple Key tuple.
+     * @param valTuple Value tuple.
+     * @return Table row with columns set from given tuples.
+     * @throws TupleMarshallerException If failed to marshal tuple.
+     */
+    public Row marshal(SchemaDescriptor schema, @NotNull Tuple keyTuple, @Nullable Tuple valTuple) throws TupleMarshallerException {
+        try {
             InternalTuple keyTuple0 = toInternalTuple(schema, keyTuple, true);
             InternalTuple valTuple0 = toInternalTuple(schema, valTuple, false);
 
@@ -145,6 +173,12 @@ public class TupleMarshallerImpl implements TupleMarshaller {
         try {
             final SchemaDescriptor schema = schemaReg.schema();
 
+            Row row = binaryRow(schema, keyTuple);
+
+            if (row != null && !row.hasValue()) {
+                return row;
+            }
+
             InternalTuple keyTuple0 = toInternalTuple(schema, keyTuple, true);
 
             if (keyTuple0.knownColumns() < keyTuple.columnCount()) {
@@ -167,6 +201,20 @@ public class TupleMarshallerImpl implements TupleMarshaller {
         }
     }
 
+    /**
+     * Gets the row backing the tuple if it can be used without marshalling, e.g. a row received from a client in the binary form.
+     *
+     * @param schema Schema.
+     * @param tuple  Tuple.
+     * @return Unmodified row of the given schema, or {@code null}.
+     */
+    private static @Nullable Row binaryRow(SchemaDescriptor schema, Tuple tuple) {
+        Row row = tuple instanceof TableRow ? ((TableRow) tuple).row() : null;
+
+        // Upgraded rows expose the new schema over the data of the old one.
+        return row != null && row.getClass() == Row.class && row.schema() == schema ? row : null;
+    }
+
     /**
      * Analyze tuple and wrap into internal tuple.
      *
@@ -17,11 +17,28 @@
 
 package org.apache.ignite.internal.table;
 
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.streamer.StreamerPartitionAwarenessProvider;
+import org.apache.ignite.internal.streamer.StreamerSubscriber;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.raft.client.Peer;
+import org.apache.ignite.table.DataStreamerOptions;
+import org.apache.ignite.tx.Transaction;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Base class for Table views.
@@ -79,4 +96,163 @@ abstract class AbstractTableView {
         //TODO: IGNITE-14500 Replace with public exception with an error code (or unwrap?).
         return new IgniteException(th);
     }
+
+    /**
+     * Runs an invoke processor against the rows of the keys, see {@link InternalTable#invokeAll}.
+     *
+     * @param keys    Keys.
+     * @param keyRows Key rows in the order of the keys.
+     * @param proc    Invoke processor.
+     * @param tx      The transaction.
+     * @param <K> Key type.
+     * @param <T> Processor result type.
+     * @return Future with the processor results mapped to the keys.
+     */
+    protected <K, T extends Serializable> CompletableFuture<Map<K, T>> invokeAll(
+            Collection<K> keys,
+            Collection<BinaryRowEx> keyRows,
+            InvokeRowProcessor<?, ?, T> proc,
+            @Nullable Transaction tx
+    ) {
+        return tbl.invokeAll(keyRows, proc, (InternalTransaction) tx).thenApply(res -> {
+            Map<K, T> map = new LinkedHashMap<>(IgniteUtils.capacity(keys.size()));
+
+            Iterator<T> resIt = res.iterator();
+
+            for (K key : keys) {
+                map.put(key, resIt.next());
+            }
+
+            return map;
+        });
+    }
+
+    /**
+     * Streams the items into the table, see {@link org.apache.ignite.table.DataStreamerTarget}. The items are marshalled
+     * as they are received, the batches are written by {@link InternalTable#upsertAllCommitted}.
+     *
+     * @param publisher Producer of the items.
+     * @param options Options, {@code null} to use the defaults.
+     * @param marshaller Converts an item to a row.
+     * @param <T> Item type.
+     * @return Future representing pending completion of the streaming.
+     */
+    protected <T> CompletableFuture<Void> streamData(
+            Flow.Publisher<T> publisher,
+            @Nullable DataStreamerOptions options,
+            Function<T, BinaryRowEx> marshaller
+    ) {
+        Objects.requireNonNull(publisher);
+
+        DataStreamerOptions opts = options == null ? new DataStreamerOptions() : options;
+
+        StreamerSubscriber<BinaryRowEx, Integer> subscriber = new StreamerSubscriber<>(
+                (partition, batch) -> tbl.upsertAllCommitted(batch),
+                new PartitionAwarenessProvider(tbl),
+                opts.batchSize(),
+                opts.perNodeParallelOperations(),
+                opts.autoFlushFrequency()
+        );
+
+        publisher.subscribe(new MarshallingSubscriber<>(subscriber, marshaller));
+
+        return subscriber.completionFuture();
+    }
+
+    /**
+     * Maps the rows to the partitions of the table and the partitions to the nodes of their raft leaders.
+     */
+    private static class PartitionAwarenessProvider implements StreamerPartitionAwarenessProvider<BinaryRowEx, Integer> {
+        /** Internal table. */
+        private final InternalTable tbl;
+
+        /**
+         * Constructor.
+         *
+         * @param tbl Internal table.
+         */
+        PartitionAwarenessProvider(InternalTable tbl) {
+            this.tbl = tbl;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Integer partition(BinaryRowEx row) {
+            return tbl.partition(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public @Nullable String node(Integer partition) {
+            Peer leader = tbl.partitionRaftGroupService(partition).leader();
+
+            return leader == null ? null : leader.address().toString();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CompletableFuture<Void> refreshAsync() {
+            // Raft group services track the leaders.
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Marshals the published items before passing them to the streamer.
+     *
+     * @param <T> Item type.
+     */
+    private static class MarshallingSubscriber<T> implements Flow.Subscriber<T> {
+        /** Streamer subscriber. */
+        private final Flow.Subscriber<BinaryRowEx> delegate;
+
+        /** Marshaller. */
+        private final Function<T, BinaryRowEx> marshaller;
+
+        /**
+         * Constructor.
+         *
+         * @param delegate Streamer subscriber.
+         * @param marshaller Marshaller.
+         */
+        MarshallingSubscriber(Flow.Subscriber<BinaryRowEx> delegate, Function<T, BinaryRowEx> marshaller) {
+            this.delegate = delegate;
+            this.marshaller = marshaller;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            delegate.onSubscribe(subscription);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onNext(T item) {
+            BinaryRowEx row;
+
+            try {
+                row = marshaller.apply(Objects.requireNonNull(item));
+            } catch (Throwable e) {
+                // The streamer cancels the subscription.
+                delegate.onError(e);
+
+                return;
+            }
+
+            delegate.onNext(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onError(Throwable throwable) {
+            delegate.onError(throwable);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onComplete() {
+            delegate.onComplete();
+        }
+    }
 }
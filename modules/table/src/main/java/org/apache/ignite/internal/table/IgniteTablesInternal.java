@@ -19,6 +19,7 @@ package org.apache.ignite.internal.table;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.NodeStoppingException;
 
@@ -73,4 +74,20 @@ public interface IgniteTablesInternal {
      *                         </ul>
      */
     CompletableFuture<TableImpl> tableImplAsync(String name);
+
+    /**
+     * Adds a listener which is notified with the table id when the partition assignment of a table changes: partitions are
+     * reassigned, or a leader of a partition is elected on the local node.
+     *
+     * @param listener Listener.
+     */
+    void addAssignmentsChangeListener(Consumer<UUID> listener);
+
+    /**
+     * Removes the assignments change listener.
+     *
+     * @param listener Listener.
+     * @return {@code true} if the listener was removed.
+     */
+    boolean removeAssignmentsChangeListener(Consumer<UUID> listener);
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.table;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -95,6 +96,16 @@ public interface InternalTable extends AutoCloseable {
      */
     CompletableFuture<Void> upsertAll(Collection<BinaryRowEx> rows, @Nullable InternalTransaction tx);
 
+    /**
+     * Asynchronously inserts rows into the table or replaces the existed ones outside of a transaction. The rows of each
+     * partition are written and committed by a single command, so the batch doesn't pay for the transaction enlistment and
+     * finish, and the rows are locked only while the command is applied. Used by the data streamer.
+     *
+     * @param rows Rows to insert into the table.
+     * @return Future representing pending completion of the operation.
+     */
+    CompletableFuture<Void> upsertAllCommitted(Collection<BinaryRowEx> rows);
+
     /**
      * Asynchronously inserts a row into the table or replaces if exists and return replaced previous row.
      *
@@ -196,6 +207,39 @@ public interface InternalTable extends AutoCloseable {
      */
     CompletableFuture<Collection<BinaryRow>> deleteAllExact(Collection<BinaryRowEx> rows, @Nullable InternalTransaction tx);
 
+    /**
+     * Asynchronously runs an invoke processor against the row associated with the key. The processor is executed by the partition
+     * leader under the key write lock, which is held by the transaction until the new row is written, so the read and the update of
+     * the row are atomic.
+     *
+     * @param keyRow Row with key columns set.
+     * @param proc   Invoke processor.
+     * @param tx     The transaction.
+     * @param <T>    Processor result type.
+     * @return Future representing pending completion of the operation.
+     */
+    <T extends Serializable> CompletableFuture<T> invoke(
+            BinaryRowEx keyRow,
+            InvokeRowProcessor<?, ?, T> proc,
+            @Nullable InternalTransaction tx
+    );
+
+    /**
+     * Asynchronously runs an invoke processor against the rows associated with the keys. The keys are grouped by partitions, so the
+     * processor is sent once per partition. The new rows are written only after the processor has succeeded for all the keys.
+     *
+     * @param keyRows Rows with key columns set.
+     * @param proc    Invoke processor.
+     * @param tx      The transaction.
+     * @param <T>     Processor result type.
+     * @return Future representing pending completion of the operation, the results follow the order of the keys.
+     */
+    <T extends Serializable> CompletableFuture<List<T>> invokeAll(
+            Collection<BinaryRowEx> keyRows,
+            InvokeRowProcessor<?, ?, T> proc,
+            @Nullable InternalTransaction tx
+    );
+
     /**
      * Returns a partition for a key.
      *
@@ -239,6 +283,14 @@ public interface InternalTable extends AutoCloseable {
      */
     ClusterNode leaderAssignment(int partition);
 
+    /**
+     * Gets the leaders of the partitions without blocking. Leaders which are not known yet are refreshed first.
+     *
+     * @return Future with a list where on the i-th place resides the leader of the i-th partition, or {@code null} if the
+     *         leader can't be determined.
+     */
+    CompletableFuture<List<ClusterNode>> leaderAssignmentsAsync();
+
     /**
      * Returns raft group client for corresponding partition.
      *
@@ -0,0 +1,483 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table;
+
+import java.io.Serializable;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.marshaller.DefaultMarshallerFactory;
+import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
+import org.apache.ignite.internal.schema.marshaller.RecordMarshaller;
+import org.apache.ignite.internal.schema.marshaller.TupleMarshallerImpl;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.table.InvocationContext;
+import org.apache.ignite.table.InvokeProcessor;
+import org.apache.ignite.table.InvokeProcessorException;
+import org.apache.ignite.table.Tuple;
+import org.apache.ignite.table.mapper.Mapper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Adapts a user {@link InvokeProcessor} to the binary rows of a partition.
+ *
+ * <p>The processor is shipped to the partition leader within a Raft command and is applied to the row stored under the key. Only the
+ * resulting row is replicated, so the user processor runs once per key. The rows are (un)marshalled with the newest schema version among
+ * the one of the caller and the one of the stored row rather than with the latest schema known to the leader.
+ *
+ * @param <K> Key object type.
+ * @param <V> Value object type.
+ * @param <T> Processor result type.
+ */
+public abstract class InvokeRowProcessor<K, V, T extends Serializable> implements Serializable {
+    /** Serial version uid. */
+    private static final long serialVersionUID = 0L;
+
+    /** Empty arguments. */
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /** User processor. */
+    private final InvokeProcessor<K, V, T> proc;
+
+    /** Processor arguments. */
+    private final Serializable[] args;
+
+    /** Schema version of the caller, key rows don't carry it. */
+    private final int schemaVer;
+
+    /**
+     * Constructor.
+     *
+     * @param schemaVer Schema version of the caller.
+     * @param proc      User processor.
+     * @param args      Processor arguments.
+     */
+    private InvokeRowProcessor(int schemaVer, @NotNull InvokeProcessor<K, V, T> proc, @Nullable Serializable[] args) {
+        this.schemaVer = schemaVer;
+        this.proc = proc;
+        this.args = args;
+    }
+
+    /**
+     * Creates a processor for tuple records.
+     *
+     * @param schemaVer Schema version of the caller.
+     * @param proc      User processor.
+     * @param <T> Processor result type.
+     * @return Row processor.
+     */
+    public static <T extends Serializable> InvokeRowProcessor<Tuple, Tuple, T> forTuples(
+            int schemaVer,
+            InvokeProcessor<Tuple, Tuple, T> proc
+    ) {
+        return new TupleRecordProcessor<>(schemaVer, proc);
+    }
+
+    /**
+     * Creates a processor for tuple key-value pairs.
+     *
+     * @param schemaVer Schema version of the caller.
+     * @param proc      User processor.
+     * @param args      Processor arguments.
+     * @param <T> Processor result type.
+     * @return Row processor.
+     */
+    public static <T extends Serializable> InvokeRowProcessor<Tuple, Tuple, T> forTuples(
+            int schemaVer,
+            InvokeProcessor<Tuple, Tuple, T> proc,
+            Serializable[] args
+    ) {
+        return new TupleKeyValueProcessor<>(schemaVer, proc, args);
+    }
+
+    /**
+     * Creates a processor for mapped records.
+     *
+     * @param schemaVer Schema version of the caller.
+     * @param proc      User processor.
+     * @param mapper    Record mapper.
+     * @param <R> Record type.
+     * @param <T> Processor result type.
+     * @return Row processor.
+     */
+    public static <R, T extends Serializable> InvokeRowProcessor<R, R, T> forRecords(
+            int schemaVer,
+            InvokeProcessor<R, R, T> proc,
+            Mapper<R> mapper
+    ) {
+        return new RecordProcessor<>(schemaVer, proc, mapper);
+    }
+
+    /**
+     * Creates a processor for mapped key-value pairs.
+     *
+     * @param schemaVer Schema version of the caller.
+     * @param proc      User processor.
+     * @param args      Processor arguments.
+     * @param keyMapper Key mapper.
+     * @param valMapper Value mapper.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @param <T> Processor result type.
+     * @return Row processor.
+     */
+    public static <K, V, T extends Serializable> InvokeRowProcessor<K, V, T> forKeyValues(
+            int schemaVer,
+            InvokeProcessor<K, V, T> proc,
+            Serializable[] args,
+            Mapper<K> keyMapper,
+            Mapper<V> valMapper
+    ) {
+        return new KeyValueProcessor<>(schemaVer, proc, args, keyMapper, valMapper);
+    }
+
+    /**
+     * Runs the processor against the row associated with the key.
+     *
+     * @param keyRow    Key row.
+     * @param row       Current row or {@code null} if there is no row for the key.
+     * @param schemaReg Schema registry of the table.
+     * @return Invocation result.
+     * @throws InvokeProcessorException If the processor failed or a new value doesn't match the schema.
+     */
+    public Result<T> process(BinaryRow keyRow, @Nullable BinaryRow row, SchemaRegistry schemaReg) {
+        try {
+            int ver = row == null ? schemaVer : Math.max(schemaVer, row.schemaVersion());
+
+            SchemaDescriptor schema = schemaReg.schema(ver);
+
+            K key = unmarshalKey(schemaReg.resolve(keyRow, schema));
+            V val = row == null || !row.hasValue() ? null : unmarshalValue(schemaReg.resolve(row, schema));
+
+            Context ctx = new Context(key, val);
+
+            T res = proc.process(ctx);
+
+            if (!ctx.updated) {
+                return new Result<>(res, false, null);
+            }
+
+            if (ctx.newVal == null) {
+                return new Result<>(res, true, null);
+            }
+
+            BinaryRow newRow = marshal(schema, schemaReg, key, ctx.newVal);
+
+            if (!newRow.keySlice().equals(keyRow.keySlice())) {
+                throw new InvokeProcessorException("Invoke processor must not change the key columns.");
+            }
+
+            return new Result<>(res, true, newRow);
+        } catch (InvokeProcessorException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InvokeProcessorException("Failed to run invoke processor: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Unmarshals a key object from the row.
+     *
+     * @param row Row upgraded to the invocation schema.
+     * @return Key object.
+     * @throws IgniteInternalCheckedException If failed to unmarshal.
+     */
+    protected abstract K unmarshalKey(Row row) throws IgniteInternalCheckedException;
+
+    /**
+     * Unmarshals a value object from the row.
+     *
+     * @param row Row upgraded to the invocation schema.
+     * @return Value object.
+     * @throws IgniteInternalCheckedException If failed to unmarshal.
+     */
+    protected abstract V unmarshalValue(Row row) throws IgniteInternalCheckedException;
+
+    /**
+     * Marshals a new value set by the processor.
+     *
+     * @param schema    Invocation schema.
+     * @param schemaReg Schema registry.
+     * @param key       Key object.
+     * @param val       New value object.
+     * @return Row.
+     * @throws IgniteInternalCheckedException If failed to marshal.
+     */
+    protected abstract BinaryRow marshal(SchemaDescriptor schema, SchemaRegistry schemaReg, K key, @NotNull V val)
+            throws IgniteInternalCheckedException;
+
+    /**
+     * Outcome of the invocation.
+     *
+     * @param <T> Processor result type.
+     */
+    public static final class Result<T extends Serializable> {
+        /** Processor result. */
+        private final T res;
+
+        /** Whether the processor has set a new value. */
+        private final boolean updated;
+
+        /** New row, {@code null} if the row has to be removed. */
+        private final BinaryRow row;
+
+        /**
+         * Constructor.
+         *
+         * @param res     Processor result.
+         * @param updated Whether the processor has set a new value.
+         * @param row     New row.
+         */
+        private Result(T res, boolean updated, @Nullable BinaryRow row) {
+            this.res = res;
+            this.updated = updated;
+            this.row = row;
+        }
+
+        /**
+         * Returns the processor result.
+         *
+         * @return Processor result.
+         */
+        public T result() {
+            return res;
+        }
+
+        /**
+         * Returns {@code true} if the processor has set a new value, so the stored row must be replaced with {@link #row()}.
+         *
+         * @return {@code True} if the row has to be updated.
+         */
+        public boolean updated() {
+            return updated;
+        }
+
+        /**
+         * Returns a new row.
+         *
+         * @return New row or {@code null} if the row has to be removed.
+         */
+        public @Nullable BinaryRow row() {
+            return row;
+        }
+    }
+
+    /**
+     * Invocation context.
+     */
+    private class Context implements InvocationContext<K, V> {
+        /** Key object. */
+        private final K key;
+
+        /** Current value object. */
+        private final V val;
+
+        /** New value object. */
+        private V newVal;
+
+        /** Whether a new value was set. */
+        private boolean updated;
+
+        /**
+         * Constructor.
+         *
+         * @param key Key object.
+         * @param val Current value object.
+         */
+        Context(K key, @Nullable V val) {
+            this.key = key;
+            this.val = val;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object[] args() {
+            return args == null ? NO_ARGS : args;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public K key() {
+            return key;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public V value() {
+            return updated ? newVal : val;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void value(V val) {
+            newVal = val;
+            updated = true;
+        }
+    }
+
+    /**
+     * Processor for tuple records.
+     */
+    private static class TupleRecordProcessor<T extends Serializable> extends InvokeRowProcessor<Tuple, Tuple, T> {
+        /** Serial version uid. */
+        private static final long serialVersionUID = 0L;
+
+        TupleRecordProcessor(int schemaVer, InvokeProcessor<Tuple, Tuple, T> proc) {
+            super(schemaVer, proc, null);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected Tuple unmarshalKey(Row row) {
+            return TableRow.keyTuple(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected Tuple unmarshalValue(Row row) {
+            return TableRow.tuple(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected BinaryRow marshal(SchemaDescriptor schema, SchemaRegistry schemaReg, Tuple key, @NotNull Tuple val)
+                throws IgniteInternalCheckedException {
+            return new TupleMarshallerImpl(schemaReg).marshal(schema, val);
+        }
+    }
+
+    /**
+     * Processor for tuple key-value pairs.
+     */
+    private static class TupleKeyValueProcessor<T extends Serializable> extends InvokeRowProcessor<Tuple, Tuple, T> {
+        /** Serial version uid. */
+        private static final long serialVersionUID = 0L;
+
+        TupleKeyValueProcessor(int schemaVer, InvokeProcessor<Tuple, Tuple, T> proc, Serializable[] args) {
+            super(schemaVer, proc, args);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected Tuple unmarshalKey(Row row) {
+            return TableRow.keyTuple(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected Tuple unmarshalValue(Row row) {
+            return TableRow.valueTuple(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected BinaryRow marshal(SchemaDescriptor schema, SchemaRegistry schemaReg, Tuple key, @NotNull Tuple val)
+                throws IgniteInternalCheckedException {
+            return new TupleMarshallerImpl(schemaReg).marshal(schema, key, val);
+        }
+    }
+
+    /**
+     * Processor for mapped records.
+     */
+    private static class RecordProcessor<R, T extends Serializable> extends InvokeRowProcessor<R, R, T> {
+        /** Serial version uid. */
+        private static final long serialVersionUID = 0L;
+
+        /** Record mapper. */
+        private final Mapper<R> mapper;
+
+        RecordProcessor(int schemaVer, InvokeProcessor<R, R, T> proc, Mapper<R> mapper) {
+            super(schemaVer, proc, null);
+
+            this.mapper = mapper;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected R unmarshalKey(Row row) throws IgniteInternalCheckedException {
+            // Record marshaller reads all the columns, so reuse the key part of a key-value marshaller for a key-only row.
+            KvMarshaller<R, R> marsh = DefaultMarshallerFactory.INSTANCE.create(row.schema(), mapper, mapper);
+
+            return marsh.unmarshalKey(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected R unmarshalValue(Row row) throws IgniteInternalCheckedException {
+            return DefaultMarshallerFactory.INSTANCE.create(row.schema(), mapper).unmarshal(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected BinaryRow marshal(SchemaDescriptor schema, SchemaRegistry schemaReg, R key, @NotNull R val)
+                throws IgniteInternalCheckedException {
+            RecordMarshaller<R> marsh = DefaultMarshallerFactory.INSTANCE.create(schema, mapper);
+
+            return marsh.marshal(val);
+        }
+    }
+
+    /**
+     * Processor for mapped key-value pairs.
+     */
+    private static class KeyValueProcessor<K, V, T extends Serializable> extends InvokeRowProcessor<K, V, T> {
+        /** Serial version uid. */
+        private static final long serialVersionUID = 0L;
+
+        /** Key mapper. */
+        private final Mapper<K> keyMapper;
+
+        /** Value mapper. */
+        private final Mapper<V> valMapper;
+
+        KeyValueProcessor(
+                int schemaVer,
+                InvokeProcessor<K, V, T> proc,
+                Serializable[] args,
+                Mapper<K> keyMapper,
+                Mapper<V> valMapper
+        ) {
+            super(schemaVer, proc, args);
+
+            this.keyMapper = keyMapper;
+            this.valMapper = valMapper;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected K unmarshalKey(Row row) throws IgniteInternalCheckedException {
+            return DefaultMarshallerFactory.INSTANCE.create(row.schema(), keyMapper, valMapper).unmarshalKey(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected V unmarshalValue(Row row) throws IgniteInternalCheckedException {
+            return DefaultMarshallerFactory.INSTANCE.create(row.schema(), keyMapper, valMapper).unmarshalValue(row);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected BinaryRow marshal(SchemaDescriptor schema, SchemaRegistry schemaReg, K key, @NotNull V val)
+                throws IgniteInternalCheckedException {
+            return DefaultMarshallerFactory.INSTANCE.create(schema, keyMapper, valMapper).marshal(key, val);
+        }
+    }
+}
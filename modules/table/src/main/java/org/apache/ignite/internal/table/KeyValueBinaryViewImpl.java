@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.SchemaRegistry;
@@ -35,6 +36,7 @@ import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.NullableValue;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.Tuple;
@@ -179,6 +181,15 @@ public class KeyValueBinaryViewImpl extends AbstractTableView implements KeyValu
         return tbl.upsertAll(rows, (InternalTransaction) tx);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull CompletableFuture<Void> streamData(
+            @NotNull Flow.Publisher<Map.Entry<Tuple, Tuple>> publisher,
+            @Nullable DataStreamerOptions options
+    ) {
+        return streamData(publisher, options, e -> marshal(Objects.requireNonNull(e.getKey()), Objects.requireNonNull(e.getValue())));
+    }
+
     /** {@inheritDoc} */
     @Override
     public Tuple getAndPut(@Nullable Transaction tx, @NotNull Tuple key, @NotNull Tuple val) {
@@ -403,7 +414,7 @@ public class KeyValueBinaryViewImpl extends AbstractTableView implements KeyValu
             InvokeProcessor<Tuple, Tuple, R> proc,
             Serializable... args
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        return sync(invokeAsync(tx, key, proc, args));
     }
 
     /** {@inheritDoc} */
@@ -414,7 +425,9 @@ public class KeyValueBinaryViewImpl extends AbstractTableView implements KeyValu
             InvokeProcessor<Tuple, Tuple, R> proc,
             Serializable... args
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        Row keyRow = marshal(Objects.requireNonNull(key), null);
+
+        return tbl.invoke(keyRow, processor(proc, args), (InternalTransaction) tx);
     }
 
     /** {@inheritDoc} */
@@ -425,7 +438,7 @@ public class KeyValueBinaryViewImpl extends AbstractTableView implements KeyValu
             InvokeProcessor<Tuple, Tuple, R> proc,
             Serializable... args
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        return sync(invokeAllAsync(tx, keys, proc, args));
     }
 
     /** {@inheritDoc} */
@@ -436,7 +449,24 @@ public class KeyValueBinaryViewImpl extends AbstractTableView implements KeyValu
             InvokeProcessor<Tuple, Tuple, R> proc,
             Serializable... args
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        List<BinaryRowEx> keyRows = marshalKeys(Objects.requireNonNull(keys));
+
+        return invokeAll(keys, keyRows, processor(proc, args), tx);
+    }
+
+    /**
+     * Wraps the invoke processor to run against the rows.
+     *
+     * @param proc Invoke processor.
+     * @param args Processor arguments.
+     * @param <R> Processor result type.
+     * @return Row processor.
+     */
+    private <R extends Serializable> InvokeRowProcessor<Tuple, Tuple, R> processor(
+            InvokeProcessor<Tuple, Tuple, R> proc,
+            Serializable[] args
+    ) {
+        return InvokeRowProcessor.forTuples(schemaReg.lastSchemaVersion(), Objects.requireNonNull(proc), args);
     }
 
     /**
@@ -26,20 +26,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.marshaller.DefaultMarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
 import org.apache.ignite.internal.schema.marshaller.MarshallerException;
-import org.apache.ignite.internal.schema.marshaller.reflection.KvMarshallerImpl;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.NullableValue;
 import org.apache.ignite.lang.UnexpectedNullValueException;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.mapper.Mapper;
@@ -57,6 +59,12 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     /** Key-value marshaller. */
     private volatile KvMarshaller<K, V> marsh;
 
+    /** Key class mapper. */
+    private final Mapper<K> keyMapper;
+
+    /** Value class mapper. */
+    private final Mapper<V> valueMapper;
+
     /**
      * Constructor.
      *
@@ -73,7 +81,10 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     ) {
         super(tbl, schemaReg);
 
-        marshallerFactory = (schema) -> new KvMarshallerImpl<>(schema, keyMapper, valueMapper);
+        this.keyMapper = keyMapper;
+        this.valueMapper = valueMapper;
+
+        marshallerFactory = (schema) -> DefaultMarshallerFactory.INSTANCE.create(schema, keyMapper, valueMapper);
     }
 
     /** {@inheritDoc} */
@@ -174,6 +185,15 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
         return tbl.upsertAll(rows, (InternalTransaction) tx);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull CompletableFuture<Void> streamData(
+            @NotNull Flow.Publisher<Map.Entry<K, V>> publisher,
+            @Nullable DataStreamerOptions options
+    ) {
+        return streamData(publisher, options, e -> marshal(Objects.requireNonNull(e.getKey()), e.getValue()));
+    }
+
     /** {@inheritDoc} */
     @Override
     public V getAndPut(@Nullable Transaction tx, @NotNull K key, @NotNull V val) {
@@ -358,7 +378,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
             InvokeProcessor<K, V, R> proc,
             Serializable... args
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        return sync(invokeAsync(tx, key, proc, args));
     }
 
     /** {@inheritDoc} */
@@ -369,7 +389,9 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
             InvokeProcessor<K, V, R> proc,
             Serializable... args
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        BinaryRowEx keyRow = marshal(Objects.requireNonNull(key));
+
+        return tbl.invoke(keyRow, processor(proc, args), (InternalTransaction) tx);
     }
 
     /** {@inheritDoc} */
@@ -380,7 +402,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
             InvokeProcessor<K, V, R> proc,
             Serializable... args
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        return sync(invokeAllAsync(tx, keys, proc, args));
     }
 
     /** {@inheritDoc} */
@@ -391,7 +413,22 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
             InvokeProcessor<K, V, R> proc,
             Serializable... args
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        Collection<BinaryRowEx> keyRows = marshal(Objects.requireNonNull(keys));
+
+        return invokeAll(keys, keyRows, processor(proc, args), tx);
+    }
+
+    /**
+     * Wraps the invoke processor to run against the rows.
+     *
+     * @param proc Invoke processor.
+     * @param args Processor arguments.
+     * @param <R> Processor result type.
+     * @return Row processor.
+     */
+    private <R extends Serializable> InvokeRowProcessor<K, V, R> processor(InvokeProcessor<K, V, R> proc, Serializable[] args) {
+        return InvokeRowProcessor.forKeyValues(
+                schemaReg.lastSchemaVersion(), Objects.requireNonNull(proc), args, keyMapper, valueMapper);
     }
 
     /**
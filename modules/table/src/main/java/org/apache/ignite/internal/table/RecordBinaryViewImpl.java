@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.SchemaRegistry;
@@ -33,6 +34,7 @@ import org.apache.ignite.internal.schema.marshaller.TupleMarshallerImpl;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Tuple;
@@ -119,6 +121,12 @@ public class RecordBinaryViewImpl extends AbstractTableView implements RecordVie
         return tbl.upsertAll(mapToBinary(recs, false), (InternalTransaction) tx);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull CompletableFuture<Void> streamData(@NotNull Flow.Publisher<Tuple> publisher, @Nullable DataStreamerOptions options) {
+        return streamData(publisher, options, rec -> marshal(rec, false));
+    }
+
     /** {@inheritDoc} */
     @Override
     public Tuple getAndUpsert(@Nullable Transaction tx, @NotNull Tuple rec) {
@@ -298,7 +306,7 @@ public class RecordBinaryViewImpl extends AbstractTableView implements RecordVie
             @NotNull Tuple keyRec,
             InvokeProcessor<Tuple, Tuple, T> proc
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        return sync(invokeAsync(tx, keyRec, proc));
     }
 
     /** {@inheritDoc} */
@@ -308,7 +316,9 @@ public class RecordBinaryViewImpl extends AbstractTableView implements RecordVie
             @NotNull Tuple keyRec,
             InvokeProcessor<Tuple, Tuple, T> proc
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        Row keyRow = marshal(Objects.requireNonNull(keyRec), true);
+
+        return tbl.invoke(keyRow, processor(proc), (InternalTransaction) tx);
     }
 
     /** {@inheritDoc} */
@@ -318,7 +328,7 @@ public class RecordBinaryViewImpl extends AbstractTableView implements RecordVie
             @NotNull Collection<Tuple> keyRecs,
             InvokeProcessor<Tuple, Tuple, T> proc
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        return sync(invokeAllAsync(tx, keyRecs, proc));
     }
 
     /** {@inheritDoc} */
@@ -328,7 +338,20 @@ public class RecordBinaryViewImpl extends AbstractTableView implements RecordVie
             @NotNull Collection<Tuple> keyRecs,
             InvokeProcessor<Tuple, Tuple, T> proc
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        Collection<BinaryRowEx> keyRows = mapToBinary(Objects.requireNonNull(keyRecs), true);
+
+        return invokeAll(keyRecs, keyRows, processor(proc), tx);
+    }
+
+    /**
+     * Wraps the invoke processor to run against the rows.
+     *
+     * @param proc Invoke processor.
+     * @param <T> Processor result type.
+     * @return Row processor.
+     */
+    private <T extends Serializable> InvokeRowProcessor<Tuple, Tuple, T> processor(InvokeProcessor<Tuple, Tuple, T> proc) {
+        return InvokeRowProcessor.forTuples(schemaReg.lastSchemaVersion(), Objects.requireNonNull(proc));
     }
 
     /**
@@ -25,17 +25,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.marshaller.DefaultMarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.MarshallerException;
 import org.apache.ignite.internal.schema.marshaller.RecordMarshaller;
-import org.apache.ignite.internal.schema.marshaller.reflection.RecordMarshallerImpl;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.mapper.Mapper;
@@ -53,6 +55,9 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
     /** Record marshaller. */
     private volatile RecordMarshaller<R> marsh;
 
+    /** Record class mapper. */
+    private final Mapper<R> mapper;
+
     /**
      * Constructor.
      *
@@ -63,7 +68,9 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
     public RecordViewImpl(InternalTable tbl, SchemaRegistry schemaReg, Mapper<R> mapper) {
         super(tbl, schemaReg);
 
-        marshallerFactory = (schema) -> new RecordMarshallerImpl<>(schema, mapper);
+        this.mapper = mapper;
+
+        marshallerFactory = (schema) -> DefaultMarshallerFactory.INSTANCE.create(schema, mapper);
     }
 
     /** {@inheritDoc} */
@@ -122,6 +129,12 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
         return tbl.upsertAll(marshal(recs), (InternalTransaction) tx);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @NotNull CompletableFuture<Void> streamData(@NotNull Flow.Publisher<R> publisher, @Nullable DataStreamerOptions options) {
+        return streamData(publisher, options, this::marshal);
+    }
+
     /** {@inheritDoc} */
     @Override
     public R getAndUpsert(@Nullable Transaction tx, @NotNull R rec) {
@@ -280,7 +293,7 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
     /** {@inheritDoc} */
     @Override
     public <T extends Serializable> T invoke(@Nullable Transaction tx, @NotNull R keyRec, InvokeProcessor<R, R, T> proc) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        return sync(invokeAsync(tx, keyRec, proc));
     }
 
     /** {@inheritDoc} */
@@ -290,7 +303,9 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
             @NotNull R keyRec,
             InvokeProcessor<R, R, T> proc
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        BinaryRowEx keyRow = marshalKey(Objects.requireNonNull(keyRec));
+
+        return tbl.invoke(keyRow, processor(proc), (InternalTransaction) tx);
     }
 
     /** {@inheritDoc} */
@@ -300,7 +315,7 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
             @NotNull Collection<R> keyRecs,
             InvokeProcessor<R, R, T> proc
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        return sync(invokeAllAsync(tx, keyRecs, proc));
     }
 
     /** {@inheritDoc} */
@@ -310,7 +325,20 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
             @NotNull Collection<R> keyRecs,
             InvokeProcessor<R, R, T> proc
     ) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        Collection<BinaryRowEx> keyRows = marshalKeys(Objects.requireNonNull(keyRecs));
+
+        return invokeAll(keyRecs, keyRows, processor(proc), tx);
+    }
+
+    /**
+     * Wraps the invoke processor to run against the rows.
+     *
+     * @param proc Invoke processor.
+     * @param <T> Processor result type.
+     * @return Row processor.
+     */
+    private <T extends Serializable> InvokeRowProcessor<R, R, T> processor(InvokeProcessor<R, R, T> proc) {
+        return InvokeRowProcessor.forRecords(schemaReg.lastSchemaVersion(), Objects.requireNonNull(proc), mapper);
     }
 
     /**
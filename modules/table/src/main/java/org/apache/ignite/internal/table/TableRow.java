@@ -22,6 +22,7 @@ import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.table.Tuple;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Row to Tuple adapter.
@@ -68,6 +69,15 @@ public class TableRow extends MutableRowTupleAdapter {
         super(row);
     }
 
+    /**
+     * Returns the underlying row, unless the tuple has been modified.
+     *
+     * @return Row, or {@code null} if the tuple data no longer matches the row.
+     */
+    public @Nullable Row row() {
+        return tuple == null ? row : null;
+    }
+
     /**
      * Key column chunk.
      */
@@ -39,10 +39,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -79,6 +82,7 @@ import org.apache.ignite.internal.metastorage.client.WatchEvent;
 import org.apache.ignite.internal.metastorage.client.WatchListener;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.server.RaftGroupEventsListener;
+import org.apache.ignite.internal.raft.server.RaftGroupOptions;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaManager;
 import org.apache.ignite.internal.schema.SchemaUtils;
@@ -182,9 +186,26 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
     /** Executor for scheduling retries of a rebalance. */
     private final ScheduledExecutorService rebalanceScheduler;
 
+    /** Listeners notified when the partition assignment of a table changes. */
+    private final List<Consumer<UUID>> assignmentsChangeListeners = new CopyOnWriteArrayList<>();
+
+    /** Names of the partition raft groups which are replicated to the local node by learners. */
+    private final Set<String> localLearnerGroups = ConcurrentHashMap.newKeySet();
+
     /** Rebalance scheduler pool size. */
     private static final int REBALANCE_SCHEDULER_POOL_SIZE = Math.min(Utils.cpus() * 3, 20);
 
+    /** Whether partition leaders serve linearizable reads under their lease. */
+    private static final boolean PARTITION_LEASE_READS = IgniteSystemProperties.getBoolean("IGNITE_PARTITION_LEASE_READS", true);
+
+    /** Upper bound of the clock drift between the nodes hosting a partition, shortens the lease of the partition leader. */
+    private static final int PARTITION_MAX_CLOCK_DRIFT_MS = IgniteSystemProperties.getInteger(
+            "IGNITE_PARTITION_MAX_CLOCK_DRIFT_MS", RaftGroupOptions.DEFAULT_MAX_CLOCK_DRIFT_MS);
+
+    /** Number of entries applied to a partition since its last snapshot which trigger a new one, bounds the log replayed on restart. */
+    private static final int PARTITION_SNAPSHOT_LOG_INDEX_THRESHOLD = IgniteSystemProperties.getInteger(
+            "IGNITE_PARTITION_SNAPSHOT_LOG_INDEX_THRESHOLD", 100_000);
+
     /**
      * Creates a new table manager.
      *
@@ -237,6 +258,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
     public void start() {
         tablesCfg.tables().any().replicas().listen(this::onUpdateReplicas);
 
+        tablesCfg.tables().any().maxReadStalenessMs().listen(this::onUpdateMaxReadStaleness);
+
         registerRebalanceListeners();
 
         ((ExtendedTableConfiguration) tablesCfg.tables().any()).assignments().listen(this::onUpdateAssignments);
@@ -390,6 +413,33 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         }
     }
 
+    /**
+     * Listener of the read staleness configuration changes.
+     *
+     * @param stalenessCtx Read staleness configuration event context.
+     * @return A future, which will be completed, when event processed by listener.
+     */
+    private CompletableFuture<?> onUpdateMaxReadStaleness(ConfigurationNotificationEvent<Long> stalenessCtx) {
+        if (!busyLock.enterBusy()) {
+            return failedFuture(new NodeStoppingException());
+        }
+
+        try {
+            UUID tblId = stalenessCtx.config(ExtendedTableConfiguration.class).id().value();
+
+            TableImpl tbl = tablesByIdVv.latest().get(tblId);
+
+            // The value of a table which is being created is applied by createTableLocally.
+            if (tbl != null) {
+                ((InternalTableImpl) tbl.internalTable()).maxReadStalenessMs(stalenessCtx.newValue());
+            }
+
+            return completedFuture(null);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
     /**
      * Listener of assignment configuration changes.
      *
@@ -463,7 +513,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                             // other cases will be covered by rebalance logic
                             (oldPartAssignment.isEmpty()) ? newPartAssignment : Collections.emptyList(),
                             () -> new PartitionListener(tblId,
-                                    new VersionedRowStore(internalTbl.storage().getOrCreatePartition(partId), txManager)),
+                                    new VersionedRowStore(internalTbl.storage().getOrCreatePartition(partId), txManager),
+                                    tablesById.get(tblId)::schemaView),
                             () -> new RebalanceRaftGroupEventsListener(
                                     metaStorageMgr,
                                     tablesCfg.tables().get(tablesById.get(tblId).name()),
@@ -471,7 +522,9 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                                     partId,
                                     busyLock,
                                     movePartition(() -> internalTbl.partitionRaftGroupService(partId)),
-                                    rebalanceScheduler)
+                                    rebalanceScheduler,
+                                    () -> onPartitionLeaderElected(tblId, internalTbl, partId)),
+                            partitionRaftGroupOptions()
                     ).thenAccept(
                             updatedRaftGroupService -> ((InternalTableImpl) internalTbl)
                                     .updateInternalTableRaftGroupService(partId, updatedRaftGroupService)
@@ -489,6 +542,71 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         }
 
         CompletableFuture.allOf(futures).join();
+
+        notifyAssignmentsChanged(tblId);
+    }
+
+    /**
+     * Notifies the assignments change listeners about a leader of a partition elected on the local node. The leader known to the
+     * raft group service of the partition is refreshed first, so that the listeners get the new leader from the table.
+     *
+     * @param tblId Table id.
+     * @param internalTbl Table.
+     * @param partId Partition number.
+     */
+    private void onPartitionLeaderElected(UUID tblId, InternalTable internalTbl, int partId) {
+        // Raft callbacks must not block, the leader is refreshed over the network.
+        rebalanceScheduler.execute(() -> {
+            if (!busyLock.enterBusy()) {
+                return;
+            }
+
+            try {
+                CompletableFuture<Void> refreshFut;
+
+                try {
+                    refreshFut = internalTbl.partitionRaftGroupService(partId).refreshLeader();
+                } catch (IgniteInternalException e) {
+                    // The raft group service of the partition is not registered yet, the table will get the leader on its own.
+                    refreshFut = completedFuture(null);
+                }
+
+                refreshFut.whenComplete((res, err) -> notifyAssignmentsChanged(tblId));
+            } finally {
+                busyLock.leaveBusy();
+            }
+        });
+    }
+
+    /**
+     * Notifies the assignments change listeners.
+     *
+     * @param tblId Table id.
+     */
+    private void notifyAssignmentsChanged(UUID tblId) {
+        for (Consumer<UUID> listener : assignmentsChangeListeners) {
+            try {
+                listener.accept(tblId);
+            } catch (Throwable e) {
+                LOG.error("Assignments change listener failed [tableId={}]", e, tblId);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addAssignmentsChangeListener(Consumer<UUID> listener) {
+        Objects.requireNonNull(listener);
+
+        assignmentsChangeListeners.add(listener);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean removeAssignmentsChangeListener(Consumer<UUID> listener) {
+        Objects.requireNonNull(listener);
+
+        return assignmentsChangeListeners.remove(listener);
     }
 
     /** {@inheritDoc} */
@@ -538,6 +656,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         InternalTableImpl internalTable = new InternalTableImpl(name, tblId, new Int2ObjectOpenHashMap<>(partitions),
                 partitions, netAddrResolver, clusterNodeResolver, txManager, tableStorage);
 
+        internalTable.maxReadStalenessMs(tableCfg.maxReadStalenessMs().value());
+
         var table = new TableImpl(internalTable);
 
         tablesByIdVv.update(causalityToken, (previous, e) -> {
@@ -588,7 +708,11 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
             int partitions = assignment.size();
 
             for (int p = 0; p < partitions; p++) {
-                raftMgr.stopRaftGroup(partitionRaftGroupName(tblId, p));
+                String grpId = partitionRaftGroupName(tblId, p);
+
+                localLearnerGroups.remove(grpId);
+
+                raftMgr.stopRaftGroup(grpId);
             }
 
             tablesByIdVv.update(causalityToken, (previousVal, e) -> {
@@ -618,6 +742,111 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         }
     }
 
+    /**
+     * Starts a learner replica of a table partition on the local node. A learner receives the log of the partition, but
+     * neither votes nor counts towards the commit quorum. It only serves the reads outside of transactions, see
+     * {@link InternalTableImpl#maxReadStalenessMs(long)}.
+     *
+     * @param tblId Table id.
+     * @param part Partition number.
+     * @return Future which is completed when the learner is added to the partition raft group.
+     */
+    public CompletableFuture<Void> startPartitionLearner(UUID tblId, int part) {
+        if (!busyLock.enterBusy()) {
+            return failedFuture(new NodeStoppingException());
+        }
+
+        try {
+            TableImpl tbl = tablesByIdVv.latest().get(tblId);
+
+            if (tbl == null) {
+                return failedFuture(new TableNotFoundException(tblId.toString()));
+            }
+
+            String grpId = partitionRaftGroupName(tblId, part);
+
+            RaftGroupService raftGrpSvc = tbl.internalTable().partitionRaftGroupService(part);
+
+            ClusterNode localMember = raftMgr.server().clusterService().topologyService().localMember();
+
+            Peer localPeer = new Peer(localMember.address());
+
+            return raftGrpSvc.refreshMembers(false).thenCompose(ignored -> {
+                if (raftGrpSvc.peers().contains(localPeer) || raftGrpSvc.learners().contains(localPeer)) {
+                    throw new IgniteInternalException(IgniteStringFormatter.format(
+                            "The node is already a replica of the partition [node={}, raftGrp={}]", localMember.name(), grpId));
+                }
+
+                // The initial configuration is only used until the learner catches up with the leader.
+                List<ClusterNode> voters = raftGrpSvc.peers().stream()
+                        .map(peer -> clusterNodeResolver.apply(peer.address()))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+
+                localLearnerGroups.add(grpId);
+
+                try {
+                    raftMgr.startRaftGroupNode(
+                            grpId,
+                            voters,
+                            List.of(localMember),
+                            () -> new PartitionListener(tblId,
+                                    new VersionedRowStore(tbl.internalTable().storage().getOrCreatePartition(part), txManager),
+                                    tbl::schemaView),
+                            () -> RaftGroupEventsListener.noopLsnr,
+                            partitionRaftGroupOptions()
+                    );
+                } catch (NodeStoppingException e) {
+                    localLearnerGroups.remove(grpId);
+
+                    throw new CompletionException(e);
+                }
+
+                return raftGrpSvc.addLearners(List.of(localPeer));
+            });
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    /**
+     * Stops the learner replica of a table partition started by {@link #startPartitionLearner}.
+     *
+     * @param tblId Table id.
+     * @param part Partition number.
+     * @return Future which is completed when the learner is removed from the partition raft group and stopped.
+     */
+    public CompletableFuture<Void> stopPartitionLearner(UUID tblId, int part) {
+        if (!busyLock.enterBusy()) {
+            return failedFuture(new NodeStoppingException());
+        }
+
+        try {
+            TableImpl tbl = tablesByIdVv.latest().get(tblId);
+
+            String grpId = partitionRaftGroupName(tblId, part);
+
+            if (tbl == null || !localLearnerGroups.contains(grpId)) {
+                return completedFuture(null);
+            }
+
+            ClusterNode localMember = raftMgr.server().clusterService().topologyService().localMember();
+
+            return tbl.internalTable().partitionRaftGroupService(part).removeLearners(List.of(new Peer(localMember.address())))
+                    .thenRun(() -> {
+                        if (localLearnerGroups.remove(grpId)) {
+                            try {
+                                raftMgr.stopRaftGroup(grpId);
+                            } catch (NodeStoppingException e) {
+                                throw new CompletionException(e);
+                            }
+                        }
+                    });
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
     /**
      * Compounds a RAFT group unique name.
      *
@@ -1246,7 +1475,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
                     Supplier<RaftGroupListener> raftGrpLsnrSupplier = () -> new PartitionListener(tblId,
                             new VersionedRowStore(
-                                    tbl.internalTable().storage().getOrCreatePartition(part), txManager));
+                                    tbl.internalTable().storage().getOrCreatePartition(part), txManager),
+                            tbl::schemaView);
 
                     Supplier<RaftGroupEventsListener> raftGrpEvtsLsnrSupplier = () -> new RebalanceRaftGroupEventsListener(
                             metaStorageMgr,
@@ -1255,7 +1485,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                             part,
                             busyLock,
                             movePartition(() -> tbl.internalTable().partitionRaftGroupService(part)),
-                            rebalanceScheduler);
+                            rebalanceScheduler,
+                            () -> onPartitionLeaderElected(tblId, tbl.internalTable(), part));
 
                     // Stable assignments from the meta store, which revision is bounded by the current pending event.
                     byte[] stableAssignments = metaStorageMgr.get(stablePartAssignmentsKey(partId),
@@ -1272,7 +1503,7 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
                     try {
                         raftMgr.startRaftGroupNode(partId, assignments, deltaPeers, raftGrpLsnrSupplier,
-                                raftGrpEvtsLsnrSupplier);
+                                raftGrpEvtsLsnrSupplier, partitionRaftGroupOptions());
                     } catch (NodeStoppingException e) {
                         // no-op
                     }
@@ -1344,7 +1575,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                     try {
                         ClusterNode localMember = raftMgr.server().clusterService().topologyService().localMember();
 
-                        if (!appliedPeers.contains(localMember)) {
+                        // Learners are not the part of the assignments, they are stopped explicitly.
+                        if (!appliedPeers.contains(localMember) && !localLearnerGroups.contains(partId)) {
                             raftMgr.stopRaftGroup(partId);
                         }
                     } catch (NodeStoppingException e) {
@@ -1408,6 +1640,20 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         };
     }
 
+    /**
+     * Returns options of a partition raft group. Point reads of the partitions are served by the leader under its lease,
+     * without a ReadIndex heartbeat round to the followers. Partitions are snapshotted by the number of applied entries as
+     * well as by the timer, so a restarted node replays a bounded tail of each partition log.
+     *
+     * @return Raft group options.
+     */
+    private static RaftGroupOptions partitionRaftGroupOptions() {
+        return RaftGroupOptions.defaults()
+                .leaseReads(PARTITION_LEASE_READS)
+                .maxClockDriftMs(PARTITION_MAX_CLOCK_DRIFT_MS)
+                .snapshotLogIndexThreshold(PARTITION_SNAPSHOT_LOG_INDEX_THRESHOLD);
+    }
+
     /**
      * Gets a direct accessor for the configuration distributed property.
      * If the metadata access only locally configured the method will return local property accessor.
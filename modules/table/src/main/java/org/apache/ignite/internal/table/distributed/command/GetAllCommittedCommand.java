@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.command;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.raft.client.ReadCommand;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This is a command for the batch get of the latest committed values. Unlike {@link GetAllCommand}, it is not a part of a
+ * transaction and takes no locks, so it can be served by any replica of the partition.
+ */
+public class GetAllCommittedCommand implements ReadCommand, Serializable {
+    /** Binary key rows. */
+    private transient Collection<BinaryRow> keyRows;
+
+    /*
+     * Row bytes.
+     * It is a temporary solution, before network have not implement correct serialization BinaryRow.
+     * TODO: Remove the field after (IGNITE-14793).
+     */
+    private final byte[] keyRowsBytes;
+
+    /**
+     * Creates a new instance of GetAllCommittedCommand with the given keys to be got. The {@code keyRows} should not be
+     * {@code null} or empty.
+     *
+     * @param keyRows Binary key rows.
+     */
+    public GetAllCommittedCommand(@NotNull Collection<BinaryRow> keyRows) {
+        assert keyRows != null && !keyRows.isEmpty();
+
+        this.keyRows = keyRows;
+
+        keyRowsBytes = CommandUtils.rowsToBytes(keyRows);
+    }
+
+    /**
+     * Gets a collection of binary key rows.
+     *
+     * @return Binary keys.
+     */
+    public Collection<BinaryRow> getRows() {
+        if (keyRows == null) {
+            keyRows = new ArrayList<>();
+
+            CommandUtils.readRows(keyRowsBytes, keyRows::add);
+        }
+
+        return keyRows;
+    }
+}
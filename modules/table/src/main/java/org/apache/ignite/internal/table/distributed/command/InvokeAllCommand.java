@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.command;
+
+import java.util.Collection;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.table.InvokeRowProcessor;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.util.ByteUtils;
+import org.apache.ignite.raft.client.ReadCommand;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The command runs an invoke processor against the rows associated with a batch of keys of the same partition. Like
+ * {@link InvokeCommand}, it is served by the partition leader under write locks and leaves the rows to the caller.
+ */
+public class InvokeAllCommand extends MultiKeyCommand implements ReadCommand {
+    /** Processor bytes. */
+    private final byte[] procBytes;
+
+    /**
+     * Creates a new instance of InvokeAllCommand with the given key rows and processor. The {@code keyRows} should not be {@code null} or
+     * empty.
+     *
+     * @param keyRows   Binary key rows.
+     * @param proc      Invoke processor.
+     * @param timestamp The timestamp.
+     *
+     * @see TransactionalCommand
+     */
+    public InvokeAllCommand(
+            @NotNull Collection<BinaryRow> keyRows,
+            @NotNull InvokeRowProcessor<?, ?, ?> proc,
+            @NotNull Timestamp timestamp
+    ) {
+        super(keyRows, timestamp);
+
+        procBytes = ByteUtils.toBytes(proc);
+    }
+
+    /**
+     * Returns a fresh copy of the processor on every call.
+     *
+     * @return Invoke processor.
+     */
+    public InvokeRowProcessor<?, ?, ?> processor() {
+        return (InvokeRowProcessor<?, ?, ?>) ByteUtils.fromBytes(procBytes);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.command;
+
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.table.InvokeRowProcessor;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.util.ByteUtils;
+import org.apache.ignite.raft.client.ReadCommand;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The command runs an invoke processor against a row associated with the key. The command is served by the partition leader under
+ * a write lock and doesn't change the partition: the caller applies the resulting row with the regular write commands, so the
+ * replicas never run the processor.
+ */
+public class InvokeCommand extends SingleKeyCommand implements ReadCommand {
+    /*
+     * Processor bytes.
+     * The processor is serialized eagerly, so a non-serializable processor fails on the caller side.
+     */
+    private final byte[] procBytes;
+
+    /**
+     * Creates a new instance of InvokeCommand with the given key row and processor. The {@code keyRow} should not be {@code null}.
+     *
+     * @param keyRow    Binary key row.
+     * @param proc      Invoke processor.
+     * @param timestamp The timestamp.
+     *
+     * @see TransactionalCommand
+     */
+    public InvokeCommand(@NotNull BinaryRow keyRow, @NotNull InvokeRowProcessor<?, ?, ?> proc, @NotNull Timestamp timestamp) {
+        super(keyRow, timestamp);
+
+        procBytes = ByteUtils.toBytes(proc);
+    }
+
+    /**
+     * Returns a fresh copy of the processor on every call, so that its state isn't shared between command applications.
+     *
+     * @return Invoke processor.
+     */
+    public InvokeRowProcessor<?, ?, ?> processor() {
+        return (InvokeRowProcessor<?, ?, ?>) ByteUtils.fromBytes(procBytes);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.command.response;
+
+import java.io.Serializable;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.ByteBufferRow;
+import org.apache.ignite.internal.table.distributed.command.CommandUtils;
+import org.apache.ignite.internal.table.distributed.command.InvokeAllCommand;
+import org.apache.ignite.internal.table.distributed.command.InvokeCommand;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This class represents an outcome of an invoke processor run by the partition leader: the processor result and the row to apply.
+ *
+ * @see InvokeCommand
+ * @see InvokeAllCommand
+ */
+public class InvokeResponse implements Serializable {
+    /** Processor result. */
+    private final Serializable res;
+
+    /** Whether the stored row has to be replaced with {@link #row()}. */
+    private final boolean updated;
+
+    /** New row, {@code null} if the row has to be removed. */
+    @Nullable
+    private transient BinaryRow row;
+
+    /**
+     * Row bytes. It is a temporary solution, before network have not implement correct serialization BinaryRow.
+     * TODO: Remove the field after (IGNITE-14793).
+     */
+    private byte[] rowBytes;
+
+    /**
+     * Creates a new instance of InvokeResponse.
+     *
+     * @param res     Processor result.
+     * @param updated Whether the stored row has to be replaced.
+     * @param row     New row, {@code null} if the row has to be removed.
+     */
+    public InvokeResponse(@Nullable Serializable res, boolean updated, @Nullable BinaryRow row) {
+        this.res = res;
+        this.updated = updated;
+        this.row = row;
+
+        rowBytes = CommandUtils.rowToBytes(row);
+    }
+
+    /**
+     * Returns the processor result.
+     */
+    @Nullable
+    public Serializable result() {
+        return res;
+    }
+
+    /**
+     * Returns {@code true} if the stored row has to be replaced with {@link #row()}.
+     */
+    public boolean updated() {
+        return updated;
+    }
+
+    /**
+     * Returns a new row.
+     */
+    @Nullable
+    public BinaryRow row() {
+        if (row == null && rowBytes != null) {
+            row = new ByteBufferRow(rowBytes);
+        }
+
+        return row;
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.table.distributed.raft;
 
 import static org.apache.ignite.lang.IgniteStringFormatter.format;
 
+import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,30 +32,39 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.storage.DataRow;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.basic.BinarySearchRow;
 import org.apache.ignite.internal.storage.basic.DelegatingDataRow;
+import org.apache.ignite.internal.table.InvokeRowProcessor;
 import org.apache.ignite.internal.table.distributed.command.DeleteAllCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteExactAllCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteExactCommand;
 import org.apache.ignite.internal.table.distributed.command.FinishTxCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAllCommand;
+import org.apache.ignite.internal.table.distributed.command.GetAllCommittedCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAndDeleteCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAndReplaceCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAndUpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.GetCommand;
+import org.apache.ignite.internal.table.distributed.command.GetCommittedCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertAllCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertCommand;
+import org.apache.ignite.internal.table.distributed.command.InvokeAllCommand;
+import org.apache.ignite.internal.table.distributed.command.InvokeCommand;
 import org.apache.ignite.internal.table.distributed.command.MultiKeyCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceIfExistCommand;
 import org.apache.ignite.internal.table.distributed.command.SingleKeyCommand;
 import org.apache.ignite.internal.table.distributed.command.TransactionalCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertAllCommand;
+import org.apache.ignite.internal.table.distributed.command.UpsertAllCommittedCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertCommand;
+import org.apache.ignite.internal.table.distributed.command.response.InvokeResponse;
 import org.apache.ignite.internal.table.distributed.command.response.MultiRowsResponse;
 import org.apache.ignite.internal.table.distributed.command.response.SingleRowResponse;
 import org.apache.ignite.internal.table.distributed.command.scan.ScanCloseCommand;
@@ -72,6 +82,7 @@ import org.apache.ignite.raft.client.ReadCommand;
 import org.apache.ignite.raft.client.WriteCommand;
 import org.apache.ignite.raft.client.service.CommandClosure;
 import org.apache.ignite.raft.client.service.RaftGroupListener;
+import org.apache.ignite.table.InvokeProcessorException;
 import org.apache.ignite.tx.TransactionException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.TestOnly;
@@ -92,6 +103,9 @@ public class PartitionListener implements RaftGroupListener {
     /** Transaction manager. */
     private final TxManager txManager;
 
+    /** Schema registry supplier, the registry is needed to run invoke processors against the rows. */
+    private final Supplier<SchemaRegistry> schemaRegSupplier;
+
     /**
      * The constructor.
      *
@@ -99,10 +113,22 @@ public class PartitionListener implements RaftGroupListener {
      * @param store  The storage.
      */
     public PartitionListener(UUID tableId, VersionedRowStore store) {
+        this(tableId, store, () -> null);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param tableId           Table id.
+     * @param store             The storage.
+     * @param schemaRegSupplier Table schema registry supplier.
+     */
+    public PartitionListener(UUID tableId, VersionedRowStore store, Supplier<SchemaRegistry> schemaRegSupplier) {
         this.lockId = new IgniteUuid(tableId, 0);
         this.storage = store;
         this.txManager = store.txManager();
         this.cursors = new ConcurrentHashMap<>();
+        this.schemaRegSupplier = schemaRegSupplier;
     }
 
     /** {@inheritDoc} */
@@ -119,6 +145,14 @@ public class PartitionListener implements RaftGroupListener {
                 clo.result(handleGetCommand((GetCommand) command));
             } else if (command instanceof GetAllCommand) {
                 clo.result(handleGetAllCommand((GetAllCommand) command));
+            } else if (command instanceof GetCommittedCommand) {
+                clo.result(new SingleRowResponse(storage.getCommitted(((GetCommittedCommand) command).getRow())));
+            } else if (command instanceof GetAllCommittedCommand) {
+                clo.result(new MultiRowsResponse(storage.getAllCommitted(((GetAllCommittedCommand) command).getRows())));
+            } else if (command instanceof InvokeCommand) {
+                clo.result(handleInvokeCommand((InvokeCommand) command));
+            } else if (command instanceof InvokeAllCommand) {
+                clo.result(handleInvokeAllCommand((InvokeAllCommand) command));
             } else {
                 assert false : "Command was not found [cmd=" + clo.command() + ']';
             }
@@ -150,6 +184,10 @@ public class PartitionListener implements RaftGroupListener {
             } else if (command instanceof UpsertAllCommand) {
                 handleUpsertAllCommand((UpsertAllCommand) command);
 
+                clo.result(null);
+            } else if (command instanceof UpsertAllCommittedCommand) {
+                handleUpsertAllCommittedCommand((UpsertAllCommittedCommand) command);
+
                 clo.result(null);
             } else if (command instanceof DeleteAllCommand) {
                 clo.result(handleDeleteAllCommand((DeleteAllCommand) command));
@@ -294,6 +332,22 @@ public class PartitionListener implements RaftGroupListener {
         storage.upsertAll(rows, cmd.getTimestamp());
     }
 
+    /**
+     * Handler for the {@link UpsertAllCommittedCommand}. Commits the command right after the rows are written, which
+     * releases the locks taken before the command was applied.
+     *
+     * @param cmd Command.
+     */
+    private void handleUpsertAllCommittedCommand(UpsertAllCommittedCommand cmd) {
+        Collection<BinaryRow> rows = cmd.getRows();
+
+        assert rows != null && !rows.isEmpty();
+
+        storage.upsertAll(rows, cmd.getTimestamp());
+
+        txManager.commitAsync(cmd.getTimestamp());
+    }
+
     /**
      * Handler for the {@link DeleteAllCommand}.
      *
@@ -393,6 +447,89 @@ public class PartitionListener implements RaftGroupListener {
         return new SingleRowResponse(storage.getAndUpsert(row, cmd.getTimestamp()));
     }
 
+    /**
+     * Handler for the {@link InvokeCommand}. The processor only computes the new row, which is applied by the caller, so a processor
+     * which fails or can't even be deserialized leaves the partition intact. Its exception is returned as the command result.
+     *
+     * @param cmd Command.
+     * @return Invocation outcome or an exception.
+     */
+    private Serializable handleInvokeCommand(InvokeCommand cmd) {
+        try {
+            return invoke(cmd.getRow(), processor(cmd::processor), cmd.getTimestamp());
+        } catch (InvokeProcessorException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Handler for the {@link InvokeAllCommand}. The rows are processed in the command order, the first failed processor fails the whole
+     * batch. Nothing is written by the command, so the caller either applies all the rows of the batch or none of them.
+     *
+     * @param cmd Command.
+     * @return Invocation outcomes in the order of the command rows or an exception.
+     */
+    private Serializable handleInvokeAllCommand(InvokeAllCommand cmd) {
+        Collection<BinaryRow> keyRows = cmd.getRows();
+
+        assert keyRows != null && !keyRows.isEmpty();
+
+        ArrayList<InvokeResponse> res = new ArrayList<>(keyRows.size());
+
+        try {
+            InvokeRowProcessor<?, ?, ?> proc = processor(cmd::processor);
+
+            for (BinaryRow keyRow : keyRows) {
+                res.add(invoke(keyRow, proc, cmd.getTimestamp()));
+            }
+        } catch (InvokeProcessorException e) {
+            return e;
+        }
+
+        return res;
+    }
+
+    /**
+     * Deserializes the processor of an invoke command.
+     *
+     * @param procSupplier Processor supplier of the command.
+     * @return Invoke processor.
+     * @throws InvokeProcessorException If the processor can't be deserialized, e.g. its class is missing on the node.
+     */
+    private static InvokeRowProcessor<?, ?, ?> processor(Supplier<InvokeRowProcessor<?, ?, ?>> procSupplier) {
+        try {
+            return procSupplier.get();
+        } catch (IgniteInternalException e) {
+            throw new InvokeProcessorException("Failed to deserialize invoke processor: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs the processor against the row associated with the key.
+     *
+     * @param keyRow Key row.
+     * @param proc   Invoke processor.
+     * @param ts     The timestamp.
+     * @return Invocation outcome.
+     * @throws InvokeProcessorException If the processor has failed.
+     */
+    private InvokeResponse invoke(BinaryRow keyRow, InvokeRowProcessor<?, ?, ?> proc, Timestamp ts) {
+        SchemaRegistry schemaReg = schemaRegSupplier.get();
+
+        if (schemaReg == null) {
+            throw new InvokeProcessorException("Table schema is not available.");
+        }
+
+        BinaryRow oldRow = storage.get(keyRow, ts);
+
+        InvokeRowProcessor.Result<?> res = proc.process(keyRow, oldRow, schemaReg);
+
+        // Removal of an absent row is a no-op, the caller doesn't need to replicate it.
+        boolean updated = res.updated() && (res.row() != null || oldRow != null);
+
+        return new InvokeResponse(res.result(), updated, res.row());
+    }
+
     /**
      * Handler for the {@link FinishTxCommand}.
      *
@@ -518,6 +655,18 @@ public class PartitionListener implements RaftGroupListener {
         return true;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Cursor<byte[]> onSnapshotStream(Path path) {
+        return storage.streamSnapshot(path);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSnapshotReceive(Path path, Iterator<byte[]> entries) {
+        storage.receiveSnapshot(path, entries);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void onShutdown() {
@@ -534,7 +683,7 @@ public class PartitionListener implements RaftGroupListener {
         if (command instanceof SingleKeyCommand) {
             SingleKeyCommand cmd0 = (SingleKeyCommand) command;
 
-            return cmd0 instanceof ReadCommand ? txManager.readLock(lockId, cmd0.getRow().keySlice(), cmd0.getTimestamp()) :
+            return readLocked(cmd0) ? txManager.readLock(lockId, cmd0.getRow().keySlice(), cmd0.getTimestamp()) :
                     txManager.writeLock(lockId, cmd0.getRow().keySlice(), cmd0.getTimestamp());
         } else if (command instanceof MultiKeyCommand) {
             MultiKeyCommand cmd0 = (MultiKeyCommand) command;
@@ -544,7 +693,7 @@ public class PartitionListener implements RaftGroupListener {
             CompletableFuture<Void>[] futs = new CompletableFuture[rows.size()];
 
             int i = 0;
-            boolean read = cmd0 instanceof ReadCommand;
+            boolean read = readLocked(cmd0);
 
             for (BinaryRow row : rows) {
                 futs[i++] = read ? txManager.readLock(lockId, row.keySlice(), cmd0.getTimestamp()) :
@@ -557,6 +706,17 @@ public class PartitionListener implements RaftGroupListener {
         return null;
     }
 
+    /**
+     * Checks whether a command locks its keys for read. Invoke commands don't change the partition, but lock the keys for write, since
+     * the caller writes the rows computed by the processor in the same transaction.
+     *
+     * @param command The command.
+     * @return {@code true} if the command takes read locks.
+     */
+    private static boolean readLocked(Command command) {
+        return command instanceof ReadCommand && !(command instanceof InvokeCommand) && !(command instanceof InvokeAllCommand);
+    }
+
     /**
      * Extracts a key and a value from the {@link BinaryRow} and wraps it in a {@link DataRow}.
      *
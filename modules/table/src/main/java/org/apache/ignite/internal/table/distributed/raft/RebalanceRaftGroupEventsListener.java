@@ -84,6 +84,9 @@ public class RebalanceRaftGroupEventsListener implements RaftGroupEventsListener
     /** Function that performs a reconfiguration of a raft group of a partition. */
     private final BiFunction<List<Peer>, Long, CompletableFuture<Void>> movePartitionFn;
 
+    /** Listener notified when a leader of the partition is elected on the local node. */
+    private final Runnable leaderElectedLsnr;
+
     /** Attempts to retry the current rebalance in case of errors. */
     private final AtomicInteger rebalanceAttempts =  new AtomicInteger(0);
 
@@ -101,6 +104,7 @@ public class RebalanceRaftGroupEventsListener implements RaftGroupEventsListener
      * @param partId Partition id.
      * @param partNum Partition number.
      * @param rebalanceScheduler Executor for scheduling rebalance retries.
+     * @param leaderElectedLsnr Listener notified when a leader of the partition is elected on the local node.
      */
     public RebalanceRaftGroupEventsListener(
             MetaStorageManager metaStorageMgr,
@@ -109,7 +113,8 @@ public class RebalanceRaftGroupEventsListener implements RaftGroupEventsListener
             int partNum,
             IgniteSpinBusyLock busyLock,
             BiFunction<List<Peer>, Long, CompletableFuture<Void>> movePartitionFn,
-            ScheduledExecutorService rebalanceScheduler) {
+            ScheduledExecutorService rebalanceScheduler,
+            Runnable leaderElectedLsnr) {
         this.metaStorageMgr = metaStorageMgr;
         this.tblConfiguration = tblConfiguration;
         this.partId = partId;
@@ -117,6 +122,7 @@ public class RebalanceRaftGroupEventsListener implements RaftGroupEventsListener
         this.busyLock = busyLock;
         this.movePartitionFn = movePartitionFn;
         this.rebalanceScheduler = rebalanceScheduler;
+        this.leaderElectedLsnr = leaderElectedLsnr;
     }
 
     /** {@inheritDoc} */
@@ -127,6 +133,8 @@ public class RebalanceRaftGroupEventsListener implements RaftGroupEventsListener
         }
 
         try {
+            leaderElectedLsnr.run();
+
             rebalanceScheduler.schedule(() -> {
                 if (!busyLock.enterBusy()) {
                     return;
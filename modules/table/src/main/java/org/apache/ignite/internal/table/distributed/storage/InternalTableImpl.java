@@ -21,7 +21,10 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -41,27 +44,35 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.storage.engine.TableStorage;
 import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.InvokeRowProcessor;
 import org.apache.ignite.internal.table.distributed.command.DeleteAllCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteExactAllCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteExactCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAllCommand;
+import org.apache.ignite.internal.table.distributed.command.GetAllCommittedCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAndDeleteCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAndReplaceCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAndUpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.GetCommand;
+import org.apache.ignite.internal.table.distributed.command.GetCommittedCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertAllCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertCommand;
+import org.apache.ignite.internal.table.distributed.command.InvokeAllCommand;
+import org.apache.ignite.internal.table.distributed.command.InvokeCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceIfExistCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertAllCommand;
+import org.apache.ignite.internal.table.distributed.command.UpsertAllCommittedCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertCommand;
+import org.apache.ignite.internal.table.distributed.command.response.InvokeResponse;
 import org.apache.ignite.internal.table.distributed.command.response.MultiRowsResponse;
 import org.apache.ignite.internal.table.distributed.command.response.SingleRowResponse;
 import org.apache.ignite.internal.table.distributed.command.scan.ScanCloseCommand;
 import org.apache.ignite.internal.table.distributed.command.scan.ScanInitCommand;
 import org.apache.ignite.internal.table.distributed.command.scan.ScanRetrieveBatchCommand;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.lang.IgniteLogger;
@@ -69,9 +80,11 @@ import org.apache.ignite.lang.IgniteStringFormatter;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.lang.IgniteUuidGenerator;
 import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.raft.client.Command;
 import org.apache.ignite.raft.client.Peer;
+import org.apache.ignite.raft.client.ReadCommand;
 import org.apache.ignite.raft.client.service.RaftGroupService;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -114,6 +127,12 @@ public class InternalTableImpl implements InternalTable {
     /** Mutex for the partition map update. */
     public Object updatePartMapMux = new Object();
 
+    /** Selector of the replicas serving reads outside of transactions. */
+    private final ReadReplicaSelector readReplicaSelector = new ReadReplicaSelector();
+
+    /** Maximum staleness of the reads outside of transactions in milliseconds, {@code 0} to read from the leaders only. */
+    private volatile long maxReadStalenessMs;
+
     /**
      * Constructor.
      *
@@ -262,15 +281,73 @@ public class InternalTableImpl implements InternalTable {
         }).thenCompose(x -> x);
     }
 
+    /**
+     * Reads from a replica of the partition selected by {@link ReadReplicaSelector}. The replica serves the read locally if
+     * its state is not staler than {@link #maxReadStalenessMs}. Falls back to the leader if the replica fails.
+     *
+     * @param partId Partition id.
+     * @param cmd The command.
+     * @param <R> Execution result type.
+     * @return A future with the execution result.
+     */
+    private <R> CompletableFuture<R> readFromReplica(int partId, ReadCommand cmd) {
+        RaftGroupService svc = partitionMap.get(partId);
+
+        ClusterService clusterSvc = svc.clusterService();
+
+        NetworkAddress localAddr = clusterSvc == null ? null : clusterSvc.topologyService().localMember().address();
+
+        Peer peer = readReplicaSelector.select(svc, localAddr);
+
+        if (peer == null) {
+            return svc.run(cmd);
+        }
+
+        return readReplicaSelector.<R>run(svc, peer, cmd, maxReadStalenessMs)
+                .handle((res, err) -> err == null ? completedFuture(res) : svc.<R>run(cmd))
+                .thenCompose(fut -> fut);
+    }
+
+    /**
+     * Sets the maximum staleness of the reads outside of transactions. If positive, such reads are served by any replica of
+     * a partition, including learners, without taking locks and only see the committed data.
+     *
+     * @param maxReadStalenessMs Maximum staleness in milliseconds, {@code 0} to read from the leaders only.
+     */
+    public void maxReadStalenessMs(long maxReadStalenessMs) {
+        assert maxReadStalenessMs >= 0 : maxReadStalenessMs;
+
+        this.maxReadStalenessMs = maxReadStalenessMs;
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<BinaryRow> get(BinaryRowEx keyRow, InternalTransaction tx) {
+        if (tx == null && maxReadStalenessMs > 0) {
+            return this.<SingleRowResponse>readFromReplica(partId(keyRow), new GetCommittedCommand(keyRow))
+                    .thenApply(SingleRowResponse::getValue);
+        }
+
         return enlistInTx(keyRow, tx, tx0 -> new GetCommand(keyRow, tx0.timestamp()), SingleRowResponse::getValue);
     }
 
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Collection<BinaryRow>> getAll(Collection<BinaryRowEx> keyRows, InternalTransaction tx) {
+        if (tx == null && maxReadStalenessMs > 0) {
+            Int2ObjectOpenHashMap<List<BinaryRow>> keyRowsByPartition = mapRowsToPartitions(keyRows);
+
+            CompletableFuture<?>[] futures = new CompletableFuture[keyRowsByPartition.size()];
+
+            int batchNum = 0;
+
+            for (Int2ObjectOpenHashMap.Entry<List<BinaryRow>> partToRows : keyRowsByPartition.int2ObjectEntrySet()) {
+                futures[batchNum++] = readFromReplica(partToRows.getIntKey(), new GetAllCommittedCommand(partToRows.getValue()));
+            }
+
+            return collectMultiRowsResponses(futures);
+        }
+
         return enlistInTx(keyRows, tx, (rows0, tx0) -> new GetAllCommand(rows0, tx0.timestamp()), this::collectMultiRowsResponses);
     }
 
@@ -286,6 +363,24 @@ public class InternalTableImpl implements InternalTable {
         return enlistInTx(rows, tx, (rows0, tx0) -> new UpsertAllCommand(rows0, tx0.timestamp()), CompletableFuture::allOf);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> upsertAllCommitted(Collection<BinaryRowEx> rows) {
+        Int2ObjectOpenHashMap<List<BinaryRow>> rowsByPartition = mapRowsToPartitions(rows);
+
+        CompletableFuture<?>[] futures = new CompletableFuture[rowsByPartition.size()];
+
+        int batchNum = 0;
+
+        for (Int2ObjectOpenHashMap.Entry<List<BinaryRow>> partToRows : rowsByPartition.int2ObjectEntrySet()) {
+            RaftGroupService svc = partitionMap.get(partToRows.getIntKey());
+
+            futures[batchNum++] = svc.run(new UpsertAllCommittedCommand(partToRows.getValue(), Timestamp.nextVersion()));
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<BinaryRow> getAndUpsert(BinaryRowEx row, InternalTransaction tx) {
@@ -355,6 +450,142 @@ public class InternalTableImpl implements InternalTable {
         return enlistInTx(rows, tx, (rows0, tx0) -> new DeleteExactAllCommand(rows0, tx0.timestamp()), this::collectMultiRowsResponses);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Serializable> CompletableFuture<T> invoke(
+            BinaryRowEx keyRow,
+            InvokeRowProcessor<?, ?, T> proc,
+            InternalTransaction tx
+    ) {
+        final boolean implicit = tx == null;
+
+        final InternalTransaction tx0 = implicit ? txManager.begin() : tx;
+
+        CompletableFuture<T> fut = enlist(partId(keyRow), tx0).thenCompose(svc ->
+                svc.<InvokeResponse>run(new InvokeCommand(keyRow, proc, tx0.timestamp()))
+                        .thenCompose(res -> applyInvokeResults(svc, List.of(keyRow), List.of(res), tx0)
+                                .thenApply(ignored -> (T) res.result())));
+
+        return postEnlist(fut, implicit, tx0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends Serializable> CompletableFuture<List<T>> invokeAll(
+            Collection<BinaryRowEx> keyRows,
+            InvokeRowProcessor<?, ?, T> proc,
+            InternalTransaction tx
+    ) {
+        final boolean implicit = tx == null;
+
+        final InternalTransaction tx0 = implicit ? txManager.begin() : tx;
+
+        Int2ObjectOpenHashMap<List<BinaryRow>> keyRowsByPartition = new Int2ObjectOpenHashMap<>();
+
+        // Positions of the keys in the collection, the partitions return the results in the order of their batches.
+        Int2ObjectOpenHashMap<IntArrayList> positionsByPartition = new Int2ObjectOpenHashMap<>();
+
+        int keyCnt = 0;
+
+        for (BinaryRowEx keyRow : keyRows) {
+            int partId = partId(keyRow);
+
+            keyRowsByPartition.computeIfAbsent(partId, k -> new ArrayList<>()).add(keyRow);
+            positionsByPartition.computeIfAbsent(partId, k -> new IntArrayList()).add(keyCnt++);
+        }
+
+        int batchCnt = keyRowsByPartition.size();
+
+        List<BinaryRow>[] batches = new List[batchCnt];
+        IntArrayList[] batchPositions = new IntArrayList[batchCnt];
+        RaftGroupService[] batchSvcs = new RaftGroupService[batchCnt];
+        List<InvokeResponse>[] batchResults = new List[batchCnt];
+
+        CompletableFuture<?>[] futures = new CompletableFuture[batchCnt];
+
+        int batchNum = 0;
+
+        for (Int2ObjectOpenHashMap.Entry<List<BinaryRow>> partToRows : keyRowsByPartition.int2ObjectEntrySet()) {
+            int batch = batchNum++;
+
+            batches[batch] = partToRows.getValue();
+            batchPositions[batch] = positionsByPartition.get(partToRows.getIntKey());
+
+            futures[batch] = enlist(partToRows.getIntKey(), tx0)
+                    .thenCompose(svc -> {
+                        batchSvcs[batch] = svc;
+
+                        return svc.<List<InvokeResponse>>run(new InvokeAllCommand(batches[batch], proc, tx0.timestamp()));
+                    })
+                    .thenAccept(batchRes -> batchResults[batch] = batchRes);
+        }
+
+        int resCnt = keyCnt;
+
+        // Nothing is written until the processor has succeeded for all the keys.
+        CompletableFuture<List<T>> fut = CompletableFuture.allOf(futures).thenCompose(ignored -> {
+            T[] res = (T[]) new Serializable[resCnt];
+
+            CompletableFuture<?>[] writeFutures = new CompletableFuture[batchCnt];
+
+            for (int batch = 0; batch < batchCnt; batch++) {
+                IntArrayList positions = batchPositions[batch];
+
+                for (int i = 0; i < positions.size(); i++) {
+                    res[positions.getInt(i)] = (T) batchResults[batch].get(i).result();
+                }
+
+                writeFutures[batch] = applyInvokeResults(batchSvcs[batch], batches[batch], batchResults[batch], tx0);
+            }
+
+            return CompletableFuture.allOf(writeFutures).thenApply(ignored0 -> Arrays.asList(res));
+        });
+
+        return postEnlist(fut, implicit, tx0);
+    }
+
+    /**
+     * Writes the rows computed by an invoke processor on the partition leader. The rows are written within the transaction which holds
+     * the write locks taken by the invoke command, so nobody can change the rows in between.
+     *
+     * @param svc     Raft group service of the partition.
+     * @param keyRows Key rows.
+     * @param results Invocation outcomes in the order of the key rows.
+     * @param tx      The transaction.
+     * @return The future.
+     */
+    private CompletableFuture<Void> applyInvokeResults(
+            RaftGroupService svc,
+            List<BinaryRow> keyRows,
+            List<InvokeResponse> results,
+            InternalTransaction tx
+    ) {
+        List<BinaryRow> upserts = new ArrayList<>();
+        List<BinaryRow> deletes = new ArrayList<>();
+
+        for (int i = 0; i < keyRows.size(); i++) {
+            InvokeResponse res = results.get(i);
+
+            if (res.updated()) {
+                if (res.row() != null) {
+                    upserts.add(res.row());
+                } else {
+                    deletes.add(keyRows.get(i));
+                }
+            }
+        }
+
+        CompletableFuture<Object> upsertFut = upserts.isEmpty() ? completedFuture(null) : svc.run(upserts.size() == 1
+                ? new UpsertCommand(upserts.get(0), tx.timestamp())
+                : new UpsertAllCommand(upserts, tx.timestamp()));
+
+        CompletableFuture<Object> deleteFut = deletes.isEmpty() ? completedFuture(null) : svc.run(deletes.size() == 1
+                ? new DeleteCommand(deletes.get(0), tx.timestamp())
+                : new DeleteAllCommand(deletes, tx.timestamp()));
+
+        return CompletableFuture.allOf(upsertFut, deleteFut);
+    }
+
     /** {@inheritDoc} */
     @Override
     public @NotNull Publisher<BinaryRow> scan(int p, @Nullable InternalTransaction tx) {
@@ -414,6 +645,35 @@ public class InternalTableImpl implements InternalTable {
         return clusterNodeResolver.apply(raftGroupService.leader().address());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ClusterNode>> leaderAssignmentsAsync() {
+        CompletableFuture<?>[] futs = new CompletableFuture<?>[partitions];
+
+        for (int p = 0; p < partitions; p++) {
+            RaftGroupService raftGroupService = partitionMap.get(p);
+
+            futs[p] = raftGroupService == null || raftGroupService.leader() != null
+                    ? completedFuture(null)
+                    : raftGroupService.refreshLeader();
+        }
+
+        // Partitions which leaders failed to refresh are reported as unknown, the rest of the assignments is still useful.
+        return CompletableFuture.allOf(futs).handle((res, err) -> {
+            List<ClusterNode> leaders = new ArrayList<>(partitions);
+
+            for (int p = 0; p < partitions; p++) {
+                RaftGroupService raftGroupService = partitionMap.get(p);
+
+                Peer leader = raftGroupService == null ? null : raftGroupService.leader();
+
+                leaders.add(leader == null ? null : clusterNodeResolver.apply(leader.address()));
+            }
+
+            return leaders;
+        });
+    }
+
     /** {@inheritDoc} */
     @Override
     public RaftGroupService partitionRaftGroupService(int partition) {
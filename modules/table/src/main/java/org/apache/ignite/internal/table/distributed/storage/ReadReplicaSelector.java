@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.raft.client.Peer;
+import org.apache.ignite.raft.client.ReadCommand;
+import org.apache.ignite.raft.client.service.RaftGroupService;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Selects a replica of a partition to serve a read outside of a transaction. Both voters and learners are candidates. A
+ * replica on the local node is preferred, otherwise the replica with the fewest reads in flight from this node is chosen.
+ */
+class ReadReplicaSelector {
+    /** Reads in flight by replica address. */
+    private final ConcurrentMap<NetworkAddress, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Selects a replica to read from.
+     *
+     * @param svc Raft group service of the partition.
+     * @param localAddr Address of the local node.
+     * @return The replica or {@code null} if the members of the group are unknown.
+     */
+    @Nullable Peer select(RaftGroupService svc, @Nullable NetworkAddress localAddr) {
+        List<Peer> peers = svc.peers();
+        List<Peer> learners = svc.learners();
+
+        if (learners == null) {
+            // Learners are only known after the members are refreshed, the next reads are going to use them.
+            svc.refreshMembers(false);
+        }
+
+        List<Peer> candidates = new ArrayList<>();
+
+        if (peers != null) {
+            candidates.addAll(peers);
+        }
+
+        if (learners != null) {
+            candidates.addAll(learners);
+        }
+
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        Peer best = null;
+        int bestLoad = Integer.MAX_VALUE;
+        int ties = 0;
+
+        for (Peer peer : candidates) {
+            if (peer.address().equals(localAddr)) {
+                return peer;
+            }
+
+            int load = inFlight(peer.address());
+
+            if (load < bestLoad) {
+                best = peer;
+                bestLoad = load;
+                ties = 1;
+            } else if (load == bestLoad && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+                // Reservoir sampling, so the equally loaded replicas are picked uniformly.
+                best = peer;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Runs a read command on the replica and tracks it as in flight until it completes.
+     *
+     * @param svc Raft group service of the partition.
+     * @param peer The replica.
+     * @param cmd The command.
+     * @param maxStalenessMs Maximum staleness of the read in milliseconds.
+     * @param <R> Execution result type.
+     * @return A future with the execution result.
+     */
+    <R> CompletableFuture<R> run(RaftGroupService svc, Peer peer, ReadCommand cmd, long maxStalenessMs) {
+        AtomicInteger cnt = inFlight.computeIfAbsent(peer.address(), addr -> new AtomicInteger());
+
+        cnt.incrementAndGet();
+
+        return svc.<R>run(peer, cmd, maxStalenessMs).whenComplete((res, err) -> cnt.decrementAndGet());
+    }
+
+    /**
+     * Returns the number of reads in flight to the replica.
+     *
+     * @param addr Replica address.
+     * @return Reads in flight.
+     */
+    int inFlight(NetworkAddress addr) {
+        AtomicInteger cnt = inFlight.get(addr);
+
+        return cnt == null ? 0 : cnt.get();
+    }
+}
@@ -22,6 +22,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
@@ -33,6 +34,7 @@ import org.apache.ignite.internal.storage.PartitionStorage;
 import org.apache.ignite.internal.storage.SearchRow;
 import org.apache.ignite.internal.storage.basic.BinarySearchRow;
 import org.apache.ignite.internal.storage.basic.DelegatingDataRow;
+import org.apache.ignite.internal.storage.basic.SimpleDataRow;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxState;
@@ -112,6 +114,40 @@ public class VersionedRowStore {
         return res;
     }
 
+    /**
+     * Gets the latest committed version of a row. The read is not a part of a transaction, so it neither locks the row nor
+     * sees the changes of pending transactions.
+     *
+     * @param row The search row.
+     * @return The result row.
+     */
+    public BinaryRow getCommitted(@NotNull BinaryRow row) {
+        assert row != null;
+
+        DataRow readValue = storage.read(new BinarySearchRow(row));
+
+        return resolveCommitted(unpack(readValue));
+    }
+
+    /**
+     * Gets the latest committed versions of multiple rows.
+     *
+     * @param keyRows Search rows.
+     * @return The result rows.
+     * @see #getCommitted
+     */
+    public List<BinaryRow> getAllCommitted(Collection<BinaryRow> keyRows) {
+        assert keyRows != null && !keyRows.isEmpty();
+
+        List<BinaryRow> res = new ArrayList<>(keyRows.size());
+
+        for (BinaryRow keyRow : keyRows) {
+            res.add(getCommitted(keyRow));
+        }
+
+        return res;
+    }
+
     /**
      * Upserts a row.
      *
@@ -527,6 +563,23 @@ public class VersionedRowStore {
         return new Pair<>(cur, cur);
     }
 
+    /**
+     * Resolves the latest committed version of a multi-versioned value.
+     *
+     * @param val The value.
+     * @return Committed row.
+     */
+    private BinaryRow resolveCommitted(Value val) {
+        if (val.timestamp == null) { // New or after reset.
+            return val.newRow;
+        }
+
+        TxState state = txManager.state(val.timestamp);
+
+        // The state of a finished transaction may be already forgotten, a pending one is always known.
+        return state == TxState.PENDING || state == TxState.ABORTED ? val.oldRow : val.newRow;
+    }
+
     /**
      * Takes a snapshot.
      *
@@ -546,6 +599,71 @@ public class VersionedRowStore {
         storage.restoreSnapshot(path);
     }
 
+    /**
+     * Opens a cursor over the entries of a snapshot, which is streamed to another node instead of copying the snapshot files.
+     *
+     * @param path The path.
+     * @return Cursor over the snapshot entries.
+     */
+    public Cursor<byte[]> streamSnapshot(Path path) {
+        Cursor<DataRow> delegate = storage.scanSnapshot(path);
+
+        return new Cursor<>() {
+            @Override
+            public void close() throws Exception {
+                delegate.close();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public byte[] next() {
+                DataRow row = delegate.next();
+
+                byte[] key = row.keyBytes();
+                byte[] value = row.valueBytes();
+
+                assert value != null;
+
+                return ByteBuffer.allocate(Integer.BYTES + key.length + value.length)
+                        .putInt(key.length)
+                        .put(key)
+                        .put(value)
+                        .array();
+            }
+        };
+    }
+
+    /**
+     * Saves a snapshot streamed by the {@link #streamSnapshot} of another node.
+     *
+     * @param path The path.
+     * @param entries Snapshot entries.
+     */
+    public void receiveSnapshot(Path path, Iterator<byte[]> entries) {
+        storage.writeSnapshot(path, new Iterator<DataRow>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public DataRow next() {
+                ByteBuffer buf = ByteBuffer.wrap(entries.next());
+
+                byte[] key = new byte[buf.getInt()];
+                byte[] value = new byte[buf.remaining() - key.length];
+
+                buf.get(key).get(value);
+
+                return new SimpleDataRow(key, value);
+            }
+        });
+    }
+
     /**
      * Executes a scan.
      *
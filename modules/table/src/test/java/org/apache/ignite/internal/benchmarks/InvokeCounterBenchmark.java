@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks;
+
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapPartitionStorage;
+import org.apache.ignite.internal.table.MessagingServiceTestUtils;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
+import org.apache.ignite.internal.table.impl.DummyInternalTableImpl;
+import org.apache.ignite.internal.table.impl.DummySchemaManagerImpl;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.network.ClusterService;
+import org.apache.ignite.network.MessagingService;
+import org.apache.ignite.table.InvokeProcessor;
+import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.mapper.Mapper;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Contended counter increment benchmark: server-side invoke vs get and conditional replace loop.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 15)
+@Measurement(iterations = 1, time = 30)
+@BenchmarkMode({Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+@SuppressWarnings("InstanceVariableMayNotBeInitialized")
+public class InvokeCounterBenchmark {
+    /** Increment processor. */
+    private static final InvokeProcessor<Long, Long, Long> INCREMENT = ctx -> {
+        Long old = ctx.value();
+
+        ctx.value(old == null ? 1L : old + 1);
+
+        return old;
+    };
+
+    /** Number of counters shared by all benchmark threads. */
+    @Param({"1", "16"})
+    public int counters;
+
+    /** Counters view. */
+    private KeyValueView<Long, Long> view;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(InvokeCounterBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void init() {
+        SchemaDescriptor schema = new SchemaDescriptor(
+                1,
+                new Column[]{new Column("ID", NativeTypes.INT64, false)},
+                new Column[]{new Column("VAL", NativeTypes.INT64, false)}
+        );
+
+        ClusterService clusterService = Mockito.mock(ClusterService.class, RETURNS_DEEP_STUBS);
+        Mockito.when(clusterService.topologyService().localMember().address()).thenReturn(DummyInternalTableImpl.ADDR);
+
+        TxManager txManager = new TxManagerImpl(clusterService, new HeapLockManager());
+
+        MessagingService messagingService = MessagingServiceTestUtils.mockMessagingService(txManager);
+        Mockito.when(clusterService.messagingService()).thenReturn(messagingService);
+
+        DummyInternalTableImpl internalTbl = new DummyInternalTableImpl(
+                new VersionedRowStore(new TestConcurrentHashMapPartitionStorage(0), txManager), txManager);
+
+        DummySchemaManagerImpl schemaReg = new DummySchemaManagerImpl(schema);
+
+        internalTbl.schemaRegistry(schemaReg);
+
+        view = new TableImpl(internalTbl, schemaReg).keyValueView(Mapper.of(Long.class, "ID"), Mapper.of(Long.class, "VAL"));
+
+        for (long i = 0; i < counters; i++) {
+            view.put(null, i, 0L);
+        }
+    }
+
+    /**
+     * Measure counter increment with a single invoke command.
+     *
+     * @param bh Black hole.
+     */
+    @Benchmark
+    public void invoke(Blackhole bh) {
+        bh.consume(view.invoke(null, nextKey(), INCREMENT));
+    }
+
+    /**
+     * Measure counter increment with a get and conditional replace loop.
+     *
+     * @param bh Black hole.
+     */
+    @Benchmark
+    public void getAndReplace(Blackhole bh) {
+        Long key = nextKey();
+
+        while (true) {
+            Long old = view.get(null, key);
+
+            if (view.replace(null, key, old, old + 1)) {
+                bh.consume(old);
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * Picks a counter to increment.
+     */
+    private Long nextKey() {
+        return (long) (Thread.currentThread().getId() % counters);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.MarshallerException;
+import org.apache.ignite.internal.schema.marshaller.MarshallerFactory;
+import org.apache.ignite.internal.schema.marshaller.RecordMarshaller;
+import org.apache.ignite.internal.schema.marshaller.asm.AsmMarshallerGenerator;
+import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
+import org.apache.ignite.internal.schema.row.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Object marshaller benchmark: generated vs reflection-based marshaller, see {@link TupleMarshallerFixlenOnlyBenchmark} for tuples.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 15)
+@Measurement(iterations = 1, time = 30)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+@SuppressWarnings("InstanceVariableMayNotBeInitialized")
+public class ObjectMarshallerBenchmark {
+    /** Random. */
+    private Random rnd = new Random();
+
+    /** Marshaller factory. */
+    @Param({"reflection", "asm"})
+    public String factory;
+
+    /** Nullable cols. */
+    @Param({"true", "false"})
+    public boolean nullable;
+
+    /** Schema descriptor. */
+    private SchemaDescriptor schema;
+
+    /** Record marshaller. */
+    private RecordMarshaller<TestObject> marshaller;
+
+    /** Record to marshal. */
+    private TestObject rec;
+
+    /** Marshalled record. */
+    private Row row;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(ObjectMarshallerBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void init() throws MarshallerException {
+        long seed = System.currentTimeMillis();
+
+        rnd = new Random(seed);
+
+        schema = new SchemaDescriptor(
+                42,
+                new Column[]{new Column("ID", NativeTypes.INT64, false)},
+                new Column[]{
+                        new Column("INTCOL", NativeTypes.INT32, false),
+                        new Column("LONGCOL1", NativeTypes.INT64, false),
+                        new Column("LONGCOL2", NativeTypes.INT64, nullable),
+                        new Column("DOUBLECOL", NativeTypes.DOUBLE, false),
+                        new Column("STRCOL1", NativeTypes.STRING, nullable),
+                        new Column("STRCOL2", NativeTypes.STRING, nullable),
+                }
+        );
+
+        MarshallerFactory marshallerFactory = "asm".equals(factory) ? new AsmMarshallerGenerator() : new ReflectionMarshallerFactory();
+
+        marshaller = marshallerFactory.create(schema, TestObject.class);
+
+        rec = TestObject.randomObject(rnd);
+        row = marshaller.marshal(rec);
+    }
+
+    /**
+     * Measure object marshalling.
+     *
+     * @param bh Black hole.
+     */
+    @Benchmark
+    public void measureMarshal(Blackhole bh) throws MarshallerException {
+        bh.consume(marshaller.marshal(rec));
+    }
+
+    /**
+     * Measure row unmarshalling.
+     *
+     * @param bh Black hole.
+     */
+    @Benchmark
+    public void measureUnmarshal(Blackhole bh) throws MarshallerException {
+        bh.consume(marshaller.unmarshal(row));
+    }
+
+    /**
+     * Test object.
+     */
+    @SuppressWarnings("unused")
+    static class TestObject {
+        private long id;
+
+        private int intCol;
+
+        private long longCol1;
+
+        private Long longCol2;
+
+        private double doubleCol;
+
+        private String strCol1;
+
+        private String strCol2;
+
+        static TestObject randomObject(Random rnd) {
+            TestObject obj = new TestObject();
+
+            obj.id = rnd.nextLong();
+            obj.intCol = rnd.nextInt();
+            obj.longCol1 = rnd.nextLong();
+            obj.longCol2 = rnd.nextLong();
+            obj.doubleCol = rnd.nextDouble();
+            obj.strCol1 = "str-" + rnd.nextInt();
+            obj.strCol2 = "str-" + rnd.nextInt();
+
+            return obj;
+        }
+    }
+}
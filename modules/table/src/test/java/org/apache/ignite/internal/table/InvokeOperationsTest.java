@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapPartitionStorage;
+import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
+import org.apache.ignite.internal.table.impl.DummyInternalTableImpl;
+import org.apache.ignite.internal.table.impl.DummySchemaManagerImpl;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.network.ClusterService;
+import org.apache.ignite.network.MessagingService;
+import org.apache.ignite.table.InvokeProcessor;
+import org.apache.ignite.table.InvokeProcessorException;
+import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Tuple;
+import org.apache.ignite.table.mapper.Mapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Invoke operations test.
+ */
+public class InvokeOperationsTest {
+    /** Table. */
+    private TableImpl table;
+
+    /**
+     * Creates a table.
+     */
+    @BeforeEach
+    public void createTable() {
+        SchemaDescriptor schema = new SchemaDescriptor(
+                1,
+                new Column[]{new Column("ID", NativeTypes.INT64, false)},
+                new Column[]{
+                        new Column("VAL", NativeTypes.INT64, true),
+                        new Column("STR", NativeTypes.STRING, true)
+                }
+        );
+
+        ClusterService clusterService = Mockito.mock(ClusterService.class, RETURNS_DEEP_STUBS);
+        Mockito.when(clusterService.topologyService().localMember().address()).thenReturn(DummyInternalTableImpl.ADDR);
+
+        TxManager txManager = new TxManagerImpl(clusterService, new HeapLockManager());
+
+        MessagingService messagingService = MessagingServiceTestUtils.mockMessagingService(txManager);
+        Mockito.when(clusterService.messagingService()).thenReturn(messagingService);
+
+        DummyInternalTableImpl internalTbl = new DummyInternalTableImpl(
+                new VersionedRowStore(new TestConcurrentHashMapPartitionStorage(0), txManager), txManager);
+
+        DummySchemaManagerImpl schemaReg = new DummySchemaManagerImpl(schema);
+
+        internalTbl.schemaRegistry(schemaReg);
+
+        table = new TableImpl(internalTbl, schemaReg);
+    }
+
+    @Test
+    public void recordBinaryView() {
+        RecordView<Tuple> view = table.recordView();
+
+        view.upsert(null, Tuple.create().set("id", 1L).set("val", 10L).set("str", "a"));
+
+        InvokeProcessor<Tuple, Tuple, Long> incr = ctx -> {
+            Tuple rec = ctx.value();
+
+            long old = rec == null ? 0L : rec.longValue("VAL");
+
+            ctx.value(Tuple.create().set("ID", ctx.key().longValue("ID")).set("VAL", old + 1).set("STR", "b"));
+
+            return old;
+        };
+
+        assertEquals(10L, view.invoke(null, Tuple.create().set("id", 1L), incr));
+        assertEquals(0L, view.invoke(null, Tuple.create().set("id", 2L), incr));
+
+        Tuple rec = view.get(null, Tuple.create().set("id", 1L));
+
+        assertEquals(11L, rec.longValue("val"));
+        assertEquals("b", rec.stringValue("str"));
+        assertEquals(1L, view.get(null, Tuple.create().set("id", 2L)).longValue("val"));
+
+        // The processor can't move the value to another key.
+        assertThrows(InvokeProcessorException.class, () -> view.invoke(null, Tuple.create().set("id", 1L), ctx -> {
+            ctx.value(Tuple.create().set("ID", 3L).set("VAL", 0L));
+
+            return null;
+        }));
+
+        assertNull(view.get(null, Tuple.create().set("id", 3L)));
+    }
+
+    @Test
+    public void keyValueBinaryView() {
+        KeyValueView<Tuple, Tuple> view = table.keyValueView();
+
+        Tuple key = Tuple.create().set("id", 1L);
+
+        // Processor arguments and absent value.
+        assertNull(view.invoke(null, key, ctx -> {
+            Tuple old = ctx.value();
+
+            ctx.value(Tuple.create().set("VAL", (Long) ctx.args()[0]).set("STR", (String) ctx.args()[1]));
+
+            return old == null ? null : old.stringValue("STR");
+        }, 5L, "x"));
+
+        assertEquals(5L, view.get(null, key).longValue("val"));
+
+        // Read-only processor leaves the row intact.
+        assertEquals("x", view.invoke(null, key, ctx -> ctx.value().stringValue("STR")));
+
+        assertEquals("x", view.get(null, key).stringValue("str"));
+
+        // Null value removes the row.
+        assertEquals(Boolean.TRUE, view.invoke(null, key, ctx -> {
+            ctx.value(null);
+
+            return Boolean.TRUE;
+        }));
+
+        assertNull(view.get(null, key));
+    }
+
+    @Test
+    public void recordView() {
+        RecordView<TestRecord> view = table.recordView(Mapper.of(TestRecord.class));
+
+        view.upsert(null, new TestRecord(1L, 10L, "a"));
+
+        Long res = view.invoke(null, new TestRecord(1L, null, null), ctx -> {
+            TestRecord rec = ctx.value();
+
+            ctx.value(new TestRecord(ctx.key().id, rec.val * 2, rec.str + rec.str));
+
+            return rec.val;
+        });
+
+        assertEquals(10L, res);
+
+        TestRecord rec = view.get(null, new TestRecord(1L, null, null));
+
+        assertEquals(20L, rec.val);
+        assertEquals("aa", rec.str);
+    }
+
+    @Test
+    public void keyValueView() {
+        KeyValueView<Long, TestValue> view = table.keyValueView(Mapper.of(Long.class), Mapper.of(TestValue.class));
+
+        view.put(null, 1L, new TestValue(1L, "a"));
+        view.put(null, 2L, new TestValue(2L, "b"));
+
+        Map<Long, Long> res = view.invokeAll(null, List.of(1L, 2L, 3L), ctx -> {
+            TestValue val = ctx.value();
+
+            ctx.value(val == null ? new TestValue((Long) ctx.args()[0], null) : new TestValue(val.val + ctx.key(), val.str));
+
+            return val == null ? null : val.val;
+        }, 100L);
+
+        assertEquals(3, res.size());
+        assertEquals(1L, res.get(1L));
+        assertEquals(2L, res.get(2L));
+        assertNull(res.get(3L));
+
+        assertEquals(2L, view.get(null, 1L).val);
+        assertEquals(4L, view.get(null, 2L).val);
+        assertEquals("b", view.get(null, 2L).str);
+        assertEquals(100L, view.get(null, 3L).val);
+    }
+
+    @Test
+    public void failedProcessor() {
+        KeyValueView<Long, TestValue> view = table.keyValueView(Mapper.of(Long.class), Mapper.of(TestValue.class));
+
+        view.put(null, 1L, new TestValue(1L, "a"));
+
+        InvokeProcessor<Long, TestValue, Long> proc = ctx -> {
+            ctx.value(new TestValue(ctx.value() == null ? 0L : ctx.value().val + 1, null));
+
+            if (ctx.key() == 2L) {
+                throw new IllegalStateException("Failed");
+            }
+
+            return ctx.value().val;
+        };
+
+        assertThrows(InvokeProcessorException.class, () -> view.invoke(null, 2L, proc));
+
+        // The batch fails as a whole.
+        assertThrows(InvokeProcessorException.class, () -> view.invokeAll(null, List.of(1L, 2L), proc));
+
+        assertEquals(1L, view.get(null, 1L).val);
+        assertNull(view.get(null, 2L));
+
+        // The processor is serialized, so it can't capture a non-serializable state.
+        Object lock = new Object();
+
+        assertThrows(IgniteException.class, () -> view.invoke(null, 1L, ctx -> {
+            synchronized (lock) {
+                return null;
+            }
+        }));
+    }
+
+    /**
+     * Test record.
+     */
+    @SuppressWarnings("unused")
+    static class TestRecord {
+        private long id;
+
+        private Long val;
+
+        private String str;
+
+        TestRecord() {
+        }
+
+        TestRecord(long id, Long val, String str) {
+            this.id = id;
+            this.val = val;
+            this.str = str;
+        }
+    }
+
+    /**
+     * Test value.
+     */
+    @SuppressWarnings("unused")
+    static class TestValue {
+        private Long val;
+
+        private String str;
+
+        TestValue() {
+        }
+
+        TestValue(Long val, String str) {
+            this.val = val;
+            this.str = str;
+        }
+    }
+}
@@ -28,6 +28,10 @@ import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.InvalidTypeException;
 import org.apache.ignite.internal.schema.NativeTypes;
@@ -45,6 +49,7 @@ import org.apache.ignite.internal.tx.impl.TxManagerImpl;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.network.MessagingService;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Tuple;
 import org.jetbrains.annotations.NotNull;
@@ -277,6 +282,62 @@ public class RecordBinaryViewOperationsTest {
         assertEqualsRows(schema, tuple2, tbl.get(null, Tuple.create().set("id", 1L)));
     }
 
+    @Test
+    public void streamData() throws Exception {
+        SchemaDescriptor schema = new SchemaDescriptor(
+                1,
+                new Column[]{new Column("id".toUpperCase(), NativeTypes.INT64, false)},
+                new Column[]{new Column("val".toUpperCase(), NativeTypes.INT64, false)}
+        );
+
+        RecordView<Tuple> tbl = createTableImpl(schema).recordView();
+
+        CompletableFuture<Void> fut;
+
+        try (SubmissionPublisher<Tuple> publisher = new SubmissionPublisher<>()) {
+            fut = tbl.streamData(publisher, new DataStreamerOptions().batchSize(7).autoFlushFrequency(0));
+
+            for (long i = 0; i < 100; i++) {
+                publisher.submit(Tuple.create().set("id", i).set("val", i));
+            }
+
+            // Rows of the same key are written in the published order.
+            publisher.submit(Tuple.create().set("id", 0L).set("val", -1L));
+        }
+
+        fut.get(5, TimeUnit.SECONDS);
+
+        assertEqualsRows(schema, Tuple.create().set("id", 0L).set("val", -1L), tbl.get(null, Tuple.create().set("id", 0L)));
+
+        for (long i = 1; i < 100; i++) {
+            assertEqualsRows(schema, Tuple.create().set("id", i).set("val", i), tbl.get(null, Tuple.create().set("id", i)));
+        }
+    }
+
+    @Test
+    public void streamDataFailsOnInvalidRow() {
+        SchemaDescriptor schema = new SchemaDescriptor(
+                1,
+                new Column[]{new Column("id".toUpperCase(), NativeTypes.INT64, false)},
+                new Column[]{new Column("val".toUpperCase(), NativeTypes.INT64, false)}
+        );
+
+        RecordView<Tuple> tbl = createTableImpl(schema).recordView();
+
+        CompletableFuture<Void> fut;
+
+        try (SubmissionPublisher<Tuple> publisher = new SubmissionPublisher<>()) {
+            fut = tbl.streamData(publisher, null);
+
+            publisher.submit(Tuple.create().set("id", 1L).set("val", 1L));
+            publisher.submit(Tuple.create().set("id", "2").set("val", 2L));
+        }
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> fut.get(5, TimeUnit.SECONDS));
+
+        assertTrue(ex.getCause() instanceof IgniteException, ex.toString());
+    }
+
     @Test
     public void validateSchema() {
         SchemaDescriptor schema = new SchemaDescriptor(
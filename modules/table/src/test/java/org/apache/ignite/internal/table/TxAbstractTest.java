@@ -41,6 +41,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -60,6 +61,7 @@ import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.tx.impl.TxManagerImpl;
 import org.apache.ignite.internal.util.Pair;
 import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.KeyValueView;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Table;
@@ -169,6 +171,38 @@ public abstract class TxAbstractTest extends IgniteAbstractTest {
         assertFalse(fut3.isDone());
     }
 
+    /**
+     * Tests that a data streamer batch waits for the locks of a pending transaction and doesn't overwrite its changes.
+     */
+    @Test
+    public void testStreamDataWaitsForTransaction() throws Exception {
+        accounts.recordView().upsert(null, makeValue(1, BALANCE_1));
+
+        Transaction tx = igniteTransactions.begin();
+
+        accounts.recordView().upsert(tx, makeValue(1, BALANCE_1 + DELTA));
+
+        CompletableFuture<Void> fut;
+
+        try (SubmissionPublisher<Tuple> publisher = new SubmissionPublisher<>()) {
+            fut = accounts.recordView().streamData(publisher, new DataStreamerOptions().batchSize(2));
+
+            publisher.submit(makeValue(1, BALANCE_2));
+            publisher.submit(makeValue(2, BALANCE_2));
+        }
+
+        Thread.sleep(300);
+
+        assertFalse(fut.isDone());
+
+        tx.commit();
+
+        fut.get(5, TimeUnit.SECONDS);
+
+        assertEquals(BALANCE_2, accounts.recordView().get(null, makeKey(1)).doubleValue("balance"));
+        assertEquals(BALANCE_2, accounts.recordView().get(null, makeKey(2)).doubleValue("balance"));
+    }
+
     /**
      * Tests a transaction closure.
      */
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.table.distributed.raft;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -27,8 +28,10 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -41,31 +44,41 @@ import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.schema.row.RowAssembler;
 import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapPartitionStorage;
+import org.apache.ignite.internal.table.InvokeRowProcessor;
 import org.apache.ignite.internal.table.distributed.command.DeleteAllCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteExactAllCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteExactCommand;
+import org.apache.ignite.internal.table.distributed.command.FinishTxCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAllCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAndDeleteCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAndReplaceCommand;
 import org.apache.ignite.internal.table.distributed.command.GetAndUpsertCommand;
 import org.apache.ignite.internal.table.distributed.command.GetCommand;
+import org.apache.ignite.internal.table.distributed.command.GetCommittedCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertAllCommand;
 import org.apache.ignite.internal.table.distributed.command.InsertCommand;
+import org.apache.ignite.internal.table.distributed.command.InvokeAllCommand;
+import org.apache.ignite.internal.table.distributed.command.InvokeCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceCommand;
 import org.apache.ignite.internal.table.distributed.command.ReplaceIfExistCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertAllCommand;
 import org.apache.ignite.internal.table.distributed.command.UpsertCommand;
+import org.apache.ignite.internal.table.distributed.command.response.InvokeResponse;
 import org.apache.ignite.internal.table.distributed.command.response.MultiRowsResponse;
 import org.apache.ignite.internal.table.distributed.command.response.SingleRowResponse;
 import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
+import org.apache.ignite.internal.table.impl.DummySchemaManagerImpl;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.TxManagerImpl;
 import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.raft.client.Command;
+import org.apache.ignite.raft.client.WriteCommand;
 import org.apache.ignite.raft.client.service.CommandClosure;
+import org.apache.ignite.table.InvokeProcessorException;
+import org.apache.ignite.table.mapper.Mapper;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -102,7 +115,8 @@ public class PartitionCommandListenerTest {
                 new VersionedRowStore(
                         new TestConcurrentHashMapPartitionStorage(0),
                         new TxManagerImpl(clusterService, new HeapLockManager())
-                )
+                ),
+                () -> new DummySchemaManagerImpl(SCHEMA)
         );
     }
 
@@ -250,6 +264,112 @@ public class PartitionCommandListenerTest {
         readAll(false);
     }
 
+    /**
+     * The test checks Invoke and InvokeAll commands. The commands only compute the new rows and don't change the storage.
+     */
+    @Test
+    public void testInvokeCommands() {
+        upsert();
+
+        Mapper<Integer> keyMapper = Mapper.of(Integer.class, "\"key\"");
+        Mapper<Integer> valMapper = Mapper.of(Integer.class, "\"value\"");
+
+        InvokeRowProcessor<Integer, Integer, Integer> incr = InvokeRowProcessor.forKeyValues(SCHEMA.version(), ctx -> {
+            Integer old = ctx.value();
+
+            ctx.value(old == null ? 0 : old + 1);
+
+            return old;
+        }, null, keyMapper, valMapper);
+
+        commandListener.onRead(iterator((i, clo) -> {
+            when(clo.command()).thenReturn(new InvokeCommand(getTestKey(i), incr, Timestamp.nextVersion()));
+
+            doAnswer(invocation -> {
+                InvokeResponse resp = invocation.getArgument(0);
+
+                assertEquals(i, resp.result());
+                assertTrue(resp.updated());
+                assertEquals(i + 1, new Row(SCHEMA, resp.row()).intValue(1));
+
+                return null;
+            }).when(clo).result(any());
+        }));
+
+        readAndCheck(true);
+
+        List<BinaryRow> keyRows = new ArrayList<>(KEY_COUNT);
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keyRows.add(getTestKey(i));
+        }
+
+        commandListener.onRead(batchIterator(clo -> {
+            when(clo.command()).thenReturn(new InvokeAllCommand(keyRows, incr, Timestamp.nextVersion()));
+
+            doAnswer(invocation -> {
+                List<InvokeResponse> res = invocation.getArgument(0);
+
+                for (int i = 0; i < KEY_COUNT; i++) {
+                    assertEquals(i, res.get(i).result());
+                    assertEquals(i + 1, new Row(SCHEMA, res.get(i).row()).intValue(1));
+                }
+
+                return null;
+            }).when(clo).result(any());
+        }));
+
+        readAndCheck(true);
+
+        InvokeRowProcessor<Integer, Integer, Integer> failed = InvokeRowProcessor.forKeyValues(SCHEMA.version(), ctx -> {
+            ctx.value(null);
+
+            throw new IllegalStateException();
+        }, null, keyMapper, valMapper);
+
+        commandListener.onRead(batchIterator(clo -> {
+            when(clo.command()).thenReturn(new InvokeAllCommand(keyRows, failed, Timestamp.nextVersion()));
+
+            doAnswer(invocation -> {
+                assertTrue(invocation.getArgument(0) instanceof InvokeProcessorException);
+
+                return null;
+            }).when(clo).result(any());
+        }));
+
+        InvokeRowProcessor<Integer, Integer, Integer> remove = InvokeRowProcessor.forKeyValues(SCHEMA.version(), ctx -> {
+            ctx.value(null);
+
+            return null;
+        }, null, keyMapper, valMapper);
+
+        commandListener.onRead(iterator((i, clo) -> {
+            when(clo.command()).thenReturn(new InvokeCommand(getTestKey(i), remove, Timestamp.nextVersion()));
+
+            doAnswer(invocation -> {
+                InvokeResponse resp = invocation.getArgument(0);
+
+                assertTrue(resp.updated());
+                assertNull(resp.row());
+
+                return null;
+            }).when(clo).result(any());
+        }));
+
+        readAndCheck(true);
+
+        // Removal of an absent row doesn't have to be applied.
+        commandListener.onRead(iterator((i, clo) -> {
+            when(clo.command()).thenReturn(new InvokeCommand(getTestKey(KEY_COUNT + i), remove, Timestamp.nextVersion()));
+
+            doAnswer(invocation -> {
+                assertFalse(invocation.<InvokeResponse>getArgument(0).updated());
+
+                return null;
+            }).when(clo).result(any());
+        }));
+    }
+
     /**
      * Prepares a closure iterator for a specific batch operation.
      *
@@ -446,6 +566,51 @@ public class PartitionCommandListenerTest {
         }));
     }
 
+    /**
+     * Checks that the committed reads don't see the changes of a pending transaction.
+     */
+    @Test
+    public void testGetCommittedCommand() {
+        Timestamp ts = Timestamp.nextVersion();
+
+        commandListener.onWrite(iterator((i, clo) -> when(clo.command()).thenReturn(new UpsertCommand(getTestRow(i, i), ts))));
+
+        readCommittedAndCheck(false);
+
+        CommandClosure<WriteCommand> finishClo = mock(CommandClosure.class);
+
+        when(finishClo.command()).thenReturn(new FinishTxCommand(ts, true));
+
+        commandListener.onWrite(List.of(finishClo).iterator());
+
+        readCommittedAndCheck(true);
+    }
+
+    /**
+     * Reads the committed rows and checks them.
+     *
+     * @param existed True if rows are existed, false otherwise.
+     */
+    private void readCommittedAndCheck(boolean existed) {
+        commandListener.onRead(iterator((i, clo) -> {
+            when(clo.command()).thenReturn(new GetCommittedCommand(getTestKey(i)));
+
+            doAnswer(invocation -> {
+                SingleRowResponse resp = invocation.getArgument(0);
+
+                if (existed) {
+                    assertNotNull(resp.getValue());
+
+                    assertEquals(i, new Row(SCHEMA, resp.getValue()).intValue(1));
+                } else {
+                    assertNull(resp.getValue());
+                }
+
+                return null;
+            }).when(clo).result(any(SingleRowResponse.class));
+        }));
+    }
+
     /**
      * Upserts rows.
      */
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.storage;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.raft.client.Peer;
+import org.apache.ignite.raft.client.ReadCommand;
+import org.apache.ignite.raft.client.service.RaftGroupService;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ReadReplicaSelector}.
+ */
+public class ReadReplicaSelectorTest {
+    private static final Peer VOTER1 = new Peer(new NetworkAddress("localhost", 10001));
+
+    private static final Peer VOTER2 = new Peer(new NetworkAddress("localhost", 10002));
+
+    private static final Peer LEARNER = new Peer(new NetworkAddress("localhost", 10003));
+
+    private final ReadReplicaSelector selector = new ReadReplicaSelector();
+
+    @Test
+    public void testLocalReplicaIsPreferred() {
+        RaftGroupService svc = raftGroupService(List.of(VOTER1, VOTER2), List.of(LEARNER));
+
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+
+        when(svc.run(eq(LEARNER), any(), anyLong())).thenReturn(pending);
+
+        selector.run(svc, LEARNER, mock(ReadCommand.class), 100);
+
+        assertEquals(LEARNER, selector.select(svc, LEARNER.address()));
+    }
+
+    @Test
+    public void testLeastLoadedReplicaIsSelected() {
+        RaftGroupService svc = raftGroupService(List.of(VOTER1, VOTER2), List.of(LEARNER));
+
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+
+        when(svc.run(any(Peer.class), any(), anyLong())).thenReturn(pending);
+
+        selector.run(svc, VOTER1, mock(ReadCommand.class), 100);
+        selector.run(svc, VOTER2, mock(ReadCommand.class), 100);
+
+        assertEquals(LEARNER, selector.select(svc, null));
+
+        pending.complete(null);
+
+        assertEquals(0, selector.inFlight(VOTER1.address()));
+        assertEquals(0, selector.inFlight(VOTER2.address()));
+    }
+
+    @Test
+    public void testMembersAreRefreshedIfLearnersUnknown() {
+        RaftGroupService svc = raftGroupService(List.of(VOTER1), null);
+
+        when(svc.refreshMembers(false)).thenReturn(completedFuture(null));
+
+        assertEquals(VOTER1, selector.select(svc, null));
+
+        verify(svc).refreshMembers(false);
+    }
+
+    @Test
+    public void testNoReplicaIfMembersUnknown() {
+        RaftGroupService svc = raftGroupService(null, List.of());
+
+        assertNull(selector.select(svc, null));
+
+        verify(svc, never()).refreshMembers(false);
+    }
+
+    private static RaftGroupService raftGroupService(List<Peer> peers, List<Peer> learners) {
+        RaftGroupService svc = mock(RaftGroupService.class);
+
+        when(svc.peers()).thenReturn(peers);
+        when(svc.learners()).thenReturn(learners);
+
+        return svc;
+    }
+}
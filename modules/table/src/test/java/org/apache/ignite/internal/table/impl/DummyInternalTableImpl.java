@@ -31,9 +31,8 @@ import java.util.function.BiFunction;
 import javax.naming.OperationNotSupportedException;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
+import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.storage.engine.TableStorage;
-import org.apache.ignite.internal.table.distributed.command.GetAllCommand;
-import org.apache.ignite.internal.table.distributed.command.GetCommand;
 import org.apache.ignite.internal.table.distributed.raft.PartitionListener;
 import org.apache.ignite.internal.table.distributed.storage.InternalTableImpl;
 import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
@@ -60,6 +59,9 @@ public class DummyInternalTableImpl extends InternalTableImpl {
 
     private PartitionListener partitionListener;
 
+    /** Schema registry. */
+    private volatile SchemaRegistry schemaReg;
+
     /**
      * Creates a new local table.
      *
@@ -89,7 +91,7 @@ public class DummyInternalTableImpl extends InternalTableImpl {
                         @Override
                         public Void apply(Void ignored, Throwable err) {
                             if (err == null) {
-                                if (cmd instanceof GetCommand || cmd instanceof GetAllCommand) {
+                                if (cmd instanceof ReadCommand) {
                                     CommandClosure<ReadCommand> clo = new CommandClosure<>() {
                                         @Override
                                         public ReadCommand command() {
@@ -98,7 +100,11 @@ public class DummyInternalTableImpl extends InternalTableImpl {
 
                                         @Override
                                         public void result(@Nullable Serializable r) {
-                                            res.complete(r);
+                                            if (r instanceof Throwable) {
+                                                res.completeExceptionally((Throwable) r);
+                                            } else {
+                                                res.complete(r);
+                                            }
                                         }
                                     };
 
@@ -116,7 +122,11 @@ public class DummyInternalTableImpl extends InternalTableImpl {
 
                                         @Override
                                         public void result(@Nullable Serializable r) {
-                                            res.complete(r);
+                                            if (r instanceof Throwable) {
+                                                res.completeExceptionally((Throwable) r);
+                                            } else {
+                                                res.complete(r);
+                                            }
                                         }
                                     };
 
@@ -138,7 +148,16 @@ public class DummyInternalTableImpl extends InternalTableImpl {
                 }
         ).when(svc).run(any());
 
-        partitionListener = new PartitionListener(UUID.randomUUID(), store);
+        partitionListener = new PartitionListener(UUID.randomUUID(), store, () -> schemaReg);
+    }
+
+    /**
+     * Sets the schema registry that the partition uses to run invoke processors.
+     *
+     * @param schemaReg Schema registry.
+     */
+    public void schemaRegistry(SchemaRegistry schemaReg) {
+        this.schemaReg = schemaReg;
     }
 
     /** {@inheritDoc} */